@@ -50,6 +50,7 @@ public enum AlgorithmLabel implements Label {
     HarmonicCentrality("HarmonicCentrality"),
     HashGNN("HashGNN"),
     HDBScan("HDBScan"),
+    HNSW("HNSW"),
     HITS("HITS"),
     IndexInverse("IndexInverse"),
     IndirectExposure("IndirectExposure"),
@@ -64,6 +65,7 @@ public enum AlgorithmLabel implements Label {
     Leiden("Leiden"),
     Louvain("Louvain"),
     LongestPath("LongestPath"),
+    ManyToManyShortestPaths("Many-to-Many Shortest Paths"),
     Modularity("Modularity"),
     ModularityOptimization("ModularityOptimization"),
     NodeSimilarity("Node Similarity"),
@@ -123,6 +125,7 @@ public enum AlgorithmLabel implements Label {
             case Algorithm.HarmonicCentrality -> HarmonicCentrality;
             case Algorithm.HashGNN -> HashGNN;
             case Algorithm.HDBScan -> HDBScan;
+            case Algorithm.HNSW -> HNSW;
             case Algorithm.IndexInverse -> IndexInverse;
             case Algorithm.K1Coloring -> K1Coloring;
             case Algorithm.KCore -> KCore;
@@ -135,6 +138,7 @@ public enum AlgorithmLabel implements Label {
             case Algorithm.Leiden -> Leiden;
             case Algorithm.Louvain -> Louvain;
             case Algorithm.LongestPath -> LongestPath;
+            case Algorithm.ManyToManyShortestPaths -> ManyToManyShortestPaths;
             case Algorithm.Modularity -> Modularity;
             case Algorithm.ModularityOptimization -> ModularityOptimization;
             case Algorithm.NodeSimilarity -> NodeSimilarity;
@@ -56,6 +56,7 @@ public enum Algorithm {
     HarmonicCentrality,
     HashGNN,
     HDBScan,
+    HNSW,
     IndexInverse,
     K1Coloring,
     KCore,
@@ -68,6 +69,7 @@ public enum Algorithm {
     Leiden,
     Louvain,
     LongestPath,
+    ManyToManyShortestPaths,
     Modularity,
     ModularityOptimization,
     NodeSimilarity,
@@ -37,8 +37,37 @@ public record KmeansParameters(
     String nodeProperty,
     SamplerType samplerType,
     List<List<Double>> seedCentroids,
-    Optional<Long> randomSeed
+    Optional<Long> randomSeed,
+    boolean useTriangleInequality
 ) implements AlgorithmParameters {
+
+    public KmeansParameters(
+        int k,
+        int maxIterations,
+        double deltaThreshold,
+        int numberOfRestarts,
+        boolean computeSilhouette,
+        Concurrency concurrency,
+        String nodeProperty,
+        SamplerType samplerType,
+        List<List<Double>> seedCentroids,
+        Optional<Long> randomSeed
+    ) {
+        this(
+            k,
+            maxIterations,
+            deltaThreshold,
+            numberOfRestarts,
+            computeSilhouette,
+            concurrency,
+            nodeProperty,
+            samplerType,
+            seedCentroids,
+            randomSeed,
+            false
+        );
+    }
+
     public boolean isSeeded() {
         return !seedCentroids().isEmpty();
     }
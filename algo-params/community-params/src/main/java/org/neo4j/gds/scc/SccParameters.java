@@ -22,5 +22,5 @@ package org.neo4j.gds.scc;
 import org.neo4j.gds.AlgorithmParameters;
 import org.neo4j.gds.core.concurrency.Concurrency;
 
-public record SccParameters(Concurrency concurrency) implements AlgorithmParameters {
+public record SccParameters(Concurrency concurrency, SccMethod method) implements AlgorithmParameters {
 }
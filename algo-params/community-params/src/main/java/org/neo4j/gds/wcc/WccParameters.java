@@ -29,8 +29,13 @@ import java.util.Optional;
 public record WccParameters(
     double threshold,
     Optional<String> seedProperty,
-    Concurrency concurrency
+    Concurrency concurrency,
+    boolean componentIndex
 ) implements AlgorithmParameters {
+    public WccParameters(double threshold, Optional<String> seedProperty, Concurrency concurrency) {
+        this(threshold, seedProperty, concurrency, false);
+    }
+
     public WccParameters(double threshold, Concurrency concurrency) {
         this(threshold, Optional.empty(), concurrency);
     }
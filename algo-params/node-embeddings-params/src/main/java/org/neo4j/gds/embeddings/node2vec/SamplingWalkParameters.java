@@ -32,6 +32,30 @@ public record SamplingWalkParameters(
     double inOutFactor,
     double positiveSamplingFactor,
     double negativeSamplingExponent,
-    int walkBufferSize
+    int walkBufferSize,
+    boolean useAliasTables
 ) {
+
+    public SamplingWalkParameters(
+        List<Long> sourceNodes,
+        int walksPerNode,
+        int walkLength,
+        double returnFactor,
+        double inOutFactor,
+        double positiveSamplingFactor,
+        double negativeSamplingExponent,
+        int walkBufferSize
+    ) {
+        this(
+            sourceNodes,
+            walksPerNode,
+            walkLength,
+            returnFactor,
+            inOutFactor,
+            positiveSamplingFactor,
+            negativeSamplingExponent,
+            walkBufferSize,
+            false
+        );
+    }
 }
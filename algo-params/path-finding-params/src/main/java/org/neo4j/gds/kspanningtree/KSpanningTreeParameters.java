@@ -22,6 +22,7 @@ package org.neo4j.gds.kspanningtree;
 import org.neo4j.gds.AlgorithmParameters;
 import org.neo4j.gds.annotation.Parameters;
 import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.spanningtree.SpanningTreeMethod;
 
 import java.util.function.DoubleUnaryOperator;
 
@@ -30,6 +31,11 @@ public record KSpanningTreeParameters(
     DoubleUnaryOperator objective,
     long sourceNode,
     long k,
+    SpanningTreeMethod method,
     Concurrency concurrency
 ) implements AlgorithmParameters {
+
+    public KSpanningTreeParameters(DoubleUnaryOperator objective, long sourceNode, long k, Concurrency concurrency) {
+        this(objective, sourceNode, k, SpanningTreeMethod.PRIM, concurrency);
+    }
 }
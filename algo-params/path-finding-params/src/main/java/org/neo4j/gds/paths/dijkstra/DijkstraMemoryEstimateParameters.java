@@ -21,6 +21,17 @@ package org.neo4j.gds.paths.dijkstra;
 
 import org.neo4j.gds.annotation.Parameters;
 
+import java.util.Optional;
+
 @Parameters
-public record DijkstraMemoryEstimateParameters(boolean trackRelationships, boolean manyTargets) {
+public record DijkstraMemoryEstimateParameters(
+    boolean trackRelationships,
+    boolean manyTargets,
+    boolean bidirectional,
+    Optional<Integer> maxIntegerWeight
+) {
+
+    public DijkstraMemoryEstimateParameters(boolean trackRelationships, boolean manyTargets) {
+        this(trackRelationships, manyTargets, false, Optional.empty());
+    }
 }
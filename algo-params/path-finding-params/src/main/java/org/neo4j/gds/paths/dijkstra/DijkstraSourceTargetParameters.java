@@ -23,10 +23,13 @@ import org.neo4j.gds.AlgorithmParameters;
 import org.neo4j.gds.core.concurrency.Concurrency;
 
 import java.util.List;
+import java.util.Optional;
 
 public record DijkstraSourceTargetParameters(
     long sourceNode,
     List<Long> targetsList,
+    boolean bidirectional,
+    Optional<Integer> maxIntegerWeight,
     Concurrency concurrency
 ) implements AlgorithmParameters {
 }
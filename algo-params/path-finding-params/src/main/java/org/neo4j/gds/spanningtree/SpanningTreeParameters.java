@@ -26,11 +26,30 @@ import org.neo4j.gds.core.concurrency.Concurrency;
 import java.util.function.DoubleUnaryOperator;
 
 @Parameters
-public record SpanningTreeParameters(DoubleUnaryOperator objective, long sourceNode) implements AlgorithmParameters {
+public record SpanningTreeParameters(
+    DoubleUnaryOperator objective,
+    long sourceNode,
+    SpanningTreeMethod method,
+    Concurrency concurrency
+) implements AlgorithmParameters {
     private static final Concurrency SINGLE_THREADED = new Concurrency(1);
 
-    @Override
-    public Concurrency concurrency() {
-        return SINGLE_THREADED;
+    public SpanningTreeParameters(DoubleUnaryOperator objective, long sourceNode) {
+        this(objective, sourceNode, SpanningTreeMethod.PRIM, SINGLE_THREADED);
+    }
+
+    public static SpanningTreeParameters create(
+        DoubleUnaryOperator objective,
+        long sourceNode,
+        SpanningTreeMethod method,
+        Concurrency concurrency
+    ) {
+        // Prim is sequential, regardless of the requested concurrency
+        return new SpanningTreeParameters(
+            objective,
+            sourceNode,
+            method,
+            method == SpanningTreeMethod.PRIM ? SINGLE_THREADED : concurrency
+        );
     }
 }
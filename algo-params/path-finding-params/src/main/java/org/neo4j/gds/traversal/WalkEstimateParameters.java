@@ -19,5 +19,9 @@
  */
 package org.neo4j.gds.traversal;
 
-public record WalkEstimateParameters(int walkLength, int walkBufferSize) {
+public record WalkEstimateParameters(int walkLength, int walkBufferSize, boolean useAliasTables) {
+
+    public WalkEstimateParameters(int walkLength, int walkBufferSize) {
+        this(walkLength, walkBufferSize, false);
+    }
 }
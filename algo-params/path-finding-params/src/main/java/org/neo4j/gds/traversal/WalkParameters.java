@@ -26,7 +26,12 @@ public record WalkParameters(
     int walksPerNode,
     int walkLength,
     double returnFactor,
-    double inOutFactor
+    double inOutFactor,
+    boolean useAliasTables
 ) {
     public static final WalkParameters DEFAULTS = new WalkParameters(10, 80, 1.0, 1.0);
+
+    public WalkParameters(int walksPerNode, int walkLength, double returnFactor, double inOutFactor) {
+        this(walksPerNode, walkLength, returnFactor, inOutFactor, false);
+    }
 }
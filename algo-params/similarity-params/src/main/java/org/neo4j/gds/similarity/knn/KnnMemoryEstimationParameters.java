@@ -21,6 +21,8 @@ package org.neo4j.gds.similarity.knn;
 
 import org.neo4j.gds.annotation.Parameters;
 
+import java.util.List;
+
 @Parameters
-public record KnnMemoryEstimationParameters(K k, KnnSampler.SamplerType samplerType) {
+public record KnnMemoryEstimationParameters(K k, KnnSampler.SamplerType samplerType, List<String> nodeProperties) {
 }
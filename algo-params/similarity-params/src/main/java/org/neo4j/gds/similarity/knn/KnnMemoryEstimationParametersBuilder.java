@@ -19,20 +19,37 @@
  */
 package org.neo4j.gds.similarity.knn;
 
+import java.util.List;
+
 public class KnnMemoryEstimationParametersBuilder {
 
     private final double sampleRate;
     private final int rawK;
     private final KnnSampler.SamplerType samplerType;
+    private final List<String> nodeProperties;
 
     public KnnMemoryEstimationParametersBuilder(double sampleRate, int rawK, KnnSampler.SamplerType samplerType) {
+        this(sampleRate, rawK, samplerType, List.of());
+    }
+
+    public KnnMemoryEstimationParametersBuilder(
+        double sampleRate,
+        int rawK,
+        KnnSampler.SamplerType samplerType,
+        List<String> nodeProperties
+    ) {
         this.sampleRate = sampleRate;
         this.rawK = rawK;
         this.samplerType = samplerType;
+        this.nodeProperties = nodeProperties;
     }
 
     public KnnMemoryEstimationParameters build(long nodeCount) {
-        return new KnnMemoryEstimationParameters(K.create(rawK, nodeCount, sampleRate, 0.5), samplerType);
+        return new KnnMemoryEstimationParameters(
+            K.create(rawK, nodeCount, sampleRate, 0.5),
+            samplerType,
+            nodeProperties
+        );
     }
 
 }
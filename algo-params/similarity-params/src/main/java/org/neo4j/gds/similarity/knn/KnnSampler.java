@@ -40,7 +40,8 @@ public interface KnnSampler {
 
     enum SamplerType {
         UNIFORM,
-        RANDOMWALK;
+        RANDOMWALK,
+        HNSW;
 
         private static final List<String> VALUES = Arrays
             .stream(SamplerType.values())
@@ -31,6 +31,10 @@ public enum SimilarityMetric {
         return SimilarityMetric.valueOf(toUpperCaseWithLocale(value));
     }
 
+    public static String toString(SimilarityMetric metric) {
+        return metric.name();
+    }
+
     public static SimilarityMetric defaultMetricForType(ValueType valueType) {
         switch (valueType) {
             case LONG:
@@ -27,8 +27,30 @@ public record NodeSimilarityEstimateParameters(
     int normalizedN,
     boolean useComponents,
     boolean runWCC,
-    boolean computeToGraph
+    boolean computeToGraph,
+    boolean materializeNeighborhoods,
+    int minHashBands,
+    int minHashRows
 ) {
+    public NodeSimilarityEstimateParameters(
+        int normalizedK,
+        int normalizedN,
+        boolean useComponents,
+        boolean runWCC,
+        boolean computeToGraph
+    ) {
+        this(
+            normalizedK,
+            normalizedN,
+            useComponents,
+            runWCC,
+            computeToGraph,
+            true,
+            0,
+            NodeSimilarityParameters.MIN_HASH_ROWS_DEFAULT
+        );
+    }
+
     boolean hasTopK() {
         return normalizedK != 0;
     }
@@ -36,4 +58,8 @@ public record NodeSimilarityEstimateParameters(
     boolean hasTopN() {
         return normalizedN != 0;
     }
+
+    boolean useMinHash() {
+        return minHashBands > 0;
+    }
 }
@@ -36,8 +36,45 @@ public record NodeSimilarityParameters(
     boolean computeToStream,
     boolean hasRelationshipWeightProperty,
     boolean useComponents,
-    @Nullable String componentProperty
+    @Nullable String componentProperty,
+    boolean materializeNeighborhoods,
+    int minHashBands,
+    int minHashRows
 )  implements AlgorithmParameters {
+
+    public static final int MIN_HASH_ROWS_DEFAULT = 4;
+
+    public NodeSimilarityParameters(
+        Concurrency concurrency,
+        NodeSimilarityMetric metric,
+        int degreeCutoff,
+        int upperDegreeCutoff,
+        int normalizedK,
+        int normalizedN,
+        double similarityCutoff,
+        boolean computeToStream,
+        boolean hasRelationshipWeightProperty,
+        boolean useComponents,
+        @Nullable String componentProperty
+    ) {
+        this(
+            concurrency,
+            metric,
+            degreeCutoff,
+            upperDegreeCutoff,
+            normalizedK,
+            normalizedN,
+            similarityCutoff,
+            computeToStream,
+            hasRelationshipWeightProperty,
+            useComponents,
+            componentProperty,
+            true,
+            0,
+            MIN_HASH_ROWS_DEFAULT
+        );
+    }
+
     boolean hasTopK() {
         return normalizedK != 0;
     }
@@ -50,13 +87,20 @@ public record NodeSimilarityParameters(
         return useComponents && componentProperty == null;
     }
 
+    boolean useMinHash() {
+        return minHashBands > 0;
+    }
+
     public NodeSimilarityEstimateParameters memoryParameters() {
         return new NodeSimilarityEstimateParameters(
             normalizedK,
             normalizedN,
             useComponents,
             runWCC(),
-            !computeToStream
+            !computeToStream,
+            materializeNeighborhoods,
+            minHashBands,
+            minHashRows
         );
     }
 }
@@ -20,7 +20,9 @@
 package org.neo4j.gds;
 
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.similarity.filteredknn.FilteredKNNTask;
 import org.neo4j.gds.similarity.filteredknn.FilteredKnnParameters;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityParameters;
@@ -36,6 +38,10 @@ public final class SimilarityAlgorithmTasks {
         return FilteredKNNTask.create(graph.nodeCount(), parameters);
     }
 
+    public Task hnsw(Graph graph){
+        return Tasks.leaf(AlgorithmLabel.HNSW.asString(), graph.nodeCount());
+    }
+
     public Task knn(Graph graph, KnnParameters parameters){
         return KnnTask.create(graph.nodeCount(), parameters);
     }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.allshortestpaths;
+
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * The shortest path distances between every source and every target node,
+ * as computed by {@link ManyToManyShortestPaths}.
+ * The distance to an unreachable target is {@link Double#POSITIVE_INFINITY}.
+ */
+public final class DistanceMatrix {
+
+    private final IdMap idMap;
+    private final long[] sourceNodes;
+    private final long[] targetNodes;
+    // row-major, one row per source node
+    private final HugeDoubleArray distances;
+
+    DistanceMatrix(IdMap idMap, long[] sourceNodes, long[] targetNodes, HugeDoubleArray distances) {
+        this.idMap = idMap;
+        this.sourceNodes = sourceNodes;
+        this.targetNodes = targetNodes;
+        this.distances = distances;
+    }
+
+    public int sourceCount() {
+        return sourceNodes.length;
+    }
+
+    public int targetCount() {
+        return targetNodes.length;
+    }
+
+    public double distance(int sourceIndex, int targetIndex) {
+        return distances.get((long) sourceIndex * targetNodes.length + targetIndex);
+    }
+
+    /**
+     * Streams all source and target pairs in row-major order, using original node ids.
+     * Unreachable pairs are included with an infinite distance.
+     */
+    public Stream<AllShortestPathsStreamResult> stream() {
+        int targetCount = targetNodes.length;
+        return LongStream
+            .range(0, (long) sourceNodes.length * targetCount)
+            .mapToObj(index -> new AllShortestPathsStreamResult(
+                idMap.toOriginalNodeId(sourceNodes[(int) (index / targetCount)]),
+                idMap.toOriginalNodeId(targetNodes[(int) (index % targetCount)]),
+                distances.get(index)
+            ));
+    }
+}
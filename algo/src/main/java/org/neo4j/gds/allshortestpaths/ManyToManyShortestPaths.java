@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.allshortestpaths;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.cursors.LongCursor;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Computes the weighted shortest path distances from a set of source nodes
+ * to a set of target nodes.
+ * <p>
+ * Each worker takes one source node at a time from a shared counter and runs
+ * Dijkstra from it. The search stops as soon as all target nodes are settled.
+ * Workers own their priority queue and distance array for the entire computation.
+ * Instead of resetting those per source node, only the entries touched by the
+ * previous search are reset, so the cost of a search does not depend on the
+ * node count of the graph.
+ * The memory therefore grows with the node count times the number of workers,
+ * see {@link ManyToManyShortestPathsMemoryEstimateDefinition}.
+ */
+public final class ManyToManyShortestPaths extends Algorithm<DistanceMatrix> {
+
+    private final Graph graph;
+    private final long[] sourceNodes;
+    private final long[] targetNodes;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+
+    private final BitSet isTarget;
+    private final long distinctTargetCount;
+    private final AtomicInteger sourceCounter;
+
+    /**
+     * @param sourceNodes the mapped ids of the source nodes
+     * @param targetNodes the mapped ids of the target nodes
+     */
+    public ManyToManyShortestPaths(
+        Graph graph,
+        long[] sourceNodes,
+        long[] targetNodes,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.sourceNodes = sourceNodes;
+        this.targetNodes = targetNodes;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.isTarget = new BitSet(graph.nodeCount());
+        for (long targetNode : targetNodes) {
+            isTarget.set(targetNode);
+        }
+        this.distinctTargetCount = isTarget.cardinality();
+        this.sourceCounter = new AtomicInteger();
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public DistanceMatrix compute() {
+        progressTracker.beginSubTask();
+
+        var distances = HugeDoubleArray.newArray((long) sourceNodes.length * targetNodes.length);
+        sourceCounter.set(0);
+
+        // every task holds node count sized buffers, so there is no point in having more tasks than source nodes
+        int taskCount = Math.min(concurrency.value(), sourceNodes.length);
+        var tasks = new ArrayList<ShortestPathTask>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(new ShortestPathTask(distances));
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .terminationFlag(terminationFlag)
+            .run();
+
+        progressTracker.endSubTask();
+
+        return new DistanceMatrix(graph, sourceNodes, targetNodes, distances);
+    }
+
+    final class ShortestPathTask implements Runnable {
+
+        private final Graph localGraph;
+        private final HugeDoubleArray result;
+        private final HugeLongPriorityQueue queue;
+        private final HugeDoubleArray distances;
+        private final BitSet settled;
+        // nodes with a finite distance, used to reset the state between searches
+        private final LongArrayList touched;
+
+        private ShortestPathTask(HugeDoubleArray result) {
+            this.localGraph = graph.concurrentCopy();
+            this.result = result;
+            this.queue = HugeLongPriorityQueue.min(graph.nodeCount());
+            this.distances = HugeDoubleArray.newArray(graph.nodeCount());
+            this.distances.fill(Double.POSITIVE_INFINITY);
+            this.settled = new BitSet(graph.nodeCount());
+            this.touched = new LongArrayList();
+        }
+
+        @Override
+        public void run() {
+            int sourceIndex;
+            while (terminationFlag.running() && (sourceIndex = sourceCounter.getAndIncrement()) < sourceNodes.length) {
+                compute(sourceNodes[sourceIndex]);
+
+                long offset = (long) sourceIndex * targetNodes.length;
+                for (int targetIndex = 0; targetIndex < targetNodes.length; targetIndex++) {
+                    result.set(offset + targetIndex, distances.get(targetNodes[targetIndex]));
+                }
+
+                reset();
+                progressTracker.logProgress();
+            }
+        }
+
+        private void compute(long sourceNode) {
+            distances.set(sourceNode, 0D);
+            touched.add(sourceNode);
+            queue.add(sourceNode, 0D);
+
+            long remainingTargets = distinctTargetCount;
+            while (!queue.isEmpty() && remainingTargets > 0) {
+                long node = queue.pop();
+                settled.set(node);
+                if (isTarget.get(node)) {
+                    remainingTargets--;
+                }
+
+                double nodeDistance = distances.get(node);
+                localGraph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                    if (!settled.get(target)) {
+                        double targetDistance = nodeDistance + weight;
+                        double currentDistance = distances.get(target);
+                        if (targetDistance < currentDistance) {
+                            if (currentDistance == Double.POSITIVE_INFINITY) {
+                                touched.add(target);
+                            }
+                            distances.set(target, targetDistance);
+                            queue.set(target, targetDistance);
+                        }
+                    }
+                    return true;
+                });
+            }
+        }
+
+        private void reset() {
+            // popping the remaining nodes avoids clearing the whole queue
+            while (!queue.isEmpty()) {
+                queue.pop();
+            }
+            for (LongCursor cursor : touched) {
+                distances.set(cursor.value, Double.POSITIVE_INFINITY);
+                settled.clear(cursor.value);
+            }
+            touched.clear();
+        }
+    }
+}
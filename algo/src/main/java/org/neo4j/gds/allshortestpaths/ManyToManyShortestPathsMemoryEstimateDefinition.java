@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.allshortestpaths;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimateDefinition;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+
+public final class ManyToManyShortestPathsMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    private final long sourceCount;
+    private final long targetCount;
+
+    public ManyToManyShortestPathsMemoryEstimateDefinition(long sourceCount, long targetCount) {
+        this.sourceCount = sourceCount;
+        this.targetCount = targetCount;
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ManyToManyShortestPaths.class)
+            .perNode("target set", Estimate::sizeOfBitset)
+            .fixed("distance matrix", HugeDoubleArray.memoryEstimation(sourceCount * targetCount))
+            .perThread("ShortestPathTask", shortestPathTaskMemoryEstimation())
+            .build();
+    }
+
+    private MemoryEstimation shortestPathTaskMemoryEstimation() {
+        return MemoryEstimations.builder(ManyToManyShortestPaths.ShortestPathTask.class)
+            .add("priority queue", HugeLongPriorityQueue.memoryEstimation())
+            .perNode("distances", HugeDoubleArray::memoryEstimation)
+            .perNode("settled", Estimate::sizeOfBitset)
+            .rangePerNode("touched nodes", nodeCount -> MemoryRange.of(
+                Estimate.sizeOfLongArrayList(0),
+                Estimate.sizeOfLongArrayList(nodeCount)
+            ))
+            .build();
+    }
+}
@@ -24,15 +24,12 @@ import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.gds.mem.Estimate;
 
-import static org.neo4j.gds.mem.Estimate.sizeOfLongArray;
-
 public class BetweennessCentralityMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
     private final boolean hasRelationshipWeightProperty;
@@ -56,13 +53,6 @@ public class BetweennessCentralityMemoryEstimateDefinition implements MemoryEsti
     @NotNull
     private static MemoryEstimations.Builder bcTaskMemoryEstimationBuilder(boolean weighted) {
         var builder = MemoryEstimations.builder(BetweennessCentrality.BCTask.class)
-            .add("predecessors", MemoryEstimations.setup("", (dimensions, concurrency) -> {
-                // Predecessors are represented by LongArrayList which wrap a long[]
-                long averagePredecessorSize = sizeOfLongArray(dimensions.averageDegree());
-                return MemoryEstimations.builder(HugeObjectArray.class)
-                    .perNode("array", nodeCount -> nodeCount * averagePredecessorSize)
-                    .build();
-            }))
             .perNode("backwardNodes", HugeLongArray::memoryEstimation)
             .perNode("deltas", HugeDoubleArray::memoryEstimation)
             .perNode("sigmas", HugeLongArray::memoryEstimation);
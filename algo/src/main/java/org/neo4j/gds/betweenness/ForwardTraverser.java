@@ -19,23 +19,35 @@
  */
 package org.neo4j.gds.betweenness;
 
-import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 
+import java.util.function.LongConsumer;
+
+/**
+ * Computes the shortest paths from a start node and pushes all reached nodes to the backward nodes.
+ * <p>
+ * Predecessors are not stored, instead the shortest path DAG is recovered on the backward pass
+ * by visiting the successors of each node, which only relies on the per-node distances the
+ * traversal keeps anyway.
+ */
 public interface ForwardTraverser {
 
     void traverse(long startNodeId);
 
+    /**
+     * Calls the consumer for every successor of the given node on a shortest path from the start node,
+     * once per relationship. The nodes must be passed in the order they are popped from the backward nodes.
+     */
+    void forEachSuccessor(long node, LongConsumer consumer);
+
     void clear();
 
     interface Factory {
         ForwardTraverser create(
             Graph graph,
-            HugeObjectArray<LongArrayList> predecessors,
             HugeLongArrayStack backwardNodes,
             HugeLongArray sigma,
             TerminationFlag terminationFlag
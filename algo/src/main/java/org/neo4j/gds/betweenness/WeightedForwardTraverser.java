@@ -20,19 +20,18 @@
 package org.neo4j.gds.betweenness;
 
 import com.carrotsearch.hppc.BitSet;
-import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 
+import java.util.function.LongConsumer;
+
 final class WeightedForwardTraverser implements ForwardTraverser {
 
     static WeightedForwardTraverser create(
         Graph graph,
-        HugeObjectArray<LongArrayList> predecessors,
         HugeLongArrayStack backwardNodes,
         HugeLongArray sigma,
         TerminationFlag terminationFlag
@@ -42,7 +41,6 @@ final class WeightedForwardTraverser implements ForwardTraverser {
         var visited = new BitSet(nodeCount);
         return new WeightedForwardTraverser(
             graph,
-            predecessors,
             backwardNodes,
             sigma,
             nodeQueue,
@@ -56,12 +54,10 @@ final class WeightedForwardTraverser implements ForwardTraverser {
     private final HugeLongArrayStack backwardNodes;
     private final HugeLongArray sigma;
     private final HugeLongPriorityQueue nodeQueue;
-    private final HugeObjectArray<LongArrayList> predecessors;
     private final BitSet visited;
 
     private WeightedForwardTraverser(
         Graph graph,
-        HugeObjectArray<LongArrayList> predecessors,
         HugeLongArrayStack backwardNodes,
         HugeLongArray sigma,
         HugeLongPriorityQueue nodeQueue,
@@ -69,7 +65,6 @@ final class WeightedForwardTraverser implements ForwardTraverser {
         TerminationFlag terminationFlag
     ) {
         this.graph = graph;
-        this.predecessors = predecessors;
         this.backwardNodes = backwardNodes;
         this.sigma = sigma;
         this.nodeQueue = nodeQueue;
@@ -104,13 +99,9 @@ final class WeightedForwardTraverser implements ForwardTraverser {
                     var storedTargetCost = nodeQueue.cost(target);
                     if (Double.compare(targetCost, storedTargetCost) == 0) {
                         sigma.addTo(target, sigma.get(source));
-                        appendPredecessor(target, node);
                     } else if (Double.compare(targetCost, storedTargetCost) < 0) {
                         nodeQueue.set(target, targetCost);
                         sigma.set(target, sigma.get(source));
-                        var targetPredecessors = predecessors.get(target);
-                        targetPredecessors.clear();
-                        targetPredecessors.add(source);
                     }
                     return true;
                 }
@@ -118,18 +109,30 @@ final class WeightedForwardTraverser implements ForwardTraverser {
         }
     }
 
+    /**
+     * The queue keeps the final cost of every node that has been popped.
+     * A neighbour is a successor if it has been reached via this node and has been popped after it,
+     * which are exactly the neighbours that have already been passed to this method.
+     * Those are marked by clearing their visited flag, so that the traversal leaves no visited nodes behind.
+     */
     @Override
-    public void clear() {
-        visited.clear();
+    public void forEachSuccessor(long node, LongConsumer consumer) {
+        var nodeCost = nodeQueue.cost(node);
+        graph.forEachRelationship(
+            node,
+            1.0D,
+            (source, target, weight) -> {
+                if (!visited.get(target) && Double.compare(nodeCost + weight, nodeQueue.cost(target)) == 0) {
+                    consumer.accept(target);
+                }
+                return true;
+            }
+        );
+        visited.clear(node);
     }
 
-    // append node to the path at target
-    private void appendPredecessor(long target, long node) {
-        LongArrayList targetPredecessors = predecessors.get(target);
-        if (null == targetPredecessors) {
-            targetPredecessors = new LongArrayList();
-            predecessors.set(target, targetPredecessors);
-        }
-        targetPredecessors.add(node);
+    @Override
+    public void clear() {
+        visited.clear();
     }
 }
@@ -22,10 +22,9 @@ package org.neo4j.gds.embeddings.fastrp;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.ha.HugeFloatMatrix;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.DefaultPool;
-import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.partition.DegreePartition;
 import org.neo4j.gds.core.utils.partition.Partition;
@@ -46,8 +45,6 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.addInPlace;
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.addWeightedInPlace;
 import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.l2Norm;
 import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.scale;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -66,9 +63,9 @@ public class FastRP extends Algorithm<FastRPResult> {
     private final double relationshipWeightFallback;
     private final int inputDimension;
     private final float[][] propertyVectors;
-    private final HugeObjectArray<float[]> embeddings;
-    private final HugeObjectArray<float[]> embeddingA;
-    private final HugeObjectArray<float[]> embeddingB;
+    private final HugeFloatMatrix embeddings;
+    private final HugeFloatMatrix embeddingA;
+    private final HugeFloatMatrix embeddingB;
     private final EmbeddingCombiner embeddingCombiner;
     private final long randomSeed;
 
@@ -99,9 +96,9 @@ public class FastRP extends Algorithm<FastRPResult> {
         this.minBatchSize = minBatchSize;
 
         this.propertyVectors = new float[inputDimension][parameters.propertyDimension()];
-        this.embeddings = HugeObjectArray.newArray(float[].class, graph.nodeCount());
-        this.embeddingA = HugeObjectArray.newArray(float[].class, graph.nodeCount());
-        this.embeddingB = HugeObjectArray.newArray(float[].class, graph.nodeCount());
+        this.embeddings = HugeFloatMatrix.newMatrix(graph.nodeCount(), parameters.embeddingDimension());
+        this.embeddingA = HugeFloatMatrix.newMatrix(graph.nodeCount(), parameters.embeddingDimension());
+        this.embeddingB = HugeFloatMatrix.newMatrix(graph.nodeCount(), parameters.embeddingDimension());
 
         this.embeddingDimension = parameters.embeddingDimension();
         this.baseEmbeddingDimension = parameters.embeddingDimension() - parameters.propertyDimension();
@@ -109,9 +106,8 @@ public class FastRP extends Algorithm<FastRPResult> {
         this.nodeSelfInfluence = parameters.nodeSelfInfluence();
         this.normalizationStrength = parameters.normalizationStrength();
         this.embeddingCombiner = graph.hasRelationshipProperty()
-            ? this::addArrayValuesWeighted
-            : (lhs, rhs, ignoreWeight) -> addInPlace(lhs, rhs);
-        this.embeddings.setAll((i) -> new float[embeddingDimension]);
+            ? (into, source, nodeId, weight) -> source.addRowTo(nodeId, into, weight)
+            : (into, source, nodeId, ignoreWeight) -> source.addRowTo(nodeId, into);
 
         this.terminationFlag = terminationFlag;
     }
@@ -176,12 +172,17 @@ public class FastRP extends Algorithm<FastRPResult> {
         if (Float.compare(nodeSelfInfluence.floatValue(), 0.0f) == 0) return;
         progressTracker.beginSubTask();
 
-        ParallelUtil.parallelForEachNode(
-            graph.nodeCount(),
+        var tasks = PartitionUtils.rangePartition(
             concurrency,
-            terminationFlag,
-            this::addInitialStateToEmbedding
+            graph.nodeCount(),
+            AddInitialStateTask::new,
+            Optional.empty()
         );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .run();
 
         progressTracker.endSubTask();
     }
@@ -192,8 +193,8 @@ public class FastRP extends Algorithm<FastRPResult> {
         for (int i = 0; i < iterationWeights.size(); i++) {
             progressTracker.beginSubTask();
 
-            HugeObjectArray<float[]> currentEmbeddings = i % 2 == 0 ? embeddingA : embeddingB;
-            HugeObjectArray<float[]> previousEmbeddings = i % 2 == 0 ? embeddingB : embeddingA;
+            HugeFloatMatrix currentEmbeddings = i % 2 == 0 ? embeddingA : embeddingB;
+            HugeFloatMatrix previousEmbeddings = i % 2 == 0 ? embeddingB : embeddingA;
             var iterationWeight = iterationWeights.get(i).floatValue();
             boolean firstIteration = i == 0;
 
@@ -233,7 +234,7 @@ public class FastRP extends Algorithm<FastRPResult> {
 
 
     @TestOnly
-    HugeObjectArray<float[]> currentEmbedding(int iteration) {
+    HugeFloatMatrix currentEmbedding(int iteration) {
         return iteration % 2 == 0
             ? this.embeddingA
             : this.embeddingB;
@@ -245,16 +246,10 @@ public class FastRP extends Algorithm<FastRPResult> {
     }
 
     @TestOnly
-    HugeObjectArray<float[]> embeddings() {
+    HugeFloatMatrix embeddings() {
         return embeddings;
     }
 
-    private void addArrayValuesWeighted(float[] lhs, float[] rhs, double weight) {
-        for (int i = 0; i < lhs.length; i++) {
-            lhs[i] = (float) Math.fma(rhs[i], weight, lhs[i]);
-        }
-    }
-
     private static float computeRandomEntry(Random random, float entryValue) {
         double randomValue = random.nextDouble();
 
@@ -311,7 +306,7 @@ public class FastRP extends Algorithm<FastRPResult> {
     }
 
     private interface EmbeddingCombiner {
-        void combine(float[] into, float[] add, double weight);
+        void combine(float[] into, HugeFloatMatrix source, long nodeId, double weight);
     }
 
     private final class InitRandomVectorTask implements Runnable {
@@ -321,6 +316,7 @@ public class FastRP extends Algorithm<FastRPResult> {
         private final Partition partition;
         private final float sqrtEmbeddingDimension;
         private final PropertyVectorAdder propertyVectorAdder;
+        private final float[] randomVector;
 
         private InitRandomVectorTask(
             Partition partition,
@@ -329,6 +325,7 @@ public class FastRP extends Algorithm<FastRPResult> {
             this.partition = partition;
             this.sqrtEmbeddingDimension = sqrtEmbeddingDimension;
             this.propertyVectorAdder = new PropertyVectorAdder();
+            this.randomVector = new float[embeddingDimension];
         }
 
         @Override
@@ -343,24 +340,21 @@ public class FastRP extends Algorithm<FastRPResult> {
 
                 float entryValue = scaling * sqrtSparsity / sqrtEmbeddingDimension;
                 random.reseed(randomSeed ^ graph.toOriginalNodeId(nodeId));
-                var randomVector = computeRandomVector(nodeId, random, entryValue, scaling);
-                embeddingB.set(nodeId, randomVector);
-                embeddingA.set(nodeId, new float[embeddingDimension]);
+                computeRandomVector(nodeId, random, entryValue, scaling);
+                embeddingB.setRow(nodeId, randomVector);
             });
             progressTracker.logProgress(partition.nodeCount());
         }
 
-        private float[] computeRandomVector(long nodeId, Random random, float entryValue, float scaling) {
-            var randomVector = new float[embeddingDimension];
+        private void computeRandomVector(long nodeId, Random random, float entryValue, float scaling) {
             for (int i = 0; i < baseEmbeddingDimension; i++) {
                 randomVector[i] = computeRandomEntry(random, entryValue);
             }
+            Arrays.fill(randomVector, baseEmbeddingDimension, embeddingDimension, 0.0f);
 
             propertyVectorAdder.setRandomVector(randomVector);
             propertyVectorAdder.setScaling(scaling);
             FeatureExtraction.extract(nodeId, -1, featureExtractors, propertyVectorAdder);
-
-            return randomVector;
         }
 
         private class PropertyVectorAdder implements FeatureConsumer {
@@ -395,26 +389,40 @@ public class FastRP extends Algorithm<FastRPResult> {
         }
     }
 
-    private void addInitialStateToEmbedding(long nodeId) {
-        var initialVector = embeddingB.get(nodeId);
-        var l2Norm = l2Norm(initialVector);
-        float adjustedL2Norm = l2Norm < EPSILON ? 1f : l2Norm;
-        addWeightedInPlace(embeddings.get(nodeId), initialVector, nodeSelfInfluence.floatValue() / adjustedL2Norm);
+    private final class AddInitialStateTask implements Runnable {
 
-        progressTracker.logProgress(1);
+        private final Partition partition;
+        private final float[] initialVector;
+
+        private AddInitialStateTask(Partition partition) {
+            this.partition = partition;
+            this.initialVector = new float[embeddingDimension];
+        }
+
+        @Override
+        public void run() {
+            partition.consume(nodeId -> {
+                embeddingB.copyRowTo(nodeId, initialVector);
+                var l2Norm = l2Norm(initialVector);
+                float adjustedL2Norm = l2Norm < EPSILON ? 1f : l2Norm;
+                embeddings.addToRow(nodeId, initialVector, nodeSelfInfluence.floatValue() / adjustedL2Norm);
+            });
+            progressTracker.logProgress(partition.nodeCount());
+        }
     }
 
     private final class PropagateEmbeddingsTask implements PartitionConsumer<DegreePartition> {
 
-        private final HugeObjectArray<float[]> currentEmbeddings;
-        private final HugeObjectArray<float[]> previousEmbeddings;
+        private final HugeFloatMatrix currentEmbeddings;
+        private final HugeFloatMatrix previousEmbeddings;
         private final float iterationWeight;
         private final Graph localGraph;
         private final boolean firstIteration;
+        private final float[] currentEmbedding;
 
         private PropagateEmbeddingsTask(
-            HugeObjectArray<float[]> currentEmbeddings,
-            HugeObjectArray<float[]> previousEmbeddings,
+            HugeFloatMatrix currentEmbeddings,
+            HugeFloatMatrix previousEmbeddings,
             float iterationWeight,
             boolean firstIteration
         ) {
@@ -423,12 +431,11 @@ public class FastRP extends Algorithm<FastRPResult> {
             this.iterationWeight = iterationWeight;
             this.localGraph = graph.concurrentCopy();
             this.firstIteration = firstIteration;
+            this.currentEmbedding = new float[embeddingDimension];
         }
 
         public void consume(DegreePartition partition) {
             partition.consume(nodeId -> {
-                var embedding = embeddings.get(nodeId);
-                var currentEmbedding = currentEmbeddings.get(nodeId);
                 Arrays.fill(currentEmbedding, 0.0f);
 
                 // Collect and combine the neighbour embeddings
@@ -440,7 +447,7 @@ public class FastRP extends Algorithm<FastRPResult> {
                             graph.toOriginalNodeId(source), graph.toOriginalNodeId(target)
                         ));
                     }
-                    embeddingCombiner.combine(currentEmbedding, previousEmbeddings.get(target), weight);
+                    embeddingCombiner.combine(currentEmbedding, previousEmbeddings, target, weight);
                     return true;
                 });
 
@@ -453,7 +460,8 @@ public class FastRP extends Algorithm<FastRPResult> {
                 var safeInvL2Norm = Float.isFinite(invL2Norm) ? invL2Norm : 1.0f;
 
                 // Update the result embedding
-                addWeightedInPlace(embedding, currentEmbedding, safeInvL2Norm * iterationWeight);
+                currentEmbeddings.setRow(nodeId, currentEmbedding);
+                embeddings.addToRow(nodeId, currentEmbedding, safeInvL2Norm * iterationWeight);
             });
             progressTracker.logProgress(partition.relationshipCount());
         }
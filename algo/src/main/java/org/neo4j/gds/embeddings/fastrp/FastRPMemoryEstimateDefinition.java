@@ -19,7 +19,7 @@
  */
 package org.neo4j.gds.embeddings.fastrp;
 
-import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.ha.HugeFloatMatrix;
 import org.neo4j.gds.mem.Estimate;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.mem.MemoryEstimation;
@@ -35,7 +35,7 @@ public final class FastRPMemoryEstimateDefinition implements MemoryEstimateDefin
 
     @Override
     public MemoryEstimation memoryEstimation() {
-        var sizeOfEmbeddingArray = Estimate.sizeOfFloatArray(parameters.embeddingDimension());
+        var embeddingDimension = parameters.embeddingDimension();
         var featurePropertySize = parameters.featureProperties().size();
         return MemoryEstimations
             .builder(FastRP.class.getSimpleName())
@@ -43,9 +43,9 @@ public final class FastRPMemoryEstimateDefinition implements MemoryEstimateDefin
                 "propertyVectors",
                 Estimate.sizeOfFloatArray((long) featurePropertySize * parameters.propertyDimension())
             )
-            .perNode("embeddings", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, sizeOfEmbeddingArray))
-            .perNode("embeddingsA", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, sizeOfEmbeddingArray))
-            .perNode("embeddingsB", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, sizeOfEmbeddingArray))
+            .perNode("embeddings", nodeCount -> HugeFloatMatrix.memoryEstimation(nodeCount, embeddingDimension))
+            .perNode("embeddingsA", nodeCount -> HugeFloatMatrix.memoryEstimation(nodeCount, embeddingDimension))
+            .perNode("embeddingsB", nodeCount -> HugeFloatMatrix.memoryEstimation(nodeCount, embeddingDimension))
             .build();
     }
 
@@ -19,7 +19,7 @@
  */
 package org.neo4j.gds.embeddings.fastrp;
 
-import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.ha.HugeFloatMatrix;
 
-public record FastRPResult(HugeObjectArray<float[]> embeddings){}
+public record FastRPResult(HugeFloatMatrix embeddings){}
 
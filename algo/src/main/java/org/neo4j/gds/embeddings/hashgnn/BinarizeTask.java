@@ -21,10 +21,9 @@ package org.neo4j.gds.embeddings.hashgnn;
 
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.ha.HugeBitMatrix;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.ml.core.features.FeatureConsumer;
@@ -40,7 +39,7 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 class BinarizeTask implements Runnable {
     private final Partition partition;
-    private final HugeObjectArray<HugeAtomicBitSet> truncatedFeatures;
+    private final HugeBitMatrix truncatedFeatures;
     private final List<FeatureExtractor> featureExtractors;
     private final double[][] propertyEmbeddings;
 
@@ -56,7 +55,7 @@ class BinarizeTask implements Runnable {
     BinarizeTask(
         Partition partition,
         BinarizeParameters binarizeParameters,
-        HugeObjectArray<HugeAtomicBitSet> truncatedFeatures,
+        HugeBitMatrix truncatedFeatures,
         List<FeatureExtractor> featureExtractors,
         double[][] propertyEmbeddings,
         ProgressTracker progressTracker
@@ -70,7 +69,7 @@ class BinarizeTask implements Runnable {
         this.progressTracker = progressTracker;
     }
 
-    static HugeObjectArray<HugeAtomicBitSet> compute(
+    static HugeBitMatrix compute(
         Graph graph,
         List<Partition> partition,
         Concurrency concurrency,
@@ -88,7 +87,7 @@ class BinarizeTask implements Runnable {
         var inputDimension = FeatureExtraction.featureCount(featureExtractors);
         var propertyEmbeddings = embedProperties(binarizationParameters.dimension(), rng, inputDimension);
 
-        var truncatedFeatures = HugeObjectArray.newArray(HugeAtomicBitSet.class, graph.nodeCount());
+        var truncatedFeatures = HugeBitMatrix.newMatrix(graph.nodeCount(), binarizationParameters.dimension());
 
         var tasks = partition.stream()
             .map(p -> new BinarizeTask(
@@ -174,25 +173,24 @@ class BinarizeTask implements Runnable {
                 }
             });
 
-            var featureSet = round(featureVector);
-            totalFeatureCount += featureSet.cardinality();
-            truncatedFeatures.set(nodeId, featureSet);
+            totalFeatureCount += round(nodeId, featureVector);
         });
 
         progressTracker.logProgress(partition.nodeCount());
     }
 
-    private HugeAtomicBitSet round(float[] floatVector) {
-        var bitset = HugeAtomicBitSet.create(floatVector.length);
+    private int round(long nodeId, float[] floatVector) {
+        int featureCount = 0;
         for (int feature = 0; feature < floatVector.length; feature++) {
             var scalarProduct = floatVector[feature];
             scalarProductSum += scalarProduct;
             scalarProductSumOfSquares += scalarProduct * scalarProduct;
             if (scalarProduct > threshold) {
-                bitset.set(feature);
+                truncatedFeatures.set(nodeId, feature);
+                featureCount++;
             }
         }
-        return bitset;
+        return featureCount;
     }
 
     private long totalFeatureCount() {
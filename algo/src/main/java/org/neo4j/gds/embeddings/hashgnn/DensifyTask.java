@@ -20,10 +20,10 @@
 package org.neo4j.gds.embeddings.hashgnn;
 
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeBitMatrix;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.termination.TerminationFlag;
@@ -38,7 +38,7 @@ class DensifyTask implements Runnable {
     private final Partition partition;
     private final int outputDimension;
     private final HugeObjectArray<double[]> denseFeatures;
-    private final HugeObjectArray<HugeAtomicBitSet> binaryFeatures;
+    private final HugeBitMatrix binaryFeatures;
     private final float[][] projectionMatrix;
     private final ProgressTracker progressTracker;
 
@@ -46,7 +46,7 @@ class DensifyTask implements Runnable {
         Partition partition,
         int outputDimension,
         HugeObjectArray<double[]> denseFeatures,
-        HugeObjectArray<HugeAtomicBitSet> binaryFeatures,
+        HugeBitMatrix binaryFeatures,
         float[][] projectionMatrix,
         ProgressTracker progressTracker
     ) {
@@ -64,7 +64,7 @@ class DensifyTask implements Runnable {
         Concurrency concurrency,
         int outputDimension,
         SplittableRandom rng,
-        HugeObjectArray<HugeAtomicBitSet> binaryFeatures,
+        HugeBitMatrix binaryFeatures,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
     ) {
@@ -75,7 +75,7 @@ class DensifyTask implements Runnable {
         var projectionMatrix = projectionMatrix(
             rng,
             outputDimension,
-            (int) binaryFeatures.get(0).size()
+            binaryFeatures.columns()
         );
 
         var tasks = partition.stream()
@@ -129,11 +129,10 @@ class DensifyTask implements Runnable {
         int denseLength = projectionMatrix[0].length;
 
         partition.consume(nodeId -> {
-            var binaryVector = binaryFeatures.get(nodeId);
             var denseVector = new double[outputDimension];
 
-            binaryVector.forEachSetBit(bit -> {
-                final float[] row = projectionMatrix[(int) bit];
+            binaryFeatures.forEachSetBit(nodeId, bit -> {
+                final float[] row = projectionMatrix[bit];
                 for (int i = 0; i < denseLength; i++) {
                     denseVector[i] += row[i];
                 }
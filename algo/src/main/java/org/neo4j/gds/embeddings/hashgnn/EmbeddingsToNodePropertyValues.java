@@ -22,8 +22,8 @@ package org.neo4j.gds.embeddings.hashgnn;
 import org.neo4j.gds.api.properties.nodes.BinaryArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeBitMatrix;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 
 public final class EmbeddingsToNodePropertyValues {
     private EmbeddingsToNodePropertyValues() {}
@@ -42,7 +42,7 @@ public final class EmbeddingsToNodePropertyValues {
         };
     }
 
-    static NodePropertyValues fromBinary(HugeObjectArray<HugeAtomicBitSet> binaryEmbeddings, int embeddingDimension) {
-        return new BinaryArrayNodePropertyValues(binaryEmbeddings, embeddingDimension);
+    static NodePropertyValues fromBinary(HugeBitMatrix binaryEmbeddings) {
+        return new BinaryArrayNodePropertyValues(binaryEmbeddings);
     }
 }
@@ -21,10 +21,9 @@ package org.neo4j.gds.embeddings.hashgnn;
 
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.ha.HugeBitMatrix;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.termination.TerminationFlag;
@@ -35,7 +34,7 @@ import java.util.stream.Collectors;
 
 class GenerateFeaturesTask implements Runnable {
     private final Partition partition;
-    private final HugeObjectArray<HugeAtomicBitSet> output;
+    private final HugeBitMatrix output;
     private final Graph graph;
     private final Random rng;
     private final GenerateParameters generateParameters;
@@ -48,7 +47,7 @@ class GenerateFeaturesTask implements Runnable {
         Graph graph,
         long randomSeed,
         GenerateParameters generateParameters,
-        HugeObjectArray<HugeAtomicBitSet> output,
+        HugeBitMatrix output,
         ProgressTracker progressTracker
     ) {
         this.partition = partition;
@@ -60,7 +59,7 @@ class GenerateFeaturesTask implements Runnable {
         this.progressTracker = progressTracker;
     }
 
-    static HugeObjectArray<HugeAtomicBitSet> compute(
+    static HugeBitMatrix compute(
         GenerateParameters generateParameters,
         Graph graph,
         List<Partition> partition,
@@ -72,7 +71,7 @@ class GenerateFeaturesTask implements Runnable {
     ) {
         progressTracker.beginSubTask("Generate base node property features");
 
-        var output = HugeObjectArray.newArray(HugeAtomicBitSet.class, graph.nodeCount());
+        var output = HugeBitMatrix.newMatrix(graph.nodeCount(), generateParameters.dimension());
 
         var tasks = partition.stream()
             .map(p -> new GenerateFeaturesTask(
@@ -103,16 +102,12 @@ class GenerateFeaturesTask implements Runnable {
         int densityLevel = generateParameters.densityLevel();
 
         partition.consume(nodeId -> {
-            var generatedFeatures = HugeAtomicBitSet.create(dimension);
-
             rng.setSeed(this.randomSeed ^ graph.toOriginalNodeId(nodeId));
 
             var randomInts = rng.ints(densityLevel, 0, dimension);
-            randomInts.forEach(generatedFeatures::set);
-
-            totalFeatureCount += generatedFeatures.cardinality();
+            randomInts.forEach(feature -> output.set(nodeId, feature));
 
-            output.set(nodeId, generatedFeatures);
+            totalFeatureCount += output.cardinality(nodeId);
         });
 
         progressTracker.logProgress(partition.nodeCount());
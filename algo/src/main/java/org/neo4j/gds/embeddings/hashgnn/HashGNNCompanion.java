@@ -22,30 +22,32 @@ package org.neo4j.gds.embeddings.hashgnn;
 import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.BitSetIterator;
 import org.apache.commons.math3.primes.Primes;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.collections.ha.HugeBitMatrix;
 
 import java.util.SplittableRandom;
 
 public final class HashGNNCompanion {
-    static void hashArgMin(
-        HugeAtomicBitSet bitSet,
-        int[] hashes,
-        HashGNN.MinAndArgmin result,
-        HashGNN.MinAndArgmin temp
-    ) {
-        temp.argMin = -1;
-        temp.min = Integer.MAX_VALUE;
-        bitSet.forEachSetBit(bit -> {
-            int hash = hashes[(int) bit];
-
-            if (hash < temp.min) {
-                temp.min = hash;
-                temp.argMin = (int) bit;
+    static void hashArgMin(HugeBitMatrix embeddings, long nodeId, int[] hashes, HashGNN.MinAndArgmin result) {
+        int argMin = -1;
+        int minHash = Integer.MAX_VALUE;
+        int wordsPerRow = embeddings.wordsPerRow();
+        for (int wordIndex = 0; wordIndex < wordsPerRow; wordIndex++) {
+            long word = embeddings.word(nodeId, wordIndex);
+            while (word != 0) {
+                int bit = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                int hash = hashes[bit];
+
+                if (hash < minHash) {
+                    minHash = hash;
+                    argMin = bit;
+                }
+
+                word &= word - 1;
             }
-        });
+        }
 
-        result.min = temp.min;
-        result.argMin = temp.argMin;
+        result.min = minHash;
+        result.argMin = argMin;
     }
 
     static void hashArgMin(BitSet bitSet, int[] hashes, HashGNN.MinAndArgmin result) {
@@ -19,8 +19,8 @@
  */
 package org.neo4j.gds.embeddings.hashgnn;
 
+import org.neo4j.gds.collections.ha.HugeBitMatrix;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.mem.Estimate;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.mem.MemoryEstimation;
@@ -52,11 +52,11 @@ public class HashGNNMemoryEstimateDefinition implements MemoryEstimateDefinition
 
         builder.perNode(
             "Embeddings cache 1",
-            n -> HugeObjectArray.memoryEstimation(n, HugeAtomicBitSet.memoryEstimation(binaryDimension))
+            n -> HugeBitMatrix.memoryEstimation(n, binaryDimension)
         );
         builder.perNode(
             "Embeddings cache 2",
-            n -> HugeObjectArray.memoryEstimation(n, HugeAtomicBitSet.memoryEstimation(binaryDimension))
+            n -> HugeBitMatrix.memoryEstimation(n, binaryDimension)
         );
 
         builder.perGraphDimension("Hashes cache", (dims, concurrency) -> MemoryRange.of(
@@ -25,42 +25,40 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.termination.TerminationFlag;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.ha.HugeBitMatrix;
 import org.neo4j.gds.core.utils.partition.DegreePartition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.List;
-import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import static org.neo4j.gds.embeddings.hashgnn.HashGNNCompanion.hashArgMin;
 
+/**
+ * Computes the min-hashes of all {@code k < embeddingDensity} hash functions for the nodes of one partition.
+ * As every task owns the rows of its nodes in {@code currentEmbeddings}, the rows are written without synchronization.
+ */
 class MinHashTask implements Runnable {
     private final List<HashTask.Hashes> hashes;
-    private final int k;
     private final int embeddingDimension;
     private final DegreePartition partition;
     private final List<Graph> concurrentGraphs;
-    private final HugeObjectArray<HugeAtomicBitSet> currentEmbeddings;
-    private final HugeObjectArray<HugeAtomicBitSet> previousEmbeddings;
+    private final HugeBitMatrix currentEmbeddings;
+    private final HugeBitMatrix previousEmbeddings;
     private final TerminationFlag terminationFlag;
     private final ProgressTracker progressTracker;
     private long totalFeatureCount = 0;
 
     MinHashTask(
-        int k,
         DegreePartition partition,
         List<Graph> graphs,
         int embeddingDimension,
-        HugeObjectArray<HugeAtomicBitSet> currentEmbeddings,
-        HugeObjectArray<HugeAtomicBitSet> previousEmbeddings,
+        HugeBitMatrix currentEmbeddings,
+        HugeBitMatrix previousEmbeddings,
         List<HashTask.Hashes> hashes,
         TerminationFlag terminationFlag,
         ProgressTracker progressTracker
     ) {
-        this.k = k;
         this.partition = partition;
         this.concurrentGraphs = graphs.stream().map(Graph::concurrentCopy).collect(Collectors.toList());
         this.embeddingDimension = embeddingDimension;
@@ -77,8 +75,8 @@ class MinHashTask implements Runnable {
         Concurrency concurrency,
         int embeddingDensity,
         int embeddingDimension,
-        HugeObjectArray<HugeAtomicBitSet> currentEmbeddings,
-        HugeObjectArray<HugeAtomicBitSet> previousEmbeddings,
+        HugeBitMatrix currentEmbeddings,
+        HugeBitMatrix previousEmbeddings,
         List<HashTask.Hashes> hashes,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag,
@@ -88,20 +86,17 @@ class MinHashTask implements Runnable {
 
         progressTracker.setSteps(embeddingDensity * graphs.get(0).nodeCount());
 
-        var tasks = IntStream.range(0, embeddingDensity)
-            .mapToObj(k -> degreePartition.stream().map(p ->
-                new MinHashTask(
-                    k,
-                    p,
-                    graphs,
-                    embeddingDimension,
-                    currentEmbeddings,
-                    previousEmbeddings,
-                    hashes,
-                    terminationFlag,
-                    progressTracker
-                )))
-            .flatMap(Function.identity())
+        var tasks = degreePartition.stream()
+            .map(p -> new MinHashTask(
+                p,
+                graphs,
+                embeddingDimension,
+                currentEmbeddings,
+                previousEmbeddings,
+                hashes,
+                terminationFlag,
+                progressTracker
+            ))
             .collect(Collectors.toList());
         RunWithConcurrency.builder()
             .concurrency(concurrency)
@@ -119,52 +114,45 @@ class MinHashTask implements Runnable {
         var neighborsVector = new BitSet(embeddingDimension);
         var selfMinAndArgMin = new HashGNN.MinAndArgmin();
         var neighborsMinAndArgMin = new HashGNN.MinAndArgmin();
-        var tempMinAndArgMin = new HashGNN.MinAndArgmin();
 
         terminationFlag.assertRunning();
 
-        var hashesForK = hashes.get(k);
-        var neighborsAggregationHashes = hashesForK.neighborsAggregationHashes();
-        var selfAggregationHashes = hashesForK.selfAggregationHashes();
-        var preAggregationHashes = hashesForK.preAggregationHashes();
-
         partition.consume(nodeId -> {
-            var currentEmbedding = currentEmbeddings.get(nodeId);
-            hashArgMin(previousEmbeddings.get(nodeId), selfAggregationHashes, selfMinAndArgMin, tempMinAndArgMin);
-
-            neighborsVector.clear();
-
-            for (int i = 0; i < concurrentGraphs.size(); i++) {
-                var preAggregationHashesForRel = preAggregationHashes.get(i);
-                var currentGraph = concurrentGraphs.get(i);
-                currentGraph.forEachRelationship(nodeId, (src, trg) -> {
-                    var prevTargetEmbedding = previousEmbeddings.get(trg);
-                    hashArgMin(
-                        prevTargetEmbedding,
-                        preAggregationHashesForRel,
-                        neighborsMinAndArgMin,
-                        tempMinAndArgMin
-                    );
-
-                    int argMin = neighborsMinAndArgMin.argMin;
-                    if (argMin != -1) {
-                        neighborsVector.set(argMin);
-                    }
+            for (var hashesForK : hashes) {
+                var neighborsAggregationHashes = hashesForK.neighborsAggregationHashes();
+                var selfAggregationHashes = hashesForK.selfAggregationHashes();
+                var preAggregationHashes = hashesForK.preAggregationHashes();
 
-                    return true;
-                });
-            }
+                hashArgMin(previousEmbeddings, nodeId, selfAggregationHashes, selfMinAndArgMin);
+
+                neighborsVector.clear();
 
-            hashArgMin(neighborsVector, neighborsAggregationHashes, neighborsMinAndArgMin);
-            int argMin = (neighborsMinAndArgMin.min < selfMinAndArgMin.min) ? neighborsMinAndArgMin.argMin : selfMinAndArgMin.argMin;
-            if (argMin != -1) {
-                if (!currentEmbedding.getAndSet(argMin)) {
-                    totalFeatureCount++;
+                for (int i = 0; i < concurrentGraphs.size(); i++) {
+                    var preAggregationHashesForRel = preAggregationHashes.get(i);
+                    var currentGraph = concurrentGraphs.get(i);
+                    currentGraph.forEachRelationship(nodeId, (src, trg) -> {
+                        hashArgMin(previousEmbeddings, trg, preAggregationHashesForRel, neighborsMinAndArgMin);
+
+                        int argMin = neighborsMinAndArgMin.argMin;
+                        if (argMin != -1) {
+                            neighborsVector.set(argMin);
+                        }
+
+                        return true;
+                    });
+                }
+
+                hashArgMin(neighborsVector, neighborsAggregationHashes, neighborsMinAndArgMin);
+                int argMin = (neighborsMinAndArgMin.min < selfMinAndArgMin.min) ? neighborsMinAndArgMin.argMin : selfMinAndArgMin.argMin;
+                if (argMin != -1) {
+                    if (!currentEmbeddings.getAndSet(nodeId, argMin)) {
+                        totalFeatureCount++;
+                    }
                 }
             }
         });
 
-        progressTracker.logSteps(partition.nodeCount());
+        progressTracker.logSteps((long) hashes.size() * partition.nodeCount());
     }
 
     public long totalFeatureCount() {
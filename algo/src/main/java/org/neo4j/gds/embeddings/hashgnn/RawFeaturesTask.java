@@ -21,10 +21,9 @@ package org.neo4j.gds.embeddings.hashgnn;
 
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.ha.HugeBitMatrix;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.ml.core.features.FeatureConsumer;
@@ -42,7 +41,7 @@ class RawFeaturesTask implements Runnable {
     private final Graph graph;
     private final List<FeatureExtractor> featureExtractors;
     private final int inputDimension;
-    private final HugeObjectArray<HugeAtomicBitSet> features;
+    private final HugeBitMatrix features;
     private final ProgressTracker progressTracker;
     private long totalFeatureCount = 0;
 
@@ -51,7 +50,7 @@ class RawFeaturesTask implements Runnable {
         Graph graph,
         List<FeatureExtractor> featureExtractors,
         int inputDimension,
-        HugeObjectArray<HugeAtomicBitSet> features,
+        HugeBitMatrix features,
         ProgressTracker progressTracker
     ) {
         this.partition = partition;
@@ -62,7 +61,7 @@ class RawFeaturesTask implements Runnable {
         this.progressTracker = progressTracker;
     }
 
-    static HugeObjectArray<HugeAtomicBitSet> compute(
+    static HugeBitMatrix compute(
         Concurrency concurrency,
         List<String> featureProperties,
         ProgressTracker progressTracker,
@@ -76,7 +75,7 @@ class RawFeaturesTask implements Runnable {
         var featureExtractors = FeatureExtraction.propertyExtractors(graph, featureProperties);
         int inputDimension = FeatureExtraction.featureCount(featureExtractors);
 
-        var features = HugeObjectArray.newArray(HugeAtomicBitSet.class, graph.nodeCount());
+        var features = HugeBitMatrix.newMatrix(graph.nodeCount(), inputDimension);
 
         var tasks = partitions.stream()
             .map(p -> new RawFeaturesTask(
@@ -104,12 +103,11 @@ class RawFeaturesTask implements Runnable {
     @Override
     public void run() {
         partition.consume(nodeId -> {
-            var nodeFeatures = HugeAtomicBitSet.create(inputDimension);
             FeatureExtraction.extract(nodeId, -1, featureExtractors, new FeatureConsumer() {
                 @Override
                 public void acceptScalar(long nodeOffset, int offset, double value) {
                     if (value == 1.0) {
-                        nodeFeatures.set(offset);
+                        features.set(nodeId, offset);
                     } else if (value != 0.0) {
                         throw new IllegalArgumentException(formatWithLocale("Feature properties may only contain values 0 and 1 unless `binarizeFeatures` is used. Node %d and possibly other nodes have a feature property containing value %f", graph.toOriginalNodeId(nodeId), value));
                     }
@@ -120,15 +118,14 @@ class RawFeaturesTask implements Runnable {
                     for (int inputFeatureOffset = 0; inputFeatureOffset < values.length; inputFeatureOffset++) {
                         var value = values[inputFeatureOffset];
                         if (value == 1.0) {
-                            nodeFeatures.set(offset + inputFeatureOffset);
+                            features.set(nodeId, offset + inputFeatureOffset);
                         } else if (value != 0.0) {
                             throw new IllegalArgumentException(formatWithLocale("Feature properties may only contain values 0 and 1 unless `binarizeFeatures` is used. Node %d and possibly other nodes have a feature property containing value %.17f", graph.toOriginalNodeId(nodeId), value));
                         }
                     }
                 }
             });
-            totalFeatureCount += nodeFeatures.cardinality();
-            features.set(nodeId, nodeFeatures);
+            totalFeatureCount += features.cardinality(nodeId);
         });
 
         progressTracker.logProgress(partition.nodeCount());
@@ -137,10 +137,17 @@ public final class Node2Vec extends Algorithm<Node2VecResult> {
         var nextNodeSupplier = RandomWalkCompanion.nextNodeSupplier(graph, sourceNodes);
         var cumulativeWeightsSupplier = RandomWalkCompanion.cumulativeWeights(
             graph,
+            samplingWalkParameters.useAliasTables(),
             concurrency,
             executorService,
             progressTracker
         );
+        var aliasTables = RandomWalkCompanion.aliasTables(
+            graph,
+            samplingWalkParameters.useAliasTables(),
+            concurrency,
+            executorService
+        );
 
         var index = new AtomicLong();
         var c = concurrency.value();
@@ -150,6 +157,7 @@ public final class Node2Vec extends Algorithm<Node2VecResult> {
                 nextNodeSupplier,
                 samplingWalkParameters.walksPerNode(),
                 cumulativeWeightsSupplier,
+                aliasTables,
                 progressTracker,
                 terminationFlag,
                 index,
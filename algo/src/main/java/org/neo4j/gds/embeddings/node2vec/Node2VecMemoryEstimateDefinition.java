@@ -26,6 +26,7 @@ import org.neo4j.gds.mem.Estimate;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.ml.core.samplers.NeighborAliasTables;
 
 public final class Node2VecMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
@@ -41,15 +42,20 @@ public final class Node2VecMemoryEstimateDefinition implements MemoryEstimateDef
         int walksPerNode = parameters.samplingWalkParameters().walksPerNode();
         int walkLength = parameters.samplingWalkParameters().walkLength();
         int embeddingDimension = parameters.trainParameters().embeddingDimension();
-        return MemoryEstimations.builder(Node2Vec.class)
+        var builder = MemoryEstimations.builder(Node2Vec.class)
             .perNode("random walks", (nodeCount) -> {
                 var numberOfRandomWalks = nodeCount * walksPerNode;
                 var randomWalkMemoryUsage = Estimate.sizeOfLongArray(walkLength);
                 return HugeObjectArray.memoryEstimation(numberOfRandomWalks, randomWalkMemoryUsage);
             })
             .add("probability cache", randomWalksMemoryEstimation())
-            .add("model", modelMemoryEstimation(embeddingDimension))
-            .build();
+            .add("model", modelMemoryEstimation(embeddingDimension));
+
+        if (parameters.samplingWalkParameters().useAliasTables()) {
+            builder.add("alias tables", NeighborAliasTables.memoryEstimation());
+        }
+
+        return builder.build();
     }
 
     private MemoryEstimation randomWalksMemoryEstimation() {
@@ -19,8 +19,10 @@
  */
 package org.neo4j.gds.embeddings.node2vec;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.ml.core.samplers.NeighborAliasTables;
 import org.neo4j.gds.ml.core.samplers.RandomWalkSampler;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.traversal.NextNodeSupplier;
@@ -48,6 +50,7 @@ final class Node2VecRandomWalkTask implements Runnable {
         NextNodeSupplier nextNodeSupplier,
         int walksPerNode,
         RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier,
+        @Nullable NeighborAliasTables aliasTables,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag,
         AtomicLong walkIndex,
@@ -72,6 +75,7 @@ final class Node2VecRandomWalkTask implements Runnable {
         this.sampler = RandomWalkSampler.create(
             graph,
             cumulativeWeightSupplier,
+            aliasTables,
             walkLength,
             returnFactor,
             inOutFactor,
@@ -34,7 +34,7 @@ public class Node2VecTask {
 
     public static Task create(Graph graph, Node2VecParameters parameters) {
         var randomWalkTasks = new ArrayList<Task>();
-        if (graph.hasRelationshipProperty()) {
+        if (graph.hasRelationshipProperty() && !parameters.samplingWalkParameters().useAliasTables()) {
             randomWalkTasks.add(DegreeCentralityTask.create(graph));
         }
         randomWalkTasks.add(Tasks.leaf("create walks", graph.nodeCount()));
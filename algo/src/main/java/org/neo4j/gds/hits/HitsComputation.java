@@ -60,8 +60,8 @@ public class HitsComputation implements BidirectionalPregelComputation<HitsConfi
                 "auth", ValueType.DOUBLE,
                 "hub", ValueType.DOUBLE
             ),
-            false,
-            false
+            true,
+            isAsynchronous
         );
     }
 
@@ -21,6 +21,7 @@ package org.neo4j.gds.hits;
 
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.Pregel;
+import org.neo4j.gds.beta.pregel.PregelConfig;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.mem.MemoryEstimation;
 
@@ -28,6 +29,12 @@ import java.util.Map;
 
 public class HitsMemoryEstimateDefinition  implements MemoryEstimateDefinition {
 
+    private final PregelConfig config;
+
+    public HitsMemoryEstimateDefinition(PregelConfig config) {
+        this.config = config;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
 
@@ -36,8 +43,10 @@ public class HitsMemoryEstimateDefinition  implements MemoryEstimateDefinition {
                 "auth", ValueType.DOUBLE,
                 "hub", ValueType.DOUBLE
             ),
+            config,
+            true,
             false,
-            false
+            true
         );
     }
 }
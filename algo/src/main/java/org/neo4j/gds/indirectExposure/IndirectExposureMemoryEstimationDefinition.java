@@ -21,6 +21,7 @@ package org.neo4j.gds.indirectExposure;
 
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.Pregel;
+import org.neo4j.gds.beta.pregel.PregelConfig;
 import org.neo4j.gds.degree.DegreeCentralityAlgorithmEstimateDefinition;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.mem.MemoryEstimation;
@@ -29,15 +30,23 @@ import org.neo4j.gds.mem.MemoryEstimations;
 import java.util.Map;
 
 public class IndirectExposureMemoryEstimationDefinition implements MemoryEstimateDefinition {
+
+    private final PregelConfig config;
+
+    public IndirectExposureMemoryEstimationDefinition(PregelConfig config) {
+        this.config = config;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
         return MemoryEstimations.builder()
             .add(new DegreeCentralityAlgorithmEstimateDefinition(true).memoryEstimation())
             .add(Pregel.memoryEstimation(
                 Map.of(IndirectExposureComputation.EXPOSURE, ValueType.DOUBLE),
+                config,
                 false,
-                false,
-                true
+                true,
+                false
             ))
             .build();
     }
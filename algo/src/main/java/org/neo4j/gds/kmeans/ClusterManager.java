@@ -20,6 +20,7 @@
 package org.neo4j.gds.kmeans;
 
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.utils.Intersections;
 import org.neo4j.gds.mem.Estimate;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
@@ -38,6 +39,14 @@ public final class ClusterManager {
 
     private final Distances distances;
 
+    // only used to bound distances by the triangle inequality, see `rememberCentroids`
+    private double[][] previousCentroids;
+    private double[] centroidDrift;
+    private double[] halfSeparation;
+    private double maxDrift;
+    private double secondMaxDrift;
+    private int maxDriftCentroid;
+
     private ClusterManager(
         Distances distances,
         Coordinates centroids,
@@ -135,6 +144,77 @@ public final class ClusterManager {
         return distances.distance(nodeId, centroids.coordinateAt(centroid));
     }
 
+    /**
+     * Remembers the current centroids, so that {@link #computeCentroidMovement()}
+     * can determine how far they moved once they are recomputed.
+     */
+    void rememberCentroids() {
+        if (previousCentroids == null) {
+            previousCentroids = new double[k][];
+            centroidDrift = new double[k];
+            halfSeparation = new double[k];
+        }
+        for (int centroidId = 0; centroidId < k; ++centroidId) {
+            var coordinate = centroids.coordinateAt(centroidId).coordinate();
+            if (previousCentroids[centroidId] == null) {
+                previousCentroids[centroidId] = new double[coordinate.length];
+            }
+            System.arraycopy(coordinate, 0, previousCentroids[centroidId], 0, coordinate.length);
+        }
+    }
+
+    /**
+     * Computes how far every centroid moved since {@link #rememberCentroids()}
+     * and half the distance from every centroid to its closest other centroid.
+     * A node closer to its centroid than the latter cannot be closer to any other centroid.
+     */
+    void computeCentroidMovement() {
+        var currentCentroids = centroids.coordinates();
+
+        maxDrift = 0;
+        secondMaxDrift = 0;
+        maxDriftCentroid = -1;
+        for (int centroidId = 0; centroidId < k; ++centroidId) {
+            double drift = euclidean(previousCentroids[centroidId], currentCentroids[centroidId]);
+            centroidDrift[centroidId] = drift;
+            if (drift > maxDrift) {
+                secondMaxDrift = maxDrift;
+                maxDrift = drift;
+                maxDriftCentroid = centroidId;
+            } else if (drift > secondMaxDrift) {
+                secondMaxDrift = drift;
+            }
+            halfSeparation[centroidId] = Double.POSITIVE_INFINITY;
+        }
+
+        for (int centroidId = 0; centroidId < k; ++centroidId) {
+            for (int otherCentroidId = centroidId + 1; otherCentroidId < k; ++otherCentroidId) {
+                double halfDistance = euclidean(currentCentroids[centroidId], currentCentroids[otherCentroidId]) / 2;
+                halfSeparation[centroidId] = Math.min(halfSeparation[centroidId], halfDistance);
+                halfSeparation[otherCentroidId] = Math.min(halfSeparation[otherCentroidId], halfDistance);
+            }
+        }
+    }
+
+    double centroidDrift(int centroid) {
+        return centroidDrift[centroid];
+    }
+
+    /**
+     * The largest distance any centroid other than the given one moved.
+     */
+    double maxDriftOfOtherCentroids(int centroid) {
+        return centroid == maxDriftCentroid ? secondMaxDrift : maxDrift;
+    }
+
+    double halfSeparation(int centroid) {
+        return halfSeparation[centroid];
+    }
+
+    private static double euclidean(double[] left, double[] right) {
+        return Math.sqrt(Intersections.sumSquareDelta(left, right, left.length));
+    }
+
     static MemoryEstimation memoryEstimation(int k, int fakeDimensions) {
         var builder = MemoryEstimations.builder(ClusterManager.class);
         builder
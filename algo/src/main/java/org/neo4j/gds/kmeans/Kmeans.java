@@ -57,6 +57,9 @@ public final class Kmeans extends Algorithm<KmeansResult> {
     private double averageSilhouette;
     private double bestDistance;
     private long[] nodesInCluster;
+    // only allocated when distances are bounded by the triangle inequality
+    private HugeDoubleArray upperBounds;
+    private HugeDoubleArray lowerBounds;
 
 
     public static Kmeans createKmeans(
@@ -132,6 +135,10 @@ public final class Kmeans extends Algorithm<KmeansResult> {
 
         var currentCommunities = HugeIntArray.newArray(nodeCount);
         var currentDistanceFromCentroid = HugeDoubleArray.newArray(nodeCount);
+        if (parameters.useTriangleInequality()) {
+            upperBounds = HugeDoubleArray.newArray(nodeCount);
+            lowerBounds = HugeDoubleArray.newArray(nodeCount);
+        }
 
         bestDistance = Double.POSITIVE_INFINITY;
         bestCommunities.setAll(v -> UNASSIGNED);
@@ -193,6 +200,8 @@ public final class Kmeans extends Algorithm<KmeansResult> {
                 clusterManager,
                 currentCommunities,
                 currentDistanceFromCentroid,
+                upperBounds,
+                lowerBounds,
                 parameters.k(),
                 dimensions,
                 partition
@@ -269,12 +278,18 @@ public final class Kmeans extends Algorithm<KmeansResult> {
     }
 
     private void recomputeCentroids(ClusterManager clusterManager, Iterable<KmeansTask> tasks) {
+        if (parameters.useTriangleInequality()) {
+            clusterManager.rememberCentroids();
+        }
         clusterManager.reset();
 
         for (KmeansTask task : tasks) {
             clusterManager.updateFromTask(task);
         }
         clusterManager.normalizeClusters();
+        if (parameters.useTriangleInequality()) {
+            clusterManager.computeCentroidMovement();
+        }
     }
 
     @NotNull
@@ -53,6 +53,17 @@ public class KmeansMemoryEstimateDefinition implements MemoryEstimateDefinition
             ))
             .perThread("KMeansTask", KmeansTask.memoryEstimation(parameters.k(), fakeLength));
 
+        if (parameters.useTriangleInequality()) {
+            builder
+                .perNode("upperBounds", HugeDoubleArray::memoryEstimation)
+                .perNode("lowerBounds", HugeDoubleArray::memoryEstimation)
+                .fixed(
+                    "previousCentroids",
+                    Estimate.sizeOfArray(parameters.k(), Estimate.sizeOfDoubleArray(fakeLength))
+                )
+                .fixed("centroidMovement", 2 * Estimate.sizeOfDoubleArray(parameters.k()));
+        }
+
         if (parameters.computeSilhouette()) {
             builder.perNode("silhouette", HugeDoubleArray::memoryEstimation);
         }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.kmeans;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.core.utils.partition.Partition;
@@ -35,6 +36,11 @@ public class KmeansTask implements Runnable {
 
     private final HugeDoubleArray distanceFromCentroid;
 
+    // bounds on the distance to the assigned centroid and to any other centroid, null unless bounds are used
+    private final @Nullable HugeDoubleArray upperBounds;
+    private final @Nullable HugeDoubleArray lowerBounds;
+    private boolean boundsInitialized;
+
     private final HugeIntArray communities;
     private final long[] communitySizes;
     private final int k;
@@ -75,6 +81,8 @@ public class KmeansTask implements Runnable {
         ClusterManager clusterManager,
         HugeIntArray communities,
         HugeDoubleArray distanceFromCentroid,
+        @Nullable HugeDoubleArray upperBounds,
+        @Nullable HugeDoubleArray lowerBounds,
         int k,
         Partition partition,
         Coordinates coordinates
@@ -82,6 +90,9 @@ public class KmeansTask implements Runnable {
         this.clusterManager = clusterManager;
         this.communities = communities;
         this.distanceFromCentroid = distanceFromCentroid;
+        this.upperBounds = upperBounds;
+        this.lowerBounds = lowerBounds;
+        this.boundsInitialized = false;
         this.k = k;
         this.partition = partition;
         this.communitySizes = new long[k];
@@ -104,6 +115,36 @@ public class KmeansTask implements Runnable {
         int dimensions,
         Partition partition
     ) {
+        return createTask(
+            coordinatesSupplier,
+            samplerType,
+            clusterManager,
+            communities,
+            distanceFromCentroid,
+            null,
+            null,
+            k,
+            dimensions,
+            partition
+        );
+    }
+
+    /**
+     * Creates a task that keeps bounds on the distances of its nodes to the centroids, following Hamerly's algorithm.
+     * The centroid movement needs to be computed by the {@link ClusterManager} whenever centroids are recomputed.
+     */
+    static KmeansTask createTask(
+        CoordinatesSupplier coordinatesSupplier,
+        SamplerType samplerType,
+        ClusterManager clusterManager,
+        HugeIntArray communities,
+        HugeDoubleArray distanceFromCentroid,
+        @Nullable HugeDoubleArray upperBounds,
+        @Nullable HugeDoubleArray lowerBounds,
+        int k,
+        int dimensions,
+        Partition partition
+    ) {
 
         var coordinates = Coordinates.create(k, dimensions, coordinatesSupplier);
         return new KmeansTask(
@@ -111,6 +152,8 @@ public class KmeansTask implements Runnable {
             clusterManager,
             communities,
             distanceFromCentroid,
+            upperBounds,
+            lowerBounds,
             k,
             partition,
             coordinates
@@ -152,6 +195,75 @@ public class KmeansTask implements Runnable {
         }
     }
 
+    /**
+     * Same as {@link #assignNodeToCentroid(long, long)}, but skips the distance computations that cannot change
+     * the closest centroid of a node.
+     * <p>
+     * The upper bound of a node is on the distance to its centroid, the lower bound on the distance to any other.
+     * When the centroids move, the bounds are loosened by how far they moved.
+     * A node stays with its centroid if the upper bound does not exceed the lower bound,
+     * or half the distance from its centroid to the closest other centroid.
+     * Otherwise, the upper bound is tightened and, if still necessary, the distances to all centroids are computed.
+     */
+    private void assignNodeToCentroidWithBounds(long startNode, long endNode) {
+        assert upperBounds != null && lowerBounds != null;
+
+        swaps = 0;
+
+        reset();
+
+        for (long nodeId = startNode; nodeId < endNode; nodeId++) {
+            int previousCommunity = communities.get(nodeId);
+            int closestCommunity;
+            if (boundsInitialized) {
+                closestCommunity = previousCommunity;
+                double upperBound = upperBounds.get(nodeId) + clusterManager.centroidDrift(previousCommunity);
+                double lowerBound = lowerBounds.get(nodeId) - clusterManager.maxDriftOfOtherCentroids(previousCommunity);
+                double bound = Math.max(lowerBound, clusterManager.halfSeparation(previousCommunity));
+                if (upperBound > bound) {
+                    upperBound = clusterManager.distanceFromCentroid(nodeId, previousCommunity);
+                }
+                if (upperBound > bound) {
+                    closestCommunity = findClosestCentroidWithBounds(nodeId);
+                } else {
+                    upperBounds.set(nodeId, upperBound);
+                    lowerBounds.set(nodeId, lowerBound);
+                }
+            } else {
+                closestCommunity = findClosestCentroidWithBounds(nodeId);
+            }
+
+            communitySizes[closestCommunity]++;
+            if (closestCommunity != previousCommunity) {
+                swaps++;
+            }
+            communities.set(nodeId, closestCommunity);
+            clusterContributions.addTo(nodeId, closestCommunity);
+        }
+        boundsInitialized = true;
+    }
+
+    private int findClosestCentroidWithBounds(long nodeId) {
+        assert upperBounds != null && lowerBounds != null;
+
+        int community = 0;
+        double smallestDistance = Double.MAX_VALUE;
+        double secondSmallestDistance = Double.POSITIVE_INFINITY;
+        for (int centroidId = 0; centroidId < k; ++centroidId) {
+            double distance = clusterManager.distanceFromCentroid(nodeId, centroidId);
+            if (Double.compare(distance, smallestDistance) < 0) {
+                secondSmallestDistance = smallestDistance;
+                smallestDistance = distance;
+                community = centroidId;
+            } else if (distance < secondSmallestDistance) {
+                secondSmallestDistance = distance;
+            }
+        }
+        upperBounds.set(nodeId, smallestDistance);
+        lowerBounds.set(nodeId, secondSmallestDistance);
+        return community;
+    }
+
     double distanceFromCentroidNormalized() {
         return distance / communities.size();
     }
@@ -211,7 +323,11 @@ public class KmeansTask implements Runnable {
         var startNode = partition.startNode();
         long endNode = startNode + partition.nodeCount();
         if (phase == TaskPhase.ITERATION) {
-            assignNodeToCentroid(startNode, endNode);
+            if (upperBounds == null) {
+                assignNodeToCentroid(startNode, endNode);
+            } else {
+                assignNodeToCentroidWithBounds(startNode, endNode);
+            }
         } else if (phase == TaskPhase.DISTANCE) {
             calculateFinalDistance(startNode, endNode);
         } else {
@@ -25,13 +25,18 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.spanningtree.Boruvka;
 import org.neo4j.gds.spanningtree.Prim;
 import org.neo4j.gds.spanningtree.PrimOperators;
 import org.neo4j.gds.spanningtree.SpanningTree;
+import org.neo4j.gds.spanningtree.SpanningTreeMethod;
 import org.neo4j.gds.termination.TerminationFlag;
 
+import java.util.concurrent.ExecutorService;
 import java.util.function.DoubleUnaryOperator;
 
 /**
@@ -42,6 +47,8 @@ import java.util.function.DoubleUnaryOperator;
  * <p>
  * After calculating the MST the algorithm cuts the tree at its k weakest
  * relationships to form k spanning trees
+ * <p>
+ * The MST is computed with {@link Prim} or, in parallel, with {@link Boruvka}.
  */
 public class KSpanningTree extends Algorithm<SpanningTree> {
 
@@ -49,6 +56,9 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
     private final DoubleUnaryOperator minMax;
     private final long startNodeId;
     private final long k;
+    private final SpanningTreeMethod method;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
 
     public KSpanningTree(
         Graph graph,
@@ -57,6 +67,30 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
         long k,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
+    ) {
+        this(
+            graph,
+            minMax,
+            startNodeId,
+            k,
+            SpanningTreeMethod.PRIM,
+            new Concurrency(1),
+            DefaultPool.INSTANCE,
+            progressTracker,
+            terminationFlag
+        );
+    }
+
+    public KSpanningTree(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        long startNodeId,
+        long k,
+        SpanningTreeMethod method,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -64,6 +98,9 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
         this.startNodeId = startNodeId;
 
         this.k = k;
+        this.method = method;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
 
         this.terminationFlag = terminationFlag;
     }
@@ -71,15 +108,11 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
     @Override
     public SpanningTree compute() {
         progressTracker.beginSubTask();
-        Prim prim = new Prim(
-            graph,
-            minMax,
-            startNodeId,
-            progressTracker,
-            terminationFlag
-        );
+        Algorithm<SpanningTree> spanningTreeAlgorithm = method == SpanningTreeMethod.BORUVKA
+            ? new Boruvka(graph, minMax, startNodeId, concurrency, executorService, progressTracker, terminationFlag)
+            : new Prim(graph, minMax, startNodeId, progressTracker, terminationFlag);
 
-        SpanningTree spanningTree = prim.compute();
+        SpanningTree spanningTree = spanningTreeAlgorithm.compute();
 
         var outputTree = growApproach(spanningTree);
         progressTracker.endSubTask();
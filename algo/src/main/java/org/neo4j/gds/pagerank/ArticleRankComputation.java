@@ -38,6 +38,7 @@ public final class ArticleRankComputation<C extends ArticleRankConfig> implement
     private final InitialProbabilityProvider initialProbability;
     private final LongToDoubleFunction degreeFunction;
 
+    private final C config;
     private final double dampingFactor;
     private final double tolerance;
     private final double averageDegree;
@@ -48,6 +49,7 @@ public final class ArticleRankComputation<C extends ArticleRankConfig> implement
         LongToDoubleFunction degreeFunction,
         double averageDegree
     ) {
+        this.config = config;
         this.dampingFactor = config.dampingFactor();
         this.tolerance = config.tolerance();
         this.averageDegree = averageDegree;
@@ -108,6 +110,6 @@ public final class ArticleRankComputation<C extends ArticleRankConfig> implement
 
     @Override
     public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
-        return new PageRankMemoryEstimateDefinition();
+        return new PageRankMemoryEstimateDefinition(config);
     }
 }
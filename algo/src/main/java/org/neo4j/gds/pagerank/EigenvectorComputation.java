@@ -49,6 +49,7 @@ public final class EigenvectorComputation<C extends EigenvectorConfig> implement
     private final LongSet sourceNodes;
     private final LongToDoubleFunction weightDenominator;
 
+    private final C config;
     private final double tolerance;
     private final double initialValue;
 
@@ -58,6 +59,7 @@ public final class EigenvectorComputation<C extends EigenvectorConfig> implement
         LongSet sourceNodes,
         LongToDoubleFunction weightDenominator
     ) {
+        this.config = config;
         this.tolerance = config.tolerance();
         this.sourceNodes = sourceNodes;
         this.hasSourceNodes = !sourceNodes.isEmpty();
@@ -181,6 +183,6 @@ public final class EigenvectorComputation<C extends EigenvectorConfig> implement
 
     @Override
     public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
-        return new PageRankMemoryEstimateDefinition();
+        return new PageRankMemoryEstimateDefinition(config);
     }
 }
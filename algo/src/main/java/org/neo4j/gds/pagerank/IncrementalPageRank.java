@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * Recomputes PageRank scores starting from the scores of a previous run,
+ * e.g. after relationships have been added to or removed from the graph.
+ * <p>
+ * The scores {@code x} computed by {@link PageRankComputation} are the solution of
+ * {@code x(v) = alpha(v) + d * sum(x(u) * w(u, v) / degree(u))}, where {@code alpha}
+ * is the initial probability and {@code d} the damping factor.
+ * Given the previous scores, the algorithm computes the residual of that equation
+ * for every node on the current graph. The residual is zero, except for nodes
+ * whose incoming relationships, or the degrees of their neighbours, have changed.
+ * Only nodes with a residual above the tolerance push it into their score and
+ * distribute it to their neighbours, until no such node remains.
+ * <p>
+ * Computing the residuals takes a full pass over all relationships.
+ * It cannot be limited to the affected nodes, because the graph only holds the current
+ * topology: the targets of removed relationships and the neighbours of nodes whose
+ * degree changed cannot be told apart from unaffected nodes without the previous
+ * relationships. The pass is a single, parallel sweep, which is cheap compared to
+ * the iterations of a full run, and the propagation that follows only visits
+ * the nodes with a residual above the tolerance.
+ * <p>
+ * The seed scores must be unscaled PageRank scores computed with the same
+ * damping factor and source nodes.
+ */
+public class IncrementalPageRank extends Algorithm<PageRankResult> {
+
+    private final Graph graph;
+    private final PageRankConfig config;
+    private final NodePropertyValues seedValues;
+    private final InitialProbabilityProvider initialProbability;
+    private final LongToDoubleFunction degreeFunction;
+    private final ExecutorService executorService;
+
+    private final double dampingFactor;
+    private final double tolerance;
+
+    public IncrementalPageRank(
+        Graph graph,
+        PageRankConfig config,
+        NodePropertyValues seedValues,
+        InitialProbabilityProvider initialProbability,
+        LongToDoubleFunction degreeFunction,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.config = config;
+        this.seedValues = seedValues;
+        this.initialProbability = initialProbability;
+        this.degreeFunction = degreeFunction;
+        this.executorService = executorService;
+        this.dampingFactor = config.dampingFactor();
+        this.tolerance = config.tolerance();
+        this.terminationFlag = terminationFlag;
+    }
+
+    public static Task progressTask(Graph graph, PageRankConfig config, String taskName) {
+        return Tasks.task(
+            taskName,
+            Tasks.leaf("Compute residuals", 2 * graph.nodeCount()),
+            Tasks.iterativeDynamic(
+                "Propagate residuals",
+                () -> List.of(Tasks.leaf("Propagate iteration", graph.nodeCount())),
+                config.maxIterations()
+            )
+        );
+    }
+
+    @Override
+    public PageRankResult compute() {
+        progressTracker.beginSubTask();
+
+        var nodeCount = graph.nodeCount();
+        var concurrency = config.concurrency();
+        var scores = HugeDoubleArray.newArray(nodeCount);
+        var residuals = HugeAtomicDoubleArray.of(nodeCount, ParallelDoublePageCreator.passThrough(concurrency));
+        var active = HugeAtomicBitSet.create(nodeCount);
+        var nextActive = HugeAtomicBitSet.create(nodeCount);
+
+        var partitions = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            Function.identity(),
+            Optional.empty()
+        );
+
+        progressTracker.beginSubTask();
+        run(partitions, partition -> () -> initialize(partition, scores, residuals));
+        run(partitions, partition -> () -> distributeScores(partition, scores, residuals));
+        run(partitions, partition -> () -> activate(partition, residuals, active));
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask();
+        int iterations = 0;
+        boolean didConverge = active.isEmpty();
+        while (!didConverge && iterations < config.maxIterations()) {
+            terminationFlag.assertRunning();
+            progressTracker.beginSubTask();
+
+            var currentActive = active;
+            var currentNextActive = nextActive;
+            run(partitions, partition -> () -> push(partition, scores, residuals, currentActive, currentNextActive));
+
+            progressTracker.endSubTask();
+            iterations++;
+
+            active.clear();
+            active = currentNextActive;
+            nextActive = currentActive;
+            didConverge = active.isEmpty();
+        }
+        progressTracker.endSubTask();
+
+        // Residuals that are still pending belong to the scores as well.
+        if (!didConverge) {
+            var pending = active;
+            run(partitions, partition -> () -> partition.consume(nodeId -> {
+                if (pending.get(nodeId)) {
+                    scores.addTo(nodeId, residuals.get(nodeId));
+                }
+            }));
+        }
+
+        PageRankAlgorithm.scaleScores(graph, scores, config, PageRankVariant.PAGE_RANK, executorService);
+
+        progressTracker.endSubTask();
+
+        return new PageRankResult(scores, iterations, didConverge);
+    }
+
+    private void run(List<Partition> partitions, Function<Partition, Runnable> taskCreator) {
+        RunWithConcurrency.builder()
+            .concurrency(config.concurrency())
+            .tasks(partitions.stream().map(taskCreator))
+            .executor(executorService)
+            .terminationFlag(terminationFlag)
+            .run();
+    }
+
+    private void initialize(Partition partition, HugeDoubleArray scores, HugeAtomicDoubleArray residuals) {
+        partition.consume(nodeId -> {
+            var alpha = initialProbability.provideInitialValue(nodeId);
+            var seed = seedValues.doubleValue(nodeId);
+            // new nodes start with their initial probability, just like in a regular run
+            var score = Double.isNaN(seed) ? alpha : seed;
+            scores.set(nodeId, score);
+            residuals.getAndAdd(nodeId, alpha - score);
+        });
+        progressTracker.logProgress(partition.nodeCount());
+    }
+
+    private void distributeScores(Partition partition, HugeDoubleArray scores, HugeAtomicDoubleArray residuals) {
+        var localGraph = graph.concurrentCopy();
+        partition.consume(nodeId -> {
+            var degree = degreeFunction.applyAsDouble(nodeId);
+            if (degree > 0) {
+                var share = dampingFactor * scores.get(nodeId) / degree;
+                localGraph.forEachRelationship(nodeId, 1.0, (source, target, weight) -> {
+                    residuals.getAndAdd(target, share * weight);
+                    return true;
+                });
+            }
+        });
+        progressTracker.logProgress(partition.nodeCount());
+    }
+
+    private void activate(Partition partition, HugeAtomicDoubleArray residuals, HugeAtomicBitSet active) {
+        partition.consume(nodeId -> {
+            if (Math.abs(residuals.get(nodeId)) > tolerance) {
+                active.set(nodeId);
+            }
+        });
+    }
+
+    private void push(
+        Partition partition,
+        HugeDoubleArray scores,
+        HugeAtomicDoubleArray residuals,
+        HugeAtomicBitSet active,
+        HugeAtomicBitSet nextActive
+    ) {
+        var localGraph = graph.concurrentCopy();
+        var endNode = partition.startNode() + partition.nodeCount();
+
+        for (long nodeId = active.nextSetBit(partition.startNode());
+             nodeId != -1 && nodeId < endNode;
+             nodeId = active.nextSetBit(nodeId + 1)) {
+            // the residual may have changed since the node has been activated
+            if (Math.abs(residuals.get(nodeId)) <= tolerance) {
+                continue;
+            }
+            var residual = residuals.getAndReplace(nodeId, 0D);
+            scores.addTo(nodeId, residual);
+
+            var degree = degreeFunction.applyAsDouble(nodeId);
+            if (degree > 0) {
+                var share = dampingFactor * residual / degree;
+                localGraph.forEachRelationship(nodeId, 1.0, (source, target, weight) -> {
+                    var delta = share * weight;
+                    var newResidual = residuals.getAndAdd(target, delta) + delta;
+                    if (Math.abs(newResidual) > tolerance) {
+                        nextActive.set(target);
+                    }
+                    return true;
+                });
+            }
+        }
+        progressTracker.logProgress(partition.nodeCount());
+    }
+}
@@ -95,7 +95,7 @@ public class PageRankAlgorithm<C extends RankConfig> extends Algorithm<PageRankR
 
         var scores = pregelResult.nodeValues().doubleProperties(PageRankComputation.PAGE_RANK);
 
-        scaleScores(scores);
+        scaleScores(graph, scores, config, mode, executorService);
 
         return new PageRankResult(
             scores,
@@ -104,7 +104,13 @@ public class PageRankAlgorithm<C extends RankConfig> extends Algorithm<PageRankR
         );
     }
 
-    private void scaleScores(HugeDoubleArray scores) {
+    static void scaleScores(
+        Graph graph,
+        HugeDoubleArray scores,
+        RankConfig config,
+        PageRankVariant mode,
+        ExecutorService executorService
+    ) {
         var scalerFactory = config.scaler();
         var concurrency = config.concurrency();
 
@@ -38,6 +38,7 @@ public final class PageRankComputation<C extends PageRankConfig> implements Preg
     private final InitialProbabilityProvider initialProbability;
     private final LongToDoubleFunction degreeFunction;
 
+    private final C config;
     private final double dampingFactor;
     private final double tolerance;
 
@@ -46,6 +47,7 @@ public final class PageRankComputation<C extends PageRankConfig> implements Preg
         InitialProbabilityProvider initialProbability,
         LongToDoubleFunction degreeFunction
     ) {
+        this.config = config;
         this.dampingFactor = config.dampingFactor();
         this.tolerance = config.tolerance();
         this.initialProbability = initialProbability;
@@ -102,6 +104,6 @@ public final class PageRankComputation<C extends PageRankConfig> implements Preg
 
     @Override
     public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
-        return new PageRankMemoryEstimateDefinition();
+        return new PageRankMemoryEstimateDefinition(config);
     }
 }
@@ -19,20 +19,60 @@
  */
 package org.neo4j.gds.pagerank;
 
-import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.Pregel;
+import org.neo4j.gds.beta.pregel.PregelConfig;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
 
 import java.util.Map;
 
 public class PageRankMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    private final PregelConfig config;
+    private final boolean isIncremental;
+
+    public PageRankMemoryEstimateDefinition(PregelConfig config) {
+        this(config, false);
+    }
+
+    /**
+     * @param isIncremental whether the scores are recomputed from seed scores by {@link IncrementalPageRank}
+     */
+    public PageRankMemoryEstimateDefinition(PregelConfig config, boolean isIncremental) {
+        this.config = config;
+        this.isIncremental = isIncremental;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
+        if (isIncremental) {
+            return incrementalMemoryEstimation();
+        }
         return Pregel.memoryEstimation(
             Map.of(PageRankComputation.PAGE_RANK, ValueType.DOUBLE),
+            config,
+            false,
             false,
             false
         );
     }
+
+    private MemoryEstimation incrementalMemoryEstimation() {
+        var builder = MemoryEstimations.builder(IncrementalPageRank.class)
+            .perNode("scores", HugeDoubleArray::memoryEstimation)
+            .perNode("residuals", HugeAtomicDoubleArray::memoryEstimation)
+            .perNode("active", HugeAtomicBitSet::memoryEstimation)
+            .perNode("next active", HugeAtomicBitSet::memoryEstimation);
+
+        if (config.hasRelationshipWeightProperty()) {
+            builder.perNode("weighted degrees", HugeDoubleArray::memoryEstimation);
+        }
+
+        return builder.build();
+    }
 }
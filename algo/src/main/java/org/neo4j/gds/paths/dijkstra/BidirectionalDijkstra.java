@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.relationships.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Computes the shortest path between a single source and a single target node
+ * by running two Dijkstra searches, one forward from the source and one backward
+ * from the target, until their frontiers meet.
+ * <p>
+ * The search alternates between the direction with the smaller queue. Whenever
+ * a relationship is scanned whose other end has a (possibly tentative) cost in the
+ * opposite search, the path via that relationship becomes a candidate. The search stops
+ * as soon as the sum of the minimum costs of both queues is at least the cost of the best
+ * candidate, at which point the candidate is a shortest path. An empty queue counts as
+ * infinite cost, as its search has already settled every node it can reach.
+ * <p>
+ * The backward search follows the inverse relationships, so the graph
+ * must either be undirected or have an inverse index.
+ */
+public final class BidirectionalDijkstra extends Algorithm<PathFindingResult> {
+    private static final long NO_RELATIONSHIP = -1;
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    private final Graph graph;
+    private final long sourceNode;
+    private final long targetNode;
+    // True, iff the algo should track relationship ids.
+    private final boolean trackRelationships;
+    // True, iff the backward search follows the inverse index.
+    private final boolean useInverseIndex;
+
+    private final DijkstraQueue forwardQueue;
+    private final DijkstraQueue backwardQueue;
+    // predecessor map of the forward search
+    private final HugeLongLongMap predecessors;
+    // relationship ids of the forward search (null, if trackRelationships is false)
+    private final HugeLongLongMap relationships;
+    // successor map of the backward search
+    private final HugeLongLongMap successors;
+    private final BitSet forwardVisited;
+    private final BitSet backwardVisited;
+
+    // cost of the best path found so far
+    private double bestCost;
+    // last node of the forward part and first node of the backward part of the best path
+    private long meetForward;
+    private long meetBackward;
+    // relationship between meetForward and meetBackward, if known
+    private long meetRelationship;
+
+    public BidirectionalDijkstra(
+        Graph graph,
+        long sourceNode,
+        long targetNode,
+        boolean trackRelationships,
+        LongFunction<DijkstraQueue> queueFactory,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        var characteristics = graph.characteristics();
+        if (!characteristics.isUndirected() && !characteristics.isInverseIndexed()) {
+            throw new IllegalArgumentException(
+                "Bidirectional Dijkstra requires an undirected graph or a graph with inverse indexed relationships."
+            );
+        }
+        this.graph = graph;
+        this.sourceNode = sourceNode;
+        this.targetNode = targetNode;
+        this.trackRelationships = trackRelationships;
+        this.useInverseIndex = !characteristics.isUndirected();
+        this.forwardQueue = queueFactory.apply(graph.nodeCount());
+        this.backwardQueue = queueFactory.apply(graph.nodeCount());
+        this.predecessors = new HugeLongLongMap();
+        this.relationships = trackRelationships ? new HugeLongLongMap() : null;
+        this.successors = new HugeLongLongMap();
+        this.forwardVisited = new BitSet();
+        this.backwardVisited = new BitSet();
+        this.bestCost = Double.POSITIVE_INFINITY;
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public PathFindingResult compute() {
+        progressTracker.beginSubTask();
+
+        forwardQueue.add(sourceNode, 0.0);
+        backwardQueue.add(targetNode, 0.0);
+
+        while ((!forwardQueue.isEmpty() || !backwardQueue.isEmpty()) && terminationFlag.running()) {
+            if (minCost(forwardQueue) + minCost(backwardQueue) >= bestCost) {
+                break;
+            }
+            if (backwardQueue.isEmpty() || (!forwardQueue.isEmpty() && forwardQueue.size() <= backwardQueue.size())) {
+                expandForward();
+            } else {
+                expandBackward();
+            }
+        }
+
+        var paths = bestCost == Double.POSITIVE_INFINITY
+            ? Stream.<PathResult>empty()
+            : Stream.of(pathResult());
+
+        return new PathFindingResult(paths, progressTracker::endSubTask);
+    }
+
+    private void expandForward() {
+        var node = forwardQueue.pop();
+        var cost = forwardQueue.cost(node);
+        forwardVisited.set(node);
+
+        // For disconnected graphs, this will not reach 100%.
+        progressTracker.logProgress(graph.degree(node));
+
+        if (hasBackwardCost(node)) {
+            updateBestPath(cost + backwardQueue.cost(node), node, node, NO_RELATIONSHIP);
+        }
+
+        var relationshipId = new MutableLong();
+        graph.forEachRelationship(
+            node,
+            1.0D,
+            (source, target, weight) -> {
+                var id = relationshipId.getAndIncrement();
+                var newCost = cost + weight;
+                if (!forwardVisited.get(target)) {
+                    updateForwardCost(source, target, id, newCost);
+                }
+                if (hasBackwardCost(target)) {
+                    updateBestPath(newCost + backwardQueue.cost(target), source, target, id);
+                }
+                return true;
+            }
+        );
+    }
+
+    private void expandBackward() {
+        var node = backwardQueue.pop();
+        var cost = backwardQueue.cost(node);
+        backwardVisited.set(node);
+
+        progressTracker.logProgress(useInverseIndex ? graph.degreeInverse(node) : graph.degree(node));
+
+        if (hasForwardCost(node)) {
+            updateBestPath(forwardQueue.cost(node) + cost, node, node, NO_RELATIONSHIP);
+        }
+
+        RelationshipWithPropertyConsumer consumer = (target, source, weight) -> {
+            var newCost = cost + weight;
+            if (!backwardVisited.get(source)) {
+                updateBackwardCost(source, target, newCost);
+            }
+            if (hasForwardCost(source)) {
+                updateBestPath(forwardQueue.cost(source) + newCost, source, target, NO_RELATIONSHIP);
+            }
+            return true;
+        };
+
+        if (useInverseIndex) {
+            graph.forEachInverseRelationship(node, 1.0D, consumer);
+        } else {
+            graph.forEachRelationship(node, 1.0D, consumer);
+        }
+    }
+
+    private static double minCost(DijkstraQueue queue) {
+        return queue.isEmpty() ? Double.POSITIVE_INFINITY : queue.minCost();
+    }
+
+    // True, iff the node has been settled or is queued by the forward search.
+    private boolean hasForwardCost(long node) {
+        return forwardVisited.get(node) || forwardQueue.containsElement(node);
+    }
+
+    // True, iff the node has been settled or is queued by the backward search.
+    private boolean hasBackwardCost(long node) {
+        return backwardVisited.get(node) || backwardQueue.containsElement(node);
+    }
+
+    private void updateForwardCost(long source, long target, long relationshipId, double newCost) {
+        if (!forwardQueue.containsElement(target) || newCost < forwardQueue.cost(target)) {
+            forwardQueue.set(target, newCost);
+            predecessors.put(target, source);
+            if (trackRelationships) {
+                relationships.put(target, relationshipId);
+            }
+        }
+    }
+
+    private void updateBackwardCost(long source, long target, double newCost) {
+        if (!backwardQueue.containsElement(source) || newCost < backwardQueue.cost(source)) {
+            backwardQueue.set(source, newCost);
+            successors.put(source, target);
+        }
+    }
+
+    private void updateBestPath(double cost, long forward, long backward, long relationshipId) {
+        if (cost < bestCost) {
+            bestCost = cost;
+            meetForward = forward;
+            meetBackward = backward;
+            meetRelationship = relationshipId;
+        }
+    }
+
+    private PathResult pathResult() {
+        var pathNodeIds = new LongArrayList();
+        var relationshipIds = new LongArrayList();
+        var costs = new DoubleArrayList();
+
+        // The forward part is backtracked from the meeting point to the source node.
+        var node = meetForward;
+        while (true) {
+            pathNodeIds.add(node);
+            costs.add(forwardQueue.cost(node));
+            if (node == sourceNode) {
+                break;
+            }
+            if (trackRelationships) {
+                relationshipIds.add(relationships.getOrDefault(node, NO_RELATIONSHIP));
+            }
+            node = predecessors.getOrDefault(node, sourceNode);
+        }
+        ArrayUtils.reverse(pathNodeIds.buffer, 0, pathNodeIds.size());
+        ArrayUtils.reverse(relationshipIds.buffer, 0, relationshipIds.size());
+        ArrayUtils.reverse(costs.buffer, 0, costs.size());
+
+        // The backward part is followed from the meeting point to the target node.
+        if (meetBackward != meetForward) {
+            pathNodeIds.add(meetBackward);
+            costs.add(bestCost - backwardQueue.cost(meetBackward));
+            if (trackRelationships) {
+                relationshipIds.add(meetRelationship != NO_RELATIONSHIP
+                    ? meetRelationship
+                    : relationshipId(meetForward, meetBackward));
+            }
+        }
+        node = meetBackward;
+        while (node != targetNode) {
+            var next = successors.getOrDefault(node, targetNode);
+            pathNodeIds.add(next);
+            costs.add(bestCost - backwardQueue.cost(next));
+            if (trackRelationships) {
+                relationshipIds.add(relationshipId(node, next));
+            }
+            node = next;
+        }
+
+        return ImmutablePathResult.builder()
+            .index(0)
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .nodeIds(pathNodeIds.toArray())
+            .relationshipIds(trackRelationships ? relationshipIds.toArray() : EMPTY_ARRAY)
+            .costs(costs.toArray())
+            .build();
+    }
+
+    /**
+     * The backward search does not know the position of a relationship in the adjacency
+     * list of its source node, so we search for the cheapest relationship between the
+     * two nodes, just like the forward search would have chosen it.
+     */
+    private long relationshipId(long source, long target) {
+        var bestWeight = new MutableDouble(Double.POSITIVE_INFINITY);
+        var bestId = new MutableLong(NO_RELATIONSHIP);
+        var relationshipId = new MutableLong();
+        graph.forEachRelationship(
+            source,
+            1.0D,
+            (s, t, weight) -> {
+                var id = relationshipId.getAndIncrement();
+                if (t == target && weight < bestWeight.doubleValue()) {
+                    bestWeight.setValue(weight);
+                    bestId.setValue(id);
+                }
+                return true;
+            }
+        );
+        return bestId.longValue();
+    }
+}
@@ -51,7 +51,7 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
 
     private long sourceNode;
     // priority queue
-    private final HugeLongPriorityQueue queue;
+    private final DijkstraQueue queue;
     // predecessor map
     private final HugeLongLongMap predecessors;
     // True, iff the algo should track relationship ids.
@@ -77,15 +77,35 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
          ProgressTracker progressTracker,
          TerminationFlag terminationFlag
      ) {
+        this(
+            graph,
+            sourceNode,
+            targets,
+            trackRelationships,
+            heuristicFunction
+                .map(fn -> DijkstraQueue.heap(minPriorityQueue(graph.nodeCount(), fn)))
+                .orElseGet(() -> DijkstraQueue.heap(graph.nodeCount())),
+            progressTracker,
+            terminationFlag
+        );
+    }
+
+    public Dijkstra(
+        Graph graph,
+        long sourceNode,
+        Targets targets,
+        boolean trackRelationships,
+        DijkstraQueue queue,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
         super(progressTracker);
         this.graph = graph;
         this.sourceNode = sourceNode;
         this.targets = targets;
         this.traversalState = CONTINUE;
         this.trackRelationships = trackRelationships;
-        this.queue = heuristicFunction
-            .map(fn -> minPriorityQueue(graph.nodeCount(), fn))
-            .orElseGet(() -> HugeLongPriorityQueue.min(graph.nodeCount()));
+        this.queue = queue;
         this.predecessors = new HugeLongLongMap();
         this.relationships = trackRelationships ? new HugeLongLongMap() : null;
         this.visited = new BitSet();
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.paths.dijkstra;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.termination.TerminationFlag;
@@ -51,6 +52,62 @@ public class DijkstraFactory {
         );
     }
 
+    /**
+     * Configure a source-target Dijkstra from the given parameters.
+     * Uses the bidirectional search if requested and bucket queues
+     * if a maximum integer weight is set.
+     */
+    public static Algorithm<PathFindingResult> sourceTarget(
+        Graph graph,
+        DijkstraSourceTargetParameters parameters,
+        boolean trackRelationships,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        var maxIntegerWeight = parameters.maxIntegerWeight();
+        if (parameters.bidirectional()) {
+            long targetNode = parameters.targetsList().get(0);
+            return maxIntegerWeight
+                .map(maxWeight -> (Algorithm<PathFindingResult>) bidirectionalWithIntegerWeights(
+                    graph,
+                    parameters.sourceNode(),
+                    targetNode,
+                    maxWeight,
+                    trackRelationships,
+                    progressTracker,
+                    terminationFlag
+                ))
+                .orElseGet(() -> bidirectional(
+                    graph,
+                    parameters.sourceNode(),
+                    targetNode,
+                    trackRelationships,
+                    progressTracker,
+                    terminationFlag
+                ));
+        }
+        if (maxIntegerWeight.isPresent()) {
+            return sourceTargetWithIntegerWeights(
+                graph,
+                parameters.sourceNode(),
+                parameters.targetsList(),
+                maxIntegerWeight.get(),
+                trackRelationships,
+                progressTracker,
+                terminationFlag
+            );
+        }
+        return sourceTarget(
+            graph,
+            parameters.sourceNode(),
+            parameters.targetsList(),
+            trackRelationships,
+            Optional.empty(),
+            progressTracker,
+            terminationFlag
+        );
+    }
+
     /**
      * Configure Dijkstra to compute all single-source shortest path.
      */
@@ -72,4 +129,77 @@ public class DijkstraFactory {
             terminationFlag
         );
     }
+
+    /**
+     * Configure Dijkstra to compute the shortest paths to the given targets
+     * using a bucket queue. All relationship weights must be integers
+     * between zero and {@code maxWeight}.
+     */
+    public static Dijkstra sourceTargetWithIntegerWeights(
+        Graph graph,
+        long originalSourceId,
+        Collection<Long> targetsList,
+        int maxWeight,
+        boolean trackRelationships,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        var targets = targetsList.stream().map(graph::toMappedNodeId).collect(Collectors.toList());
+        return new Dijkstra(
+            graph,
+            graph.toMappedNodeId(originalSourceId),
+            Targets.of(targets),
+            trackRelationships,
+            DijkstraQueue.buckets(graph.nodeCount(), maxWeight),
+            progressTracker,
+            terminationFlag
+        );
+    }
+
+    /**
+     * Configure a bidirectional Dijkstra to compute the shortest path between two nodes.
+     * The graph must be undirected or have an inverse index.
+     */
+    public static BidirectionalDijkstra bidirectional(
+        Graph graph,
+        long originalSourceId,
+        long originalTargetId,
+        boolean trackRelationships,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        return new BidirectionalDijkstra(
+            graph,
+            graph.toMappedNodeId(originalSourceId),
+            graph.toMappedNodeId(originalTargetId),
+            trackRelationships,
+            DijkstraQueue::heap,
+            progressTracker,
+            terminationFlag
+        );
+    }
+
+    /**
+     * Same as {@link #bidirectional}, but using bucket queues.
+     * All relationship weights must be integers between zero and {@code maxWeight}.
+     */
+    public static BidirectionalDijkstra bidirectionalWithIntegerWeights(
+        Graph graph,
+        long originalSourceId,
+        long originalTargetId,
+        int maxWeight,
+        boolean trackRelationships,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        return new BidirectionalDijkstra(
+            graph,
+            graph.toMappedNodeId(originalSourceId),
+            graph.toMappedNodeId(originalTargetId),
+            trackRelationships,
+            capacity -> DijkstraQueue.buckets(capacity, maxWeight),
+            progressTracker,
+            terminationFlag
+        );
+    }
 }
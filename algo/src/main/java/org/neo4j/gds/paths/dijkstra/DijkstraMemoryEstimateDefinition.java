@@ -23,6 +23,7 @@ import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
+import org.neo4j.gds.core.utils.queue.HugeLongBucketQueue;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.gds.mem.Estimate;
 
@@ -39,8 +40,12 @@ public class DijkstraMemoryEstimateDefinition implements MemoryEstimateDefinitio
         boolean trackRelationships = parameters.trackRelationships();
         boolean manyTargets = parameters.manyTargets();
 
+        if (parameters.bidirectional()) {
+            return bidirectionalMemoryEstimation(trackRelationships);
+        }
+
         var builder = MemoryEstimations.builder(Dijkstra.class)
-            .add("priority queue", HugeLongPriorityQueue.memoryEstimation())
+            .add("priority queue", queueMemoryEstimation())
             .add("reverse path", HugeLongLongMap.memoryEstimation());
         if (trackRelationships) {
             builder.add("relationship ids", HugeLongLongMap.memoryEstimation());
@@ -53,4 +58,25 @@ public class DijkstraMemoryEstimateDefinition implements MemoryEstimateDefinitio
             .build();
     }
 
+    private MemoryEstimation bidirectionalMemoryEstimation(boolean trackRelationships) {
+        var builder = MemoryEstimations.builder(BidirectionalDijkstra.class)
+            .add("forward queue", queueMemoryEstimation())
+            .add("backward queue", queueMemoryEstimation())
+            .add("predecessors", HugeLongLongMap.memoryEstimation())
+            .add("successors", HugeLongLongMap.memoryEstimation());
+        if (trackRelationships) {
+            builder.add("relationship ids", HugeLongLongMap.memoryEstimation());
+        }
+        return builder
+            .perNode("forward visited set", Estimate::sizeOfBitset)
+            .perNode("backward visited set", Estimate::sizeOfBitset)
+            .build();
+    }
+
+    private MemoryEstimation queueMemoryEstimation() {
+        return parameters.maxIntegerWeight()
+            .map(HugeLongBucketQueue::memoryEstimation)
+            .orElseGet(HugeLongPriorityQueue::memoryEstimation);
+    }
+
 }
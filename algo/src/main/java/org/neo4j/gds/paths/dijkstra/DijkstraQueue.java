@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import org.neo4j.gds.core.utils.queue.HugeLongBucketQueue;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+
+/**
+ * The priority queue used by {@link Dijkstra} and {@link BidirectionalDijkstra}.
+ * <p>
+ * By default, a binary heap is used. For graphs with small integer relationship
+ * weights, a bucket queue avoids the logarithmic cost of the heap operations.
+ */
+public interface DijkstraQueue {
+
+    void add(long element, double cost);
+
+    void set(long element, double cost);
+
+    long pop();
+
+    /**
+     * Returns the cost of the element, also after it has been popped.
+     */
+    double cost(long element);
+
+    /**
+     * Returns the smallest cost of all elements in the queue.
+     */
+    double minCost();
+
+    boolean containsElement(long element);
+
+    boolean isEmpty();
+
+    long size();
+
+    void clear();
+
+    static DijkstraQueue heap(long capacity) {
+        return heap(HugeLongPriorityQueue.min(capacity));
+    }
+
+    static DijkstraQueue heap(HugeLongPriorityQueue queue) {
+        return new DijkstraQueue() {
+            @Override
+            public void add(long element, double cost) {
+                queue.add(element, cost);
+            }
+
+            @Override
+            public void set(long element, double cost) {
+                queue.set(element, cost);
+            }
+
+            @Override
+            public long pop() {
+                return queue.pop();
+            }
+
+            @Override
+            public double cost(long element) {
+                return queue.cost(element);
+            }
+
+            @Override
+            public double minCost() {
+                return queue.cost(queue.top());
+            }
+
+            @Override
+            public boolean containsElement(long element) {
+                return queue.containsElement(element);
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return queue.isEmpty();
+            }
+
+            @Override
+            public long size() {
+                return queue.size();
+            }
+
+            @Override
+            public void clear() {
+                queue.clear();
+            }
+        };
+    }
+
+    /**
+     * Creates a bucket queue, which requires all relationship weights
+     * to be integers between {@code 0} and {@code maxWeight}.
+     */
+    static DijkstraQueue buckets(long capacity, int maxWeight) {
+        var queue = new HugeLongBucketQueue(capacity, maxWeight);
+        return new DijkstraQueue() {
+            @Override
+            public void add(long element, double cost) {
+                queue.add(element, cost);
+            }
+
+            @Override
+            public void set(long element, double cost) {
+                queue.set(element, cost);
+            }
+
+            @Override
+            public long pop() {
+                return queue.pop();
+            }
+
+            @Override
+            public double cost(long element) {
+                return queue.cost(element);
+            }
+
+            @Override
+            public double minCost() {
+                return queue.cost(queue.top());
+            }
+
+            @Override
+            public boolean containsElement(long element) {
+                return queue.containsElement(element);
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return queue.isEmpty();
+            }
+
+            @Override
+            public long size() {
+                return queue.size();
+            }
+
+            @Override
+            public void clear() {
+                queue.clear();
+            }
+        };
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.scc;
+
+import com.carrotsearch.hppc.LongArrayDeque;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.relationships.RelationshipConsumer;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+/**
+ * Parallel strongly connected components algorithm based on trimming and coloring.
+ * <p>
+ * Every round first trims the graph: nodes without incoming or without outgoing relationships
+ * from the remaining nodes form a component on their own. Trimming a node may expose more such nodes,
+ * which are trimmed by the same thread right away. Then, every remaining node is colored with the
+ * highest node id that reaches it. A node whose color is its own id is the root of a component,
+ * which consists of all nodes of the same color that can reach the root.
+ * These are collected by a backward traversal from all roots at once.
+ * <p>
+ * If the graph has an inverse index, the backward traversal and the trimming follow incoming
+ * relationships directly. Otherwise, the backward traversal pulls along outgoing relationships
+ * and only nodes without incoming relationships expose further trimmable nodes.
+ * <p>
+ * The result has the same form as the one of {@link Scc}: every node is mapped to the id of a node
+ * in its component, although not necessarily the same one.
+ */
+public class ParallelScc extends Algorithm<HugeLongArray> {
+    private static final long UNORDERED = -1L;
+
+    private final Graph graph;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+    private final boolean hasInverse;
+    private final List<Partition> partitions;
+
+    private final HugeLongArray connectedComponents;
+    // nodes that already belong to a component
+    private final HugeAtomicBitSet done;
+    // the number of relationships to and from nodes that do not yet belong to a component
+    private final HugeAtomicLongArray inDegrees;
+    private final HugeAtomicLongArray outDegrees;
+    private final HugeAtomicLongArray colors;
+    private final HugeAtomicBitSet reached;
+    private HugeAtomicBitSet frontier;
+    private HugeAtomicBitSet nextFrontier;
+
+    public ParallelScc(
+        Graph graph,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.hasInverse = graph.characteristics().isUndirected() || graph.characteristics().isInverseIndexed();
+
+        long nodeCount = graph.nodeCount();
+        this.partitions = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            Function.identity(),
+            Optional.empty()
+        );
+
+        this.connectedComponents = HugeLongArray.newArray(nodeCount);
+        this.done = HugeAtomicBitSet.create(nodeCount);
+        this.inDegrees = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        this.outDegrees = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        this.colors = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        this.reached = HugeAtomicBitSet.create(nodeCount);
+        this.frontier = HugeAtomicBitSet.create(nodeCount);
+        this.nextFrontier = HugeAtomicBitSet.create(nodeCount);
+
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public HugeLongArray compute() {
+        progressTracker.beginSubTask();
+        connectedComponents.fill(UNORDERED);
+
+        while (true) {
+            terminationFlag.assertRunning();
+            trim();
+            if (done.cardinality() == graph.nodeCount()) {
+                break;
+            }
+            propagateColors();
+            collectComponents();
+        }
+
+        progressTracker.endSubTask();
+        return connectedComponents;
+    }
+
+    private void trim() {
+        inDegrees.setAll(0);
+        outDegrees.setAll(0);
+        forEachNode(localGraph -> nodeId -> {
+            if (done.get(nodeId)) {
+                return;
+            }
+            localGraph.forEachRelationship(nodeId, (source, target) -> {
+                if (source != target && !done.get(target)) {
+                    outDegrees.getAndAdd(source, 1);
+                    inDegrees.getAndAdd(target, 1);
+                }
+                return true;
+            });
+        });
+
+        forEachNode(localGraph -> {
+            var trimmed = new LongArrayDeque();
+            return nodeId -> {
+                if ((inDegrees.get(nodeId) == 0 || outDegrees.get(nodeId) == 0) && !done.getAndSet(nodeId)) {
+                    connectedComponents.set(nodeId, nodeId);
+                    trimmed.addLast(nodeId);
+                    trimFrom(localGraph, trimmed);
+                }
+            };
+        });
+    }
+
+    /**
+     * Trims the neighbours of the given nodes that are left without incoming or outgoing relationships.
+     */
+    private void trimFrom(Graph localGraph, LongArrayDeque trimmed) {
+        long trimmedCount = 0;
+        RelationshipConsumer trimTarget = (source, target) -> {
+            if (source != target && !done.get(target) && inDegrees.getAndAdd(target, -1) == 1 && !done.getAndSet(target)) {
+                connectedComponents.set(target, target);
+                trimmed.addLast(target);
+            }
+            return true;
+        };
+        RelationshipConsumer trimSource = (node, source) -> {
+            if (source != node && !done.get(source) && outDegrees.getAndAdd(source, -1) == 1 && !done.getAndSet(source)) {
+                connectedComponents.set(source, source);
+                trimmed.addLast(source);
+            }
+            return true;
+        };
+
+        while (!trimmed.isEmpty()) {
+            long nodeId = trimmed.removeLast();
+            localGraph.forEachRelationship(nodeId, trimTarget);
+            if (hasInverse) {
+                forEachInverseRelationship(localGraph, nodeId, trimSource);
+            }
+            trimmedCount++;
+        }
+        progressTracker.logProgress(trimmedCount);
+    }
+
+    /**
+     * Colors every remaining node with the highest id of the remaining nodes that reach it.
+     */
+    private void propagateColors() {
+        frontier.clear();
+        forEachNode(localGraph -> nodeId -> {
+            if (!done.get(nodeId)) {
+                colors.set(nodeId, nodeId);
+                frontier.set(nodeId);
+            }
+        });
+
+        while (!frontier.isEmpty()) {
+            terminationFlag.assertRunning();
+            nextFrontier.clear();
+            forEachNodeIn(frontier, localGraph -> nodeId -> {
+                long color = colors.get(nodeId);
+                localGraph.forEachRelationship(nodeId, (source, target) -> {
+                    if (!done.get(target) && raiseColor(target, color)) {
+                        nextFrontier.set(target);
+                    }
+                    return true;
+                });
+            });
+            swapFrontiers();
+        }
+    }
+
+    private boolean raiseColor(long nodeId, long color) {
+        while (true) {
+            long current = colors.get(nodeId);
+            if (current >= color) {
+                return false;
+            }
+            if (colors.compareAndSet(nodeId, current, color)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Collects the nodes that reach the root of their color, these form the component of the root.
+     */
+    private void collectComponents() {
+        reached.clear();
+        frontier.clear();
+        forEachNode(localGraph -> nodeId -> {
+            if (!done.get(nodeId) && colors.get(nodeId) == nodeId) {
+                reached.set(nodeId);
+                frontier.set(nodeId);
+            }
+        });
+
+        if (hasInverse) {
+            while (!frontier.isEmpty()) {
+                terminationFlag.assertRunning();
+                nextFrontier.clear();
+                forEachNodeIn(frontier, localGraph -> nodeId -> {
+                    long color = colors.get(nodeId);
+                    forEachInverseRelationship(localGraph, nodeId, (node, source) -> {
+                        if (!done.get(source) && colors.get(source) == color && !reached.getAndSet(source)) {
+                            nextFrontier.set(source);
+                        }
+                        return true;
+                    });
+                });
+                swapFrontiers();
+            }
+        } else {
+            var changed = new AtomicBoolean(true);
+            while (changed.get()) {
+                terminationFlag.assertRunning();
+                changed.set(false);
+                forEachNode(localGraph -> nodeId -> {
+                    if (done.get(nodeId) || reached.get(nodeId)) {
+                        return;
+                    }
+                    long color = colors.get(nodeId);
+                    localGraph.forEachRelationship(nodeId, (source, target) -> {
+                        if (reached.get(target) && colors.get(target) == color) {
+                            reached.set(source);
+                            changed.set(true);
+                            return false;
+                        }
+                        return true;
+                    });
+                });
+            }
+        }
+
+        forEachNodeIn(reached, localGraph -> nodeId -> {
+            connectedComponents.set(nodeId, colors.get(nodeId));
+            done.set(nodeId);
+            progressTracker.logProgress();
+        });
+    }
+
+    private void forEachInverseRelationship(Graph localGraph, long nodeId, RelationshipConsumer consumer) {
+        if (graph.characteristics().isUndirected()) {
+            localGraph.forEachRelationship(nodeId, consumer);
+        } else {
+            localGraph.forEachInverseRelationship(nodeId, consumer);
+        }
+    }
+
+    private void swapFrontiers() {
+        var swap = frontier;
+        frontier = nextFrontier;
+        nextFrontier = swap;
+    }
+
+    private void forEachNode(Function<Graph, LongConsumer> action) {
+        run(partitions.stream()
+            .map(partition -> (Runnable) () -> partition.consume(action.apply(graph.concurrentCopy())))
+            .toList());
+    }
+
+    private void forEachNodeIn(HugeAtomicBitSet nodes, Function<Graph, LongConsumer> action) {
+        run(partitions.stream().map(partition -> (Runnable) () -> {
+            var nodeAction = action.apply(graph.concurrentCopy());
+            long end = partition.startNode() + partition.nodeCount();
+            for (long nodeId = nodes.nextSetBit(partition.startNode());
+                 nodeId != -1 && nodeId < end;
+                 nodeId = nodes.nextSetBit(nodeId + 1)) {
+                nodeAction.accept(nodeId);
+            }
+        }).toList());
+    }
+
+    private void run(List<? extends Runnable> tasks) {
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+}
@@ -19,6 +19,9 @@
  */
 package org.neo4j.gds.scc;
 
+import com.carrotsearch.hppc.LongArrayDeque;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.mem.MemoryEstimation;
@@ -30,8 +33,38 @@ import org.neo4j.gds.mem.Estimate;
 
 public class SccMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
+    private final SccMethod method;
+
+    public SccMemoryEstimateDefinition() {
+        this(SccMethod.TARJAN);
+    }
+
+    public SccMemoryEstimateDefinition(SccMethod method) {
+        this.method = method;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
+        if (method == SccMethod.COLORING) {
+            return parallelScc();
+        }
+        return scc();
+    }
+
+    private static MemoryEstimation parallelScc() {
+        return MemoryEstimations.builder(ParallelScc.class)
+            .perNode("connectedComponents", HugeLongArray::memoryEstimation)
+            .perNode("inDegrees", HugeAtomicLongArray::memoryEstimation)
+            .perNode("outDegrees", HugeAtomicLongArray::memoryEstimation)
+            .perNode("colors", HugeAtomicLongArray::memoryEstimation)
+            .perNode("done", HugeAtomicBitSet::memoryEstimation)
+            .perNode("reached", HugeAtomicBitSet::memoryEstimation)
+            .perNode("frontiers", nodeCount -> 2 * HugeAtomicBitSet.memoryEstimation(nodeCount))
+            .perThread("trimmed", Estimate.sizeOfInstance(LongArrayDeque.class))
+            .build();
+    }
+
+    private static MemoryEstimation scc() {
         var builder = MemoryEstimations.builder(Scc.class);
         builder
             .perNode("index", HugeLongArray::memoryEstimation)
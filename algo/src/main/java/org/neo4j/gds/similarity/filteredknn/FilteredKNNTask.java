@@ -21,7 +21,9 @@ package org.neo4j.gds.similarity.filteredknn;
 
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.similarity.knn.KnnSampler;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.FilteredKNN;
@@ -29,18 +31,20 @@ import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.Fil
 public final class FilteredKNNTask {
 
     public static Task create(long nodeCount, FilteredKnnParameters parameters) {
-        return Tasks.task(
-            FilteredKNN.asString(),
-            Tasks.leaf("Initialize random neighbors", nodeCount),
-            Tasks.iterativeDynamic(
-                "Iteration",
-                () -> List.of(
-                    Tasks.leaf("Split old and new neighbors", nodeCount),
-                    Tasks.leaf("Reverse old and new neighbors", nodeCount),
-                    Tasks.leaf("Join neighbors", nodeCount)
-                ),
-                parameters.knnParameters().maxIterations()
-            )
-        );
+        var subTasks = new ArrayList<Task>();
+        if (parameters.knnParameters().samplerType() == KnnSampler.SamplerType.HNSW) {
+            subTasks.add(Tasks.leaf("Prepare HNSW index"));
+        }
+        subTasks.add(Tasks.leaf("Initialize random neighbors", nodeCount));
+        subTasks.add(Tasks.iterativeDynamic(
+            "Iteration",
+            () -> List.of(
+                Tasks.leaf("Split old and new neighbors", nodeCount),
+                Tasks.leaf("Reverse old and new neighbors", nodeCount),
+                Tasks.leaf("Join neighbors", nodeCount)
+            ),
+            parameters.knnParameters().maxIterations()
+        ));
+        return Tasks.task(FilteredKNN.asString(), subTasks);
     }
 }
@@ -0,0 +1,813 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.similarity.knn.metrics.Cosine;
+import org.neo4j.gds.similarity.knn.metrics.Euclidean;
+import org.neo4j.gds.similarity.knn.metrics.Pearson;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.ToDoubleBiFunction;
+
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+import static org.neo4j.gds.mem.Estimate.sizeOfFloatArray;
+import static org.neo4j.gds.mem.Estimate.sizeOfLongArray;
+import static org.neo4j.gds.mem.Estimate.sizeOfObjectArray;
+import static org.neo4j.gds.mem.Estimate.sizeOfObjectArrayElements;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * An approximate nearest neighbour index over a float or double array node property,
+ * based on Hierarchical Navigable Small World graphs [1].
+ * <p>
+ * Every node is assigned to a random number of layers, with exponentially fewer nodes on higher layers.
+ * On each layer a node is linked to its most similar neighbours, pruned so that the links point into
+ * different directions. A query descends greedily from the top layer and runs a beam search on the bottom layer,
+ * which touches a logarithmic number of nodes instead of all of them.
+ * <p>
+ * The index is built in parallel. Neighbour lists are replaced copy-on-write under the lock of their node,
+ * so queries never block and may run concurrently to insertions.
+ * Double vectors are compared with float precision.
+ * <p>
+ * {@link #of(GraphStore, String, SimilarityMetric, HnswParameters, Concurrency)} keeps one index per property
+ * and metric alongside a graph store. When the property has been replaced since the last call, e.g. by a mutate step,
+ * only the nodes whose vectors have changed are reconnected.
+ * <p>
+ * [1]: <a href="https://arxiv.org/abs/1603.09320">Malkov and Yashunin, Efficient and robust approximate nearest neighbor search using Hierarchical Navigable Small World graphs</a>
+ */
+public final class HnswIndex {
+
+    public record Neighbor(long nodeId, double similarity) {}
+
+    private static final long NONE = -1L;
+    private static final int MAX_LEVEL = 16;
+    private static final long[] NO_LINKS = new long[0];
+    private static final int TERMINATION_CHECK_INTERVAL = 1 << 10;
+    private static final int MIN_BATCH_SIZE = 256;
+
+    // Indexes must not keep their graph store alive, so they never reference it.
+    private static final Map<GraphStore, Map<String, AttachedIndex>> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final long nodeCount;
+    private final SimilarityMetric metric;
+    private final ToDoubleBiFunction<float[], float[]> similarityFunction;
+    private final HnswParameters parameters;
+    private final double levelMultiplier;
+    private final HugeObjectArray<float[]> vectors;
+    private final HugeObjectArray<long[][]> links;
+    private final Object entryPointLock;
+
+    private volatile long entryPoint;
+    private volatile int maxLevel;
+
+    private HnswIndex(long nodeCount, SimilarityMetric metric, HnswParameters parameters) {
+        this.nodeCount = nodeCount;
+        this.metric = metric;
+        this.similarityFunction = metricFunction(metric);
+        this.parameters = parameters;
+        this.levelMultiplier = 1.0 / Math.log(parameters.maxConnections());
+        this.vectors = HugeObjectArray.newArray(float[].class, nodeCount);
+        this.links = HugeObjectArray.newArray(long[][].class, nodeCount);
+        this.entryPointLock = new Object();
+        this.entryPoint = NONE;
+        this.maxLevel = -1;
+    }
+
+    public static HnswIndex build(
+        NodePropertyValues values,
+        SimilarityMetric metric,
+        HnswParameters parameters,
+        Concurrency concurrency,
+        ExecutorService executor,
+        TerminationFlag terminationFlag
+    ) {
+        return build(values, metric, parameters, concurrency, executor, ProgressTracker.NULL_TRACKER, terminationFlag);
+    }
+
+    public static HnswIndex build(
+        NodePropertyValues values,
+        SimilarityMetric metric,
+        HnswParameters parameters,
+        Concurrency concurrency,
+        ExecutorService executor,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        validateValueType(values);
+        var index = new HnswIndex(values.nodeCount(), resolveMetric(metric, values), parameters);
+        index.insertAll(values, concurrency, executor, progressTracker, terminationFlag);
+        return index;
+    }
+
+    /**
+     * Returns the index for the given property and metric that is attached to the graph store,
+     * after reconnecting the nodes whose vectors have changed since the last call.
+     * The index is built on the first call and lives as long as the graph store.
+     * The parameters are only used for building.
+     */
+    public static HnswIndex of(
+        GraphStore graphStore,
+        String propertyKey,
+        SimilarityMetric metric,
+        HnswParameters parameters,
+        Concurrency concurrency
+    ) {
+        return of(
+            graphStore,
+            propertyKey,
+            metric,
+            parameters,
+            concurrency,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+    }
+
+    public static HnswIndex of(
+        GraphStore graphStore,
+        String propertyKey,
+        SimilarityMetric metric,
+        HnswParameters parameters,
+        Concurrency concurrency,
+        ExecutorService executor,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        if (!graphStore.hasNodeProperty(propertyKey)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The graph store does not contain the node property `%s`.",
+                propertyKey
+            ));
+        }
+        var values = graphStore.nodeProperty(propertyKey).values();
+        validateValueType(values);
+        var resolvedMetric = resolveMetric(metric, values);
+        var indexes = INDEXES.computeIfAbsent(graphStore, store -> new ConcurrentHashMap<>());
+        var attached = indexes.computeIfAbsent(
+            indexKey(propertyKey, resolvedMetric),
+            key -> new AttachedIndex(
+                build(values, resolvedMetric, parameters, concurrency, executor, progressTracker, terminationFlag),
+                values
+            )
+        );
+        return attached.refresh(values, concurrency, executor, progressTracker, terminationFlag);
+    }
+
+    /**
+     * Returns the index for the given property and metric that is attached to the graph store, if it has been built.
+     * The index is returned as is, even if the property has been replaced since it was last refreshed.
+     */
+    public static Optional<HnswIndex> attached(GraphStore graphStore, String propertyKey, SimilarityMetric metric) {
+        var indexes = INDEXES.get(graphStore);
+        if (indexes == null || !graphStore.hasNodeProperty(propertyKey)) {
+            return Optional.empty();
+        }
+        var resolvedMetric = resolveMetric(metric, graphStore.nodeProperty(propertyKey).values());
+        return Optional.ofNullable(indexes.get(indexKey(propertyKey, resolvedMetric))).map(attachedIndex -> attachedIndex.index);
+    }
+
+    public static void detach(GraphStore graphStore) {
+        INDEXES.remove(graphStore);
+    }
+
+    /**
+     * Estimates the vectors and neighbour lists of an index over {@code nodeCount} vectors of the given dimension.
+     * A node is linked on layer {@code l} with probability {@code maxConnections^-l},
+     * so on average it has neighbour lists for {@code 1 / (maxConnections - 1)} layers above the bottom layer.
+     */
+    public static long memoryEstimation(long nodeCount, int dimension, int maxConnections) {
+        long vectors = HugeObjectArray.memoryEstimation(nodeCount, sizeOfFloatArray(dimension));
+        long bottomLayer = sizeOfObjectArray(1) + sizeOfLongArray(2L * maxConnections);
+        long upperLayers = ceilDiv(
+            sizeOfObjectArrayElements(1) + sizeOfLongArray(maxConnections),
+            maxConnections - 1
+        );
+        long links = HugeObjectArray.memoryEstimation(nodeCount, bottomLayer + upperLayers);
+        return vectors + links;
+    }
+
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    public SimilarityMetric metric() {
+        return metric;
+    }
+
+    /**
+     * Finds the {@code k} indexed nodes most similar to the given vector, ordered by descending similarity.
+     *
+     * @param ef the number of candidates kept during the search, higher values trade speed for recall
+     */
+    public List<Neighbor> search(float[] query, int k, int ef) {
+        return search(query, k, ef, NONE);
+    }
+
+    public List<Neighbor> search(double[] query, int k, int ef) {
+        var floats = new float[query.length];
+        for (int i = 0; i < query.length; i++) {
+            floats[i] = (float) query[i];
+        }
+        return search(floats, k, ef, NONE);
+    }
+
+    /**
+     * Finds the {@code k} nodes most similar to the given node, excluding the node itself.
+     * Returns no neighbours if the node has no vector.
+     */
+    public List<Neighbor> searchNode(long nodeId, int k, int ef) {
+        var vector = vectors.get(nodeId);
+        if (vector == null) {
+            return List.of();
+        }
+        return search(vector, k, ef, nodeId);
+    }
+
+    /**
+     * Reconnects all nodes whose vectors differ from the given values.
+     * Nodes that link to a changed node reselect their neighbours among their two-hop neighbourhood,
+     * so links to vectors that moved away or were removed are replaced by nearby nodes.
+     * Falls back to rebuilding the index if the vector of the entry point has been removed.
+     *
+     * @return the number of changed nodes
+     */
+    public long update(
+        NodePropertyValues values,
+        Concurrency concurrency,
+        ExecutorService executor,
+        TerminationFlag terminationFlag
+    ) {
+        return update(values, concurrency, executor, ProgressTracker.NULL_TRACKER, terminationFlag);
+    }
+
+    /**
+     * Like {@link #update(NodePropertyValues, Concurrency, ExecutorService, TerminationFlag)},
+     * logging the progress of reconnecting the nodes.
+     */
+    public long update(
+        NodePropertyValues values,
+        Concurrency concurrency,
+        ExecutorService executor,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        validateValueType(values);
+        if (values.nodeCount() != nodeCount) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The index has been built for %d nodes, but the property contains %d nodes.",
+                nodeCount,
+                values.nodeCount()
+            ));
+        }
+
+        var changed = HugeAtomicBitSet.create(nodeCount);
+        runInParallel(concurrency, executor, ProgressTracker.NULL_TRACKER, terminationFlag, (node, searcher) -> {
+            if (!Arrays.equals(vectors.get(node), vector(values, node))) {
+                changed.set(node);
+            }
+        });
+        long changedCount = changed.cardinality();
+        if (changedCount == 0) {
+            return 0;
+        }
+
+        long currentEntryPoint = entryPoint;
+        if (currentEntryPoint == NONE || vector(values, currentEntryPoint) == null) {
+            vectors.fill(null);
+            links.fill(null);
+            entryPoint = NONE;
+            maxLevel = -1;
+            insertAll(values, concurrency, executor, progressTracker, terminationFlag);
+            return changedCount;
+        }
+
+        progressTracker.setVolume(nodeCount);
+        runInParallel(concurrency, executor, progressTracker, terminationFlag, (node, searcher) -> {
+            if (!changed.get(node)) {
+                return;
+            }
+            var vector = vector(values, node);
+            vectors.set(node, vector);
+            if (vector == null) {
+                // searches skip nodes without a vector, so the node is neither visited nor returned
+                return;
+            }
+            var nodeLinks = links.get(node);
+            if (nodeLinks == null) {
+                insert(node, vector, searcher);
+            } else {
+                connect(node, vector, nodeLinks.length - 1, searcher);
+            }
+        });
+
+        runInParallel(concurrency, executor, ProgressTracker.NULL_TRACKER, terminationFlag, (node, searcher) -> {
+            var nodeLinks = links.get(node);
+            var vector = vectors.get(node);
+            if (nodeLinks == null || vector == null) {
+                return;
+            }
+            for (int layer = 0; layer < nodeLinks.length; layer++) {
+                if (linksToAny(node, layer, changed)) {
+                    reselectLinks(node, vector, layer);
+                }
+            }
+        });
+        return changedCount;
+    }
+
+    private void insertAll(
+        NodePropertyValues values,
+        Concurrency concurrency,
+        ExecutorService executor,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        progressTracker.setVolume(nodeCount);
+        runInParallel(concurrency, executor, progressTracker, terminationFlag, (node, searcher) -> {
+            var vector = vector(values, node);
+            if (vector != null) {
+                vectors.set(node, vector);
+                insert(node, vector, searcher);
+            }
+        });
+    }
+
+    private void insert(long node, float[] vector, Searcher searcher) {
+        int level = randomLevel(node);
+        var nodeLinks = new long[level + 1][];
+        Arrays.fill(nodeLinks, NO_LINKS);
+        links.set(node, nodeLinks);
+
+        int topLevel;
+        synchronized (entryPointLock) {
+            if (entryPoint == NONE) {
+                maxLevel = level;
+                entryPoint = node;
+                return;
+            }
+            topLevel = maxLevel;
+        }
+
+        connect(node, vector, level, searcher);
+
+        if (level > topLevel) {
+            synchronized (entryPointLock) {
+                if (level > maxLevel) {
+                    maxLevel = level;
+                    entryPoint = node;
+                }
+            }
+        }
+    }
+
+    private void connect(long node, float[] vector, int level, Searcher searcher) {
+        long current;
+        int topLevel;
+        synchronized (entryPointLock) {
+            current = entryPoint;
+            topLevel = maxLevel;
+        }
+
+        current = descend(vector, current, topLevel, level);
+        for (int layer = Math.min(level, topLevel); layer >= 0; layer--) {
+            searcher.searchLayer(vector, current, layer, parameters.efConstruction(), node);
+            if (searcher.resultCount() == 0) {
+                continue;
+            }
+            var selected = selectNeighbors(
+                searcher.resultNodes(),
+                searcher.resultScores(),
+                searcher.resultCount(),
+                maxConnections(layer)
+            );
+            setLinks(node, layer, selected);
+            for (long neighbor : selected) {
+                addLink(neighbor, node, layer);
+            }
+            current = searcher.resultNodes()[0];
+        }
+    }
+
+    private List<Neighbor> search(float[] query, int k, int ef, long excluded) {
+        long currentEntryPoint = entryPoint;
+        if (currentEntryPoint == NONE || k < 1) {
+            return List.of();
+        }
+
+        var searcher = new Searcher(Math.max(ef, k));
+        long current = descend(query, currentEntryPoint, maxLevel, 0);
+        searcher.searchLayer(query, current, 0, Math.max(ef, k), excluded);
+
+        int count = Math.min(k, searcher.resultCount());
+        var neighbors = new ArrayList<Neighbor>(count);
+        for (int i = 0; i < count; i++) {
+            neighbors.add(new Neighbor(searcher.resultNodes()[i], searcher.resultScores()[i]));
+        }
+        return neighbors;
+    }
+
+    /**
+     * Greedily moves to the most similar neighbour on each layer above the target layer.
+     */
+    private long descend(float[] query, long start, int fromLayer, int toLayer) {
+        long current = start;
+        double currentSimilarity = similarity(query, current);
+        for (int layer = fromLayer; layer > toLayer; layer--) {
+            boolean improved = true;
+            while (improved) {
+                improved = false;
+                for (long neighbor : links(current, layer)) {
+                    double neighborSimilarity = similarity(query, neighbor);
+                    if (neighborSimilarity > currentSimilarity) {
+                        current = neighbor;
+                        currentSimilarity = neighborSimilarity;
+                        improved = true;
+                    }
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Picks up to {@code maxConnections} of the candidates, which must be ordered by descending similarity.
+     * A candidate is skipped if it is more similar to an already selected neighbour than to the base node,
+     * as it can be reached via that neighbour. Skipped candidates fill up the remaining slots.
+     */
+    private long[] selectNeighbors(long[] candidates, double[] scores, int candidateCount, int maxConnections) {
+        if (candidateCount <= maxConnections) {
+            return Arrays.copyOf(candidates, candidateCount);
+        }
+
+        var selected = new LongArrayList(maxConnections);
+        var skipped = new LongArrayList();
+        for (int i = 0; i < candidateCount && selected.size() < maxConnections; i++) {
+            var candidateVector = vectors.get(candidates[i]);
+            boolean diverse = candidateVector != null;
+            for (int j = 0; diverse && j < selected.size(); j++) {
+                var selectedVector = vectors.get(selected.get(j));
+                diverse = selectedVector == null || similarityFunction.applyAsDouble(candidateVector, selectedVector) <= scores[i];
+            }
+            if (diverse) {
+                selected.add(candidates[i]);
+            } else {
+                skipped.add(candidates[i]);
+            }
+        }
+        for (int i = 0; i < skipped.size() && selected.size() < maxConnections; i++) {
+            selected.add(skipped.get(i));
+        }
+        return selected.toArray();
+    }
+
+    private void setLinks(long node, int layer, long[] neighbors) {
+        var nodeLinks = links.get(node);
+        synchronized (nodeLinks) {
+            nodeLinks[layer] = neighbors;
+        }
+    }
+
+    private void addLink(long node, long neighbor, int layer) {
+        var nodeLinks = links.get(node);
+        if (nodeLinks == null || layer >= nodeLinks.length) {
+            return;
+        }
+        synchronized (nodeLinks) {
+            var current = nodeLinks[layer];
+            for (long existing : current) {
+                if (existing == neighbor) {
+                    return;
+                }
+            }
+
+            int maxConnections = maxConnections(layer);
+            if (current.length < maxConnections) {
+                var extended = Arrays.copyOf(current, current.length + 1);
+                extended[current.length] = neighbor;
+                nodeLinks[layer] = extended;
+                return;
+            }
+
+            var vector = vectors.get(node);
+            if (vector == null) {
+                return;
+            }
+            var candidates = Arrays.copyOf(current, current.length + 1);
+            candidates[current.length] = neighbor;
+            var scores = new double[candidates.length];
+            for (int i = 0; i < candidates.length; i++) {
+                scores[i] = similarity(vector, candidates[i]);
+            }
+            sortDescending(candidates, scores);
+            nodeLinks[layer] = selectNeighbors(candidates, scores, candidates.length, maxConnections);
+        }
+    }
+
+    private boolean linksToAny(long node, int layer, HugeAtomicBitSet nodes) {
+        for (long neighbor : links(node, layer)) {
+            if (nodes.get(neighbor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Replaces the links of the node on the given layer by the best of its neighbours and their neighbours.
+     */
+    private void reselectLinks(long node, float[] vector, int layer) {
+        var candidateSet = new LongHashSet();
+        for (long neighbor : links(node, layer)) {
+            candidateSet.add(neighbor);
+            candidateSet.addAll(links(neighbor, layer));
+        }
+        candidateSet.remove(node);
+
+        var candidates = new long[candidateSet.size()];
+        var scores = new double[candidates.length];
+        int candidateCount = 0;
+        for (var cursor : candidateSet) {
+            var candidateVector = vectors.get(cursor.value);
+            if (candidateVector != null) {
+                candidates[candidateCount] = cursor.value;
+                scores[candidateCount] = similarityFunction.applyAsDouble(vector, candidateVector);
+                candidateCount++;
+            }
+        }
+        candidates = Arrays.copyOf(candidates, candidateCount);
+        scores = Arrays.copyOf(scores, candidateCount);
+        sortDescending(candidates, scores);
+
+        setLinks(node, layer, selectNeighbors(candidates, scores, candidateCount, maxConnections(layer)));
+    }
+
+    private long[] links(long node, int layer) {
+        var nodeLinks = links.get(node);
+        if (nodeLinks == null || layer >= nodeLinks.length || nodeLinks[layer] == null) {
+            return NO_LINKS;
+        }
+        return nodeLinks[layer];
+    }
+
+    private double similarity(float[] query, long node) {
+        var vector = vectors.get(node);
+        return vector == null ? Double.NEGATIVE_INFINITY : similarityFunction.applyAsDouble(query, vector);
+    }
+
+    private int maxConnections(int layer) {
+        return layer == 0 ? 2 * parameters.maxConnections() : parameters.maxConnections();
+    }
+
+    private int randomLevel(long node) {
+        // (0, 1], derived from the node id so that levels do not depend on the insertion order
+        double uniform = ((mix(parameters.randomSeed() + node * 0x9E3779B97F4A7C15L) >>> 11) + 1) * 0x1.0p-53;
+        return (int) Math.min(MAX_LEVEL, -Math.log(uniform) * levelMultiplier);
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    private static void sortDescending(long[] nodes, double[] scores) {
+        for (int i = 1; i < nodes.length; i++) {
+            long node = nodes[i];
+            double score = scores[i];
+            int j = i - 1;
+            for (; j >= 0 && scores[j] < score; j--) {
+                nodes[j + 1] = nodes[j];
+                scores[j + 1] = scores[j];
+            }
+            nodes[j + 1] = node;
+            scores[j + 1] = score;
+        }
+    }
+
+    private static float[] vector(NodePropertyValues values, long node) {
+        var vector = values.floatArrayValue(node);
+        return vector == null || vector.length == 0 ? null : vector;
+    }
+
+    private static String indexKey(String propertyKey, SimilarityMetric metric) {
+        return propertyKey + "|" + metric.name();
+    }
+
+    private static SimilarityMetric resolveMetric(SimilarityMetric metric, NodePropertyValues values) {
+        return metric == SimilarityMetric.DEFAULT
+            ? SimilarityMetric.defaultMetricForType(values.valueType())
+            : metric;
+    }
+
+    private static void validateValueType(NodePropertyValues values) {
+        var valueType = values.valueType();
+        if (valueType != ValueType.FLOAT_ARRAY && valueType != ValueType.DOUBLE_ARRAY) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The HNSW index requires a float or double array property, but got %s.",
+                valueType
+            ));
+        }
+    }
+
+    private static ToDoubleBiFunction<float[], float[]> metricFunction(SimilarityMetric metric) {
+        return switch (metric) {
+            case COSINE -> Cosine::floatMetric;
+            case EUCLIDEAN -> Euclidean::floatMetric;
+            case PEARSON -> Pearson::floatMetric;
+            default -> throw new IllegalArgumentException(formatWithLocale(
+                "The HNSW index does not support the %s similarity metric.",
+                metric
+            ));
+        };
+    }
+
+    private void runInParallel(
+        Concurrency concurrency,
+        ExecutorService executor,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag,
+        NodeTask task
+    ) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> {
+                var searcher = new Searcher(parameters.efConstruction());
+                long end = partition.startNode() + partition.nodeCount();
+                for (long node = partition.startNode(); node < end; node++) {
+                    if ((node & (TERMINATION_CHECK_INTERVAL - 1)) == 0) {
+                        terminationFlag.assertRunning();
+                    }
+                    task.run(node, searcher);
+                }
+                progressTracker.logProgress(partition.nodeCount());
+            },
+            Optional.of(MIN_BATCH_SIZE)
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executor)
+            .run();
+    }
+
+    @FunctionalInterface
+    private interface NodeTask {
+        void run(long node, Searcher searcher);
+    }
+
+    /**
+     * The reusable state of a beam search on a single layer.
+     */
+    private final class Searcher {
+        private final LongHashSet visited;
+        private final ScoredNodeHeap candidates;
+        private final ScoredNodeHeap results;
+        private long[] resultNodes;
+        private double[] resultScores;
+        private int resultCount;
+
+        Searcher(int ef) {
+            this.visited = new LongHashSet();
+            this.candidates = new ScoredNodeHeap(ef, true);
+            this.results = new ScoredNodeHeap(ef, false);
+            this.resultNodes = new long[ef];
+            this.resultScores = new double[ef];
+        }
+
+        /**
+         * Collects the {@code ef} nodes most similar to the query that are reachable from the entry node,
+         * ordered by descending similarity.
+         */
+        void searchLayer(float[] query, long entry, int layer, int ef, long excluded) {
+            visited.clear();
+            candidates.clear();
+            results.clear();
+
+            double entrySimilarity = similarity(query, entry);
+            visited.add(entry);
+            candidates.push(entry, entrySimilarity);
+            if (entry != excluded && vectors.get(entry) != null) {
+                results.push(entry, entrySimilarity);
+            }
+
+            while (!candidates.isEmpty()) {
+                if (results.size() >= ef && candidates.topScore() < results.topScore()) {
+                    break;
+                }
+                long candidate = candidates.topNode();
+                candidates.pop();
+
+                for (long neighbor : links(candidate, layer)) {
+                    if (!visited.add(neighbor)) {
+                        continue;
+                    }
+                    var vector = vectors.get(neighbor);
+                    if (vector == null) {
+                        continue;
+                    }
+                    double neighborSimilarity = similarityFunction.applyAsDouble(query, vector);
+                    if (results.size() < ef || neighborSimilarity > results.topScore()) {
+                        candidates.push(neighbor, neighborSimilarity);
+                        if (neighbor != excluded) {
+                            results.push(neighbor, neighborSimilarity);
+                            if (results.size() > ef) {
+                                results.pop();
+                            }
+                        }
+                    }
+                }
+            }
+
+            resultCount = results.size();
+            if (resultNodes.length < resultCount) {
+                resultNodes = new long[resultCount];
+                resultScores = new double[resultCount];
+            }
+            for (int i = resultCount - 1; i >= 0; i--) {
+                resultNodes[i] = results.topNode();
+                resultScores[i] = results.topScore();
+                results.pop();
+            }
+        }
+
+        long[] resultNodes() {
+            return resultNodes;
+        }
+
+        double[] resultScores() {
+            return resultScores;
+        }
+
+        int resultCount() {
+            return resultCount;
+        }
+    }
+
+    private static final class AttachedIndex {
+        private final HnswIndex index;
+        private WeakReference<NodePropertyValues> source;
+
+        AttachedIndex(HnswIndex index, NodePropertyValues source) {
+            this.index = index;
+            this.source = new WeakReference<>(source);
+        }
+
+        synchronized HnswIndex refresh(
+            NodePropertyValues values,
+            Concurrency concurrency,
+            ExecutorService executor,
+            ProgressTracker progressTracker,
+            TerminationFlag terminationFlag
+        ) {
+            if (source.get() != values) {
+                index.update(values, concurrency, executor, progressTracker, terminationFlag);
+                source = new WeakReference<>(values);
+            }
+            return index;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.mem.MemoryEstimateDefinition;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+
+/**
+ * Estimates building the index on the first search.
+ * Later searches reuse the index attached to the graph store.
+ */
+public class HnswMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    private final int dimension;
+
+    public HnswMemoryEstimateDefinition(int dimension) {
+        this.dimension = dimension;
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(HnswIndex.class)
+            .perNode(
+                "index",
+                nodeCount -> HnswIndex.memoryEstimation(nodeCount, dimension, HnswParameters.DEFAULT_MAX_CONNECTIONS)
+            )
+            .build();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * @param maxConnections the number of neighbours each node keeps on the upper layers,
+ *                       twice as many are kept on the bottom layer
+ * @param efConstruction the number of candidates considered when connecting a node
+ * @param randomSeed     the seed for assigning nodes to layers
+ */
+public record HnswParameters(int maxConnections, int efConstruction, long randomSeed) {
+
+    public static final int DEFAULT_MAX_CONNECTIONS = 16;
+    public static final int DEFAULT_EF_CONSTRUCTION = 100;
+
+    public HnswParameters {
+        if (maxConnections < 2) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The maximum number of connections must be at least 2, but was %d.",
+                maxConnections
+            ));
+        }
+        if (efConstruction < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The construction beam width must be positive, but was %d.",
+                efConstruction
+            ));
+        }
+    }
+
+    public static HnswParameters defaults() {
+        return new HnswParameters(DEFAULT_MAX_CONNECTIONS, DEFAULT_EF_CONSTRUCTION, 0L);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import java.util.Arrays;
+
+/**
+ * A binary heap of nodes ordered by a score, either with the highest or the lowest score on top.
+ */
+final class ScoredNodeHeap {
+
+    private final boolean highestFirst;
+    private long[] nodes;
+    private double[] scores;
+    private int size;
+
+    ScoredNodeHeap(int initialCapacity, boolean highestFirst) {
+        this.highestFirst = highestFirst;
+        this.nodes = new long[Math.max(1, initialCapacity)];
+        this.scores = new double[Math.max(1, initialCapacity)];
+    }
+
+    void push(long node, double score) {
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size * 2);
+            scores = Arrays.copyOf(scores, size * 2);
+        }
+        nodes[size] = node;
+        scores[size] = score;
+        siftUp(size++);
+    }
+
+    long topNode() {
+        return nodes[0];
+    }
+
+    double topScore() {
+        return scores[0];
+    }
+
+    void pop() {
+        size--;
+        if (size > 0) {
+            nodes[0] = nodes[size];
+            scores[0] = scores[size];
+            siftDown(0);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!above(index, parent)) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && above(child + 1, child)) {
+                child++;
+            }
+            if (!above(child, index)) {
+                return;
+            }
+            swap(index, child);
+            index = child;
+        }
+    }
+
+    private boolean above(int left, int right) {
+        return highestFirst ? scores[left] > scores[right] : scores[left] < scores[right];
+    }
+
+    private void swap(int left, int right) {
+        long node = nodes[left];
+        nodes[left] = nodes[right];
+        nodes[right] = node;
+        double score = scores[left];
+        scores[left] = scores[right];
+        scores[right] = score;
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.api.FilteredIdMap;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.MemoryRange;
+import org.neo4j.gds.ml.core.samplers.LongUniformSamplerFromRange;
+import org.neo4j.gds.similarity.hnsw.HnswIndex;
+import org.neo4j.gds.similarity.hnsw.HnswParameters;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import static org.neo4j.gds.mem.Estimate.sizeOfInstance;
+import static org.neo4j.gds.mem.Estimate.sizeOfLongArray;
+import static org.neo4j.gds.mem.Estimate.sizeOfLongHashSet;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Starts KNN from the approximate nearest neighbours found in an {@link HnswIndex}
+ * over the single array property KNN compares, so that fewer iterations are needed to converge.
+ * <p>
+ * If KNN runs on a graph store, the index attached to the graph store is reused, see
+ * {@link HnswIndex#of(GraphStore, String, org.neo4j.gds.similarity.knn.metrics.SimilarityMetric, HnswParameters, Concurrency)}.
+ * That index covers all nodes of the graph store, so node ids are translated for node filtered graphs.
+ */
+class HnswKnnSampler implements KnnSampler {
+
+    // Search for more candidates than the number of samples, as some of them may be skipped.
+    private static final int MIN_SEARCH_EF = 32;
+
+    private final HnswIndex index;
+    private final LongUnaryOperator toIndexId;
+    private final LongUnaryOperator fromIndexId;
+    private final LongUniformSamplerFromRange uniformSamplerFromRange;
+    private final long exclusiveMax;
+    private final LongHashSet sampledValuesCache;
+
+    HnswKnnSampler(
+        HnswIndex index,
+        LongUnaryOperator toIndexId,
+        LongUnaryOperator fromIndexId,
+        long nodeCount,
+        SplittableRandom random
+    ) {
+        this.index = index;
+        this.toIndexId = toIndexId;
+        this.fromIndexId = fromIndexId;
+        this.uniformSamplerFromRange = new LongUniformSamplerFromRange(random);
+        this.exclusiveMax = nodeCount;
+        this.sampledValuesCache = new LongHashSet();
+    }
+
+    // The index itself is estimated once per KNN run, see KnnMemoryEstimateDefinition.
+    public static MemoryRange memoryEstimation(long boundedK) {
+        var baseEstimation = MemoryRange.of(
+            sizeOfInstance(HnswKnnSampler.class) +
+            sizeOfLongArray(boundedK) +
+            sizeOfLongHashSet(boundedK)
+        );
+
+        return baseEstimation
+            .add(LongUniformSamplerFromRange.memoryEstimation(0))
+            .union(baseEstimation.add(LongUniformSamplerFromRange.memoryEstimation(boundedK)));
+    }
+
+    @Override
+    public long[] sample(
+        long nodeId,
+        long lowerBoundOnValidSamplesInRange,
+        int numberOfSamples,
+        LongPredicate isInvalidSample
+    ) {
+        // Take all candidates of the search, as nodes outside of the graph or invalid samples are skipped.
+        int ef = Math.max(MIN_SEARCH_EF, 2 * numberOfSamples);
+        var neighbors = index.searchNode(toIndexId.applyAsLong(nodeId), ef, ef);
+
+        sampledValuesCache.clear();
+        var samples = new long[numberOfSamples];
+        int addedSamples = 0;
+        for (var neighbor : neighbors) {
+            if (addedSamples == numberOfSamples) {
+                break;
+            }
+            long node = fromIndexId.applyAsLong(neighbor.nodeId());
+            if (node == IdMap.NOT_FOUND || isInvalidSample.test(node)) {
+                continue;
+            }
+            sampledValuesCache.add(node);
+            samples[addedSamples++] = node;
+        }
+
+        if (addedSamples == numberOfSamples || lowerBoundOnValidSamplesInRange <= addedSamples) {
+            return addedSamples == numberOfSamples ? samples : Arrays.copyOf(samples, addedSamples);
+        }
+
+        // Fill up with uniformly random nodes, e.g. for nodes without a vector.
+        var uniformSamples = uniformSamplerFromRange.sample(
+            0,
+            exclusiveMax,
+            lowerBoundOnValidSamplesInRange - addedSamples,
+            numberOfSamples - addedSamples,
+            node -> isInvalidSample.test(node) || sampledValuesCache.contains(node)
+        );
+
+        System.arraycopy(uniformSamples, 0, samples, addedSamples, uniformSamples.length);
+
+        return addedSamples + uniformSamples.length == numberOfSamples
+            ? samples
+            : Arrays.copyOf(samples, addedSamples + uniformSamples.length);
+    }
+
+    static class Factory implements KnnSampler.Factory {
+        private final Graph graph;
+        private final Optional<GraphStore> graphStore;
+        private final List<KnnNodePropertySpec> nodePropertySpecs;
+        private final Concurrency concurrency;
+        private final ExecutorService executor;
+        private final ProgressTracker progressTracker;
+        private final TerminationFlag terminationFlag;
+        private final SplittableRandom random;
+        private HnswIndex index;
+        private LongUnaryOperator toIndexId;
+        private LongUnaryOperator fromIndexId;
+
+        Factory(
+            Graph graph,
+            Optional<GraphStore> graphStore,
+            List<KnnNodePropertySpec> nodePropertySpecs,
+            Concurrency concurrency,
+            ExecutorService executor,
+            ProgressTracker progressTracker,
+            TerminationFlag terminationFlag,
+            SplittableRandom random
+        ) {
+            this.graph = graph;
+            this.graphStore = graphStore;
+            this.nodePropertySpecs = nodePropertySpecs;
+            this.concurrency = concurrency;
+            this.executor = executor;
+            this.progressTracker = progressTracker;
+            this.terminationFlag = terminationFlag;
+            this.random = random;
+        }
+
+        public KnnSampler create() {
+            if (index == null) {
+                prepareIndex();
+            }
+            return new HnswKnnSampler(index, toIndexId, fromIndexId, graph.nodeCount(), random.split());
+        }
+
+        /**
+         * Builds the index, or brings the one attached to the graph store up to date.
+         */
+        void prepareIndex() {
+            if (nodePropertySpecs.size() != 1) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The `hnsw` sampler requires exactly one node property, but got %d.",
+                    nodePropertySpecs.size()
+                ));
+            }
+            var spec = nodePropertySpecs.get(0);
+            var parameters = new HnswParameters(
+                HnswParameters.DEFAULT_MAX_CONNECTIONS,
+                HnswParameters.DEFAULT_EF_CONSTRUCTION,
+                random.nextLong()
+            );
+
+            if (graphStore.isPresent()) {
+                index = HnswIndex.of(
+                    graphStore.get(),
+                    spec.name(),
+                    spec.metric(),
+                    parameters,
+                    concurrency,
+                    executor,
+                    progressTracker,
+                    terminationFlag
+                );
+                var filteredIdMap = graph.asNodeFilteredGraph();
+                toIndexId = graph::toRootNodeId;
+                fromIndexId = filteredIdMap.isPresent()
+                    ? rootNodeId -> toFilteredNodeId(filteredIdMap.get(), rootNodeId)
+                    : LongUnaryOperator.identity();
+            } else {
+                index = HnswIndex.build(
+                    graph.nodeProperties(spec.name()),
+                    spec.metric(),
+                    parameters,
+                    concurrency,
+                    executor,
+                    progressTracker,
+                    terminationFlag
+                );
+                toIndexId = LongUnaryOperator.identity();
+                fromIndexId = LongUnaryOperator.identity();
+            }
+        }
+
+        private static long toFilteredNodeId(FilteredIdMap filteredIdMap, long rootNodeId) {
+            return filteredIdMap.containsRootNodeId(rootNodeId)
+                ? filteredIdMap.toFilteredNodeId(rootNodeId)
+                : IdMap.NOT_FOUND;
+        }
+    }
+}
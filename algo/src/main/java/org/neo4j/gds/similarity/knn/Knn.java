@@ -22,6 +22,7 @@ package org.neo4j.gds.similarity.knn;
 import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
@@ -31,6 +32,7 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
 import org.neo4j.gds.termination.TerminationFlag;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
@@ -103,6 +105,8 @@ public final class Knn extends Algorithm<KnnResult> {
             parameters.randomJoins(),
             parameters.randomSeed(),
             parameters.samplerType(),
+            parameters.nodePropertySpecs(),
+            context.graphStore(),
             similarityFunction,
             neighborFilterFactory,
             neighbourConsumers.orElse(NeighbourConsumers.no_op),
@@ -118,6 +122,7 @@ public final class Knn extends Algorithm<KnnResult> {
     private final NeighborFilterFactory neighborFilterFactory;
     private final ExecutorService executorService;
     private final KnnSampler.Factory samplerFactory;
+    private final Optional<HnswKnnSampler.Factory> hnswSamplerFactory;
     private final JoinNeighbors.Factory joinNeighborsFactory;
     private final GenerateRandomNeighbors.Factory generateRandomNeighborsFactory;
     private final SplitOldAndNewNeighbors.Factory splitOldAndNewNeighborsFactory;
@@ -136,6 +141,8 @@ public final class Knn extends Algorithm<KnnResult> {
         int randomJoins,
         Optional<Long> randomSeed,
         KnnSampler.SamplerType initialSamplerType,
+        List<KnnNodePropertySpec> nodePropertySpecs,
+        Optional<GraphStore> graphStore,
         SimilarityFunction similarityFunction,
         NeighborFilterFactory neighborFilterFactory,
         NeighbourConsumers neighborConsumers,
@@ -156,9 +163,25 @@ public final class Knn extends Algorithm<KnnResult> {
         switch (initialSamplerType) {
             case UNIFORM:
                 this.samplerFactory = new UniformKnnSampler.Factory(graph.nodeCount(), splittableRandom);
+                this.hnswSamplerFactory = Optional.empty();
                 break;
             case RANDOMWALK:
                 this.samplerFactory = new RandomWalkKnnSampler.Factory(graph, randomSeed, k.value(), splittableRandom);
+                this.hnswSamplerFactory = Optional.empty();
+                break;
+            case HNSW:
+                var hnswFactory = new HnswKnnSampler.Factory(
+                    graph,
+                    graphStore,
+                    nodePropertySpecs,
+                    concurrency,
+                    executorService,
+                    progressTracker,
+                    terminationFlag,
+                    splittableRandom
+                );
+                this.samplerFactory = hnswFactory;
+                this.hnswSamplerFactory = Optional.of(hnswFactory);
                 break;
             default:
                 throw new IllegalStateException("Invalid KnnSampler");
@@ -197,6 +220,11 @@ public final class Knn extends Algorithm<KnnResult> {
             return KnnResult.empty();
         }
         progressTracker.beginSubTask();
+        hnswSamplerFactory.ifPresent(factory -> {
+            progressTracker.beginSubTask();
+            factory.prepareIndex();
+            progressTracker.endSubTask();
+        });
         progressTracker.beginSubTask();
         var neighbors = initializeRandomNeighbors();
         progressTracker.endSubTask();
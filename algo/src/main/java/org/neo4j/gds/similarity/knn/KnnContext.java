@@ -19,17 +19,31 @@
  */
 package org.neo4j.gds.similarity.knn;
 
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
-public record KnnContext(ExecutorService executor, ProgressTracker progressTracker) {
+/**
+ * @param graphStore the graph store KNN runs on, if any.
+ *                   The `hnsw` initial sampler reuses the index attached to it instead of building its own.
+ */
+public record KnnContext(ExecutorService executor, ProgressTracker progressTracker, Optional<GraphStore> graphStore) {
+
+    public KnnContext(ExecutorService executor, ProgressTracker progressTracker) {
+        this(executor, progressTracker, Optional.empty());
+    }
 
     public KnnContext(ProgressTracker progressTracker) {
         this(DefaultPool.INSTANCE, progressTracker);
     }
 
+    public static KnnContext of(GraphStore graphStore, ProgressTracker progressTracker) {
+        return new KnnContext(DefaultPool.INSTANCE, progressTracker, Optional.of(graphStore));
+    }
+
     public static KnnContext empty() {
         return new KnnContext(
             DefaultPool.INSTANCE,
@@ -21,11 +21,15 @@ package org.neo4j.gds.similarity.knn;
 
 import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.mem.MemoryRange;
+import org.neo4j.gds.similarity.hnsw.HnswIndex;
+import org.neo4j.gds.similarity.hnsw.HnswParameters;
 
+import java.util.List;
 import java.util.function.LongFunction;
 
 import static org.neo4j.gds.mem.Estimate.sizeOfInstance;
@@ -35,6 +39,9 @@ import static org.neo4j.gds.mem.Estimate.sizeOfOpenHashContainer;
 
 public class KnnMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
+    // used for the HNSW index if the dimension of the vector property is not known
+    private static final int ESTIMATED_VECTOR_DIMENSION = 128;
+
     private final KnnMemoryEstimationParametersBuilder parametersSansNodeCount;
 
     public KnnMemoryEstimateDefinition(KnnMemoryEstimationParametersBuilder parametersSansNodeCount) {
@@ -65,8 +72,17 @@ public class KnnMemoryEstimateDefinition implements MemoryEstimateDefinition {
                     HugeObjectArray.memoryEstimation(nodeCount, neighborListEstimate.max)
                 );
 
-                return MemoryEstimations
-                    .builder(Knn.class)
+                var builder = MemoryEstimations.builder(Knn.class);
+                if (parameters.samplerType() == KnnSampler.SamplerType.HNSW) {
+                    // the index stays attached to the graph store after the run
+                    builder.fixed("hnsw-index", HnswIndex.memoryEstimation(
+                        dim.nodeCount(),
+                        vectorDimension(dim, parameters.nodeProperties()),
+                        HnswParameters.DEFAULT_MAX_CONNECTIONS
+                    ));
+                }
+
+                return builder
                     .rangePerNode("top-k-neighbors-list", perNodeNeighborListEstimate)
                     .rangePerNode("old-neighbors", tempListEstimation)
                     .rangePerNode("new-neighbors", tempListEstimation)
@@ -86,4 +102,11 @@ public class KnnMemoryEstimateDefinition implements MemoryEstimateDefinition {
             }
         );
     }
+
+    private static int vectorDimension(GraphDimensions dimensions, List<String> nodeProperties) {
+        if (nodeProperties.size() != 1) {
+            return ESTIMATED_VECTOR_DIMENSION;
+        }
+        return dimensions.nodePropertyDimensions().get(nodeProperties.get(0)).orElse(ESTIMATED_VECTOR_DIMENSION);
+    }
 }
@@ -28,6 +28,7 @@ final class KnnSamplerMemoryEstimation {
         return switch (samplerType) {
             case UNIFORM -> UniformKnnSampler.memoryEstimation(boundedK);
             case RANDOMWALK -> RandomWalkKnnSampler.memoryEstimation(boundedK);
+            case HNSW -> HnswKnnSampler.memoryEstimation(boundedK);
         };
     }
 }
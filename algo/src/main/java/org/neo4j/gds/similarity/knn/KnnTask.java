@@ -23,24 +23,27 @@ import org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public final class KnnTask {
     private KnnTask() {}
 
     public static Task create(long nodeCount, KnnParameters parameters) {
-        return Tasks.task(
-            AlgorithmLabel.KNN.asString(),
-            Tasks.leaf("Initialize random neighbors", nodeCount),
-            Tasks.iterativeDynamic(
-                "Iteration",
-                () -> List.of(
-                    Tasks.leaf("Split old and new neighbors", nodeCount),
-                    Tasks.leaf("Reverse old and new neighbors", nodeCount),
-                    Tasks.leaf("Join neighbors", nodeCount)
-                ),
-                parameters.maxIterations()
-            )
-        );
+        var subTasks = new ArrayList<Task>();
+        if (parameters.samplerType() == KnnSampler.SamplerType.HNSW) {
+            subTasks.add(Tasks.leaf("Prepare HNSW index"));
+        }
+        subTasks.add(Tasks.leaf("Initialize random neighbors", nodeCount));
+        subTasks.add(Tasks.iterativeDynamic(
+            "Iteration",
+            () -> List.of(
+                Tasks.leaf("Split old and new neighbors", nodeCount),
+                Tasks.leaf("Reverse old and new neighbors", nodeCount),
+                Tasks.leaf("Join neighbors", nodeCount)
+            ),
+            parameters.maxIterations()
+        ));
+        return Tasks.task(AlgorithmLabel.KNN.asString(), subTasks);
     }
 }
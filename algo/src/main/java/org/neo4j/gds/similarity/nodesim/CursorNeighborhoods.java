@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.huge.NodeFilteredGraph;
+import org.neo4j.gds.utils.CloseableThreadLocal;
+
+import java.util.Optional;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import static org.neo4j.gds.api.AdjacencyCursor.NOT_FOUND;
+
+/**
+ * Intersects neighborhoods directly on the adjacency list of the graph, instead of on copies of them.
+ * <p>
+ * Adjacency lists are sorted, so two neighborhoods are intersected by merging their cursors.
+ * Like the copied neighborhoods, the merge skips self-loops and parallel relationships.
+ * Only the degrees without these are stored per node.
+ * <p>
+ * Cursors are reused per thread, so that intersections can run on any thread.
+ */
+final class CursorNeighborhoods {
+
+    private final AdjacencyList adjacencyList;
+    private final LongUnaryOperator toRootNodeId;
+    private final LongPredicate containsRootNodeId;
+    private final HugeIntArray degrees;
+    private final CloseableThreadLocal<AdjacencyCursor[]> cursors;
+
+    private CursorNeighborhoods(
+        AdjacencyList adjacencyList,
+        LongUnaryOperator toRootNodeId,
+        LongPredicate containsRootNodeId,
+        long nodeCount
+    ) {
+        this.adjacencyList = adjacencyList;
+        this.toRootNodeId = toRootNodeId;
+        this.containsRootNodeId = containsRootNodeId;
+        this.degrees = HugeIntArray.newArray(nodeCount);
+        this.cursors = CloseableThreadLocal.withInitial(() -> new AdjacencyCursor[2]);
+    }
+
+    /**
+     * Adjacency lists can only be accessed directly for graphs with a single relationship type,
+     * which may be filtered by node labels.
+     */
+    static Optional<CursorNeighborhoods> of(Graph graph) {
+        if (graph instanceof HugeGraph hugeGraph) {
+            return Optional.of(new CursorNeighborhoods(
+                hugeGraph.relationshipTopology().adjacencyList(),
+                LongUnaryOperator.identity(),
+                rootNodeId -> true,
+                graph.nodeCount()
+            ));
+        }
+        if (graph instanceof NodeFilteredGraph nodeFilteredGraph && nodeFilteredGraph.graph() instanceof HugeGraph hugeGraph) {
+            return Optional.of(new CursorNeighborhoods(
+                hugeGraph.relationshipTopology().adjacencyList(),
+                nodeFilteredGraph::toRootNodeId,
+                nodeFilteredGraph::containsRootNodeId,
+                graph.nodeCount()
+            ));
+        }
+        return Optional.empty();
+    }
+
+    void setDegree(long nodeId, int degree) {
+        degrees.set(nodeId, degree);
+    }
+
+    int degree(long nodeId) {
+        return degrees.get(nodeId);
+    }
+
+    long intersection(long nodeId1, long nodeId2) {
+        var threadCursors = cursors.get();
+        long root1 = toRootNodeId.applyAsLong(nodeId1);
+        long root2 = toRootNodeId.applyAsLong(nodeId2);
+        var cursor1 = adjacencyList.adjacencyCursor(threadCursors[0], root1);
+        var cursor2 = adjacencyList.adjacencyCursor(threadCursors[1], root2);
+        threadCursors[0] = cursor1;
+        threadCursors[1] = cursor2;
+
+        long intersection = 0;
+        long target1 = next(cursor1, root1, NOT_FOUND);
+        long target2 = next(cursor2, root2, NOT_FOUND);
+        while (target1 != NOT_FOUND && target2 != NOT_FOUND) {
+            if (target1 == target2) {
+                intersection++;
+                target1 = next(cursor1, root1, target1);
+                target2 = next(cursor2, root2, target2);
+            } else if (target1 < target2) {
+                target1 = advance(cursor1, root1, target2);
+            } else {
+                target2 = advance(cursor2, root2, target1);
+            }
+        }
+        return intersection;
+    }
+
+    /**
+     * Returns the next target after {@code previous}, which is neither the node itself nor filtered out.
+     */
+    private long next(AdjacencyCursor cursor, long rootNodeId, long previous) {
+        while (cursor.hasNextVLong()) {
+            long target = cursor.nextVLong();
+            if (isNeighbor(target, rootNodeId, previous)) {
+                return target;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Returns the first target that is at least {@code minimum}, which is neither the node itself nor filtered out.
+     */
+    private long advance(AdjacencyCursor cursor, long rootNodeId, long minimum) {
+        long target = cursor.advance(minimum);
+        if (target == NOT_FOUND || isNeighbor(target, rootNodeId, NOT_FOUND)) {
+            return target;
+        }
+        return next(cursor, rootNodeId, target);
+    }
+
+    private boolean isNeighbor(long target, long rootNodeId, long previous) {
+        return target != previous && target != rootNodeId && containsRootNodeId.test(target);
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.relationships.RelationshipConsumer;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeMergeSort;
+import org.neo4j.gds.termination.TerminationFlag;
+import org.neo4j.gds.utils.CloseableThreadLocal;
+
+import java.util.Arrays;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+/**
+ * Selects the target nodes to compare a node with by locality sensitive hashing of MinHash signatures.
+ * <p>
+ * The signature of a node consists of {@code bands * rows} MinHash values of its neighborhood.
+ * Two nodes are candidates if their signatures agree in all rows of at least one band,
+ * which happens with probability {@code 1 - (1 - J^rows)^bands} for two neighborhoods of Jaccard similarity J.
+ * Only nodes in the same component are candidates.
+ * <p>
+ * For every band, the target nodes are sorted by the hash of their rows in that band.
+ * The hash and the node id are packed into a single long, so a band takes 8 bytes per target node.
+ * The candidates of a node are the target nodes next to its own hash, found by binary search.
+ * A candidate found in several bands is only returned for the first of them.
+ */
+final class MinHashCandidates {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final int bands;
+    private final int rows;
+    private final int signatureSize;
+    private final long[] hashSeeds;
+    private final HugeIntArray signatures;
+    private final HugeLongArray[] buckets;
+    private final long idMask;
+    private final LongUnaryOperator components;
+
+    private MinHashCandidates(
+        int bands,
+        int rows,
+        long nodeCount,
+        LongUnaryOperator components
+    ) {
+        this.bands = bands;
+        this.rows = rows;
+        this.signatureSize = bands * rows;
+        this.hashSeeds = new long[signatureSize];
+        for (int i = 0; i < signatureSize; i++) {
+            hashSeeds[i] = mix((i + 1) * GOLDEN_GAMMA);
+        }
+        this.signatures = HugeIntArray.newArray(nodeCount * signatureSize);
+        this.buckets = new HugeLongArray[bands];
+        this.idMask = (1L << (Long.SIZE - Long.numberOfLeadingZeros(Math.max(1, nodeCount - 1)))) - 1;
+        this.components = components;
+    }
+
+    static MinHashCandidates create(
+        Graph graph,
+        int bands,
+        int rows,
+        BitSet sourceNodes,
+        BitSet targetNodes,
+        LongUnaryOperator components,
+        Concurrency concurrency,
+        TerminationFlag terminationFlag
+    ) {
+        var candidates = new MinHashCandidates(bands, rows, graph.nodeCount(), components);
+        candidates.computeSignatures(graph, sourceNodes, targetNodes, concurrency, terminationFlag);
+        candidates.fillBuckets(targetNodes, concurrency, terminationFlag);
+        return candidates;
+    }
+
+    /**
+     * The candidates of the given node, at least {@code offset} and in increasing order.
+     */
+    LongStream stream(long nodeId, long offset) {
+        var candidates = new LongArrayList();
+        long component = components.applyAsLong(nodeId);
+        long[] bandHashes = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            bandHashes[band] = bandHash(nodeId, band);
+        }
+
+        for (int band = 0; band < bands; band++) {
+            var bucket = buckets[band];
+            long hash = bandHashes[band];
+            for (long index = lowerBound(bucket, hash); index < bucket.size(); index++) {
+                long entry = bucket.get(index);
+                if ((entry & ~idMask) != hash) {
+                    break;
+                }
+                long candidate = entry & idMask;
+                if (candidate >= offset
+                    && candidate != nodeId
+                    && components.applyAsLong(candidate) == component
+                    && !collidesBefore(candidate, bandHashes, band)) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+
+        var result = candidates.toArray();
+        Arrays.sort(result);
+        return Arrays.stream(result);
+    }
+
+    private boolean collidesBefore(long candidate, long[] bandHashes, int band) {
+        for (int previousBand = 0; previousBand < band; previousBand++) {
+            if (bandHash(candidate, previousBand) == bandHashes[previousBand]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void computeSignatures(
+        Graph graph,
+        BitSet sourceNodes,
+        BitSet targetNodes,
+        Concurrency concurrency,
+        TerminationFlag terminationFlag
+    ) {
+        try (var signatureComputers = CloseableThreadLocal.withInitial(() -> new SignatureComputer(graph.concurrentCopy()))) {
+            ParallelUtil.parallelForEachNode(graph.nodeCount(), concurrency, terminationFlag, nodeId -> {
+                if (sourceNodes.get(nodeId) || targetNodes.get(nodeId)) {
+                    signatureComputers.get().compute(nodeId);
+                }
+            });
+        }
+    }
+
+    private void fillBuckets(BitSet targetNodes, Concurrency concurrency, TerminationFlag terminationFlag) {
+        var targets = HugeLongArray.newArray(targetNodes.cardinality());
+        long index = 0;
+        for (long targetNode = targetNodes.nextSetBit(0L); targetNode != -1; targetNode = targetNodes.nextSetBit(targetNode + 1)) {
+            targets.set(index++, targetNode);
+        }
+
+        for (int band = 0; band < bands; band++) {
+            terminationFlag.assertRunning();
+            var bucket = HugeLongArray.newArray(targets.size());
+            int currentBand = band;
+            ParallelUtil.parallelForEachNode(targets.size(), concurrency, terminationFlag, position -> {
+                long targetNode = targets.get(position);
+                bucket.set(position, bandHash(targetNode, currentBand) | targetNode);
+            });
+            HugeMergeSort.sort(bucket, concurrency);
+            buckets[band] = bucket;
+        }
+    }
+
+    /**
+     * The hash of the rows of a band, including the component of the node.
+     * The lowest bits are cleared to make room for a node id.
+     */
+    private long bandHash(long nodeId, int band) {
+        long hash = mix(components.applyAsLong(nodeId) + (band + 1) * GOLDEN_GAMMA);
+        long offset = nodeId * signatureSize + (long) band * rows;
+        for (int row = 0; row < rows; row++) {
+            hash = mix(hash ^ Integer.toUnsignedLong(signatures.get(offset + row)));
+        }
+        return hash & ~idMask;
+    }
+
+    private static long lowerBound(HugeLongArray bucket, long hash) {
+        long low = 0;
+        long high = bucket.size();
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (bucket.get(middle) < hash) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    private final class SignatureComputer implements RelationshipConsumer {
+        private final Graph localGraph;
+        private final int[] signature;
+
+        SignatureComputer(Graph localGraph) {
+            this.localGraph = localGraph;
+            this.signature = new int[signatureSize];
+        }
+
+        void compute(long nodeId) {
+            Arrays.fill(signature, Integer.MAX_VALUE);
+            localGraph.forEachRelationship(nodeId, this);
+            long offset = nodeId * signatureSize;
+            for (int i = 0; i < signatureSize; i++) {
+                signatures.set(offset + i, signature[i]);
+            }
+        }
+
+        @Override
+        public boolean accept(long source, long target) {
+            if (source == target) {
+                return true;
+            }
+            long targetHash = target * GOLDEN_GAMMA;
+            for (int i = 0; i < signatureSize; i++) {
+                signature[i] = Math.min(signature[i], (int) (mix(targetHash ^ hashSeeds[i]) >>> 32));
+            }
+            return true;
+        }
+    }
+}
@@ -20,6 +20,7 @@
 package org.neo4j.gds.similarity.nodesim;
 
 import com.carrotsearch.hppc.BitSet;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
@@ -47,7 +48,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.LongStream;
@@ -72,9 +72,10 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
 
     private HugeObjectArray<long[]> neighbors;
     private HugeObjectArray<double[]> weights;
+    private @Nullable CursorNeighborhoods cursorNeighborhoods;
     private LongUnaryOperator components;
     private Function<Long, LongStream> sourceNodesStream;
-    private BiFunction<Long, Long, LongStream> targetNodesStream;
+    private TargetNodesStream targetNodesStream;
 
     private final WccStub wccStub;
 
@@ -237,29 +238,33 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     }
 
     private void initNodeSpecificFields() {
+        DegreeComputer degreeComputer = new DegreeComputer();
+        DegreeFilter degreeFilter = new DegreeFilter(parameters.degreeCutoff(), parameters.upperDegreeCutoff());
+
+        // weighted neighborhoods are always copied, as the weights are not intersected on the adjacency list
+        cursorNeighborhoods = parameters.materializeNeighborhoods() || weighted
+            ? null
+            : CursorNeighborhoods.of(graph).orElse(null);
+        if (cursorNeighborhoods != null) {
+            for (long node = 0; node < graph.nodeCount(); node++) {
+                int degree = degree(node, degreeComputer);
+                selectNode(node, degree, degreeFilter);
+                cursorNeighborhoods.setDegree(node, degree);
+            }
+            return;
+        }
+
         neighbors = HugeObjectArray.newArray(long[].class, graph.nodeCount());
         if (weighted) {
             weights = HugeObjectArray.newArray(double[].class, graph.nodeCount());
         }
 
-        DegreeComputer degreeComputer = new DegreeComputer();
         VectorComputer vectorComputer = VectorComputer.of(graph, weighted);
-        DegreeFilter degreeFilter = new DegreeFilter(parameters.degreeCutoff(), parameters.upperDegreeCutoff());
         neighbors.setAll(node -> {
-            graph.forEachRelationship(node, degreeComputer);
-            int degree = degreeComputer.degree;
-            degreeComputer.reset();
+            int degree = degree(node, degreeComputer);
             vectorComputer.reset(degree);
 
-            progressTracker.logProgress(graph.degree(node));
-            if (degreeFilter.apply(degree)) {
-                if (sourceNodeFilter.test(node)) {
-                    sourceNodes.set(node);
-                }
-                if (targetNodeFilter.test(node)) {
-                    targetNodes.set(node);
-                }
-
+            if (selectNode(node, degree, degreeFilter)) {
                 // TODO: we don't need to do the rest of the prepare for a node that isn't going to be used in the computation
                 vectorComputer.forEachRelationship(node);
 
@@ -275,6 +280,27 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         });
     }
 
+    private int degree(long node, DegreeComputer degreeComputer) {
+        graph.forEachRelationship(node, degreeComputer);
+        int degree = degreeComputer.degree;
+        degreeComputer.reset();
+        return degree;
+    }
+
+    private boolean selectNode(long node, int degree, DegreeFilter degreeFilter) {
+        progressTracker.logProgress(graph.degree(node));
+        if (!degreeFilter.apply(degree)) {
+            return false;
+        }
+        if (sourceNodeFilter.test(node)) {
+            sourceNodes.set(node);
+        }
+        if (targetNodeFilter.test(node)) {
+            targetNodes.set(node);
+        }
+        return true;
+    }
+
     private Stream<SimilarityResult> computeAll() {
         progressTracker.beginSubTask(calculateWorkload());
 
@@ -299,12 +325,12 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         var comparator = parameters.normalizedK() > 0
             ? SimilarityResult.DESCENDING
             : SimilarityResult.ASCENDING;
-        var topKMap = new TopKMap(neighbors.size(), sourceNodes, Math.abs(parameters.normalizedK()), comparator);
+        var topKMap = new TopKMap(graph.nodeCount(), sourceNodes, Math.abs(parameters.normalizedK()), comparator);
 
         loggableAndTerminableSourceNodeStream()
             .forEach(sourceNodeId -> {
                 if (sourceNodeFilter.equals(NodeFilter.ALLOW_EVERYTHING)) {
-                    targetNodesStream.apply(components.applyAsLong(sourceNodeId), sourceNodeId + 1)
+                    targetNodesStream.apply(sourceNodeId, sourceNodeId + 1)
                         .forEach(targetNodeId -> computeSimilarityFor(sourceNodeId, targetNodeId,
                             (source, target, similarity) -> {
                                 topKMap.put(source, target, similarity);
@@ -312,7 +338,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                             }
                         ));
                 } else {
-                    targetNodesStream.apply(components.applyAsLong(sourceNodeId), 0L)
+                    targetNodesStream.apply(sourceNodeId, 0L)
                         .filter(targetNodeId -> sourceNodeId != targetNodeId)
                         .forEach(targetNodeId -> computeSimilarityFor(sourceNodeId, targetNodeId, topKMap::put));
                 }
@@ -327,7 +353,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         var comparator = parameters.normalizedK() > 0
             ? SimilarityResult.DESCENDING
             : SimilarityResult.ASCENDING;
-        var topKMap = new TopKMap(neighbors.size(), sourceNodes, Math.abs(parameters.normalizedK()), comparator);
+        var topKMap = new TopKMap(graph.nodeCount(), sourceNodes, Math.abs(parameters.normalizedK()), comparator);
 
         ParallelUtil.parallelStreamConsume(
             loggableAndTerminableSourceNodeStream(),
@@ -341,7 +367,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                     // into these queues is not considered to be thread-safe.
                     // Hence, we need to ensure that down the stream, exactly one queue
                     // within the TopKMap processes all pairs for a single node.
-                    targetNodesStream.apply(components.applyAsLong(sourceNodeId), 0L)
+                    targetNodesStream.apply(sourceNodeId, 0L)
                         .filter(targetNodeId -> sourceNodeId != targetNodeId)
                         .forEach(targetNodeId -> computeSimilarityFor(sourceNodeId, targetNodeId, topKMap::put))
                 )
@@ -358,10 +384,10 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         loggableAndTerminableSourceNodeStream()
             .forEach(sourceNodeId -> {
                 if (sourceNodeFilter.equals(NodeFilter.ALLOW_EVERYTHING)) {
-                    targetNodesStream.apply(components.applyAsLong(sourceNodeId), sourceNodeId + 1)
+                    targetNodesStream.apply(sourceNodeId, sourceNodeId + 1)
                         .forEach(targetNodeId -> computeSimilarityFor(sourceNodeId, targetNodeId, topNList::add));
                 } else {
-                    targetNodesStream.apply(components.applyAsLong(sourceNodeId), 0L)
+                    targetNodesStream.apply(sourceNodeId, 0L)
                         .filter(targetNodeId -> sourceNodeId != targetNodeId)
                         .forEach(targetNodeId -> computeSimilarityFor(sourceNodeId, targetNodeId, topNList::add));
                 }
@@ -381,14 +407,28 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         return offset -> new SetBitsIterable(sourceNodes, offset).stream();
     }
 
-    private BiFunction<Long, Long, LongStream> initTargetNodesStream() {
+    private TargetNodesStream initTargetNodesStream() {
+        if (parameters.useMinHash()) {
+            var candidates = MinHashCandidates.create(
+                graph,
+                parameters.minHashBands(),
+                parameters.minHashRows(),
+                sourceNodes,
+                targetNodes,
+                components,
+                concurrency,
+                terminationFlag
+            );
+            return candidates::stream;
+        }
+
         if (!parameters.useComponents()) {
-            return (componentId, offset) -> new SetBitsIterable(targetNodes, offset).stream();
+            return (sourceNodeId, offset) -> new SetBitsIterable(targetNodes, offset).stream();
         }
 
         var componentNodes = ComponentNodes.create(components, targetNodes::get, graph.nodeCount(), concurrency);
-        return (componentId, offset) -> StreamSupport
-            .longStream(componentNodes.spliterator(componentId, offset), false);
+        return (sourceNodeId, offset) -> StreamSupport
+            .longStream(componentNodes.spliterator(components.applyAsLong(sourceNodeId), offset), false);
     }
 
     private LongStream loggableAndTerminableSourceNodeStream() {
@@ -396,7 +436,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     }
 
     private Stream<SimilarityResult> computeSimilaritiesForNode(long sourceNodeId) {
-        return targetNodesStream.apply(components.applyAsLong(sourceNodeId), sourceNodeId + 1)
+        return targetNodesStream.apply(sourceNodeId, sourceNodeId + 1)
             .mapToObj(targetNodeId -> {
                 var resultHolder = new SimilarityResult[]{null};
                 computeSimilarityFor(
@@ -432,8 +472,27 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         void accept(long sourceNodeId, long targetNodeId, double similarity);
     }
 
+    /**
+     * The target nodes to compare a source node with, starting from the given offset.
+     */
+    interface TargetNodesStream {
+        LongStream apply(long sourceNodeId, long offset);
+    }
+
     private void computeSimilarityFor(long sourceNodeId, long targetNodeId, SimilarityConsumer consumer) {
         double similarity;
+        if (cursorNeighborhoods != null) {
+            similarity = computeSimilarity(
+                cursorNeighborhoods.intersection(sourceNodeId, targetNodeId),
+                cursorNeighborhoods.degree(sourceNodeId),
+                cursorNeighborhoods.degree(targetNodeId)
+            );
+            if (!Double.isNaN(similarity)) {
+                consumer.accept(sourceNodeId, targetNodeId, similarity);
+            }
+            return;
+        }
+
         var sourceNodeNeighbors = neighbors.get(sourceNodeId);
         var targetNodeNeighbors = neighbors.get(targetNodeId);
         if (weighted) {
@@ -470,6 +529,12 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         return similarity;
     }
 
+    private double computeSimilarity(long intersection, int sourceDegree, int targetDegree) {
+        double similarity = similarityComputer.computeSimilarity(intersection, sourceDegree, targetDegree);
+        progressTracker.logProgress();
+        return similarity;
+    }
+
     private LongStream checkProgress(LongStream stream) {
         return stream.peek(node -> {
             if ((node & BatchingProgressLogger.MAXIMUM_LOG_INTERVAL) == 0) {
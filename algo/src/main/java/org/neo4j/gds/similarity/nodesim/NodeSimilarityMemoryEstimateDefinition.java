@@ -21,6 +21,7 @@ package org.neo4j.gds.similarity.nodesim;
 
 import com.carrotsearch.hppc.BitSet;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
+import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
@@ -57,20 +58,30 @@ public class NodeSimilarityMemoryEstimateDefinition implements MemoryEstimateDef
                         ? 0
                         : Math.toIntExact(dimensions.relCountUpperBound() / dimensions.nodeCount());
                     long averageVectorSize = sizeOfLongArray(averageDegree);
+                    // without materialization, vectors are only copied if they cannot be intersected on the adjacency list
+                    long minVectorSize = parameters.materializeNeighborhoods() ? averageVectorSize : 0;
                     return MemoryEstimations.builder(HugeObjectArray.class)
-                        .perNode("array", nodeCount -> nodeCount * averageVectorSize).build();
+                        .rangePerNode(
+                            "array",
+                            nodeCount -> MemoryRange.of(nodeCount * minVectorSize, nodeCount * averageVectorSize)
+                        ).build();
                 })
-            )
-            .add("weights",
-                MemoryEstimations.setup("", (dimensions, concurrency) -> {
-                    int averageDegree = dimensions.nodeCount() == 0
-                        ? 0
-                        : Math.toIntExact(dimensions.relCountUpperBound() / dimensions.nodeCount());
-                    long averageVectorSize = sizeOfDoubleArray(averageDegree);
-                    return MemoryEstimations.builder(HugeObjectArray.class)
-                        .rangePerNode("array", nodeCount -> MemoryRange.of(0, nodeCount * averageVectorSize))
-                        .build();
-                }));
+            );
+        if (!parameters.materializeNeighborhoods()) {
+            builder.perNode("degrees", HugeIntArray::memoryEstimation);
+        }
+        builder.add(
+            "weights",
+            MemoryEstimations.setup("", (dimensions, concurrency) -> {
+                int averageDegree = dimensions.nodeCount() == 0
+                    ? 0
+                    : Math.toIntExact(dimensions.relCountUpperBound() / dimensions.nodeCount());
+                long averageVectorSize = sizeOfDoubleArray(averageDegree);
+                return MemoryEstimations.builder(HugeObjectArray.class)
+                    .rangePerNode("array", nodeCount -> MemoryRange.of(0, nodeCount * averageVectorSize))
+                    .build();
+            })
+        );
         if (parameters.useComponents()) {
             builder.perNode("nodes sorted by component", HugeLongArray::memoryEstimation);
             builder.perNode("upper bound per component", HugeAtomicLongArray::memoryEstimation);
@@ -81,6 +92,12 @@ public class NodeSimilarityMemoryEstimateDefinition implements MemoryEstimateDef
                 builder.perNode("component mapping", HugeLongArray::memoryEstimation);
             }
         }
+        if (parameters.useMinHash()) {
+            long signatureSize = (long) parameters.minHashBands() * parameters.minHashRows();
+            builder.perNode("signatures", nodeCount -> HugeIntArray.memoryEstimation(nodeCount * signatureSize));
+            builder.perNode("buckets", nodeCount -> parameters.minHashBands() * HugeLongArray.memoryEstimation(nodeCount));
+            builder.perNode("bucket sort buffer", HugeLongArray::memoryEstimation);
+        }
         if (parameters.computeToGraph() && !parameters.hasTopK()) {
             builder.add(
                 "similarity graph",
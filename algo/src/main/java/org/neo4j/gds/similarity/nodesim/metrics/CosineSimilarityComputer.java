@@ -31,7 +31,12 @@ public class CosineSimilarityComputer implements MetricSimilarityComputer  {
     @Override
     public double computeSimilarity(long[] vector1, long[] vector2) {
         var intersection = Intersections.intersection3(vector1, vector2);
-        var similarity = intersection / (Math.sqrt(vector1.length) * Math.sqrt(vector2.length));
+        return computeSimilarity(intersection, vector1.length, vector2.length);
+    }
+
+    @Override
+    public double computeSimilarity(long intersection, long size1, long size2) {
+        var similarity = intersection / (Math.sqrt(size1) * Math.sqrt(size2));
         return similarity >= similarityCutoff ? similarity : Double.NaN;
     }
 
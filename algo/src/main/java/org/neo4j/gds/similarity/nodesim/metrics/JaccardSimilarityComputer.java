@@ -31,7 +31,12 @@ public class JaccardSimilarityComputer implements MetricSimilarityComputer {
     @Override
     public double computeSimilarity(long[] vector1, long[] vector2) {
         long intersection = Intersections.intersection3(vector1, vector2);
-        long union = vector1.length + vector2.length - intersection;
+        return computeSimilarity(intersection, vector1.length, vector2.length);
+    }
+
+    @Override
+    public double computeSimilarity(long intersection, long size1, long size2) {
+        long union = size1 + size2 - intersection;
         double similarity = union == 0 ? 0 : intersection / (double) union;
         return similarity >= similarityCutoff ? similarity : Double.NaN;
     }
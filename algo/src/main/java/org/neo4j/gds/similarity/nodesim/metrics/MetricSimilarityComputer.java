@@ -23,6 +23,11 @@ public interface MetricSimilarityComputer {
 
     double computeSimilarity(long[] vector1, long[] vector2);
 
+    /**
+     * Computes the unweighted similarity of two neighborhoods from their sizes and the size of their intersection.
+     */
+    double computeSimilarity(long intersection, long size1, long size2);
+
     double computeWeightedSimilarity(long[] vector1, long[] vector2, double[] weights1, double[] weights2);
 
 }
@@ -33,6 +33,12 @@ public final class OverlapSimilarityComputer implements MetricSimilarityComputer
         return OverlapSimilarity.computeSimilarity(vector1, vector2, similarityCutoff);
     }
 
+    @Override
+    public double computeSimilarity(long intersection, long size1, long size2) {
+        double similarity = intersection / (double) Math.min(size1, size2);
+        return similarity >= similarityCutoff ? similarity : Double.NaN;
+    }
+
     @Override
     public double computeWeightedSimilarity(long[] vector1, long[] vector2, double[] weights1, double[] weights2) {
         return OverlapSimilarity.computeWeightedSimilarity(vector1, vector2, weights1, weights2, similarityCutoff);
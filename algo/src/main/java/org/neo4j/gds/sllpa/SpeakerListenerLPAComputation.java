@@ -84,8 +84,8 @@ class SpeakerListenerLPAComputation implements PregelComputation<SpeakerListener
     public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
         return () -> Pregel.memoryEstimation(
             Map.of(LABELS_PROPERTY, ValueType.LONG_ARRAY),
-            false,
-            false
+            true,
+            isAsynchronous
         );
     }
 
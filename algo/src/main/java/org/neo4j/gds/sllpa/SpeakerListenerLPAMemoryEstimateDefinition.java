@@ -21,6 +21,7 @@ package org.neo4j.gds.sllpa;
 
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.Pregel;
+import org.neo4j.gds.beta.pregel.PregelConfig;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
@@ -32,11 +33,19 @@ import static org.neo4j.gds.sllpa.SpeakerListenerLPA.LABELS_PROPERTY;
 
 public class SpeakerListenerLPAMemoryEstimateDefinition  implements MemoryEstimateDefinition {
 
+    private final PregelConfig config;
+
+    public SpeakerListenerLPAMemoryEstimateDefinition(PregelConfig config) {
+        this.config = config;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
         return MemoryEstimations.builder()
             .add(Pregel.memoryEstimation(
                 Map.of(LABELS_PROPERTY, ValueType.LONG_ARRAY),
+                config,
+                true,
                 false,
                 false
             )).build();
@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.relationships.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+/**
+ * Parallel minimum weight spanning tree algorithm (Borůvka).
+ * <p>
+ * In every round, each node looks up its cheapest relationship to another component,
+ * each component selects the cheapest of these relationships, and all selected relationships
+ * are added to the spanning forest at once. The number of components at least halves per round.
+ * Relationships of equal weight are ordered by their node ids, which keeps the selected
+ * relationships free of cycles. Components are tracked in a {@link HugeAtomicDisjointSetStruct}.
+ * Nodes without relationships to other components are skipped in all later rounds.
+ * <p>
+ * The result has the same form as the one of {@link Prim}: the spanning tree of the component
+ * that contains the start node, rooted at the start node.
+ * For relationships of equal weight, both algorithms may choose different but equally heavy trees.
+ */
+public class Boruvka extends Algorithm<SpanningTree> {
+    private static final long NONE = -1L;
+
+    private final Graph graph;
+    private final DoubleUnaryOperator minMax;
+    private final long startNodeId;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+
+    // the component of every node at the beginning of the current round
+    private HugeLongArray componentOf;
+    // the cheapest relationship of every node to another component, weights are passed through `minMax`
+    private HugeLongArray cheapestTarget;
+    private HugeDoubleArray cheapestWeight;
+    // the node with the cheapest relationship of every component
+    private HugeAtomicLongArray cheapestOfComponent;
+
+    public Boruvka(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        long startNodeId,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.minMax = minMax;
+        this.startNodeId = startNodeId;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public SpanningTree compute() {
+        progressTracker.beginSubTask("SpanningTree");
+        long nodeCount = graph.nodeCount();
+
+        var components = new HugeAtomicDisjointSetStruct(nodeCount, concurrency);
+        var exhausted = HugeAtomicBitSet.create(nodeCount);
+        var forest = new Forest(nodeCount);
+
+        componentOf = HugeLongArray.newArray(nodeCount);
+        cheapestTarget = HugeLongArray.newArray(nodeCount);
+        cheapestWeight = HugeDoubleArray.newArray(nodeCount);
+        cheapestOfComponent = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+
+        List<Partition> rangePartitions = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            Function.identity(),
+            Optional.empty()
+        );
+        List<DegreePartition> degreePartitions = PartitionUtils.degreePartition(
+            graph,
+            concurrency,
+            Function.identity(),
+            Optional.empty()
+        );
+
+        boolean firstRound = true;
+        while (true) {
+            terminationFlag.assertRunning();
+
+            forEachNode(rangePartitions, nodeId -> {
+                componentOf.set(nodeId, components.setIdOf(nodeId));
+                cheapestOfComponent.set(nodeId, NONE);
+            });
+
+            boolean logProgress = firstRound;
+            run(degreePartitions.stream().map(partition -> new CheapestRelationshipTask(
+                graph.concurrentCopy(),
+                partition,
+                exhausted,
+                logProgress
+            )).toList());
+
+            forEachNode(rangePartitions, nodeId -> {
+                if (cheapestTarget.get(nodeId) != NONE) {
+                    offer(componentOf.get(nodeId), nodeId);
+                }
+            });
+
+            long forestSize = forest.size();
+            forEachNode(rangePartitions, component -> {
+                long nodeId = cheapestOfComponent.get(component);
+                if (nodeId == NONE) {
+                    return;
+                }
+                long target = cheapestTarget.get(nodeId);
+                long targetComponent = componentOf.get(target);
+                long other = cheapestOfComponent.get(targetComponent);
+                // both components selected the same relationship, only one of them adds it
+                if (other != NONE && targetComponent < component && isSameRelationship(nodeId, other)) {
+                    return;
+                }
+                components.union(nodeId, target);
+                forest.add(nodeId, target, minMax.applyAsDouble(cheapestWeight.get(nodeId)));
+            });
+
+            if (forest.size() == forestSize) {
+                break;
+            }
+            firstRound = false;
+        }
+
+        var spanningTree = forest.rootAt(startNodeId);
+        progressTracker.endSubTask("SpanningTree");
+        return spanningTree;
+    }
+
+    private void offer(long component, long nodeId) {
+        while (true) {
+            long current = cheapestOfComponent.get(component);
+            if (current != NONE && !isCheaper(nodeId, current)) {
+                return;
+            }
+            if (cheapestOfComponent.compareAndSet(component, current, nodeId)) {
+                return;
+            }
+        }
+    }
+
+    private boolean isCheaper(long nodeId, long otherNodeId) {
+        return compare(
+            cheapestWeight.get(nodeId), nodeId, cheapestTarget.get(nodeId),
+            cheapestWeight.get(otherNodeId), otherNodeId, cheapestTarget.get(otherNodeId)
+        ) < 0;
+    }
+
+    private boolean isSameRelationship(long nodeId, long otherNodeId) {
+        return compare(
+            cheapestWeight.get(nodeId), nodeId, cheapestTarget.get(nodeId),
+            cheapestWeight.get(otherNodeId), otherNodeId, cheapestTarget.get(otherNodeId)
+        ) == 0;
+    }
+
+    /**
+     * A total order on undirected relationships: by weight, then by the smaller and the larger node id.
+     */
+    private static int compare(double weight1, long source1, long target1, double weight2, long source2, long target2) {
+        int byWeight = Double.compare(weight1, weight2);
+        if (byWeight != 0) {
+            return byWeight;
+        }
+        int byMin = Long.compare(Math.min(source1, target1), Math.min(source2, target2));
+        if (byMin != 0) {
+            return byMin;
+        }
+        return Long.compare(Math.max(source1, target1), Math.max(source2, target2));
+    }
+
+    private void forEachNode(List<Partition> partitions, LongConsumer action) {
+        run(partitions.stream().map(partition -> (Runnable) () -> partition.consume(action)).toList());
+    }
+
+    private void run(List<? extends Runnable> tasks) {
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    private final class CheapestRelationshipTask implements Runnable, RelationshipWithPropertyConsumer {
+        private final Graph localGraph;
+        private final DegreePartition partition;
+        private final HugeAtomicBitSet exhausted;
+        private final boolean logProgress;
+
+        private long component;
+        private long bestTarget;
+        private double bestWeight;
+
+        CheapestRelationshipTask(
+            Graph localGraph,
+            DegreePartition partition,
+            HugeAtomicBitSet exhausted,
+            boolean logProgress
+        ) {
+            this.localGraph = localGraph;
+            this.partition = partition;
+            this.exhausted = exhausted;
+            this.logProgress = logProgress;
+        }
+
+        @Override
+        public void run() {
+            long end = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                if (exhausted.get(nodeId)) {
+                    continue;
+                }
+                component = componentOf.get(nodeId);
+                bestTarget = NONE;
+                bestWeight = 0.0;
+                localGraph.forEachRelationship(nodeId, 1.0D, this);
+
+                cheapestTarget.set(nodeId, bestTarget);
+                cheapestWeight.set(nodeId, bestWeight);
+                // components only grow, so this node will not find another component later
+                if (bestTarget == NONE) {
+                    exhausted.set(nodeId);
+                }
+            }
+            if (logProgress) {
+                progressTracker.logProgress(partition.relationshipCount());
+            }
+        }
+
+        @Override
+        public boolean accept(long source, long target, double property) {
+            if (componentOf.get(target) == component) {
+                return true;
+            }
+            double weight = minMax.applyAsDouble(property);
+            if (bestTarget == NONE || compare(weight, source, target, bestWeight, source, bestTarget) < 0) {
+                bestTarget = target;
+                bestWeight = weight;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The relationships of the spanning forest, stored as an edge list.
+     */
+    private static final class Forest {
+        private final HugeLongArray sources;
+        private final HugeLongArray targets;
+        private final HugeDoubleArray weights;
+        private final AtomicLong size;
+        private final long nodeCount;
+
+        Forest(long nodeCount) {
+            // a spanning forest has less relationships than nodes
+            long capacity = Math.max(1, nodeCount - 1);
+            this.sources = HugeLongArray.newArray(capacity);
+            this.targets = HugeLongArray.newArray(capacity);
+            this.weights = HugeDoubleArray.newArray(capacity);
+            this.size = new AtomicLong();
+            this.nodeCount = nodeCount;
+        }
+
+        void add(long source, long target, double weight) {
+            long index = size.getAndIncrement();
+            sources.set(index, source);
+            targets.set(index, target);
+            weights.set(index, weight);
+        }
+
+        long size() {
+            return size.get();
+        }
+
+        /**
+         * Orients the tree that contains the start node towards it.
+         */
+        SpanningTree rootAt(long startNodeId) {
+            long relationshipCount = size();
+
+            // group the relationships by node, each relationship is stored for both of its nodes
+            var offsets = HugeLongArray.newArray(nodeCount + 1);
+            for (long i = 0; i < relationshipCount; i++) {
+                offsets.addTo(sources.get(i) + 1, 1);
+                offsets.addTo(targets.get(i) + 1, 1);
+            }
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                offsets.addTo(nodeId + 1, offsets.get(nodeId));
+            }
+            var cursors = HugeLongArray.newArray(nodeCount);
+            var adjacency = HugeLongArray.newArray(Math.max(1, 2 * relationshipCount));
+            for (long i = 0; i < relationshipCount; i++) {
+                long source = sources.get(i);
+                long target = targets.get(i);
+                adjacency.set(offsets.get(source) + cursors.get(source), i);
+                cursors.addTo(source, 1);
+                adjacency.set(offsets.get(target) + cursors.get(target), i);
+                cursors.addTo(target, 1);
+            }
+
+            var parent = HugeLongArray.newArray(nodeCount);
+            parent.fill(NONE);
+            var costToParent = HugeDoubleArray.newArray(nodeCount);
+            var visited = new BitSet(nodeCount);
+            var queue = HugeLongArray.newArray(nodeCount);
+            long head = 0;
+            long tail = 0;
+            double totalWeight = 0.0;
+
+            queue.set(tail++, startNodeId);
+            visited.set(startNodeId);
+            while (head < tail) {
+                long nodeId = queue.get(head++);
+                for (long offset = offsets.get(nodeId); offset < offsets.get(nodeId + 1); offset++) {
+                    long relationship = adjacency.get(offset);
+                    long source = sources.get(relationship);
+                    long neighbour = source == nodeId ? targets.get(relationship) : source;
+                    if (visited.get(neighbour)) {
+                        continue;
+                    }
+                    visited.set(neighbour);
+                    parent.set(neighbour, nodeId);
+                    costToParent.set(neighbour, weights.get(relationship));
+                    totalWeight += weights.get(relationship);
+                    queue.set(tail++, neighbour);
+                }
+            }
+
+            return new SpanningTree(
+                startNodeId,
+                nodeCount,
+                tail,
+                parent,
+                costToParent::get,
+                totalWeight
+            );
+        }
+    }
+}
@@ -19,6 +19,10 @@
  */
 package org.neo4j.gds.spanningtree;
 
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.mem.MemoryEstimation;
@@ -28,13 +32,45 @@ import org.neo4j.gds.mem.Estimate;
 
 public class SpanningTreeMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
+    private final SpanningTreeMethod method;
+
+    public SpanningTreeMemoryEstimateDefinition() {
+        this(SpanningTreeMethod.PRIM);
+    }
+
+    public SpanningTreeMemoryEstimateDefinition(SpanningTreeMethod method) {
+        this.method = method;
+    }
 
     @Override
     public MemoryEstimation memoryEstimation() {
+        if (method == SpanningTreeMethod.BORUVKA) {
+            return boruvkaMemoryEstimation();
+        }
         return MemoryEstimations.builder(Prim.class)
             .perNode("Parent array", HugeLongArray::memoryEstimation)
             .add("Priority queue", HugeLongPriorityQueue.memoryEstimation())
             .perNode("visited", Estimate::sizeOfBitset)
             .build();
     }
+
+    private static MemoryEstimation boruvkaMemoryEstimation() {
+        return MemoryEstimations.builder(Boruvka.class)
+            .add("Components", HugeAtomicDisjointSetStruct.memoryEstimation(false))
+            .perNode("Component of node", HugeLongArray::memoryEstimation)
+            .perNode("Cheapest target", HugeLongArray::memoryEstimation)
+            .perNode("Cheapest weight", HugeDoubleArray::memoryEstimation)
+            .perNode("Cheapest of component", HugeAtomicLongArray::memoryEstimation)
+            .perNode("Exhausted nodes", HugeAtomicBitSet::memoryEstimation)
+            .perNode(
+                "Forest",
+                nodeCount -> 2 * HugeLongArray.memoryEstimation(nodeCount) + HugeDoubleArray.memoryEstimation(nodeCount)
+            )
+            .perNode("Forest adjacency", nodeCount -> 4 * HugeLongArray.memoryEstimation(nodeCount))
+            .perNode("Parent array", HugeLongArray::memoryEstimation)
+            .perNode("Cost to parent", HugeDoubleArray::memoryEstimation)
+            .perNode("Queue", HugeLongArray::memoryEstimation)
+            .perNode("visited", Estimate::sizeOfBitset)
+            .build();
+    }
 }
@@ -150,14 +150,22 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
         var nextNodeSupplier = RandomWalkCompanion.nextNodeSupplier(graph, sourceNodes);
         RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier = RandomWalkCompanion.cumulativeWeights(
             graph,
+            walkParameters.useAliasTables(),
             concurrency,
             executorService,
             progressTracker
         );
+        var aliasTables = RandomWalkCompanion.aliasTables(
+            graph,
+            walkParameters.useAliasTables(),
+            concurrency,
+            executorService
+        );
         return new RandomWalkTaskSupplier(
             graph::concurrentCopy,
             nextNodeSupplier,
             cumulativeWeightSupplier,
+            aliasTables,
             walks,
             walkParameters,
             randomSeed,
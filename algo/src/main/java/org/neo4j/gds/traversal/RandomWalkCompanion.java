@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.traversal;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.Concurrency;
@@ -26,6 +27,7 @@ import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.degree.DegreeCentrality;
 import org.neo4j.gds.degree.DegreeFunction;
+import org.neo4j.gds.ml.core.samplers.NeighborAliasTables;
 import org.neo4j.gds.ml.core.samplers.RandomWalkSampler;
 
 import java.util.List;
@@ -33,13 +35,17 @@ import java.util.concurrent.ExecutorService;
 
 public final class RandomWalkCompanion {
 
+    /**
+     * Computes the weight sums the sampler draws from, unless alias tables are used instead.
+     */
     public static RandomWalkSampler.CumulativeWeightSupplier cumulativeWeights(
         Graph graph,
+        boolean useAliasTables,
         Concurrency concurrency,
         ExecutorService executorsService,
         ProgressTracker progressTracker
     ) {
-        return graph.hasRelationshipProperty()
+        return graph.hasRelationshipProperty() && !useAliasTables
             ? cumulativeWeightsFromProperty(graph, concurrency, executorsService, progressTracker)::get
             : graph::degree;
     }
@@ -62,6 +68,20 @@ public final class RandomWalkCompanion {
 
     }
 
+    /**
+     * Builds alias tables to sample weighted neighbours in constant time, if enabled.
+     */
+    public static @Nullable NeighborAliasTables aliasTables(
+        Graph graph,
+        boolean useAliasTables,
+        Concurrency concurrency,
+        ExecutorService executorService
+    ) {
+        return useAliasTables
+            ? NeighborAliasTables.create(graph, concurrency, executorService)
+            : null;
+    }
+
     public static NextNodeSupplier nextNodeSupplier(Graph graph, List<Long> sourceNodes) {
         return sourceNodes.isEmpty()
             ? new NextNodeSupplier.GraphNodeSupplier(graph.nodeCount())
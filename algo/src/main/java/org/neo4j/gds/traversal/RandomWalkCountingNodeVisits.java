@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.traversal;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
@@ -27,6 +28,7 @@ import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.ml.core.EmbeddingUtils;
+import org.neo4j.gds.ml.core.samplers.NeighborAliasTables;
 import org.neo4j.gds.ml.core.samplers.RandomWalkSampler;
 import org.neo4j.gds.termination.TerminationFlag;
 
@@ -151,14 +153,22 @@ public final class RandomWalkCountingNodeVisits extends Algorithm<HugeAtomicLong
         var nextNodeSupplier = RandomWalkCompanion.nextNodeSupplier(graph, sourceNodes);
         RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier = RandomWalkCompanion.cumulativeWeights(
             graph,
+            walkParameters.useAliasTables(),
             concurrency,
             executorService,
             progressTracker
         );
+        var aliasTables = RandomWalkCompanion.aliasTables(
+            graph,
+            walkParameters.useAliasTables(),
+            concurrency,
+            executorService
+        );
         return new RandomWalkTaskSupplier(
             graph::concurrentCopy,
             nextNodeSupplier,
             cumulativeWeightSupplier,
+            aliasTables,
             walkParameters,
             randomSeed,
             result,
@@ -171,6 +181,7 @@ public final class RandomWalkCountingNodeVisits extends Algorithm<HugeAtomicLong
         private final Supplier<Graph> graphSupplier;
         private final NextNodeSupplier nextNodeSupplier;
         private final RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier;
+        private final @Nullable NeighborAliasTables aliasTables;
         private final WalkParameters walkParameters;
         private final long randomSeed;
         private final HugeAtomicLongArray result;
@@ -181,6 +192,7 @@ public final class RandomWalkCountingNodeVisits extends Algorithm<HugeAtomicLong
             Supplier<Graph> graphSupplier,
             NextNodeSupplier nextNodeSupplier,
             RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier,
+            @Nullable NeighborAliasTables aliasTables,
             WalkParameters walkParameters,
             long randomSeed, HugeAtomicLongArray result,
             ProgressTracker progressTracker,
@@ -189,6 +201,7 @@ public final class RandomWalkCountingNodeVisits extends Algorithm<HugeAtomicLong
             this.graphSupplier = graphSupplier;
             this.nextNodeSupplier = nextNodeSupplier;
             this.cumulativeWeightSupplier = cumulativeWeightSupplier;
+            this.aliasTables = aliasTables;
             this.walkParameters = walkParameters;
             this.randomSeed = randomSeed;
             this.result = result;
@@ -202,6 +215,7 @@ public final class RandomWalkCountingNodeVisits extends Algorithm<HugeAtomicLong
             var sampler = RandomWalkSampler.create(
                 graph,
                 cumulativeWeightSupplier,
+                aliasTables,
                 walkParameters.walkLength(),
                 walkParameters.returnFactor(),
                 walkParameters.inOutFactor(),
@@ -31,8 +31,8 @@ public final class RandomWalkCountingNodeVisitsProgressTaskFactory {
 
     private RandomWalkCountingNodeVisitsProgressTaskFactory() {}
 
-    public static Task create(Graph graph) {
-        if (graph.hasRelationshipProperty()) {
+    public static Task create(Graph graph, boolean useAliasTables) {
+        if (graph.hasRelationshipProperty() && !useAliasTables) {
             return Tasks.task(
                 AlgorithmLabel.RandomWalk.asString(),
                 List.of(DegreeCentralityTask.create(graph))
@@ -24,6 +24,7 @@ import org.neo4j.gds.mem.Estimate;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.ml.core.samplers.NeighborAliasTables;
 
 public class RandomWalkCountingVisitsMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
@@ -37,10 +38,15 @@ public class RandomWalkCountingVisitsMemoryEstimateDefinition implements MemoryE
     public MemoryEstimation memoryEstimation() {
         var memoryUsagePerWalk = Estimate.sizeOfLongArray(parameters.walkLength());
 
-        return MemoryEstimations.builder(RandomWalkCountingNodeVisits.class.getSimpleName())
+        var builder = MemoryEstimations.builder(RandomWalkCountingNodeVisits.class.getSimpleName())
             .perNode("visits",HugeAtomicLongArray::memoryEstimation)
-            .perThread("local walk", memoryUsagePerWalk)
-            .build();
+            .perThread("local walk", memoryUsagePerWalk);
+
+        if (parameters.useAliasTables()) {
+            builder.add("alias tables", NeighborAliasTables.memoryEstimation());
+        }
+
+        return builder.build();
 
     }
 
@@ -24,6 +24,7 @@ import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.mem.MemoryRange;
 import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.ml.core.samplers.NeighborAliasTables;
 
 public class RandomWalkMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
@@ -40,9 +41,14 @@ public class RandomWalkMemoryEstimateDefinition implements MemoryEstimateDefinit
 
         var maxMemoryUsage = sizeOfBuffer + Estimate.sizeOfArray(parameters.walkBufferSize(), memoryUsagePerWalk);
 
-        return MemoryEstimations.builder(RandomWalk.class.getSimpleName())
-            .fixed("random walk buffer", MemoryRange.of(sizeOfBuffer, maxMemoryUsage))
-            .build();
+        var builder = MemoryEstimations.builder(RandomWalk.class.getSimpleName())
+            .fixed("random walk buffer", MemoryRange.of(sizeOfBuffer, maxMemoryUsage));
+
+        if (parameters.useAliasTables()) {
+            builder.add("alias tables", NeighborAliasTables.memoryEstimation());
+        }
+
+        return builder.build();
     }
 
 }
@@ -30,9 +30,9 @@ import java.util.ArrayList;
 public final class RandomWalkProgressTask {
     private RandomWalkProgressTask() {}
 
-    public static Task create(Graph graph) {
+    public static Task create(Graph graph, boolean useAliasTables) {
         var tasks = new ArrayList<Task>();
-        if (graph.hasRelationshipProperty()) {
+        if (graph.hasRelationshipProperty() && !useAliasTables) {
             tasks.add(DegreeCentralityTask.create(graph));
         }
         tasks.add(Tasks.leaf("create walks", graph.nodeCount()));
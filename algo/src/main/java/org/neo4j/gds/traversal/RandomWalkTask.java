@@ -19,9 +19,11 @@
  */
 package org.neo4j.gds.traversal;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.ml.core.samplers.NeighborAliasTables;
 import org.neo4j.gds.ml.core.samplers.RandomWalkSampler;
 
 import java.util.concurrent.BlockingQueue;
@@ -44,6 +46,7 @@ final class RandomWalkTask implements Runnable {
         Graph graph,
         NextNodeSupplier nextNodeSupplier,
         RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier,
+        @Nullable NeighborAliasTables aliasTables,
         BlockingQueue<long[]> walks,
         int walksPerNode,
         int walkLength,
@@ -64,6 +67,7 @@ final class RandomWalkTask implements Runnable {
         this.sampler = RandomWalkSampler.create(
             graph,
             cumulativeWeightSupplier,
+            aliasTables,
             walkLength,
             returnFactor,
             inOutFactor,
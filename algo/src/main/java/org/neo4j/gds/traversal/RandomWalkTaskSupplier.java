@@ -19,8 +19,10 @@
  */
 package org.neo4j.gds.traversal;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.ml.core.samplers.NeighborAliasTables;
 import org.neo4j.gds.ml.core.samplers.RandomWalkSampler;
 import org.neo4j.gds.termination.TerminationFlag;
 
@@ -31,6 +33,7 @@ class RandomWalkTaskSupplier implements Supplier<RandomWalkTask> {
     private final Supplier<Graph> graphSupplier;
     private final NextNodeSupplier nextNodeSupplier;
     private final RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier;
+    private final @Nullable NeighborAliasTables aliasTables;
     private final BlockingQueue<long[]> walks;
     private final WalkParameters walkParameters;
     private final long randomSeed;
@@ -41,6 +44,7 @@ class RandomWalkTaskSupplier implements Supplier<RandomWalkTask> {
         Supplier<Graph> graphSupplier,
         NextNodeSupplier nextNodeSupplier,
         RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier,
+        @Nullable NeighborAliasTables aliasTables,
         BlockingQueue<long[]> walks,
         WalkParameters walkParameters,
         long randomSeed,
@@ -50,6 +54,7 @@ class RandomWalkTaskSupplier implements Supplier<RandomWalkTask> {
         this.graphSupplier = graphSupplier;
         this.nextNodeSupplier = nextNodeSupplier;
         this.cumulativeWeightSupplier = cumulativeWeightSupplier;
+        this.aliasTables = aliasTables;
         this.walks = walks;
         this.walkParameters = walkParameters;
         this.randomSeed = randomSeed;
@@ -63,6 +68,7 @@ class RandomWalkTaskSupplier implements Supplier<RandomWalkTask> {
             graphSupplier.get(),
             nextNodeSupplier,
             cumulativeWeightSupplier,
+            aliasTables,
             walks,
             walkParameters.walksPerNode(),
             walkParameters.walkLength(),
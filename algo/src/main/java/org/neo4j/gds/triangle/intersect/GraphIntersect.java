@@ -34,25 +34,52 @@ import static org.neo4j.gds.api.AdjacencyCursor.NOT_FOUND;
  * An instance of this is not thread-safe; Iteration/Intersection on multiple threads will
  * throw misleading {@link NullPointerException}s.
  * Instances are however safe to use concurrently with other {@link org.neo4j.gds.api.properties.relationships.RelationshipIterator}s.
+ * <p>
+ * The neighbourhoods of two nodes are usually intersected by merging their sorted adjacency cursors.
+ * If one of the nodes is a hub, i.e. its degree is at least the hub degree and
+ * {@link #HUB_DEGREE_RATIO} times the degree of the other node, the neighbours of the
+ * smaller node are probed against a {@link NeighborhoodSet} of the hub instead.
+ * The sets of the most recently seen hubs are cached, so that a hub is only loaded
+ * once for all the neighbours that are intersected with it.
  */
 
 public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements RelationshipIntersect {
 
+    public static final int DEFAULT_HUB_DEGREE = 1024;
+    static final int HUB_DEGREE_RATIO = 8;
+    static final int CACHED_HUBS = 4;
+
     private final IntPredicate degreeFilter;
     private final LabelFilterChecker labelFilterChecker;
+    private final int hubDegree;
+    private final NeighborhoodSet[] hubs;
+    private final long[] hubLastUsed;
+    private long hubClock;
     private CURSOR origNeighborsOfa;
     private CURSOR helpingCursorOfa;
     private CURSOR helpingCursorOfb;
+    private CURSOR hubCursor;
 
 
     protected GraphIntersect(
         long maxDegree,
         LabelFilterChecker labelFilterChecker
+    ) {
+        this(maxDegree, labelFilterChecker, DEFAULT_HUB_DEGREE);
+    }
+
+    protected GraphIntersect(
+        long maxDegree,
+        LabelFilterChecker labelFilterChecker,
+        int hubDegree
     ) {
         this.degreeFilter = maxDegree < Long.MAX_VALUE
             ? (degree) -> degree <= maxDegree
             : (ignore) -> true;
         this.labelFilterChecker = labelFilterChecker;
+        this.hubDegree = hubDegree;
+        this.hubs = new NeighborhoodSet[CACHED_HUBS];
+        this.hubLastUsed = new long[CACHED_HUBS];
     }
 
     @Override
@@ -82,21 +109,31 @@ public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements
             if (labelFilterChecker.check(a, b)) {
                 var degreeOfb = degree(b);
                 if (degreeFilter.test(degreeOfb)) {
-                    helpingCursorOfb = cursorForNode(
-                        helpingCursorOfb,
-                        b,
-                        degreeOfb
-                    );
-
-                    helpingCursorOfa = cursorForNode(helpingCursorOfa, a, degreeOfa);
-
-                    triangles(
-                        a,
-                        b,
-                        helpingCursorOfa,
-                        helpingCursorOfb,
-                        consumer
-                    ); //find all triangles involving the edge (a-b)
+                    if (isHub(degreeOfa, degreeOfb)) {
+                        helpingCursorOfb = cursorForNode(helpingCursorOfb, b, degreeOfb);
+                        // probe the neighbours of b against the neighbourhood of the hub a
+                        probe(a, b, helpingCursorOfb, hub(a, degreeOfa), consumer);
+                    } else if (isHub(degreeOfb, degreeOfa)) {
+                        helpingCursorOfa = cursorForNode(helpingCursorOfa, a, degreeOfa);
+                        // probe the neighbours of a against the neighbourhood of the hub b
+                        probe(a, b, helpingCursorOfa, hub(b, degreeOfb), consumer);
+                    } else {
+                        helpingCursorOfb = cursorForNode(
+                            helpingCursorOfb,
+                            b,
+                            degreeOfb
+                        );
+
+                        helpingCursorOfa = cursorForNode(helpingCursorOfa, a, degreeOfa);
+
+                        triangles(
+                            a,
+                            b,
+                            helpingCursorOfa,
+                            helpingCursorOfb,
+                            consumer
+                        ); //find all triangles involving the edge (a-b)
+                    }
                 }
             }
 
@@ -127,6 +164,52 @@ public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements
         }
     }
 
+    private void probe(
+        long a,
+        long b,
+        CURSOR candidates,
+        NeighborhoodSet hubNeighbors,
+        IntersectionConsumer consumer
+    ) {
+        long c = AdjacencyCursorUtils.next(candidates);
+        while (c != NOT_FOUND && (c < b)) {
+            if (labelFilterChecker.check(a, b, c) && hubNeighbors.contains(c) && degreeFilter.test(degree(c))) {
+                consumer.accept(c, b, a); // triangle is s.t that c < b < a
+            }
+            c = AdjacencyCursorUtils.next(candidates);
+        }
+    }
+
+    private boolean isHub(int degree, int otherDegree) {
+        return degree >= hubDegree && degree >= (long) HUB_DEGREE_RATIO * otherDegree;
+    }
+
+    private NeighborhoodSet hub(long node, int degree) {
+        hubClock++;
+        int leastRecentlyUsed = 0;
+        for (int i = 0; i < CACHED_HUBS; i++) {
+            var hub = hubs[i];
+            if (hub != null && hub.node() == node) {
+                hubLastUsed[i] = hubClock;
+                return hub;
+            }
+            if (hubLastUsed[i] < hubLastUsed[leastRecentlyUsed]) {
+                leastRecentlyUsed = i;
+            }
+        }
+
+        var hub = hubs[leastRecentlyUsed];
+        if (hub == null) {
+            hub = new NeighborhoodSet();
+            hubs[leastRecentlyUsed] = hub;
+        }
+        hubLastUsed[leastRecentlyUsed] = hubClock;
+
+        hubCursor = cursorForNode(hubCursor, node, degree);
+        hub.load(node, hubCursor);
+        return hub;
+    }
+
     private void checkForAndEmitTriangle(
         IntersectionConsumer consumer,
         long a,
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle.intersect;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyCursorUtils;
+
+import static org.neo4j.gds.api.AdjacencyCursor.NOT_FOUND;
+
+/**
+ * A reusable membership set of the neighbours of a single node.
+ * <p>
+ * Neighbourhoods whose ids are packed closely together are stored as a bitmap
+ * over the range between the smallest and the largest neighbour,
+ * all others are stored in a hash set.
+ */
+final class NeighborhoodSet {
+
+    /**
+     * A bitmap is used as long as it needs at most this many bits per neighbour,
+     * which is about the footprint of a hash set entry.
+     */
+    static final long MAX_BITS_PER_NEIGHBOR = 128;
+
+    private final LongArrayList neighbors;
+    private final BitSet bitmap;
+    private final LongHashSet hashSet;
+
+    private long node;
+    private boolean useBitmap;
+    private long offset;
+
+    NeighborhoodSet() {
+        this.neighbors = new LongArrayList();
+        this.bitmap = new BitSet();
+        this.hashSet = new LongHashSet();
+        this.node = NOT_FOUND;
+    }
+
+    long node() {
+        return node;
+    }
+
+    void load(long node, AdjacencyCursor cursor) {
+        this.node = node;
+        neighbors.clear();
+        for (long neighbor = AdjacencyCursorUtils.next(cursor); neighbor != NOT_FOUND; neighbor = AdjacencyCursorUtils.next(cursor)) {
+            neighbors.add(neighbor);
+        }
+
+        bitmap.clear();
+        hashSet.clear();
+        if (neighbors.isEmpty()) {
+            useBitmap = true;
+            offset = 0;
+            return;
+        }
+
+        offset = neighbors.get(0);
+        long range = neighbors.get(neighbors.size() - 1) - offset + 1;
+        useBitmap = range <= neighbors.size() * MAX_BITS_PER_NEIGHBOR;
+        if (useBitmap) {
+            for (int i = 0; i < neighbors.size(); i++) {
+                bitmap.set(neighbors.get(i) - offset);
+            }
+        } else {
+            hashSet.addAll(neighbors);
+        }
+    }
+
+    boolean contains(long neighbor) {
+        if (useBitmap) {
+            return neighbor >= offset && bitmap.get(neighbor - offset);
+        }
+        return hashSet.contains(neighbor);
+    }
+
+    boolean usesBitmap() {
+        return useBitmap;
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Keeps the weakly connected components of a graph store up to date
+ * while relationships are being added to it.
+ * <p>
+ * Union-find is naturally incremental: new relationships can be absorbed by
+ * joining the sets of their end nodes, without revisiting any existing relationship.
+ * The index remembers which relationship types of the graph store it has absorbed,
+ * together with the identity of their topology, i.e. the adjacency list and the relationship count.
+ * On {@link #update(GraphStore, Concurrency)}, relationship types that have been added since,
+ * e.g. by a mutate step, are absorbed. Relationships that are not part of a graph store
+ * can be absorbed directly with {@link #absorb(long[], long[], Concurrency)}.
+ * <p>
+ * Removing relationships can split components, which union-find cannot express.
+ * If an absorbed relationship type has been dropped from the graph store, or has been
+ * replaced by a different topology under the same name, the index is rebuilt from scratch.
+ * <p>
+ * Component queries are answered from the wait-free {@link HugeAtomicDisjointSetStruct}
+ * and may run concurrently to updates. Components handed out to callers are
+ * {@link #snapshot(Concurrency) snapshots}, so later updates never leak into results.
+ */
+public final class ComponentIndex {
+
+    // The index must not keep the graph store alive, so it never references it.
+    private static final Map<GraphStore, ComponentIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final long nodeCount;
+    private final Map<RelationshipType, TopologyIdentity> absorbedTypes;
+
+    private volatile DisjointSetStruct components;
+
+    public ComponentIndex(long nodeCount, Concurrency concurrency) {
+        this.nodeCount = nodeCount;
+        this.absorbedTypes = new HashMap<>();
+        this.components = new HugeAtomicDisjointSetStruct(nodeCount, concurrency);
+    }
+
+    /**
+     * Returns the index attached to the given graph store, after absorbing all
+     * relationship types that have been added since the last call.
+     * The index is created on the first call and lives as long as the graph store.
+     */
+    public static ComponentIndex of(GraphStore graphStore, Concurrency concurrency) {
+        var index = INDEXES.computeIfAbsent(graphStore, store -> new ComponentIndex(store.nodeCount(), concurrency));
+        index.update(graphStore, concurrency);
+        return index;
+    }
+
+    /**
+     * Returns the components of the given graph, which must contain all nodes and
+     * relationship types of the graph store, from the index attached to the graph store.
+     * Only the relationship types that have been added since the previous call are absorbed.
+     * The returned components are a snapshot and are not affected by later updates of the index.
+     */
+    public static DisjointSetStruct components(
+        Graph graph,
+        GraphStore graphStore,
+        Concurrency concurrency,
+        ProgressTracker progressTracker
+    ) {
+        var selectedTypes = graph.schema().relationshipSchema().availableTypes();
+        if (graph.nodeCount() != graphStore.nodeCount() || !selectedTypes.containsAll(graphStore.relationshipTypes())) {
+            throw new IllegalArgumentException(
+                "The component index covers the whole graph, so all node labels and relationship types must be selected."
+            );
+        }
+
+        progressTracker.beginSubTask();
+        var index = of(graphStore, concurrency);
+        progressTracker.logProgress(graph.relationshipCount());
+        progressTracker.endSubTask();
+
+        return index.snapshot(concurrency);
+    }
+
+    public static void detach(GraphStore graphStore) {
+        INDEXES.remove(graphStore);
+    }
+
+    /**
+     * Absorbs all relationship types of the graph store that have not been absorbed yet.
+     * Rebuilds the index if an absorbed relationship type has been dropped or replaced.
+     */
+    public synchronized void update(GraphStore graphStore, Concurrency concurrency) {
+        if (graphStore.nodeCount() != nodeCount) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The component index has been built for %d nodes, but the graph store contains %d nodes.",
+                nodeCount,
+                graphStore.nodeCount()
+            ));
+        }
+
+        var topologies = new HashMap<RelationshipType, TopologyIdentity>();
+        for (var relationshipType : graphStore.relationshipTypes()) {
+            topologies.put(relationshipType, TopologyIdentity.of(graphStore, relationshipType));
+        }
+
+        var unchanged = absorbedTypes.entrySet().stream().allMatch(absorbed -> {
+            var current = topologies.get(absorbed.getKey());
+            return current != null && current.isSameAs(absorbed.getValue());
+        });
+        if (!unchanged) {
+            absorbedTypes.clear();
+            components = new HugeAtomicDisjointSetStruct(nodeCount, concurrency);
+        }
+
+        var newTypes = new HashSet<>(topologies.keySet());
+        newTypes.removeAll(absorbedTypes.keySet());
+        if (newTypes.isEmpty()) {
+            return;
+        }
+
+        var graph = graphStore.getGraph(newTypes, Optional.empty());
+        if (absorbedTypes.isEmpty()) {
+            // Without any components to extend, the regular algorithm can use sampling.
+            components = new WccStub(TerminationFlag.RUNNING_TRUE).wcc(
+                graph,
+                new WccParameters(0D, concurrency),
+                ProgressTracker.NULL_TRACKER
+            );
+        } else {
+            absorb(graph, concurrency);
+        }
+        newTypes.forEach(relationshipType -> absorbedTypes.put(relationshipType, topologies.get(relationshipType)));
+    }
+
+    /**
+     * Absorbs all relationships of the given graph, which must share the node id space of the index.
+     */
+    public synchronized void absorb(Graph graph, Concurrency concurrency) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                var localComponents = components;
+                partition.consume(nodeId -> localGraph.forEachRelationship(nodeId, (source, target) -> {
+                    localComponents.union(source, target);
+                    return true;
+                }));
+            },
+            Optional.of(ParallelUtil.DEFAULT_BATCH_SIZE)
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(DefaultPool.INSTANCE)
+            .run();
+    }
+
+    /**
+     * Absorbs the relationships {@code sourceNodes[i] -> targetNodes[i]}, given in mapped node ids.
+     */
+    public synchronized void absorb(long[] sourceNodes, long[] targetNodes, Concurrency concurrency) {
+        if (sourceNodes.length != targetNodes.length) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected the same number of source and target nodes, but got %d and %d.",
+                sourceNodes.length,
+                targetNodes.length
+            ));
+        }
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            sourceNodes.length,
+            partition -> (Runnable) () -> {
+                var localComponents = components;
+                partition.consume(index -> localComponents.union(sourceNodes[(int) index], targetNodes[(int) index]));
+            },
+            Optional.of(ParallelUtil.DEFAULT_BATCH_SIZE)
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(DefaultPool.INSTANCE)
+            .run();
+    }
+
+    public long componentOf(long nodeId) {
+        return components.setIdOf(nodeId);
+    }
+
+    public boolean sameComponent(long nodeId1, long nodeId2) {
+        var currentComponents = components;
+        return currentComponents.setIdOf(nodeId1) == currentComponents.setIdOf(nodeId2);
+    }
+
+    /**
+     * Copies the current components, so that later updates of the index are not reflected in the result.
+     */
+    public synchronized DisjointSetStruct snapshot(Concurrency concurrency) {
+        var currentComponents = components;
+        var setIds = HugeLongArray.newArray(nodeCount);
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            concurrency,
+            TerminationFlag.RUNNING_TRUE,
+            nodeId -> setIds.set(nodeId, currentComponents.setIdOf(nodeId))
+        );
+        return new ComponentSnapshot(setIds);
+    }
+
+    Set<RelationshipType> absorbedTypes() {
+        return Set.copyOf(absorbedTypes.keySet());
+    }
+
+    /**
+     * A relationship type is identified by its adjacency list and relationship count,
+     * so that a type which has been dropped and re-created under the same name is detected.
+     * Graph stores that do not expose their adjacency lists are compared by relationship count only.
+     */
+    private record TopologyIdentity(AdjacencyList adjacencyList, long relationshipCount) {
+
+        static TopologyIdentity of(GraphStore graphStore, RelationshipType relationshipType) {
+            AdjacencyList adjacencyList = null;
+            if (graphStore.getGraph(relationshipType) instanceof CSRGraph csrGraph) {
+                var topology = csrGraph.relationshipTopologies().get(relationshipType);
+                if (topology != null) {
+                    adjacencyList = topology.adjacencyList();
+                }
+            }
+            return new TopologyIdentity(adjacencyList, graphStore.relationshipCount(relationshipType));
+        }
+
+        boolean isSameAs(TopologyIdentity other) {
+            return adjacencyList == other.adjacencyList && relationshipCount == other.relationshipCount;
+        }
+    }
+
+    private static final class ComponentSnapshot implements DisjointSetStruct {
+
+        private final HugeLongArray setIds;
+
+        ComponentSnapshot(HugeLongArray setIds) {
+            this.setIds = setIds;
+        }
+
+        @Override
+        public void union(long p, long q) {
+            throw new UnsupportedOperationException("A snapshot of the component index is read-only.");
+        }
+
+        @Override
+        public long setIdOf(long nodeId) {
+            return setIds.get(nodeId);
+        }
+
+        @Override
+        public boolean sameSet(long p, long q) {
+            return setIds.get(p) == setIds.get(q);
+        }
+
+        @Override
+        public long size() {
+            return setIds.size();
+        }
+    }
+}
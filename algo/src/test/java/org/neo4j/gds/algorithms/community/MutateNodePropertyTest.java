@@ -20,8 +20,10 @@
 package org.neo4j.gds.algorithms.community;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.properties.nodes.NodePropertyRecord;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
 import org.neo4j.gds.applications.algorithms.machinery.MutateNodePropertyService;
 import org.neo4j.gds.collections.ha.HugeLongArray;
@@ -30,7 +32,9 @@ import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.logging.Log;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -47,6 +51,15 @@ class MutateNodePropertyTest {
             " (:Node), " +
             " (:Node), ";
 
+    @SuppressWarnings("unused")
+    @GdlGraph(graphNamePrefix = "labelled")
+    private static final String LABELLED_GRAPH =
+        "CREATE " +
+            " (:A), " +
+            " (:B), " +
+            " (:A), " +
+            " (:B), ";
+
     @SuppressWarnings("unused")
     @Inject
     private Graph graph;
@@ -55,6 +68,10 @@ class MutateNodePropertyTest {
     @Inject
     private GraphStore graphStore;
 
+    @SuppressWarnings("unused")
+    @Inject
+    private GraphStore labelledGraphStore;
+
     @Test
     void shouldMutateTheGraphStore() {
         assertThat(graphStore.hasNodeProperty("bugger-off"))
@@ -101,4 +118,31 @@ class MutateNodePropertyTest {
         });
     }
 
+    @Test
+    void shouldMutateAFilteredGraphOffHeap() {
+        GdsFeatureToggles.USE_OFF_HEAP_NODE_PROPERTIES.enableAndRun(() -> {
+            var filteredGraph = labelledGraphStore.getGraph(NodeLabel.of("B"));
+
+            var values = HugeLongArray.newArray(filteredGraph.nodeCount());
+            values.setAll(filteredGraph::toOriginalNodeId);
+
+            var mutateNodeProperty = new MutateNodePropertyService(mock(Log.class));
+            var result = mutateNodeProperty.mutateNodeProperties(
+                filteredGraph,
+                labelledGraphStore,
+                List.of(NodeLabel.of("B")),
+                List.of(NodePropertyRecord.of("originalId", NodePropertyValuesAdapter.adapt(values)))
+            );
+
+            assertThat(result.value()).isEqualTo(2);
+
+            // the graph store is indexed by the root node ids, which exceed the filtered node count
+            var addedNodePropertyValues = labelledGraphStore.nodeProperty("originalId").values();
+            filteredGraph.forEachNode(nodeId -> {
+                assertThat(addedNodePropertyValues.longValue(filteredGraph.toRootNodeId(nodeId)))
+                    .isEqualTo(filteredGraph.toOriginalNodeId(nodeId));
+                return true;
+            });
+        });
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.allshortestpaths;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryRange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ManyToManyShortestPathsMemoryEstimateDefinitionTest {
+
+    private static final long NODE_COUNT = 10_000;
+
+    @Test
+    void shouldGrowWithTheDistanceMatrix() {
+        var small = estimate(1, 1, 1);
+        var large = estimate(1_000, 1_000, 1);
+
+        assertThat(large.min - small.min).isEqualTo(
+            HugeDoubleArray.memoryEstimation(1_000_000) - HugeDoubleArray.memoryEstimation(1)
+        );
+    }
+
+    @Test
+    void shouldGrowLinearlyWithConcurrency() {
+        var one = estimate(10, 10, 1);
+        var two = estimate(10, 10, 2);
+        var four = estimate(10, 10, 4);
+
+        var perTask = two.min - one.min;
+        assertThat(perTask).isGreaterThan(NODE_COUNT * Double.BYTES);
+        assertThat(four.min - one.min).isEqualTo(3 * perTask);
+    }
+
+    @Test
+    void shouldBoundTheTouchedNodesByTheNodeCount() {
+        var range = estimate(10, 10, 4);
+
+        assertThat(range.max - range.min).isEqualTo(
+            4 * (Estimate.sizeOfLongArrayList(NODE_COUNT) - Estimate.sizeOfLongArrayList(0))
+        );
+    }
+
+    private static MemoryRange estimate(long sourceCount, long targetCount, int concurrency) {
+        return new ManyToManyShortestPathsMemoryEstimateDefinition(sourceCount, targetCount)
+            .memoryEstimation()
+            .estimate(GraphDimensions.of(NODE_COUNT), new Concurrency(concurrency))
+            .memoryUsage();
+    }
+}
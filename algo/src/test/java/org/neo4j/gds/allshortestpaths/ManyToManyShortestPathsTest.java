@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.allshortestpaths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.SingleTarget;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class ManyToManyShortestPathsTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a)" +
+        ", (b)" +
+        ", (c)" +
+        ", (d)" +
+        ", (e)" +
+        ", (a)-[:R {w: 1.0}]->(b)" +
+        ", (a)-[:R {w: 5.0}]->(c)" +
+        ", (b)-[:R {w: 1.0}]->(c)" +
+        ", (c)-[:R {w: 2.0}]->(d)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Test
+    void shouldComputeDistanceMatrix() {
+        var sources = new long[]{graph.toMappedNodeId("a"), graph.toMappedNodeId("b"), graph.toMappedNodeId("d")};
+        var targets = new long[]{graph.toMappedNodeId("c"), graph.toMappedNodeId("d"), graph.toMappedNodeId("e")};
+
+        var matrix = new ManyToManyShortestPaths(
+            graph,
+            sources,
+            targets,
+            new Concurrency(2),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        assertThat(matrix.sourceCount()).isEqualTo(3);
+        assertThat(matrix.targetCount()).isEqualTo(3);
+        assertThat(matrix.distance(0, 0)).isEqualTo(2.0);
+        assertThat(matrix.distance(0, 1)).isEqualTo(4.0);
+        assertThat(matrix.distance(1, 1)).isEqualTo(3.0);
+        assertThat(matrix.distance(2, 1)).isEqualTo(0.0);
+        assertThat(matrix.distance(2, 0)).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(matrix.distance(0, 2)).isEqualTo(Double.POSITIVE_INFINITY);
+
+        assertThat(matrix.stream())
+            .hasSize(9)
+            .first()
+            .extracting(
+                AllShortestPathsStreamResult::sourceNodeId,
+                AllShortestPathsStreamResult::targetNodeId,
+                AllShortestPathsStreamResult::distance
+            )
+            .containsExactly(graph.toOriginalNodeId("a"), graph.toOriginalNodeId("c"), 2.0);
+    }
+
+    @Test
+    void shouldHandleDuplicateNodes() {
+        var a = graph.toMappedNodeId("a");
+        var d = graph.toMappedNodeId("d");
+
+        var matrix = new ManyToManyShortestPaths(
+            graph,
+            new long[]{a, a},
+            new long[]{d, d},
+            new Concurrency(1),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        assertThat(matrix.stream())
+            .extracting(AllShortestPathsStreamResult::distance)
+            .containsExactly(4.0, 4.0, 4.0, 4.0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldComputeSameDistancesAsDijkstra(int concurrency) {
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.DIRECTED)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("w", 1, 10))
+            .nodeCount(1_000)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var sources = new long[]{0, 7, 42, 99, 500, 999};
+        var targets = new long[]{1, 13, 42, 123, 777, 998};
+
+        var matrix = new ManyToManyShortestPaths(
+            randomGraph,
+            sources,
+            targets,
+            new Concurrency(concurrency),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        for (int i = 0; i < sources.length; i++) {
+            for (int j = 0; j < targets.length; j++) {
+                var expected = new Dijkstra(
+                    randomGraph,
+                    sources[i],
+                    new SingleTarget(targets[j]),
+                    false,
+                    Optional.empty(),
+                    ProgressTracker.NULL_TRACKER,
+                    TerminationFlag.RUNNING_TRUE
+                ).compute().findFirst().map(PathResult::totalCost);
+
+                if (expected.isPresent()) {
+                    assertThat(matrix.distance(i, j)).isCloseTo(expected.get(), within(1e-9));
+                } else {
+                    assertThat(matrix.distance(i, j)).isEqualTo(Double.POSITIVE_INFINITY);
+                }
+            }
+        }
+    }
+}
@@ -29,9 +29,9 @@ class BetweennessCentralityMemoryEstimateDefinitionTest {
 
     @ParameterizedTest(name = "Concurrency: {0}")
     @CsvSource({
-        "1, 6_000_376",
-        "4, 21_601_192",
-        "42, 219_211_528"
+        "1, 4_400_352",
+        "4, 15_201_096",
+        "42, 152_010_520"
     })
     void testMemoryEstimation(int concurrency, long expectedBytes) {
         var memoryEstimation = new BetweennessCentralityMemoryEstimateDefinition(false).memoryEstimation();
@@ -42,9 +42,9 @@ class BetweennessCentralityMemoryEstimateDefinitionTest {
 
     @ParameterizedTest(name = "Concurrency: {0}")
     @CsvSource({
-        "1, 7_213_000",
-        "4, 26_451_688",
-        "42, 270_141_736"
+        "1, 5_612_976",
+        "4, 20_051_592",
+        "42, 202_940_728"
     })
     void testMemoryEstimationWithRelationshipWeight(int concurrency, long expectedBytes) {
         var memoryEstimation = new BetweennessCentralityMemoryEstimateDefinition(true).memoryEstimation();
@@ -19,18 +19,21 @@
  */
 package org.neo4j.gds.betweenness;
 
-import com.carrotsearch.hppc.LongArrayList;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @GdlExtension
 class ForwardTraverserTest {
 
@@ -64,11 +67,9 @@ class ForwardTraverserTest {
     @Test
     void shouldWorkOnUnWeightedGraphs() {
         var backwardNodes = HugeLongArrayStack.newStack(equallyWeightedGraph.nodeCount());
-        var predecessors = HugeObjectArray.newArray(LongArrayList.class, equallyWeightedGraph.nodeCount());
         var sigma = HugeLongArray.newArray(equallyWeightedGraph.nodeCount());
         UnweightedForwardTraverser unweightedForwardTraverser = UnweightedForwardTraverser.create(
             equallyWeightedGraph,
-            predecessors,
             backwardNodes,
             sigma,
             TerminationFlag.RUNNING_TRUE
@@ -81,20 +82,18 @@ class ForwardTraverserTest {
         SoftAssertions softAssertions = new SoftAssertions();
 
         softAssertions.assertThat(sigma.toArray()).isEqualTo(new long[]{1, 1, 0, 1, 1, 2, 2});
-        softAssertions.assertThat(predecessors.get(0)).isNull();
-        softAssertions.assertThat(predecessors.get(1).toArray()).containsExactly(0);
-        softAssertions.assertThat(predecessors.get(2)).isNull();
-        softAssertions.assertThat(predecessors.get(3).toArray()).containsExactly(1);
-        softAssertions.assertThat(predecessors.get(4).toArray()).containsExactly(1);
-        softAssertions.assertThat(predecessors.get(5).toArray()).containsExactly(3, 4);
-        softAssertions.assertThat(predecessors.get(6).toArray()).containsExactly(5);
-
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(6);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(5);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(4);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(3);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(1);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(0);
+        var successors = new HashMap<Long, List<Long>>();
+        var backwardOrder = popAll(unweightedForwardTraverser, backwardNodes, successors);
+
+        softAssertions.assertThat(backwardOrder).containsExactly(6L, 5L, 4L, 3L, 1L, 0L);
+        softAssertions.assertThat(successors)
+            .containsEntry(0L, List.of(1L))
+            .containsEntry(1L, List.of(3L, 4L))
+            .containsEntry(3L, List.of(5L))
+            .containsEntry(4L, List.of(5L))
+            .containsEntry(5L, List.of(6L))
+            .containsEntry(6L, List.of())
+            .doesNotContainKey(2L);
 
         softAssertions.assertThat(backwardNodes.isEmpty()).isTrue();
 
@@ -104,11 +103,9 @@ class ForwardTraverserTest {
     @Test
     void shouldWorkOnWeightedGraphs() {
         var backwardNodes = HugeLongArrayStack.newStack(equallyWeightedGraph.nodeCount());
-        var predecessors = HugeObjectArray.newArray(LongArrayList.class, equallyWeightedGraph.nodeCount());
         var sigma = HugeLongArray.newArray(equallyWeightedGraph.nodeCount());
         WeightedForwardTraverser weightedForwardTraversor = WeightedForwardTraverser.create(
             weightedGraph,
-            predecessors,
             backwardNodes,
             sigma,
             TerminationFlag.RUNNING_TRUE
@@ -121,23 +118,37 @@ class ForwardTraverserTest {
         SoftAssertions softAssertions = new SoftAssertions();
 
         softAssertions.assertThat(sigma.toArray()).isEqualTo(new long[]{1, 1, 0, 1, 1, 1, 1});
-        softAssertions.assertThat(predecessors.get(0)).isNull();
-        softAssertions.assertThat(predecessors.get(1).toArray()).containsExactly(0);
-        softAssertions.assertThat(predecessors.get(2)).isNull();
-        softAssertions.assertThat(predecessors.get(3).toArray()).containsExactly(1);
-        softAssertions.assertThat(predecessors.get(4).toArray()).containsExactly(1);
-        softAssertions.assertThat(predecessors.get(5).toArray()).containsExactly(4);
-        softAssertions.assertThat(predecessors.get(6).toArray()).containsExactly(5);
-
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(3);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(6);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(5);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(4);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(1);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(0);
+        var successors = new HashMap<Long, List<Long>>();
+        var backwardOrder = popAll(weightedForwardTraversor, backwardNodes, successors);
+
+        softAssertions.assertThat(backwardOrder).containsExactly(3L, 6L, 5L, 4L, 1L, 0L);
+        softAssertions.assertThat(successors)
+            .containsEntry(0L, List.of(1L))
+            .containsEntry(1L, List.of(3L, 4L))
+            .containsEntry(3L, List.of())
+            .containsEntry(4L, List.of(5L))
+            .containsEntry(5L, List.of(6L))
+            .containsEntry(6L, List.of())
+            .doesNotContainKey(2L);
 
         softAssertions.assertThat(backwardNodes.isEmpty()).isTrue();
 
         softAssertions.assertAll();
     }
+
+    private static List<Long> popAll(
+        ForwardTraverser traverser,
+        HugeLongArrayStack backwardNodes,
+        Map<Long, List<Long>> successors
+    ) {
+        var backwardOrder = new ArrayList<Long>();
+        while (!backwardNodes.isEmpty()) {
+            long node = backwardNodes.pop();
+            backwardOrder.add(node);
+            var nodeSuccessors = new ArrayList<Long>();
+            traverser.forEachSuccessor(node, nodeSuccessors::add);
+            successors.put(node, nodeSuccessors);
+        }
+        return backwardOrder;
+    }
 }
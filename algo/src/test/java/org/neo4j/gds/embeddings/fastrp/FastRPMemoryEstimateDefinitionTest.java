@@ -35,11 +35,11 @@ class FastRPMemoryEstimateDefinitionTest {
     @ParameterizedTest(name = "NodeCount: {0}, concurrency: {1}")
     @CsvSource(
         {
-            "100, 1, 159_808",
-            "100, 8, 159_808",
-            "100, 128, 159_808",
-            "250_000, 8, 399_001_096",
-            "1_000_000, 128, 1_596_003_856"
+            "100, 1, 153_880",
+            "100, 8, 153_880",
+            "100, 128, 153_880",
+            "250_000, 8, 384_117_448",
+            "1_000_000, 128, 1_536_469_000"
         }
     )
     void shouldComputeMemoryEstimation(long nodeCount, int concurrency, long expectedMemory) {
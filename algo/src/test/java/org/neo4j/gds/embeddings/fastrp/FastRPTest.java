@@ -29,8 +29,8 @@ import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.TestProgressTrackerHelper;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.collections.ha.HugeFloatMatrix;
 import org.neo4j.gds.collections.ha.HugeLongArray;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.collections.hsa.HugeSparseLongArray;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.concurrency.Concurrency;
@@ -112,7 +112,7 @@ class FastRPTest {
         var scalarProperties = List.of("f1", "f2", "f3");
         var scalarEmbeddings = embeddings(scalarGraph, scalarProperties);
         for (int i = 0; i < arrayGraph.nodeCount(); i++) {
-            assertThat(arrayEmbeddings.get(i)).contains(scalarEmbeddings.get(i));
+            assertThat(arrayEmbeddings.row(i)).contains(scalarEmbeddings.row(i));
         }
     }
 
@@ -151,15 +151,15 @@ class FastRPTest {
         fastRP.initDegreePartition();
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 2);
-        fastRP.currentEmbedding(-1).copyTo(randomVectors, 2);
+        // Snapshot the random vectors, as the propagation reuses their matrix.
+        float[][] randomVectors = rows(fastRP.currentEmbedding(-1));
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
-        float[] expected = randomVectors.get(1);
+        float[] expected = randomVectors[1];
         l2Normalize(expected);
 
-        assertThat(embeddings.get(0)).isEqualTo(expected);
+        assertThat(embeddings.row(0)).isEqualTo(expected);
     }
 
     @Test
@@ -196,18 +196,18 @@ class FastRPTest {
         fastRP.initDegreePartition();
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 3);
-        fastRP.currentEmbedding(-1).copyTo(randomVectors, 3);
+        // Snapshot the random vectors, as the propagation reuses their matrix.
+        float[][] randomVectors = rows(fastRP.currentEmbedding(-1));
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
         float[] expected = new float[DEFAULT_EMBEDDING_DIMENSION];
         for (int i = 0; i < DEFAULT_EMBEDDING_DIMENSION; i++) {
-            expected[i] = (randomVectors.get(1)[i] + randomVectors.get(2)[i]) / 2.0f;
+            expected[i] = (randomVectors[1][i] + randomVectors[2][i]) / 2.0f;
         }
         l2Normalize(expected);
 
-        assertThat(embeddings.get(0)).containsExactly(expected);
+        assertThat(embeddings.row(0)).containsExactly(expected);
     }
 
     @Test
@@ -256,13 +256,13 @@ class FastRPTest {
         initial1[2] = -0.5f;
         initial2[5] = -3.0f;
         initial2[4] = -0.5f;
-        initialRandomVectors.set(0, initial0);
-        initialRandomVectors.set(1, initial1);
-        initialRandomVectors.set(2, initial2);
+        initialRandomVectors.setRow(0, initial0);
+        initialRandomVectors.setRow(1, initial1);
+        initialRandomVectors.setRow(2, initial2);
 
         fastRP.addInitialVectorsToEmbedding();
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
 
         var expected0 = new float[embeddingDimension];
@@ -278,9 +278,9 @@ class FastRPTest {
         expected2[5] = -3.0f * scale2;
         expected2[4] = -0.5f * scale2;
 
-        assertThat(embeddings.get(0)).containsExactly(expected0, Offset.offset(1e-6f));
-        assertThat(embeddings.get(1)).containsExactly(expected1, Offset.offset(1e-6f));
-        assertThat(embeddings.get(2)).containsExactly(expected2, Offset.offset(1e-6f));
+        assertThat(embeddings.row(0)).containsExactly(expected0, Offset.offset(1e-6f));
+        assertThat(embeddings.row(1)).containsExactly(expected1, Offset.offset(1e-6f));
+        assertThat(embeddings.row(2)).containsExactly(expected2, Offset.offset(1e-6f));
     }
 
     @Test
@@ -726,17 +726,17 @@ class FastRPTest {
 
         assertThat(initialPropComponentOfNodeVector1)
             .contains(
-                takeLastElements(fastRP.currentEmbedding(-1).get(0), parameters.propertyDimension()),
+                takeLastElements(fastRP.currentEmbedding(-1).row(0), parameters.propertyDimension()),
                 Offset.offset(1e-6f)
             );
         assertThat(initialPropComponentOfNodeVector2)
             .contains(
-                takeLastElements(fastRP.currentEmbedding(-1).get(1), parameters.propertyDimension()),
+                takeLastElements(fastRP.currentEmbedding(-1).row(1), parameters.propertyDimension()),
                 Offset.offset(1e-6f)
             );
         assertThat(initialPropComponentOfNodeVector3)
             .contains(
-                takeLastElements(fastRP.currentEmbedding(-1).get(2), parameters.propertyDimension()),
+                takeLastElements(fastRP.currentEmbedding(-1).row(2), parameters.propertyDimension()),
                 Offset.offset(1e-6f)
             );
     }
@@ -784,7 +784,7 @@ class FastRPTest {
         );
 
         concurrentFastRP.compute();
-        HugeObjectArray<float[]> concurrentEmbeddings = concurrentFastRP.embeddings();
+        HugeFloatMatrix concurrentEmbeddings = concurrentFastRP.embeddings();
 
         FastRP sequentialFastRP = new FastRP(
             graph,
@@ -796,10 +796,10 @@ class FastRPTest {
         );
 
         sequentialFastRP.compute();
-        HugeObjectArray<float[]> sequentialEmbeddings = sequentialFastRP.embeddings();
+        HugeFloatMatrix sequentialEmbeddings = sequentialFastRP.embeddings();
 
         graph.forEachNode(nodeId -> {
-            assertThat(concurrentEmbeddings.get(nodeId)).containsExactly(sequentialEmbeddings.get(nodeId));
+            assertThat(concurrentEmbeddings.row(nodeId)).containsExactly(sequentialEmbeddings.row(nodeId));
             return true;
         });
     }
@@ -838,18 +838,18 @@ class FastRPTest {
         fastRP.initDegreePartition();
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 3);
-        fastRP.currentEmbedding(-1).copyTo(randomVectors, 3);
+        // Snapshot the random vectors, as the propagation reuses their matrix.
+        float[][] randomVectors = rows(fastRP.currentEmbedding(-1));
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
         float[] expected = new float[DEFAULT_EMBEDDING_DIMENSION];
         for (int i = 0; i < DEFAULT_EMBEDDING_DIMENSION; i++) {
-            expected[i] = (2.0f * randomVectors.get(1)[i] + randomVectors.get(2)[i]) / 2.0f;
+            expected[i] = (2.0f * randomVectors[1][i] + randomVectors[2][i]) / 2.0f;
         }
         l2Normalize(expected);
 
-        assertThat(embeddings.get(0)).containsExactly(expected);
+        assertThat(embeddings.row(0)).containsExactly(expected);
     }
 
     @Test
@@ -885,10 +885,10 @@ class FastRPTest {
 
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = fastRP.currentEmbedding(-1);
+        HugeFloatMatrix randomVectors = fastRP.currentEmbedding(-1);
 
         for (int i = 0; i < graph.nodeCount(); i++) {
-            float[] embedding = randomVectors.get(i);
+            float[] embedding = randomVectors.row(i);
             int numZeros = 0;
             int numPositive = 0;
             for (int j = 0; j < 512; j++) {
@@ -943,8 +943,8 @@ class FastRPTest {
 
         var embeddings = fastRP.embeddings();
 
-        for (int i = 0; i < embeddings.size(); i++) {
-            assertThat(embeddings.get(i)).containsOnly(0f);
+        for (int i = 0; i < embeddings.rows(); i++) {
+            assertThat(embeddings.row(i)).containsOnly(0f);
         }
     }
 
@@ -1202,15 +1202,15 @@ class FastRPTest {
 
         double cosineSum = 0;
         for (long originalNodeId = 0; originalNodeId < nodeCount; originalNodeId++) {
-            var firstVector = firstEmbeddings.get(firstGraph.toMappedNodeId(originalNodeId));
-            var secondVector = secondEmbeddings.get(secondGraph.toMappedNodeId(originalNodeId));
+            var firstVector = firstEmbeddings.row(firstGraph.toMappedNodeId(originalNodeId));
+            var secondVector = secondEmbeddings.row(secondGraph.toMappedNodeId(originalNodeId));
             double cosine = Intersections.cosine(firstVector, secondVector, secondVector.length);
             cosineSum += cosine;
         }
         assertThat(cosineSum / nodeCount).isCloseTo(1, Offset.offset(0.000001));
     }
 
-    private HugeObjectArray<float[]> embeddings(Graph graph, List<String> properties) {
+    private HugeFloatMatrix embeddings(Graph graph, List<String> properties) {
         var concurrency = 4;
         var minBatchSize = 10_000;
         var parameters = new FastRPParameters(
@@ -1236,6 +1236,14 @@ class FastRPTest {
         return fastRPArray.compute().embeddings();
     }
 
+    private static float[][] rows(HugeFloatMatrix matrix) {
+        var rows = new float[(int) matrix.rows()][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = matrix.row(i);
+        }
+        return rows;
+    }
+
     private float[] takeLastElements(float[] input, int numLast) {
         var numDrop = input.length - numLast;
         var extractedResult = new float[numLast];
@@ -20,7 +20,7 @@
 package org.neo4j.gds.embeddings.hashgnn;
 
 import org.junit.jupiter.api.Test;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.collections.ha.HugeBitMatrix;
 
 import java.util.SplittableRandom;
 import java.util.stream.IntStream;
@@ -49,15 +49,14 @@ class HashGNNCompanionTest {
     void shouldHashArgMin() {
         var rng = new SplittableRandom();
 
-        var bitSet = HugeAtomicBitSet.create(10);
-        bitSet.set(3);
-        bitSet.set(9);
+        var embeddings = HugeBitMatrix.newMatrix(1, 10);
+        embeddings.set(0, 3);
+        embeddings.set(0, 9);
 
         var hashes = IntStream.generate(() -> rng.nextInt(0, Integer.MAX_VALUE)).limit(10).toArray();
         var resMinArgMin = new HashGNN.MinAndArgmin();
-        var tempMinArgMin = new HashGNN.MinAndArgmin();
 
-        HashGNNCompanion.hashArgMin(bitSet, hashes, resMinArgMin, tempMinArgMin);
+        HashGNNCompanion.hashArgMin(embeddings, 0, hashes, resMinArgMin);
 
         assertThat(resMinArgMin.min).isEqualTo(Math.min(hashes[3], hashes[9]));
         assertThat(resMinArgMin.argMin).isEqualTo(hashes[3] <= hashes[9] ? 3 : 9);
@@ -20,8 +20,7 @@
 package org.neo4j.gds.embeddings.hashgnn;
 
 import org.junit.jupiter.api.Test;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.collections.ha.HugeBitMatrix;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
@@ -63,8 +62,8 @@ class RawFeaturesTaskTest {
     void shouldFailOnNonBinaryFeatures() {
         var partition = new Partition(0, nonBinaryGraph.nodeCount());
         var featureExtractors = FeatureExtraction.propertyExtractors(nonBinaryGraph, List.of("f1", "f2"));
-        var features = HugeObjectArray.newArray(HugeAtomicBitSet.class, nonBinaryGraph.nodeCount());
         var inputDimension = FeatureExtraction.featureCount(featureExtractors);
+        var features = HugeBitMatrix.newMatrix(nonBinaryGraph.nodeCount(), inputDimension);
 
         assertThatThrownBy(() -> {
             new RawFeaturesTask(
@@ -88,8 +87,8 @@ class RawFeaturesTaskTest {
     void shouldPickCorrectFeatures() {
         var partition = new Partition(0, graph.nodeCount());
         var featureExtractors = FeatureExtraction.propertyExtractors(graph, List.of("f1", "f2"));
-        var features = HugeObjectArray.newArray(HugeAtomicBitSet.class, graph.nodeCount());
         var inputDimension = FeatureExtraction.featureCount(featureExtractors);
+        var features = HugeBitMatrix.newMatrix(graph.nodeCount(), inputDimension);
 
         new RawFeaturesTask(
             partition,
@@ -104,16 +103,16 @@ class RawFeaturesTaskTest {
         var idB = graph.toMappedNodeId("b");
         var idC = graph.toMappedNodeId("c");
 
-        assertThat(features.get(idA).get(0)).isTrue();
-        assertThat(features.get(idA).get(1)).isTrue();
-        assertThat(features.get(idA).get(2)).isTrue();
+        assertThat(features.get(idA, 0)).isTrue();
+        assertThat(features.get(idA, 1)).isTrue();
+        assertThat(features.get(idA, 2)).isTrue();
 
-        assertThat(features.get(idB).get(0)).isTrue();
-        assertThat(features.get(idB).get(1)).isTrue();
-        assertThat(features.get(idB).get(2)).isFalse();
+        assertThat(features.get(idB, 0)).isTrue();
+        assertThat(features.get(idB, 1)).isTrue();
+        assertThat(features.get(idB, 2)).isFalse();
 
-        assertThat(features.get(idC).get(0)).isTrue();
-        assertThat(features.get(idC).get(1)).isFalse();
-        assertThat(features.get(idC).get(2)).isTrue();
+        assertThat(features.get(idC, 0)).isTrue();
+        assertThat(features.get(idC, 1)).isFalse();
+        assertThat(features.get(idC, 2)).isTrue();
     }
 }
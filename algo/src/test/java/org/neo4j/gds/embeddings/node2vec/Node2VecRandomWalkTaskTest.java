@@ -84,6 +84,7 @@ class Node2VecRandomWalkTaskTest {
             nextNodeSupplier,
             10,
             graph::degree,
+            null,
             ProgressTracker.NULL_TRACKER,
             TerminationFlag.RUNNING_TRUE,
             walkIndex,
@@ -132,6 +133,7 @@ class Node2VecRandomWalkTaskTest {
             null,
             10,
             graph::degree,
+            null,
             ProgressTracker.NULL_TRACKER,
             TerminationFlag.RUNNING_TRUE,
             walkIndex,
@@ -21,6 +21,7 @@ package org.neo4j.gds.kmeans;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.mem.Estimate;
@@ -84,4 +85,22 @@ class KmeansMemoryEstimateDefinitionTest {
 
     }
 
+    @Test
+    void memoryEstimationWithTriangleInequality() {
+        var graphDimensions = GraphDimensions.of(42, 1337);
+
+        var parameters = mock(KmeansParameters.class);
+        when(parameters.k()).thenReturn(10);
+        when(parameters.useTriangleInequality()).thenReturn(true);
+
+        var memoryEstimation = new KmeansMemoryEstimateDefinition(parameters).memoryEstimation();
+
+        var sizeOfBounds = 2 * HugeDoubleArray.memoryEstimation(42)
+                           + Estimate.sizeOfArray(10, Estimate.sizeOfDoubleArray(128))
+                           + 2 * Estimate.sizeOfDoubleArray(10);
+        MemoryEstimationAssert.assertThat(memoryEstimation).
+            memoryRange(graphDimensions, new Concurrency(4))
+            .hasRange(33928L + sizeOfBounds, 54920L + sizeOfBounds);
+    }
+
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.kmeans;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.TestSupport.crossArguments;
+import static org.neo4j.gds.TestSupport.toArguments;
+
+class KmeansTriangleInequalityTest {
+
+    static Stream<Arguments> samplersConcurrenciesAndProperties() {
+        return crossArguments(
+            toArguments(() -> Stream.of(SamplerType.UNIFORM, SamplerType.KMEANSPP)),
+            toArguments(() -> Stream.of(1, 4)),
+            toArguments(() -> Stream.of("embedding", "scalar"))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("samplersConcurrenciesAndProperties")
+    void shouldComputeSameClustersAsWithoutBounds(SamplerType sampler, int concurrency, String property) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(2_000)
+            .averageDegree(1)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .nodePropertyProducer(PropertyProducer.randomEmbeddingDouble("embedding", 8, -10, 10))
+            .nodePropertyProducer(PropertyProducer.randomDouble("scalar", -10, 10))
+            .seed(42L)
+            .build()
+            .generate();
+
+        var expected = kmeans(graph, sampler, concurrency, property, false);
+        var actual = kmeans(graph, sampler, concurrency, property, true);
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(actual.communities().get(nodeId)).isEqualTo(expected.communities().get(nodeId));
+            assertThat(actual.distanceFromCenter().get(nodeId))
+                .isCloseTo(expected.distanceFromCenter().get(nodeId), within(1e-9));
+        }
+        for (int centroid = 0; centroid < expected.centers().length; centroid++) {
+            assertThat(actual.centers()[centroid]).containsExactly(expected.centers()[centroid], within(1e-9));
+        }
+    }
+
+    private static KmeansResult kmeans(
+        Graph graph,
+        SamplerType sampler,
+        int concurrency,
+        String property,
+        boolean useTriangleInequality
+    ) {
+        var config = KmeansStreamConfigImpl.builder()
+            .nodeProperty(property)
+            .concurrency(concurrency)
+            .randomSeed(19L)
+            .k(20)
+            .maxIterations(50)
+            .deltaThreshold(0)
+            .initialSampler(sampler)
+            .useTriangleInequality(useTriangleInequality)
+            .build();
+
+        return Kmeans.createKmeans(
+            graph,
+            config.toParameters(),
+            KmeansContext.defaults(),
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+}
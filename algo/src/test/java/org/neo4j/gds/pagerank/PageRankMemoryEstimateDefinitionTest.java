@@ -24,10 +24,17 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.mem.Estimate;
 
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 class PageRankMemoryEstimateDefinitionTest {
 
 
@@ -45,7 +52,7 @@ class PageRankMemoryEstimateDefinitionTest {
         var nodeCount = 100_000;
         var relationshipCount = nodeCount * 10;
 
-        var memoryEstimation = new PageRankMemoryEstimateDefinition().memoryEstimation();
+        var memoryEstimation = new PageRankMemoryEstimateDefinition(PageRankConfigImpl.builder().build()).memoryEstimation();
 
         MemoryEstimationAssert.assertThat(memoryEstimation)
             .memoryRange(nodeCount, relationshipCount, new Concurrency(concurrency))
@@ -57,11 +64,52 @@ class PageRankMemoryEstimateDefinitionTest {
         var nodeCount = 10_000_000_000L;
         var relationshipCount = 10_000_000_000L;
 
-        var memoryEstimation = new PageRankMemoryEstimateDefinition().memoryEstimation();
+        var memoryEstimation = new PageRankMemoryEstimateDefinition(PageRankConfigImpl.builder().build()).memoryEstimation();
 
         MemoryEstimationAssert.assertThat(memoryEstimation)
             .memoryRange(nodeCount, relationshipCount, new Concurrency(4))
             .hasSameMinAndMaxEqualTo(241_286_621_640L);
     }
 
+    @Test
+    void shouldEstimateActiveFrontier() {
+        var nodeCount = 100_000;
+        var relationshipCount = nodeCount * 10;
+
+        var withoutFrontier = new PageRankMemoryEstimateDefinition(PageRankConfigImpl.builder().build())
+            .memoryEstimation()
+            .estimate(GraphDimensions.of(nodeCount, relationshipCount), new Concurrency(4))
+            .memoryUsage();
+        var withFrontier = new PageRankMemoryEstimateDefinition(PageRankConfigImpl.builder().useActiveFrontier(true).build())
+            .memoryEstimation()
+            .estimate(GraphDimensions.of(nodeCount, relationshipCount), new Concurrency(4))
+            .memoryUsage();
+
+        assertThat(withFrontier.max).isGreaterThan(withoutFrontier.max + 2 * HugeAtomicBitSet.memoryEstimation(nodeCount));
+    }
+
+    @Test
+    void shouldEstimateIncrementalPageRank() {
+        var nodeCount = 100_000;
+        var relationshipCount = nodeCount * 10;
+
+        var unweighted = new PageRankMemoryEstimateDefinition(PageRankConfigImpl.builder().build(), true)
+            .memoryEstimation();
+        var weighted = new PageRankMemoryEstimateDefinition(
+            PageRankConfigImpl.builder().relationshipWeightProperty("weight").build(),
+            true
+        ).memoryEstimation();
+
+        var expectedUnweighted = Estimate.sizeOfInstance(IncrementalPageRank.class)
+            + HugeDoubleArray.memoryEstimation(nodeCount)
+            + HugeAtomicDoubleArray.memoryEstimation(nodeCount)
+            + 2 * HugeAtomicBitSet.memoryEstimation(nodeCount);
+
+        MemoryEstimationAssert.assertThat(unweighted)
+            .memoryRange(nodeCount, relationshipCount, new Concurrency(4))
+            .hasSameMinAndMaxEqualTo(expectedUnweighted);
+        MemoryEstimationAssert.assertThat(weighted)
+            .memoryRange(nodeCount, relationshipCount, new Concurrency(4))
+            .hasSameMinAndMaxEqualTo(expectedUnweighted + HugeDoubleArray.memoryEstimation(nodeCount));
+    }
 }
@@ -30,13 +30,16 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
 import org.neo4j.gds.applications.algorithms.centrality.CentralityAlgorithms;
 import org.neo4j.gds.applications.algorithms.centrality.CentralityBusinessAlgorithms;
 import org.neo4j.gds.applications.algorithms.machinery.ProgressTrackerCreator;
 import org.neo4j.gds.applications.algorithms.machinery.RequestScopedDependencies;
 import org.neo4j.gds.beta.generator.RandomGraphGenerator;
 import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.logging.LoggerForProgressTrackingAdapter;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -101,9 +104,18 @@ class PageRankTest {
             ", (j)-[:TYPE]->(e)" +
             ", (k)-[:TYPE]->(e)";
 
+        @GdlGraph(graphNamePrefix = "mutated")
+        private static final String MUTATED_DB_CYPHER =
+            DB_CYPHER +
+            ", (a)-[:TYPE]->(k)" +
+            ", (c)-[:TYPE]->(g)";
+
         @Inject
         private TestGraph graph;
 
+        @Inject
+        private TestGraph mutatedGraph;
+
         @Test
         void withoutTolerance() {
             var config = PageRankStreamConfigImpl.builder()
@@ -206,6 +218,67 @@ class PageRankTest {
             }
         }
 
+        @Test
+        void incrementalOnUnchangedGraph() {
+            var scores = convergedPageRank(graph, PageRankStreamConfigImpl.builder());
+
+            var config = PageRankStreamConfigImpl.builder()
+                .concurrency(1)
+                .tolerance(1E-9)
+                .build();
+            var result = incrementalPageRank(graph, config, scores);
+
+            assertThat(result.iterations()).isEqualTo(0);
+            assertThat(result.didConverge()).isTrue();
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(result.scores().get(nodeId)).isEqualTo(scores.get(nodeId), within(1E-9));
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 4})
+        void incrementalAfterAddingRelationships(int concurrency) {
+            var previousScores = convergedPageRank(graph, PageRankStreamConfigImpl.builder());
+            var seeds = HugeDoubleArray.newArray(mutatedGraph.nodeCount());
+            for (var variable : List.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k")) {
+                seeds.set(mutatedGraph.toMappedNodeId(variable), previousScores.get(graph.toMappedNodeId(variable)));
+            }
+
+            var config = PageRankStreamConfigImpl.builder()
+                .maxIterations(300)
+                .concurrency(concurrency)
+                .tolerance(1E-10)
+                .build();
+            var result = incrementalPageRank(mutatedGraph, config, seeds);
+
+            var expected = convergedPageRank(mutatedGraph, PageRankStreamConfigImpl.builder());
+
+            assertThat(result.didConverge()).isTrue();
+            for (int nodeId = 0; nodeId < mutatedGraph.nodeCount(); nodeId++) {
+                assertThat(result.scores().get(nodeId)).isEqualTo(expected.get(nodeId), within(SCORE_PRECISION));
+            }
+        }
+
+        @Test
+        void incrementalWithSeedProperty() {
+            var config = PageRankStreamConfigImpl.builder()
+                .maxIterations(300)
+                .tolerance(1E-10)
+                .concurrency(1)
+                .seedProperty("expectedPersonalizedRank1")
+                .build();
+
+            var centralityAlgorithms = new CentralityAlgorithms(null, TerminationFlag.RUNNING_TRUE);
+            var result = centralityAlgorithms.pageRank(graph, config, ProgressTracker.NULL_TRACKER);
+
+            var expected = convergedPageRank(graph, PageRankStreamConfigImpl.builder());
+
+            assertThat(result.didConverge()).isTrue();
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(result.scores().get(nodeId)).isEqualTo(expected.get(nodeId), within(SCORE_PRECISION));
+            }
+        }
+
         @Test
         void shouldLogProgress() {
             var log = new GdsTestLog();
@@ -394,6 +467,30 @@ class PageRankTest {
             }
         }
 
+        @Test
+        void incrementalWithWeights() {
+            var config = PageRankStreamConfigImpl.builder()
+                .maxIterations(300)
+                .tolerance(1E-10)
+                .relationshipWeightProperty("weight")
+                .seedProperty("expectedBiasedPersonalizedRank")
+                .concurrency(1)
+                .build();
+
+            var centralityAlgorithms = new CentralityAlgorithms(null, TerminationFlag.RUNNING_TRUE);
+            var result = centralityAlgorithms.pageRank(graph, config, ProgressTracker.NULL_TRACKER);
+
+            var expected = convergedPageRank(
+                graph,
+                PageRankStreamConfigImpl.builder().relationshipWeightProperty("weight")
+            );
+
+            assertThat(result.didConverge()).isTrue();
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(result.scores().get(nodeId)).isEqualTo(expected.get(nodeId), within(SCORE_PRECISION));
+            }
+        }
+
         @Test
         void withZeroWeights() {
             var config = PageRankStreamConfigImpl.builder()
@@ -776,4 +873,28 @@ class PageRankTest {
             assertThat(singleThreaded.applyAsDouble(nodeId)).isEqualTo(multiThreaded.applyAsDouble(nodeId), Offset.offset(1e-5));
         }
     }
+
+    private static HugeDoubleArray convergedPageRank(Graph graph, PageRankStreamConfigImpl.Builder configBuilder) {
+        var config = configBuilder
+            .maxIterations(300)
+            .tolerance(0)
+            .concurrency(1)
+            .build();
+
+        var centralityAlgorithms = new CentralityAlgorithms(null, TerminationFlag.RUNNING_TRUE);
+        return centralityAlgorithms.pageRank(graph, config, ProgressTracker.NULL_TRACKER).scores();
+    }
+
+    private static PageRankResult incrementalPageRank(Graph graph, PageRankConfig config, HugeDoubleArray seeds) {
+        return new IncrementalPageRank(
+            graph,
+            config,
+            NodePropertyValuesAdapter.adapt(seeds),
+            InitialProbabilityFactory.create(graph::toMappedNodeId, 1 - config.dampingFactor(), config.sourceNodes()),
+            DegreeFunctions.pageRankDegreeFunction(graph, config.hasRelationshipWeightProperty(), config.concurrency()),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
 }
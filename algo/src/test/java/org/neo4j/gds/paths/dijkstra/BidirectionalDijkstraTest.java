@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.paths.PathTestUtil.expected;
+
+@GdlExtension
+class BidirectionalDijkstraTest {
+
+    // https://en.wikipedia.org/wiki/Shortest_path_problem#/media/File:Shortest_path_with_direct_weights.svg
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A)" +
+        ", (b:B)" +
+        ", (c:C)" +
+        ", (d:D)" +
+        ", (e:E)" +
+        ", (f:F)" +
+        ", (g:G)" +
+
+        ", (a)-[:TYPE {cost: 4}]->(b)" +
+        ", (a)-[:TYPE {cost: 2}]->(c)" +
+        ", (b)-[:TYPE {cost: 5}]->(c)" +
+        ", (b)-[:TYPE {cost: 10}]->(d)" +
+        ", (c)-[:TYPE {cost: 3}]->(e)" +
+        ", (d)-[:TYPE {cost: 11}]->(f)" +
+        ", (e)-[:TYPE {cost: 4}]->(d)";
+
+    @GdlGraph(indexInverse = true)
+    private static final String DIRECTED = DB_CYPHER;
+
+    @GdlGraph(graphNamePrefix = "undirected", orientation = Orientation.UNDIRECTED)
+    private static final String UNDIRECTED = DB_CYPHER;
+
+    @GdlGraph(graphNamePrefix = "natural")
+    private static final String NATURAL = DB_CYPHER;
+
+    @GdlGraph(graphNamePrefix = "shortcut", indexInverse = true)
+    private static final String SHORTCUT =
+        "CREATE" +
+        "  (s)" +
+        ", (t)" +
+        ", (x)" +
+        ", (y)" +
+        ", (z)" +
+
+        // `t` is a sink that is adjacent to the source
+        ", (s)-[:TYPE {cost: 1}]->(t)" +
+        // the direct relationship from `x` to `y` is more expensive than the detour via `z`
+        ", (x)-[:TYPE {cost: 5}]->(y)" +
+        ", (x)-[:TYPE {cost: 1}]->(z)" +
+        ", (z)-[:TYPE {cost: 1}]->(y)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private TestGraph undirectedGraph;
+
+    @Inject
+    private TestGraph naturalGraph;
+
+    @Inject
+    private TestGraph shortcutGraph;
+
+    @Test
+    void sourceTarget() {
+        var expected = expected(
+            graph::toMappedNodeId,
+            0,
+            new long[]{1, 0, 0, 0},
+            new double[]{0.0, 2.0, 5.0, 9.0, 20.0},
+            "a", "c", "e", "d", "f"
+        );
+
+        assertThat(bidirectional(graph, "a", "f")).hasValue(expected);
+    }
+
+    @Test
+    void sourceTargetWithBucketQueue() {
+        var expected = expected(
+            graph::toMappedNodeId,
+            0,
+            new long[]{1, 0, 0, 0},
+            new double[]{0.0, 2.0, 5.0, 9.0, 20.0},
+            "a", "c", "e", "d", "f"
+        );
+
+        var path = new BidirectionalDijkstra(
+            graph,
+            graph.toMappedNodeId("a"),
+            graph.toMappedNodeId("f"),
+            true,
+            capacity -> DijkstraQueue.buckets(capacity, 11),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().findFirst();
+
+        assertThat(path).hasValue(expected);
+    }
+
+    @Test
+    void undirected() {
+        var expected = expected(
+            undirectedGraph::toMappedNodeId,
+            0,
+            new double[]{0.0, 11.0, 15.0, 18.0},
+            "f", "d", "e", "c"
+        );
+
+        var path = new BidirectionalDijkstra(
+            undirectedGraph,
+            undirectedGraph.toMappedNodeId("f"),
+            undirectedGraph.toMappedNodeId("c"),
+            false,
+            DijkstraQueue::heap,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().findFirst();
+
+        assertThat(path).hasValue(expected);
+    }
+
+    @Test
+    void sinkTargetAdjacentToSource() {
+        var expected = expected(shortcutGraph::toMappedNodeId, 0, new long[]{0}, new double[]{0.0, 1.0}, "s", "t");
+
+        assertThat(bidirectional(shortcutGraph, "s", "t")).hasValue(expected);
+    }
+
+    @Test
+    void targetsAdjacentToSource() {
+        assertThat(bidirectional(graph, "a", "b")).hasValue(
+            expected(graph::toMappedNodeId, 0, new long[]{0}, new double[]{0.0, 4.0}, "a", "b")
+        );
+        assertThat(bidirectional(graph, "a", "c")).hasValue(
+            expected(graph::toMappedNodeId, 0, new long[]{1}, new double[]{0.0, 2.0}, "a", "c")
+        );
+        assertThat(bidirectional(graph, "d", "f")).hasValue(
+            expected(graph::toMappedNodeId, 0, new long[]{0}, new double[]{0.0, 11.0}, "d", "f")
+        );
+    }
+
+    @Test
+    void adjacentTargetWithCheaperDetour() {
+        var expected = expected(
+            shortcutGraph::toMappedNodeId,
+            0,
+            new long[]{1, 0},
+            new double[]{0.0, 1.0, 2.0},
+            "x", "z", "y"
+        );
+
+        assertThat(bidirectional(shortcutGraph, "x", "y")).hasValue(expected);
+    }
+
+    @Test
+    void sameSourceAndTarget() {
+        var expected = expected(graph::toMappedNodeId, 0, new long[0], new double[]{0.0}, "b");
+
+        assertThat(bidirectional(graph, "b", "b")).hasValue(expected);
+    }
+
+    @Test
+    void nonExisting() {
+        assertThat(bidirectional(graph, "f", "a")).isEmpty();
+        assertThat(bidirectional(graph, "a", "g")).isEmpty();
+    }
+
+    @Test
+    void shouldRequireInverseIndex() {
+        assertThatThrownBy(() -> bidirectional(naturalGraph, "a", "f"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("inverse indexed");
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 13, 42, 1337})
+    void shouldComputeSameCostsAsDijkstra(long seed) {
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.DIRECTED)
+            .inverseIndex(true)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("cost", 1, 10))
+            .nodeCount(1_000)
+            .seed(seed)
+            .build()
+            .generate();
+
+        for (long target = 0; target < randomGraph.nodeCount(); target += 37) {
+            var expected = new Dijkstra(
+                randomGraph,
+                0,
+                new SingleTarget(target),
+                false,
+                Optional.empty(),
+                ProgressTracker.NULL_TRACKER,
+                TerminationFlag.RUNNING_TRUE
+            ).compute().findFirst().map(PathResult::totalCost);
+
+            var actual = new BidirectionalDijkstra(
+                randomGraph,
+                0,
+                target,
+                true,
+                DijkstraQueue::heap,
+                ProgressTracker.NULL_TRACKER,
+                TerminationFlag.RUNNING_TRUE
+            ).compute().findFirst();
+
+            assertThat(actual.map(PathResult::totalCost)).isEqualTo(expected);
+            actual.ifPresent(path -> assertThat(path.relationshipIds()).hasSize(path.nodeIds().length - 1));
+        }
+    }
+
+    @Test
+    void dijkstraWithBucketQueue() {
+        var expected = expected(
+            naturalGraph::toMappedNodeId,
+            0,
+            new double[]{0.0, 2.0, 5.0, 9.0, 20.0},
+            "a", "c", "e", "d", "f"
+        );
+
+        var path = new Dijkstra(
+            naturalGraph,
+            naturalGraph.toMappedNodeId("a"),
+            new SingleTarget(naturalGraph.toMappedNodeId("f")),
+            false,
+            DijkstraQueue.buckets(naturalGraph.nodeCount(), 11),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().findFirst();
+
+        assertThat(path).hasValue(expected);
+    }
+
+    private static Optional<PathResult> bidirectional(TestGraph graph, String source, String target) {
+        return bidirectional(graph, graph.toMappedNodeId(source), graph.toMappedNodeId(target));
+    }
+
+    private static Optional<PathResult> bidirectional(Graph graph, long source, long target) {
+        return new BidirectionalDijkstra(
+            graph,
+            source,
+            target,
+            true,
+            DijkstraQueue::heap,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().findFirst();
+    }
+}
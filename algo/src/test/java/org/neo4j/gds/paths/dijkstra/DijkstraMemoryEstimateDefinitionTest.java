@@ -24,10 +24,17 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.queue.HugeLongBucketQueue;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.MemoryEstimation;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 class DijkstraMemoryEstimateDefinitionTest {
 
     private static Stream<Arguments> expectedMemoryEstimation() {
@@ -71,5 +78,42 @@ class DijkstraMemoryEstimateDefinitionTest {
             .hasSameMinAndMaxEqualTo(40_616 + 168);
     }
 
+    @Test
+    void shouldUseBucketQueueWithMaxIntegerWeight() {
+        var heap = new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(false, false))
+            .memoryEstimation();
+        var buckets = new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(
+            false,
+            false,
+            false,
+            Optional.of(42)
+        )).memoryEstimation();
+
+        assertThat(memoryUsage(buckets) - memoryUsage(heap)).isEqualTo(
+            memoryUsage(HugeLongBucketQueue.memoryEstimation(42)) - memoryUsage(HugeLongPriorityQueue.memoryEstimation())
+        );
+    }
+
+    @Test
+    void shouldAccountForBothSearchDirectionsWhenBidirectional() {
+        var unidirectional = new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(false, false))
+            .memoryEstimation();
+        var bidirectional = new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(
+            false,
+            false,
+            true,
+            Optional.empty()
+        )).memoryEstimation();
 
+        assertThat(memoryUsage(bidirectional)).isGreaterThan(
+            memoryUsage(unidirectional) + memoryUsage(HugeLongPriorityQueue.memoryEstimation())
+        );
+    }
+
+    private static long memoryUsage(MemoryEstimation memoryEstimation) {
+        return memoryEstimation
+            .estimate(GraphDimensions.of(1_000), new Concurrency(1))
+            .memoryUsage()
+            .max;
+    }
 }
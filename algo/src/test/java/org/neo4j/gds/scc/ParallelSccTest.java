@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.scc;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.HashMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class ParallelSccTest {
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (g:Node)" +
+        ", (h:Node)" +
+        ", (i:Node)" +
+        ", (j:Node)" +
+        ", (k:Node)" +
+
+        ", (a)-[:TYPE]->(b)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(a)" +
+
+        ", (d)-[:TYPE]->(e)" +
+        ", (e)-[:TYPE]->(f)" +
+        ", (f)-[:TYPE]->(d)" +
+        ", (f)-[:TYPE]->(f)" +
+
+        ", (a)-[:TYPE]->(d)" +
+
+        ", (g)-[:TYPE]->(h)" +
+        ", (h)-[:TYPE]->(i)" +
+        ", (i)-[:TYPE]->(g)" +
+
+        ", (j)-[:TYPE]->(a)" +
+        ", (i)-[:TYPE]->(k)";
+
+    @GdlGraph
+    private static final String NATURAL = DB_CYPHER;
+
+    @GdlGraph(graphNamePrefix = "inverse", indexInverse = true)
+    private static final String INVERSE = DB_CYPHER;
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private TestGraph inverseGraph;
+
+    @ParameterizedTest
+    @MethodSource("concurrencies")
+    void shouldComputeComponents(int concurrency) {
+        for (var testGraph : new TestGraph[]{graph, inverseGraph}) {
+            var components = parallelScc(testGraph, new Concurrency(concurrency));
+
+            assertSameComponent(testGraph, components, "a", "b", "c");
+            assertSameComponent(testGraph, components, "d", "e", "f");
+            assertSameComponent(testGraph, components, "g", "h", "i");
+            assertThat(components.get(testGraph.toMappedNodeId("j")))
+                .isEqualTo(testGraph.toMappedNodeId("j"));
+            assertThat(components.get(testGraph.toMappedNodeId("k")))
+                .isEqualTo(testGraph.toMappedNodeId("k"));
+            assertThat(componentCount(components)).isEqualTo(5);
+        }
+    }
+
+    static Stream<Arguments> randomGraphs() {
+        return Stream.of(1, 2, 4).flatMap(averageDegree -> Stream.of(
+            Arguments.of(averageDegree, false),
+            Arguments.of(averageDegree, true)
+        ));
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomGraphs")
+    void shouldFindSameComponentsAsTarjan(int averageDegree, boolean inverseIndex) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .inverseIndex(inverseIndex)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var expected = new Scc(randomGraph, ProgressTracker.NULL_TRACKER, TerminationFlag.RUNNING_TRUE).compute();
+        var actual = parallelScc(randomGraph, new Concurrency(4));
+
+        var expectedToActual = new HashMap<Long, Long>();
+        var actualToExpected = new HashMap<Long, Long>();
+        for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+            long expectedComponent = expected.get(nodeId);
+            long actualComponent = actual.get(nodeId);
+            assertThat(expectedToActual.computeIfAbsent(expectedComponent, __ -> actualComponent))
+                .isEqualTo(actualComponent);
+            assertThat(actualToExpected.computeIfAbsent(actualComponent, __ -> expectedComponent))
+                .isEqualTo(expectedComponent);
+            // the component id is a node of the component
+            assertThat(actual.get(actualComponent)).isEqualTo(actualComponent);
+        }
+    }
+
+    static Stream<Integer> concurrencies() {
+        return Stream.of(1, 4);
+    }
+
+    private static HugeLongArray parallelScc(Graph graph, Concurrency concurrency) {
+        return new ParallelScc(
+            graph,
+            concurrency,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+
+    private static void assertSameComponent(TestGraph graph, HugeLongArray components, String... variables) {
+        long component = components.get(graph.toMappedNodeId(variables[0]));
+        for (String variable : variables) {
+            assertThat(components.get(graph.toMappedNodeId(variable))).isEqualTo(component);
+        }
+    }
+
+    private static long componentCount(HugeLongArray components) {
+        return Stream.iterate(0L, nodeId -> nodeId < components.size(), nodeId -> nodeId + 1)
+            .map(components::get)
+            .distinct()
+            .count();
+    }
+}
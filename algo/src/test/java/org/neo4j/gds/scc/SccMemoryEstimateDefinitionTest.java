@@ -34,4 +34,12 @@ class SccMemoryEstimateDefinitionTest {
             .hasRange(36348L,69132L);
     }
 
+    @Test
+    void shouldEstimateTheSelectedMethod() {
+        MemoryEstimationAssert.assertThat(new SccMemoryEstimateDefinition(SccMethod.TARJAN).memoryEstimation())
+            .hasDescription("Scc");
+        MemoryEstimationAssert.assertThat(new SccMemoryEstimateDefinition(SccMethod.COLORING).memoryEstimation())
+            .hasDescription("ParallelScc");
+    }
+
 }
@@ -21,20 +21,25 @@ package org.neo4j.gds.similarity.filteredknn;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.gdl.GdlFactory;
 import org.neo4j.gds.similarity.FilteringParameters;
 import org.neo4j.gds.similarity.NodeFilterSpec;
 import org.neo4j.gds.similarity.SimilarityResult;
 import org.neo4j.gds.similarity.filtering.NodeIdNodeFilterSpec;
+import org.neo4j.gds.similarity.hnsw.HnswIndex;
 import org.neo4j.gds.similarity.knn.KnnContext;
 import org.neo4j.gds.similarity.knn.KnnNodePropertySpec;
 import org.neo4j.gds.similarity.knn.KnnParametersSansNodeCount;
 import org.neo4j.gds.similarity.knn.KnnSampler;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
 import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.Comparator;
@@ -124,6 +129,55 @@ class FilteredKnnTest {
         assertCorrectNeighborList(result, nodeCId, nodeAId);
     }
 
+    @Test
+    void shouldUseTheIndexAttachedToTheGraphStoreWithTheHnswSampler() {
+        var gdlFactory = GdlFactory.of(
+            "  (a:A { knn: [1.0, 0.0] } )" +
+            ", (b:B { knn: [0.95, 0.05] } )" +
+            ", (c:A { knn: [0.9, 0.1] } )" +
+            ", (d:A { knn: [0.0, 1.0] } )" +
+            ", (e:B { knn: [0.05, 0.95] } )" +
+            ", (f:A { knn: [0.1, 0.9] } )"
+        );
+        var graphStore = gdlFactory.build();
+        var filteredGraph = graphStore.getGraph(NodeLabel.of("A"));
+        IdFunction idFunction = variable -> filteredGraph.toMappedNodeId(gdlFactory.nodeId(variable));
+
+        var knnSans = KnnParametersSansNodeCount.create(
+            new Concurrency(1),
+            1,
+            0,
+            0.001,
+            0.5,
+            1,
+            0,
+            0,
+            1_000,
+            KnnSampler.SamplerType.HNSW,
+            Optional.of(42L),
+            List.of(new KnnNodePropertySpec("knn"))
+        );
+        var filteredSans = new FilteredKnnParametersSansNodeCount(
+            knnSans,
+            new FilteringParameters(NodeFilterSpec.noOp, NodeFilterSpec.noOp),
+            false
+        );
+        var params = filteredSans.finalize(filteredGraph.nodeCount());
+
+        var knnContext = KnnContext.of(graphStore, ProgressTracker.NULL_TRACKER);
+
+        var result = FilteredKnn
+            .createWithoutSeeding(filteredGraph, params, knnContext, TerminationFlag.RUNNING_TRUE)
+            .compute();
+
+        assertThat(result.similarityResultStream().count()).isEqualTo(4);
+        assertCorrectNeighborList(result, idFunction.of("a"), idFunction.of("c"));
+        assertCorrectNeighborList(result, idFunction.of("c"), idFunction.of("a"));
+        assertCorrectNeighborList(result, idFunction.of("d"), idFunction.of("f"));
+        assertCorrectNeighborList(result, idFunction.of("f"), idFunction.of("d"));
+        assertThat(HnswIndex.attached(graphStore, "knn", SimilarityMetric.DEFAULT)).isPresent();
+    }
+
     private void assertCorrectNeighborList(FilteredKnnResult result, long nodeId, long... expectedNeighbors) {
         List<SimilarityResult> similarityResults = result.similarityResultStream()
             .filter(sr -> sr.sourceNodeId() == nodeId)
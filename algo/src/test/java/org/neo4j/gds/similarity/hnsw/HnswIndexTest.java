@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.similarity.knn.metrics.Cosine;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HnswIndexTest {
+
+    private static final int NODE_COUNT = 1000;
+    private static final int DIMENSION = 16;
+    private static final int K = 10;
+    private static final int EF = 64;
+
+    @Test
+    void shouldFindMostSimilarNodes() {
+        var vectors = randomVectors(new SplittableRandom(42), NODE_COUNT);
+        var index = build(vectors);
+
+        assertThat(averageRecall(index, vectors)).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    void shouldReturnNeighborsByDescendingSimilarity() {
+        var vectors = randomVectors(new SplittableRandom(7), NODE_COUNT);
+        var index = build(vectors);
+
+        var neighbors = index.searchNode(0, K, EF);
+
+        assertThat(neighbors).hasSize(K);
+        assertThat(neighbors).extracting(HnswIndex.Neighbor::nodeId).doesNotContain(0L).doesNotHaveDuplicates();
+        assertThat(neighbors)
+            .extracting(HnswIndex.Neighbor::similarity)
+            .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void shouldSkipNodesWithoutVector() {
+        var vectors = randomVectors(new SplittableRandom(1), 100);
+        for (int node = 0; node < vectors.length; node += 2) {
+            vectors[node] = null;
+        }
+        var index = build(vectors);
+
+        assertThat(index.searchNode(0, K, EF)).isEmpty();
+        assertThat(index.searchNode(1, K, EF))
+            .hasSize(K)
+            .allSatisfy(neighbor -> assertThat(neighbor.nodeId() % 2).isEqualTo(1L));
+    }
+
+    @Test
+    void shouldReconnectChangedNodes() {
+        var random = new SplittableRandom(42);
+        var vectors = randomVectors(random, NODE_COUNT);
+        var index = build(vectors);
+
+        var changedVectors = vectors.clone();
+        for (int node = 0; node < 100; node++) {
+            changedVectors[node] = randomVectors(random, 1)[0];
+        }
+        // node 1 becomes a near duplicate of node 500
+        changedVectors[1] = changedVectors[500].clone();
+        changedVectors[1][0] += 1e-3f;
+
+        long changed = index.update(
+            values(changedVectors),
+            new Concurrency(4),
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        assertThat(changed).isEqualTo(100);
+        assertThat(index.searchNode(500, 1, EF)).extracting(HnswIndex.Neighbor::nodeId).containsExactly(1L);
+        assertThat(averageRecall(index, changedVectors)).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    void shouldKeepRecallAfterRemovingVectors() {
+        var vectors = randomVectors(new SplittableRandom(13), NODE_COUNT);
+        var index = build(vectors);
+
+        var remainingVectors = vectors.clone();
+        for (int node = 0; node < NODE_COUNT; node++) {
+            if (node % 3 != 0) {
+                remainingVectors[node] = null;
+            }
+        }
+
+        index.update(
+            values(remainingVectors),
+            new Concurrency(4),
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        assertThat(index.searchNode(0, K, EF))
+            .hasSize(K)
+            .allSatisfy(neighbor -> assertThat(neighbor.nodeId() % 3).isZero());
+        assertThat(averageRecall(index, remainingVectors)).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    void shouldNotChangeAnythingForEqualVectors() {
+        var vectors = randomVectors(new SplittableRandom(42), 100);
+        var index = build(vectors);
+
+        long changed = index.update(
+            values(vectors.clone()),
+            new Concurrency(4),
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        assertThat(changed).isZero();
+    }
+
+    @Test
+    void shouldStayAttachedToGraphStore() {
+        var gdlFactory = GdlFactory.of(
+            "  (a {vector: [1.0, 0.0]})" +
+            ", (b {vector: [0.9, 0.1]})" +
+            ", (c {vector: [0.0, 1.0]})" +
+            ", (d {vector: [0.1, 0.9]})"
+        );
+        var graphStore = gdlFactory.build();
+        var idMap = graphStore.nodes();
+        long a = idMap.toMappedNodeId(gdlFactory.nodeId("a"));
+        long b = idMap.toMappedNodeId(gdlFactory.nodeId("b"));
+        long c = idMap.toMappedNodeId(gdlFactory.nodeId("c"));
+
+        var index = HnswIndex.of(graphStore, "vector", SimilarityMetric.COSINE, HnswParameters.defaults(), new Concurrency(1));
+        assertThat(index.searchNode(a, 1, EF)).extracting(HnswIndex.Neighbor::nodeId).containsExactly(b);
+        assertThat(HnswIndex.of(graphStore, "vector", SimilarityMetric.COSINE, HnswParameters.defaults(), new Concurrency(1)))
+            .isSameAs(index);
+
+        // replace the property, as a mutate step would, so that `a` is closest to `c`
+        var vectors = new float[4][];
+        for (long node = 0; node < 4; node++) {
+            vectors[(int) node] = graphStore.nodeProperty("vector").values().floatArrayValue(node);
+        }
+        vectors[(int) a] = new float[]{0.05f, 1.0f};
+        graphStore.removeNodeProperty("vector");
+        graphStore.addNodeProperty(graphStore.nodeLabels(), "vector", values(vectors));
+
+        assertThat(HnswIndex.of(graphStore, "vector", SimilarityMetric.COSINE, HnswParameters.defaults(), new Concurrency(1)))
+            .isSameAs(index);
+        assertThat(index.searchNode(a, 1, EF)).extracting(HnswIndex.Neighbor::nodeId).containsExactly(c);
+
+        HnswIndex.detach(graphStore);
+        assertThat(HnswIndex.of(graphStore, "vector", SimilarityMetric.COSINE, HnswParameters.defaults(), new Concurrency(1)))
+            .isNotSameAs(index);
+    }
+
+    @Test
+    void shouldRejectMissingProperty() {
+        var graphStore = GdlFactory.of("(a {vector: [1.0, 0.0]})").build();
+
+        assertThatThrownBy(() -> HnswIndex.of(
+            graphStore,
+            "missing",
+            SimilarityMetric.COSINE,
+            HnswParameters.defaults(),
+            new Concurrency(1)
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("`missing`");
+    }
+
+    @Test
+    void shouldRejectUnsupportedMetric() {
+        var vectors = randomVectors(new SplittableRandom(42), 10);
+
+        assertThatThrownBy(() -> HnswIndex.build(
+            values(vectors),
+            SimilarityMetric.JACCARD,
+            HnswParameters.defaults(),
+            new Concurrency(1),
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("JACCARD");
+    }
+
+    private static HnswIndex build(float[][] vectors) {
+        return HnswIndex.build(
+            values(vectors),
+            SimilarityMetric.COSINE,
+            HnswParameters.defaults(),
+            new Concurrency(4),
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE
+        );
+    }
+
+    private static double averageRecall(HnswIndex index, float[][] vectors) {
+        double recall = 0;
+        int queries = 0;
+        for (int query = 0; queries < 50; query++) {
+            if (vectors[query] == null) {
+                continue;
+            }
+            queries++;
+            int queryNode = query;
+            var expected = LongStream.range(0, vectors.length)
+                .filter(node -> node != queryNode && vectors[(int) node] != null)
+                .boxed()
+                .sorted(Comparator.comparingDouble(node -> -Cosine.floatMetric(vectors[queryNode], vectors[node.intValue()])))
+                .limit(K)
+                .toList();
+            var actual = index.searchNode(query, K, EF).stream().map(HnswIndex.Neighbor::nodeId).toList();
+            recall += actual.stream().filter(expected::contains).count() / (double) K;
+        }
+        return recall / queries;
+    }
+
+    private static float[][] randomVectors(SplittableRandom random, int count) {
+        var vectors = new float[count][DIMENSION];
+        for (var vector : vectors) {
+            for (int i = 0; i < DIMENSION; i++) {
+                vector[i] = (float) random.nextDouble(-1, 1);
+            }
+        }
+        return vectors;
+    }
+
+    private static FloatArrayNodePropertyValues values(float[][] vectors) {
+        return new FloatArrayNodePropertyValues() {
+            @Override
+            public long nodeCount() {
+                return vectors.length;
+            }
+
+            @Override
+            public float[] floatArrayValue(long nodeId) {
+                return vectors[(int) nodeId];
+            }
+        };
+    }
+}
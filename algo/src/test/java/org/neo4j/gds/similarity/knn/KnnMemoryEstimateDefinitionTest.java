@@ -20,18 +20,25 @@
 package org.neo4j.gds.similarity.knn;
 
 import com.carrotsearch.hppc.LongArrayList;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.DimensionsMap;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.mem.Estimate;
 import org.neo4j.gds.mem.MemoryRange;
 import org.neo4j.gds.mem.MemoryTree;
+import org.neo4j.gds.similarity.hnsw.HnswIndex;
+import org.neo4j.gds.similarity.hnsw.HnswParameters;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -46,7 +53,8 @@ class KnnMemoryEstimateDefinitionTest {
             () -> Stream.of(Arguments.of(1L), Arguments.of(10L), Arguments.of(100L), Arguments.of(10_00L)),
             () -> Stream.of(
                 Arguments.of(KnnSampler.SamplerType.UNIFORM),
-                Arguments.of(KnnSampler.SamplerType.RANDOMWALK)
+                Arguments.of(KnnSampler.SamplerType.RANDOMWALK),
+                Arguments.of(KnnSampler.SamplerType.HNSW)
             )
         );
     }
@@ -74,7 +82,8 @@ class KnnMemoryEstimateDefinitionTest {
             () -> Stream.of(Arguments.of(1_000_000_000L), Arguments.of(100_000_000_000L)),
             () -> Stream.of(
                 Arguments.of(KnnSampler.SamplerType.UNIFORM),
-                Arguments.of(KnnSampler.SamplerType.RANDOMWALK)
+                Arguments.of(KnnSampler.SamplerType.RANDOMWALK),
+                Arguments.of(KnnSampler.SamplerType.HNSW)
             )
         );
     }
@@ -92,6 +101,29 @@ class KnnMemoryEstimateDefinitionTest {
         assertEstimation(nodeCount, parameters.build(nodeCount).k(), initialSampler, actual);
     }
 
+    @Test
+    void shouldEstimateTheHnswIndexByTheVectorDimension() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(1_000)
+            .nodePropertyDimensions(new DimensionsMap(Map.of("embedding", Optional.of(4))))
+            .build();
+        var concurrency = new Concurrency(1);
+
+        var uniform = new KnnMemoryEstimateDefinition(
+            new KnnMemoryEstimationParametersBuilder(0.5, 10, KnnSampler.SamplerType.UNIFORM, List.of("embedding"))
+        ).memoryEstimation().estimate(dimensions, concurrency).memoryUsage();
+        var hnsw = new KnnMemoryEstimateDefinition(
+            new KnnMemoryEstimationParametersBuilder(0.5, 10, KnnSampler.SamplerType.HNSW, List.of("embedding"))
+        ).memoryEstimation().estimate(dimensions, concurrency).memoryUsage();
+
+        long samplerDifference = KnnSamplerMemoryEstimation.create(KnnSampler.SamplerType.HNSW, 10).max
+            - KnnSamplerMemoryEstimation.create(KnnSampler.SamplerType.UNIFORM, 10).max;
+        assertEquals(
+            HnswIndex.memoryEstimation(1_000, 4, HnswParameters.DEFAULT_MAX_CONNECTIONS) + samplerDifference,
+            hnsw.max - uniform.max
+        );
+    }
+
     private void assertEstimation(
         long nodeCount,
         K k,
@@ -112,8 +144,12 @@ class KnnMemoryEstimateDefinitionTest {
         var randomList = KnnSamplerMemoryEstimation.create(initialSampler, k.value());
         long sampledList = sizeOfIntArray(sizeOfOpenHashContainer(k.sampledValue()));
 
-        long expectedMin = knnAlgo + topKNeighborsList + 4 * tempNeighborsListMin + randomList.min + sampledList;
-        long expectedMax = knnAlgo + topKNeighborsList + 4 * tempNeighborsListMax + randomList.max + sampledList;
+        long hnswIndex = initialSampler == KnnSampler.SamplerType.HNSW
+            ? HnswIndex.memoryEstimation(nodeCount, 128, HnswParameters.DEFAULT_MAX_CONNECTIONS)
+            : 0;
+
+        long expectedMin = knnAlgo + hnswIndex + topKNeighborsList + 4 * tempNeighborsListMin + randomList.min + sampledList;
+        long expectedMax = knnAlgo + hnswIndex + topKNeighborsList + 4 * tempNeighborsListMax + randomList.max + sampledList;
 
         assertEquals(expectedMin, actual.min);
         assertEquals(expectedMax, actual.max);
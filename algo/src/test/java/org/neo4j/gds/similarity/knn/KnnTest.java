@@ -28,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.SimilarityAlgorithmTasks;
 import org.neo4j.gds.TestProgressTrackerHelper;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
@@ -35,6 +36,7 @@ import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.loading.NullPropertyMap;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.IdFunction;
@@ -44,7 +46,10 @@ import org.neo4j.gds.gdl.GdlFactory;
 import org.neo4j.gds.nodeproperties.DoubleArrayTestPropertyValues;
 import org.neo4j.gds.nodeproperties.DoubleTestPropertyValues;
 import org.neo4j.gds.nodeproperties.FloatArrayTestPropertyValues;
+import org.neo4j.gds.similarity.hnsw.HnswIndex;
+import org.neo4j.gds.similarity.hnsw.HnswParameters;
 import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
 import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.Comparator;
@@ -54,6 +59,7 @@ import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.withPrecision;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -816,4 +822,178 @@ class KnnTest {
             softly.assertThat(result.neighborsOf(nodeGId)).contains(nodeFId);
         }
     }
+
+    @Nested
+    class HnswInitialSamplerTest {
+
+        @GdlGraph
+        private static final String DB_CYPHER =
+            "CREATE" +
+                "  (a { knn: [1.0, 0.0] } )" +
+                ", (b { knn: [0.9, 0.1] } )" +
+                ", (c { knn: [0.0, 1.0] } )" +
+                ", (d { knn: [0.1, 0.9] } )" +
+                ", (e { knn: [-1.0, 0.0] } )" +
+                ", (f { knn: [-0.9, -0.1] } )";
+
+        @Test
+        void shouldStartFromNearestNeighbors() {
+            var k = K.create(1, graph.nodeCount(), 0.5, 0.001);
+
+            var knnParameters = new KnnParameters(
+                new Concurrency(1),
+                1,
+                0.0,
+                k,
+                0.0,
+                0,
+                1000,
+                KnnSampler.SamplerType.HNSW,
+                Optional.of(42L),
+                List.of(new KnnNodePropertySpec("knn"))
+            );
+
+            var knn = Knn.create(
+                graph,
+                knnParameters,
+                new KnnNeighborFilterFactory(graph.nodeCount()),
+                context,
+                Optional.empty(),
+                TerminationFlag.RUNNING_TRUE
+            );
+
+            var result = knn.compute();
+
+            assertThat(result.neighborsOf(graph.toMappedNodeId("a"))).containsExactly(graph.toMappedNodeId("b"));
+            assertThat(result.neighborsOf(graph.toMappedNodeId("b"))).containsExactly(graph.toMappedNodeId("a"));
+            assertThat(result.neighborsOf(graph.toMappedNodeId("c"))).containsExactly(graph.toMappedNodeId("d"));
+            assertThat(result.neighborsOf(graph.toMappedNodeId("d"))).containsExactly(graph.toMappedNodeId("c"));
+            assertThat(result.neighborsOf(graph.toMappedNodeId("e"))).containsExactly(graph.toMappedNodeId("f"));
+            assertThat(result.neighborsOf(graph.toMappedNodeId("f"))).containsExactly(graph.toMappedNodeId("e"));
+        }
+
+        @Test
+        void shouldReuseTheIndexAttachedToTheGraphStore() {
+            var gdlFactory = GdlFactory.of(
+                "  (a:A { knn: [1.0, 0.0] } )" +
+                ", (b:B { knn: [0.95, 0.05] } )" +
+                ", (c:A { knn: [0.9, 0.1] } )" +
+                ", (d:A { knn: [0.0, 1.0] } )" +
+                ", (e:B { knn: [0.05, 0.95] } )" +
+                ", (f:A { knn: [0.1, 0.9] } )"
+            );
+            var graphStore = gdlFactory.build();
+            var filteredGraph = graphStore.getGraph(NodeLabel.of("A"));
+            IdFunction idFunction = variable -> filteredGraph.toMappedNodeId(gdlFactory.nodeId(variable));
+
+            var k = K.create(1, filteredGraph.nodeCount(), 0.5, 0.001);
+            var knnParameters = new KnnParameters(
+                new Concurrency(1),
+                1,
+                0.0,
+                k,
+                0.0,
+                0,
+                1000,
+                KnnSampler.SamplerType.HNSW,
+                Optional.of(42L),
+                List.of(new KnnNodePropertySpec("knn"))
+            );
+
+            assertThat(HnswIndex.attached(graphStore, "knn", SimilarityMetric.DEFAULT)).isEmpty();
+
+            var result = Knn.create(
+                filteredGraph,
+                knnParameters,
+                new KnnNeighborFilterFactory(filteredGraph.nodeCount()),
+                KnnContext.of(graphStore, ProgressTracker.NULL_TRACKER),
+                Optional.empty(),
+                TerminationFlag.RUNNING_TRUE
+            ).compute();
+
+            // the index covers the nodes labelled B as well, but these are not part of the graph
+            assertThat(result.neighborsOf(idFunction.of("a"))).containsExactly(idFunction.of("c"));
+            assertThat(result.neighborsOf(idFunction.of("c"))).containsExactly(idFunction.of("a"));
+            assertThat(result.neighborsOf(idFunction.of("d"))).containsExactly(idFunction.of("f"));
+            assertThat(result.neighborsOf(idFunction.of("f"))).containsExactly(idFunction.of("d"));
+
+            var index = HnswIndex.attached(graphStore, "knn", SimilarityMetric.DEFAULT);
+            assertThat(index).isPresent();
+            assertThat(index.get().nodeCount()).isEqualTo(graphStore.nodeCount());
+            assertThat(HnswIndex.of(graphStore, "knn", SimilarityMetric.DEFAULT, HnswParameters.defaults(), new Concurrency(1)))
+                .isSameAs(index.get());
+        }
+
+        @Test
+        void shouldLogProgressOfPreparingTheIndex() {
+            var k = K.create(1, graph.nodeCount(), 0.5, 0.001);
+            var knnParameters = new KnnParameters(
+                new Concurrency(1),
+                1,
+                0.0,
+                k,
+                0.0,
+                0,
+                1000,
+                KnnSampler.SamplerType.HNSW,
+                Optional.of(42L),
+                List.of(new KnnNodePropertySpec("knn"))
+            );
+
+            var progressTrackerWithLog = TestProgressTrackerHelper.create(
+                new SimilarityAlgorithmTasks().knn(graph, knnParameters),
+                new Concurrency(1)
+            );
+
+            Knn.create(
+                graph,
+                knnParameters,
+                new KnnNeighborFilterFactory(graph.nodeCount()),
+                new KnnContext(progressTrackerWithLog.progressTracker()),
+                Optional.empty(),
+                TerminationFlag.RUNNING_TRUE
+            ).compute();
+
+            assertThat(progressTrackerWithLog.log().getMessages(TestLog.INFO))
+                .extracting(removingThreadId())
+                .extracting(replaceTimings())
+                .contains(
+                    "Knn :: Prepare HNSW index :: Start",
+                    "Knn :: Prepare HNSW index 100%",
+                    "Knn :: Prepare HNSW index :: Finished"
+                );
+        }
+
+        @Test
+        void shouldRequireArrayProperty() {
+            var scalarGraph = GdlFactory.of("({knn: 1.0}), ({knn: 2.0}), ({knn: 3.0})").build().getUnion();
+            var k = K.create(1, scalarGraph.nodeCount(), 0.5, 0.001);
+
+            var knnParameters = new KnnParameters(
+                new Concurrency(1),
+                1,
+                0.0,
+                k,
+                0.0,
+                0,
+                1000,
+                KnnSampler.SamplerType.HNSW,
+                Optional.of(42L),
+                List.of(new KnnNodePropertySpec("knn"))
+            );
+
+            var knn = Knn.create(
+                scalarGraph,
+                knnParameters,
+                new KnnNeighborFilterFactory(scalarGraph.nodeCount()),
+                context,
+                Optional.empty(),
+                TerminationFlag.RUNNING_TRUE
+            );
+
+            assertThatThrownBy(knn::compute)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("float or double array property");
+        }
+    }
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.similarity.SimilarityResult;
+import org.neo4j.gds.similarity.filtering.NodeFilter;
+import org.neo4j.gds.termination.TerminationFlag;
+import org.neo4j.gds.wcc.WccStub;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.Orientation.NATURAL;
+import static org.neo4j.gds.Orientation.UNDIRECTED;
+
+@GdlExtension
+class NodeSimilarityApproximationTest {
+
+    @GdlGraph(graphNamePrefix = "natural", orientation = NATURAL, idOffset = 0)
+    @GdlGraph(graphNamePrefix = "undirected", orientation = UNDIRECTED, idOffset = 0)
+    private static final String DB_CYPHER =
+        "CREATE" +
+            "  (a:Person)" +
+            ", (b:Person)" +
+            ", (c:Person)" +
+            ", (d:Person)" +
+            ", (e:Person)" +
+            ", (i1:Item)" +
+            ", (i2:Item)" +
+            ", (i3:Item)" +
+            ", (i4:Item)" +
+            ", (a)-[:LIKES]->(i1)" +
+            ", (a)-[:LIKES]->(i2)" +
+            ", (a)-[:LIKES]->(i3)" +
+            ", (a)-[:LIKES]->(a)" +
+            ", (b)-[:LIKES]->(i1)" +
+            ", (b)-[:LIKES]->(i2)" +
+            ", (b)-[:LIKES]->(i2)" +
+            ", (c)-[:LIKES]->(i3)" +
+            ", (d)-[:LIKES]->(i1)" +
+            ", (d)-[:LIKES]->(i2)" +
+            ", (d)-[:LIKES]->(i3)" +
+            ", (e)-[:LIKES]->(i4)";
+
+    @Inject
+    private TestGraph naturalGraph;
+
+    @Inject
+    private TestGraph undirectedGraph;
+
+    @ParameterizedTest
+    @EnumSource(NodeSimilarityMetric.class)
+    void shouldIntersectOnCursorsLikeOnCopies(NodeSimilarityMetric metric) {
+        // the inner graphs are the ones with adjacency lists to intersect on
+        for (Graph graph : new Graph[]{naturalGraph.innerGraph(), undirectedGraph.innerGraph()}) {
+            var expected = similarities(graph, parameters(metric, 4, true, 0));
+            var actual = similarities(graph, parameters(metric, 4, false, 0));
+
+            assertSameSimilarities(actual, expected);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldIntersectOnCursorsLikeOnCopiesOnRandomGraphs(int concurrency) {
+        var graph = randomGraph();
+
+        var expected = similarities(graph, parameters(NodeSimilarityMetric.JACCARD, concurrency, true, 0));
+        var actual = similarities(graph, parameters(NodeSimilarityMetric.JACCARD, concurrency, false, 0));
+
+        assertSameSimilarities(actual, expected);
+    }
+
+    @Test
+    void shouldFindIdenticalNeighborhoodsWithMinHash() {
+        var actual = similarities(naturalGraph, parameters(NodeSimilarityMetric.JACCARD, 1, true, 4));
+
+        // a and d have identical neighborhoods and always collide
+        assertThat(actual).containsEntry(pair(naturalGraph, "a", "d"), 1.0);
+        assertThat(actual).containsEntry(pair(naturalGraph, "d", "a"), 1.0);
+        // e shares nothing with anyone and is never a candidate
+        long e = naturalGraph.toMappedNodeId("e");
+        assertThat(actual.keySet()).noneMatch(pair -> pair.node1() == e || pair.node2() == e);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldOnlyVerifyCandidatesWithMinHash(boolean materializeNeighborhoods) {
+        var graph = randomGraph();
+
+        var exact = similarities(graph, parameters(NodeSimilarityMetric.JACCARD, 4, true, 0));
+        var approximate = similarities(
+            graph,
+            parameters(NodeSimilarityMetric.JACCARD, 4, materializeNeighborhoods, 16)
+        );
+
+        assertThat(approximate).isNotEmpty();
+        approximate.forEach((pair, similarity) -> {
+            assertThat(exact).containsKey(pair);
+            assertThat(similarity).isCloseTo(exact.get(pair), within(1e-9));
+        });
+    }
+
+    private static void assertSameSimilarities(Map<Pair, Double> actual, Map<Pair, Double> expected) {
+        assertThat(actual).containsOnlyKeys(expected.keySet());
+        expected.forEach((pair, similarity) -> assertThat(actual.get(pair)).isCloseTo(similarity, within(1e-9)));
+    }
+
+    private static Graph randomGraph() {
+        return RandomGraphGenerator.builder()
+            .nodeCount(500)
+            .averageDegree(8)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .allowSelfLoops(true)
+            .seed(42L)
+            .build()
+            .generate();
+    }
+
+    private static NodeSimilarityParameters parameters(
+        NodeSimilarityMetric metric,
+        int concurrency,
+        boolean materializeNeighborhoods,
+        int minHashBands
+    ) {
+        return new NodeSimilarityParameters(
+            new Concurrency(concurrency),
+            metric,
+            1,
+            Integer.MAX_VALUE,
+            0,
+            0,
+            0,
+            true,
+            false,
+            false,
+            null,
+            materializeNeighborhoods,
+            minHashBands,
+            2
+        );
+    }
+
+    private static Map<Pair, Double> similarities(Graph graph, NodeSimilarityParameters parameters) {
+        var nodeSimilarity = new NodeSimilarity(
+            graph,
+            parameters,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            NodeFilter.ALLOW_EVERYTHING,
+            NodeFilter.ALLOW_EVERYTHING,
+            TerminationFlag.RUNNING_TRUE,
+            new WccStub(TerminationFlag.RUNNING_TRUE)
+        );
+
+        var similarities = new HashMap<Pair, Double>();
+        nodeSimilarity
+            .compute()
+            .streamResult()
+            .forEach(result -> similarities.put(key(result), result.similarity));
+        return similarities;
+    }
+
+    private static Pair key(SimilarityResult result) {
+        return new Pair(result.node1, result.node2);
+    }
+
+    private static Pair pair(TestGraph graph, String node1, String node2) {
+        return new Pair(graph.toMappedNodeId(node1), graph.toMappedNodeId(node2));
+    }
+
+    private record Pair(long node1, long node2) {}
+}
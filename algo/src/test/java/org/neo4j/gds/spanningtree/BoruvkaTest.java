@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.config.RandomGraphGeneratorConfig;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+@GdlExtension
+class BoruvkaTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (y:Node)" +
+        ", (z:Node)" +
+
+        ", (a)-[:TYPE {cost: 1.0}]->(b)" +
+        ", (a)-[:TYPE {cost: 2.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 3.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 4.0}]->(d)" +
+        ", (c)-[:TYPE {cost: 5.0}]->(e)" +
+        ", (d)-[:TYPE {cost: 6.0}]->(e)" +
+        ", (y)-[:TYPE {cost: 7.0}]->(z)";
+
+    @Inject
+    private TestGraph graph;
+
+    static Stream<Arguments> startNodesAndObjectives() {
+        return Stream.of("a", "b", "c", "d", "e", "y")
+            .flatMap(startNode -> Stream.of(
+                arguments(startNode, PrimOperators.MIN_OPERATOR),
+                arguments(startNode, PrimOperators.MAX_OPERATOR)
+            ));
+    }
+
+    @ParameterizedTest
+    @MethodSource("startNodesAndObjectives")
+    void shouldMatchPrimForDistinctWeights(String startNode, DoubleUnaryOperator objective) {
+        var startNodeId = graph.toMappedNodeId(startNode);
+        var expected = prim(graph, objective, startNodeId);
+        var actual = boruvka(graph, objective, startNodeId, new Concurrency(4));
+
+        assertThat(actual.effectiveNodeCount()).isEqualTo(expected.effectiveNodeCount());
+        assertThat(actual.totalWeight()).isEqualTo(expected.totalWeight());
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(actual.parent(nodeId)).as("parent of %d", nodeId).isEqualTo(expected.parent(nodeId));
+            if (expected.parent(nodeId) != -1) {
+                assertThat(actual.costToParent(nodeId)).isEqualTo(expected.costToParent(nodeId));
+            }
+        }
+    }
+
+    @Test
+    void shouldOnlyCoverComponentOfStartNode() {
+        var mst = boruvka(graph, PrimOperators.MIN_OPERATOR, graph.toMappedNodeId("y"), new Concurrency(2));
+
+        assertThat(mst.effectiveNodeCount()).isEqualTo(2);
+        assertThat(mst.totalWeight()).isEqualTo(7.0);
+        assertThat(mst.parent(graph.toMappedNodeId("z"))).isEqualTo(graph.toMappedNodeId("y"));
+        assertThat(mst.parent(graph.toMappedNodeId("a"))).isEqualTo(-1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldFindTreesOfSameWeightAsPrim(boolean uniformWeights) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(5_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .relationshipPropertyProducer(uniformWeights
+                ? PropertyProducer.fixedDouble("weight", 1.0)
+                : PropertyProducer.randomDouble("weight", 0, 10))
+            .seed(42L)
+            .aggregation(Aggregation.SINGLE)
+            .direction(Direction.UNDIRECTED)
+            .allowSelfLoops(RandomGraphGeneratorConfig.AllowSelfLoops.NO)
+            .build()
+            .generate();
+
+        for (var objective : new DoubleUnaryOperator[]{PrimOperators.MIN_OPERATOR, PrimOperators.MAX_OPERATOR}) {
+            var expected = prim(randomGraph, objective, 0);
+            var actual = boruvka(randomGraph, objective, 0, new Concurrency(4));
+
+            assertThat(actual.effectiveNodeCount()).isEqualTo(expected.effectiveNodeCount());
+            assertThat(actual.totalWeight()).isCloseTo(expected.totalWeight(), within(1e-6));
+
+            var sum = new double[1];
+            var edges = new long[1];
+            actual.forEach((parent, child, cost) -> {
+                sum[0] += cost;
+                edges[0]++;
+                return true;
+            });
+            assertThat(edges[0]).isEqualTo(actual.effectiveNodeCount() - 1);
+            assertThat(sum[0]).isCloseTo(actual.totalWeight(), within(1e-6));
+        }
+    }
+
+    private static SpanningTree prim(Graph graph, DoubleUnaryOperator objective, long startNodeId) {
+        return new Prim(
+            graph,
+            objective,
+            startNodeId,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+
+    private static SpanningTree boruvka(
+        Graph graph,
+        DoubleUnaryOperator objective,
+        long startNodeId,
+        Concurrency concurrency
+    ) {
+        return new Boruvka(
+            graph,
+            objective,
+            startNodeId,
+            concurrency,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+}
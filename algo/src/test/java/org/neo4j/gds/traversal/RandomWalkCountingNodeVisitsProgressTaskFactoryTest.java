@@ -34,7 +34,7 @@ class RandomWalkCountingNodeVisitsProgressTaskFactoryTest {
 
         var graphMock = mock(Graph.class);
         when(graphMock.hasRelationshipProperty()).thenReturn(true);
-        var task = RandomWalkCountingNodeVisitsProgressTaskFactory.create(graphMock);
+        var task = RandomWalkCountingNodeVisitsProgressTaskFactory.create(graphMock, false);
 
         assertThat(task).isNotInstanceOf(LeafTask.class);
 
@@ -50,7 +50,7 @@ class RandomWalkCountingNodeVisitsProgressTaskFactoryTest {
         var graphMock = mock(Graph.class);
         when(graphMock.hasRelationshipProperty()).thenReturn(false);
 
-        var task = RandomWalkCountingNodeVisitsProgressTaskFactory.create(graphMock);
+        var task = RandomWalkCountingNodeVisitsProgressTaskFactory.create(graphMock, false);
 
         assertThat(task).isInstanceOf(LeafTask.class);
         assertThat(task.subTasks())
@@ -58,4 +58,14 @@ class RandomWalkCountingNodeVisitsProgressTaskFactoryTest {
 
     }
 
+    @Test
+    void shouldNotHaveDegreeCentralitySubTaskWhenUsingAliasTables() {
+
+        var graphMock = mock(Graph.class);
+        when(graphMock.hasRelationshipProperty()).thenReturn(true);
+
+        var task = RandomWalkCountingNodeVisitsProgressTaskFactory.create(graphMock, true);
+
+        assertThat(task).isInstanceOf(LeafTask.class);
+    }
 }
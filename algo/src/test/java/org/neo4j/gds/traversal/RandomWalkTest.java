@@ -288,8 +288,9 @@ class RandomWalkTest {
     }
 
 
-    @Test
-    void shouldRespectRelationshipWeights() {
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldRespectRelationshipWeights(boolean useAliasTables) {
         var graph = fromGdl(
             "  (a:Node)" +
             ", (b:Node)" +
@@ -300,7 +301,7 @@ class RandomWalkTest {
             ", (c)-[:REL {weight: 1.0}]->(a)"
         );
 
-        var walkParameters = new WalkParameters(1, 1000, 1.0, 1.0);
+        var walkParameters = new WalkParameters(1, 1000, 1.0, 1.0, useAliasTables);
 
         RandomWalk randomWalk = RandomWalk.create(
             graph,
@@ -505,7 +506,7 @@ class RandomWalkTest {
 
             assertThatNoException().isThrownBy(() -> {
                 var testTracker = new TestProgressTracker(
-                    RandomWalkProgressTask.create(graph),
+                    RandomWalkProgressTask.create(graph, false),
                     new LoggerForProgressTrackingAdapter(log),
                     new Concurrency(4),
                     TaskRegistryFactory.local("rw", new PerDatabaseTaskStore(Duration.ZERO))
@@ -556,7 +557,7 @@ class RandomWalkTest {
 
             assertThatNoException().isThrownBy(() -> {
                 var testTracker = new TestProgressTracker(
-                    RandomWalkProgressTask.create(weightedGraph),
+                    RandomWalkProgressTask.create(weightedGraph, false),
                     new LoggerForProgressTrackingAdapter(log),
                     new Concurrency(4),
                     TaskRegistryFactory.local("rw", new PerDatabaseTaskStore(Duration.ZERO))
@@ -607,7 +608,7 @@ class RandomWalkTest {
             var taskStore = new PerDatabaseTaskStore(Duration.ZERO);
 
             var testTracker = new TaskProgressTracker(
-                RandomWalkProgressTask.create(graph),
+                RandomWalkProgressTask.create(graph, false),
                 LoggerForProgressTracking.noOpLog(),
                 new Concurrency(4),
                 TaskRegistryFactory.local("rw", taskStore)
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle.intersect;
+
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.triangle.LabelFilterChecker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class HubIntersectionTest {
+
+    private static final int NODE_COUNT = 300;
+    private static final int HUB_COUNT = 3;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldFindTheSameTrianglesAsMerging(boolean denseHubs) {
+        var graph = produceGraph(denseHubs);
+        var adjacencyList = ((HugeGraph) graph).relationshipTopology().adjacencyList();
+        var labelFilterChecker = new LabelFilterChecker(Collections.emptyList(), graph::hasLabel);
+
+        var merging = new TestIntersect(adjacencyList, Long.MAX_VALUE, labelFilterChecker, Integer.MAX_VALUE);
+        var hybrid = new TestIntersect(adjacencyList, Long.MAX_VALUE, labelFilterChecker, 2);
+
+        var expected = triangles(merging, graph.nodeCount());
+        assertThat(expected).isNotEmpty();
+        assertThat(triangles(hybrid, graph.nodeCount())).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldApplyTheDegreeFilterWhenProbing(boolean denseHubs) {
+        var graph = produceGraph(denseHubs);
+        var adjacencyList = ((HugeGraph) graph).relationshipTopology().adjacencyList();
+        var labelFilterChecker = new LabelFilterChecker(Collections.emptyList(), graph::hasLabel);
+        long maxDegree = 20;
+
+        var merging = new TestIntersect(adjacencyList, maxDegree, labelFilterChecker, Integer.MAX_VALUE);
+        var hybrid = new TestIntersect(adjacencyList, maxDegree, labelFilterChecker, 2);
+
+        assertThat(triangles(hybrid, graph.nodeCount()))
+            .containsExactlyInAnyOrderElementsOf(triangles(merging, graph.nodeCount()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldPickTheSetRepresentationByDensity(boolean denseHubs) {
+        var graph = produceGraph(denseHubs);
+        var adjacencyList = ((HugeGraph) graph).relationshipTopology().adjacencyList();
+
+        var neighborhood = new NeighborhoodSet();
+        neighborhood.load(0, adjacencyList.adjacencyCursor(0));
+
+        assertThat(neighborhood.node()).isEqualTo(0);
+        assertThat(neighborhood.usesBitmap()).isEqualTo(denseHubs);
+        var cursor = adjacencyList.adjacencyCursor(0);
+        while (cursor.hasNextVLong()) {
+            assertThat(neighborhood.contains(cursor.nextVLong())).isTrue();
+        }
+        assertThat(neighborhood.contains(0)).isFalse();
+    }
+
+    private static List<List<Long>> triangles(GraphIntersect<?> intersect, long nodeCount) {
+        var triangles = new ArrayList<List<Long>>();
+        for (long node = 0; node < nodeCount; node++) {
+            intersect.intersectAll(node, (a, b, c) -> triangles.add(List.of(a, b, c)));
+        }
+        return triangles;
+    }
+
+    /**
+     * Nodes {@code 0} to {@code HUB_COUNT - 1} are hubs connected to most other nodes,
+     * all other nodes are connected sparsely and with a few parallel relationships.
+     * Dense hubs are connected to a contiguous range of nodes,
+     * sparse hubs to nodes spread out over a much larger id space.
+     */
+    private static Graph produceGraph(boolean denseHubs) {
+        var random = new Random(42);
+        long nodeCount = denseHubs ? NODE_COUNT : NODE_COUNT * NeighborhoodSet.MAX_BITS_PER_NEIGHBOR * 4;
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(nodeCount - 1)
+            .concurrency(new Concurrency(1))
+            .build();
+        for (long i = 0; i < nodeCount; i++) {
+            nodesBuilder.addNode(i);
+        }
+
+        var idMap = nodesBuilder.build().idMap();
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .relationshipType(RelationshipType.of("REL"))
+            .orientation(Orientation.UNDIRECTED)
+            .executorService(DefaultPool.INSTANCE)
+            .build();
+
+        long stride = nodeCount / NODE_COUNT;
+        for (int hub = 0; hub < HUB_COUNT; hub++) {
+            for (long node = HUB_COUNT; node < NODE_COUNT; node++) {
+                if (random.nextInt(10) < 8) {
+                    relationshipsBuilder.add(hub, node * stride);
+                }
+            }
+        }
+        for (long node = HUB_COUNT; node < NODE_COUNT; node++) {
+            for (int i = 0; i < 3; i++) {
+                long other = (HUB_COUNT + random.nextInt(NODE_COUNT - HUB_COUNT)) * stride;
+                relationshipsBuilder.add(node * stride, other);
+                if (random.nextInt(10) == 0) {
+                    relationshipsBuilder.add(node * stride, other);
+                }
+            }
+        }
+
+        return GraphFactory.create(idMap, relationshipsBuilder.build());
+    }
+
+    private static final class TestIntersect extends GraphIntersect<AdjacencyCursor> {
+
+        private final AdjacencyList adjacencyList;
+
+        TestIntersect(
+            AdjacencyList adjacencyList,
+            long maxDegree,
+            LabelFilterChecker labelFilterChecker,
+            int hubDegree
+        ) {
+            super(maxDegree, labelFilterChecker, hubDegree);
+            this.adjacencyList = adjacencyList;
+        }
+
+        @Override
+        protected AdjacencyCursor cursorForNode(@Nullable AdjacencyCursor reuse, long node, int degree) {
+            return adjacencyList.adjacencyCursor(reuse, node);
+        }
+
+        @Override
+        protected int degree(long node) {
+            return adjacencyList.degree(node);
+        }
+    }
+}
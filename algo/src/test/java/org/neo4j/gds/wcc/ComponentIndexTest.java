@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ComponentIndexTest {
+
+    private static final String GDL =
+        "  (a), (b), (c), (d), (e), (f)" +
+        ", (a)-[:R]->(b)" +
+        ", (c)-[:R]->(d)";
+
+    private GdlFactory gdlFactory;
+    private GraphStore graphStore;
+
+    @BeforeEach
+    void setup() {
+        gdlFactory = GdlFactory.of(GDL);
+        graphStore = gdlFactory.build();
+    }
+
+    @Test
+    void shouldBuildComponentsOnFirstUse() {
+        var index = ComponentIndex.of(graphStore, new Concurrency(1));
+
+        assertThat(index.sameComponent(id("a"), id("b"))).isTrue();
+        assertThat(index.sameComponent(id("c"), id("d"))).isTrue();
+        assertThat(index.sameComponent(id("a"), id("c"))).isFalse();
+        assertThat(index.absorbedTypes()).containsExactly(RelationshipType.of("R"));
+    }
+
+    @Test
+    void shouldAbsorbAddedRelationshipTypes() {
+        var index = ComponentIndex.of(graphStore, new Concurrency(4));
+
+        addRelationships("NEW", "b", "c", "e", "f");
+
+        assertThat(ComponentIndex.of(graphStore, new Concurrency(4))).isSameAs(index);
+        assertThat(index.sameComponent(id("a"), id("d"))).isTrue();
+        assertThat(index.sameComponent(id("e"), id("f"))).isTrue();
+        assertThat(index.sameComponent(id("a"), id("e"))).isFalse();
+        assertThat(index.absorbedTypes()).containsExactlyInAnyOrder(RelationshipType.of("R"), RelationshipType.of("NEW"));
+    }
+
+    @Test
+    void shouldAbsorbRelationshipBatches() {
+        var index = new ComponentIndex(graphStore.nodeCount(), new Concurrency(2));
+        index.update(graphStore, new Concurrency(2));
+
+        index.absorb(
+            new long[]{id("b"), id("e")},
+            new long[]{id("f"), id("d")},
+            new Concurrency(2)
+        );
+
+        assertThat(index.sameComponent(id("a"), id("f"))).isTrue();
+        assertThat(index.sameComponent(id("c"), id("e"))).isTrue();
+        assertThat(index.sameComponent(id("a"), id("c"))).isFalse();
+        assertThat(index.componentOf(id("b"))).isEqualTo(index.componentOf(id("f")));
+    }
+
+    @Test
+    void shouldMatchWccAfterUpdates() {
+        var index = ComponentIndex.of(graphStore, new Concurrency(1));
+
+        addRelationships("NEW", "d", "e");
+        index.update(graphStore, new Concurrency(1));
+
+        var expected = new WccStub(TerminationFlag.RUNNING_TRUE).wcc(
+            graphStore.getGraph(graphStore.relationshipTypes(), Optional.empty()),
+            new WccParameters(0D, new Concurrency(1)),
+            ProgressTracker.NULL_TRACKER
+        );
+
+        for (long i = 0; i < graphStore.nodeCount(); i++) {
+            for (long j = 0; j < graphStore.nodeCount(); j++) {
+                assertThat(index.sameComponent(i, j))
+                    .isEqualTo(expected.setIdOf(i) == expected.setIdOf(j));
+            }
+        }
+    }
+
+    @Test
+    void shouldRebuildAfterRelationshipTypeHasBeenDropped() {
+        var index = ComponentIndex.of(graphStore, new Concurrency(1));
+
+        addRelationships("NEW", "b", "c");
+        index.update(graphStore, new Concurrency(1));
+        assertThat(index.sameComponent(id("a"), id("d"))).isTrue();
+
+        graphStore.deleteRelationships(RelationshipType.of("NEW"));
+        index.update(graphStore, new Concurrency(1));
+
+        assertThat(index.sameComponent(id("a"), id("b"))).isTrue();
+        assertThat(index.sameComponent(id("a"), id("d"))).isFalse();
+        assertThat(index.absorbedTypes()).containsExactly(RelationshipType.of("R"));
+    }
+
+    @Test
+    void shouldRebuildAfterRelationshipTypeHasBeenReplaced() {
+        var index = ComponentIndex.of(graphStore, new Concurrency(1));
+
+        addRelationships("NEW", "b", "c");
+        index.update(graphStore, new Concurrency(1));
+        assertThat(index.sameComponent(id("a"), id("d"))).isTrue();
+
+        graphStore.deleteRelationships(RelationshipType.of("NEW"));
+        addRelationships("NEW", "e", "f");
+        index.update(graphStore, new Concurrency(4));
+
+        assertThat(index.sameComponent(id("a"), id("d"))).isFalse();
+        assertThat(index.sameComponent(id("e"), id("f"))).isTrue();
+        assertThat(index.absorbedTypes()).containsExactlyInAnyOrder(RelationshipType.of("R"), RelationshipType.of("NEW"));
+    }
+
+    @Test
+    void shouldNotLeakLaterUpdatesIntoReturnedComponents() {
+        var components = ComponentIndex.components(
+            graphStore.getUnion(),
+            graphStore,
+            new Concurrency(1),
+            ProgressTracker.NULL_TRACKER
+        );
+
+        addRelationships("NEW", "b", "c");
+        var index = ComponentIndex.of(graphStore, new Concurrency(1));
+
+        assertThat(index.sameComponent(id("a"), id("c"))).isTrue();
+        assertThat(components.setIdOf(id("a"))).isNotEqualTo(components.setIdOf(id("c")));
+        assertThatThrownBy(() -> components.union(id("a"), id("e")))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldAnswerWccFromTheIndex() {
+        var components = ComponentIndex.components(
+            graphStore.getUnion(),
+            graphStore,
+            new Concurrency(1),
+            ProgressTracker.NULL_TRACKER
+        );
+        assertThat(components.setIdOf(id("a"))).isEqualTo(components.setIdOf(id("b")));
+        assertThat(components.setIdOf(id("a"))).isNotEqualTo(components.setIdOf(id("c")));
+
+        addRelationships("NEW", "b", "c");
+
+        var updatedComponents = ComponentIndex.components(
+            graphStore.getUnion(),
+            graphStore,
+            new Concurrency(1),
+            ProgressTracker.NULL_TRACKER
+        );
+        assertThat(updatedComponents.setIdOf(id("a"))).isEqualTo(updatedComponents.setIdOf(id("d")));
+        assertThat(updatedComponents.setIdOf(id("a"))).isNotEqualTo(updatedComponents.setIdOf(id("e")));
+        assertThat(ComponentIndex.of(graphStore, new Concurrency(1)).absorbedTypes())
+            .containsExactlyInAnyOrder(RelationshipType.of("R"), RelationshipType.of("NEW"));
+    }
+
+    @Test
+    void shouldRejectGraphsThatDoNotCoverTheGraphStore() {
+        addRelationships("NEW", "b", "c");
+
+        assertThatThrownBy(() -> ComponentIndex.components(
+            graphStore.getGraph(RelationshipType.of("R")),
+            graphStore,
+            new Concurrency(1),
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("all node labels and relationship types must be selected");
+    }
+
+    @Test
+    void shouldRejectDifferentNodeCount() {
+        var index = new ComponentIndex(graphStore.nodeCount() + 1, new Concurrency(1));
+
+        assertThatThrownBy(() -> index.update(graphStore, new Concurrency(1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("built for 7 nodes");
+    }
+
+    private long id(String variable) {
+        return graphStore.nodes().toMappedNodeId(gdlFactory.nodeId(variable));
+    }
+
+    private void addRelationships(String type, String... pairs) {
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(graphStore.nodes())
+            .relationshipType(RelationshipType.of(type))
+            .orientation(Orientation.NATURAL)
+            .executorService(DefaultPool.INSTANCE)
+            .build();
+
+        for (int i = 0; i < pairs.length; i += 2) {
+            relationshipsBuilder.add(gdlFactory.nodeId(pairs[i]), gdlFactory.nodeId(pairs[i + 1]));
+        }
+
+        graphStore.addRelationshipType(relationshipsBuilder.build());
+    }
+}
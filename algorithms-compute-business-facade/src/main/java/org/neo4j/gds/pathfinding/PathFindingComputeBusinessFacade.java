@@ -27,6 +27,7 @@ import org.neo4j.gds.api.GraphName;
 import org.neo4j.gds.api.User;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.loading.CatalogRequest;
 import org.neo4j.gds.core.loading.GraphStoreCatalogService;
 import org.neo4j.gds.core.loading.validation.NoAlgorithmValidation;
 import org.neo4j.gds.core.loading.validation.SourceNodeGraphStoreValidation;
@@ -63,6 +64,7 @@ import org.neo4j.gds.traversal.TraversalParameters;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 public class PathFindingComputeBusinessFacade {
@@ -98,24 +100,26 @@ public class PathFindingComputeBusinessFacade {
         JobId jobId,
         ResultTransformerBuilder<TimedAlgorithmResult<Stream<AllShortestPathsStreamResult>>, TR> resultTransformerBuilder
     ) {
-        // Fetch the Graph the algorithm will operate on
-        var graphResources = graphStoreCatalogService.fetchGraphResources(
-            graphName,
-            graphParameters,
-            relationshipProperty,
-            new NoAlgorithmValidation(),
-            Optional.empty(),
-            user,
-            databaseId
-        );
-        var graph = graphResources.graph();
-        var graphStore = graphResources.graphStore();
-
-        return computeFacade.allShortestPaths(
-            graph,
-            parameters,
-            jobId
-        ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        return whileLeased(graphName, graphParameters, () -> {
+            // Fetch the Graph the algorithm will operate on
+            var graphResources = graphStoreCatalogService.fetchGraphResources(
+                graphName,
+                graphParameters,
+                relationshipProperty,
+                new NoAlgorithmValidation(),
+                Optional.empty(),
+                user,
+                databaseId
+            );
+            var graph = graphResources.graph();
+            var graphStore = graphResources.graphStore();
+
+            return computeFacade.allShortestPaths(
+                graph,
+                parameters,
+                jobId
+            ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        });
     }
 
     public <TR> CompletableFuture<TR> bellmanFord(
@@ -127,25 +131,27 @@ public class PathFindingComputeBusinessFacade {
         boolean logProgress,
         ResultTransformerBuilder<TimedAlgorithmResult<BellmanFordResult>, TR> resultTransformerBuilder
     ) {
-        // Fetch the Graph the algorithm will operate on
-        var graphResources = graphStoreCatalogService.fetchGraphResources(
-            graphName,
-            graphParameters,
-            relationshipProperty,
-            new NoAlgorithmValidation(),
-            Optional.empty(),
-            user,
-            databaseId
-        );
-        var graph = graphResources.graph();
-        var graphStore = graphResources.graphStore();
-
-        return computeFacade.bellmanFord(
-            graph,
-            parameters,
-            jobId,
-            logProgress
-        ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        return whileLeased(graphName, graphParameters, () -> {
+            // Fetch the Graph the algorithm will operate on
+            var graphResources = graphStoreCatalogService.fetchGraphResources(
+                graphName,
+                graphParameters,
+                relationshipProperty,
+                new NoAlgorithmValidation(),
+                Optional.empty(),
+                user,
+                databaseId
+            );
+            var graph = graphResources.graph();
+            var graphStore = graphResources.graphStore();
+
+            return computeFacade.bellmanFord(
+                graph,
+                parameters,
+                jobId,
+                logProgress
+            ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        });
     }
 
     public <TR> CompletableFuture<TR> breadthFirstSearch(
@@ -156,28 +162,30 @@ public class PathFindingComputeBusinessFacade {
         boolean logProgress,
         ResultTransformerBuilder<TimedAlgorithmResult<HugeLongArray>, TR> resultTransformerBuilder
     ) {
-        // Fetch the Graph the algorithm will operate on
-        var graphResources = graphStoreCatalogService.fetchGraphResources(
-            graphName,
-            graphParameters,
-            Optional.empty(),
-            new SourceNodeTargetNodesGraphStoreValidation(
-                parameters.sourceNode(),
-                parameters.targetNodes()
-            ),
-            Optional.empty(),
-            user,
-            databaseId
-        );
-        var graph = graphResources.graph();
-        var graphStore = graphResources.graphStore();
-
-        return computeFacade.breadthFirstSearch(
-            graph,
-            parameters,
-            jobId,
-            logProgress
-        ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        return whileLeased(graphName, graphParameters, () -> {
+            // Fetch the Graph the algorithm will operate on
+            var graphResources = graphStoreCatalogService.fetchGraphResources(
+                graphName,
+                graphParameters,
+                Optional.empty(),
+                new SourceNodeTargetNodesGraphStoreValidation(
+                    parameters.sourceNode(),
+                    parameters.targetNodes()
+                ),
+                Optional.empty(),
+                user,
+                databaseId
+            );
+            var graph = graphResources.graph();
+            var graphStore = graphResources.graphStore();
+
+            return computeFacade.breadthFirstSearch(
+                graph,
+                parameters,
+                jobId,
+                logProgress
+            ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        });
     }
 
     public <TR> CompletableFuture<TR> deltaStepping(
@@ -189,25 +197,27 @@ public class PathFindingComputeBusinessFacade {
         boolean logProgress,
         ResultTransformerBuilder<TimedAlgorithmResult<PathFindingResult>, TR> resultTransformerBuilder
     ) {
-        // Fetch the Graph the algorithm will operate on
-        var graphResources = graphStoreCatalogService.fetchGraphResources(
-            graphName,
-            graphParameters,
-            relationshipProperty,
-            new SourceNodeGraphStoreValidation(parameters.sourceNode()),
-            Optional.empty(),
-            user,
-            databaseId
-        );
-        var graph = graphResources.graph();
-        var graphStore = graphResources.graphStore();
-
-        return computeFacade.deltaStepping(
-            graph,
-            parameters,
-            jobId,
-            logProgress
-        ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        return whileLeased(graphName, graphParameters, () -> {
+            // Fetch the Graph the algorithm will operate on
+            var graphResources = graphStoreCatalogService.fetchGraphResources(
+                graphName,
+                graphParameters,
+                relationshipProperty,
+                new SourceNodeGraphStoreValidation(parameters.sourceNode()),
+                Optional.empty(),
+                user,
+                databaseId
+            );
+            var graph = graphResources.graph();
+            var graphStore = graphResources.graphStore();
+
+            return computeFacade.deltaStepping(
+                graph,
+                parameters,
+                jobId,
+                logProgress
+            ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        });
     }
 
     public <TR> CompletableFuture<TR> depthFirstSearch(
@@ -218,28 +228,30 @@ public class PathFindingComputeBusinessFacade {
         boolean logProgress,
         ResultTransformerBuilder<TimedAlgorithmResult<HugeLongArray>, TR> resultTransformerBuilder
     ) {
-        // Fetch the Graph the algorithm will operate on
-        var graphResources = graphStoreCatalogService.fetchGraphResources(
-            graphName,
-            graphParameters,
-            Optional.empty(),
-            new SourceNodeTargetNodesGraphStoreValidation(
-                parameters.sourceNode(),
-                parameters.targetNodes()
-            ),
-            Optional.empty(),
-            user,
-            databaseId
-        );
-        var graph = graphResources.graph();
-        var graphStore = graphResources.graphStore();
-
-        return computeFacade.depthFirstSearch(
-            graph,
-            parameters,
-            jobId,
-            logProgress
-        ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        return whileLeased(graphName, graphParameters, () -> {
+            // Fetch the Graph the algorithm will operate on
+            var graphResources = graphStoreCatalogService.fetchGraphResources(
+                graphName,
+                graphParameters,
+                Optional.empty(),
+                new SourceNodeTargetNodesGraphStoreValidation(
+                    parameters.sourceNode(),
+                    parameters.targetNodes()
+                ),
+                Optional.empty(),
+                user,
+                databaseId
+            );
+            var graph = graphResources.graph();
+            var graphStore = graphResources.graphStore();
+
+            return computeFacade.depthFirstSearch(
+                graph,
+                parameters,
+                jobId,
+                logProgress
+            ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        });
     }
 
     public <TR> CompletableFuture<TR> kSpanningTree(
@@ -251,25 +263,27 @@ public class PathFindingComputeBusinessFacade {
         boolean logProgress,
         ResultTransformerBuilder<TimedAlgorithmResult<SpanningTree>, TR> resultTransformerBuilder
     ) {
-        // Fetch the Graph the algorithm will operate on
-        var graphResources = graphStoreCatalogService.fetchGraphResources(
-            graphName,
-            graphParameters,
-            relationshipProperty,
-            new KSpanningTreeGraphStoreValidation(parameters.sourceNode()),
-            Optional.empty(),
-            user,
-            databaseId
-        );
-        var graph = graphResources.graph();
-        var graphStore = graphResources.graphStore();
-
-        return computeFacade.kSpanningTree(
-            graph,
-            parameters,
-            jobId,
-            logProgress
-        ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        return whileLeased(graphName, graphParameters, () -> {
+            // Fetch the Graph the algorithm will operate on
+            var graphResources = graphStoreCatalogService.fetchGraphResources(
+                graphName,
+                graphParameters,
+                relationshipProperty,
+                new KSpanningTreeGraphStoreValidation(parameters.sourceNode()),
+                Optional.empty(),
+                user,
+                databaseId
+            );
+            var graph = graphResources.graph();
+            var graphStore = graphResources.graphStore();
+
+            return computeFacade.kSpanningTree(
+                graph,
+                parameters,
+                jobId,
+                logProgress
+            ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        });
     }
 
     public <TR> CompletableFuture<TR> longestPath(
@@ -280,25 +294,27 @@ public class PathFindingComputeBusinessFacade {
         boolean logProgress,
         ResultTransformerBuilder<TimedAlgorithmResult<PathFindingResult>, TR> resultTransformerBuilder
     ) {
-        // Fetch the Graph the algorithm will operate on
-        var graphResources = graphStoreCatalogService.fetchGraphResources(
-            graphName,
-            graphParameters,
-            Optional.empty(),
-            new NoAlgorithmValidation(),
-            Optional.empty(),
-            user,
-            databaseId
-        );
-        var graph = graphResources.graph();
-        var graphStore = graphResources.graphStore();
-
-        return computeFacade.longestPath(
-            graph,
-            parameters,
-            jobId,
-            logProgress
-        ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        return whileLeased(graphName, graphParameters, () -> {
+            // Fetch the Graph the algorithm will operate on
+            var graphResources = graphStoreCatalogService.fetchGraphResources(
+                graphName,
+                graphParameters,
+                Optional.empty(),
+                new NoAlgorithmValidation(),
+                Optional.empty(),
+                user,
+                databaseId
+            );
+            var graph = graphResources.graph();
+            var graphStore = graphResources.graphStore();
+
+            return computeFacade.longestPath(
+                graph,
+                parameters,
+                jobId,
+                logProgress
+            ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        });
     }
 
     public <TR> CompletableFuture<TR> randomWalk(
@@ -310,25 +326,27 @@ public class PathFindingComputeBusinessFacade {
         boolean logProgress,
         ResultTransformerBuilder<TimedAlgorithmResult<Stream<long[]>>, TR> resultTransformerBuilder
     ) {
-        // Fetch the Graph the algorithm will operate on
-        var graphResources = graphStoreCatalogService.fetchGraphResources(
-            graphName,
-            graphParameters,
-            relationshipProperty,
-            new SourceNodesGraphStoreValidation(parameters.sourceNodes()),
-            Optional.of(new RandomWalkGraphValidation(parameters.concurrency(), executorService)),
-            user,
-            databaseId
-        );
-        var graph = graphResources.graph();
-        var graphStore = graphResources.graphStore();
-
-        return computeFacade.randomWalk(
-            graph,
-            parameters,
-            jobId,
-            logProgress
-        ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        return whileLeased(graphName, graphParameters, () -> {
+            // Fetch the Graph the algorithm will operate on
+            var graphResources = graphStoreCatalogService.fetchGraphResources(
+                graphName,
+                graphParameters,
+                relationshipProperty,
+                new SourceNodesGraphStoreValidation(parameters.sourceNodes()),
+                Optional.of(new RandomWalkGraphValidation(parameters.concurrency(), executorService)),
+                user,
+                databaseId
+            );
+            var graph = graphResources.graph();
+            var graphStore = graphResources.graphStore();
+
+            return computeFacade.randomWalk(
+                graph,
+                parameters,
+                jobId,
+                logProgress
+            ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        });
     }
 
     public <TR> CompletableFuture<TR> randomWalkCountingNodeVisits(
@@ -340,25 +358,27 @@ public class PathFindingComputeBusinessFacade {
         boolean logProgress,
         ResultTransformerBuilder<TimedAlgorithmResult<HugeAtomicLongArray>, TR> resultTransformerBuilder
     ) {
-        // Fetch the Graph the algorithm will operate on
-        var graphResources = graphStoreCatalogService.fetchGraphResources(
-            graphName,
-            graphParameters,
-            relationshipProperty,
-            new SourceNodesGraphStoreValidation(parameters.sourceNodes()),
-            Optional.of(new RandomWalkGraphValidation(parameters.concurrency(), executorService)),
-            user,
-            databaseId
-        );
-        var graph = graphResources.graph();
-        var graphStore = graphResources.graphStore();
-
-        return computeFacade.randomWalkCountingNodeVisits(
-            graph,
-            parameters,
-            jobId,
-            logProgress
-        ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        return whileLeased(graphName, graphParameters, () -> {
+            // Fetch the Graph the algorithm will operate on
+            var graphResources = graphStoreCatalogService.fetchGraphResources(
+                graphName,
+                graphParameters,
+                relationshipProperty,
+                new SourceNodesGraphStoreValidation(parameters.sourceNodes()),
+                Optional.of(new RandomWalkGraphValidation(parameters.concurrency(), executorService)),
+                user,
+                databaseId
+            );
+            var graph = graphResources.graph();
+            var graphStore = graphResources.graphStore();
+
+            return computeFacade.randomWalkCountingNodeVisits(
+                graph,
+                parameters,
+                jobId,
+                logProgress
+            ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        });
     }
 
     public <TR> CompletableFuture<TR> pcst(
@@ -370,27 +390,29 @@ public class PathFindingComputeBusinessFacade {
         boolean logProgress,
         ResultTransformerBuilder<TimedAlgorithmResult<PrizeSteinerTreeResult>, TR> resultTransformerBuilder
     ) {
-        // Fetch the Graph the algorithm will operate on
-        var graphResources = graphStoreCatalogService.fetchGraphResources(
-            graphName,
-            graphParameters,
-            Optional.empty(),
-            new PCSTGraphStoreValidation(parameters.prizeProperty()),
-            Optional.empty(),
-            user,
-            databaseId
-        );
-
-        var graph = graphResources.graph();
-        var graphStore = graphResources.graphStore();
-
-
-        return computeFacade.pcst(
-            graph,
-            parameters,
-            jobId,
-            logProgress
-        ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        return whileLeased(graphName, graphParameters, () -> {
+            // Fetch the Graph the algorithm will operate on
+            var graphResources = graphStoreCatalogService.fetchGraphResources(
+                graphName,
+                graphParameters,
+                Optional.empty(),
+                new PCSTGraphStoreValidation(parameters.prizeProperty()),
+                Optional.empty(),
+                user,
+                databaseId
+            );
+
+            var graph = graphResources.graph();
+            var graphStore = graphResources.graphStore();
+
+
+            return computeFacade.pcst(
+                graph,
+                parameters,
+                jobId,
+                logProgress
+            ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        });
     }
 
     public <TR> CompletableFuture<TR> singlePairShortestPathAStar(
@@ -402,25 +424,27 @@ public class PathFindingComputeBusinessFacade {
         boolean logProgress,
         ResultTransformerBuilder<TimedAlgorithmResult<PathFindingResult>, TR> resultTransformerBuilder
     ) {
-        // Fetch the Graph the algorithm will operate on
-        var graphResources = graphStoreCatalogService.fetchGraphResources(
-            graphName,
-            graphParameters,
-            relationshipProperty,
-            new SourceNodeTargetNodeGraphStoreValidation(parameters.sourceNode(), parameters.targetNode()),
-            Optional.of(new RandomWalkGraphValidation(parameters.concurrency(), executorService)),
-            user,
-            databaseId
-        );
-        var graph = graphResources.graph();
-        var graphStore = graphResources.graphStore();
-
-        return computeFacade.singlePairShortestPathAStar(
-            graph,
-            parameters,
-            jobId,
-            logProgress
-        ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        return whileLeased(graphName, graphParameters, () -> {
+            // Fetch the Graph the algorithm will operate on
+            var graphResources = graphStoreCatalogService.fetchGraphResources(
+                graphName,
+                graphParameters,
+                relationshipProperty,
+                new SourceNodeTargetNodeGraphStoreValidation(parameters.sourceNode(), parameters.targetNode()),
+                Optional.of(new RandomWalkGraphValidation(parameters.concurrency(), executorService)),
+                user,
+                databaseId
+            );
+            var graph = graphResources.graph();
+            var graphStore = graphResources.graphStore();
+
+            return computeFacade.singlePairShortestPathAStar(
+                graph,
+                parameters,
+                jobId,
+                logProgress
+            ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        });
     }
 
     public <TR> CompletableFuture<TR> singlePairShortestPathDijkstra(
@@ -432,25 +456,27 @@ public class PathFindingComputeBusinessFacade {
         boolean logProgress,
         ResultTransformerBuilder<TimedAlgorithmResult<PathFindingResult>, TR> resultTransformerBuilder
     ) {
-        // Fetch the Graph the algorithm will operate on
-        var graphResources = graphStoreCatalogService.fetchGraphResources(
-            graphName,
-            graphParameters,
-            relationshipProperty,
-            new SourceNodeTargetNodesGraphStoreValidation(parameters.sourceNode(), parameters.targetsList()),
-            Optional.of(new RandomWalkGraphValidation(parameters.concurrency(), executorService)),
-            user,
-            databaseId
-        );
-        var graph = graphResources.graph();
-        var graphStore = graphResources.graphStore();
-
-        return computeFacade.singlePairShortestPathDijkstra(
-            graph,
-            parameters,
-            jobId,
-            logProgress
-        ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        return whileLeased(graphName, graphParameters, () -> {
+            // Fetch the Graph the algorithm will operate on
+            var graphResources = graphStoreCatalogService.fetchGraphResources(
+                graphName,
+                graphParameters,
+                relationshipProperty,
+                new SourceNodeTargetNodesGraphStoreValidation(parameters.sourceNode(), parameters.targetsList()),
+                Optional.of(new RandomWalkGraphValidation(parameters.concurrency(), executorService)),
+                user,
+                databaseId
+            );
+            var graph = graphResources.graph();
+            var graphStore = graphResources.graphStore();
+
+            return computeFacade.singlePairShortestPathDijkstra(
+                graph,
+                parameters,
+                jobId,
+                logProgress
+            ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        });
     }
 
     public <TR> CompletableFuture<TR> singlePairShortestPathYens(
@@ -462,25 +488,27 @@ public class PathFindingComputeBusinessFacade {
         boolean logProgress,
         ResultTransformerBuilder<TimedAlgorithmResult<PathFindingResult>, TR> resultTransformerBuilder
     ) {
-        // Fetch the Graph the algorithm will operate on
-        var graphResources = graphStoreCatalogService.fetchGraphResources(
-            graphName,
-            graphParameters,
-            relationshipProperty,
-            new SourceNodeTargetNodeGraphStoreValidation(parameters.sourceNode(), parameters.targetNode()),
-            Optional.empty(),
-            user,
-            databaseId
-        );
-        var graph = graphResources.graph();
-        var graphStore = graphResources.graphStore();
-
-        return computeFacade.singlePairShortestPathYens(
-            graph,
-            parameters,
-            jobId,
-            logProgress
-        ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        return whileLeased(graphName, graphParameters, () -> {
+            // Fetch the Graph the algorithm will operate on
+            var graphResources = graphStoreCatalogService.fetchGraphResources(
+                graphName,
+                graphParameters,
+                relationshipProperty,
+                new SourceNodeTargetNodeGraphStoreValidation(parameters.sourceNode(), parameters.targetNode()),
+                Optional.empty(),
+                user,
+                databaseId
+            );
+            var graph = graphResources.graph();
+            var graphStore = graphResources.graphStore();
+
+            return computeFacade.singlePairShortestPathYens(
+                graph,
+                parameters,
+                jobId,
+                logProgress
+            ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        });
     }
 
     public <TR> CompletableFuture<TR> singleSourceShortestPathDijkstra(
@@ -492,25 +520,27 @@ public class PathFindingComputeBusinessFacade {
         boolean logProgress,
         ResultTransformerBuilder<TimedAlgorithmResult<PathFindingResult>, TR> resultTransformerBuilder
     ) {
-        // Fetch the Graph the algorithm will operate on
-        var graphResources = graphStoreCatalogService.fetchGraphResources(
-            graphName,
-            graphParameters,
-            relationshipProperty,
-            new SourceNodeGraphStoreValidation(parameters.sourceNode()),
-            Optional.empty(),
-            user,
-            databaseId
-        );
-        var graph = graphResources.graph();
-        var graphStore = graphResources.graphStore();
-
-        return computeFacade.singleSourceShortestPathDijkstra(
-            graph,
-            parameters,
-            jobId,
-            logProgress
-        ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        return whileLeased(graphName, graphParameters, () -> {
+            // Fetch the Graph the algorithm will operate on
+            var graphResources = graphStoreCatalogService.fetchGraphResources(
+                graphName,
+                graphParameters,
+                relationshipProperty,
+                new SourceNodeGraphStoreValidation(parameters.sourceNode()),
+                Optional.empty(),
+                user,
+                databaseId
+            );
+            var graph = graphResources.graph();
+            var graphStore = graphResources.graphStore();
+
+            return computeFacade.singleSourceShortestPathDijkstra(
+                graph,
+                parameters,
+                jobId,
+                logProgress
+            ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        });
     }
 
     public <TR> CompletableFuture<TR> spanningTree(
@@ -522,25 +552,27 @@ public class PathFindingComputeBusinessFacade {
         boolean logProgress,
         ResultTransformerBuilder<TimedAlgorithmResult<SpanningTree>, TR> resultTransformerBuilder
     ) {
-        // Fetch the Graph the algorithm will operate on
-        var graphResources = graphStoreCatalogService.fetchGraphResources(
-            graphName,
-            graphParameters,
-            relationshipProperty,
-            new SourceNodeGraphStoreValidation(parameters.sourceNode()),
-            Optional.empty(),
-            user,
-            databaseId
-        );
-        var graph = graphResources.graph();
-        var graphStore = graphResources.graphStore();
-
-        return computeFacade.spanningTree(
-            graph,
-            parameters,
-            jobId,
-            logProgress
-        ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        return whileLeased(graphName, graphParameters, () -> {
+            // Fetch the Graph the algorithm will operate on
+            var graphResources = graphStoreCatalogService.fetchGraphResources(
+                graphName,
+                graphParameters,
+                relationshipProperty,
+                new SourceNodeGraphStoreValidation(parameters.sourceNode()),
+                Optional.empty(),
+                user,
+                databaseId
+            );
+            var graph = graphResources.graph();
+            var graphStore = graphResources.graphStore();
+
+            return computeFacade.spanningTree(
+                graph,
+                parameters,
+                jobId,
+                logProgress
+            ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        });
     }
 
     public <TR> CompletableFuture<TR> steinerTree(
@@ -552,25 +584,27 @@ public class PathFindingComputeBusinessFacade {
         boolean logProgress,
         ResultTransformerBuilder<TimedAlgorithmResult<SteinerTreeResult>, TR> resultTransformerBuilder
     ) {
-        // Fetch the Graph the algorithm will operate on
-        var graphResources = graphStoreCatalogService.fetchGraphResources(
-            graphName,
-            graphParameters,
-            relationshipProperty,
-            new SourceNodeTargetNodesGraphStoreValidation(parameters.sourceNode(), parameters.targetNodes()),
-            Optional.empty(),
-            user,
-            databaseId
-        );
-        var graph = graphResources.graph();
-        var graphStore = graphResources.graphStore();
-
-        return computeFacade.steinerTree(
-            graph,
-            parameters,
-            jobId,
-            logProgress
-        ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        return whileLeased(graphName, graphParameters, () -> {
+            // Fetch the Graph the algorithm will operate on
+            var graphResources = graphStoreCatalogService.fetchGraphResources(
+                graphName,
+                graphParameters,
+                relationshipProperty,
+                new SourceNodeTargetNodesGraphStoreValidation(parameters.sourceNode(), parameters.targetNodes()),
+                Optional.empty(),
+                user,
+                databaseId
+            );
+            var graph = graphResources.graph();
+            var graphStore = graphResources.graphStore();
+
+            return computeFacade.steinerTree(
+                graph,
+                parameters,
+                jobId,
+                logProgress
+            ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        });
     }
 
     public <TR> CompletableFuture<TR> topologicalSort(
@@ -581,24 +615,46 @@ public class PathFindingComputeBusinessFacade {
         boolean logProgress,
         ResultTransformerBuilder<TimedAlgorithmResult<TopologicalSortResult>, TR> resultTransformerBuilder
     ) {
-        // Fetch the Graph the algorithm will operate on
-        var graphResources = graphStoreCatalogService.fetchGraphResources(
-            graphName,
-            graphParameters,
-            Optional.empty(),
-            new NoAlgorithmValidation(),
-            Optional.empty(),
-            user,
-            databaseId
+        return whileLeased(graphName, graphParameters, () -> {
+            // Fetch the Graph the algorithm will operate on
+            var graphResources = graphStoreCatalogService.fetchGraphResources(
+                graphName,
+                graphParameters,
+                Optional.empty(),
+                new NoAlgorithmValidation(),
+                Optional.empty(),
+                user,
+                databaseId
+            );
+            var graph = graphResources.graph();
+            var graphStore = graphResources.graphStore();
+
+            return computeFacade.topologicalSort(
+                graph,
+                parameters,
+                jobId,
+                logProgress
+            ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        });
+    }
+
+    /**
+     * Keeps the graph in the catalog until the result is transformed, which includes any mutation of the graph.
+     */
+    private <TR> CompletableFuture<TR> whileLeased(
+        GraphName graphName,
+        GraphParameters graphParameters,
+        Supplier<CompletableFuture<TR>> computation
+    ) {
+        var lease = graphStoreCatalogService.lease(
+            CatalogRequest.of(user, databaseId, graphParameters.usernameOverride()),
+            graphName
         );
-        var graph = graphResources.graph();
-        var graphStore = graphResources.graphStore();
-
-        return computeFacade.topologicalSort(
-            graph,
-            parameters,
-            jobId,
-            logProgress
-        ).thenApply(resultTransformerBuilder.build(graph, graphStore));
+        try {
+            return computation.get().whenComplete((result, error) -> lease.close());
+        } catch (RuntimeException e) {
+            lease.close();
+            throw e;
+        }
     }
 }
@@ -67,8 +67,10 @@ import org.neo4j.gds.pricesteiner.PCSTFast;
 import org.neo4j.gds.pricesteiner.PCSTProgressTrackerTaskCreator;
 import org.neo4j.gds.pricesteiner.PrizeSteinerTreeResult;
 import org.neo4j.gds.result.TimedAlgorithmResult;
+import org.neo4j.gds.spanningtree.Boruvka;
 import org.neo4j.gds.spanningtree.Prim;
 import org.neo4j.gds.spanningtree.SpanningTree;
+import org.neo4j.gds.spanningtree.SpanningTreeMethod;
 import org.neo4j.gds.spanningtree.SpanningTreeParameters;
 import org.neo4j.gds.steiner.ShortestPathsSteinerAlgorithm;
 import org.neo4j.gds.steiner.SteinerTreeParameters;
@@ -316,6 +318,9 @@ public class PathFindingComputeFacade {
             parameters.objective(),
             graph.toMappedNodeId(parameters.sourceNode()),
             parameters.k(),
+            parameters.method(),
+            parameters.concurrency(),
+            executorService,
             progressTracker,
             terminationFlag
         );
@@ -374,7 +379,7 @@ public class PathFindingComputeFacade {
 
         // Create ProgressTracker
         var progressTracker = progressTrackerFactory.create(
-            RandomWalkProgressTask.create(graph),
+            RandomWalkProgressTask.create(graph, parameters.walkParameters().useAliasTables()),
             jobId,
             parameters.concurrency(),
             logProgress
@@ -413,7 +418,10 @@ public class PathFindingComputeFacade {
 
         // Create ProgressTracker
         var progressTracker = progressTrackerFactory.create(
-            RandomWalkCountingNodeVisitsProgressTaskFactory.create(graph),
+            RandomWalkCountingNodeVisitsProgressTaskFactory.create(
+                graph,
+                parameters.walkParameters().useAliasTables()
+            ),
             jobId,
             parameters.concurrency(),
             logProgress
@@ -525,10 +533,8 @@ public class PathFindingComputeFacade {
         // Create the algorithm
         var dijkstra = DijkstraFactory.sourceTarget(
             graph,
-            parameters.sourceNode(),
-            parameters.targetsList(),
+            parameters,
             false,
-            Optional.empty(),
             progressTracker,
             terminationFlag
         );
@@ -633,17 +639,28 @@ public class PathFindingComputeFacade {
         );
 
         // Create the algorithm
-        var prim = new Prim(
-            graph,
-            parameters.objective(),
-            graph.toMappedNodeId(parameters.sourceNode()),
-            progressTracker,
-            terminationFlag
-        );
+        var startNodeId = graph.toMappedNodeId(parameters.sourceNode());
+        var spanningTree = parameters.method() == SpanningTreeMethod.BORUVKA
+            ? new Boruvka(
+                graph,
+                parameters.objective(),
+                startNodeId,
+                parameters.concurrency(),
+                executorService,
+                progressTracker,
+                terminationFlag
+            )
+            : new Prim(
+                graph,
+                parameters.objective(),
+                startNodeId,
+                progressTracker,
+                terminationFlag
+            );
 
         // Submit the algorithm for async computation
         return algorithmCaller.run(
-            prim::compute,
+            spanningTree::compute,
             jobId
         );
     }
@@ -301,6 +301,8 @@ class PathFindingComputeFacadeTest {
             new DijkstraSourceTargetParameters(
                 idFunction.of("a"),
                 List.of(idFunction.of("c")),
+                false,
+                Optional.empty(),
                 new Concurrency(2)
             ),
             jobIdMock,
@@ -57,6 +57,7 @@ import org.neo4j.gds.pagerank.ArticleRankConfig;
 import org.neo4j.gds.pagerank.DegreeFunctions;
 import org.neo4j.gds.pagerank.EigenvectorComputation;
 import org.neo4j.gds.pagerank.EigenvectorConfig;
+import org.neo4j.gds.pagerank.IncrementalPageRank;
 import org.neo4j.gds.pagerank.InitialProbabilityFactory;
 import org.neo4j.gds.pagerank.InitialProbabilityProvider;
 import org.neo4j.gds.pagerank.PageRankAlgorithm;
@@ -65,6 +66,8 @@ import org.neo4j.gds.pagerank.PageRankConfig;
 import org.neo4j.gds.pagerank.PageRankResult;
 import org.neo4j.gds.termination.TerminationFlag;
 
+import java.util.function.LongToDoubleFunction;
+
 import static org.neo4j.gds.pagerank.PageRankVariant.ARTICLE_RANK;
 import static org.neo4j.gds.pagerank.PageRankVariant.EIGENVECTOR;
 import static org.neo4j.gds.pagerank.PageRankVariant.PAGE_RANK;
@@ -226,6 +229,10 @@ public class CentralityAlgorithms {
 
 
     public PageRankResult pageRank(Graph graph, PageRankConfig configuration, ProgressTracker progressTracker) {
+        if (configuration.isIncremental()) {
+            return incrementalPageRank(graph, configuration, progressTracker);
+        }
+
         var pageRankComputation = pageRankComputation(graph, configuration);
 
         var pageRank = new PageRankAlgorithm<>(
@@ -241,6 +248,25 @@ public class CentralityAlgorithms {
         return pageRank.compute();
     }
 
+    private PageRankResult incrementalPageRank(
+        Graph graph,
+        PageRankConfig configuration,
+        ProgressTracker progressTracker
+    ) {
+        var incrementalPageRank = new IncrementalPageRank(
+            graph,
+            configuration,
+            graph.nodeProperties(configuration.seedProperty()),
+            pageRankProbabilityProvider(graph, configuration),
+            pageRankDegreeFunction(graph, configuration),
+            DefaultPool.INSTANCE,
+            progressTracker,
+            terminationFlag
+        );
+
+        return incrementalPageRank.compute();
+    }
+
     private ArticleRankComputation<ArticleRankConfig> articleRankComputation(
         Graph graph,
         ArticleRankConfig configuration
@@ -288,18 +314,27 @@ public class CentralityAlgorithms {
     }
 
     private PageRankComputation<PageRankConfig> pageRankComputation(Graph graph, PageRankConfig configuration) {
-        var degreeFunction = DegreeFunctions.pageRankDegreeFunction(
+        return new PageRankComputation<>(
+            configuration,
+            pageRankProbabilityProvider(graph, configuration),
+            pageRankDegreeFunction(graph, configuration)
+        );
+    }
+
+    private static LongToDoubleFunction pageRankDegreeFunction(Graph graph, PageRankConfig configuration) {
+        return DegreeFunctions.pageRankDegreeFunction(
             graph,
             configuration.hasRelationshipWeightProperty(), configuration.concurrency()
         );
+    }
 
+    private static InitialProbabilityProvider pageRankProbabilityProvider(Graph graph, PageRankConfig configuration) {
         var alpha = 1 - configuration.dampingFactor();
-        InitialProbabilityProvider probabilityProvider = InitialProbabilityFactory.create(
+        return InitialProbabilityFactory.create(
             graph::toMappedNodeId,
             alpha,
             configuration.sourceNodes()
         );
-        return new PageRankComputation<>(configuration, probabilityProvider, degreeFunction);
     }
 
 }
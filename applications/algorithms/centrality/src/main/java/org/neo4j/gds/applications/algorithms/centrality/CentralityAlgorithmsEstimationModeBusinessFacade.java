@@ -34,10 +34,12 @@ import org.neo4j.gds.degree.DegreeCentralityAlgorithmEstimateDefinition;
 import org.neo4j.gds.degree.DegreeCentralityConfig;
 import org.neo4j.gds.hits.HitsConfig;
 import org.neo4j.gds.hits.HitsMemoryEstimateDefinition;
+import org.neo4j.gds.indirectExposure.IndirectExposureConfig;
 import org.neo4j.gds.indirectExposure.IndirectExposureMemoryEstimationDefinition;
 import org.neo4j.gds.influenceMaximization.CELFMemoryEstimateDefinition;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationBaseConfig;
 import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.pagerank.PageRankConfig;
 import org.neo4j.gds.pagerank.PageRankMemoryEstimateDefinition;
 import org.neo4j.gds.pagerank.RankConfig;
 import org.neo4j.gds.harmonic.HarmonicCentralityAlgorithmEstimateDefinition;
@@ -164,12 +166,14 @@ public class CentralityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
-    public MemoryEstimation pageRank() {
-        return new PageRankMemoryEstimateDefinition().memoryEstimation();
+    public MemoryEstimation pageRank(RankConfig configuration) {
+        var isIncremental = configuration instanceof PageRankConfig pageRankConfig && pageRankConfig.isIncremental();
+
+        return new PageRankMemoryEstimateDefinition(configuration, isIncremental).memoryEstimation();
     }
 
     public MemoryEstimateResult pageRank(RankConfig configuration, Object graphNameOrConfiguration) {
-        var memoryEstimation = pageRank();
+        var memoryEstimation = pageRank(configuration);
 
         return algorithmEstimationTemplate.estimate(
             configuration,
@@ -178,15 +182,15 @@ public class CentralityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
-    MemoryEstimation indirectExposure() {
-        return new IndirectExposureMemoryEstimationDefinition().memoryEstimation();
+    MemoryEstimation indirectExposure(IndirectExposureConfig configuration) {
+        return new IndirectExposureMemoryEstimationDefinition(configuration).memoryEstimation();
     }
 
     public MemoryEstimateResult hits(
         HitsConfig configuration,
         Object graphNameOrConfiguration
     ) {
-        var memoryEstimation = hits();
+        var memoryEstimation = hits(configuration);
 
         return algorithmEstimationTemplate.estimate(
             configuration,
@@ -195,8 +199,8 @@ public class CentralityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
-    public MemoryEstimation hits() {
-        return  new HitsMemoryEstimateDefinition().memoryEstimation();
+    public MemoryEstimation hits(HitsConfig configuration) {
+        return  new HitsMemoryEstimateDefinition(configuration).memoryEstimation();
     }
 
 }
@@ -93,7 +93,7 @@ public class CentralityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             ArticleRank,
-            estimation::pageRank,
+            () -> estimation.pageRank(configuration),
             (graph, __) -> algorithms.articleRank(graph, configuration),
             mutateStep,
             resultBuilder
@@ -202,7 +202,7 @@ public class CentralityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             EigenVector,
-            estimation::pageRank,
+            () -> estimation.pageRank(configuration),
             (graph, __) -> algorithms.eigenVector(graph, configuration),
             mutateStep,
             resultBuilder
@@ -238,7 +238,7 @@ public class CentralityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             PageRank,
-            estimation::pageRank,
+            () -> estimation.pageRank(configuration),
             (graph, __) -> algorithms.pageRank(graph, configuration),
             mutateStep,
             resultBuilder
@@ -256,7 +256,7 @@ public class CentralityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             IndirectExposure,
-            estimation::indirectExposure,
+            () -> estimation.indirectExposure(configuration),
             (graph, __) -> algorithms.indirectExposure(graph, configuration),
             mutateStep,
             resultBuilder
@@ -274,7 +274,7 @@ public class CentralityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             HITS,
-            estimation::hits,
+            () -> estimation.hits(configuration),
             (graph, __) -> algorithms.hits(graph, configuration),
             mutateStep,
             resultBuilder,
@@ -80,7 +80,7 @@ public class CentralityAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             ArticleRank,
-            estimationFacade::pageRank,
+            () -> estimationFacade.pageRank(configuration),
             (graph, __) -> centralityAlgorithms.articleRank(graph, configuration),
             resultBuilder
         );
@@ -170,7 +170,7 @@ public class CentralityAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             EigenVector,
-            estimationFacade::pageRank,
+            () -> estimationFacade.pageRank(configuration),
             (graph, __) -> centralityAlgorithms.eigenVector(graph, configuration),
             resultBuilder
         );
@@ -200,7 +200,7 @@ public class CentralityAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             PageRank,
-            estimationFacade::pageRank,
+            () -> estimationFacade.pageRank(configuration),
             (graph, __) -> centralityAlgorithms.pageRank(graph, configuration),
             resultBuilder
         );
@@ -217,7 +217,7 @@ public class CentralityAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             HITS,
-            estimationFacade::hits,
+            () -> estimationFacade.hits(configuration),
             (graph, __) -> centralityAlgorithms.hits(graph, configuration),
             resultBuilder,
             Optional.empty(),
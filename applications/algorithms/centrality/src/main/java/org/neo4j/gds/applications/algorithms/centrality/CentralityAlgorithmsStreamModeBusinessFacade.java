@@ -84,7 +84,7 @@ public class CentralityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             ArticleRank,
-            estimationFacade::pageRank,
+            () -> estimationFacade.pageRank(configuration),
             (graph, __) -> centralityAlgorithms.articleRank(graph, configuration),
             streamResultBuilder
         );
@@ -192,7 +192,7 @@ public class CentralityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             EigenVector,
-            estimationFacade::pageRank,
+            () -> estimationFacade.pageRank(configuration),
             (graph, __) -> centralityAlgorithms.eigenVector(graph, configuration),
             streamResultBuilder
         );
@@ -222,7 +222,7 @@ public class CentralityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             PageRank,
-            estimationFacade::pageRank,
+            () -> estimationFacade.pageRank(configuration),
             (graph, __) -> centralityAlgorithms.pageRank(graph, configuration),
             streamResultBuilder
         );
@@ -240,7 +240,7 @@ public class CentralityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             HITS,
-            estimationFacade::hits,
+            () -> estimationFacade.hits(configuration),
             (graph, __) -> centralityAlgorithms.hits(graph, configuration),
             streamResultBuilder,
             Optional.empty(),
@@ -111,7 +111,7 @@ public final class CentralityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             ArticleRank,
-            estimationFacade::pageRank,
+            () -> estimationFacade.pageRank(configuration),
             (graph, __) -> centralityAlgorithms.articleRank(graph, configuration),
             writeStep,
             resultBuilder
@@ -217,7 +217,7 @@ public final class CentralityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             EigenVector,
-            estimationFacade::pageRank,
+            () -> estimationFacade.pageRank(configuration),
             (graph, __) -> centralityAlgorithms.eigenVector(graph, configuration),
             writeStep,
             resultBuilder
@@ -253,7 +253,7 @@ public final class CentralityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             PageRank,
-            estimationFacade::pageRank,
+            () -> estimationFacade.pageRank(configuration),
             (graph, __) -> centralityAlgorithms.pageRank(graph, configuration),
             writeStep,
             resultBuilder
@@ -272,7 +272,7 @@ public final class CentralityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             HITS,
-            estimationFacade::hits,
+            () -> estimationFacade.hits(configuration),
             (graph, __) -> centralityAlgorithms.hits(graph, configuration),
             writeStep,
             resultBuilder,
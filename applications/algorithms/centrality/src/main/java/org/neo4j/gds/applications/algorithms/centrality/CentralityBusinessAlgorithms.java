@@ -49,6 +49,7 @@ import org.neo4j.gds.influenceMaximization.CELFResult;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationBaseConfig;
 import org.neo4j.gds.pagerank.ArticleRankConfig;
 import org.neo4j.gds.pagerank.EigenvectorConfig;
+import org.neo4j.gds.pagerank.IncrementalPageRank;
 import org.neo4j.gds.pagerank.PageRankConfig;
 import org.neo4j.gds.pagerank.PageRankResult;
 
@@ -232,7 +233,9 @@ public class CentralityBusinessAlgorithms {
 
     public PageRankResult pageRank(Graph graph, PageRankConfig configuration) {
 
-        var task = Pregel.progressTask(graph, configuration, PageRank.asString());
+        var task = configuration.isIncremental()
+            ? IncrementalPageRank.progressTask(graph, configuration, PageRank.asString())
+            : Pregel.progressTask(graph, configuration, PageRank.asString());
         var progressTracker = progressTrackerCreator.createProgressTracker(task, configuration);
 
         return algorithmMachinery.getResult(
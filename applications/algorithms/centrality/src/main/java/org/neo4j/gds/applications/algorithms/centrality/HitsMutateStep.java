@@ -60,7 +60,8 @@ class HitsMutateStep implements MutateStep<PregelResult, NodePropertiesWritten>
             graph,
             graphStore,
             configuration.nodeLabelIdentifiers(graphStore),
-            List.of(authRecord,hubRecord)
+            List.of(authRecord,hubRecord),
+            configuration.offHeapNodeProperties()
         );
 
     }
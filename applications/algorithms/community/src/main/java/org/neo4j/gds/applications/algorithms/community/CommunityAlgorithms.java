@@ -21,6 +21,7 @@ package org.neo4j.gds.applications.algorithms.community;
 
 import org.neo4j.gds.algorithms.community.CommunityCompanion;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.approxmaxkcut.ApproxMaxKCut;
 import org.neo4j.gds.approxmaxkcut.ApproxMaxKCutParameters;
 import org.neo4j.gds.approxmaxkcut.ApproxMaxKCutResult;
@@ -62,7 +63,9 @@ import org.neo4j.gds.modularityoptimization.K1ColoringStub;
 import org.neo4j.gds.modularityoptimization.ModularityOptimization;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationParameters;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationResult;
+import org.neo4j.gds.scc.ParallelScc;
 import org.neo4j.gds.scc.Scc;
+import org.neo4j.gds.scc.SccMethod;
 import org.neo4j.gds.scc.SccParameters;
 import org.neo4j.gds.sllpa.SpeakerListenerLPA;
 import org.neo4j.gds.sllpa.SpeakerListenerLPAConfig;
@@ -75,6 +78,7 @@ import org.neo4j.gds.triangle.TriangleCountParameters;
 import org.neo4j.gds.triangle.TriangleCountResult;
 import org.neo4j.gds.triangle.TriangleResult;
 import org.neo4j.gds.triangle.TriangleStream;
+import org.neo4j.gds.wcc.ComponentIndex;
 import org.neo4j.gds.wcc.WccParameters;
 import org.neo4j.gds.wcc.WccStub;
 
@@ -250,6 +254,15 @@ public class CommunityAlgorithms {
     }
 
     public HugeLongArray scc(Graph graph, SccParameters parameters, ProgressTracker progressTracker) {
+        if (parameters.method() == SccMethod.COLORING) {
+            return new ParallelScc(
+                graph,
+                parameters.concurrency(),
+                DefaultPool.INSTANCE,
+                progressTracker,
+                terminationFlag
+            ).compute();
+        }
         return new Scc(
             graph,
             progressTracker,
@@ -283,7 +296,16 @@ public class CommunityAlgorithms {
         ).compute();
     }
 
-    public DisjointSetStruct wcc(Graph graph, WccParameters parameters, ProgressTracker progressTracker) {
+    public DisjointSetStruct wcc(
+        Graph graph,
+        GraphStore graphStore,
+        WccParameters parameters,
+        ProgressTracker progressTracker
+    ) {
+        if (parameters.componentIndex()) {
+            return ComponentIndex.components(graph, graphStore, parameters.concurrency(), progressTracker);
+        }
+
         var wccStub = new WccStub(terminationFlag);
         return wccStub.wcc(graph, parameters, progressTracker);
     }
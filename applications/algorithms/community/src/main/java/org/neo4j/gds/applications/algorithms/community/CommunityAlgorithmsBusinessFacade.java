@@ -21,6 +21,7 @@ package org.neo4j.gds.applications.algorithms.community;
 
 import org.neo4j.gds.CommunityAlgorithmTasks;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmMachinery;
 import org.neo4j.gds.applications.algorithms.machinery.ProgressTrackerCreator;
 import org.neo4j.gds.approxmaxkcut.ApproxMaxKCutResult;
@@ -249,7 +250,7 @@ public class CommunityAlgorithmsBusinessFacade {
         return algorithms.triangles(graph, configuration.toParameters());
     }
 
-    public DisjointSetStruct wcc(Graph graph, WccBaseConfig configuration) {
+    public DisjointSetStruct wcc(Graph graph, GraphStore graphStore, WccBaseConfig configuration) {
         var task = tasks.wcc(graph);
         var progressTracker = progressTrackerCreator.createProgressTracker(task, configuration);
 
@@ -260,7 +261,7 @@ public class CommunityAlgorithmsBusinessFacade {
         }
         var params = configuration.toParameters();
         return algorithmMachinery.getResult(
-            () -> algorithms.wcc(graph,params, progressTracker),
+            () -> algorithms.wcc(graph, graphStore, params, progressTracker),
             progressTracker,
             params.concurrency()
         );
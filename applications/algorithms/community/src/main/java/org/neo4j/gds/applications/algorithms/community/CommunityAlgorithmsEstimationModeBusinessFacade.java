@@ -48,6 +48,7 @@ import org.neo4j.gds.modularityoptimization.ModularityOptimizationBaseConfig;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationMemoryEstimateDefinition;
 import org.neo4j.gds.scc.SccBaseConfig;
 import org.neo4j.gds.scc.SccMemoryEstimateDefinition;
+import org.neo4j.gds.scc.SccMethod;
 import org.neo4j.gds.sllpa.SpeakerListenerLPAConfig;
 import org.neo4j.gds.sllpa.SpeakerListenerLPAMemoryEstimateDefinition;
 import org.neo4j.gds.triangle.IntersectingTriangleCountMemoryEstimateDefinition;
@@ -236,11 +237,15 @@ public class CommunityAlgorithmsEstimationModeBusinessFacade {
     }
 
     public MemoryEstimation scc() {
-        return new SccMemoryEstimateDefinition().memoryEstimation();
+        return scc(SccMethod.TARJAN);
+    }
+
+    public MemoryEstimation scc(SccMethod method) {
+        return new SccMemoryEstimateDefinition(method).memoryEstimation();
     }
 
     public MemoryEstimateResult scc(SccBaseConfig configuration, Object graphNameOrConfiguration) {
-        var memoryEstimation = scc();
+        var memoryEstimation = scc(configuration.method());
 
         return algorithmEstimationTemplate.estimate(
             configuration,
@@ -281,12 +286,12 @@ public class CommunityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
-    public  MemoryEstimation speakerListenerLPA() {
-        return new SpeakerListenerLPAMemoryEstimateDefinition().memoryEstimation();
+    public  MemoryEstimation speakerListenerLPA(SpeakerListenerLPAConfig configuration) {
+        return new SpeakerListenerLPAMemoryEstimateDefinition(configuration).memoryEstimation();
     }
 
     public MemoryEstimateResult speakerListenerLPA(SpeakerListenerLPAConfig configuration, Object graphNameOrConfiguration) {
-        var memoryEstimation = speakerListenerLPA();
+        var memoryEstimation = speakerListenerLPA(configuration);
 
         return algorithmEstimationTemplate.estimate(
             configuration,
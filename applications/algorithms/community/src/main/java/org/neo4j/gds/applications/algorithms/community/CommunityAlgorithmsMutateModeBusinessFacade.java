@@ -281,7 +281,7 @@ public class CommunityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             SCC,
-            estimation::scc,
+            () -> estimation.scc(configuration.method()),
             (graph, __) -> algorithms.scc(graph, configuration),
             mutateStep,
             resultBuilder
@@ -318,7 +318,7 @@ public class CommunityAlgorithmsMutateModeBusinessFacade {
             configuration,
             WCC,
             () -> estimation.wcc(configuration),
-            (graph, __) -> algorithms.wcc(graph, configuration),
+            (graph, graphStore) -> algorithms.wcc(graph, graphStore, configuration),
             mutateStep,
             resultBuilder
         );
@@ -335,7 +335,7 @@ public class CommunityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             SLLPA,
-            estimation::speakerListenerLPA,
+            () -> estimation.speakerListenerLPA(configuration),
             (graph, __) -> algorithms.speakerListenerLPA(graph, configuration),
             mutateStep,
             resultBuilder
@@ -244,7 +244,7 @@ public class CommunityAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             SCC,
-            estimationFacade::scc,
+            () -> estimationFacade.scc(configuration.method()),
             (graph, __) -> communityAlgorithms.scc(graph, configuration),
             resultBuilder
         );
@@ -275,7 +275,7 @@ public class CommunityAlgorithmsStatsModeBusinessFacade {
             configuration,
             WCC,
             () -> estimationFacade.wcc(configuration),
-            (graph, __) -> communityAlgorithms.wcc(graph, configuration),
+            (graph, graphStore) -> communityAlgorithms.wcc(graph, graphStore, configuration),
             resultBuilder
         );
     }
@@ -289,7 +289,7 @@ public class CommunityAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             SLLPA,
-            estimationFacade::speakerListenerLPA,
+            () -> estimationFacade.speakerListenerLPA(configuration),
             (graph, __) -> communityAlgorithms.speakerListenerLPA(graph, configuration),
             resultBuilder
         );
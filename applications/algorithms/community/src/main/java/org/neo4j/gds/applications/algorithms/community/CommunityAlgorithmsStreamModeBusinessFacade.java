@@ -284,7 +284,7 @@ public class CommunityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             SCC,
-            estimationFacade::scc,
+            () -> estimationFacade.scc(configuration.method()),
             (graph, __) -> algorithms.scc(graph, configuration),
             streamResultBuilder
         );
@@ -330,7 +330,7 @@ public class CommunityAlgorithmsStreamModeBusinessFacade {
             configuration,
             WCC,
             () -> estimationFacade.wcc(configuration),
-            (graph, __) -> algorithms.wcc(graph, configuration),
+            (graph, graphStore) -> algorithms.wcc(graph, graphStore, configuration),
             streamResultBuilder
         );
     }
@@ -344,7 +344,7 @@ public class CommunityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             SLLPA,
-            estimationFacade::speakerListenerLPA,
+            () -> estimationFacade.speakerListenerLPA(configuration),
             (graph, __) -> algorithms.speakerListenerLPA(graph, configuration),
             streamResultBuilder
         );
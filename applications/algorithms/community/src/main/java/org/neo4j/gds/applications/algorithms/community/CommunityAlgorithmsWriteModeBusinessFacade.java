@@ -303,7 +303,7 @@ public final class CommunityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             SCC,
-            estimationFacade::scc,
+            () -> estimationFacade.scc(configuration.method()),
             (graph, __) -> algorithms.scc(graph, configuration),
             writeStep,
             resultBuilder
@@ -321,7 +321,7 @@ public final class CommunityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             SCC,
-            estimationFacade::scc,
+            () -> estimationFacade.scc(configuration.method()),
             (graph, __) -> algorithms.scc(graph, configuration),
             writeStep,
             resultBuilder
@@ -358,7 +358,7 @@ public final class CommunityAlgorithmsWriteModeBusinessFacade {
             configuration,
             WCC,
             () -> estimationFacade.wcc(configuration),
-            (graph, __) -> algorithms.wcc(graph, configuration),
+            (graph, graphStore) -> algorithms.wcc(graph, graphStore, configuration),
             writeStep,
             resultBuilder
         );
@@ -375,7 +375,7 @@ public final class CommunityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             SLLPA,
-            estimationFacade::speakerListenerLPA,
+            () -> estimationFacade.speakerListenerLPA(configuration),
             (graph, __) -> algorithms.speakerListenerLPA(graph, configuration),
             writeStep,
             resultBuilder
@@ -23,6 +23,7 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.applications.algorithms.machinery.ProgressTrackerCreator;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.utils.logging.LoggerForProgressTrackingAdapter;
@@ -61,7 +62,7 @@ class CommunityAlgorithmsBusinessFacadeTest {
         );
 
         var businessFacade = new CommunityAlgorithmsBusinessFacade(algorithms,progressCreator);
-        businessFacade.wcc(graph,config);
+        businessFacade.wcc(graph, mock(GraphStore.class), config);
 
         Assertions.assertThat(log.getMessages(WARN))
             .extracting(removingThreadId())
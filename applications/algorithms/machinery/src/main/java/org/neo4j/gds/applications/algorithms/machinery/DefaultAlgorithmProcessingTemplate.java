@@ -22,7 +22,9 @@ package org.neo4j.gds.applications.algorithms.machinery;
 import org.neo4j.gds.api.GraphName;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
+import org.neo4j.gds.core.loading.CatalogRequest;
 import org.neo4j.gds.core.loading.GraphResources;
+import org.neo4j.gds.core.loading.GraphStoreCatalogLease;
 import org.neo4j.gds.core.loading.GraphStoreCatalogService;
 import org.neo4j.gds.core.loading.PostLoadETLHook;
 import org.neo4j.gds.core.loading.PostLoadValidationHook;
@@ -223,28 +225,44 @@ public class DefaultAlgorithmProcessingTemplate implements AlgorithmProcessingTe
         // as we progress through the steps we gather timings
         var timingsBuilder = new AlgorithmProcessingTimingsBuilder();
 
-        var graphResources = loadAndValidateGraph(
-            timingsBuilder,
-            relationshipWeightOverride,
-            graphName,
-            configuration,
-            postGraphStoreLoadValidationHooks,
-            postGraphStoreLoadETLHooks
-        );
+        // the graph must not be evicted from the catalog before any mutation is done
+        try (var ignored = leaseGraph(graphName, configuration)) {
+            var graphResources = loadAndValidateGraph(
+                timingsBuilder,
+                relationshipWeightOverride,
+                graphName,
+                configuration,
+                postGraphStoreLoadValidationHooks,
+                postGraphStoreLoadETLHooks
+            );
 
-        var result = runComputation(
-            configuration,
-            graphResources,
-            label,
-            estimationSupplier,
-            computation,
-            timingsBuilder,
-            dimensionTransformer
-        );
+            var result = runComputation(
+                configuration,
+                graphResources,
+                label,
+                estimationSupplier,
+                computation,
+                timingsBuilder,
+                dimensionTransformer
+            );
 
-        var metadata = processSideEffect(timingsBuilder, graphResources, result, sideEffect);
+            var metadata = processSideEffect(timingsBuilder, graphResources, result, sideEffect);
+
+            return resultRenderer.render(graphResources, result, timingsBuilder.build(), metadata);
+        }
+    }
+
+    private <CONFIGURATION extends AlgoBaseConfig> GraphStoreCatalogLease leaseGraph(
+        GraphName graphName,
+        CONFIGURATION configuration
+    ) {
+        var catalogRequest = CatalogRequest.of(
+            requestScopedDependencies.user(),
+            requestScopedDependencies.databaseId(),
+            configuration.usernameOverride()
+        );
 
-        return resultRenderer.render(graphResources, result, timingsBuilder.build(), metadata);
+        return graphStoreCatalogService.lease(catalogRequest, graphName);
     }
 
     /**
@@ -29,7 +29,9 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.applications.algorithms.metadata.NodePropertiesWritten;
 import org.neo4j.gds.config.MutateNodePropertyConfig;
 import org.neo4j.gds.core.huge.FilteredNodePropertyValues;
+import org.neo4j.gds.core.loading.nodeproperties.OffHeapNodePropertyValues;
 import org.neo4j.gds.logging.Log;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Collection;
 import java.util.HashSet;
@@ -54,7 +56,8 @@ public class MutateNodePropertyService {
            graph,
            graphStore,
            configuration.nodeLabelIdentifiers(graphStore),
-           List.of(NodePropertyRecord.of(configuration.mutateProperty(),nodePropertyValues))
+           List.of(NodePropertyRecord.of(configuration.mutateProperty(),nodePropertyValues)),
+           configuration.offHeapNodeProperties()
        );
     }
 
@@ -69,7 +72,8 @@ public class MutateNodePropertyService {
             graph,
             graphStore,
             configuration.nodeLabelIdentifiers(graphStore),
-            nodeProperties
+            nodeProperties,
+            configuration.offHeapNodeProperties()
         );
     }
 
@@ -78,10 +82,27 @@ public class MutateNodePropertyService {
         GraphStore graphStore,
         Collection<NodeLabel> labelsToUpdate,
         List<NodePropertyRecord> nodeProperties
+    ) {
+        return mutateNodeProperties(
+            graph,
+            graphStore,
+            labelsToUpdate,
+            nodeProperties,
+            GdsFeatureToggles.USE_OFF_HEAP_NODE_PROPERTIES.isEnabled()
+        );
+    }
+
+    public NodePropertiesWritten mutateNodeProperties(
+        Graph graph,
+        GraphStore graphStore,
+        Collection<NodeLabel> labelsToUpdate,
+        List<NodePropertyRecord> nodeProperties,
+        boolean offHeap
     ) {
         log.info("Updating in-memory graph store");
 
-        var translatedProperties = translateProperties(graph, nodeProperties);
+        var storedProperties = offHeap ? offHeapCopies(nodeProperties) : nodeProperties;
+        var translatedProperties = translateProperties(graph, storedProperties);
         MutableLong nodePropertiesWritten = new MutableLong();
         translatedProperties.forEach(
             property ->{
@@ -107,6 +128,20 @@ public class MutateNodePropertyService {
         return graph.nodeCount();
     }
 
+    /**
+     * Copies the values off-heap. This happens before translating the values of a filtered graph,
+     * so that the copy is indexed by the filtered node ids it has values for.
+     */
+    private static List<NodePropertyRecord> offHeapCopies(List<NodePropertyRecord> nodeProperties) {
+        return nodeProperties
+            .stream()
+            .map(nodeProperty -> NodePropertyRecord.of(
+                nodeProperty.key(),
+                OffHeapNodePropertyValues.copyOf(nodeProperty.values())
+            ))
+            .collect(Collectors.toList());
+    }
+
 
     private List<NodePropertyRecord> translateProperties(Graph graph, List<NodePropertyRecord> nodeProperties) {
         return graph
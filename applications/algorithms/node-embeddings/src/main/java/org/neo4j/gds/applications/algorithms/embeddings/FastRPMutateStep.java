@@ -25,8 +25,13 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
 import org.neo4j.gds.applications.algorithms.machinery.MutateNodePropertyService;
 import org.neo4j.gds.applications.algorithms.machinery.MutateStep;
 import org.neo4j.gds.applications.algorithms.metadata.NodePropertiesWritten;
+import org.neo4j.gds.collections.ha.HugeFloatMatrix;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.embeddings.fastrp.FastRPMutateConfig;
 import org.neo4j.gds.embeddings.fastrp.FastRPResult;
+import org.neo4j.gds.termination.TerminationFlag;
 
 class FastRPMutateStep implements MutateStep<FastRPResult, NodePropertiesWritten> {
     private final MutateNodePropertyService mutateNodePropertyService;
@@ -43,7 +48,8 @@ class FastRPMutateStep implements MutateStep<FastRPResult, NodePropertiesWritten
         GraphStore graphStore,
         FastRPResult result
     ) {
-        var nodePropertyValues = NodePropertyValuesAdapter.adapt(result.embeddings());
+        var embeddings = materializeRows(result.embeddings(), configuration.concurrency());
+        var nodePropertyValues = NodePropertyValuesAdapter.adapt(embeddings);
 
         return mutateNodePropertyService.mutateNodeProperties(
             graph,
@@ -52,4 +58,21 @@ class FastRPMutateStep implements MutateStep<FastRPResult, NodePropertiesWritten
             nodePropertyValues
         );
     }
+
+    /**
+     * The matrix view copies a row on every access, which suits the single pass of stream and write mode.
+     * A mutated property is read by later algorithms, e.g. KNN reads every embedding once per similarity,
+     * so the rows are copied into arrays once. This costs an array header per node on top of the matrix
+     * until the matrix is released, and saves a copy on every later access.
+     */
+    private static HugeObjectArray<float[]> materializeRows(HugeFloatMatrix matrix, Concurrency concurrency) {
+        var rows = HugeObjectArray.newArray(float[].class, matrix.rows());
+        ParallelUtil.parallelForEachNode(
+            matrix.rows(),
+            concurrency,
+            TerminationFlag.RUNNING_TRUE,
+            nodeId -> rows.set(nodeId, matrix.row(nodeId))
+        );
+        return rows;
+    }
 }
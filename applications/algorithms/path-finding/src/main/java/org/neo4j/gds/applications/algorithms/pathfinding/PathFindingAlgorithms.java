@@ -21,6 +21,9 @@ package org.neo4j.gds.applications.algorithms.pathfinding;
 
 import org.neo4j.gds.allshortestpaths.AllShortestPathsParameters;
 import org.neo4j.gds.allshortestpaths.AllShortestPathsStreamResult;
+import org.neo4j.gds.allshortestpaths.DistanceMatrix;
+import org.neo4j.gds.allshortestpaths.ManyToManyShortestPaths;
+import org.neo4j.gds.allshortestpaths.ManyToManyShortestPathsParameters;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
@@ -51,8 +54,10 @@ import org.neo4j.gds.paths.yens.YensParameters;
 import org.neo4j.gds.pcst.PCSTParameters;
 import org.neo4j.gds.pricesteiner.PCSTFast;
 import org.neo4j.gds.pricesteiner.PrizeSteinerTreeResult;
+import org.neo4j.gds.spanningtree.Boruvka;
 import org.neo4j.gds.spanningtree.Prim;
 import org.neo4j.gds.spanningtree.SpanningTree;
+import org.neo4j.gds.spanningtree.SpanningTreeMethod;
 import org.neo4j.gds.spanningtree.SpanningTreeParameters;
 import org.neo4j.gds.steiner.ShortestPathsSteinerAlgorithm;
 import org.neo4j.gds.steiner.SteinerTreeParameters;
@@ -181,6 +186,9 @@ public class PathFindingAlgorithms {
             parameters.objective(),
             graph.toMappedNodeId(parameters.sourceNode()),
             parameters.k(),
+            parameters.method(),
+            parameters.concurrency(),
+            DefaultPool.INSTANCE,
             progressTracker,
             terminationFlag
         );
@@ -204,6 +212,26 @@ public class PathFindingAlgorithms {
         return algorithm.compute();
     }
 
+    DistanceMatrix manyToManyShortestPaths(
+        Graph graph,
+        ManyToManyShortestPathsParameters parameters,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag,
+        ExecutorService executorService
+    ) {
+        var algorithm = new ManyToManyShortestPaths(
+            graph,
+            parameters.sourceNodes().stream().mapToLong(graph::toMappedNodeId).toArray(),
+            parameters.targetNodes().stream().mapToLong(graph::toMappedNodeId).toArray(),
+            parameters.concurrency(),
+            executorService,
+            progressTracker,
+            terminationFlag
+        );
+
+        return algorithm.compute();
+    }
+
     public Stream<long[]> randomWalk(
         Graph graph,
         RandomWalkParameters parameters,
@@ -284,10 +312,8 @@ public class PathFindingAlgorithms {
 
         var algorithm = DijkstraFactory.sourceTarget(
             graph,
-            parameters.sourceNode(),
-            parameters.targetsList(),
+            parameters,
             false,
-            Optional.empty(),
             progressTracker,
             terminationFlag
         );
@@ -335,13 +361,24 @@ public class PathFindingAlgorithms {
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
     ) {
-        var algorithm = new Prim(
-            graph,
-            parameters.objective(),
-            graph.toMappedNodeId(parameters.sourceNode()),
-            progressTracker,
-            terminationFlag
-        );
+        var startNodeId = graph.toMappedNodeId(parameters.sourceNode());
+        var algorithm = parameters.method() == SpanningTreeMethod.BORUVKA
+            ? new Boruvka(
+                graph,
+                parameters.objective(),
+                startNodeId,
+                parameters.concurrency(),
+                DefaultPool.INSTANCE,
+                progressTracker,
+                terminationFlag
+            )
+            : new Prim(
+                graph,
+                parameters.objective(),
+                startNodeId,
+                progressTracker,
+                terminationFlag
+            );
 
         return algorithm.compute();
     }
@@ -21,6 +21,9 @@ package org.neo4j.gds.applications.algorithms.pathfinding;
 
 import org.neo4j.gds.allshortestpaths.AllShortestPathsConfig;
 import org.neo4j.gds.allshortestpaths.AllShortestPathsStreamResult;
+import org.neo4j.gds.allshortestpaths.DistanceMatrix;
+import org.neo4j.gds.allshortestpaths.ManyToManyShortestPathsConfig;
+import org.neo4j.gds.allshortestpaths.ManyToManyShortestPathsProgressTask;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmMachinery;
@@ -212,8 +215,27 @@ public class PathFindingAlgorithmsBusinessFacade {
         );
     }
 
+    DistanceMatrix manyToManyShortestPaths(Graph graph, ManyToManyShortestPathsConfig configuration) {
+        var progressTracker = createProgressTracker(
+            ManyToManyShortestPathsProgressTask.create(configuration.sourceNodes().size()),
+            configuration
+        );
+
+        return algorithmMachinery.getResult(
+            () -> algorithms.manyToManyShortestPaths(
+                graph,
+                configuration.toParameters(),
+                progressTracker,
+                requestScopedDependencies.terminationFlag(),
+                DefaultPool.INSTANCE
+            ),
+            progressTracker,
+            configuration.concurrency()
+        );
+    }
+
     Stream<long[]> randomWalk(Graph graph, RandomWalkBaseConfig configuration) {
-        var task = RandomWalkProgressTask.create(graph);
+        var task = RandomWalkProgressTask.create(graph, configuration.useAliasTables());
         var progressTracker = createProgressTracker(task, configuration);
 
         return algorithmMachinery.getResultWithoutReleasingProgressTracker(
@@ -231,7 +253,7 @@ public class PathFindingAlgorithmsBusinessFacade {
 
     HugeAtomicLongArray randomWalkCountingNodeVisits(Graph graph, RandomWalkBaseConfig configuration) {
         var progressTracker = createProgressTracker(
-            RandomWalkCountingNodeVisitsProgressTaskFactory.create(graph),
+            RandomWalkCountingNodeVisitsProgressTaskFactory.create(graph, configuration.useAliasTables()),
             configuration
         );
 
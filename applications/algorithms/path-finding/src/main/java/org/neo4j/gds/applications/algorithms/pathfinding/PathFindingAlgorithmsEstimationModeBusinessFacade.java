@@ -43,6 +43,7 @@ import org.neo4j.gds.pcst.PCSTBaseConfig;
 import org.neo4j.gds.pricesteiner.PrizeSteinerTreeMemoryEstimateDefinition;
 import org.neo4j.gds.spanningtree.SpanningTreeBaseConfig;
 import org.neo4j.gds.spanningtree.SpanningTreeMemoryEstimateDefinition;
+import org.neo4j.gds.spanningtree.SpanningTreeMethod;
 import org.neo4j.gds.steiner.SteinerTreeBaseConfig;
 import org.neo4j.gds.steiner.SteinerTreeMemoryEstimateDefinition;
 import org.neo4j.gds.traversal.RandomWalkBaseConfig;
@@ -51,6 +52,8 @@ import org.neo4j.gds.traversal.RandomWalkMemoryEstimateDefinition;
 import org.neo4j.gds.traversal.RandomWalkMutateConfig;
 import org.neo4j.gds.allshortestpaths.AllShortestPathsMemoryEstimateDefinition;
 import org.neo4j.gds.allshortestpaths.AllShortestPathsConfig;
+import org.neo4j.gds.allshortestpaths.ManyToManyShortestPathsConfig;
+import org.neo4j.gds.allshortestpaths.ManyToManyShortestPathsMemoryEstimateDefinition;
 
 /**
  * Here is the top level business facade for all your path finding memory estimation needs.
@@ -131,6 +134,22 @@ public class PathFindingAlgorithmsEstimationModeBusinessFacade {
     }
 
 
+    public MemoryEstimateResult manyToManyShortestPaths(
+        ManyToManyShortestPathsConfig configuration,
+        Object graphNameOrConfiguration
+    ) {
+        var memoryEstimation = manyToManyShortestPaths(configuration);
+
+        return runEstimation(configuration, graphNameOrConfiguration, memoryEstimation);
+    }
+
+    public MemoryEstimation manyToManyShortestPaths(ManyToManyShortestPathsConfig configuration) {
+        return new ManyToManyShortestPathsMemoryEstimateDefinition(
+            configuration.sourceNodes().size(),
+            configuration.targetNodes().size()
+        ).memoryEstimation();
+    }
+
     public MemoryEstimateResult pcst(
         PCSTBaseConfig configuration,
         Object graphNameOrConfiguration
@@ -225,13 +244,17 @@ public class PathFindingAlgorithmsEstimationModeBusinessFacade {
         SpanningTreeBaseConfig configuration,
         Object graphNameOrConfiguration
     ) {
-        var memoryEstimation = spanningTree();
+        var memoryEstimation = spanningTree(configuration.method());
 
         return runEstimation(configuration, graphNameOrConfiguration, memoryEstimation);
     }
 
     public MemoryEstimation spanningTree() {
-        return new SpanningTreeMemoryEstimateDefinition().memoryEstimation();
+        return spanningTree(SpanningTreeMethod.PRIM);
+    }
+
+    public MemoryEstimation spanningTree(SpanningTreeMethod method) {
+        return new SpanningTreeMemoryEstimateDefinition(method).memoryEstimation();
     }
 
     public MemoryEstimateResult steinerTree(
@@ -21,6 +21,8 @@ package org.neo4j.gds.applications.algorithms.pathfinding;
 
 import org.neo4j.gds.allshortestpaths.AllShortestPathsConfig;
 import org.neo4j.gds.allshortestpaths.AllShortestPathsStreamResult;
+import org.neo4j.gds.allshortestpaths.DistanceMatrix;
+import org.neo4j.gds.allshortestpaths.ManyToManyShortestPathsConfig;
 import org.neo4j.gds.api.GraphName;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmProcessingTemplateConvenience;
@@ -57,6 +59,7 @@ import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.DFS
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.DeltaStepping;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.Dijkstra;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.LongestPath;
+import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.ManyToManyShortestPaths;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.PCST;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.RandomWalk;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.SingleSourceDijkstra;
@@ -174,6 +177,21 @@ public class PathFindingAlgorithmsStreamModeBusinessFacade {
         );
     }
 
+    public <RESULT> Stream<RESULT> manyToManyShortestPaths(
+        GraphName graphName,
+        ManyToManyShortestPathsConfig configuration,
+        StreamResultBuilder<DistanceMatrix, RESULT> resultBuilder
+    ) {
+        return convenience.processRegularAlgorithmInStreamMode(
+            graphName,
+            configuration,
+            ManyToManyShortestPaths,
+            () -> estimation.manyToManyShortestPaths(configuration),
+            (graph, __) -> algorithms.manyToManyShortestPaths(graph, configuration),
+            resultBuilder
+        );
+    }
+
     public <RESULT> Stream<RESULT> pcst(
         GraphName graphName,
         PCSTStreamConfig configuration,
@@ -20,6 +20,7 @@
 package org.neo4j.gds.applications.algorithms.similarity;
 
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.similarity.filteredknn.FilteredKNNFactory;
@@ -27,6 +28,9 @@ import org.neo4j.gds.similarity.filteredknn.FilteredKnnParameters;
 import org.neo4j.gds.similarity.filteredknn.FilteredKnnResult;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityParameters;
 import org.neo4j.gds.similarity.filtering.NodeFilter;
+import org.neo4j.gds.similarity.hnsw.HnswIndex;
+import org.neo4j.gds.similarity.hnsw.HnswParameters;
+import org.neo4j.gds.similarity.hnsw.HnswSearchParameters;
 import org.neo4j.gds.similarity.knn.Knn;
 import org.neo4j.gds.similarity.knn.KnnContext;
 import org.neo4j.gds.similarity.knn.KnnNeighborFilterFactory;
@@ -40,6 +44,7 @@ import org.neo4j.gds.similarity.nodesim.NodeSimilarityResult;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.wcc.WccStub;
 
+import java.util.List;
 import java.util.Optional;
 
 public class SimilarityAlgorithms {
@@ -52,10 +57,11 @@ public class SimilarityAlgorithms {
 
     public FilteredKnnResult filteredKnn(
         Graph graph,
+        GraphStore graphStore,
         FilteredKnnParameters parameters,
         ProgressTracker progressTracker
     ) {
-        var knnContext = new KnnContext(progressTracker);
+        var knnContext = KnnContext.of(graphStore, progressTracker);
 
         var algorithm = FilteredKNNFactory.create(graph, parameters, knnContext,terminationFlag);
 
@@ -86,7 +92,50 @@ public class SimilarityAlgorithms {
         return algorithm.compute();
     }
 
-    KnnResult knn(Graph graph, KnnParameters parameters, ProgressTracker progressTracker) {
+    /**
+     * Searches the index attached to the graph store, building or updating it first if needed.
+     * The index covers all nodes of the graph store, so the neighbours are filtered to the graph
+     * after the search and are returned with their original node ids.
+     */
+    List<HnswIndex.Neighbor> hnsw(
+        Graph graph,
+        GraphStore graphStore,
+        HnswSearchParameters parameters,
+        ProgressTracker progressTracker
+    ) {
+        progressTracker.beginSubTask();
+        var index = HnswIndex.of(
+            graphStore,
+            parameters.nodeProperty(),
+            parameters.similarityMetric(),
+            HnswParameters.defaults(),
+            parameters.concurrency(),
+            DefaultPool.INSTANCE,
+            progressTracker,
+            terminationFlag
+        );
+
+        var rootIdMap = graphStore.nodes();
+        var neighbors = index
+            .search(
+                parameters.queryVector(),
+                Math.max(parameters.topK(), parameters.searchListSize()),
+                parameters.searchListSize()
+            )
+            .stream()
+            .map(neighbor -> new HnswIndex.Neighbor(
+                rootIdMap.toOriginalNodeId(neighbor.nodeId()),
+                neighbor.similarity()
+            ))
+            .filter(neighbor -> graph.containsOriginalId(neighbor.nodeId()))
+            .limit(parameters.topK())
+            .toList();
+        progressTracker.endSubTask();
+
+        return neighbors;
+    }
+
+    KnnResult knn(Graph graph, GraphStore graphStore, KnnParameters parameters, ProgressTracker progressTracker) {
 
         var algorithm = Knn.create(
             graph,
@@ -94,7 +143,7 @@ public class SimilarityAlgorithms {
             new SimilarityFunction(SimilarityComputer.ofProperties(graph, parameters.nodePropertySpecs())),
             new KnnNeighborFilterFactory(graph.nodeCount()),
             Optional.empty(),
-            new KnnContext(progressTracker),
+            KnnContext.of(graphStore, progressTracker),
             terminationFlag
         );
 
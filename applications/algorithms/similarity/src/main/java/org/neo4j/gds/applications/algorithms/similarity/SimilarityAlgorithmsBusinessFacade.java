@@ -21,16 +21,21 @@ package org.neo4j.gds.applications.algorithms.similarity;
 
 import org.neo4j.gds.SimilarityAlgorithmTasks;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmMachinery;
 import org.neo4j.gds.applications.algorithms.machinery.ProgressTrackerCreator;
 import org.neo4j.gds.similarity.filteredknn.FilteredKnnBaseConfig;
 import org.neo4j.gds.similarity.filteredknn.FilteredKnnResult;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityBaseConfig;
+import org.neo4j.gds.similarity.hnsw.HnswIndex;
+import org.neo4j.gds.similarity.hnsw.HnswStreamConfig;
 import org.neo4j.gds.similarity.knn.KnnBaseConfig;
 import org.neo4j.gds.similarity.knn.KnnResult;
 import org.neo4j.gds.similarity.nodesim.NodeSimilarityBaseConfig;
 import org.neo4j.gds.similarity.nodesim.NodeSimilarityResult;
 
+import java.util.List;
+
 public class SimilarityAlgorithmsBusinessFacade {
 
     private final AlgorithmMachinery algorithmMachinery = new AlgorithmMachinery();
@@ -46,13 +51,13 @@ public class SimilarityAlgorithmsBusinessFacade {
         this.progressTrackerCreator = progressTrackerCreator;
     }
 
-    FilteredKnnResult filteredKnn(Graph graph, FilteredKnnBaseConfig configuration) {
+    FilteredKnnResult filteredKnn(Graph graph, GraphStore graphStore, FilteredKnnBaseConfig configuration) {
         var parameters = configuration.toFilteredKnnParameters().finalize(graph.nodeCount());
         var task = tasks.filteredKnn(graph, parameters);
         var progressTracker = progressTrackerCreator.createProgressTracker(task, configuration);
 
         return algorithmMachinery.getResult(
-            () -> similarityAlgorithms.filteredKnn(graph, parameters, progressTracker),
+            () -> similarityAlgorithms.filteredKnn(graph, graphStore, parameters, progressTracker),
             progressTracker,
             parameters.concurrency()
         );
@@ -70,14 +75,25 @@ public class SimilarityAlgorithmsBusinessFacade {
         );
     }
 
+    List<HnswIndex.Neighbor> hnsw(Graph graph, GraphStore graphStore, HnswStreamConfig configuration) {
+        var parameters = configuration.toParameters();
+        var task = tasks.hnsw(graph);
+        var progressTracker = progressTrackerCreator.createProgressTracker(task, configuration);
+
+        return algorithmMachinery.getResult(
+            () -> similarityAlgorithms.hnsw(graph, graphStore, parameters, progressTracker),
+            progressTracker,
+            parameters.concurrency()
+        );
+    }
 
-    KnnResult knn(Graph graph, KnnBaseConfig configuration) {
+    KnnResult knn(Graph graph, GraphStore graphStore, KnnBaseConfig configuration) {
         var parameters = configuration.toParameters().finalize(graph.nodeCount());
         var task = tasks.knn(graph, parameters);
         var progressTracker = progressTrackerCreator.createProgressTracker(task, configuration);
 
         return algorithmMachinery.getResult(
-            () -> similarityAlgorithms.knn(graph, parameters, progressTracker),
+            () -> similarityAlgorithms.knn(graph, graphStore, parameters, progressTracker),
             progressTracker,
             parameters.concurrency()
         );
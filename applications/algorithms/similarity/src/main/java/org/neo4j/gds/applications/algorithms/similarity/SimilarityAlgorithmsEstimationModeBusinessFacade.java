@@ -26,6 +26,8 @@ import org.neo4j.gds.similarity.filteredknn.FilteredKnnBaseConfig;
 import org.neo4j.gds.similarity.filteredknn.FilteredKnnMemoryEstimateDefinition;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityBaseConfig;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityMemoryEstimateDefinition;
+import org.neo4j.gds.similarity.hnsw.HnswMemoryEstimateDefinition;
+import org.neo4j.gds.similarity.hnsw.HnswStreamConfig;
 import org.neo4j.gds.similarity.knn.KnnBaseConfig;
 import org.neo4j.gds.similarity.knn.KnnMemoryEstimateDefinition;
 import org.neo4j.gds.similarity.nodesim.NodeSimilarityBaseConfig;
@@ -69,6 +71,20 @@ public class SimilarityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
+    public MemoryEstimation hnsw(HnswStreamConfig configuration) {
+        return new HnswMemoryEstimateDefinition(configuration.queryVector().size()).memoryEstimation();
+    }
+
+    public MemoryEstimateResult hnsw(HnswStreamConfig configuration, Object graphNameOrConfiguration) {
+        var memoryEstimation = hnsw(configuration);
+
+        return algorithmEstimationTemplate.estimate(
+            configuration,
+            graphNameOrConfiguration,
+            memoryEstimation
+        );
+    }
+
     public MemoryEstimation knn(KnnBaseConfig knnMutateConfig) {
         return new KnnMemoryEstimateDefinition(knnMutateConfig.toMemoryEstimationParameters()).memoryEstimation();
     }
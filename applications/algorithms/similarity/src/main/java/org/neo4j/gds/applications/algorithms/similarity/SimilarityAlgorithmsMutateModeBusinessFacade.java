@@ -75,7 +75,7 @@ public class SimilarityAlgorithmsMutateModeBusinessFacade {
             configuration,
             FilteredKNN,
             () -> estimationFacade.filteredKnn(configuration),
-            (graph, __) -> similarityAlgorithms.filteredKnn(graph, configuration),
+            (graph, graphStore) -> similarityAlgorithms.filteredKnn(graph, graphStore, configuration),
             mutateStep,
             resultBuilder
         );
@@ -121,7 +121,7 @@ public class SimilarityAlgorithmsMutateModeBusinessFacade {
             configuration,
             KNN,
             () -> estimationFacade.knn(configuration),
-            (graph, __) -> similarityAlgorithms.knn(graph, configuration),
+            (graph, graphStore) -> similarityAlgorithms.knn(graph, graphStore, configuration),
             mutateStep,
             resultBuilder
         );
@@ -60,7 +60,7 @@ public class SimilarityAlgorithmsStatsModeBusinessFacade {
             configuration,
             FilteredKNN,
             () -> estimationFacade.filteredKnn(configuration),
-            (graph, __) -> similarityAlgorithms.filteredKnn(graph, configuration),
+            (graph, graphStore) -> similarityAlgorithms.filteredKnn(graph, graphStore, configuration),
             resultBuilder
         );
     }
@@ -90,7 +90,7 @@ public class SimilarityAlgorithmsStatsModeBusinessFacade {
             configuration,
             KNN,
             () -> estimationFacade.knn(configuration),
-            (graph, __) -> similarityAlgorithms.knn(graph, configuration),
+            (graph, graphStore) -> similarityAlgorithms.knn(graph, graphStore, configuration),
             resultBuilder
         );
     }
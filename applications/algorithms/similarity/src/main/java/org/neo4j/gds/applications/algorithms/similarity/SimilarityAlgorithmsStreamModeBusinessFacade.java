@@ -25,15 +25,19 @@ import org.neo4j.gds.applications.algorithms.machinery.StreamResultBuilder;
 import org.neo4j.gds.similarity.filteredknn.FilteredKnnResult;
 import org.neo4j.gds.similarity.filteredknn.FilteredKnnStreamConfig;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityStreamConfig;
+import org.neo4j.gds.similarity.hnsw.HnswIndex;
+import org.neo4j.gds.similarity.hnsw.HnswStreamConfig;
 import org.neo4j.gds.similarity.knn.KnnResult;
 import org.neo4j.gds.similarity.knn.KnnStreamConfig;
 import org.neo4j.gds.similarity.nodesim.NodeSimilarityResult;
 import org.neo4j.gds.similarity.nodesim.NodeSimilarityStreamConfig;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.FilteredKNN;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.FilteredNodeSimilarity;
+import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.HNSW;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.KNN;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.NodeSimilarity;
 
@@ -62,7 +66,7 @@ public class SimilarityAlgorithmsStreamModeBusinessFacade {
             configuration,
             FilteredKNN,
             () -> estimationFacade.filteredKnn(configuration),
-            (graph, __) -> similarityAlgorithms.filteredKnn(graph, configuration),
+            (graph, graphStore) -> similarityAlgorithms.filteredKnn(graph, graphStore, configuration),
             resultBuilder
         );
     }
@@ -82,6 +86,21 @@ public class SimilarityAlgorithmsStreamModeBusinessFacade {
         );
     }
 
+    public <RESULT> Stream<RESULT> hnsw(
+        GraphName graphName,
+        HnswStreamConfig configuration,
+        StreamResultBuilder<List<HnswIndex.Neighbor>, RESULT> resultBuilder
+    ) {
+        return algorithmProcessingTemplateConvenience.processRegularAlgorithmInStreamMode(
+            graphName,
+            configuration,
+            HNSW,
+            () -> estimationFacade.hnsw(configuration),
+            (graph, graphStore) -> similarityAlgorithms.hnsw(graph, graphStore, configuration),
+            resultBuilder
+        );
+    }
+
     public <RESULT> Stream<RESULT> knn(
         GraphName graphName,
         KnnStreamConfig configuration,
@@ -92,7 +111,7 @@ public class SimilarityAlgorithmsStreamModeBusinessFacade {
             configuration,
             KNN,
             () -> estimationFacade.knn(configuration),
-            (graph, __) -> similarityAlgorithms.knn(graph, configuration),
+            (graph, graphStore) -> similarityAlgorithms.knn(graph, graphStore, configuration),
             resultBuilder
         );
     }
@@ -75,7 +75,7 @@ public class SimilarityAlgorithmsWriteModeBusinessFacade {
             configuration,
             FilteredKNN,
             () -> estimationFacade.filteredKnn(configuration),
-            (graph, __) -> similarityAlgorithms.filteredKnn(graph, configuration),
+            (graph, graphStore) -> similarityAlgorithms.filteredKnn(graph, graphStore, configuration),
             writeStep,
             resultBuilder
 
@@ -122,7 +122,7 @@ public class SimilarityAlgorithmsWriteModeBusinessFacade {
             configuration,
             KNN,
             () -> estimationFacade.knn(configuration),
-            (graph, __) -> similarityAlgorithms.knn(graph, configuration),
+            (graph, graphStore) -> similarityAlgorithms.knn(graph, graphStore, configuration),
             writeStep,
             resultBuilder
         );
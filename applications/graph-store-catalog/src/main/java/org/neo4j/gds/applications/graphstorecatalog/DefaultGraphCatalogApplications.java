@@ -33,6 +33,7 @@ import org.neo4j.gds.core.loading.CatalogRequest;
 import org.neo4j.gds.core.loading.GraphDropNodePropertiesResult;
 import org.neo4j.gds.core.loading.GraphDropRelationshipResult;
 import org.neo4j.gds.core.loading.GraphStoreCatalogEntry;
+import org.neo4j.gds.core.loading.GraphStoreCatalogLease;
 import org.neo4j.gds.core.loading.GraphStoreCatalogService;
 import org.neo4j.gds.core.utils.logging.GdsLoggers;
 import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
@@ -482,33 +483,35 @@ public class DefaultGraphCatalogApplications implements GraphCatalogApplications
 
         graphStoreCatalogService.ensureGraphExists(user, databaseId, originGraphName);
 
-        var originGraphConfiguration = graphStoreCatalogService.get(
+        try (var lease = graphStoreCatalogService.lease(
             CatalogRequest.of(user.getUsername(), databaseId),
             originGraphName
-        );
+        )) {
+            var originGraphConfiguration = lease.catalogEntry();
 
-        var configuration = catalogConfigurationService.parseSubGraphProjectConfiguration(
-            user,
-            graphName,
-            originGraphName,
-            nodeFilter,
-            relationshipFilter,
-            originGraphConfiguration,
-            rawConfiguration
-        );
-
-        var subGraphMetric = projectionMetricsService.createSubGraph();
-        try (subGraphMetric) {
-            subGraphMetric.start();
-            return subGraphProjectApplication.project(
-                taskRegistryFactory,
-                userLogRegistryFactory,
-                configuration,
-                originGraphConfiguration.graphStore()
+            var configuration = catalogConfigurationService.parseSubGraphProjectConfiguration(
+                user,
+                graphName,
+                originGraphName,
+                nodeFilter,
+                relationshipFilter,
+                originGraphConfiguration,
+                rawConfiguration
             );
-        } catch (Exception e) {
-            subGraphMetric.failed(e);
-            throw e;
+
+            var subGraphMetric = projectionMetricsService.createSubGraph();
+            try (subGraphMetric) {
+                subGraphMetric.start();
+                return subGraphProjectApplication.project(
+                    taskRegistryFactory,
+                    userLogRegistryFactory,
+                    configuration,
+                    originGraphConfiguration.graphStore()
+                );
+            } catch (Exception e) {
+                subGraphMetric.failed(e);
+                throw e;
+            }
         }
     }
 
@@ -546,27 +549,28 @@ public class DefaultGraphCatalogApplications implements GraphCatalogApplications
         );
 
         // melt this together, so you only obtain the graph store if it is valid? think it over
-        var graphStoreWithConfig = graphStoreCatalogService.get(CatalogRequest.of(user, databaseId), graphName);
-        var graphStore = graphStoreWithConfig.graphStore();
+        try (var lease = graphStoreCatalogService.lease(CatalogRequest.of(user, databaseId), graphName)) {
+            var graphStore = lease.catalogEntry().graphStore();
 
-        var droppedProperties = gatherDroppedProperties(
-            graphStore,
-            configuration.nodeProperties(),
-            configuration.failIfMissing()
-        );
+            var droppedProperties = gatherDroppedProperties(
+                graphStore,
+                configuration.nodeProperties(),
+                configuration.failIfMissing()
+            );
 
-        var numberOfPropertiesRemoved = dropNodePropertiesApplication.compute(
-            taskRegistryFactory,
-            userLogRegistryFactory,
-            droppedProperties,
-            graphStore
-        );
+            var numberOfPropertiesRemoved = dropNodePropertiesApplication.compute(
+                taskRegistryFactory,
+                userLogRegistryFactory,
+                droppedProperties,
+                graphStore
+            );
 
-        return new GraphDropNodePropertiesResult(
-            graphName.value(),
-            droppedProperties,
-            numberOfPropertiesRemoved
-        );
+            return new GraphDropNodePropertiesResult(
+                graphName.value(),
+                droppedProperties,
+                numberOfPropertiesRemoved
+            );
+        }
     }
 
     private List<String> gatherDroppedProperties(
@@ -593,20 +597,21 @@ public class DefaultGraphCatalogApplications implements GraphCatalogApplications
     ) {
         var graphName = graphNameValidationService.validate(graphNameAsString);
 
-        var graphStoreWithConfig = graphStoreCatalogService.get(CatalogRequest.of(user, databaseId), graphName);
-        var graphStore = graphStoreWithConfig.graphStore();
-        graphStoreValidationService.ensureRelationshipsMayBeDeleted(graphStore, relationshipType, graphName);
+        try (var lease = graphStoreCatalogService.lease(CatalogRequest.of(user, databaseId), graphName)) {
+            var graphStore = lease.catalogEntry().graphStore();
+            graphStoreValidationService.ensureRelationshipsMayBeDeleted(graphStore, relationshipType, graphName);
 
-        var result = dropRelationshipsApplication.compute(
-            taskRegistryFactory,
-            userLogRegistryFactory,
-            graphStore,
-            relationshipType
-        );
+            var result = dropRelationshipsApplication.compute(
+                taskRegistryFactory,
+                userLogRegistryFactory,
+                graphStore,
+                relationshipType
+            );
 
-        return new GraphDropRelationshipResult(
-            graphName.value(),
-            relationshipType, result.deletedRelationships(), result.deletedProperties());
+            return new GraphDropRelationshipResult(
+                graphName.value(),
+                relationshipType, result.deletedRelationships(), result.deletedProperties());
+        }
     }
 
     @Override
@@ -626,20 +631,21 @@ public class DefaultGraphCatalogApplications implements GraphCatalogApplications
             rawConfiguration
         );
 
-        var graphStoreWithConfig = graphStoreCatalogService.get(CatalogRequest.of(user, databaseId), graphName);
-        var graphStore = graphStoreWithConfig.graphStore();
-        graphStoreValidationService.ensureGraphPropertyExists(graphStore, graphProperty);
+        try (var lease = graphStoreCatalogService.lease(CatalogRequest.of(user, databaseId), graphName)) {
+            var graphStore = lease.catalogEntry().graphStore();
+            graphStoreValidationService.ensureGraphPropertyExists(graphStore, graphProperty);
 
-        var numberOfProperties = graphStore.graphPropertyValues(graphProperty).valueCount();
+            var numberOfProperties = graphStore.graphPropertyValues(graphProperty).valueCount();
 
-        try {
-            graphStore.removeGraphProperty(graphProperty);
-        } catch (RuntimeException e) {
-            log.warn("Graph property removal failed", e);
-            throw e;
-        }
+            try {
+                graphStore.removeGraphProperty(graphProperty);
+            } catch (RuntimeException e) {
+                log.warn("Graph property removal failed", e);
+                throw e;
+            }
 
-        return numberOfProperties;
+            return numberOfProperties;
+        }
     }
 
     @Override
@@ -652,20 +658,21 @@ public class DefaultGraphCatalogApplications implements GraphCatalogApplications
     ) {
         var graphName = graphNameValidationService.validate(graphNameAsString);
 
-        var graphStoreWithConfig = graphStoreCatalogService.get(CatalogRequest.of(user, databaseId), graphName);
-        var graphStore = graphStoreWithConfig.graphStore();
+        try (var lease = graphStoreCatalogService.lease(CatalogRequest.of(user, databaseId), graphName)) {
+            var graphStore = lease.catalogEntry().graphStore();
 
-        // stick in configuration service returning a pair?
-        var configuration = MutateLabelConfig.of(rawConfiguration);
-        var nodeFilter = NodeFilterParser.parseAndValidate(graphStore, configuration.nodeFilter());
+            // stick in configuration service returning a pair?
+            var configuration = MutateLabelConfig.of(rawConfiguration);
+            var nodeFilter = NodeFilterParser.parseAndValidate(graphStore, configuration.nodeFilter());
 
-        return nodeLabelMutatorApplication.compute(
-            graphStore,
-            graphName,
-            nodeLabel,
-            configuration,
-            nodeFilter
-        );
+            return nodeLabelMutatorApplication.compute(
+                graphStore,
+                graphName,
+                nodeLabel,
+                configuration,
+                nodeFilter
+            );
+        }
     }
 
     @Override
@@ -684,11 +691,16 @@ public class DefaultGraphCatalogApplications implements GraphCatalogApplications
             rawConfiguration
         );
 
-        var graphStoreWithConfig = graphStoreCatalogService.get(CatalogRequest.of(user, databaseId), graphName);
-        var graphStore = graphStoreWithConfig.graphStore();
-        graphStoreValidationService.ensureGraphPropertyExists(graphStore, graphProperty);
+        var lease = graphStoreCatalogService.lease(CatalogRequest.of(user, databaseId), graphName);
+        try {
+            var graphStore = lease.catalogEntry().graphStore();
+            graphStoreValidationService.ensureGraphPropertyExists(graphStore, graphProperty);
 
-        return graphStore.graphPropertyValues(graphProperty).objects();
+            return graphStore.graphPropertyValues(graphProperty).objects().onClose(lease::close);
+        } catch (RuntimeException e) {
+            lease.close();
+            throw e;
+        }
     }
 
     @Override
@@ -714,26 +726,31 @@ public class DefaultGraphCatalogApplications implements GraphCatalogApplications
         );
 
         // melt this together, so you only obtain the graph store if it is valid? think it over
-        var graphStoreWithConfig = graphStoreCatalogService.get(CatalogRequest.of(user, databaseId), graphName);
-        var graphStore = graphStoreWithConfig.graphStore();
-        var nodeLabels = configuration.nodeLabels();
-        var nodeLabelIdentifiers = configuration.nodeLabelIdentifiers(graphStore);
-        var nodeProperties = configuration.nodeProperties();
-        graphStoreValidationService.ensureNodePropertiesMatchNodeLabels(
-            graphStore,
-            nodeLabels,
-            nodeLabelIdentifiers,
-            nodeProperties
-        );
+        var lease = graphStoreCatalogService.lease(CatalogRequest.of(user, databaseId), graphName);
+        try {
+            var graphStore = lease.catalogEntry().graphStore();
+            var nodeLabels = configuration.nodeLabels();
+            var nodeLabelIdentifiers = configuration.nodeLabelIdentifiers(graphStore);
+            var nodeProperties = configuration.nodeProperties();
+            graphStoreValidationService.ensureNodePropertiesMatchNodeLabels(
+                graphStore,
+                nodeLabels,
+                nodeLabelIdentifiers,
+                nodeProperties
+            );
 
-        return streamNodePropertiesApplication.compute(
-            taskRegistryFactory,
-            userLogRegistryFactory,
-            graphStore,
-            configuration,
-            usesPropertyNameColumn,
-            outputMarshaller
-        );
+            return streamNodePropertiesApplication.compute(
+                taskRegistryFactory,
+                userLogRegistryFactory,
+                graphStore,
+                configuration,
+                usesPropertyNameColumn,
+                outputMarshaller
+            ).onClose(lease::close);
+        } catch (RuntimeException e) {
+            lease.close();
+            throw e;
+        }
     }
 
     @Override
@@ -758,18 +775,23 @@ public class DefaultGraphCatalogApplications implements GraphCatalogApplications
             rawConfiguration
         );
 
-        var graphStoreWithConfig = graphStoreCatalogService.get(CatalogRequest.of(user, databaseId), graphName);
-        var graphStore = graphStoreWithConfig.graphStore();
-        graphStoreValidationService.ensureRelationshipPropertiesMatchRelationshipTypes(graphStore, configuration);
+        var lease = graphStoreCatalogService.lease(CatalogRequest.of(user, databaseId), graphName);
+        try {
+            var graphStore = lease.catalogEntry().graphStore();
+            graphStoreValidationService.ensureRelationshipPropertiesMatchRelationshipTypes(graphStore, configuration);
 
-        return streamRelationshipPropertiesApplication.compute(
-            taskRegistryFactory,
-            userLogRegistryFactory,
-            graphStore,
-            configuration,
-            usesPropertyNameColumn,
-            outputMarshaller
-        );
+            return streamRelationshipPropertiesApplication.compute(
+                taskRegistryFactory,
+                userLogRegistryFactory,
+                graphStore,
+                configuration,
+                usesPropertyNameColumn,
+                outputMarshaller
+            ).onClose(lease::close);
+        } catch (RuntimeException e) {
+            lease.close();
+            throw e;
+        }
     }
 
     @Override
@@ -788,14 +810,19 @@ public class DefaultGraphCatalogApplications implements GraphCatalogApplications
             rawConfiguration
         );
 
-        var graphStoreWithConfig = graphStoreCatalogService.get(CatalogRequest.of(user, databaseId), graphName);
-        var graphStore = graphStoreWithConfig.graphStore();
-        graphStoreValidationService.ensureRelationshipTypesPresent(
-            graphStore,
-            configuration.relationshipTypeIdentifiers(graphStore)
-        );
+        var lease = graphStoreCatalogService.lease(CatalogRequest.of(user, databaseId), graphName);
+        try {
+            var graphStore = lease.catalogEntry().graphStore();
+            graphStoreValidationService.ensureRelationshipTypesPresent(
+                graphStore,
+                configuration.relationshipTypeIdentifiers(graphStore)
+            );
 
-        return streamRelationshipsApplication.compute(graphStore, configuration);
+            return streamRelationshipsApplication.compute(graphStore, configuration).onClose(lease::close);
+        } catch (RuntimeException e) {
+            lease.close();
+            throw e;
+        }
     }
 
     @Override
@@ -820,32 +847,34 @@ public class DefaultGraphCatalogApplications implements GraphCatalogApplications
             rawConfiguration
         );
 
-        var catalogEntry = graphStoreCatalogService.get(CatalogRequest.of(user, databaseId), graphName);
-        var graphStore = catalogEntry.graphStore();
-        var resultStore = catalogEntry.resultStore();
-        var nodeLabels = configuration.nodeLabels();
-        var nodeLabelIdentifiers = configuration.nodeLabelIdentifiers(graphStore);
-        var nodeProperties = configuration.nodeProperties().stream()
-            .map(UserInputWriteProperties.PropertySpec::nodeProperty)
-            .collect(Collectors.toList());
-
-        graphStoreValidationService.ensureNodePropertiesMatchNodeLabels(
-            graphStore,
-            nodeLabels,
-            nodeLabelIdentifiers,
-            nodeProperties
-        );
+        try (var lease = graphStoreCatalogService.lease(CatalogRequest.of(user, databaseId), graphName)) {
+            var catalogEntry = lease.catalogEntry();
+            var graphStore = catalogEntry.graphStore();
+            var resultStore = catalogEntry.resultStore();
+            var nodeLabels = configuration.nodeLabels();
+            var nodeLabelIdentifiers = configuration.nodeLabelIdentifiers(graphStore);
+            var nodeProperties = configuration.nodeProperties().stream()
+                .map(UserInputWriteProperties.PropertySpec::nodeProperty)
+                .collect(Collectors.toList());
+
+            graphStoreValidationService.ensureNodePropertiesMatchNodeLabels(
+                graphStore,
+                nodeLabels,
+                nodeLabelIdentifiers,
+                nodeProperties
+            );
 
-        return writeNodePropertiesApplication.write(
-            graphStore,
-            resultStore,
-            nodePropertyExporterBuilder,
-            taskRegistryFactory,
-            terminationFlag,
-            userLogRegistryFactory,
-            graphName,
-            configuration
-        );
+            return writeNodePropertiesApplication.write(
+                graphStore,
+                resultStore,
+                nodePropertyExporterBuilder,
+                taskRegistryFactory,
+                terminationFlag,
+                userLogRegistryFactory,
+                graphName,
+                configuration
+            );
+        }
     }
 
     @Override
@@ -862,28 +891,30 @@ public class DefaultGraphCatalogApplications implements GraphCatalogApplications
         var graphName = graphNameValidationService.validate(graphNameAsString);
 
         // why graphstore first here?
-        var catalogEntry = graphStoreCatalogService.get(CatalogRequest.of(user, databaseId), graphName);
-        var graphStore = catalogEntry.graphStore();
-        var resultStore = catalogEntry.resultStore();
-        graphStoreValidationService.ensureRelationshipPropertiesMatchRelationshipType(
-            graphStore,
-            relationshipType,
-            relationshipProperties
-        );
+        try (var lease = graphStoreCatalogService.lease(CatalogRequest.of(user, databaseId), graphName)) {
+            var catalogEntry = lease.catalogEntry();
+            var graphStore = catalogEntry.graphStore();
+            var resultStore = catalogEntry.resultStore();
+            graphStoreValidationService.ensureRelationshipPropertiesMatchRelationshipType(
+                graphStore,
+                relationshipType,
+                relationshipProperties
+            );
 
-        // maybe because this configuration is non-functionals only?
-        var configuration = catalogConfigurationService.parseWriteRelationshipPropertiesConfiguration(rawConfiguration);
+            // maybe because this configuration is non-functionals only?
+            var configuration = catalogConfigurationService.parseWriteRelationshipPropertiesConfiguration(rawConfiguration);
 
-        return writeRelationshipPropertiesApplication.compute(
-            relationshipPropertiesExporterBuilder,
-            terminationFlag,
-            graphStore,
-            resultStore,
-            graphName,
-            relationshipType,
-            relationshipProperties,
-            configuration
-        );
+            return writeRelationshipPropertiesApplication.compute(
+                relationshipPropertiesExporterBuilder,
+                terminationFlag,
+                graphStore,
+                resultStore,
+                graphName,
+                relationshipType,
+                relationshipProperties,
+                configuration
+            );
+        }
     }
 
     @Override
@@ -900,22 +931,24 @@ public class DefaultGraphCatalogApplications implements GraphCatalogApplications
 
         var configuration = WriteLabelConfig.of(rawConfiguration);
 
-        var catalogEntry = graphStoreCatalogService.get(CatalogRequest.of(user, databaseId), graphName);
-        var graphStore = catalogEntry.graphStore();
-        var resultStore = catalogEntry.resultStore();
+        try (var lease = graphStoreCatalogService.lease(CatalogRequest.of(user, databaseId), graphName)) {
+            var catalogEntry = lease.catalogEntry();
+            var graphStore = catalogEntry.graphStore();
+            var resultStore = catalogEntry.resultStore();
 
-        var nodeFilter = NodeFilterParser.parseAndValidate(graphStore, configuration.nodeFilter());
+            var nodeFilter = NodeFilterParser.parseAndValidate(graphStore, configuration.nodeFilter());
 
-        return writeNodeLabelApplication.compute(
-            nodeLabelExporterBuilder,
-            terminationFlag,
-            graphStore,
-            resultStore,
-            graphName,
-            nodeLabel,
-            configuration,
-            nodeFilter
-        );
+            return writeNodeLabelApplication.compute(
+                nodeLabelExporterBuilder,
+                terminationFlag,
+                graphStore,
+                resultStore,
+                graphName,
+                nodeLabel,
+                configuration,
+                nodeFilter
+            );
+        }
     }
 
     @Override
@@ -939,25 +972,27 @@ public class DefaultGraphCatalogApplications implements GraphCatalogApplications
             rawConfiguration
         );
 
-        var catalogEntry = graphStoreCatalogService.get(CatalogRequest.of(user, databaseId), graphName);
-        var graphStore = catalogEntry.graphStore();
-        var resultStore = catalogEntry.resultStore();
-        graphStoreValidationService.ensurePossibleRelationshipPropertyMatchesRelationshipType(
-            graphStore,
-            configuration.relationshipType(),
-            configuration.relationshipProperty()
-        );
+        try (var lease = graphStoreCatalogService.lease(CatalogRequest.of(user, databaseId), graphName)) {
+            var catalogEntry = lease.catalogEntry();
+            var graphStore = catalogEntry.graphStore();
+            var resultStore = catalogEntry.resultStore();
+            graphStoreValidationService.ensurePossibleRelationshipPropertyMatchesRelationshipType(
+                graphStore,
+                configuration.relationshipType(),
+                configuration.relationshipProperty()
+            );
 
-        return writeRelationshipsApplication.compute(
-            relationshipExporterBuilder,
-            taskRegistryFactory,
-            terminationFlag,
-            userLogRegistryFactory,
-            graphStore,
-            resultStore,
-            graphName,
-            configuration
-        );
+            return writeRelationshipsApplication.compute(
+                relationshipExporterBuilder,
+                taskRegistryFactory,
+                terminationFlag,
+                userLogRegistryFactory,
+                graphStore,
+                resultStore,
+                graphName,
+                configuration
+            );
+        }
     }
 
     @Override
@@ -1051,9 +1086,12 @@ public class DefaultGraphCatalogApplications implements GraphCatalogApplications
             rawConfiguration
         );
 
-        var graphStore = getGraphStoreAndValidateForExport(graphName, configuration);
+        try (var lease = leaseGraphStore(graphName, configuration)) {
+            var graphStore = lease.catalogEntry().graphStore();
+            validateForExport(graphStore, configuration);
 
-        return exportToCsvApplication.run(graphName, configuration, graphStore);
+            return exportToCsvApplication.run(graphName, configuration, graphStore);
+        }
     }
 
     @Override
@@ -1065,9 +1103,9 @@ public class DefaultGraphCatalogApplications implements GraphCatalogApplications
             rawConfiguration
         );
 
-        var graphStore = getGraphStore(graphName, configuration);
-
-        return exportToCsvEstimateApplication.run(configuration, graphStore);
+        try (var lease = leaseGraphStore(graphName, configuration)) {
+            return exportToCsvEstimateApplication.run(configuration, lease.catalogEntry().graphStore());
+        }
     }
 
     @Override
@@ -1076,34 +1114,29 @@ public class DefaultGraphCatalogApplications implements GraphCatalogApplications
 
         var configuration = catalogConfigurationService.parseGraphStoreToDatabaseExporterConfig(rawConfiguration);
 
-        var graphStore = getGraphStoreAndValidateForExport(graphName, configuration);
+        try (var lease = leaseGraphStore(graphName, configuration)) {
+            var graphStore = lease.catalogEntry().graphStore();
+            validateForExport(graphStore, configuration);
 
-        return exportToDatabaseApplication.run(graphName, configuration, graphStore);
+            return exportToDatabaseApplication.run(graphName, configuration, graphStore);
+        }
     }
 
-    private GraphStore getGraphStoreAndValidateForExport(
-        GraphName graphName,
-        GraphStoreExporterBaseConfig configuration
-    ) {
-        var graphStore = getGraphStore(graphName, configuration);
-
+    private void validateForExport(GraphStore graphStore, GraphStoreExporterBaseConfig configuration) {
         var shouldExportAdditionalNodeProperties = !configuration.additionalNodeProperties().mappings().isEmpty();
 
         graphStoreValidationService.ensureReadAccess(graphStore, shouldExportAdditionalNodeProperties);
         graphStoreValidationService.ensureNodePropertiesNotExist(graphStore, configuration.additionalNodeProperties());
-
-        return graphStore;
     }
 
-    private GraphStore getGraphStore(GraphName graphName, BaseConfig configuration) {
-        var graphStoreCatalogEntry = graphStoreCatalogService.getGraphStoreCatalogEntry(
-            graphName,
+    private GraphStoreCatalogLease leaseGraphStore(GraphName graphName, BaseConfig configuration) {
+        var catalogRequest = CatalogRequest.of(
             requestScopedDependencies.user(),
-            configuration.usernameOverride(),
-            requestScopedDependencies.databaseId()
+            requestScopedDependencies.databaseId(),
+            configuration.usernameOverride()
         );
 
-        return graphStoreCatalogEntry.graphStore();
+        return graphStoreCatalogService.lease(catalogRequest, graphName);
     }
 
     private RandomWalkSamplingResult sampleRandomWalk(
@@ -1120,30 +1153,31 @@ public class DefaultGraphCatalogApplications implements GraphCatalogApplications
         var graphName = ensureGraphNameValidAndUnknown(user, databaseId, graphNameAsString);
         var originGraphName = GraphName.parse(originGraphNameAsString);
 
-        var catalogEntry = graphStoreCatalogService.get(CatalogRequest.of(user, databaseId), originGraphName);
-        var graphStore = catalogEntry.graphStore();
-        var graphProjectConfig = catalogEntry.config();
-
-        var samplingMetric = projectionMetricsService.createRandomWakSampling(samplerType.name());
-        try (samplingMetric) {
-            samplingMetric.start();
-            return graphSamplingApplication.sample(
-                user,
-                taskRegistryFactory,
-                userLogRegistryFactory,
-                graphStore,
-                graphProjectConfig,
-                terminationFlag,
-                originGraphName,
-                graphName,
-                configuration,
-                samplerType
-            );
-        } catch (Exception e) {
-            samplingMetric.failed(e);
-            throw e;
+        try (var lease = graphStoreCatalogService.lease(CatalogRequest.of(user, databaseId), originGraphName)) {
+            var catalogEntry = lease.catalogEntry();
+            var graphStore = catalogEntry.graphStore();
+            var graphProjectConfig = catalogEntry.config();
+
+            var samplingMetric = projectionMetricsService.createRandomWakSampling(samplerType.name());
+            try (samplingMetric) {
+                samplingMetric.start();
+                return graphSamplingApplication.sample(
+                    user,
+                    taskRegistryFactory,
+                    userLogRegistryFactory,
+                    graphStore,
+                    graphProjectConfig,
+                    terminationFlag,
+                    originGraphName,
+                    graphName,
+                    configuration,
+                    samplerType
+                );
+            } catch (Exception e) {
+                samplingMetric.failed(e);
+                throw e;
+            }
         }
-
     }
 
     private GraphName ensureGraphNameValidAndUnknown(User user, DatabaseId databaseId, String graphNameAsString) {
@@ -33,18 +33,20 @@ class EstimateCommonNeighbourAwareRandomWalkApplication {
         String graphName,
         CommonNeighbourAwareRandomWalkConfig configuration
     ) {
-        var loader = new GraphStoreFromCatalogLoader(
+        try (var loader = new GraphStoreFromCatalogLoader(
             graphName,
             configuration,
             user.getUsername(),
             databaseId,
             user.isAdmin()
-        );
+        )) {
+            var graphDimensions = loader.graphDimensions();
 
-        var memoryTree = CommonNeighbourAwareRandomWalk
-            .memoryEstimation(configuration)
-            .estimate(loader.graphDimensions(), configuration.concurrency());
+            var memoryTree = CommonNeighbourAwareRandomWalk
+                .memoryEstimation(configuration)
+                .estimate(graphDimensions, configuration.concurrency());
 
-        return MemoryEstimateResultFactory.from(memoryTree, loader.graphDimensions());
+            return MemoryEstimateResultFactory.from(memoryTree, graphDimensions);
+        }
     }
 }
@@ -28,12 +28,16 @@ import org.neo4j.gds.config.BaseConfig;
 import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
-import org.neo4j.gds.core.loading.GraphStoreCatalogEntry;
+import org.neo4j.gds.core.loading.GraphStoreCatalogLease;
 import org.neo4j.gds.core.loading.ImmutableCatalogRequest;
 
+/**
+ * Leases the graph from the catalog, so that it is not evicted before the loader is closed.
+ */
 public final class GraphStoreFromCatalogLoader implements GraphStoreLoader {
 
     private final AlgoBaseConfig config;
+    private final GraphStoreCatalogLease lease;
     private final GraphStore graphStore;
     private final ResultStore resultStore;
     private final GraphProjectConfig graphProjectConfig;
@@ -46,7 +50,8 @@ public final class GraphStoreFromCatalogLoader implements GraphStoreLoader {
         boolean isGdsAdmin
     ) {
         this.config = config;
-        var catalogEntry = graphStoreFromCatalog(graphName, config, username, databaseId, isGdsAdmin);
+        this.lease = leaseGraphStoreFromCatalog(graphName, config, username, databaseId, isGdsAdmin);
+        var catalogEntry = lease.catalogEntry();
         this.graphStore = catalogEntry.graphStore();
         this.resultStore = catalogEntry.resultStore();
         this.graphProjectConfig = catalogEntry.config();
@@ -72,7 +77,12 @@ public final class GraphStoreFromCatalogLoader implements GraphStoreLoader {
         return new GraphDimensionFactory().create(graphStore(), config);
     }
 
-    private static GraphStoreCatalogEntry graphStoreFromCatalog(
+    @Override
+    public void close() {
+        lease.close();
+    }
+
+    private static GraphStoreCatalogLease leaseGraphStoreFromCatalog(
         String graphName,
         BaseConfig config,
         String username,
@@ -85,6 +95,6 @@ public final class GraphStoreFromCatalogLoader implements GraphStoreLoader {
             config.usernameOverride(),
             isGdsAdmin
         );
-        return GraphStoreCatalog.get(request, graphName);
+        return GraphStoreCatalog.lease(request, graphName);
     }
 }
@@ -24,7 +24,7 @@ import org.neo4j.gds.api.ResultStore;
 import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.core.GraphDimensions;
 
-public interface GraphStoreLoader {
+public interface GraphStoreLoader extends AutoCloseable {
     GraphProjectConfig graphProjectConfig();
 
     GraphStore graphStore();
@@ -32,4 +32,10 @@ public interface GraphStoreLoader {
     ResultStore resultStore();
 
     GraphDimensions graphDimensions();
+
+    /**
+     * Releases the graph store, e.g. a lease on a graph in the catalog.
+     */
+    @Override
+    default void close() {}
 }
@@ -38,17 +38,17 @@ class GraphStoreFromCatalogLoaderTest {
 
     @Test
     void testGraphDimensions() {
-        var loader = new GraphStoreFromCatalogLoader(
+        try (var loader = new GraphStoreFromCatalogLoader(
             "graph",
             new TestAlgoBaseConfig(),
             "",
             DATABASE_ID,
             false
-        );
-
-        assertThat(loader.graphDimensions().nodePropertyDimensions().get("p")).contains(1);
-        assertThat(loader.graphDimensions().nodePropertyDimensions().get("q")).contains(3);
-        assertThat(loader.graphDimensions().nodePropertyDimensions().get("NOTHERE")).isEmpty();
+        )) {
+            assertThat(loader.graphDimensions().nodePropertyDimensions().get("p")).contains(1);
+            assertThat(loader.graphDimensions().nodePropertyDimensions().get("q")).contains(3);
+            assertThat(loader.graphDimensions().nodePropertyDimensions().get("NOTHERE")).isEmpty();
+        }
     }
 
 
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.compression;
+
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Measures how long it takes to compress all adjacency lists of a generated graph
+ * with each of the available compressors.
+ * At the end of every trial the resulting size in bytes per relationship is printed,
+ * so that compression ratio and speed can be compared for the same input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AdjacencyCompressionBenchmark {
+
+    @Param
+    public AdjacencyListType adjacencyListType;
+
+    @Param
+    public RelationshipDistribution distribution;
+
+    @Param({"100000"})
+    public long nodeCount;
+
+    @Param({"50"})
+    public long averageDegree;
+
+    private AdjacencyInput input;
+    private long[] buffer;
+
+    @Setup
+    public void setup() {
+        adjacencyListType.activate();
+        input = AdjacencyInput.generate(nodeCount, averageDegree, distribution, 42L);
+        buffer = input.newBuffer();
+    }
+
+    @TearDown
+    public void tearDown() {
+        var adjacencyList = input.compress(adjacencyListType, buffer);
+        System.out.println(formatWithLocale(
+            "%n%s / %s: %.3f bytes per relationship",
+            adjacencyListType,
+            distribution,
+            bytesPerRelationship(adjacencyList, input.relationshipCount())
+        ));
+        AdjacencyListType.reset();
+    }
+
+    @Benchmark
+    public AdjacencyList compress() {
+        return input.compress(adjacencyListType, buffer);
+    }
+
+    static double bytesPerRelationship(AdjacencyList adjacencyList, long relationshipCount) {
+        var bytes = adjacencyList.memoryInfo().bytesTotal().orElse(0L);
+        return relationshipCount == 0 ? 0.0 : (double) bytes / relationshipCount;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.compression;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the decoding speed of {@link AdjacencyCursor}s for each adjacency list type.
+ * Every benchmark visits all nodes once, reusing a single cursor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AdjacencyCursorBenchmark {
+
+    @Param
+    public AdjacencyListType adjacencyListType;
+
+    @Param
+    public RelationshipDistribution distribution;
+
+    @Param({"100000"})
+    public long nodeCount;
+
+    @Param({"50"})
+    public long averageDegree;
+
+    private AdjacencyList adjacencyList;
+    private AdjacencyCursor cursor;
+    private int nodes;
+
+    // the median target of each adjacency list, used for `skipUntil`
+    private long[] medianTargets;
+    // half of the degree of each adjacency list, used for `advanceBy`
+    private int[] halfDegrees;
+
+    @Setup
+    public void setup() {
+        adjacencyListType.activate();
+
+        var input = AdjacencyInput.generate(nodeCount, averageDegree, distribution, 42L);
+        adjacencyList = input.compress(adjacencyListType, input.newBuffer());
+        cursor = adjacencyList.rawAdjacencyCursor();
+        nodes = input.nodeCount();
+
+        medianTargets = new long[nodes];
+        halfDegrees = new int[nodes];
+        for (int nodeId = 0; nodeId < nodes; nodeId++) {
+            var sortedTargets = input.targets(nodeId).clone();
+            Arrays.sort(sortedTargets);
+            int degree = sortedTargets.length;
+            medianTargets[nodeId] = degree == 0 ? 0 : sortedTargets[degree / 2];
+            halfDegrees[nodeId] = degree / 2;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        AdjacencyListType.reset();
+    }
+
+    @Benchmark
+    public long nextVLong() {
+        long sum = 0;
+        var cursor = this.cursor;
+        for (int nodeId = 0; nodeId < nodes; nodeId++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, nodeId);
+            while (cursor.hasNextVLong()) {
+                sum += cursor.nextVLong();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long skipUntil() {
+        long sum = 0;
+        var cursor = this.cursor;
+        for (int nodeId = 0; nodeId < nodes; nodeId++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, nodeId);
+            sum += cursor.skipUntil(medianTargets[nodeId]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long advanceBy() {
+        long sum = 0;
+        var cursor = this.cursor;
+        for (int nodeId = 0; nodeId < nodes; nodeId++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, nodeId);
+            sum += cursor.advanceBy(halfDegrees[nodeId]);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.compression;
+
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.config.RandomGraphGeneratorConfig.AllowSelfLoops;
+import org.neo4j.gds.core.compression.packed.AdjacencyPacking;
+import org.neo4j.gds.mem.BitUtil;
+
+import java.util.Arrays;
+
+/**
+ * Uncompressed adjacency lists, sampled from a {@link RandomGraphGenerator} graph.
+ * Used as the input for the compression benchmarks and as the ground truth
+ * for building adjacency lists of all types from the same topology.
+ */
+public final class AdjacencyInput {
+
+    private final long[][] targets;
+    private final long relationshipCount;
+    private final int maxDegree;
+
+    public static AdjacencyInput generate(
+        long nodeCount,
+        long averageDegree,
+        RelationshipDistribution distribution,
+        long seed
+    ) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .allowSelfLoops(AllowSelfLoops.YES)
+            .seed(seed)
+            .build()
+            .generate();
+
+        var targets = new long[Math.toIntExact(nodeCount)][];
+        long relationshipCount = 0;
+        int maxDegree = 0;
+
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            int degree = graph.degree(nodeId);
+            var nodeTargets = new long[degree];
+            int[] index = {0};
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                nodeTargets[index[0]++] = target;
+                return true;
+            });
+            targets[nodeId] = nodeTargets;
+            relationshipCount += degree;
+            maxDegree = Math.max(maxDegree, degree);
+        }
+
+        return new AdjacencyInput(targets, relationshipCount, maxDegree);
+    }
+
+    private AdjacencyInput(long[][] targets, long relationshipCount, int maxDegree) {
+        this.targets = targets;
+        this.relationshipCount = relationshipCount;
+        this.maxDegree = maxDegree;
+    }
+
+    public int nodeCount() {
+        return targets.length;
+    }
+
+    public long relationshipCount() {
+        return relationshipCount;
+    }
+
+    public int degree(int nodeId) {
+        return targets[nodeId].length;
+    }
+
+    public long[] targets(int nodeId) {
+        return targets[nodeId];
+    }
+
+    /**
+     * Returns a buffer that can hold any adjacency list of this input.
+     * The packed compressors work in blocks and require the buffer
+     * length to be a multiple of {@link AdjacencyPacking#BLOCK_SIZE}.
+     */
+    public long[] newBuffer() {
+        return new long[Math.toIntExact(BitUtil.align(Math.max(1, maxDegree), AdjacencyPacking.BLOCK_SIZE))];
+    }
+
+    /**
+     * Compresses all adjacency lists of this input using the given type.
+     * The compressors modify their input, so every list is copied into {@code buffer} first.
+     */
+    public AdjacencyList compress(AdjacencyListType type, long[] buffer) {
+        var factory = type.compressorFactory(nodeCount());
+        factory.init();
+
+        try (var compressor = factory.createCompressor()) {
+            for (int nodeId = 0; nodeId < targets.length; nodeId++) {
+                var nodeTargets = targets[nodeId];
+                int degree = nodeTargets.length;
+                System.arraycopy(nodeTargets, 0, buffer, 0, degree);
+                Arrays.fill(buffer, degree, (int) BitUtil.align(degree, AdjacencyPacking.BLOCK_SIZE), 0L);
+                compressor.compress(nodeId, buffer, null, degree);
+            }
+        }
+
+        return factory.build(false).adjacency();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.compression;
+
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.loading.AdjacencyListBehavior;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.neo4j.gds.utils.GdsFeatureToggles.AdjacencyPackingStrategy;
+
+import java.util.function.LongSupplier;
+
+/**
+ * All adjacency list flavours that can be selected via {@link AdjacencyListBehavior}
+ * and the {@link GdsFeatureToggles} that control them.
+ * Packed variants are expanded into one entry per {@link AdjacencyPackingStrategy}.
+ */
+public enum AdjacencyListType {
+    VAR_LONG {
+        @Override
+        AdjacencyCompressorFactory createFactory(LongSupplier nodeCount, Aggregation[] aggregations) {
+            return AdjacencyListBehavior.compressed(nodeCount, PropertyMappings.of(), aggregations, true);
+        }
+    },
+    UNCOMPRESSED {
+        @Override
+        AdjacencyCompressorFactory createFactory(LongSupplier nodeCount, Aggregation[] aggregations) {
+            return AdjacencyListBehavior.uncompressed(nodeCount, PropertyMappings.of(), aggregations, true);
+        }
+    },
+    MIXED {
+        @Override
+        AdjacencyCompressorFactory createFactory(LongSupplier nodeCount, Aggregation[] aggregations) {
+            return AdjacencyListBehavior.mixed(nodeCount, PropertyMappings.of(), aggregations, true);
+        }
+    },
+    PACKED_BLOCK_ALIGNED_TAIL(AdjacencyPackingStrategy.BLOCK_ALIGNED_TAIL),
+    PACKED_VAR_LONG_TAIL(AdjacencyPackingStrategy.VAR_LONG_TAIL),
+    PACKED_PACKED_TAIL(AdjacencyPackingStrategy.PACKED_TAIL),
+    PACKED_INLINED_HEAD_PACKED_TAIL(AdjacencyPackingStrategy.INLINED_HEAD_PACKED_TAIL);
+
+    private final AdjacencyPackingStrategy packingStrategy;
+
+    AdjacencyListType() {
+        this(GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY_DEFAULT_SETTING);
+    }
+
+    AdjacencyListType(AdjacencyPackingStrategy packingStrategy) {
+        this.packingStrategy = packingStrategy;
+    }
+
+    /**
+     * Creates a compressor factory for adjacency lists without properties.
+     * The packing strategy is read by the packed compressor and the packed
+     * adjacency list, so {@link #activate()} must have been called beforehand.
+     */
+    public AdjacencyCompressorFactory compressorFactory(long nodeCount) {
+        return createFactory(() -> nodeCount, new Aggregation[]{Aggregation.NONE});
+    }
+
+    /**
+     * Sets the global toggles so that graphs created via the regular
+     * loading path use this adjacency list type.
+     */
+    public void activate() {
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(isPacked());
+        GdsFeatureToggles.USE_MIXED_ADJACENCY_LIST.toggle(this == MIXED);
+        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.toggle(this == UNCOMPRESSED);
+        GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.set(this.packingStrategy);
+    }
+
+    public static void reset() {
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.reset();
+        GdsFeatureToggles.USE_MIXED_ADJACENCY_LIST.reset();
+        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.reset();
+        GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.set(GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY_DEFAULT_SETTING);
+    }
+
+    boolean isPacked() {
+        return name().startsWith("PACKED_");
+    }
+
+    AdjacencyCompressorFactory createFactory(LongSupplier nodeCount, Aggregation[] aggregations) {
+        return AdjacencyListBehavior.packed(nodeCount, PropertyMappings.of(), aggregations, true);
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.similarity;
+
+import org.neo4j.gds.core.utils.Intersections;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Measures the similarity kernels in {@link Intersections}.
+ * Every benchmark computes the similarity between {@link #PAIRS} pairs of vectors.
+ * <p>
+ * The kernels are selected once per JVM, so the scalar and the vectorized kernels
+ * are measured by {@link Scalar} and {@link Vectorized}, which only differ in the JVM
+ * arguments of their forks. Before measuring, every trial verifies that the
+ * selected kernels agree with a plain scalar reference implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public abstract class SimilarityKernelsBenchmark {
+
+    static final int PAIRS = 1024;
+
+    private static final double DOUBLE_TOLERANCE = 1e-9;
+    private static final double FLOAT_TOLERANCE = 1e-3;
+
+    @Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+    public static class Scalar extends SimilarityKernelsBenchmark {}
+
+    @Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "--add-modules=jdk.incubator.vector"})
+    public static class Vectorized extends SimilarityKernelsBenchmark {}
+
+    @Param({"16", "64", "256", "1024"})
+    public int dimension;
+
+    private double[][] doubleVectors;
+    private float[][] floatVectors;
+
+    @Setup
+    public void setup() {
+        var random = new SplittableRandom(42L);
+        doubleVectors = new double[2 * PAIRS][dimension];
+        floatVectors = new float[2 * PAIRS][dimension];
+        for (int i = 0; i < 2 * PAIRS; i++) {
+            for (int j = 0; j < dimension; j++) {
+                doubleVectors[i][j] = random.nextDouble(-1, 1);
+                floatVectors[i][j] = (float) random.nextDouble(-1, 1);
+            }
+        }
+        verifyParity();
+    }
+
+    @Benchmark
+    public double cosineDouble() {
+        double sum = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            sum += Intersections.cosine(doubleVectors[2 * i], doubleVectors[2 * i + 1], dimension);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double cosineFloat() {
+        double sum = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            sum += Intersections.cosine(floatVectors[2 * i], floatVectors[2 * i + 1], dimension);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double sumSquareDeltaDouble() {
+        double sum = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            sum += Intersections.sumSquareDelta(doubleVectors[2 * i], doubleVectors[2 * i + 1], dimension);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double sumSquareDeltaFloat() {
+        double sum = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            sum += Intersections.sumSquareDeltaAsDouble(floatVectors[2 * i], floatVectors[2 * i + 1], dimension);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double pearsonDouble() {
+        double sum = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            sum += Intersections.pearsonCorrelation(doubleVectors[2 * i], doubleVectors[2 * i + 1], dimension);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double pearsonFloat() {
+        double sum = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            sum += Intersections.pearsonCorrelation(floatVectors[2 * i], floatVectors[2 * i + 1], dimension);
+        }
+        return sum;
+    }
+
+    private void verifyParity() {
+        for (int i = 0; i < PAIRS; i++) {
+            var left = doubleVectors[2 * i];
+            var right = doubleVectors[2 * i + 1];
+            var leftFloats = floatVectors[2 * i];
+            var rightFloats = floatVectors[2 * i + 1];
+
+            assertClose(
+                "cosine(double[])",
+                Intersections.cosine(left, right, dimension),
+                Reference.cosine(left, right),
+                DOUBLE_TOLERANCE
+            );
+            assertClose(
+                "cosine(float[])",
+                Intersections.cosine(leftFloats, rightFloats, dimension),
+                Reference.cosine(toDoubles(leftFloats), toDoubles(rightFloats)),
+                FLOAT_TOLERANCE
+            );
+            assertClose(
+                "sumSquareDelta(double[])",
+                Intersections.sumSquareDelta(left, right, dimension),
+                Reference.sumSquareDelta(left, right),
+                DOUBLE_TOLERANCE
+            );
+            assertClose(
+                "sumSquareDeltaAsDouble(float[])",
+                Intersections.sumSquareDeltaAsDouble(leftFloats, rightFloats, dimension),
+                Reference.sumSquareDelta(toDoubles(leftFloats), toDoubles(rightFloats)),
+                DOUBLE_TOLERANCE
+            );
+            assertClose(
+                "pearsonCorrelation(double[])",
+                Intersections.pearsonCorrelation(left, right, dimension),
+                Reference.pearson(left, right),
+                DOUBLE_TOLERANCE
+            );
+            assertClose(
+                "pearsonCorrelation(float[])",
+                Intersections.pearsonCorrelation(leftFloats, rightFloats, dimension),
+                Reference.pearson(toDoubles(leftFloats), toDoubles(rightFloats)),
+                DOUBLE_TOLERANCE
+            );
+        }
+    }
+
+    private static void assertClose(String kernel, double actual, double expected, double tolerance) {
+        if (Math.abs(actual - expected) > tolerance * Math.max(1.0, Math.abs(expected))) {
+            throw new IllegalStateException(formatWithLocale(
+                "Kernel %s computed %f, but the reference is %f",
+                kernel,
+                actual,
+                expected
+            ));
+        }
+    }
+
+    private static double[] toDoubles(float[] values) {
+        var doubles = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            doubles[i] = values[i];
+        }
+        return doubles;
+    }
+
+    /**
+     * The scalar kernels, independent of whatever {@link Intersections} uses.
+     */
+    private static final class Reference {
+
+        static double cosine(double[] left, double[] right) {
+            double dotProduct = 0;
+            double leftLength = 0;
+            double rightLength = 0;
+            for (int i = 0; i < left.length; i++) {
+                dotProduct += left[i] * right[i];
+                leftLength += left[i] * left[i];
+                rightLength += right[i] * right[i];
+            }
+            return dotProduct / Math.sqrt(leftLength * rightLength);
+        }
+
+        static double sumSquareDelta(double[] left, double[] right) {
+            double result = 0;
+            for (int i = 0; i < left.length; i++) {
+                double delta = left[i] - right[i];
+                result += delta * delta;
+            }
+            return result;
+        }
+
+        static double pearson(double[] left, double[] right) {
+            double leftMean = 0;
+            double rightMean = 0;
+            for (int i = 0; i < left.length; i++) {
+                leftMean += left[i];
+                rightMean += right[i];
+            }
+            leftMean /= left.length;
+            rightMean /= right.length;
+
+            double dotProduct = 0;
+            double leftLength = 0;
+            double rightLength = 0;
+            for (int i = 0; i < left.length; i++) {
+                double leftDelta = left[i] - leftMean;
+                double rightDelta = right[i] - rightMean;
+                dotProduct += leftDelta * rightDelta;
+                leftLength += leftDelta * leftDelta;
+                rightLength += rightDelta * rightDelta;
+            }
+            return dotProduct / Math.sqrt(leftLength * rightLength);
+        }
+
+        private Reference() {}
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.collections.ha;
+
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.HugeArrays;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import static org.neo4j.gds.mem.Estimate.sizeOfInstance;
+import static org.neo4j.gds.mem.Estimate.sizeOfLongArray;
+import static org.neo4j.gds.mem.Estimate.sizeOfObjectArray;
+
+/**
+ * A long-indexable matrix of bits with a fixed number of columns, e.g. one binary embedding per node.
+ * <p>
+ * Every row is stored as a fixed number of 64-bit words, and the rows are stored
+ * back to back in pages of primitive {@code long[]}. A row never spans two pages.
+ * Compared to one bit set object per row, this needs no per-row objects at all.
+ *
+ * <ul>
+ * <li>The matrix is of a fixed size and cannot grow or shrink dynamically.</li>
+ * <li>Unset bits are {@code false}.</li>
+ * <li>Writes are not atomic. Different rows can be written concurrently, a single row must only
+ * be written by one thread at a time.</li>
+ * </ul>
+ */
+public final class HugeBitMatrix {
+
+    private static final int NUM_BITS = Long.SIZE;
+
+    private final long rows;
+    private final int columns;
+    private final int wordsPerRow;
+    private final int pageShift;
+    private final long pageMask;
+    private final long[][] pages;
+
+    public static HugeBitMatrix newMatrix(long rows, int columns) {
+        assert rows >= 0 && columns >= 0;
+
+        var wordsPerRow = wordsPerRow(columns);
+        var rowsPerPage = rowsPerPage(wordsPerRow);
+        var pageShift = Integer.numberOfTrailingZeros(rowsPerPage);
+        var pageMask = rowsPerPage - 1L;
+
+        var numPages = HugeArrays.numberOfPages(rows, pageShift, pageMask);
+        var pages = new long[numPages][];
+        for (int page = 0; page < numPages; page++) {
+            long rowsInPage = Math.min(rowsPerPage, rows - ((long) page << pageShift));
+            pages[page] = new long[Math.toIntExact(rowsInPage * wordsPerRow)];
+        }
+
+        return new HugeBitMatrix(rows, columns, wordsPerRow, pageShift, pageMask, pages);
+    }
+
+    public static long memoryEstimation(long rows, int columns) {
+        assert rows >= 0 && columns >= 0;
+
+        var wordsPerRow = wordsPerRow(columns);
+        var rowsPerPage = rowsPerPage(wordsPerRow);
+        var pageShift = Integer.numberOfTrailingZeros(rowsPerPage);
+        var numPages = HugeArrays.numberOfPages(rows, pageShift, rowsPerPage - 1L);
+
+        long memoryUsed = sizeOfInstance(HugeBitMatrix.class) + sizeOfObjectArray(numPages);
+        if (numPages > 0) {
+            long rowsInLastPage = rows - ((long) (numPages - 1) << pageShift);
+            memoryUsed += (numPages - 1) * sizeOfLongArray((long) rowsPerPage * wordsPerRow);
+            memoryUsed += sizeOfLongArray(rowsInLastPage * wordsPerRow);
+        }
+        return memoryUsed;
+    }
+
+    private HugeBitMatrix(
+        long rows,
+        int columns,
+        int wordsPerRow,
+        int pageShift,
+        long pageMask,
+        long[][] pages
+    ) {
+        this.rows = rows;
+        this.columns = columns;
+        this.wordsPerRow = wordsPerRow;
+        this.pageShift = pageShift;
+        this.pageMask = pageMask;
+        this.pages = pages;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public int columns() {
+        return columns;
+    }
+
+    public int wordsPerRow() {
+        return wordsPerRow;
+    }
+
+    /**
+     * Returns the 64 bits of the given row starting at column {@code wordIndex * 64}.
+     * The bit for column {@code c} is {@code 1L << (c % 64)} of word {@code c / 64}.
+     */
+    public long word(long row, int wordIndex) {
+        assert wordIndex < wordsPerRow;
+        return pages[pageIndex(row)][offset(row) + wordIndex];
+    }
+
+    public boolean get(long row, int column) {
+        assert column < columns : "column " + column + " is out of bounds for " + columns + " columns";
+        long word = pages[pageIndex(row)][offset(row) + (column >>> 6)];
+        return (word & (1L << column)) != 0;
+    }
+
+    public void set(long row, int column) {
+        assert column < columns : "column " + column + " is out of bounds for " + columns + " columns";
+        pages[pageIndex(row)][offset(row) + (column >>> 6)] |= 1L << column;
+    }
+
+    /**
+     * Sets the bit and returns whether it was set before.
+     */
+    public boolean getAndSet(long row, int column) {
+        assert column < columns : "column " + column + " is out of bounds for " + columns + " columns";
+        var page = pages[pageIndex(row)];
+        int wordIndex = offset(row) + (column >>> 6);
+        long bitMask = 1L << column;
+        long word = page[wordIndex];
+        page[wordIndex] = word | bitMask;
+        return (word & bitMask) != 0;
+    }
+
+    /**
+     * Returns the number of set bits in the given row.
+     */
+    public int cardinality(long row) {
+        var page = pages[pageIndex(row)];
+        int offset = offset(row);
+        int cardinality = 0;
+        for (int i = 0; i < wordsPerRow; i++) {
+            cardinality += Long.bitCount(page[offset + i]);
+        }
+        return cardinality;
+    }
+
+    /**
+     * Calls the consumer for every set bit in the given row, in increasing order of the columns.
+     */
+    public void forEachSetBit(long row, IntConsumer consumer) {
+        var page = pages[pageIndex(row)];
+        int offset = offset(row);
+        for (int i = 0; i < wordsPerRow; i++) {
+            long word = page[offset + i];
+            while (word != 0) {
+                consumer.accept((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    public void clearRow(long row) {
+        int offset = offset(row);
+        Arrays.fill(pages[pageIndex(row)], offset, offset + wordsPerRow, 0L);
+    }
+
+    /**
+     * Clears all bits of the matrix.
+     */
+    public void clear() {
+        for (long[] page : pages) {
+            Arrays.fill(page, 0L);
+        }
+    }
+
+    private int pageIndex(long row) {
+        return HugeArrays.pageIndex(row, pageShift);
+    }
+
+    private int offset(long row) {
+        return HugeArrays.indexInPage(row, pageMask) * wordsPerRow;
+    }
+
+    private static int wordsPerRow(int columns) {
+        return (columns + NUM_BITS - 1) / NUM_BITS;
+    }
+
+    private static int rowsPerPage(int wordsPerRow) {
+        if (wordsPerRow == 0) {
+            return HugeArrays.PAGE_SIZE;
+        }
+        if (wordsPerRow >= HugeArrays.PAGE_SIZE) {
+            return 1;
+        }
+        return BitUtil.previousPowerOfTwo(HugeArrays.PAGE_SIZE / wordsPerRow);
+    }
+}
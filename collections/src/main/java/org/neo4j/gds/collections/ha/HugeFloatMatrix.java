@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.collections.ha;
+
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.HugeArrays;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.mem.Estimate.sizeOfFloatArray;
+import static org.neo4j.gds.mem.Estimate.sizeOfInstance;
+import static org.neo4j.gds.mem.Estimate.sizeOfObjectArray;
+
+/**
+ * A long-indexable matrix of floats with a fixed number of columns, e.g. one embedding per node.
+ * <p>
+ * The values are stored row-major in pages of primitive {@code float[]}, which replaces
+ * one {@code float[]} object per row, as in {@code HugeObjectArray<float[]>}, by a few large arrays.
+ * A row never spans two pages, and every row starts at a multiple of {@link #ROW_ALIGNMENT} floats
+ * (64 bytes) from the start of its page, so that a row touches as few cache lines as possible.
+ *
+ * <ul>
+ * <li>The matrix is of a fixed size and cannot grow or shrink dynamically.</li>
+ * <li>Unset values are {@code 0}.</li>
+ * <li>Different rows can be written concurrently, a single row must not.</li>
+ * </ul>
+ *
+ * <p><em>Basic Usage</em></p>
+ * <pre>
+ * {@code}
+ * HugeFloatMatrix matrix = HugeFloatMatrix.newMatrix(nodeCount, 128);
+ * matrix.set(13L, 7, 37F);
+ * float value = matrix.get(13L, 7);
+ * // value = 37F
+ * {@code}
+ * </pre>
+ */
+public final class HugeFloatMatrix {
+
+    static final int ROW_ALIGNMENT = 16;
+
+    private final long rows;
+    private final int columns;
+    private final int rowStride;
+    private final int pageShift;
+    private final long pageMask;
+    private final float[][] pages;
+
+    public static HugeFloatMatrix newMatrix(long rows, int columns) {
+        assert rows >= 0 && columns >= 0;
+
+        var rowStride = rowStride(columns);
+        var rowsPerPage = rowsPerPage(rowStride);
+        var pageShift = Integer.numberOfTrailingZeros(rowsPerPage);
+        var pageMask = rowsPerPage - 1L;
+
+        var numPages = HugeArrays.numberOfPages(rows, pageShift, pageMask);
+        var pages = new float[numPages][];
+        for (int page = 0; page < numPages; page++) {
+            long rowsInPage = Math.min(rowsPerPage, rows - ((long) page << pageShift));
+            pages[page] = new float[Math.toIntExact(rowsInPage * rowStride)];
+        }
+
+        return new HugeFloatMatrix(rows, columns, rowStride, pageShift, pageMask, pages);
+    }
+
+    public static long memoryEstimation(long rows, int columns) {
+        assert rows >= 0 && columns >= 0;
+
+        var rowStride = rowStride(columns);
+        var rowsPerPage = rowsPerPage(rowStride);
+        var pageShift = Integer.numberOfTrailingZeros(rowsPerPage);
+        var numPages = HugeArrays.numberOfPages(rows, pageShift, rowsPerPage - 1L);
+
+        long memoryUsed = sizeOfInstance(HugeFloatMatrix.class) + sizeOfObjectArray(numPages);
+        if (numPages > 0) {
+            long rowsInLastPage = rows - ((long) (numPages - 1) << pageShift);
+            memoryUsed += (numPages - 1) * sizeOfFloatArray((long) rowsPerPage * rowStride);
+            memoryUsed += sizeOfFloatArray(rowsInLastPage * rowStride);
+        }
+        return memoryUsed;
+    }
+
+    private HugeFloatMatrix(
+        long rows,
+        int columns,
+        int rowStride,
+        int pageShift,
+        long pageMask,
+        float[][] pages
+    ) {
+        this.rows = rows;
+        this.columns = columns;
+        this.rowStride = rowStride;
+        this.pageShift = pageShift;
+        this.pageMask = pageMask;
+        this.pages = pages;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public int columns() {
+        return columns;
+    }
+
+    public float get(long row, int column) {
+        assert column < columns : "column " + column + " is out of bounds for " + columns + " columns";
+        return pages[pageIndex(row)][offset(row) + column];
+    }
+
+    public void set(long row, int column, float value) {
+        assert column < columns : "column " + column + " is out of bounds for " + columns + " columns";
+        pages[pageIndex(row)][offset(row) + column] = value;
+    }
+
+    /**
+     * Returns a copy of the given row.
+     */
+    public float[] row(long row) {
+        int offset = offset(row);
+        return Arrays.copyOfRange(pages[pageIndex(row)], offset, offset + columns);
+    }
+
+    /**
+     * Copies the given row into {@code target}, which must hold at least {@link #columns()} values.
+     */
+    public void copyRowTo(long row, float[] target) {
+        System.arraycopy(pages[pageIndex(row)], offset(row), target, 0, columns);
+    }
+
+    /**
+     * Overwrites the given row with the first {@link #columns()} values of {@code values}.
+     */
+    public void setRow(long row, float[] values) {
+        System.arraycopy(values, 0, pages[pageIndex(row)], offset(row), columns);
+    }
+
+    public void fillRow(long row, float value) {
+        int offset = offset(row);
+        Arrays.fill(pages[pageIndex(row)], offset, offset + columns, value);
+    }
+
+    /**
+     * Computes {@code row += weight * values}.
+     */
+    public void addToRow(long row, float[] values, float weight) {
+        var page = pages[pageIndex(row)];
+        int offset = offset(row);
+        for (int i = 0; i < columns; i++) {
+            page[offset + i] += weight * values[i];
+        }
+    }
+
+    /**
+     * Computes {@code target += row}.
+     */
+    public void addRowTo(long row, float[] target) {
+        var page = pages[pageIndex(row)];
+        int offset = offset(row);
+        for (int i = 0; i < columns; i++) {
+            target[i] += page[offset + i];
+        }
+    }
+
+    /**
+     * Computes {@code target += weight * row} with a single rounding per value.
+     */
+    public void addRowTo(long row, float[] target, double weight) {
+        var page = pages[pageIndex(row)];
+        int offset = offset(row);
+        for (int i = 0; i < columns; i++) {
+            target[i] = (float) Math.fma(page[offset + i], weight, target[i]);
+        }
+    }
+
+    private int pageIndex(long row) {
+        return HugeArrays.pageIndex(row, pageShift);
+    }
+
+    private int offset(long row) {
+        return HugeArrays.indexInPage(row, pageMask) * rowStride;
+    }
+
+    private static int rowStride(int columns) {
+        return Math.toIntExact(BitUtil.align(columns, ROW_ALIGNMENT));
+    }
+
+    private static int rowsPerPage(int rowStride) {
+        if (rowStride == 0) {
+            return HugeArrays.PAGE_SIZE;
+        }
+        if (rowStride >= HugeArrays.PAGE_SIZE) {
+            return 1;
+        }
+        return BitUtil.previousPowerOfTwo(HugeArrays.PAGE_SIZE / rowStride);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.collections.ha;
+
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class HugeBitMatrixTest {
+
+    @ParameterizedTest
+    @CsvSource({"10, 3", "5000, 64", "3000, 100", "3, 2000000"})
+    void shouldSetAndGetBits(long rows, int columns) {
+        var matrix = HugeBitMatrix.newMatrix(rows, columns);
+        assertThat(matrix.rows()).isEqualTo(rows);
+        assertThat(matrix.columns()).isEqualTo(columns);
+
+        for (long row = 0; row < rows; row++) {
+            matrix.set(row, (int) (row % columns));
+            matrix.set(row, columns - 1);
+        }
+        for (long row = 0; row < rows; row++) {
+            int expectedColumn = (int) (row % columns);
+            assertThat(matrix.get(row, expectedColumn)).isTrue();
+            assertThat(matrix.get(row, columns - 1)).isTrue();
+            assertThat(matrix.cardinality(row)).isEqualTo(expectedColumn == columns - 1 ? 1 : 2);
+        }
+    }
+
+    @Test
+    void shouldGetAndSet() {
+        var matrix = HugeBitMatrix.newMatrix(2, 70);
+
+        assertThat(matrix.getAndSet(1, 65)).isFalse();
+        assertThat(matrix.getAndSet(1, 65)).isTrue();
+        assertThat(matrix.get(0, 65)).isFalse();
+        assertThat(matrix.word(1, 1)).isEqualTo(1L << 1);
+    }
+
+    @Test
+    void shouldIterateSetBitsInOrder() {
+        var matrix = HugeBitMatrix.newMatrix(3, 200);
+        matrix.set(1, 199);
+        matrix.set(1, 0);
+        matrix.set(1, 64);
+        matrix.set(1, 63);
+        matrix.set(2, 5);
+
+        List<Integer> bits = new ArrayList<>();
+        matrix.forEachSetBit(1, bits::add);
+
+        assertThat(bits).containsExactly(0, 63, 64, 199);
+    }
+
+    @Test
+    void shouldClear() {
+        var matrix = HugeBitMatrix.newMatrix(20_000, 128);
+        for (long row = 0; row < matrix.rows(); row++) {
+            matrix.set(row, 0);
+            matrix.set(row, 127);
+        }
+
+        matrix.clearRow(42);
+        assertThat(matrix.cardinality(42)).isEqualTo(0);
+        assertThat(matrix.cardinality(43)).isEqualTo(2);
+
+        matrix.clear();
+        for (long row = 0; row < matrix.rows(); row++) {
+            assertThat(matrix.cardinality(row)).isEqualTo(0);
+        }
+    }
+
+    @Test
+    void shouldComputeMemoryEstimation() {
+        long rows = 100_000;
+        int columns = 1024;
+        var lowerBound = rows * columns / Byte.SIZE;
+
+        assertThat(HugeBitMatrix.memoryEstimation(rows, columns))
+            .isCloseTo(lowerBound, Percentage.withPercentage(1));
+        assertThat(HugeBitMatrix.memoryEstimation(0, columns))
+            .isLessThan(100);
+    }
+}
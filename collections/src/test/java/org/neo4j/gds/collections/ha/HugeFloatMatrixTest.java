@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.collections.ha;
+
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.neo4j.gds.mem.Estimate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class HugeFloatMatrixTest {
+
+    @ParameterizedTest
+    @CsvSource({"10, 3", "20000, 16", "5000, 100", "3, 20000"})
+    void shouldSetAndGetValues(long rows, int columns) {
+        var matrix = HugeFloatMatrix.newMatrix(rows, columns);
+        assertThat(matrix.rows()).isEqualTo(rows);
+        assertThat(matrix.columns()).isEqualTo(columns);
+
+        for (long row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                matrix.set(row, column, row * 31 + column);
+            }
+        }
+        for (long row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                assertThat(matrix.get(row, column)).isEqualTo(row * 31 + column);
+            }
+        }
+    }
+
+    @Test
+    void shouldOperateOnRows() {
+        var matrix = HugeFloatMatrix.newMatrix(4, 3);
+        matrix.setRow(1, new float[]{1, 2, 3, 42});
+
+        assertThat(matrix.row(0)).containsExactly(0, 0, 0);
+        assertThat(matrix.row(1)).containsExactly(1, 2, 3);
+        assertThat(matrix.row(2)).containsExactly(0, 0, 0);
+
+        matrix.addToRow(1, new float[]{1, 1, 1}, 2f);
+        assertThat(matrix.row(1)).containsExactly(3, 4, 5);
+
+        var target = new float[]{1, 1, 1};
+        matrix.addRowTo(1, target);
+        assertThat(target).containsExactly(4, 5, 6);
+        matrix.addRowTo(1, target, 0.5);
+        assertThat(target).containsExactly(5.5f, 7, 8.5f);
+
+        var copy = new float[3];
+        matrix.copyRowTo(1, copy);
+        assertThat(copy).containsExactly(3, 4, 5);
+
+        matrix.fillRow(1, 0f);
+        assertThat(matrix.row(1)).containsExactly(0, 0, 0);
+    }
+
+    @Test
+    void shouldCreateEmptyMatrix() {
+        var matrix = HugeFloatMatrix.newMatrix(0, 128);
+        assertThat(matrix.rows()).isEqualTo(0L);
+        assertThat(HugeFloatMatrix.newMatrix(42, 0).row(41)).isEmpty();
+    }
+
+    @Test
+    void shouldComputeMemoryEstimation() {
+        long rows = 100_000;
+        int columns = 128;
+        var lowerBound = rows * columns * Float.BYTES;
+        var objectArrayEstimate = HugeObjectArray.memoryEstimation(rows, Estimate.sizeOfFloatArray(columns));
+
+        var estimation = HugeFloatMatrix.memoryEstimation(rows, columns);
+        assertThat(estimation)
+            .isCloseTo(lowerBound, Percentage.withPercentage(1))
+            .isLessThan(objectArrayEstimate);
+    }
+
+    @Test
+    void shouldPadRowsToCacheLines() {
+        // 17 columns are padded to 32 floats, 16 columns are not padded
+        assertThat(HugeFloatMatrix.memoryEstimation(1024, 17))
+            .isEqualTo(HugeFloatMatrix.memoryEstimation(1024, 32));
+        assertThat(HugeFloatMatrix.memoryEstimation(1024, 16))
+            .isLessThan(HugeFloatMatrix.memoryEstimation(1024, 17));
+    }
+}
@@ -24,6 +24,7 @@ import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Collection;
 
@@ -43,6 +44,13 @@ public interface MutateNodePropertyConfig extends MutateConfig {
         return validateNoWhiteCharacter(emptyToNull(input), "mutateProperty");
     }
 
+    /**
+     * Stores the mutated node properties off-heap. Defaults to the server-wide feature toggle.
+     */
+    default boolean offHeapNodeProperties() {
+        return GdsFeatureToggles.USE_OFF_HEAP_NODE_PROPERTIES.isEnabled();
+    }
+
     @Configuration.GraphStoreValidationCheck
     default void validateMutateProperty(
         GraphStore graphStore,
@@ -83,6 +83,8 @@ public interface AdjacencyCursor {
     /**
      * Advance this cursor by {@code n} elements.
      * For a cursor in its initial position, this is equivalent to {@code nth}.
+     * Compressed cursors may use a skip index to jump directly to the block
+     * containing the requested target instead of decoding all previous targets.
      *
      * @param n the number of elements to advance by. Must be positive.
      * @return the target after the advancement or {@link org.neo4j.gds.api.AdjacencyCursor#NOT_FOUND -1} if the cursor is exhausted.
@@ -37,7 +37,11 @@ public enum GdsFeatureToggles {
     // Makes sure end users algorithms don't fail due to errors in log tracking,
     // but keeps the option to find these failures when running tests.
     FAIL_ON_PROGRESS_TRACKER_ERRORS(false),
-    ENABLE_ADJACENCY_COMPRESSION_MEMORY_TRACKING(false);
+    ENABLE_ADJACENCY_COMPRESSION_MEMORY_TRACKING(false),
+    // Stores block checkpoints for high-degree adjacency lists to allow random access.
+    ENABLE_ADJACENCY_SKIP_INDEX(true),
+    // Stores projected and mutated node properties off-heap to reduce GC pressure.
+    USE_OFF_HEAP_NODE_PROPERTIES(false);
 
     public boolean isEnabled() {
         return current.get();
@@ -22,6 +22,7 @@ package org.neo4j.gds.api;
 import org.jetbrains.annotations.NotNull;
 import org.neo4j.gds.NodeProjections;
 import org.neo4j.gds.Orientation;
+import org.neo4j.gds.PropertyMapping;
 import org.neo4j.gds.RelationshipProjection;
 import org.neo4j.gds.RelationshipProjections;
 import org.neo4j.gds.RelationshipType;
@@ -46,7 +47,9 @@ import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.mem.Estimate;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -104,6 +107,20 @@ public abstract class CSRGraphStoreFactory<CONFIG extends GraphProjectConfig> ex
         NodeProjections nodeProjections,
         RelationshipProjections relationshipProjections,
         boolean isLoading
+    ) {
+        return getMemoryEstimation(
+            nodeProjections,
+            relationshipProjections,
+            isLoading,
+            GdsFeatureToggles.USE_OFF_HEAP_NODE_PROPERTIES.isEnabled()
+        );
+    }
+
+    public static MemoryEstimation getMemoryEstimation(
+        NodeProjections nodeProjections,
+        RelationshipProjections relationshipProjections,
+        boolean isLoading,
+        boolean offHeapNodeProperties
     ) {
         MemoryEstimations.Builder builder = MemoryEstimations.builder("graph projection");
 
@@ -111,8 +128,15 @@ public abstract class CSRGraphStoreFactory<CONFIG extends GraphProjectConfig> ex
         builder.add("nodeIdMap", IdMapBehaviorServiceProvider.idMapBehavior().memoryEstimation());
 
         // nodeProperties
-        nodeProjections.allProperties()
-            .forEach(property -> builder.add(property, NodePropertiesFromStoreBuilder.memoryEstimation()));
+        var propertyMappings = new LinkedHashMap<String, PropertyMapping>();
+        nodeProjections.projections().values().forEach(projection -> projection
+            .properties()
+            .mappings()
+            .forEach(mapping -> propertyMappings.putIfAbsent(mapping.propertyKey(), mapping)));
+        propertyMappings.forEach((property, mapping) -> builder.add(
+            property,
+            NodePropertiesFromStoreBuilder.memoryEstimation(mapping, offHeapNodeProperties)
+        ));
 
         // relationships
         relationshipProjections.projections().forEach((relationshipType, relationshipProjection) -> {
@@ -20,42 +20,38 @@
 package org.neo4j.gds.api.properties.nodes;
 
 import org.neo4j.gds.api.nodeproperties.ValueType;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
-import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.collections.ha.HugeBitMatrix;
 
 import java.util.Optional;
 
 public class BinaryArrayNodePropertyValues implements NodePropertyValues {
 
-    private final HugeObjectArray<HugeAtomicBitSet> binaryEmbeddings;
+    private final HugeBitMatrix binaryEmbeddings;
     private final int embeddingDimension;
 
-    public BinaryArrayNodePropertyValues(
-        HugeObjectArray<HugeAtomicBitSet> binaryEmbeddings,
-        int embeddingDimension
-    ) {
+    public BinaryArrayNodePropertyValues(HugeBitMatrix binaryEmbeddings) {
         this.binaryEmbeddings = binaryEmbeddings;
-        this.embeddingDimension = embeddingDimension;
+        this.embeddingDimension = binaryEmbeddings.columns();
     }
 
     @Override
     public double[] doubleArrayValue(long nodeId) {
-        return bitSetToDoubleArray(binaryEmbeddings.get(nodeId), embeddingDimension);
+        return bitSetToDoubleArray(nodeId);
     }
 
     @Override
     public float[] floatArrayValue(long nodeId) {
-        return bitSetToFloatArray(binaryEmbeddings.get(nodeId), embeddingDimension);
+        return bitSetToFloatArray(nodeId);
     }
 
     @Override
     public long[] longArrayValue(long nodeId) {
-        return bitSetToLongArray(binaryEmbeddings.get(nodeId), embeddingDimension);
+        return bitSetToLongArray(nodeId);
     }
 
     @Override
     public Object getObject(long nodeId) {
-        return bitSetToDoubleArray(binaryEmbeddings.get(nodeId), embeddingDimension);
+        return bitSetToDoubleArray(nodeId);
     }
 
     @Override
@@ -70,29 +66,29 @@ public class BinaryArrayNodePropertyValues implements NodePropertyValues {
 
     @Override
     public long nodeCount() {
-        return binaryEmbeddings.size();
+        return binaryEmbeddings.rows();
     }
 
-    private static double[] bitSetToDoubleArray(HugeAtomicBitSet bitSet, int dimension) {
-        var array = new double[dimension];
-        bitSet.forEachSetBit(bit -> {
-            array[(int) bit] = 1.0;
+    private double[] bitSetToDoubleArray(long nodeId) {
+        var array = new double[embeddingDimension];
+        binaryEmbeddings.forEachSetBit(nodeId, bit -> {
+            array[bit] = 1.0;
         });
         return array;
     }
 
-    private static float[] bitSetToFloatArray(HugeAtomicBitSet bitSet, int dimension) {
-        var array = new float[dimension];
-        bitSet.forEachSetBit(bit -> {
-            array[(int) bit] = 1.0f;
+    private float[] bitSetToFloatArray(long nodeId) {
+        var array = new float[embeddingDimension];
+        binaryEmbeddings.forEachSetBit(nodeId, bit -> {
+            array[bit] = 1.0f;
         });
         return array;
     }
 
-    private static long[] bitSetToLongArray(HugeAtomicBitSet bitSet, int dimension) {
-        var array = new long[dimension];
-        bitSet.forEachSetBit(bit -> {
-            array[(int) bit] = 1;
+    private long[] bitSetToLongArray(long nodeId) {
+        var array = new long[embeddingDimension];
+        binaryEmbeddings.forEachSetBit(nodeId, bit -> {
+            array[bit] = 1;
         });
         return array;
     }
@@ -23,6 +23,7 @@ import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.collections.ha.HugeByteArray;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeFloatMatrix;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
@@ -50,6 +51,10 @@ public final class NodePropertyValuesAdapter {
         return ObjectNodePropertyValuesAdapter.adapt(hugeObjectArray);
     }
 
+    public static FloatArrayNodePropertyValues adapt(HugeFloatMatrix hugeFloatMatrix) {
+        return ObjectNodePropertyValuesAdapter.adapt(hugeFloatMatrix);
+    }
+
     public static LongNodePropertyValues adapt(HugeAtomicLongArray hugeAtomicLongArray) {
         return LongNodePropertyValuesAdapter.adapt(hugeAtomicLongArray);
     }
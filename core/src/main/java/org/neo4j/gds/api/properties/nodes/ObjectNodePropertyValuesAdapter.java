@@ -19,8 +19,11 @@
  */
 package org.neo4j.gds.api.properties.nodes;
 
+import org.neo4j.gds.collections.ha.HugeFloatMatrix;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 
+import java.util.Optional;
+
 final class ObjectNodePropertyValuesAdapter {
 
     private ObjectNodePropertyValuesAdapter() {}
@@ -69,4 +72,30 @@ final class ObjectNodePropertyValuesAdapter {
         throw new UnsupportedOperationException("This HugeObjectArray can not be converted to node properties.");
     }
 
+    /**
+     * Views each row of the matrix as the property value of the node with the same id.
+     * The matrix is not copied, but every access returns a fresh copy of the row.
+     * This suits consumers that read each value once, e.g. streaming or writing.
+     * Consumers that read values repeatedly should copy the rows into arrays once,
+     * or read them with {@link HugeFloatMatrix#copyRowTo(long, float[])}.
+     */
+    public static FloatArrayNodePropertyValues adapt(HugeFloatMatrix matrix) {
+        return new FloatArrayNodePropertyValues() {
+            @Override
+            public float[] floatArrayValue(long nodeId) {
+                return matrix.row(nodeId);
+            }
+
+            @Override
+            public Optional<Integer> dimension(long nodeId) {
+                return Optional.of(matrix.columns());
+            }
+
+            @Override
+            public long nodeCount() {
+                return matrix.rows();
+            }
+        };
+    }
+
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.common;
+
+import com.carrotsearch.hppc.LongLongHashMap;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+/**
+ * Checkpoints into the delta-encoded adjacency lists of high-degree nodes.
+ * <p>
+ * Delta-encoded adjacency lists are decoded in blocks of {@link #BLOCK_SIZE} targets.
+ * To decode a block, the position of the encoded block and the target preceding
+ * the block are required. Without an index, both are only known after decoding
+ * all previous blocks, which makes random access (e.g. {@code nthTarget}) linear
+ * in the degree.
+ * <p>
+ * For every node with a degree of at least {@link #MIN_DEGREE}, this index stores
+ * one checkpoint per block, except for the first block. A checkpoint consists of
+ * the position of the encoded block, relative to the start of the adjacency list,
+ * and the last target of the previous block. Cursors can use those to start
+ * decoding at any block, making random access constant in the degree.
+ * <p>
+ * What exactly a block is and how positions are interpreted is defined by the
+ * adjacency list format that created the index.
+ */
+public final class AdjacencySkipIndex {
+
+    public static final int BLOCK_SIZE = 64;
+
+    /**
+     * Nodes with a smaller degree are not indexed.
+     * For those, decoding the whole list is cheap enough.
+     */
+    public static final int MIN_DEGREE = 16 * BLOCK_SIZE;
+
+    public static final long NO_CHECKPOINT = -1L;
+
+    public static final AdjacencySkipIndex EMPTY = new AdjacencySkipIndex(
+        new LongLongHashMap(),
+        HugeLongArray.newArray(0),
+        HugeLongArray.newArray(0)
+    );
+
+    private final LongLongHashMap firstCheckpoints;
+    private final HugeLongArray positions;
+    private final HugeLongArray lastValues;
+
+    private AdjacencySkipIndex(
+        LongLongHashMap firstCheckpoints,
+        HugeLongArray positions,
+        HugeLongArray lastValues
+    ) {
+        this.firstCheckpoints = firstCheckpoints;
+        this.positions = positions;
+        this.lastValues = lastValues;
+    }
+
+    /**
+     * Builds a skip index for all nodes with a degree of at least {@link #MIN_DEGREE}.
+     * Returns {@link #EMPTY} if there are no such nodes or if the index is disabled.
+     */
+    public static AdjacencySkipIndex build(HugeIntArray degrees, CheckpointWriter checkpointWriter) {
+        if (GdsFeatureToggles.ENABLE_ADJACENCY_SKIP_INDEX.isDisabled()) {
+            return EMPTY;
+        }
+
+        long nodeCount = degrees.size();
+        var firstCheckpoints = new LongLongHashMap();
+        long checkpointCount = 0L;
+
+        for (long node = 0; node < nodeCount; node++) {
+            int degree = degrees.get(node);
+            if (isIndexed(degree)) {
+                firstCheckpoints.put(node, checkpointCount);
+                checkpointCount += maxCheckpoints(degree);
+            }
+        }
+
+        if (checkpointCount == 0) {
+            return EMPTY;
+        }
+
+        var skipIndex = new AdjacencySkipIndex(
+            firstCheckpoints,
+            HugeLongArray.newArray(checkpointCount),
+            HugeLongArray.newArray(checkpointCount)
+        );
+
+        for (var cursor : firstCheckpoints) {
+            checkpointWriter.write(cursor.key, degrees.get(cursor.key), skipIndex.new Checkpoints(cursor.value));
+        }
+
+        return skipIndex;
+    }
+
+    public static boolean isIndexed(int degree) {
+        return degree >= MIN_DEGREE;
+    }
+
+    /**
+     * Returns the index of the first checkpoint for the given node
+     * or {@link #NO_CHECKPOINT} if the node is not indexed.
+     */
+    public long firstCheckpoint(long node, int degree) {
+        if (!isIndexed(degree)) {
+            return NO_CHECKPOINT;
+        }
+        return firstCheckpoints.getOrDefault(node, NO_CHECKPOINT);
+    }
+
+    /**
+     * The position of the block that belongs to the given checkpoint,
+     * relative to the start of the adjacency list.
+     */
+    public long position(long checkpoint) {
+        return positions.get(checkpoint);
+    }
+
+    /**
+     * The last target that precedes the block that belongs to the given checkpoint.
+     */
+    public long lastValue(long checkpoint) {
+        return lastValues.get(checkpoint);
+    }
+
+    public boolean isEmpty() {
+        return positions.size() == 0;
+    }
+
+    public long sizeInBytes() {
+        if (isEmpty()) {
+            return 0L;
+        }
+        return positions.sizeOf()
+               + lastValues.sizeOf()
+               + Estimate.sizeOfLongArray(firstCheckpoints.keys.length)
+               + Estimate.sizeOfLongArray(firstCheckpoints.values.length);
+    }
+
+    // The first block is never indexed, as cursors start there anyway.
+    private static long maxCheckpoints(int degree) {
+        return (degree - 1) / BLOCK_SIZE;
+    }
+
+    /**
+     * Decodes an adjacency list and writes a checkpoint before each but the first block.
+     */
+    @FunctionalInterface
+    public interface CheckpointWriter {
+        void write(long node, int degree, Checkpoints checkpoints);
+    }
+
+    /**
+     * The checkpoints for a single adjacency list.
+     */
+    public final class Checkpoints {
+        private final long firstCheckpoint;
+
+        private Checkpoints(long firstCheckpoint) {
+            this.firstCheckpoint = firstCheckpoint;
+        }
+
+        /**
+         * @param block     the index of the block, must be at least 1
+         * @param position  the position of the encoded block relative to the start of the adjacency list
+         * @param lastValue the last target of the previous block
+         */
+        public void set(int block, long position, long lastValue) {
+            assert block >= 1 : "The first block is not indexed";
+            long checkpoint = this.firstCheckpoint + block - 1;
+            positions.set(checkpoint, position);
+            lastValues.set(checkpoint, lastValue);
+        }
+    }
+}
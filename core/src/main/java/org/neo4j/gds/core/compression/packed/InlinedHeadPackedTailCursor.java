@@ -21,6 +21,7 @@ package org.neo4j.gds.core.compression.packed;
 
 import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.compression.common.AdjacencySkipIndex;
 import org.neo4j.gds.core.compression.common.BumpAllocator;
 
 public final class InlinedHeadPackedTailCursor implements AdjacencyCursor {
@@ -32,6 +33,9 @@ public final class InlinedHeadPackedTailCursor implements AdjacencyCursor {
     private int maxTargets;
     private int currentPosition;
 
+    private AdjacencySkipIndex skipIndex;
+    private long firstCheckpoint;
+
     public InlinedHeadPackedTailCursor(long[] pages) {
         this.pages = pages;
         this.decompressingReader = new InlinedHeadPackedTailUnpacker();
@@ -50,6 +54,17 @@ public final class InlinedHeadPackedTailCursor implements AdjacencyCursor {
         this.maxTargets = degree;
         this.currentPosition = 0;
         this.decompressingReader.reset(listPtr, degree);
+        this.skipIndex = AdjacencySkipIndex.EMPTY;
+        this.firstCheckpoint = AdjacencySkipIndex.NO_CHECKPOINT;
+    }
+
+    /**
+     * Enables random access in {@link #advanceBy(int)} for the current adjacency list.
+     * Must be called after {@link #init(long, int)}.
+     */
+    void initCheckpoints(AdjacencySkipIndex skipIndex, long firstCheckpoint) {
+        this.skipIndex = skipIndex;
+        this.firstCheckpoint = firstCheckpoint;
     }
 
     @Override
@@ -110,6 +125,23 @@ public final class InlinedHeadPackedTailCursor implements AdjacencyCursor {
             return NOT_FOUND;
         }
 
+        if (this.firstCheckpoint != AdjacencySkipIndex.NO_CHECKPOINT) {
+            int targetIndex = this.currentPosition + n;
+            // the head is inlined, blocks start at the second target
+            int targetBlock = (targetIndex - 1) / AdjacencyPacking.BLOCK_SIZE;
+            if (targetIndex > 0 && targetBlock > this.decompressingReader.nextBlock()) {
+                long checkpoint = this.firstCheckpoint + targetBlock - 1;
+                this.currentPosition = targetIndex + 1;
+                return this.decompressingReader.seek(
+                    targetBlock,
+                    this.skipIndex.position(checkpoint),
+                    this.skipIndex.lastValue(checkpoint),
+                    this.maxTargets,
+                    (targetIndex - 1) % AdjacencyPacking.BLOCK_SIZE
+                );
+            }
+        }
+
         // we consume n targets and need to set the current position to the next target
         this.currentPosition += n + 1;
         return this.decompressingReader.advanceBy(n);
@@ -22,6 +22,7 @@ package org.neo4j.gds.core.compression.packed;
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.compress.ByteArrayBuffer;
 import org.neo4j.gds.core.compression.common.AdjacencyCompression;
+import org.neo4j.gds.core.compression.common.AdjacencySkipIndex;
 import org.neo4j.gds.core.compression.common.VarLongDecoding;
 import org.neo4j.gds.mem.BitUtil;
 import org.neo4j.internal.unsafe.UnsafeUtil;
@@ -32,6 +33,7 @@ final class InlinedHeadPackedTailUnpacker {
 
     // Compressed
     private final ByteArrayBuffer header;
+    private long listPtr;
     private long targetPtr;
     private int headerLength;
 
@@ -53,6 +55,7 @@ final class InlinedHeadPackedTailUnpacker {
         System.arraycopy(other.block, 0, this.block, 0, BLOCK_SIZE);
         this.header.ensureCapacity(other.headerLength);
         System.arraycopy(other.header.buffer, 0, this.header.buffer, 0, other.headerLength);
+        this.listPtr = other.listPtr;
         this.targetPtr = other.targetPtr;
         this.headerLength = other.headerLength;
         this.idxInBlock = other.idxInBlock;
@@ -62,6 +65,7 @@ final class InlinedHeadPackedTailUnpacker {
     }
 
     void reset(long ptr, int degree) {
+        this.listPtr = ptr;
         int blocks = BitUtil.ceilDiv(degree - 1, AdjacencyPacking.BLOCK_SIZE);
         this.header.ensureCapacity(blocks);
         this.headerLength = blocks;
@@ -112,6 +116,45 @@ final class InlinedHeadPackedTailUnpacker {
         return block[this.idxInBlock++];
     }
 
+    /**
+     * The block that will be decompressed next.
+     * Blocks only cover the tail, i.e. all targets but the inlined head.
+     */
+    int nextBlock() {
+        return this.blockId;
+    }
+
+    /**
+     * Decompresses the given block using its checkpoint and returns
+     * the target at {@code indexInBlock}. Subsequent calls to {@link #next()}
+     * continue after that target.
+     *
+     * @param degree the degree of the adjacency list
+     */
+    long seek(int blockId, long position, long lastValue, int degree, int indexInBlock) {
+        this.targetPtr = this.listPtr + position;
+        this.lastValue = lastValue;
+        this.blockId = blockId;
+        this.remaining = degree - 1 - blockId * BLOCK_SIZE;
+        decompressBlock();
+        this.idxInBlock = indexInBlock;
+        return block[this.idxInBlock++];
+    }
+
+    /**
+     * Decompresses the adjacency list at the given pointer and writes
+     * a checkpoint before each but the first block of the tail.
+     */
+    void writeCheckpoints(long ptr, int degree, AdjacencySkipIndex.Checkpoints checkpoints) {
+        reset(ptr, degree);
+        while (this.blockId < this.headerLength) {
+            if (this.blockId > 0) {
+                checkpoints.set(this.blockId, this.targetPtr - this.listPtr, this.lastValue);
+            }
+            decompressBlock();
+        }
+    }
+
     private void decompressBlock() {
         if (this.blockId < this.headerLength) {
             // block unpacking
@@ -23,9 +23,12 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.collections.PageUtil;
 import org.neo4j.gds.core.compression.MemoryInfo;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.compression.common.AdjacencySkipIndex;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.lang.ref.Cleaner;
@@ -37,6 +40,7 @@ public class PackedAdjacencyList implements AdjacencyList {
     private final long[] pages;
     private final HugeIntArray degrees;
     private final HugeLongArray offsets;
+    private final AdjacencySkipIndex skipIndex;
 
     private final MemoryInfo memoryInfo;
     private final Cleaner.Cleanable cleanable;
@@ -186,10 +190,22 @@ public class PackedAdjacencyList implements AdjacencyList {
         HugeIntArray degrees,
         HugeLongArray offsets,
         MemoryInfo memoryInfo
+    ) {
+        this(pages, allocationSizes, degrees, offsets, AdjacencySkipIndex.EMPTY, memoryInfo);
+    }
+
+    PackedAdjacencyList(
+        long[] pages,
+        int[] allocationSizes,
+        HugeIntArray degrees,
+        HugeLongArray offsets,
+        AdjacencySkipIndex skipIndex,
+        MemoryInfo memoryInfo
     ) {
         this.pages = pages;
         this.degrees = degrees;
         this.offsets = offsets;
+        this.skipIndex = skipIndex;
         this.memoryInfo = memoryInfo;
         this.cleanable = CLEANER.register(this, new AdjacencyListCleaner(pages, allocationSizes));
 
@@ -221,6 +237,24 @@ public class PackedAdjacencyList implements AdjacencyList {
         }
     }
 
+    /**
+     * Builds the skip index for random access into high-degree adjacency lists.
+     * Only the {@link GdsFeatureToggles.AdjacencyPackingStrategy#INLINED_HEAD_PACKED_TAIL}
+     * strategy supports random access, for all other strategies the index is empty.
+     */
+    static AdjacencySkipIndex buildSkipIndex(long[] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        if (GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.get() != GdsFeatureToggles.AdjacencyPackingStrategy.INLINED_HEAD_PACKED_TAIL) {
+            return AdjacencySkipIndex.EMPTY;
+        }
+        var unpacker = new InlinedHeadPackedTailUnpacker();
+        return AdjacencySkipIndex.build(degrees, (node, degree, checkpoints) -> {
+            long offset = offsets.get(node);
+            long pagePtr = pages[PageUtil.pageIndex(offset, BumpAllocator.PAGE_SHIFT)];
+            long listPtr = pagePtr + PageUtil.indexInPage(offset, BumpAllocator.PAGE_MASK);
+            unpacker.writeCheckpoints(listPtr, degree, checkpoints);
+        });
+    }
+
     @Override
     public int degree(long node) {
         return this.degrees.get(node);
@@ -234,7 +268,7 @@ public class PackedAdjacencyList implements AdjacencyList {
         }
 
         long offset = this.offsets.get(node);
-        return this.newCursor.newCursor(offset, degree, this.pages);
+        return initCheckpoints(this.newCursor.newCursor(offset, degree, this.pages), node, degree);
     }
 
     @Override
@@ -245,7 +279,17 @@ public class PackedAdjacencyList implements AdjacencyList {
         }
 
         long offset = this.offsets.get(node);
-        return this.newReuseCursor.newCursor(reuse, offset, degree, this.pages);
+        return initCheckpoints(this.newReuseCursor.newCursor(reuse, offset, degree, this.pages), node, degree);
+    }
+
+    private AdjacencyCursor initCheckpoints(AdjacencyCursor cursor, long node, int degree) {
+        if (!this.skipIndex.isEmpty() && cursor instanceof InlinedHeadPackedTailCursor) {
+            ((InlinedHeadPackedTailCursor) cursor).initCheckpoints(
+                this.skipIndex,
+                this.skipIndex.firstCheckpoint(node, degree)
+            );
+        }
+        return cursor;
     }
 
     @Override
@@ -26,6 +26,7 @@ import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.compression.MemoryInfo;
 import org.neo4j.gds.core.compression.MemoryInfoUtil;
+import org.neo4j.gds.core.compression.common.AdjacencySkipIndex;
 import org.neo4j.gds.core.compression.common.BumpAllocator;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.mem.MemoryUsage;
@@ -70,12 +71,18 @@ public final class PackedAdjacencyListBuilder implements AdjacencyListBuilder<Ad
             allocationSizes[i] = allocationSize;
         }
 
-        var memoryInfo = memoryInfo(allocationSizes, degrees, offsets);
+        var skipIndex = PackedAdjacencyList.buildSkipIndex(pages, degrees, offsets);
+        var memoryInfo = memoryInfo(allocationSizes, degrees, offsets, skipIndex);
 
-        return new PackedAdjacencyList(pages, allocationSizes, degrees, offsets, memoryInfo);
+        return new PackedAdjacencyList(pages, allocationSizes, degrees, offsets, skipIndex, memoryInfo);
     }
 
-    private MemoryInfo memoryInfo(int[] allocationSizes, HugeIntArray degrees, HugeLongArray offsets) {
+    private MemoryInfo memoryInfo(
+        int[] allocationSizes,
+        HugeIntArray degrees,
+        HugeLongArray offsets,
+        AdjacencySkipIndex skipIndex
+    ) {
         long bytesOffHeap = Arrays.stream(allocationSizes).peek(this.memoryTracker::recordPageSize).asLongStream().sum();
 
         var memoryInfoBuilder = MemoryInfoUtil
@@ -86,6 +93,7 @@ public final class PackedAdjacencyListBuilder implements AdjacencyListBuilder<Ad
         var sizeOnHeap = new MutableLong();
         MemoryUsage.sizeOfObject(degrees).ifPresent(sizeOnHeap::add);
         MemoryUsage.sizeOfObject(offsets).ifPresent(sizeOnHeap::add);
+        sizeOnHeap.add(skipIndex.sizeInBytes());
         memoryInfoBuilder.bytesOnHeap(sizeOnHeap.longValue());
 
         return memoryInfoBuilder.build();
@@ -33,6 +33,7 @@ import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.compression.MemoryInfo;
 import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.core.loading.MutableIntValue;
 import org.neo4j.gds.mem.BitUtil;
 import org.neo4j.gds.mem.Estimate;
@@ -122,6 +123,41 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
         this.memoryInfo = memoryInfo;
     }
 
+    /**
+     * Creates an adjacency list from existing pages, e.g. when restoring a snapshot.
+     * The pages, degrees and offsets must have been obtained from another uncompressed adjacency list.
+     */
+    public static UncompressedAdjacencyList of(long[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        var memoryInfo = UncompressedAdjacencyListBuilder.memoryInfo(
+            MemoryTracker.create(),
+            pages,
+            degrees,
+            offsets
+        );
+        return new UncompressedAdjacencyList(pages, degrees, offsets, memoryInfo);
+    }
+
+    /**
+     * The pages holding the targets or properties. Must not be modified.
+     */
+    public long[][] pages() {
+        return pages;
+    }
+
+    /**
+     * The degree of each node. Must not be modified.
+     */
+    public HugeIntArray degrees() {
+        return degrees;
+    }
+
+    /**
+     * The offset of each adjacency list into the pages. Must not be modified.
+     */
+    public HugeLongArray offsets() {
+        return offsets;
+    }
+
     @Override
     public int degree(long node) {
         return degrees.get(node);
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.compression.varlong;
 
+import org.neo4j.gds.core.compression.common.AdjacencySkipIndex;
 import org.neo4j.gds.core.loading.MutableIntValue;
 
 import java.util.Arrays;
@@ -28,7 +29,7 @@ import static org.neo4j.gds.core.compression.common.VarLongDecoding.decodeDeltaV
 
 final class AdjacencyDecompressingReader {
 
-    static final int CHUNK_SIZE = 64;
+    static final int CHUNK_SIZE = AdjacencySkipIndex.BLOCK_SIZE;
 
     private final long[] block;
     private int pos;
@@ -66,6 +67,41 @@ final class AdjacencyDecompressingReader {
         return degree;
     }
 
+    /**
+     * Decodes the chunk that starts at {@code offset} and positions the reader
+     * after the target at {@code indexInChunk}, which is returned.
+     *
+     * @param lastValue the last target of the previous chunk
+     * @param length    the number of targets in the chunk
+     */
+    long seek(int offset, long lastValue, int length, int indexInChunk) {
+        this.offset = decodeDeltaVLongs(lastValue, this.array, offset, length, block);
+        this.pos = indexInChunk + 1;
+        return block[indexInChunk];
+    }
+
+    /**
+     * Decodes the given adjacency list and writes a checkpoint before each but the first chunk.
+     */
+    static void writeCheckpoints(
+        byte[] adjacencyPage,
+        int offset,
+        int degree,
+        AdjacencySkipIndex.Checkpoints checkpoints
+    ) {
+        var block = new long[CHUNK_SIZE];
+        int startOffset = offset;
+        long lastValue = 0L;
+        int chunk = 0;
+        for (int remaining = degree; remaining > 0; remaining -= CHUNK_SIZE, chunk++) {
+            if (chunk > 0) {
+                checkpoints.set(chunk, offset - startOffset, lastValue);
+            }
+            offset = decodeDeltaVLongs(lastValue, adjacencyPage, offset, Math.min(remaining, CHUNK_SIZE), block);
+            lastValue = block[CHUNK_SIZE - 1];
+        }
+    }
+
     long next(int remaining) {
         int pos = this.pos++;
         if (pos < CHUNK_SIZE) {
@@ -26,7 +26,9 @@ import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.api.AdjacencyList;
 import org.neo4j.gds.core.compression.MemoryInfo;
 import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.compression.common.AdjacencySkipIndex;
 import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.core.loading.MutableIntValue;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
@@ -101,16 +103,73 @@ public final class CompressedAdjacencyList implements AdjacencyList {
     private byte[][] pages;
     private HugeIntArray degrees;
     private HugeLongArray offsets;
+    private final AdjacencySkipIndex skipIndex;
 
     private final MemoryInfo memoryInfo;
 
-    CompressedAdjacencyList(byte[][] pages, HugeIntArray degrees, HugeLongArray offsets, MemoryInfo memoryInfo) {
+    CompressedAdjacencyList(
+        byte[][] pages,
+        HugeIntArray degrees,
+        HugeLongArray offsets,
+        AdjacencySkipIndex skipIndex,
+        MemoryInfo memoryInfo
+    ) {
         this.pages = pages;
         this.degrees = degrees;
         this.offsets = offsets;
+        this.skipIndex = skipIndex;
         this.memoryInfo = memoryInfo;
     }
 
+    /**
+     * Creates an adjacency list from already compressed pages, e.g. when restoring a snapshot.
+     * The pages, degrees and offsets must have been obtained from another compressed adjacency list.
+     */
+    public static CompressedAdjacencyList of(byte[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        var skipIndex = buildSkipIndex(pages, degrees, offsets);
+        var memoryInfo = CompressedAdjacencyListBuilder.memoryInfo(
+            MemoryTracker.create(),
+            pages,
+            degrees,
+            offsets,
+            skipIndex
+        );
+        return new CompressedAdjacencyList(pages, degrees, offsets, skipIndex, memoryInfo);
+    }
+
+    static AdjacencySkipIndex buildSkipIndex(byte[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        return AdjacencySkipIndex.build(degrees, (node, degree, checkpoints) -> {
+            long offset = offsets.get(node);
+            AdjacencyDecompressingReader.writeCheckpoints(
+                pages[pageIndex(offset, BumpAllocator.PAGE_SHIFT)],
+                indexInPage(offset, BumpAllocator.PAGE_MASK),
+                degree,
+                checkpoints
+            );
+        });
+    }
+
+    /**
+     * The compressed pages. Must not be modified.
+     */
+    public byte[][] pages() {
+        return pages;
+    }
+
+    /**
+     * The degree of each node. Must not be modified.
+     */
+    public HugeIntArray degrees() {
+        return degrees;
+    }
+
+    /**
+     * The offset of each adjacency list into the pages. Must not be modified.
+     */
+    public HugeLongArray offsets() {
+        return offsets;
+    }
+
     @Override
     public int degree(long node) {
         return degrees.get(node);
@@ -124,9 +183,10 @@ public final class CompressedAdjacencyList implements AdjacencyList {
         if (degree == 0) {
             return AdjacencyCursor.empty();
         }
-        var cursor = new DecompressingCursor(pages);
+        var cursor = new DecompressingCursor(pages, skipIndex);
         var offset = offsets.get(node);
         cursor.init(offset, degree);
+        cursor.initCheckpoints(skipIndex.firstCheckpoint(node, degree));
         return cursor;
     }
 
@@ -136,16 +196,18 @@ public final class CompressedAdjacencyList implements AdjacencyList {
         if (degree == 0) {
             return AdjacencyCursor.empty();
         }
-        if (reuse instanceof DecompressingCursor) {
-            reuse.init(offsets.get(node), degree);
-            return reuse;
+        if (reuse instanceof DecompressingCursor && ((DecompressingCursor) reuse).pages == pages) {
+            var cursor = (DecompressingCursor) reuse;
+            cursor.init(offsets.get(node), degree);
+            cursor.initCheckpoints(skipIndex.firstCheckpoint(node, degree));
+            return cursor;
         }
         return adjacencyCursor(node, fallbackValue);
     }
 
     @Override
     public AdjacencyCursor rawAdjacencyCursor() {
-        return new DecompressingCursor(pages);
+        return new DecompressingCursor(pages, skipIndex);
     }
 
     @Override
@@ -157,23 +219,37 @@ public final class CompressedAdjacencyList implements AdjacencyList {
 
         private final byte[][] pages;
         private final AdjacencyDecompressingReader decompress;
+        private final AdjacencySkipIndex skipIndex;
 
         private int maxTargets;
         private int currentPosition;
+        private int startOffset;
+        private long firstCheckpoint;
 
-        private DecompressingCursor(byte[][] pages) {
+        private DecompressingCursor(byte[][] pages, AdjacencySkipIndex skipIndex) {
             this.pages = pages;
+            this.skipIndex = skipIndex;
             this.decompress = new AdjacencyDecompressingReader();
         }
 
         @Override
         public void init(long fromIndex, int degree) {
+            startOffset = indexInPage(fromIndex, BumpAllocator.PAGE_MASK);
             maxTargets = decompress.reset(
                 pages[pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT)],
-                indexInPage(fromIndex, BumpAllocator.PAGE_MASK),
+                startOffset,
                 degree
             );
             currentPosition = 0;
+            firstCheckpoint = AdjacencySkipIndex.NO_CHECKPOINT;
+        }
+
+        /**
+         * Enables random access in {@link #advanceBy(int)} for the current adjacency list.
+         * Must be called after {@link #init(long, int)}.
+         */
+        void initCheckpoints(long firstCheckpoint) {
+            this.firstCheckpoint = firstCheckpoint;
         }
 
         @Override
@@ -241,9 +317,32 @@ public final class CompressedAdjacencyList implements AdjacencyList {
                 return AdjacencyCursor.NOT_FOUND;
             }
 
+            if (firstCheckpoint != AdjacencySkipIndex.NO_CHECKPOINT) {
+                int targetIndex = currentPosition + n;
+                int targetChunk = targetIndex / AdjacencyDecompressingReader.CHUNK_SIZE;
+                // the chunk that is currently decoded, or would be decoded next without skipping
+                int nextChunk = currentPosition / AdjacencyDecompressingReader.CHUNK_SIZE;
+                if (targetChunk > nextChunk) {
+                    return seek(targetIndex, targetChunk);
+                }
+            }
+
             var value = decompress.advanceBy(n, targetsLeftToBeDecoded, this);
             this.currentPosition += this.value;
             return value;
         }
+
+        private long seek(int targetIndex, int targetChunk) {
+            long checkpoint = firstCheckpoint + targetChunk - 1;
+            int chunkStart = targetChunk * AdjacencyDecompressingReader.CHUNK_SIZE;
+            var value = decompress.seek(
+                startOffset + (int) skipIndex.position(checkpoint),
+                skipIndex.lastValue(checkpoint),
+                Math.min(AdjacencyDecompressingReader.CHUNK_SIZE, maxTargets - chunkStart),
+                targetIndex - chunkStart
+            );
+            this.currentPosition = targetIndex + 1;
+            return value;
+        }
     }
 }
@@ -26,6 +26,7 @@ import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.compression.MemoryInfo;
 import org.neo4j.gds.core.compression.MemoryInfoUtil;
+import org.neo4j.gds.core.compression.common.AdjacencySkipIndex;
 import org.neo4j.gds.core.compression.common.BumpAllocator;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.mem.MemoryUsage;
@@ -58,14 +59,21 @@ public final class CompressedAdjacencyListBuilder implements AdjacencyListBuilde
         if (allowReordering) {
             reorder(intoPages, offsets, degrees);
         }
-        var memoryInfo = memoryInfo(intoPages, degrees, offsets);
+        var skipIndex = CompressedAdjacencyList.buildSkipIndex(intoPages, degrees, offsets);
+        var memoryInfo = memoryInfo(this.memoryTracker, intoPages, degrees, offsets, skipIndex);
 
-        return new CompressedAdjacencyList(intoPages, degrees, offsets, memoryInfo);
+        return new CompressedAdjacencyList(intoPages, degrees, offsets, skipIndex, memoryInfo);
     }
 
-    private MemoryInfo memoryInfo(byte[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
+    static MemoryInfo memoryInfo(
+        MemoryTracker memoryTracker,
+        byte[][] pages,
+        HugeIntArray degrees,
+        HugeLongArray offsets,
+        AdjacencySkipIndex skipIndex
+    ) {
         for (byte[] page : pages) {
-            this.memoryTracker.recordPageSize(page.length * Byte.BYTES);
+            memoryTracker.recordPageSize(page.length * Byte.BYTES);
         }
 
         var memoryInfoBuilder = MemoryInfoUtil
@@ -77,6 +85,7 @@ public final class CompressedAdjacencyListBuilder implements AdjacencyListBuilde
         MemoryUsage.sizeOfObject(pages).ifPresent(sizeOnHeap::add);
         MemoryUsage.sizeOfObject(degrees).ifPresent(sizeOnHeap::add);
         MemoryUsage.sizeOfObject(offsets).ifPresent(sizeOnHeap::add);
+        sizeOnHeap.add(skipIndex.sizeInBytes());
         memoryInfoBuilder.bytesOnHeap(sizeOnHeap.longValue());
 
         return memoryInfoBuilder.build();
@@ -41,6 +41,26 @@ public final class ArrayIdMapBuilder implements IdMapBuilder {
         return new ArrayIdMapBuilder(array, capacity);
     }
 
+    /**
+     * Builds an id map with exactly the given mapping from internal to original ids,
+     * e.g. when restoring a snapshot of an existing id map.
+     * Labels are added to the label information builder using original ids.
+     */
+    public static IdMap fromInternalToOriginalIds(
+        HugeLongArray internalToOriginalIds,
+        LabelInformation.Builder labelInformationBuilder,
+        long highestNodeId,
+        Concurrency concurrency
+    ) {
+        return ArrayIdMapBuilderOps.build(
+            internalToOriginalIds,
+            internalToOriginalIds.size(),
+            labelInformationBuilder,
+            highestNodeId,
+            concurrency
+        );
+    }
+
     private ArrayIdMapBuilder(HugeLongArray array, final long capacity) {
         this.array = array;
         this.capacity = capacity;
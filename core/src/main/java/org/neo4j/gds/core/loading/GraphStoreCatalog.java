@@ -25,23 +25,40 @@ import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.api.EphemeralResultStore;
 import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.ResultStore;
 import org.neo4j.gds.api.graph.store.catalog.GraphStoreAddedEvent;
 import org.neo4j.gds.api.graph.store.catalog.GraphStoreAddedEventListener;
 import org.neo4j.gds.api.graph.store.catalog.GraphStoreRemovedEvent;
 import org.neo4j.gds.api.graph.store.catalog.GraphStoreRemovedEventListener;
 import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.core.loading.nodeproperties.OffHeapNodePropertyValues;
 import org.neo4j.gds.logging.Log;
 import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.utils.ExceptionUtil;
 import org.neo4j.gds.utils.StringJoining;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -58,6 +75,23 @@ public final class GraphStoreCatalog {
     // we make the log injectable
     private static Optional<Log> log = Optional.empty();
 
+    // eviction of cold graph stores is optional, see `setEvictionPolicy`;
+    // choosing graphs to evict, swapping them with their spilled copies and reloading them is serialized by this lock,
+    // writing graphs to disk and lookups of resident graph stores are lock-free
+    private static final Object evictionLock = new Object();
+    private static volatile @Nullable GraphStoreEvictionPolicy evictionPolicy = null;
+
+    // directories that are being written, which must not be mistaken for leftovers
+    private static final Set<Path> spillsInProgress = ConcurrentHashMap.newKeySet();
+
+    private static final AtomicLong accessClock = new AtomicLong();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder reloads = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+    private static final LongAdder failedEvictions = new LongAdder();
+    private static final LongAdder totalReloadNanos = new LongAdder();
+    private static final AtomicLong maxReloadNanos = new AtomicLong();
+
     private GraphStoreCatalog() {
     }
 
@@ -81,27 +115,77 @@ public final class GraphStoreCatalog {
         GraphStoreCatalog.log = Optional.of(log);
     }
 
+    /**
+     * Enables the eviction of cold graph stores to disk.
+     * Spilled graphs in the spill directory that are unknown to the catalog, e.g. those left behind by a restart,
+     * are deleted. Graph stores that exceed the budget of the new policy are evicted immediately.
+     */
+    public static void setEvictionPolicy(GraphStoreEvictionPolicy policy) {
+        deleteStaleSpillDirectories(policy.spillDirectory());
+        evictionPolicy = policy;
+        evictIfNecessary(null, null);
+    }
+
+    /**
+     * Disables the eviction of graph stores.
+     * Graph stores that have already been evicted stay on disk until they are looked up.
+     */
+    public static void disableEviction() {
+        evictionPolicy = null;
+    }
+
+    public static GraphStoreEvictionMetrics evictionMetrics() {
+        return new GraphStoreEvictionMetrics(
+            hits.sum(),
+            reloads.sum(),
+            evictions.sum(),
+            failedEvictions.sum(),
+            userCatalogs.values().stream().mapToLong(userCatalog -> userCatalog.spilledGraphs.size()).sum(),
+            Duration.ofNanos(totalReloadNanos.sum()),
+            Duration.ofNanos(maxReloadNanos.get())
+        );
+    }
+
+    @TestOnly
+    public static void resetEvictionMetrics() {
+        hits.reset();
+        reloads.reset();
+        evictions.reset();
+        failedEvictions.reset();
+        totalReloadNanos.reset();
+        maxReloadNanos.set(0);
+    }
+
     public static GraphStoreCatalogEntry get(CatalogRequest request, String graphName) {
         var userCatalogKey = UserCatalog.UserCatalogKey.of(request.databaseName(), graphName);
-        var ownCatalog = getUserCatalog(request.username());
+        return findUserCatalog(request, userCatalogKey).get(userCatalogKey, true);
+    }
+
+    /**
+     * Looks up a graph like {@link #get(CatalogRequest, String)} and keeps it from being evicted until the lease is closed.
+     * Callers that compute on the graph or mutate it hold the lease until they are done.
+     */
+    public static GraphStoreCatalogLease lease(CatalogRequest request, String graphName) {
+        var userCatalogKey = UserCatalog.UserCatalogKey.of(request.databaseName(), graphName);
+        return findUserCatalog(request, userCatalogKey).lease(userCatalogKey);
+    }
 
-        var maybeGraph = ownCatalog.get(userCatalogKey, request.restrictSearchToUsernameCatalog());
-        if (maybeGraph != null) {
-            return maybeGraph;
+    /**
+     * Checks for existence only, so that we do not reload evicted graphs we are not going to return.
+     */
+    private static UserCatalog findUserCatalog(CatalogRequest request, UserCatalog.UserCatalogKey userCatalogKey) {
+        var ownCatalog = getUserCatalog(request.username());
+        if (ownCatalog.exists(userCatalogKey)) {
+            return ownCatalog;
+        }
+        if (request.restrictSearchToUsernameCatalog()) {
+            throw new GraphNotFoundException(userCatalogKey);
         }
 
-        var usersWithMatchingGraphs = userCatalogs
-            .entrySet()
-            .stream()
-            .flatMap(
-                e -> Stream
-                    .ofNullable(e.getValue().get(userCatalogKey, false))
-                    .map(graph -> Map.entry(e.getKey(), graph))
-            )
-            .toList();
+        var usersWithMatchingGraphs = usersWithMatchingGraphs(userCatalogKey);
 
         if (usersWithMatchingGraphs.size() == 1) {
-            return usersWithMatchingGraphs.get(0).getValue();
+            return getUserCatalog(usersWithMatchingGraphs.iterator().next());
         }
 
         if (usersWithMatchingGraphs.isEmpty()) {
@@ -109,16 +193,12 @@ public final class GraphStoreCatalog {
             throw new GraphNotFoundException(userCatalogKey);
         }
 
-        var usernames = StringJoining.joinVerbose(
-            usersWithMatchingGraphs.stream()
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toSet())
-        );
+        var usernames = StringJoining.joinVerbose(usersWithMatchingGraphs);
 
         throw new IllegalArgumentException(
             formatWithLocale(
                 "Multiple graphs that match '%s' are found from the users %s.",
-                graphName,
+                userCatalogKey.graphName(),
                 usernames
             )
         );
@@ -142,11 +222,7 @@ public final class GraphStoreCatalog {
             return;
         }
 
-        var usersWithMatchingGraphs = userCatalogs
-            .entrySet()
-            .stream()
-            .flatMap(e -> Stream.ofNullable(e.getValue().get(userCatalogKey, false)).map(graph -> e.getKey()))
-            .collect(Collectors.toSet());
+        var usersWithMatchingGraphs = usersWithMatchingGraphs(userCatalogKey);
 
         if (usersWithMatchingGraphs.isEmpty() && failOnMissing) {
             // suggests only own graphs names
@@ -174,6 +250,15 @@ public final class GraphStoreCatalog {
         }
     }
 
+    private static Collection<String> usersWithMatchingGraphs(UserCatalog.UserCatalogKey userCatalogKey) {
+        return userCatalogs
+            .entrySet()
+            .stream()
+            .filter(e -> e.getValue().exists(userCatalogKey))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+    }
+
     @TestOnly
     public static GraphStoreCatalogEntry get(String username, DatabaseId databaseId, String graphName) {
         return get(CatalogRequest.of(username, databaseId), graphName);
@@ -185,37 +270,40 @@ public final class GraphStoreCatalog {
     }
 
     public static void set(GraphProjectConfig config, GraphStore graphStore) {
-        userCatalogs.compute(config.username(), (user, userCatalog) -> {
-            if (userCatalog == null) {
-                userCatalog = new UserCatalog();
+        var userCatalogKey = UserCatalog.UserCatalogKey.of(graphStore.databaseInfo().databaseId(), config.graphName());
+        var userCatalog = userCatalogs.compute(config.username(), (user, existingCatalog) -> {
+            if (existingCatalog == null) {
+                existingCatalog = new UserCatalog();
             }
-            userCatalog.set(
-                UserCatalog.UserCatalogKey.of(graphStore.databaseInfo().databaseId(), config.graphName()),
-                config,
-                graphStore
-            );
-            return userCatalog;
+            existingCatalog.set(userCatalogKey, config, graphStore);
+            return existingCatalog;
         });
 
-        graphStoreAddedEventListeners.forEach(
-            listener -> ExceptionUtil.safeRunWithLogException(
-                () -> String.format(
-                    Locale.US,
-                    "Could not call listener %s on setting the graph %s",
-                    listener,
-                    config.graphName()
-                ),
-                () -> listener.onGraphStoreAdded(
-                    new GraphStoreAddedEvent(
-                        config.username(),
-                        graphStore.databaseInfo().databaseId().databaseName(),
-                        config.graphName(),
-                        MemoryUsage.sizeOf(graphStore)
-                    )
-                ),
-                log.orElseGet(Log::noOpLog)::warn
-            )
+        var accessState = userCatalog.accessStates.get(userCatalogKey);
+        fireGraphStoreAdded(
+            config,
+            userCatalogKey.databaseName(),
+            accessState != null ? accessState::sizeInBytes : () -> sizeOf(graphStore)
         );
+
+        // the new graph is about to be used, so we make room by evicting others
+        evictIfNecessary(userCatalog, userCatalogKey);
+    }
+
+    /**
+     * The on-heap size of the graph store plus the memory of node properties stored outside the heap,
+     * which {@link MemoryUsage#sizeOf(Object)} cannot see.
+     */
+    static long sizeOf(GraphStore graphStore) {
+        long onHeap = MemoryUsage.sizeOf(graphStore);
+        if (onHeap < 0) {
+            return onHeap;
+        }
+        long offHeap = graphStore.nodePropertyKeys()
+            .stream()
+            .mapToLong(key -> OffHeapNodePropertyValues.sizeInBytes(graphStore.nodeProperty(key).values()))
+            .sum();
+        return onHeap + offHeap;
     }
 
     public static boolean exists(String username, String databaseName, String graphName) {
@@ -230,7 +318,7 @@ public final class GraphStoreCatalog {
         return userCatalogs
             .values()
             .stream()
-            .mapToInt(userCatalog -> userCatalog.getGraphStores().size())
+            .mapToInt(userCatalog -> userCatalog.graphStoreCount(key -> true))
             .sum();
     }
 
@@ -238,7 +326,7 @@ public final class GraphStoreCatalog {
         return userCatalogs
             .values()
             .stream()
-            .mapToInt(userCatalog -> userCatalog.getGraphStores(databaseId).size())
+            .mapToInt(userCatalog -> userCatalog.graphStoreCount(inDatabase(databaseId)))
             .sum();
     }
 
@@ -267,21 +355,11 @@ public final class GraphStoreCatalog {
     }
 
     public static void removeAllLoadedGraphs() {
-        userCatalogs.forEach((username, userCatalog) -> {
-            userCatalog.graphsByName.forEach(((userCatalogKey, graphStoreCatalogEntry) -> {
-                userCatalog.remove(userCatalogKey, __ -> {}, false);
-            }));
-        });
+        userCatalogs.forEach((username, userCatalog) -> userCatalog.removeAll(key -> true));
     }
 
     public static void removeAllLoadedGraphs(DatabaseId databaseId) {
-        userCatalogs.forEach((user, userCatalog) -> {
-            userCatalog.graphsByName.forEach(((userCatalogKey, graphStoreCatalogEntry) -> {
-                if (databaseId.databaseName().equals(userCatalogKey.databaseName())) {
-                    userCatalog.remove(userCatalogKey, __ -> {}, false);
-                }
-            }));
-        });
+        userCatalogs.forEach((user, userCatalog) -> userCatalog.removeAll(inDatabase(databaseId)));
     }
 
     public static Collection<GraphStoreCatalogEntry> getGraphStores(String username) {
@@ -306,6 +384,171 @@ public final class GraphStoreCatalog {
         return userCatalogs.getOrDefault(username, UserCatalog.EMPTY);
     }
 
+    private static Predicate<UserCatalog.UserCatalogKey> inDatabase(DatabaseId databaseId) {
+        return key -> key.databaseName().equals(databaseId.databaseName());
+    }
+
+    private static void fireGraphStoreAdded(
+        GraphProjectConfig config,
+        String databaseName,
+        LongSupplier sizeInBytes
+    ) {
+        graphStoreAddedEventListeners.forEach(
+            listener -> ExceptionUtil.safeRunWithLogException(
+                () -> String.format(
+                    Locale.US,
+                    "Could not call listener %s on setting the graph %s",
+                    listener,
+                    config.graphName()
+                ),
+                () -> listener.onGraphStoreAdded(
+                    new GraphStoreAddedEvent(
+                        config.username(),
+                        databaseName,
+                        config.graphName(),
+                        sizeInBytes.getAsLong()
+                    )
+                ),
+                log.orElseGet(Log::noOpLog)::warn
+            )
+        );
+    }
+
+    private static void fireGraphStoreRemoved(GraphProjectConfig config, String databaseName, long sizeInBytes) {
+        graphStoreRemovedEventListeners.forEach(
+            listener -> ExceptionUtil.safeRunWithLogException(
+                () -> String.format(
+                    Locale.US,
+                    "Could not call listener %s on setting the graph %s",
+                    listener,
+                    config.graphName()
+                ),
+                () -> listener.onGraphStoreRemoved(
+                    new GraphStoreRemovedEvent(
+                        config.username(),
+                        databaseName,
+                        config.graphName(),
+                        sizeInBytes
+                    )
+                ),
+                log.orElseGet(Log::noOpLog)::warn
+            )
+        );
+    }
+
+    /**
+     * Evicts the least recently used, idle graph stores until the resident graph stores fit into the budget.
+     * The pinned graph store, if any, and leased graph stores are never evicted as they are about to be or in use.
+     * The graph stores are only chosen while holding the lock, writing them happens on the spill executor of the policy.
+     */
+    private static void evictIfNecessary(
+        @Nullable UserCatalog pinnedCatalog,
+        @Nullable UserCatalog.UserCatalogKey pinnedKey
+    ) {
+        var policy = evictionPolicy;
+        if (policy == null) {
+            return;
+        }
+
+        var evicting = new ArrayList<EvictionCandidate>();
+        synchronized (evictionLock) {
+            long now = System.nanoTime();
+            long residentBytes = 0L;
+            var candidates = new ArrayList<EvictionCandidate>();
+            for (var userCatalog : userCatalogs.values()) {
+                for (var entry : userCatalog.accessStates.entrySet()) {
+                    var accessState = entry.getValue();
+                    if (accessState.isEvicting()) {
+                        // already on its way out
+                        continue;
+                    }
+                    residentBytes += accessState.sizeInBytes();
+
+                    boolean pinned = userCatalog == pinnedCatalog && entry.getKey().equals(pinnedKey);
+                    boolean inUse = pinned || accessState.isLeased();
+                    if (!inUse && accessState.evictable && accessState.isIdle(now, policy.minIdleTime())) {
+                        candidates.add(new EvictionCandidate(userCatalog, entry.getKey(), accessState));
+                    }
+                }
+            }
+
+            if (residentBytes <= policy.maxResidentBytes()) {
+                return;
+            }
+
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.accessState().lastAccess));
+            for (var candidate : candidates) {
+                if (residentBytes <= policy.maxResidentBytes()) {
+                    break;
+                }
+                if (candidate.accessState().beginEviction()) {
+                    residentBytes -= candidate.accessState().sizeInBytes();
+                    evicting.add(candidate);
+                }
+            }
+        }
+
+        for (var candidate : evicting) {
+            try {
+                policy.spillExecutor().execute(
+                    () -> candidate.userCatalog().spill(candidate.key(), candidate.accessState(), policy)
+                );
+            } catch (RejectedExecutionException e) {
+                candidate.accessState().cancelEviction();
+            }
+        }
+    }
+
+    private static void deleteStaleSpillDirectories(Path spillDirectory) {
+        if (!Files.isDirectory(spillDirectory)) {
+            return;
+        }
+        synchronized (evictionLock) {
+            var knownDirectories = userCatalogs
+                .values()
+                .stream()
+                .flatMap(userCatalog -> userCatalog.spilledGraphs.values().stream())
+                .map(SpilledGraph::directory)
+                .collect(Collectors.toCollection(HashSet::new));
+            knownDirectories.addAll(spillsInProgress);
+
+            try (var paths = Files.list(spillDirectory)) {
+                // spill directories are named by random UUIDs, other files are not ours to delete
+                paths
+                    .filter(path -> isSpillDirectoryName(path.getFileName().toString()))
+                    .filter(path -> !knownDirectories.contains(path))
+                    .toList()
+                    .forEach(path -> {
+                        log.orElseGet(Log::noOpLog).info("Deleting stale evicted graph store at %s", path);
+                        deleteSpillDirectory(path);
+                    });
+            } catch (IOException e) {
+                log.orElseGet(Log::noOpLog).warn("Could not list evicted graph stores at " + spillDirectory, e);
+            }
+        }
+    }
+
+    private static boolean isSpillDirectoryName(String fileName) {
+        try {
+            return UUID.fromString(fileName).toString().equals(fileName);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static void deleteSpillDirectory(Path directory) {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (var paths = Files.walk(directory)) {
+            for (var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        } catch (IOException e) {
+            log.orElseGet(Log::noOpLog).warn("Could not delete evicted graph store at " + directory, e);
+        }
+    }
+
     public record GraphStoreCatalogEntryWithUsername(GraphStoreCatalogEntry catalogEntry, String username) {
     }
 
@@ -331,6 +574,12 @@ public final class GraphStoreCatalog {
 
         private final Map<UserCatalogKey, GraphStoreCatalogEntry> graphsByName = new ConcurrentHashMap<>();
 
+        // one entry for every graph in `graphsByName`
+        private final Map<UserCatalogKey, AccessState> accessStates = new ConcurrentHashMap<>();
+
+        // graphs that have been evicted to disk, disjoint from `graphsByName`
+        private final Map<UserCatalogKey, SpilledGraph> spilledGraphs = new ConcurrentHashMap<>();
+
         private final Map<UserCatalogKey, Map<String, Object>> degreeDistributionByName = new ConcurrentHashMap<>();
 
         private void set(
@@ -348,7 +597,7 @@ public final class GraphStoreCatalog {
                 new EphemeralResultStore()
             );
 
-            if (graphsByName.containsKey(userCatalogKey)) {
+            if (exists(userCatalogKey)) {
                 throw new IllegalStateException(
                     formatWithLocale(
                         "Graph name %s already loaded",
@@ -356,6 +605,7 @@ public final class GraphStoreCatalog {
                     )
                 );
             }
+            accessStates.put(userCatalogKey, new AccessState(graphStore));
             graphsByName.put(userCatalogKey, graphStoreCatalogEntry);
         }
 
@@ -364,7 +614,7 @@ public final class GraphStoreCatalog {
             if (userCatalogKey == null || degreeDistribution == null) {
                 throw new IllegalArgumentException("Both name and degreeDistribution must be not null");
             }
-            if (!graphsByName.containsKey(userCatalogKey)) {
+            if (!exists(userCatalogKey)) {
                 throw new IllegalArgumentException(
                     formatWithLocale(
                         "Cannot set degreeDistribution because graph %s does not exist",
@@ -381,24 +631,45 @@ public final class GraphStoreCatalog {
 
         private @Nullable GraphStoreCatalogEntry get(UserCatalogKey userCatalogKey, boolean failOnMissing) {
             var graphStoreWithConfig = graphsByName.get(userCatalogKey);
+            var accessState = accessStates.get(userCatalogKey);
+
+            if (graphStoreWithConfig != null && accessState != null && accessState.touch()) {
+                hits.increment();
+            } else if (graphStoreWithConfig != null || spilledGraphs.containsKey(userCatalogKey)) {
+                // evicted concurrently, the lock gives us a consistent view
+                graphStoreWithConfig = reload(userCatalogKey, true);
+            }
 
             if (graphStoreWithConfig == null && failOnMissing) {
-                GraphNotFoundException result;
                 throw new GraphNotFoundException(userCatalogKey);
             }
 
             return graphStoreWithConfig;
         }
 
+        private GraphStoreCatalogLease lease(UserCatalogKey userCatalogKey) {
+            while (true) {
+                var graphStoreWithConfig = get(userCatalogKey, true);
+                var accessState = accessStates.get(userCatalogKey);
+                boolean sameGraph = accessState != null && accessState.graphStore == graphStoreWithConfig.graphStore();
+                if (sameGraph && accessState.acquire()) {
+                    return new GraphStoreCatalogLease(graphStoreWithConfig, accessState::release);
+                }
+                // evicted between the lookup and the lease, the next lookup reloads it
+            }
+        }
+
         private Optional<Map<String, Object>> getDegreeDistribution(UserCatalogKey userCatalogKey) {
-            if (!graphsByName.containsKey(userCatalogKey)) {
+            if (!exists(userCatalogKey)) {
                 return Optional.empty();
             }
             return Optional.ofNullable(degreeDistributionByName.get(userCatalogKey));
         }
 
         private boolean exists(UserCatalogKey userCatalogKey) {
-            return userCatalogKey != null && graphsByName.containsKey(userCatalogKey);
+            return userCatalogKey != null && (
+                graphsByName.containsKey(userCatalogKey) || spilledGraphs.containsKey(userCatalogKey)
+            );
         }
 
         private boolean remove(
@@ -406,58 +677,332 @@ public final class GraphStoreCatalog {
             Consumer<GraphStoreCatalogEntry> removedGraphConsumer,
             boolean failOnMissing
         ) {
-            return Optional.ofNullable(get(userCatalogKey, failOnMissing))
-                .map(graphStoreWithConfig -> {
-                    removedGraphConsumer.accept(graphStoreWithConfig);
-                    removeDegreeDistribution(userCatalogKey);
-                    var removed = graphsByName.remove(userCatalogKey);
-                    var config = removed.config();
-                    var graphStore = removed.graphStore();
-
-                    graphStoreRemovedEventListeners.forEach(
-                        listener -> ExceptionUtil.safeRunWithLogException(
-                            () -> String.format(
-                                Locale.US,
-                                "Could not call listener %s on setting the graph %s",
-                                listener,
-                                config.graphName()
-                            ),
-                            () -> listener.onGraphStoreRemoved(
-                                new GraphStoreRemovedEvent(
-                                    config.username(),
-                                    graphStore.databaseInfo().databaseId().databaseName(),
-                                    config.graphName(),
-                                    MemoryUsage.sizeOf(graphStore)
-                                )
-                            ),
-                            log.orElseGet(Log::noOpLog)::warn
-                        )
+            // an evicted graph is reloaded, as the consumer reports on the removed graph store
+            synchronized (evictionLock) {
+                return Optional.ofNullable(get(userCatalogKey, failOnMissing))
+                    .map(graphStoreWithConfig -> {
+                        removedGraphConsumer.accept(graphStoreWithConfig);
+                        removeDegreeDistribution(userCatalogKey);
+                        var removed = graphsByName.remove(userCatalogKey);
+                        var accessState = accessStates.remove(userCatalogKey);
+
+                        fireGraphStoreRemoved(
+                            removed.config(),
+                            removed.graphStore().databaseInfo().databaseId().databaseName(),
+                            accessState.sizeInBytes()
+                        );
+
+                        return Boolean.TRUE;
+                    })
+                    .orElse(Boolean.FALSE);
+            }
+        }
+
+        /**
+         * Removes all matching graphs. Evicted graphs are dropped from disk without reloading them.
+         */
+        private void removeAll(Predicate<UserCatalogKey> filter) {
+            graphsByName.keySet().stream().filter(filter).forEach(key -> remove(key, __ -> {}, false));
+
+            synchronized (evictionLock) {
+                spilledGraphs.keySet().stream().filter(filter).toList().forEach(key -> {
+                    var spilledGraph = spilledGraphs.remove(key);
+                    removeDegreeDistribution(key);
+                    deleteSpillDirectory(spilledGraph.directory());
+                });
+            }
+        }
+
+        private void touch(UserCatalogKey userCatalogKey) {
+            var accessState = accessStates.get(userCatalogKey);
+            if (accessState != null) {
+                accessState.touch();
+            }
+        }
+
+        /**
+         * Writes the graph to disk and drops it from memory, unless it has been used in the meantime.
+         * Must be called after {@link AccessState#beginEviction()} succeeded and without holding the eviction lock.
+         */
+        private void spill(UserCatalogKey userCatalogKey, AccessState accessState, GraphStoreEvictionPolicy policy) {
+            var entry = graphsByName.get(userCatalogKey);
+            if (entry == null || entry.graphStore() != accessState.graphStore) {
+                accessState.cancelEviction();
+                return;
+            }
+
+            var directory = policy.spillDirectory().resolve(UUID.randomUUID().toString());
+            spillsInProgress.add(directory);
+            try {
+                policy.spiller().spill(entry.graphStore(), directory);
+            } catch (RuntimeException e) {
+                // do not try again, the graph store will not become spillable
+                accessState.evictable = false;
+                accessState.cancelEviction();
+                failedEvictions.increment();
+                deleteSpillDirectory(directory);
+                spillsInProgress.remove(directory);
+                log.orElseGet(Log::noOpLog).warn(
+                    "Graph '%s' could not be evicted and stays in memory: %s",
+                    userCatalogKey.graphName(),
+                    e.getMessage()
+                );
+                return;
+            }
+
+            long sizeInBytes = accessState.sizeInBytes();
+            synchronized (evictionLock) {
+                spillsInProgress.remove(directory);
+                // the graph has been looked up, leased or dropped while it was written, so the copy might be outdated
+                if (accessStates.get(userCatalogKey) != accessState || !accessState.completeEviction()) {
+                    deleteSpillDirectory(directory);
+                    return;
+                }
+
+                spilledGraphs.put(
+                    userCatalogKey,
+                    new SpilledGraph(
+                        entry.config(),
+                        entry.resultStore(),
+                        policy.spiller(),
+                        directory,
+                        sizeInBytes
+                    )
+                );
+                graphsByName.remove(userCatalogKey);
+                accessStates.remove(userCatalogKey);
+            }
+            evictions.increment();
+
+            log.orElseGet(Log::noOpLog).info(
+                "Evicted graph '%s' (%d bytes) to %s",
+                userCatalogKey.graphName(),
+                sizeInBytes,
+                directory
+            );
+            fireGraphStoreRemoved(entry.config(), userCatalogKey.databaseName(), sizeInBytes);
+        }
+
+        /**
+         * Restores an evicted graph and deletes its files.
+         *
+         * @param evictOthers whether to evict other graphs if the reloaded graph exceeds the budget
+         * @return the reloaded graph, or null if the graph has been removed concurrently
+         */
+        private @Nullable GraphStoreCatalogEntry reload(UserCatalogKey userCatalogKey, boolean evictOthers) {
+            GraphStoreCatalogEntry entry;
+            AccessState accessState;
+            synchronized (evictionLock) {
+                var resident = graphsByName.get(userCatalogKey);
+                if (resident != null) {
+                    // reloaded by a concurrent lookup, or still resident
+                    touch(userCatalogKey);
+                    return resident;
+                }
+                var spilledGraph = spilledGraphs.get(userCatalogKey);
+                if (spilledGraph == null) {
+                    return null;
+                }
+
+                long start = System.nanoTime();
+                GraphStore graphStore;
+                try {
+                    graphStore = spilledGraph.spiller().reload(spilledGraph.directory());
+                } catch (RuntimeException e) {
+                    throw new IllegalStateException(
+                        formatWithLocale(
+                            "Could not reload the evicted graph '%s' from %s",
+                            userCatalogKey.graphName(),
+                            spilledGraph.directory()
+                        ),
+                        e
                     );
+                }
+                long reloadNanos = System.nanoTime() - start;
+
+                entry = new GraphStoreCatalogEntry(graphStore, spilledGraph.config(), spilledGraph.resultStore());
+                accessState = new AccessState(graphStore, spilledGraph.sizeInBytes());
+                accessStates.put(userCatalogKey, accessState);
+                graphsByName.put(userCatalogKey, entry);
+                spilledGraphs.remove(userCatalogKey);
+                deleteSpillDirectory(spilledGraph.directory());
+
+                reloads.increment();
+                totalReloadNanos.add(reloadNanos);
+                maxReloadNanos.accumulateAndGet(reloadNanos, Math::max);
+
+                log.orElseGet(Log::noOpLog).info(
+                    "Reloaded evicted graph '%s' in %d ms",
+                    userCatalogKey.graphName(),
+                    Duration.ofNanos(reloadNanos).toMillis()
+                );
+            }
 
+            fireGraphStoreAdded(entry.config(), userCatalogKey.databaseName(), accessState::sizeInBytes);
+            if (evictOthers) {
+                evictIfNecessary(this, userCatalogKey);
+            }
+            return entry;
+        }
 
-                    return Boolean.TRUE;
-                })
-                .orElse(Boolean.FALSE);
+        private int graphStoreCount(Predicate<UserCatalogKey> filter) {
+            return (int) (
+                graphsByName.keySet().stream().filter(filter).count() +
+                spilledGraphs.keySet().stream().filter(filter).count()
+            );
         }
 
         private Stream<GraphStoreCatalogEntryWithUsername> streamGraphStores(String userName) {
-            return graphsByName
-                .values()
+            return getGraphStores()
                 .stream()
                 .map(catalogEntry -> new GraphStoreCatalogEntryWithUsername(catalogEntry, userName));
         }
 
         private Collection<GraphStoreCatalogEntry> getGraphStores() {
-            return graphsByName.values();
+            return getGraphStores(key -> true);
         }
 
         private Collection<GraphStoreCatalogEntry> getGraphStores(DatabaseId databaseId) {
-            return graphsByName.entrySet()
-                .stream()
-                .filter(entry -> entry.getKey().databaseName().equals(databaseId.databaseName()))
-                .map(Map.Entry::getValue)
-                .toList();
+            return getGraphStores(inDatabase(databaseId));
+        }
+
+        /**
+         * Evicted graphs are reloaded, as callers inspect the graph stores.
+         * Eviction is deferred until all graphs have been collected, so that the result is complete.
+         */
+        private Collection<GraphStoreCatalogEntry> getGraphStores(Predicate<UserCatalogKey> filter) {
+            var entries = new LinkedHashMap<UserCatalogKey, GraphStoreCatalogEntry>();
+            graphsByName.forEach((key, entry) -> {
+                if (filter.test(key)) {
+                    entries.put(key, entry);
+                }
+            });
+
+            boolean reloaded = false;
+            for (var key : spilledGraphs.keySet()) {
+                if (filter.test(key) && !entries.containsKey(key)) {
+                    var entry = reload(key, false);
+                    if (entry != null) {
+                        entries.put(key, entry);
+                        reloaded = true;
+                    }
+                }
+            }
+            if (reloaded) {
+                evictIfNecessary(null, null);
+            }
+
+            return new ArrayList<>(entries.values());
+        }
+    }
+
+    private static final class AccessState {
+
+        // states of `leases` besides the number of open leases
+        private static final int EVICTING = -1;
+        private static final int EVICTED = -2;
+
+        private final GraphStore graphStore;
+        private final AtomicInteger leases = new AtomicInteger();
+        private volatile long lastAccess;
+        private volatile long lastAccessNanos;
+        private volatile boolean evictable = true;
+        private long sizeInBytes;
+        private long sizedAtAccess;
+
+        private AccessState(GraphStore graphStore) {
+            this(graphStore, -1L);
+        }
+
+        private AccessState(GraphStore graphStore, long sizeInBytes) {
+            this.graphStore = graphStore;
+            touch();
+            this.sizeInBytes = sizeInBytes;
+            this.sizedAtAccess = lastAccess;
+        }
+
+        /**
+         * Any access cancels an eviction in progress, as the caller might mutate the graph store.
+         *
+         * @return whether the graph store is still resident
+         */
+        private boolean touch() {
+            lastAccess = accessClock.incrementAndGet();
+            lastAccessNanos = System.nanoTime();
+            cancelEviction();
+            return leases.get() != EVICTED;
+        }
+
+        private boolean isIdle(long now, Duration minIdleTime) {
+            return Duration.ofNanos(now - lastAccessNanos).compareTo(minIdleTime) >= 0;
+        }
+
+        private boolean acquire() {
+            while (true) {
+                int state = leases.get();
+                if (state == EVICTED) {
+                    return false;
+                }
+                int next = state == EVICTING ? 1 : state + 1;
+                if (leases.compareAndSet(state, next)) {
+                    touch();
+                    return true;
+                }
+            }
+        }
+
+        private void release() {
+            leases.decrementAndGet();
+            touch();
+        }
+
+        private boolean isLeased() {
+            return leases.get() > 0;
+        }
+
+        private boolean beginEviction() {
+            return leases.compareAndSet(0, EVICTING);
+        }
+
+        private void cancelEviction() {
+            leases.compareAndSet(EVICTING, 0);
+        }
+
+        private boolean completeEviction() {
+            return leases.compareAndSet(EVICTING, EVICTED);
+        }
+
+        private boolean isEvicting() {
+            return leases.get() == EVICTING;
+        }
+
+        /**
+         * Computed lazily, as walking the graph store is expensive and only needed for eviction and listeners.
+         * The size is recomputed after the graph store has been accessed, as callers may have mutated it.
+         * Graph stores of unknown size count as empty.
+         */
+        private synchronized long sizeInBytes() {
+            long access = lastAccess;
+            if (sizeInBytes < 0 || sizedAtAccess != access) {
+                sizeInBytes = Math.max(0L, sizeOf(graphStore));
+                sizedAtAccess = access;
+            }
+            return sizeInBytes;
         }
     }
 
+    private record SpilledGraph(
+        GraphProjectConfig config,
+        ResultStore resultStore,
+        GraphStoreSpiller spiller,
+        Path directory,
+        long sizeInBytes
+    ) {}
+
+    private record EvictionCandidate(
+        UserCatalog userCatalog,
+        UserCatalog.UserCatalogKey key,
+        AccessState accessState
+    ) {}
+
 }
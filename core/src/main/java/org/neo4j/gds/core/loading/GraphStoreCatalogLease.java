@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps a graph of the {@link GraphStoreCatalog} in memory while it is in use.
+ * Leased graphs are never evicted, so that computations and their side effects act on the graph store in the catalog.
+ * Closing the lease more than once has no effect.
+ */
+public final class GraphStoreCatalogLease implements AutoCloseable {
+
+    private final GraphStoreCatalogEntry catalogEntry;
+    private final Runnable release;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    GraphStoreCatalogLease(GraphStoreCatalogEntry catalogEntry, Runnable release) {
+        this.catalogEntry = catalogEntry;
+        this.release = release;
+    }
+
+    public GraphStoreCatalogEntry catalogEntry() {
+        return catalogEntry;
+    }
+
+    @Override
+    public void close() {
+        if (released.compareAndSet(false, true)) {
+            release.run();
+        }
+    }
+}
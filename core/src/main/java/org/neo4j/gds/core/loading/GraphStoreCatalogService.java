@@ -72,6 +72,13 @@ public class GraphStoreCatalogService {
         return GraphStoreCatalog.get(catalogRequest, graphName.value());
     }
 
+    /**
+     * Keeps the graph from being evicted from the catalog until the lease is closed.
+     */
+    public GraphStoreCatalogLease lease(CatalogRequest catalogRequest, GraphName graphName) {
+        return GraphStoreCatalog.lease(catalogRequest, graphName.value());
+    }
+
     /**
      * Load GraphStore and graph, with copious validation.
      *
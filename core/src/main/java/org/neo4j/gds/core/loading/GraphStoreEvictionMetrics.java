@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the eviction counters of the {@link GraphStoreCatalog}.
+ *
+ * @param hits            lookups that found the graph store in memory
+ * @param reloads         lookups that reloaded an evicted graph store from disk
+ * @param evictions       graph stores that have been written to disk and dropped from the heap
+ * @param failedEvictions graph stores that could not be written to disk and stay in memory
+ * @param evictedGraphs   graph stores that are currently on disk
+ */
+public record GraphStoreEvictionMetrics(
+    long hits,
+    long reloads,
+    long evictions,
+    long failedEvictions,
+    long evictedGraphs,
+    Duration totalReloadTime,
+    Duration maxReloadTime
+) {
+
+    public Duration averageReloadTime() {
+        return reloads == 0 ? Duration.ZERO : totalReloadTime.dividedBy(reloads);
+    }
+}
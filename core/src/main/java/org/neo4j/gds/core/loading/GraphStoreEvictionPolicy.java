@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.core.concurrency.ExecutorServiceUtil;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Configures the eviction of cold graph stores from the {@link GraphStoreCatalog}.
+ * <p>
+ * Whenever the graph stores in memory exceed {@code maxResidentBytes}, the least recently used
+ * graph stores are written to {@code spillDirectory} and dropped from the heap, until the remaining
+ * graph stores fit into the budget again. Evicted graph stores are reloaded on their next lookup.
+ * <p>
+ * Only graph stores that have not been accessed for at least {@code minIdleTime} and that are not leased,
+ * see {@link GraphStoreCatalog#lease(CatalogRequest, String)}, are evicted.
+ * Graph stores are written on the {@code spillExecutor}; a lookup while a graph store is being written cancels its eviction.
+ */
+public record GraphStoreEvictionPolicy(
+    GraphStoreSpiller spiller,
+    Path spillDirectory,
+    long maxResidentBytes,
+    Duration minIdleTime,
+    Executor spillExecutor
+) {
+
+    private static final Executor DEFAULT_SPILL_EXECUTOR = ExecutorServiceUtil.createSingleThreadPool("gds-eviction");
+
+    public GraphStoreEvictionPolicy(
+        GraphStoreSpiller spiller,
+        Path spillDirectory,
+        long maxResidentBytes,
+        Duration minIdleTime
+    ) {
+        this(spiller, spillDirectory, maxResidentBytes, minIdleTime, DEFAULT_SPILL_EXECUTOR);
+    }
+
+    public GraphStoreEvictionPolicy {
+        if (maxResidentBytes < 0) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The maximum resident size must be non-negative, but got %d.",
+                maxResidentBytes
+            ));
+        }
+        if (minIdleTime.isNegative()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The minimum idle time must be non-negative, but got %s.",
+                minIdleTime
+            ));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.api.GraphStore;
+
+import java.nio.file.Path;
+
+/**
+ * Moves graph stores from the heap to local disk and back,
+ * used by the {@link GraphStoreCatalog} to evict cold graphs, see {@link GraphStoreEvictionPolicy}.
+ */
+public interface GraphStoreSpiller {
+
+    /**
+     * Writes the graph store into the given directory, which does not exist yet.
+     * Throws if the graph store cannot be written, in which case it stays in memory.
+     */
+    void spill(GraphStore graphStore, Path directory);
+
+    /**
+     * Restores a graph store that has been written by {@link #spill(GraphStore, Path)}.
+     * The directory is deleted after reloading, so the returned graph store must not reference its files.
+     */
+    GraphStore reload(Path directory);
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.loading.nodeproperties;
 
+import org.neo4j.gds.PropertyMapping;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.nodeproperties.ValueType;
@@ -28,48 +29,124 @@ import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.loading.HighLimitIdMap;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.gds.values.GdsNoValue;
 import org.neo4j.gds.values.GdsValue;
 import org.neo4j.gds.values.primitive.PrimitiveValues;
 
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public final class NodePropertiesFromStoreBuilder {
 
-    private static final MemoryEstimation MEMORY_ESTIMATION = MemoryEstimations
-        .builder(NodePropertiesFromStoreBuilder.class)
-        .rangePerGraphDimension(
-            "property values",
-            (dimensions, concurrency) -> HugeSparseCollections.estimateLong(
-                dimensions.nodeCount(),
-                dimensions.nodeCount()
+    /**
+     * Estimates the memory for loading the given property.
+     * The value type is taken from the default value of the mapping, if it has one,
+     * and the array length from the property dimensions of the graph dimensions, if known.
+     * Properties of unknown type and dimension are estimated as scalar values.
+     */
+    public static MemoryEstimation memoryEstimation(PropertyMapping propertyMapping, boolean offHeap) {
+        var propertyKey = propertyMapping.propertyKey();
+        var valueType = valueType(propertyMapping.defaultValue());
+
+        var onHeapEstimation = MemoryEstimations
+            .builder(NodePropertiesFromStoreBuilder.class)
+            .rangePerGraphDimension(
+                "property values",
+                (dimensions, concurrency) -> estimatePropertyValues(
+                    valueType,
+                    dimensions.nodePropertyDimensions().get(propertyKey),
+                    dimensions.nodeCount()
+                )
             )
-        )
-        .build();
+            .build();
+
+        if (!offHeap) {
+            return onHeapEstimation;
+        }
+        // Off-heap properties are built on-heap first and copied afterwards.
+        return MemoryEstimations
+            .builder(NodePropertiesFromStoreBuilder.class)
+            .add(onHeapEstimation)
+            .add(OffHeapNodePropertyValues.memoryEstimation(propertyKey, valueType))
+            .build();
+    }
 
-    public static MemoryEstimation memoryEstimation() {
-        return MEMORY_ESTIMATION;
+    static Optional<ValueType> valueType(DefaultValue defaultValue) {
+        var value = defaultValue.getObject();
+        if (value instanceof Long || value instanceof Integer) {
+            return Optional.of(ValueType.LONG);
+        } else if (value instanceof Double || value instanceof Float) {
+            return Optional.of(ValueType.DOUBLE);
+        } else if (value instanceof long[]) {
+            return Optional.of(ValueType.LONG_ARRAY);
+        } else if (value instanceof double[]) {
+            return Optional.of(ValueType.DOUBLE_ARRAY);
+        } else if (value instanceof float[]) {
+            return Optional.of(ValueType.FLOAT_ARRAY);
+        }
+        return Optional.empty();
+    }
+
+    private static MemoryRange estimatePropertyValues(
+        Optional<ValueType> valueType,
+        Optional<Integer> dimension,
+        long nodeCount
+    ) {
+        int arrayLength = dimension.orElse(0);
+        if (valueType.isEmpty()) {
+            // without a type, only a known dimension tells arrays apart from scalars
+            return arrayLength > 1
+                ? HugeSparseCollections
+                    .estimateFloatArray(nodeCount, nodeCount, arrayLength)
+                    .union(HugeSparseCollections.estimateDoubleArray(nodeCount, nodeCount, arrayLength))
+                : HugeSparseCollections.estimateLong(nodeCount, nodeCount);
+        }
+        switch (valueType.get()) {
+            case LONG_ARRAY:
+                return HugeSparseCollections.estimateLongArray(nodeCount, nodeCount, arrayLength);
+            case DOUBLE_ARRAY:
+                return HugeSparseCollections.estimateDoubleArray(nodeCount, nodeCount, arrayLength);
+            case FLOAT_ARRAY:
+                return HugeSparseCollections.estimateFloatArray(nodeCount, nodeCount, arrayLength);
+            case DOUBLE:
+                return HugeSparseCollections.estimateDouble(nodeCount, nodeCount);
+            default:
+                return HugeSparseCollections.estimateLong(nodeCount, nodeCount);
+        }
     }
 
     public static NodePropertiesFromStoreBuilder of(
         DefaultValue defaultValue,
         Concurrency concurrency
     ) {
-        return new NodePropertiesFromStoreBuilder(defaultValue, concurrency);
+        return of(defaultValue, concurrency, GdsFeatureToggles.USE_OFF_HEAP_NODE_PROPERTIES.isEnabled());
+    }
+
+    public static NodePropertiesFromStoreBuilder of(
+        DefaultValue defaultValue,
+        Concurrency concurrency,
+        boolean offHeap
+    ) {
+        return new NodePropertiesFromStoreBuilder(defaultValue, concurrency, offHeap);
     }
 
     private final DefaultValue defaultValue;
     private final Concurrency concurrency;
+    private final boolean offHeap;
     private final AtomicReference<InnerNodePropertiesBuilder> innerBuilder;
 
     private NodePropertiesFromStoreBuilder(
         DefaultValue defaultValue,
-        Concurrency concurrency
+        Concurrency concurrency,
+        boolean offHeap
     ) {
         this.defaultValue = defaultValue;
         this.concurrency = concurrency;
+        this.offHeap = offHeap;
         this.innerBuilder = new AtomicReference<>();
     }
 
@@ -98,7 +175,11 @@ public final class NodePropertiesFromStoreBuilder {
         // with the intermediate node ids.
         var actualIdMap = (idMap instanceof HighLimitIdMap) ? idMap.rootIdMap() : idMap;
 
-        return innerBuilder.get().build(idMap.nodeCount(), actualIdMap, idMap.highestOriginalId());
+        var propertyValues = innerBuilder.get().build(idMap.nodeCount(), actualIdMap, idMap.highestOriginalId());
+
+        return offHeap
+            ? OffHeapNodePropertyValues.copyOf(propertyValues)
+            : propertyValues;
     }
 
     // This is synchronized as we want to prevent the creation of multiple InnerNodePropertiesBuilders of which only once survives.
@@ -0,0 +1,484 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import com.carrotsearch.hppc.BitSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.LongArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+import org.neo4j.memory.EmptyMemoryTracker;
+
+import java.lang.ref.Cleaner;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.function.LongToIntFunction;
+
+/**
+ * Node property values that are stored in off-heap memory instead of on-heap pages.
+ * <p>
+ * Large node properties, such as embeddings, put a lot of pressure on the garbage collector
+ * while they are essentially immutable once they are part of a graph store. Storing them
+ * off-heap keeps them out of the heap. The memory is released once the values become
+ * unreachable, i.e. when the property or the graph is dropped.
+ * <p>
+ * Scalar values are stored as one 8-byte slot per node. Arrays are stored consecutively;
+ * if all nodes have an array of the same length, which is the common case for embeddings,
+ * the position is computed from the node id, otherwise an additional offset per node is stored.
+ */
+public final class OffHeapNodePropertyValues {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private static final long LONG_ARRAY_BASE_OFFSET = UnsafeUtil.arrayBaseOffset(long[].class);
+    private static final long DOUBLE_ARRAY_BASE_OFFSET = UnsafeUtil.arrayBaseOffset(double[].class);
+    private static final long FLOAT_ARRAY_BASE_OFFSET = UnsafeUtil.arrayBaseOffset(float[].class);
+
+    // marks `null` arrays in the offsets, the offset itself stays valid
+    private static final long NULL_ARRAY = Long.MIN_VALUE;
+
+    private OffHeapNodePropertyValues() {}
+
+    /**
+     * Estimates the off-heap memory for the given property, using its dimension from the graph dimensions.
+     * Properties without a known type are estimated as scalar values, unless they have a known dimension.
+     * Arrays of unknown length are estimated with one element and, at most, an offset per node.
+     */
+    public static MemoryEstimation memoryEstimation(String propertyKey, Optional<ValueType> valueType) {
+        return MemoryEstimations
+            .builder(OffHeapNodePropertyValues.class)
+            .perGraphDimension("off-heap property values", (dimensions, concurrency) -> {
+                long nodeCount = dimensions.nodeCount();
+                var dimension = dimensions.nodePropertyDimensions().get(propertyKey);
+                boolean isArray = valueType
+                    .map(type -> type != ValueType.LONG && type != ValueType.DOUBLE)
+                    .orElse(dimension.orElse(1) > 1);
+                if (!isArray) {
+                    return MemoryRange.of(nodeCount * Long.BYTES);
+                }
+
+                long elementCount = nodeCount * dimension.orElse(1);
+                var data = valueType
+                    .map(type -> MemoryRange.of(arrayBytes(elementCount, type)))
+                    .orElseGet(() -> MemoryRange.of(
+                        arrayBytes(elementCount, ValueType.FLOAT_ARRAY),
+                        arrayBytes(elementCount, ValueType.DOUBLE_ARRAY)
+                    ));
+                return dimension.isPresent()
+                    ? data
+                    : data.union(data.add((nodeCount + 1) * Long.BYTES));
+            })
+            .build();
+    }
+
+    private static long arrayBytes(long elementCount, ValueType valueType) {
+        int elementBytes = valueType == ValueType.FLOAT_ARRAY ? Float.BYTES : Long.BYTES;
+        return BitUtil.align(elementCount * elementBytes, Long.BYTES);
+    }
+
+    /**
+     * Returns the off-heap memory held by the given values, or {@code 0} if they are stored on-heap.
+     */
+    public static long sizeInBytes(NodePropertyValues values) {
+        return values instanceof OffHeapValues ? ((OffHeapValues) values).sizeInBytes : 0L;
+    }
+
+    public static boolean isOffHeap(NodePropertyValues values) {
+        return values instanceof OffHeapValues;
+    }
+
+    /**
+     * Copies the given values into off-heap memory.
+     * Values that are already off-heap and values of unsupported types are returned as they are.
+     */
+    public static NodePropertyValues copyOf(NodePropertyValues values) {
+        if (isOffHeap(values)) {
+            return values;
+        }
+        switch (values.valueType()) {
+            case LONG:
+                return OffHeapLongValues.copyOf(values);
+            case DOUBLE:
+                return OffHeapDoubleValues.copyOf(values);
+            case LONG_ARRAY:
+                return OffHeapLongArrayValues.copyOf(values);
+            case DOUBLE_ARRAY:
+                return OffHeapDoubleArrayValues.copyOf(values);
+            case FLOAT_ARRAY:
+                return OffHeapFloatArrayValues.copyOf(values);
+            default:
+                return values;
+        }
+    }
+
+    private static @Nullable BitSet missingValues(NodePropertyValues values) {
+        BitSet missing = null;
+        for (long nodeId = 0; nodeId < values.nodeCount(); nodeId++) {
+            if (!values.hasValue(nodeId)) {
+                if (missing == null) {
+                    missing = new BitSet(values.nodeCount());
+                }
+                missing.set(nodeId);
+            }
+        }
+        return missing;
+    }
+
+    private abstract static class OffHeapValues {
+        final long nodeCount;
+        final long address;
+        final long sizeInBytes;
+
+        OffHeapValues(long nodeCount, Memory memory) {
+            this.nodeCount = nodeCount;
+            this.address = memory.address;
+            this.sizeInBytes = memory.bytes;
+            CLEANER.register(this, memory);
+        }
+
+        public long nodeCount() {
+            return nodeCount;
+        }
+    }
+
+    private abstract static class OffHeapScalarValues extends OffHeapValues {
+        private final @Nullable BitSet missing;
+
+        OffHeapScalarValues(long nodeCount, Memory memory, @Nullable BitSet missing) {
+            super(nodeCount, memory);
+            this.missing = missing;
+        }
+
+        public boolean hasValue(long nodeId) {
+            return missing == null || !missing.get(nodeId);
+        }
+    }
+
+    private static final class OffHeapLongValues extends OffHeapScalarValues implements LongNodePropertyValues {
+        private final OptionalLong maxValue;
+
+        static OffHeapLongValues copyOf(NodePropertyValues values) {
+            long nodeCount = values.nodeCount();
+            var memory = Memory.allocate(nodeCount * Long.BYTES);
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                UnsafeUtil.putLong(memory.address + nodeId * Long.BYTES, values.longValue(nodeId));
+            }
+            return new OffHeapLongValues(nodeCount, memory, missingValues(values), values.getMaxLongPropertyValue());
+        }
+
+        private OffHeapLongValues(long nodeCount, Memory memory, @Nullable BitSet missing, OptionalLong maxValue) {
+            super(nodeCount, memory, missing);
+            this.maxValue = maxValue;
+        }
+
+        @Override
+        public long longValue(long nodeId) {
+            return UnsafeUtil.getLong(address + nodeId * Long.BYTES);
+        }
+
+        @Override
+        public OptionalLong getMaxLongPropertyValue() {
+            return maxValue;
+        }
+    }
+
+    private static final class OffHeapDoubleValues extends OffHeapScalarValues implements DoubleNodePropertyValues {
+        private final OptionalDouble maxValue;
+
+        static OffHeapDoubleValues copyOf(NodePropertyValues values) {
+            long nodeCount = values.nodeCount();
+            var memory = Memory.allocate(nodeCount * Double.BYTES);
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                UnsafeUtil.putLong(
+                    memory.address + nodeId * Double.BYTES,
+                    Double.doubleToRawLongBits(values.doubleValue(nodeId))
+                );
+            }
+            return new OffHeapDoubleValues(nodeCount, memory, missingValues(values), values.getMaxDoublePropertyValue());
+        }
+
+        private OffHeapDoubleValues(long nodeCount, Memory memory, @Nullable BitSet missing, OptionalDouble maxValue) {
+            super(nodeCount, memory, missing);
+            this.maxValue = maxValue;
+        }
+
+        @Override
+        public double doubleValue(long nodeId) {
+            return Double.longBitsToDouble(UnsafeUtil.getLong(address + nodeId * Double.BYTES));
+        }
+
+        @Override
+        public OptionalDouble getMaxDoublePropertyValue() {
+            return maxValue;
+        }
+    }
+
+    /**
+     * Arrays are stored back to back. If all arrays have the same length, the offsets are omitted.
+     */
+    private abstract static class OffHeapArrayValues extends OffHeapValues {
+        private final int elementShift;
+        private final int dimension;
+        // address of the offsets, 0 if all arrays have the same length
+        private final long offsets;
+
+        OffHeapArrayValues(long nodeCount, Memory memory, ArrayLayout layout) {
+            super(nodeCount, memory);
+            this.elementShift = layout.elementShift;
+            this.dimension = layout.dimension;
+            this.offsets = layout.uniform() ? 0L : memory.address + layout.dataBytes();
+        }
+
+        final boolean isNull(long nodeId) {
+            return offsets != 0L && UnsafeUtil.getLong(offsets + nodeId * Long.BYTES) < 0;
+        }
+
+        final long elementAddress(long nodeId) {
+            if (offsets == 0L) {
+                return address + ((nodeId * dimension) << elementShift);
+            }
+            return address + ((UnsafeUtil.getLong(offsets + nodeId * Long.BYTES) & ~NULL_ARRAY) << elementShift);
+        }
+
+        final int length(long nodeId) {
+            if (offsets == 0L) {
+                return dimension;
+            }
+            long start = UnsafeUtil.getLong(offsets + nodeId * Long.BYTES) & ~NULL_ARRAY;
+            long end = UnsafeUtil.getLong(offsets + (nodeId + 1) * Long.BYTES) & ~NULL_ARRAY;
+            return (int) (end - start);
+        }
+
+        public boolean hasValue(long nodeId) {
+            return !isNull(nodeId);
+        }
+
+        public Optional<Integer> dimension(long nodeId) {
+            return isNull(nodeId) ? Optional.empty() : Optional.of(length(nodeId));
+        }
+    }
+
+    private static final class OffHeapLongArrayValues extends OffHeapArrayValues implements LongArrayNodePropertyValues {
+
+        static OffHeapLongArrayValues copyOf(NodePropertyValues values) {
+            var layout = ArrayLayout.of(values.nodeCount(), 3, nodeId -> {
+                var array = values.longArrayValue(nodeId);
+                return array == null ? -1 : array.length;
+            });
+            var memory = layout.allocate();
+            layout.copy(memory, (nodeId, elementAddress) -> {
+                var array = values.longArrayValue(nodeId);
+                if (array == null) {
+                    return -1;
+                }
+                UnsafeUtil.copyMemory(array, LONG_ARRAY_BASE_OFFSET, null, elementAddress, (long) array.length * Long.BYTES);
+                return array.length;
+            });
+            return new OffHeapLongArrayValues(values.nodeCount(), memory, layout);
+        }
+
+        private OffHeapLongArrayValues(long nodeCount, Memory memory, ArrayLayout layout) {
+            super(nodeCount, memory, layout);
+        }
+
+        @Override
+        public long[] longArrayValue(long nodeId) {
+            if (isNull(nodeId)) {
+                return null;
+            }
+            var array = new long[length(nodeId)];
+            UnsafeUtil.copyMemory(null, elementAddress(nodeId), array, LONG_ARRAY_BASE_OFFSET, (long) array.length * Long.BYTES);
+            return array;
+        }
+    }
+
+    private static final class OffHeapDoubleArrayValues extends OffHeapArrayValues implements DoubleArrayNodePropertyValues {
+
+        static OffHeapDoubleArrayValues copyOf(NodePropertyValues values) {
+            var layout = ArrayLayout.of(values.nodeCount(), 3, nodeId -> {
+                var array = values.doubleArrayValue(nodeId);
+                return array == null ? -1 : array.length;
+            });
+            var memory = layout.allocate();
+            layout.copy(memory, (nodeId, elementAddress) -> {
+                var array = values.doubleArrayValue(nodeId);
+                if (array == null) {
+                    return -1;
+                }
+                UnsafeUtil.copyMemory(array, DOUBLE_ARRAY_BASE_OFFSET, null, elementAddress, (long) array.length * Double.BYTES);
+                return array.length;
+            });
+            return new OffHeapDoubleArrayValues(values.nodeCount(), memory, layout);
+        }
+
+        private OffHeapDoubleArrayValues(long nodeCount, Memory memory, ArrayLayout layout) {
+            super(nodeCount, memory, layout);
+        }
+
+        @Override
+        public double[] doubleArrayValue(long nodeId) {
+            if (isNull(nodeId)) {
+                return null;
+            }
+            var array = new double[length(nodeId)];
+            UnsafeUtil.copyMemory(null, elementAddress(nodeId), array, DOUBLE_ARRAY_BASE_OFFSET, (long) array.length * Double.BYTES);
+            return array;
+        }
+    }
+
+    private static final class OffHeapFloatArrayValues extends OffHeapArrayValues implements FloatArrayNodePropertyValues {
+
+        static OffHeapFloatArrayValues copyOf(NodePropertyValues values) {
+            var layout = ArrayLayout.of(values.nodeCount(), 2, nodeId -> {
+                var array = values.floatArrayValue(nodeId);
+                return array == null ? -1 : array.length;
+            });
+            var memory = layout.allocate();
+            layout.copy(memory, (nodeId, elementAddress) -> {
+                var array = values.floatArrayValue(nodeId);
+                if (array == null) {
+                    return -1;
+                }
+                UnsafeUtil.copyMemory(array, FLOAT_ARRAY_BASE_OFFSET, null, elementAddress, (long) array.length * Float.BYTES);
+                return array.length;
+            });
+            return new OffHeapFloatArrayValues(values.nodeCount(), memory, layout);
+        }
+
+        private OffHeapFloatArrayValues(long nodeCount, Memory memory, ArrayLayout layout) {
+            super(nodeCount, memory, layout);
+        }
+
+        @Override
+        public float[] floatArrayValue(long nodeId) {
+            if (isNull(nodeId)) {
+                return null;
+            }
+            var array = new float[length(nodeId)];
+            UnsafeUtil.copyMemory(null, elementAddress(nodeId), array, FLOAT_ARRAY_BASE_OFFSET, (long) array.length * Float.BYTES);
+            return array;
+        }
+    }
+
+    /**
+     * The layout of array values in off-heap memory, computed from the array lengths of all nodes.
+     * A length of {@code -1} denotes a {@code null} array.
+     */
+    private static final class ArrayLayout {
+        private final long nodeCount;
+        private final int elementShift;
+        // the length of all arrays or -1 if the lengths differ
+        private final int dimension;
+        private final long elementCount;
+
+        static ArrayLayout of(long nodeCount, int elementShift, LongToIntFunction lengthFn) {
+            int dimension = nodeCount == 0 ? 0 : lengthFn.applyAsInt(0);
+            boolean uniform = dimension >= 0;
+            long elementCount = 0L;
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                int length = lengthFn.applyAsInt(nodeId);
+                uniform &= length == dimension;
+                elementCount += Math.max(length, 0);
+            }
+            return new ArrayLayout(nodeCount, elementShift, uniform ? dimension : -1, elementCount);
+        }
+
+        private ArrayLayout(long nodeCount, int elementShift, int dimension, long elementCount) {
+            this.nodeCount = nodeCount;
+            this.elementShift = elementShift;
+            this.dimension = dimension;
+            this.elementCount = elementCount;
+        }
+
+        boolean uniform() {
+            return dimension >= 0;
+        }
+
+        long dataBytes() {
+            // keeps the offsets 8-byte aligned
+            return BitUtil.align(elementCount << elementShift, Long.BYTES);
+        }
+
+        Memory allocate() {
+            long offsetBytes = uniform() ? 0L : (nodeCount + 1) * Long.BYTES;
+            return Memory.allocate(dataBytes() + offsetBytes);
+        }
+
+        void copy(Memory memory, ArrayCopy arrayCopy) {
+            long offsets = memory.address + dataBytes();
+            long offset = 0L;
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                int length = arrayCopy.copy(nodeId, memory.address + (offset << elementShift));
+                if (!uniform()) {
+                    UnsafeUtil.putLong(offsets + nodeId * Long.BYTES, length < 0 ? offset | NULL_ARRAY : offset);
+                }
+                offset += Math.max(length, 0);
+            }
+            if (!uniform()) {
+                UnsafeUtil.putLong(offsets + nodeCount * Long.BYTES, offset);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ArrayCopy {
+        /**
+         * Copies the array of the given node to the given address.
+         *
+         * @return the length of the copied array or -1 if the node has no array
+         */
+        int copy(long nodeId, long elementAddress);
+    }
+
+    /**
+     * Off-heap memory that is freed by the {@link #CLEANER} once its owner is unreachable.
+     * Must not reference the owner, otherwise it would never become unreachable.
+     */
+    private static final class Memory implements Runnable {
+        private final long address;
+        private final long bytes;
+
+        static Memory allocate(long bytes) {
+            // allocating zero bytes is not guaranteed to return a valid address
+            long size = Math.max(bytes, Long.BYTES);
+            return new Memory(UnsafeUtil.allocateMemory(size, EmptyMemoryTracker.INSTANCE), size);
+        }
+
+        private Memory(long address, long bytes) {
+            this.address = address;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void run() {
+            UnsafeUtil.free(address, bytes, EmptyMemoryTracker.INSTANCE);
+        }
+    }
+}
@@ -112,12 +112,7 @@ public final class Intersections {
         return  sumSquareDelta(vector1,vector2,vector1.length);
     }
     public static double sumSquareDelta(double[] vector1, double[] vector2, int len) {
-        double result = 0;
-        for (int i = 0; i < len; i++) {
-            double delta = vector1[i] - vector2[i];
-            result += delta * delta;
-        }
-        return result;
+        return SimilarityKernels.INSTANCE.sumSquareDelta(vector1, vector2, len);
     }
 
     public static float sumSquareDelta(float[] vector1, float[] vector2) {
@@ -125,12 +120,14 @@ public final class Intersections {
         return  sumSquareDelta(vector1,vector2,vector1.length);
     }
     public static float sumSquareDelta(float[] vector1, float[] vector2, int len) {
-        float result = 0;
-        for (int i = 0; i < len; i++) {
-            float delta = vector1[i] - vector2[i];
-            result += delta * delta;
-        }
-        return result;
+        return SimilarityKernels.INSTANCE.sumSquareDelta(vector1, vector2, len);
+    }
+
+    /**
+     * Like {@link #sumSquareDelta(float[], float[], int)}, but sums up with double precision.
+     */
+    public static double sumSquareDeltaAsDouble(float[] vector1, float[] vector2, int len) {
+        return SimilarityKernels.INSTANCE.sumSquareDeltaAsDouble(vector1, vector2, len);
     }
 
     public static double[] sumSquareDeltas(double[] vector1, double[][] vector2, int len) {
@@ -146,66 +143,31 @@ public final class Intersections {
     }
 
     public static double pearson(double[] vector1, double[] vector2, int len) {
-        double vector1Sum = 0.0;
-        double vector2Sum = 0.0;
-        for (int i = 0; i < len; i++) {
-            vector1Sum += vector1[i];
-            vector2Sum += vector2[i];
-        }
-
-        double vector1Mean = vector1Sum / len;
-        double vector2Mean = vector2Sum / len;
-
-        double dotProductMinusMean = 0D;
-        double xLength = 0D;
-        double yLength = 0D;
-        for (int i = 0; i < len; i++) {
-            double vector1Delta = vector1[i] - vector1Mean;
-            double vector2Delta = vector2[i] - vector2Mean;
+        double result = pearsonCorrelation(vector1, vector2, len);
+        return Double.isNaN(result) ? 0 : result;
+    }
 
-            dotProductMinusMean += (vector1Delta * vector2Delta);
-            xLength += vector1Delta * vector1Delta;
-            yLength += vector2Delta * vector2Delta;
-        }
+    /**
+     * Pearson's correlation coefficient, {@code NaN} if either vector has no variance.
+     */
+    public static double pearsonCorrelation(double[] vector1, double[] vector2, int len) {
+        return SimilarityKernels.INSTANCE.pearson(vector1, vector2, len);
+    }
 
-        double result = dotProductMinusMean / Math.sqrt(xLength * yLength);
-        return Double.isNaN(result) ? 0 : result;
+    /**
+     * Pearson's correlation coefficient computed with double precision,
+     * {@code NaN} if either vector has no variance.
+     */
+    public static double pearsonCorrelation(float[] vector1, float[] vector2, int len) {
+        return SimilarityKernels.INSTANCE.pearson(vector1, vector2, len);
     }
 
     public static double cosine(double[] vector1, double[] vector2, int len) {
-        double dotProduct = 0D;
-        double xLength = 0D;
-        double yLength = 0D;
-        for (int i = 0; i < len; i++) {
-            double weight1 = vector1[i];
-            // if (weight1 == 0d) continue;
-            double weight2 = vector2[i];
-            // if (weight2 == 0d) continue;
-
-            dotProduct += weight1 * weight2;
-            xLength += weight1 * weight1;
-            yLength += weight2 * weight2;
-        }
-
-        return dotProduct / Math.sqrt(xLength * yLength);
+        return SimilarityKernels.INSTANCE.cosine(vector1, vector2, len);
     }
 
     public static float cosine(float[] vector1, float[] vector2, int len) {
-        float dotProduct = 0F;
-        float xLength = 0F;
-        float yLength = 0F;
-        for (int i = 0; i < len; i++) {
-            float weight1 = vector1[i];
-            // if (weight1 == 0d) continue;
-            float weight2 = vector2[i];
-            // if (weight2 == 0d) continue;
-
-            dotProduct += weight1 * weight2;
-            xLength += weight1 * weight1;
-            yLength += weight2 * weight2;
-        }
-
-        return (float) (dotProduct / Math.sqrt(xLength * yLength));
+        return SimilarityKernels.INSTANCE.cosine(vector1, vector2, len);
     }
 
     // S \ (v_1,...,v_{i-1}) // here S \ (v_0,...,v_{i-1})
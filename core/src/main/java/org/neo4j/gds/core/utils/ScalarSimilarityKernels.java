@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils;
+
+final class ScalarSimilarityKernels implements SimilarityKernels {
+
+    static final SimilarityKernels INSTANCE = new ScalarSimilarityKernels();
+
+    private ScalarSimilarityKernels() {}
+
+    @Override
+    public double sumSquareDelta(double[] vector1, double[] vector2, int len) {
+        double result = 0;
+        for (int i = 0; i < len; i++) {
+            double delta = vector1[i] - vector2[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public float sumSquareDelta(float[] vector1, float[] vector2, int len) {
+        float result = 0;
+        for (int i = 0; i < len; i++) {
+            float delta = vector1[i] - vector2[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double sumSquareDeltaAsDouble(float[] vector1, float[] vector2, int len) {
+        double result = 0;
+        for (int i = 0; i < len; i++) {
+            double delta = (double) vector1[i] - vector2[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double cosine(double[] vector1, double[] vector2, int len) {
+        double dotProduct = 0D;
+        double xLength = 0D;
+        double yLength = 0D;
+        for (int i = 0; i < len; i++) {
+            double weight1 = vector1[i];
+            double weight2 = vector2[i];
+
+            dotProduct += weight1 * weight2;
+            xLength += weight1 * weight1;
+            yLength += weight2 * weight2;
+        }
+
+        return dotProduct / Math.sqrt(xLength * yLength);
+    }
+
+    @Override
+    public float cosine(float[] vector1, float[] vector2, int len) {
+        float dotProduct = 0F;
+        float xLength = 0F;
+        float yLength = 0F;
+        for (int i = 0; i < len; i++) {
+            float weight1 = vector1[i];
+            float weight2 = vector2[i];
+
+            dotProduct += weight1 * weight2;
+            xLength += weight1 * weight1;
+            yLength += weight2 * weight2;
+        }
+
+        return (float) (dotProduct / Math.sqrt(xLength * yLength));
+    }
+
+    @Override
+    public double pearson(double[] vector1, double[] vector2, int len) {
+        double vector1Sum = 0.0;
+        double vector2Sum = 0.0;
+        for (int i = 0; i < len; i++) {
+            vector1Sum += vector1[i];
+            vector2Sum += vector2[i];
+        }
+
+        double vector1Mean = vector1Sum / len;
+        double vector2Mean = vector2Sum / len;
+
+        double dotProductMinusMean = 0D;
+        double xLength = 0D;
+        double yLength = 0D;
+        for (int i = 0; i < len; i++) {
+            double vector1Delta = vector1[i] - vector1Mean;
+            double vector2Delta = vector2[i] - vector2Mean;
+
+            dotProductMinusMean += (vector1Delta * vector2Delta);
+            xLength += vector1Delta * vector1Delta;
+            yLength += vector2Delta * vector2Delta;
+        }
+
+        return dotProductMinusMean / Math.sqrt(xLength * yLength);
+    }
+
+    @Override
+    public double pearson(float[] vector1, float[] vector2, int len) {
+        double vector1Sum = 0.0;
+        double vector2Sum = 0.0;
+        for (int i = 0; i < len; i++) {
+            vector1Sum += vector1[i];
+            vector2Sum += vector2[i];
+        }
+
+        double vector1Mean = vector1Sum / len;
+        double vector2Mean = vector2Sum / len;
+
+        double dotProductMinusMean = 0D;
+        double xLength = 0D;
+        double yLength = 0D;
+        for (int i = 0; i < len; i++) {
+            double vector1Delta = vector1[i] - vector1Mean;
+            double vector2Delta = vector2[i] - vector2Mean;
+
+            dotProductMinusMean += (vector1Delta * vector2Delta);
+            xLength += vector1Delta * vector1Delta;
+            yLength += vector2Delta * vector2Delta;
+        }
+
+        return dotProductMinusMean / Math.sqrt(xLength * yLength);
+    }
+}
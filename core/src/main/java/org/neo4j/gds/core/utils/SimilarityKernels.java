@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils;
+
+import java.util.Optional;
+
+/**
+ * The hot loops behind the vector similarities and distances in {@link Intersections}.
+ * <p>
+ * There are two implementations: {@link ScalarSimilarityKernels} and
+ * {@code VectorizedSimilarityKernels}, which uses the incubating Vector API.
+ * The vectorized kernels are used if the {@code jdk.incubator.vector} module
+ * has been added to the JVM, i.e. by starting it with
+ * {@code --add-modules=jdk.incubator.vector}, otherwise the scalar kernels are used.
+ * <p>
+ * The vectorized kernels sum up values in a different order,
+ * so results may differ from the scalar kernels in the last bits.
+ */
+interface SimilarityKernels {
+
+    SimilarityKernels INSTANCE = vectorized().orElse(ScalarSimilarityKernels.INSTANCE);
+
+    String VECTOR_MODULE = "jdk.incubator.vector";
+    String VECTORIZED_KERNELS = "org.neo4j.gds.core.utils.VectorizedSimilarityKernels";
+
+    double sumSquareDelta(double[] vector1, double[] vector2, int len);
+
+    float sumSquareDelta(float[] vector1, float[] vector2, int len);
+
+    /**
+     * Same as {@link #sumSquareDelta(float[], float[], int)}, but computed with double precision.
+     */
+    double sumSquareDeltaAsDouble(float[] vector1, float[] vector2, int len);
+
+    double cosine(double[] vector1, double[] vector2, int len);
+
+    float cosine(float[] vector1, float[] vector2, int len);
+
+    /**
+     * Pearson's correlation coefficient, {@code NaN} if either vector has no variance.
+     */
+    double pearson(double[] vector1, double[] vector2, int len);
+
+    /**
+     * Pearson's correlation coefficient computed with double precision,
+     * {@code NaN} if either vector has no variance.
+     */
+    double pearson(float[] vector1, float[] vector2, int len);
+
+    /**
+     * Loads the vectorized kernels if the Vector API is available.
+     * The implementation is loaded reflectively, so that this interface can be
+     * used on JVMs that do not resolve the incubator module.
+     */
+    static Optional<SimilarityKernels> vectorized() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            var kernels = (SimilarityKernels) Class
+                .forName(VECTORIZED_KERNELS)
+                .getDeclaredConstructor()
+                .newInstance();
+            return Optional.of(kernels);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -192,6 +192,46 @@ public final class HugeAtomicBitSet {
         }
     }
 
+    /**
+     * Returns the index of the first set bit that occurs on or after the given index,
+     * or {@code -1} if there is no such bit.
+     * <p>
+     * Note: this method is not thread-safe.
+     */
+    public long nextSetBit(long index) {
+        return nextSetBit(index, numBits);
+    }
+
+    /**
+     * Returns the index of the first set bit in the range [index, endIndex),
+     * or {@code -1} if there is no such bit.
+     * Words beyond the end of the range are not read.
+     * <p>
+     * Note: this method is not thread-safe.
+     */
+    public long nextSetBit(long index, long endIndex) {
+        assert (index >= 0);
+        long end = Math.min(endIndex, numBits);
+        if (index >= end) {
+            return -1;
+        }
+
+        long wordIndex = index / NUM_BITS;
+        long endWordIndex = (end - 1) / NUM_BITS;
+        int bitIndex = (int) (index % NUM_BITS);
+        long word = bits.get(wordIndex) & (-1L << bitIndex);
+
+        while (word == 0) {
+            if (++wordIndex > endWordIndex) {
+                return -1;
+            }
+            word = bits.get(wordIndex);
+        }
+
+        long setBit = wordIndex * NUM_BITS + Long.numberOfTrailingZeros(word);
+        return setBit < end ? setBit : -1;
+    }
+
     /**
      * Returns the number of set bits in the bit set.
      * <p>
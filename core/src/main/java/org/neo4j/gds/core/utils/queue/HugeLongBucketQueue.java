@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.queue;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A monotone min priority queue for non-negative integer costs, also known as Dial's bucket queue.
+ * <p>
+ * Elements are kept in a circular array of {@code maxCostIncrement + 1} buckets, each bucket
+ * is a doubly linked list of all elements with the same cost. Adding an element and updating
+ * its cost take constant time, popping the minimum takes at most {@code maxCostIncrement + 1}
+ * steps to find the next non-empty bucket.
+ * <p>
+ * The queue is monotone: the cost of an added element must not be smaller than the cost
+ * of the last popped element and not larger than that cost plus {@code maxCostIncrement}.
+ * This holds for Dijkstra's algorithm on graphs whose relationship weights are integers
+ * between {@code 0} and {@code maxCostIncrement}.
+ */
+public final class HugeLongBucketQueue {
+
+    private static final long NONE = -1L;
+
+    public static MemoryEstimation memoryEstimation(int maxCostIncrement) {
+        return MemoryEstimations.builder(HugeLongBucketQueue.class)
+            .fixed("buckets", Estimate.sizeOfLongArray(maxCostIncrement + 1L))
+            .perNode("costs", HugeDoubleArray::memoryEstimation)
+            .perNode("next", HugeLongArray::memoryEstimation)
+            .perNode("previous", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    private final long capacity;
+    private final int maxCostIncrement;
+    // head of the linked list per bucket
+    private final long[] buckets;
+    private final HugeDoubleArray costValues;
+    private final HugeLongArray next;
+    // previous element in the bucket, or NONE if the element is not in the queue
+    private final HugeLongArray previous;
+    // cost of the bucket that holds the current minimum
+    private long currentCost;
+    private long size;
+
+    /**
+     * Creates a new bucket queue for elements in {@code [0, capacity)}.
+     * The size is fixed, the queue cannot shrink or grow.
+     */
+    public HugeLongBucketQueue(long capacity, int maxCostIncrement) {
+        if (maxCostIncrement < 0) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The maximum cost increment must be non-negative, but got %d.",
+                maxCostIncrement
+            ));
+        }
+        this.capacity = capacity;
+        this.maxCostIncrement = maxCostIncrement;
+        this.buckets = new long[maxCostIncrement + 1];
+        this.costValues = HugeDoubleArray.newArray(capacity);
+        this.next = HugeLongArray.newArray(capacity);
+        this.previous = HugeLongArray.newArray(capacity);
+        Arrays.fill(buckets, NONE);
+        this.previous.fill(NONE);
+        this.currentCost = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Adds an element associated with a cost to the queue in constant time.
+     */
+    public void add(long element, double cost) {
+        assert element < capacity;
+        int bucket = checkedBucket(cost);
+        costValues.set(element, cost);
+        link(element, bucket);
+        size++;
+    }
+
+    /**
+     * Adds an element associated with a cost to the queue in constant time.
+     * If the element was already in the queue, it is moved to the bucket of the new cost.
+     */
+    public void set(long element, double cost) {
+        assert element < capacity;
+        if (containsElement(element)) {
+            int bucket = checkedBucket(cost);
+            unlink(element);
+            costValues.set(element, cost);
+            link(element, bucket);
+        } else {
+            add(element, cost);
+        }
+    }
+
+    /**
+     * Returns the cost associated with the given element.
+     * If the element has been popped from the queue, its
+     * latest cost value is being returned.
+     */
+    public double cost(long element) {
+        return costValues.get(element);
+    }
+
+    /**
+     * Returns true, iff the element is contained in the queue.
+     */
+    public boolean containsElement(long element) {
+        return previous.get(element) != NONE;
+    }
+
+    /**
+     * Returns the element with the minimum cost from the queue.
+     */
+    public long top() {
+        if (isEmpty()) {
+            throw new IndexOutOfBoundsException("Bucket Queue is empty");
+        }
+        return buckets[advance()];
+    }
+
+    /**
+     * Removes and returns the element with the minimum cost from the queue,
+     * or {@code -1} if the queue is empty.
+     */
+    public long pop() {
+        if (isEmpty()) {
+            return -1;
+        }
+        long element = buckets[advance()];
+        unlink(element);
+        size--;
+        return element;
+    }
+
+    /**
+     * Returns the number of elements currently stored in the queue.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return true iff there are currently no elements stored in the queue.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all entries from the queue.
+     */
+    public void clear() {
+        Arrays.fill(buckets, NONE);
+        previous.fill(NONE);
+        currentCost = 0;
+        size = 0;
+    }
+
+    /**
+     * Removes all entries from the queue, releases all buffers.
+     * The queue can no longer be used afterwards.
+     */
+    public void release() {
+        size = 0;
+        costValues.release();
+        next.release();
+        previous.release();
+    }
+
+    // Moves the current cost forward to the first non-empty bucket and returns its index.
+    // Since all costs are within [currentCost, currentCost + maxCostIncrement],
+    // this visits every bucket at most once.
+    private int advance() {
+        int bucket = (int) (currentCost % buckets.length);
+        while (buckets[bucket] == NONE) {
+            currentCost++;
+            bucket = bucket + 1 == buckets.length ? 0 : bucket + 1;
+        }
+        return bucket;
+    }
+
+    private int checkedBucket(double cost) {
+        long integerCost = (long) cost;
+        if (integerCost != cost || integerCost < currentCost || integerCost > currentCost + maxCostIncrement) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The bucket queue requires integer costs between %d and %d, but got %s.",
+                currentCost,
+                currentCost + maxCostIncrement,
+                cost
+            ));
+        }
+        return bucket(cost);
+    }
+
+    private int bucket(double cost) {
+        return (int) (((long) cost) % buckets.length);
+    }
+
+    private void link(long element, int bucket) {
+        long head = buckets[bucket];
+        next.set(element, head);
+        // The head of a bucket points to itself, so that
+        // a non-negative previous value marks queue membership.
+        previous.set(element, element);
+        if (head != NONE) {
+            previous.set(head, element);
+        }
+        buckets[bucket] = element;
+    }
+
+    private void unlink(long element) {
+        long prev = previous.get(element);
+        long succ = next.get(element);
+        if (prev == element) {
+            // element is the head of its bucket
+            buckets[bucket(costValues.get(element))] = succ;
+        } else {
+            next.set(prev, succ);
+        }
+        if (succ != NONE) {
+            previous.set(succ, prev == element ? succ : prev);
+        }
+        previous.set(element, NONE);
+    }
+}
@@ -21,6 +21,7 @@ package org.neo4j.gds.api.properties.nodes;
 
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.collections.ha.HugeFloatMatrix;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 
 import java.util.Arrays;
@@ -54,6 +55,29 @@ class ObjectNodePropertyValuesAdapterTest {
     }
 
 
+    @Test
+    void shouldReturnNodePropertiesForFloatMatrixRows() {
+        var matrix = HugeFloatMatrix.newMatrix(42, 19);
+        for (int nodeId = 0; nodeId < 42; nodeId++) {
+            matrix.set(nodeId, nodeId % 19, nodeId);
+        }
+
+        var nodeProperties = ObjectNodePropertyValuesAdapter.adapt(matrix);
+        assertThat(nodeProperties)
+            .describedAs("float properties must return the rows of the underlying matrix")
+            .returns(42L, FloatArrayNodePropertyValues::nodeCount)
+            .satisfies(array -> {
+                for (int nodeId = 0; nodeId < 42; nodeId++) {
+                    var expected = new float[19];
+                    expected[nodeId % 19] = nodeId;
+                    assertThat(array.floatArrayValue(nodeId))
+                        .as("Elements for id %d must match", nodeId)
+                        .containsExactly(expected);
+                    assertThat(array.dimension(nodeId)).hasValue(19);
+                }
+            });
+    }
+
     @Test
     void shouldReturnNodePropertiesForDoubleArrayValues() {
         var doubles = HugeObjectArray.newArray(double[].class, 42);
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.common;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.loading.AdjacencyListBehavior;
+import org.neo4j.gds.mem.BitUtil;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdjacencySkipIndexTest {
+
+    private static final int HUB_DEGREE = 5 * AdjacencySkipIndex.MIN_DEGREE + 42;
+
+    static Stream<Arguments> adjacencyLists() {
+        return Stream.of(
+            Arguments.of(
+                "compressed",
+                (LongFunction<AdjacencyCompressorFactory>) nodeCount -> AdjacencyListBehavior.compressed(
+                    () -> nodeCount,
+                    PropertyMappings.of(),
+                    new Aggregation[]{Aggregation.NONE},
+                    true
+                )
+            ),
+            Arguments.of(
+                "packed",
+                (LongFunction<AdjacencyCompressorFactory>) nodeCount -> AdjacencyListBehavior.packed(
+                    () -> nodeCount,
+                    PropertyMappings.of(),
+                    new Aggregation[]{Aggregation.NONE},
+                    true
+                )
+            )
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("adjacencyLists")
+    void shouldAdvanceByUsingTheSkipIndex(String name, LongFunction<AdjacencyCompressorFactory> factorySupplier) {
+        var expected = hubTargets();
+        var adjacencyList = compress(factorySupplier, expected);
+
+        for (int n : new int[]{0, 1, 63, 64, 65, 1023, 1024, 1025, 4711, HUB_DEGREE - 2, HUB_DEGREE - 1}) {
+            var cursor = adjacencyList.adjacencyCursor(0);
+            assertThat(cursor.advanceBy(n)).as("advanceBy(%d)", n).isEqualTo(expected[n]);
+            assertThat(cursor.remaining()).isEqualTo(HUB_DEGREE - n - 1);
+            // the cursor continues after the target it skipped to
+            for (int i = n + 1; i < HUB_DEGREE; i++) {
+                assertThat(cursor.nextVLong()).isEqualTo(expected[i]);
+            }
+            assertThat(cursor.hasNextVLong()).isFalse();
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("adjacencyLists")
+    void shouldAdvanceByRepeatedly(String name, LongFunction<AdjacencyCompressorFactory> factorySupplier) {
+        var expected = hubTargets();
+        var adjacencyList = compress(factorySupplier, expected);
+
+        var random = new Random(42);
+        var cursor = adjacencyList.adjacencyCursor(0);
+        int position = -1;
+        while (true) {
+            int n = random.nextInt(500);
+            long target = cursor.advanceBy(n);
+            position += n + 1;
+            if (position >= HUB_DEGREE) {
+                assertThat(target).isEqualTo(-1L);
+                break;
+            }
+            assertThat(target).as("target at %d", position).isEqualTo(expected[position]);
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("adjacencyLists")
+    void shouldReuseCursorsAcrossIndexedAndUnindexedNodes(
+        String name,
+        LongFunction<AdjacencyCompressorFactory> factorySupplier
+    ) {
+        var expected = hubTargets();
+        var adjacencyList = compress(factorySupplier, expected);
+
+        var cursor = adjacencyList.adjacencyCursor(0);
+        assertThat(cursor.advanceBy(2000)).isEqualTo(expected[2000]);
+
+        cursor = adjacencyList.adjacencyCursor(cursor, 1);
+        assertThat(cursor.advanceBy(2)).isEqualTo(3L);
+
+        cursor = adjacencyList.adjacencyCursor(cursor, 0);
+        assertThat(cursor.advanceBy(3000)).isEqualTo(expected[3000]);
+    }
+
+    private static long[] hubTargets() {
+        var random = new Random(1337);
+        var targets = new long[HUB_DEGREE];
+        long target = 0;
+        for (int i = 0; i < HUB_DEGREE; i++) {
+            // mix small and large deltas to get different bit widths per block
+            target += 1 + (i % 3 == 0 ? random.nextInt(1000) : random.nextInt(10));
+            targets[i] = target;
+        }
+        return targets;
+    }
+
+    private static AdjacencyList compress(LongFunction<AdjacencyCompressorFactory> factorySupplier, long[] hubTargets) {
+        long nodeCount = hubTargets[hubTargets.length - 1] + 1;
+        var factory = factorySupplier.apply(nodeCount);
+        factory.init();
+
+        var buffer = new long[(int) BitUtil.align(hubTargets.length, 64)];
+        try (var compressor = factory.createCompressor()) {
+            var shuffled = hubTargets.clone();
+            shuffle(shuffled, new Random(42));
+            System.arraycopy(shuffled, 0, buffer, 0, shuffled.length);
+            compressor.compress(0, buffer, null, shuffled.length);
+
+            Arrays.fill(buffer, 0L);
+            long[] smallTargets = {4, 1, 2, 3};
+            System.arraycopy(smallTargets, 0, buffer, 0, smallTargets.length);
+            compressor.compress(1, buffer, null, smallTargets.length);
+        }
+
+        return factory.build(false).adjacency();
+    }
+
+    private static void shuffle(long[] values, Random random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+}
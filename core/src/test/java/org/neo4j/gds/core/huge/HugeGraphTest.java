@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class HugeGraphTest {
+
+    @GdlGraph
+    @GdlGraph(graphNamePrefix = "inverse", indexInverse = true)
+    private static final String DB =
+        "  (a), (b), (c)" +
+        ", (a)-[:T]->(b)" +
+        ", (a)-[:T]->(c)" +
+        ", (b)-[:T]->(c)";
+
+    @Inject
+    private GraphStore graphStore;
+    @Inject
+    private GraphStore inverseGraphStore;
+
+    @Inject
+    private IdFunction inverseIdFunction;
+
+    @Test
+    void shouldReturnInverseTopology() {
+        var graph = (HugeGraph) inverseGraphStore.getGraph(RelationshipType.of("T"));
+        IdFunction mappedId = name -> graph.toMappedNodeId(inverseIdFunction.of(name));
+
+        var inverseTopology = graph.inverseRelationshipTopology();
+
+        assertThat(inverseTopology).isPresent();
+        var inverseAdjacency = inverseTopology.get().adjacencyList();
+        assertThat(inverseTopology.get().elementCount()).isEqualTo(3);
+        assertThat(inverseAdjacency.degree(mappedId.of("a"))).isEqualTo(0);
+        assertThat(inverseAdjacency.degree(mappedId.of("b"))).isEqualTo(1);
+        assertThat(inverseAdjacency.degree(mappedId.of("c"))).isEqualTo(2);
+        assertThat(inverseAdjacency.adjacencyCursor(mappedId.of("b")).nextVLong()).isEqualTo(mappedId.of("a"));
+    }
+
+    @Test
+    void shouldNotHaveInverseTopologyWithoutInverseIndex() {
+        var graph = (HugeGraph) graphStore.getGraph(RelationshipType.of("T"));
+
+        assertThat(graph.inverseRelationshipTopology()).isEmpty();
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GraphStoreCatalogEvictionTest {
+
+    private static final String USER_NAME = "alice";
+
+    @TempDir
+    private Path spillDirectory;
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.disableEviction();
+        GraphStoreCatalog.removeAllLoadedGraphs();
+        GraphStoreCatalog.resetEvictionMetrics();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedGraphs() {
+        var spiller = new InMemorySpiller();
+        GraphStoreCatalog.setEvictionPolicy(policy(spiller, 0, Duration.ZERO));
+
+        var first = set("first");
+        var second = set("second");
+
+        // the budget does not fit any graph, but the most recently projected one is kept
+        assertThat(spiller.spilled).containsValue(first).doesNotContainValue(second);
+        assertThat(GraphStoreCatalog.exists(USER_NAME, first.databaseInfo().databaseId(), "first")).isTrue();
+        assertThat(GraphStoreCatalog.graphStoreCount()).isEqualTo(2);
+
+        var metrics = GraphStoreCatalog.evictionMetrics();
+        assertThat(metrics.evictions()).isEqualTo(1);
+        assertThat(metrics.evictedGraphs()).isEqualTo(1);
+        assertThat(metrics.reloads()).isZero();
+    }
+
+    @Test
+    void shouldReloadEvictedGraphOnLookup() {
+        var spiller = new InMemorySpiller();
+        GraphStoreCatalog.setEvictionPolicy(policy(spiller, 0, Duration.ZERO));
+
+        var first = set("first");
+        var second = set("second");
+        var spilledDirectories = Map.copyOf(spiller.spilled).keySet();
+
+        var entry = get(first, "first");
+
+        assertThat(entry.graphStore()).isSameAs(first);
+        assertThat(entry.config().graphName()).isEqualTo("first");
+        // the reloaded graph takes the place of the other one
+        assertThat(spiller.spilled).containsValue(second).doesNotContainValue(first);
+        assertThat(spilledDirectories).allSatisfy(directory -> assertThat(directory).doesNotExist());
+
+        assertThat(get(first, "first").graphStore()).isSameAs(first);
+
+        var metrics = GraphStoreCatalog.evictionMetrics();
+        assertThat(metrics.reloads()).isEqualTo(1);
+        assertThat(metrics.hits()).isEqualTo(1);
+        assertThat(metrics.evictions()).isEqualTo(2);
+        assertThat(metrics.maxReloadTime()).isLessThanOrEqualTo(metrics.totalReloadTime());
+    }
+
+    @Test
+    void shouldNotEvictGraphsWithinBudget() {
+        var spiller = new InMemorySpiller();
+        GraphStoreCatalog.setEvictionPolicy(policy(spiller, Long.MAX_VALUE, Duration.ZERO));
+
+        set("first");
+        set("second");
+
+        assertThat(spiller.spilled).isEmpty();
+        assertThat(GraphStoreCatalog.evictionMetrics().evictions()).isZero();
+    }
+
+    @Test
+    void shouldNotEvictRecentlyUsedGraphs() {
+        var spiller = new InMemorySpiller();
+        GraphStoreCatalog.setEvictionPolicy(policy(spiller, 0, Duration.ofHours(1)));
+
+        set("first");
+        set("second");
+
+        assertThat(spiller.spilled).isEmpty();
+    }
+
+    @Test
+    void shouldKeepGraphsThatCannotBeSpilled() {
+        var spiller = new InMemorySpiller() {
+            @Override
+            public void spill(GraphStore graphStore, Path directory) {
+                throw new IllegalArgumentException("Not supported");
+            }
+        };
+        GraphStoreCatalog.setEvictionPolicy(policy(spiller, 0, Duration.ZERO));
+
+        var first = set("first");
+        set("second");
+        set("third");
+
+        assertThat(get(first, "first").graphStore()).isSameAs(first);
+
+        // every graph is attempted only once
+        var metrics = GraphStoreCatalog.evictionMetrics();
+        assertThat(metrics.failedEvictions()).isEqualTo(2);
+        assertThat(metrics.evictions()).isZero();
+    }
+
+    @Test
+    void shouldListEvictedGraphs() {
+        var spiller = new InMemorySpiller();
+        GraphStoreCatalog.setEvictionPolicy(policy(spiller, 0, Duration.ZERO));
+
+        var first = set("first");
+        var second = set("second");
+
+        assertThat(GraphStoreCatalog.getGraphStores(USER_NAME))
+            .extracting(GraphStoreCatalogEntry::graphStore)
+            .containsExactlyInAnyOrder(first, second);
+    }
+
+    @Test
+    void shouldDropEvictedGraphsWithoutReloading() {
+        var spiller = new InMemorySpiller();
+        GraphStoreCatalog.setEvictionPolicy(policy(spiller, 0, Duration.ZERO));
+
+        set("first");
+        set("second");
+        var spilledDirectories = Map.copyOf(spiller.spilled).keySet();
+
+        GraphStoreCatalog.removeAllLoadedGraphs();
+
+        assertThat(GraphStoreCatalog.isEmpty()).isTrue();
+        assertThat(spilledDirectories).allSatisfy(directory -> assertThat(directory).doesNotExist());
+        assertThat(GraphStoreCatalog.evictionMetrics().reloads()).isZero();
+    }
+
+    @Test
+    void shouldEvictWhenEnablingPolicy() {
+        set("first");
+        set("second");
+
+        var spiller = new InMemorySpiller();
+        GraphStoreCatalog.setEvictionPolicy(policy(spiller, 0, Duration.ZERO));
+
+        assertThat(spiller.spilled).hasSize(2);
+        assertThat(GraphStoreCatalog.graphStoreCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldValidatePolicy() {
+        var spiller = new InMemorySpiller();
+        assertThatThrownBy(() -> new GraphStoreEvictionPolicy(spiller, spillDirectory, -1, Duration.ZERO))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maximum resident size");
+        assertThatThrownBy(() -> new GraphStoreEvictionPolicy(spiller, spillDirectory, 0, Duration.ofSeconds(-1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("minimum idle time");
+    }
+
+    @Test
+    void shouldNotEvictLeasedGraphs() {
+        var spiller = new InMemorySpiller();
+        GraphStoreCatalog.setEvictionPolicy(policy(spiller, 0, Duration.ZERO));
+
+        var first = set("first");
+        try (var lease = lease(first, "first")) {
+            set("second");
+            set("third");
+
+            assertThat(lease.catalogEntry().graphStore()).isSameAs(first);
+            assertThat(spiller.spilled).doesNotContainValue(first);
+        }
+
+        set("fourth");
+
+        assertThat(spiller.spilled).containsValue(first);
+    }
+
+    @Test
+    void shouldCancelEvictionOfGraphsLookedUpWhileSpilling() {
+        var spiller = new InMemorySpiller() {
+            @Override
+            public void spill(GraphStore graphStore, Path directory) {
+                super.spill(graphStore, directory);
+                // a concurrent lookup, the caller might mutate the graph store
+                GraphStoreCatalog.get(USER_NAME, graphStore.databaseInfo().databaseId(), "first");
+            }
+        };
+        GraphStoreCatalog.setEvictionPolicy(policy(spiller, 0, Duration.ZERO));
+
+        var first = set("first");
+        set("second");
+
+        assertThat(spiller.spilled.keySet()).allSatisfy(directory -> assertThat(directory).doesNotExist());
+        assertThat(get(first, "first").graphStore()).isSameAs(first);
+
+        var metrics = GraphStoreCatalog.evictionMetrics();
+        assertThat(metrics.evictions()).isZero();
+        assertThat(metrics.evictedGraphs()).isZero();
+        assertThat(metrics.reloads()).isZero();
+    }
+
+    @Test
+    void shouldSpillOnTheSpillExecutor() {
+        var spiller = new InMemorySpiller();
+        var pendingSpills = new ArrayList<Runnable>();
+        GraphStoreCatalog.setEvictionPolicy(
+            new GraphStoreEvictionPolicy(spiller, spillDirectory, 0, Duration.ZERO, pendingSpills::add)
+        );
+
+        var first = set("first");
+        set("second");
+
+        assertThat(pendingSpills).hasSize(1);
+        assertThat(spiller.spilled).isEmpty();
+
+        pendingSpills.forEach(Runnable::run);
+
+        assertThat(spiller.spilled).containsValue(first);
+        assertThat(GraphStoreCatalog.evictionMetrics().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDeleteStaleSpillDirectories() throws IOException {
+        var stale = Files.createDirectories(spillDirectory.resolve(UUID.randomUUID().toString()));
+        Files.createFile(stale.resolve("nodes"));
+        var unrelated = Files.createDirectories(spillDirectory.resolve("unrelated"));
+
+        GraphStoreCatalog.setEvictionPolicy(policy(new InMemorySpiller(), Long.MAX_VALUE, Duration.ZERO));
+
+        assertThat(stale).doesNotExist();
+        assertThat(unrelated).exists();
+    }
+
+    private GraphStoreEvictionPolicy policy(GraphStoreSpiller spiller, long maxResidentBytes, Duration minIdleTime) {
+        // spill synchronously, so that the tests observe the evictions
+        return new GraphStoreEvictionPolicy(spiller, spillDirectory, maxResidentBytes, minIdleTime, Runnable::run);
+    }
+
+    private static GraphStore set(String graphName) {
+        var graphStore = GdlFactory.of("(a)-[:R]->(b), (b)-[:R]->(c)").build();
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, graphName), graphStore);
+        return graphStore;
+    }
+
+    private static GraphStoreCatalogEntry get(GraphStore graphStore, String graphName) {
+        return GraphStoreCatalog.get(USER_NAME, graphStore.databaseInfo().databaseId(), graphName);
+    }
+
+    private static GraphStoreCatalogLease lease(GraphStore graphStore, String graphName) {
+        return GraphStoreCatalog.lease(CatalogRequest.of(USER_NAME, graphStore.databaseInfo().databaseId()), graphName);
+    }
+
+    private static class InMemorySpiller implements GraphStoreSpiller {
+
+        final Map<Path, GraphStore> spilled = new HashMap<>();
+
+        @Override
+        public void spill(GraphStore graphStore, Path directory) {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            spilled.put(directory, graphStore);
+        }
+
+        @Override
+        public GraphStore reload(Path directory) {
+            return spilled.remove(directory);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.DimensionsMap;
+import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.concurrency.Concurrency;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapNodePropertyValuesTest {
+
+    @Test
+    void shouldCopyLongValues() {
+        var values = NodePropertyValuesAdapter.adapt(HugeLongArray.of(1, -2, 1337, 0));
+
+        var offHeap = OffHeapNodePropertyValues.copyOf(values);
+
+        assertThat(OffHeapNodePropertyValues.isOffHeap(offHeap)).isTrue();
+        assertThat(offHeap.nodeCount()).isEqualTo(4);
+        assertThat(offHeap.longValue(0)).isEqualTo(1);
+        assertThat(offHeap.longValue(1)).isEqualTo(-2);
+        assertThat(offHeap.longValue(2)).isEqualTo(1337);
+        assertThat(offHeap.longValue(3)).isEqualTo(0);
+        assertThat(offHeap.getMaxLongPropertyValue()).isEqualTo(OptionalLong.of(1337));
+    }
+
+    @Test
+    void shouldCopyDoubleValues() {
+        var values = NodePropertyValuesAdapter.adapt(HugeDoubleArray.of(0.5, Double.NaN, -42.0));
+
+        var offHeap = OffHeapNodePropertyValues.copyOf(values);
+
+        assertThat(offHeap.doubleValue(0)).isEqualTo(0.5);
+        assertThat(offHeap.doubleValue(1)).isNaN();
+        assertThat(offHeap.doubleValue(2)).isEqualTo(-42.0);
+        assertThat(offHeap.getMaxDoublePropertyValue()).isEqualTo(values.getMaxDoublePropertyValue());
+    }
+
+    @Test
+    void shouldKeepMissingScalarValues() {
+        var values = new LongNodePropertyValues() {
+            @Override
+            public long longValue(long nodeId) {
+                return nodeId;
+            }
+
+            @Override
+            public boolean hasValue(long nodeId) {
+                return nodeId % 2 == 0;
+            }
+
+            @Override
+            public long nodeCount() {
+                return 10;
+            }
+        };
+
+        var offHeap = OffHeapNodePropertyValues.copyOf(values);
+
+        for (long nodeId = 0; nodeId < 10; nodeId++) {
+            assertThat(offHeap.hasValue(nodeId)).isEqualTo(nodeId % 2 == 0);
+            assertThat(offHeap.longValue(nodeId)).isEqualTo(nodeId);
+        }
+    }
+
+    @Test
+    void shouldCopyEmbeddingsWithUniformDimension() {
+        var values = NodePropertyValuesAdapter.adapt(HugeObjectArray.of(
+            new float[]{1, 2, 3},
+            new float[]{4, 5, 6},
+            new float[]{7, 8, 9}
+        ));
+
+        var offHeap = OffHeapNodePropertyValues.copyOf(values);
+
+        assertThat(offHeap.floatArrayValue(0)).containsExactly(1, 2, 3);
+        assertThat(offHeap.floatArrayValue(1)).containsExactly(4, 5, 6);
+        assertThat(offHeap.floatArrayValue(2)).containsExactly(7, 8, 9);
+        assertThat(offHeap.dimension()).isEqualTo(Optional.of(3));
+        // conversions of the value type interfaces are still available
+        assertThat(offHeap.doubleArrayValue(1)).containsExactly(4, 5, 6);
+    }
+
+    @Test
+    void shouldCopyArraysWithMixedLengthsAndNulls() {
+        var values = NodePropertyValuesAdapter.adapt(HugeObjectArray.of(
+            new double[]{1.0},
+            null,
+            new double[0],
+            new double[]{2.0, 3.0, 4.0}
+        ));
+
+        var offHeap = OffHeapNodePropertyValues.copyOf(values);
+
+        assertThat(offHeap.doubleArrayValue(0)).containsExactly(1.0);
+        assertThat(offHeap.doubleArrayValue(1)).isNull();
+        assertThat(offHeap.hasValue(1)).isFalse();
+        assertThat(offHeap.dimension(1)).isEmpty();
+        assertThat(offHeap.doubleArrayValue(2)).isEmpty();
+        assertThat(offHeap.doubleArrayValue(3)).containsExactly(2.0, 3.0, 4.0);
+    }
+
+    @Test
+    void shouldCopyLongArrays() {
+        var values = NodePropertyValuesAdapter.adapt(HugeObjectArray.of(
+            new long[]{Long.MAX_VALUE, 1L},
+            new long[]{Long.MIN_VALUE}
+        ));
+
+        var offHeap = OffHeapNodePropertyValues.copyOf(values);
+
+        assertThat(offHeap.longArrayValue(0)).containsExactly(Long.MAX_VALUE, 1L);
+        assertThat(offHeap.longArrayValue(1)).containsExactly(Long.MIN_VALUE);
+    }
+
+    @Test
+    void shouldNotCopyTwice() {
+        var offHeap = OffHeapNodePropertyValues.copyOf(NodePropertyValuesAdapter.adapt(HugeLongArray.of(42)));
+
+        assertThat(OffHeapNodePropertyValues.copyOf(offHeap)).isSameAs(offHeap);
+    }
+
+    @Test
+    void shouldEstimateArraysByTheirDimension() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(100L)
+            .highestPossibleNodeCount(100L)
+            .nodePropertyDimensions(new DimensionsMap(Map.of("embedding", Optional.of(4))))
+            .build();
+
+        var embedding = OffHeapNodePropertyValues
+            .memoryEstimation("embedding", Optional.of(ValueType.DOUBLE_ARRAY))
+            .estimate(dimensions, new Concurrency(1));
+        var unknown = OffHeapNodePropertyValues
+            .memoryEstimation("unknown", Optional.of(ValueType.LONG))
+            .estimate(dimensions, new Concurrency(1));
+
+        assertThat(embedding.memoryUsage().max - unknown.memoryUsage().max).isEqualTo(100L * 3 * Long.BYTES);
+    }
+
+    @Test
+    void shouldEstimateByValueType() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(100L)
+            .highestPossibleNodeCount(100L)
+            .nodePropertyDimensions(new DimensionsMap(Map.of("embedding", Optional.of(4))))
+            .build();
+
+        var floats = OffHeapNodePropertyValues
+            .memoryEstimation("embedding", Optional.of(ValueType.FLOAT_ARRAY))
+            .estimate(dimensions, new Concurrency(1))
+            .memoryUsage();
+        var doubles = OffHeapNodePropertyValues
+            .memoryEstimation("embedding", Optional.of(ValueType.DOUBLE_ARRAY))
+            .estimate(dimensions, new Concurrency(1))
+            .memoryUsage();
+        var untyped = OffHeapNodePropertyValues
+            .memoryEstimation("embedding", Optional.empty())
+            .estimate(dimensions, new Concurrency(1))
+            .memoryUsage();
+
+        assertThat(doubles.max - floats.max).isEqualTo(100L * 4 * Float.BYTES);
+        assertThat(untyped.min).isEqualTo(floats.min);
+        assertThat(untyped.max).isEqualTo(doubles.max);
+    }
+
+    @Test
+    void shouldReportOffHeapSize() {
+        var onHeap = NodePropertyValuesAdapter.adapt(HugeLongArray.of(1, 2, 3));
+        var offHeap = OffHeapNodePropertyValues.copyOf(onHeap);
+
+        assertThat(OffHeapNodePropertyValues.sizeInBytes(onHeap)).isZero();
+        assertThat(OffHeapNodePropertyValues.sizeInBytes(offHeap)).isEqualTo(3L * Long.BYTES);
+    }
+}
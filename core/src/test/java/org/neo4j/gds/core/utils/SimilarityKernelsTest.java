@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SimilarityKernelsTest {
+
+    private static final SimilarityKernels SCALAR = ScalarSimilarityKernels.INSTANCE;
+
+    @Test
+    void shouldUseVectorizedKernelsIfAvailable() {
+        assumeTrue(isVectorModuleAvailable(), "The Vector API is not available");
+
+        assertThat(SimilarityKernels.INSTANCE.getClass().getName()).isEqualTo(SimilarityKernels.VECTORIZED_KERNELS);
+    }
+
+    /**
+     * Only runs without {@code --add-modules=jdk.incubator.vector}, i.e. in the {@code scalarKernelsTest} task.
+     */
+    @Test
+    void shouldFallBackToScalarKernelsWithoutVectorModule() {
+        assumeFalse(isVectorModuleAvailable(), "The Vector API is available");
+
+        assertThat(SimilarityKernels.vectorized()).isEmpty();
+        assertThat(SimilarityKernels.INSTANCE).isSameAs(SCALAR);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 7, 8, 9, 15, 16, 17, 63, 64, 65, 256, 257, 1000})
+    void shouldMatchScalarKernelsForDoubles(int length) {
+        var vectorized = vectorizedKernels();
+        var random = new SplittableRandom(length);
+        var left = randomDoubles(random, length + 3);
+        var right = randomDoubles(random, length + 3);
+
+        assertThat(vectorized.sumSquareDelta(left, right, length))
+            .isCloseTo(SCALAR.sumSquareDelta(left, right, length), within(1e-9));
+        if (length > 0) {
+            assertThat(vectorized.cosine(left, right, length))
+                .isCloseTo(SCALAR.cosine(left, right, length), within(1e-9));
+        }
+        if (length > 1) {
+            assertThat(vectorized.pearson(left, right, length))
+                .isCloseTo(SCALAR.pearson(left, right, length), within(1e-9));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 7, 8, 9, 15, 16, 17, 63, 64, 65, 256, 257, 1000})
+    void shouldMatchScalarKernelsForFloats(int length) {
+        var vectorized = vectorizedKernels();
+        var random = new SplittableRandom(length);
+        var left = randomFloats(random, length + 3);
+        var right = randomFloats(random, length + 3);
+
+        assertThat(vectorized.sumSquareDelta(left, right, length))
+            .isCloseTo(SCALAR.sumSquareDelta(left, right, length), within(1e-2f));
+        assertThat(vectorized.sumSquareDeltaAsDouble(left, right, length))
+            .isCloseTo(SCALAR.sumSquareDeltaAsDouble(left, right, length), within(1e-9));
+        if (length > 0) {
+            assertThat(vectorized.cosine(left, right, length))
+                .isCloseTo(SCALAR.cosine(left, right, length), within(1e-5f));
+        }
+        if (length > 1) {
+            assertThat(vectorized.pearson(left, right, length))
+                .isCloseTo(SCALAR.pearson(left, right, length), within(1e-9));
+        }
+    }
+
+    @Test
+    void shouldReturnNaNForConstantVectors() {
+        var vectorized = vectorizedKernels();
+        var constant = new double[]{1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1};
+        var other = randomDoubles(new SplittableRandom(42), constant.length);
+
+        assertThat(vectorized.pearson(constant, other, constant.length)).isNaN();
+        assertThat(SCALAR.pearson(constant, other, constant.length)).isNaN();
+    }
+
+    private static boolean isVectorModuleAvailable() {
+        return ModuleLayer.boot().findModule(SimilarityKernels.VECTOR_MODULE).isPresent();
+    }
+
+    private static SimilarityKernels vectorizedKernels() {
+        var maybeVectorized = SimilarityKernels.vectorized();
+        assumeTrue(maybeVectorized.isPresent(), "The Vector API is not available");
+        return maybeVectorized.get();
+    }
+
+    private static double[] randomDoubles(SplittableRandom random, int length) {
+        var values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextDouble(-1, 1);
+        }
+        return values;
+    }
+
+    private static float[] randomFloats(SplittableRandom random, int length) {
+        var values = new float[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = (float) random.nextDouble(-1, 1);
+        }
+        return values;
+    }
+}
@@ -199,6 +199,32 @@ class HugeAtomicBitSetTest {
         assertThat(atomicBitSet.allSet()).isFalse();
     }
 
+    @Test
+    void testNextSetBit() {
+        var bitSet = HugeAtomicBitSet.create(4096);
+        assertThat(bitSet.nextSetBit(0)).isEqualTo(-1);
+
+        var expected = List.of(0L, 1L, 3L, 63L, 64L, 72L, 128L, 1337L, 4095L);
+        expected.forEach(bitSet::set);
+
+        var actual = new ArrayList<Long>();
+        for (long i = bitSet.nextSetBit(0); i != -1; i = bitSet.nextSetBit(i + 1)) {
+            actual.add(i);
+        }
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(bitSet.nextSetBit(129)).isEqualTo(1337L);
+        assertThat(bitSet.nextSetBit(4096)).isEqualTo(-1);
+
+        assertThat(bitSet.nextSetBit(0, 1)).isEqualTo(0L);
+        assertThat(bitSet.nextSetBit(4, 63)).isEqualTo(-1);
+        assertThat(bitSet.nextSetBit(4, 64)).isEqualTo(63L);
+        assertThat(bitSet.nextSetBit(129, 1337)).isEqualTo(-1);
+        assertThat(bitSet.nextSetBit(129, 1338)).isEqualTo(1337L);
+        assertThat(bitSet.nextSetBit(4095, 10_000)).isEqualTo(4095L);
+        assertThat(bitSet.nextSetBit(42, 42)).isEqualTo(-1);
+    }
+
     private static BitSet toHppcBitSet(HugeAtomicBitSet habs) {
         var bitSet = new BitSet(habs.size());
         habs.forEachSetBit(bitSet::set);
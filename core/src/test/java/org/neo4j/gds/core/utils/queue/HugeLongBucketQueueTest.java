@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HugeLongBucketQueueTest {
+
+    @Test
+    void testIsEmpty() {
+        var queue = new HugeLongBucketQueue(10, 5);
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.pop()).isEqualTo(-1L);
+        assertThatThrownBy(queue::top).hasMessageContaining("empty");
+    }
+
+    @Test
+    void testAddAndPop() {
+        var queue = new HugeLongBucketQueue(10, 5);
+        queue.add(0, 3);
+        queue.add(1, 1);
+        queue.add(2, 5);
+        queue.add(3, 1);
+
+        assertThat(queue.size()).isEqualTo(4L);
+        assertThat(queue.pop()).isIn(1L, 3L);
+        assertThat(queue.pop()).isIn(1L, 3L);
+        assertThat(queue.pop()).isEqualTo(0L);
+        assertThat(queue.pop()).isEqualTo(2L);
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.cost(2)).isEqualTo(5D);
+    }
+
+    @Test
+    void testSet() {
+        var queue = new HugeLongBucketQueue(10, 5);
+        queue.add(0, 3);
+        queue.add(1, 4);
+        queue.add(2, 5);
+
+        queue.set(2, 1);
+        queue.set(0, 4);
+        queue.set(3, 2);
+
+        assertThat(queue.containsElement(3)).isTrue();
+        assertThat(queue.pop()).isEqualTo(2L);
+        assertThat(queue.pop()).isEqualTo(3L);
+        assertThat(queue.pop()).isIn(0L, 1L);
+        assertThat(queue.pop()).isIn(0L, 1L);
+        assertThat(queue.containsElement(0)).isFalse();
+    }
+
+    @Test
+    void testClear() {
+        var queue = new HugeLongBucketQueue(10, 5);
+        queue.add(0, 3);
+        queue.add(1, 4);
+        queue.pop();
+
+        queue.clear();
+
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.containsElement(1)).isFalse();
+        queue.add(1, 0);
+        assertThat(queue.pop()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldRejectCostsOutsideOfTheBucketRange() {
+        var queue = new HugeLongBucketQueue(10, 5);
+        queue.add(0, 3);
+        queue.pop();
+
+        assertThatThrownBy(() -> queue.add(1, 9))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The bucket queue requires integer costs between 3 and 8, but got 9.0.");
+        assertThatThrownBy(() -> queue.add(1, 2))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> queue.add(1, 4.5))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldBehaveLikeHeapForMonotoneUpdates() {
+        var capacity = 1000;
+        var maxIncrement = 7;
+        var random = new SplittableRandom(42);
+        var buckets = new HugeLongBucketQueue(capacity, maxIncrement);
+        var heap = HugeLongPriorityQueue.min(capacity);
+
+        buckets.add(0, 0);
+        heap.add(0, 0);
+        long nextElement = 1;
+
+        while (!heap.isEmpty()) {
+            var expectedCost = heap.cost(heap.top());
+            var element = buckets.pop();
+            heap.pop();
+            assertThat(buckets.cost(element)).isEqualTo(expectedCost);
+
+            for (int i = 0; i < 3 && nextElement < capacity; i++, nextElement++) {
+                var cost = expectedCost + random.nextInt(maxIncrement + 1);
+                buckets.add(nextElement, cost);
+                heap.add(nextElement, cost);
+            }
+        }
+        assertThat(buckets.isEmpty()).isTrue();
+    }
+}
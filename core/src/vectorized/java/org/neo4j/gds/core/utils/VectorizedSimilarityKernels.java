@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Similarity kernels based on the Vector API.
+ * <p>
+ * Each kernel processes as many elements per iteration as the preferred species
+ * of the platform holds and finishes the remaining elements with a scalar loop.
+ * Kernels that compute float inputs with double precision widen every float vector
+ * into {@link #PARTS} double vectors.
+ * <p>
+ * Must only be loaded via {@link SimilarityKernels#vectorized()}.
+ */
+final class VectorizedSimilarityKernels implements SimilarityKernels {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+    private static final int PARTS = FLOATS.length() / DOUBLES.length();
+
+    VectorizedSimilarityKernels() {
+        if (DOUBLES.length() < 2) {
+            throw new UnsupportedOperationException("The platform does not support SIMD instructions.");
+        }
+    }
+
+    @Override
+    public double sumSquareDelta(double[] vector1, double[] vector2, int len) {
+        var sum = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(len); i < bound; i += DOUBLES.length()) {
+            var delta = DoubleVector.fromArray(DOUBLES, vector1, i).sub(DoubleVector.fromArray(DOUBLES, vector2, i));
+            sum = sum.add(delta.mul(delta));
+        }
+
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            double delta = vector1[i] - vector2[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public float sumSquareDelta(float[] vector1, float[] vector2, int len) {
+        var sum = FloatVector.zero(FLOATS);
+        int i = 0;
+        for (int bound = FLOATS.loopBound(len); i < bound; i += FLOATS.length()) {
+            var delta = FloatVector.fromArray(FLOATS, vector1, i).sub(FloatVector.fromArray(FLOATS, vector2, i));
+            sum = sum.add(delta.mul(delta));
+        }
+
+        float result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            float delta = vector1[i] - vector2[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double sumSquareDeltaAsDouble(float[] vector1, float[] vector2, int len) {
+        var sum = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = FLOATS.loopBound(len); i < bound; i += FLOATS.length()) {
+            var floats1 = FloatVector.fromArray(FLOATS, vector1, i);
+            var floats2 = FloatVector.fromArray(FLOATS, vector2, i);
+            for (int part = 0; part < PARTS; part++) {
+                var delta = widen(floats1, part).sub(widen(floats2, part));
+                sum = sum.add(delta.mul(delta));
+            }
+        }
+
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            double delta = (double) vector1[i] - vector2[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double cosine(double[] vector1, double[] vector2, int len) {
+        var dotProducts = DoubleVector.zero(DOUBLES);
+        var xLengths = DoubleVector.zero(DOUBLES);
+        var yLengths = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(len); i < bound; i += DOUBLES.length()) {
+            var weights1 = DoubleVector.fromArray(DOUBLES, vector1, i);
+            var weights2 = DoubleVector.fromArray(DOUBLES, vector2, i);
+            dotProducts = dotProducts.add(weights1.mul(weights2));
+            xLengths = xLengths.add(weights1.mul(weights1));
+            yLengths = yLengths.add(weights2.mul(weights2));
+        }
+
+        double dotProduct = dotProducts.reduceLanes(VectorOperators.ADD);
+        double xLength = xLengths.reduceLanes(VectorOperators.ADD);
+        double yLength = yLengths.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            double weight1 = vector1[i];
+            double weight2 = vector2[i];
+
+            dotProduct += weight1 * weight2;
+            xLength += weight1 * weight1;
+            yLength += weight2 * weight2;
+        }
+
+        return dotProduct / Math.sqrt(xLength * yLength);
+    }
+
+    @Override
+    public float cosine(float[] vector1, float[] vector2, int len) {
+        var dotProducts = FloatVector.zero(FLOATS);
+        var xLengths = FloatVector.zero(FLOATS);
+        var yLengths = FloatVector.zero(FLOATS);
+        int i = 0;
+        for (int bound = FLOATS.loopBound(len); i < bound; i += FLOATS.length()) {
+            var weights1 = FloatVector.fromArray(FLOATS, vector1, i);
+            var weights2 = FloatVector.fromArray(FLOATS, vector2, i);
+            dotProducts = dotProducts.add(weights1.mul(weights2));
+            xLengths = xLengths.add(weights1.mul(weights1));
+            yLengths = yLengths.add(weights2.mul(weights2));
+        }
+
+        float dotProduct = dotProducts.reduceLanes(VectorOperators.ADD);
+        float xLength = xLengths.reduceLanes(VectorOperators.ADD);
+        float yLength = yLengths.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            float weight1 = vector1[i];
+            float weight2 = vector2[i];
+
+            dotProduct += weight1 * weight2;
+            xLength += weight1 * weight1;
+            yLength += weight2 * weight2;
+        }
+
+        return (float) (dotProduct / Math.sqrt(xLength * yLength));
+    }
+
+    @Override
+    public double pearson(double[] vector1, double[] vector2, int len) {
+        var vector1Sums = DoubleVector.zero(DOUBLES);
+        var vector2Sums = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        int bound = DOUBLES.loopBound(len);
+        for (; i < bound; i += DOUBLES.length()) {
+            vector1Sums = vector1Sums.add(DoubleVector.fromArray(DOUBLES, vector1, i));
+            vector2Sums = vector2Sums.add(DoubleVector.fromArray(DOUBLES, vector2, i));
+        }
+        double vector1Sum = vector1Sums.reduceLanes(VectorOperators.ADD);
+        double vector2Sum = vector2Sums.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            vector1Sum += vector1[i];
+            vector2Sum += vector2[i];
+        }
+
+        double vector1Mean = vector1Sum / len;
+        double vector2Mean = vector2Sum / len;
+
+        var dotProductsMinusMean = DoubleVector.zero(DOUBLES);
+        var xLengths = DoubleVector.zero(DOUBLES);
+        var yLengths = DoubleVector.zero(DOUBLES);
+        for (i = 0; i < bound; i += DOUBLES.length()) {
+            var vector1Deltas = DoubleVector.fromArray(DOUBLES, vector1, i).sub(vector1Mean);
+            var vector2Deltas = DoubleVector.fromArray(DOUBLES, vector2, i).sub(vector2Mean);
+            dotProductsMinusMean = dotProductsMinusMean.add(vector1Deltas.mul(vector2Deltas));
+            xLengths = xLengths.add(vector1Deltas.mul(vector1Deltas));
+            yLengths = yLengths.add(vector2Deltas.mul(vector2Deltas));
+        }
+
+        double dotProductMinusMean = dotProductsMinusMean.reduceLanes(VectorOperators.ADD);
+        double xLength = xLengths.reduceLanes(VectorOperators.ADD);
+        double yLength = yLengths.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            double vector1Delta = vector1[i] - vector1Mean;
+            double vector2Delta = vector2[i] - vector2Mean;
+
+            dotProductMinusMean += (vector1Delta * vector2Delta);
+            xLength += vector1Delta * vector1Delta;
+            yLength += vector2Delta * vector2Delta;
+        }
+
+        return dotProductMinusMean / Math.sqrt(xLength * yLength);
+    }
+
+    @Override
+    public double pearson(float[] vector1, float[] vector2, int len) {
+        var vector1Sums = DoubleVector.zero(DOUBLES);
+        var vector2Sums = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        int bound = FLOATS.loopBound(len);
+        for (; i < bound; i += FLOATS.length()) {
+            var floats1 = FloatVector.fromArray(FLOATS, vector1, i);
+            var floats2 = FloatVector.fromArray(FLOATS, vector2, i);
+            for (int part = 0; part < PARTS; part++) {
+                vector1Sums = vector1Sums.add(widen(floats1, part));
+                vector2Sums = vector2Sums.add(widen(floats2, part));
+            }
+        }
+        double vector1Sum = vector1Sums.reduceLanes(VectorOperators.ADD);
+        double vector2Sum = vector2Sums.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            vector1Sum += vector1[i];
+            vector2Sum += vector2[i];
+        }
+
+        double vector1Mean = vector1Sum / len;
+        double vector2Mean = vector2Sum / len;
+
+        var dotProductsMinusMean = DoubleVector.zero(DOUBLES);
+        var xLengths = DoubleVector.zero(DOUBLES);
+        var yLengths = DoubleVector.zero(DOUBLES);
+        for (i = 0; i < bound; i += FLOATS.length()) {
+            var floats1 = FloatVector.fromArray(FLOATS, vector1, i);
+            var floats2 = FloatVector.fromArray(FLOATS, vector2, i);
+            for (int part = 0; part < PARTS; part++) {
+                var vector1Deltas = widen(floats1, part).sub(vector1Mean);
+                var vector2Deltas = widen(floats2, part).sub(vector2Mean);
+                dotProductsMinusMean = dotProductsMinusMean.add(vector1Deltas.mul(vector2Deltas));
+                xLengths = xLengths.add(vector1Deltas.mul(vector1Deltas));
+                yLengths = yLengths.add(vector2Deltas.mul(vector2Deltas));
+            }
+        }
+
+        double dotProductMinusMean = dotProductsMinusMean.reduceLanes(VectorOperators.ADD);
+        double xLength = xLengths.reduceLanes(VectorOperators.ADD);
+        double yLength = yLengths.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            double vector1Delta = vector1[i] - vector1Mean;
+            double vector2Delta = vector2[i] - vector2Mean;
+
+            dotProductMinusMean += (vector1Delta * vector2Delta);
+            xLength += vector1Delta * vector1Delta;
+            yLength += vector2Delta * vector2Delta;
+        }
+
+        return dotProductMinusMean / Math.sqrt(xLength * yLength);
+    }
+
+    private static DoubleVector widen(FloatVector floats, int part) {
+        return (DoubleVector) floats.convertShape(VectorOperators.F2D, DOUBLES, part);
+    }
+}
@@ -23,6 +23,7 @@ import org.neo4j.gds.catalog.GraphProjectProc;
 import org.neo4j.gds.functions.AsNodeFunc;
 import org.neo4j.gds.functions.IsFiniteFunc;
 import org.neo4j.gds.paths.all.AllShortestPathsStreamProc;
+import org.neo4j.gds.paths.all.ManyToManyShortestPathsStreamProc;
 import org.neo4j.gds.projection.CypherAggregation;
 
 import java.util.List;
@@ -34,7 +35,8 @@ class AllPairsShortestPathDocTest extends SingleFileDocTestBase {
         return List.of(
             GraphProjectProc.class,
             CypherAggregation.class,
-            AllShortestPathsStreamProc.class
+            AllShortestPathsStreamProc.class,
+            ManyToManyShortestPathsStreamProc.class
         );
     }
 
@@ -23,6 +23,7 @@ import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.Messages;
+import org.neo4j.gds.beta.pregel.Pregel;
 import org.neo4j.gds.beta.pregel.PregelComputation;
 import org.neo4j.gds.beta.pregel.PregelProcedureConfig;
 import org.neo4j.gds.beta.pregel.PregelSchema;
@@ -33,8 +34,8 @@ import org.neo4j.gds.beta.pregel.context.ComputeContext;
 import org.neo4j.gds.beta.pregel.context.InitContext;
 import org.neo4j.gds.config.SeedConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
-import org.neo4j.gds.pagerank.PageRankMemoryEstimateDefinition;
 
+import java.util.Map;
 import java.util.Optional;
 
 @PregelProcedure(name = "example.pregel.pr", modes = {GDSMode.STREAM, GDSMode.MUTATE})
@@ -51,7 +52,11 @@ public class PageRankPregel implements PregelComputation<PageRankPregel.PageRank
 
     @Override
     public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
-        return new PageRankMemoryEstimateDefinition();
+        return () -> Pregel.memoryEstimation(
+            Map.of(PAGE_RANK, ValueType.DOUBLE),
+            reducer().isEmpty(),
+            isAsynchronous
+        );
     }
 
     @Override
@@ -32,7 +32,7 @@ public interface GraphCreation<
     ALGO extends Algorithm<ALGO_RESULT>,
     ALGO_RESULT,
     CONFIG extends AlgoBaseConfig
-    > {
+    > extends AutoCloseable {
     GraphStore graphStore();
 
     ResultStore resultStore();
@@ -43,4 +43,7 @@ public interface GraphCreation<
 
     MemoryRange validateMemoryEstimation(AlgorithmFactory<?, ALGO, CONFIG> algorithmFactory);
 
+    @Override
+    void close();
+
 }
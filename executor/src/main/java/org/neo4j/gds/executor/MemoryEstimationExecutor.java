@@ -112,13 +112,15 @@ public class MemoryEstimationExecutor<
             graphDims = graphStoreCreator.graphDimensions();
             maybeGraphEstimation = Optional.of(graphStoreCreator.estimateMemoryUsageAfterLoading());
         } else if (graphNameOrConfiguration instanceof String) {
-            graphDims = new GraphStoreFromCatalogLoader(
+            try (var graphStoreLoader = new GraphStoreFromCatalogLoader(
                 (String) graphNameOrConfiguration,
                 algoConfig,
                 executionContext.username(),
                 executionContext.databaseId(),
                 executionContext.isGdsAdmin()
-            ).graphDimensions();
+            )) {
+                graphDims = graphStoreLoader.graphDimensions();
+            }
             maybeGraphEstimation = Optional.empty();
         } else {
             throw new IllegalArgumentException(formatWithLocale(
@@ -78,55 +78,56 @@ public class ProcedureExecutor<
         algoSpec.preProcessConfig(configuration, executionContext);
         CONFIG config = executorSpec.configParser(algoSpec.newConfigFunction(), executionContext).processInput(configuration);
 
-        var graphCreation = executorSpec.graphCreationFactory(executionContext).create(config, graphName);
-
-        var memoryEstimationInBytes = graphCreation.validateMemoryEstimation(algoSpec.algorithmFactory(executionContext));
-
-        GraphStore graphStore;
-        Graph graph;
-        ResultStore resultStore;
-
-        try (ProgressTimer timer = ProgressTimer.start(builder::preProcessingMillis)) {
-            var graphProjectConfig = graphCreation.graphProjectConfig();
-            var validator = executorSpec.validator(algoSpec.validationConfig(executionContext));
-            validator.validateConfigsBeforeLoad(graphProjectConfig, config);
-            graphStore = graphCreation.graphStore();
-            resultStore = graphCreation.resultStore();
-            validator.validateConfigWithGraphStore(graphStore, graphProjectConfig, config);
-            graph = graphCreation.createGraph(graphStore);
-        }
+        // the graph must not be evicted from the catalog before the result has been consumed, including any mutation
+        try (var graphCreation = executorSpec.graphCreationFactory(executionContext).create(config, graphName)) {
+            var memoryEstimationInBytes = graphCreation.validateMemoryEstimation(algoSpec.algorithmFactory(executionContext));
+
+            GraphStore graphStore;
+            Graph graph;
+            ResultStore resultStore;
+
+            try (ProgressTimer timer = ProgressTimer.start(builder::preProcessingMillis)) {
+                var graphProjectConfig = graphCreation.graphProjectConfig();
+                var validator = executorSpec.validator(algoSpec.validationConfig(executionContext));
+                validator.validateConfigsBeforeLoad(graphProjectConfig, config);
+                graphStore = graphCreation.graphStore();
+                resultStore = graphCreation.resultStore();
+                validator.validateConfigWithGraphStore(graphStore, graphProjectConfig, config);
+                graph = graphCreation.createGraph(graphStore);
+            }
+
+            if (graph.isEmpty()) {
+                var emptyComputationResult = builder
+                    .isGraphEmpty(true)
+                    .graph(graph)
+                    .graphStore(graphStore)
+                    .resultStore(resultStore)
+                    .config(config)
+                    .computeMillis(0)
+                    .result(Optional.empty())
+                    .algorithm(null)
+                    .build();
+                return algoSpec.computationResultConsumer().consume(emptyComputationResult, executionContext);
+            }
+
+            ALGO algo = newAlgorithm(graph, graphStore, config);
+
+            algo.getProgressTracker().setEstimatedResourceFootprint(memoryEstimationInBytes);
+            algo.getProgressTracker().requestedConcurrency(config.concurrency());
+
+            ALGO_RESULT result = executeAlgorithm(builder, algo, executionContext.metrics().algorithmMetrics(), config);
 
-        if (graph.isEmpty()) {
-            var emptyComputationResult = builder
-                .isGraphEmpty(true)
+            var computationResult = builder
                 .graph(graph)
                 .graphStore(graphStore)
                 .resultStore(resultStore)
+                .algorithm(algo)
+                .result(result)
                 .config(config)
-                .computeMillis(0)
-                .result(Optional.empty())
-                .algorithm(null)
                 .build();
-            return algoSpec.computationResultConsumer().consume(emptyComputationResult, executionContext);
-        }
-
-        ALGO algo = newAlgorithm(graph, graphStore, config);
-
-        algo.getProgressTracker().setEstimatedResourceFootprint(memoryEstimationInBytes);
-        algo.getProgressTracker().requestedConcurrency(config.concurrency());
 
-        ALGO_RESULT result = executeAlgorithm(builder, algo, executionContext.metrics().algorithmMetrics(), config);
-
-        var computationResult = builder
-            .graph(graph)
-            .graphStore(graphStore)
-            .resultStore(resultStore)
-            .algorithm(algo)
-            .result(result)
-            .config(config)
-            .build();
-
-        return algoSpec.computationResultConsumer().consume(computationResult, executionContext);
+            return algoSpec.computationResultConsumer().consume(computationResult, executionContext);
+        }
     }
 
     private ALGO_RESULT executeAlgorithm(
@@ -91,4 +91,9 @@ public class ProcedureGraphCreation<
         );
         return memoryUsageValidator.tryValidateMemoryUsage("Loading",config, procedureMemoryEstimation::memoryEstimation);
     }
+
+    @Override
+    public void close() {
+        graphStoreLoader.close();
+    }
 }
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.properties.nodes.NodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.properties.relationships.Properties;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyList;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.core.huge.HugeGraph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes a {@link GraphStore} into a binary snapshot, see {@link BinarySnapshotFormat}.
+ * <p>
+ * In contrast to the CSV export, adjacency lists and relationship properties are
+ * written in their compressed in-memory layout, so that {@link BinaryGraphStoreImporter}
+ * can restore them without decoding and re-compressing.
+ * Only graph stores with the default adjacency list format are supported, that is,
+ * var-long compressed topologies and uncompressed relationship properties.
+ */
+public final class BinaryGraphStoreExporter {
+
+    private static final int BATCH_SIZE = 8192;
+
+    private final GraphStore graphStore;
+    private final Path directory;
+
+    public BinaryGraphStoreExporter(GraphStore graphStore, Path directory) {
+        this.graphStore = graphStore;
+        this.directory = directory;
+    }
+
+    public void run() {
+        if (!graphStore.graphPropertyKeys().isEmpty()) {
+            throw new IllegalArgumentException("Binary snapshots do not support graph properties.");
+        }
+
+        try {
+            Files.createDirectories(directory);
+
+            var nodeProperties = sortedNodeProperties();
+            var relationshipTypes = sortedRelationshipTypes();
+
+            try (var writer = SnapshotWriter.create(BinarySnapshotFormat.metaFile(directory))) {
+                SnapshotMetaData.write(writer, graphStore, nodeProperties, relationshipTypes);
+            }
+
+            writeNodes();
+
+            for (int i = 0; i < nodeProperties.size(); i++) {
+                writeNodeProperty(i, nodeProperties.get(i).values());
+            }
+
+            for (int i = 0; i < relationshipTypes.size(); i++) {
+                writeRelationships(i, relationshipTypes.get(i));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<NodeProperty> sortedNodeProperties() {
+        return graphStore.nodePropertyKeys()
+            .stream()
+            .sorted()
+            .map(graphStore::nodeProperty)
+            .toList();
+    }
+
+    private List<RelationshipType> sortedRelationshipTypes() {
+        return graphStore.relationshipTypes()
+            .stream()
+            .sorted(Comparator.comparing(RelationshipType::name))
+            .toList();
+    }
+
+    private void writeNodes() throws IOException {
+        var idMap = graphStore.nodes();
+        long nodeCount = idMap.nodeCount();
+        var labels = labelsToWrite(idMap);
+
+        try (var writer = SnapshotWriter.create(BinarySnapshotFormat.nodesFile(directory))) {
+            writer.writeLong(nodeCount);
+
+            var batch = new long[BATCH_SIZE];
+            for (long start = 0; start < nodeCount; start += BATCH_SIZE) {
+                int length = (int) Math.min(BATCH_SIZE, nodeCount - start);
+                for (int i = 0; i < length; i++) {
+                    batch[i] = idMap.toOriginalNodeId(start + i);
+                }
+                writer.writeLongs(batch, 0, length);
+            }
+
+            // one bit set of internal ids per label, stored as 64-bit words
+            writer.writeInt(labels.size());
+            for (var label : labels) {
+                writer.writeString(label.name());
+                for (long start = 0; start < nodeCount; start += Long.SIZE) {
+                    long word = 0L;
+                    long end = Math.min(start + Long.SIZE, nodeCount);
+                    for (long nodeId = start; nodeId < end; nodeId++) {
+                        if (idMap.hasLabel(nodeId, label)) {
+                            word |= 1L << (nodeId - start);
+                        }
+                    }
+                    writer.writeLong(word);
+                }
+            }
+        }
+    }
+
+    private static List<NodeLabel> labelsToWrite(IdMap idMap) {
+        var labels = new ArrayList<>(idMap.availableNodeLabels());
+        if (labels.equals(List.of(NodeLabel.ALL_NODES))) {
+            return List.of();
+        }
+        labels.sort(Comparator.comparing(NodeLabel::name));
+        return labels;
+    }
+
+    private void writeNodeProperty(int propertyIndex, NodePropertyValues values) throws IOException {
+        long nodeCount = graphStore.nodeCount();
+
+        try (var writer = SnapshotWriter.create(BinarySnapshotFormat.nodePropertyFile(directory, propertyIndex))) {
+            writer.writeString(values.valueType().name());
+            writer.writeLong(nodeCount);
+
+            switch (values.valueType()) {
+                case LONG -> {
+                    var batch = new long[BATCH_SIZE];
+                    for (long start = 0; start < nodeCount; start += BATCH_SIZE) {
+                        int length = (int) Math.min(BATCH_SIZE, nodeCount - start);
+                        for (int i = 0; i < length; i++) {
+                            batch[i] = values.longValue(start + i);
+                        }
+                        writer.writeLongs(batch, 0, length);
+                    }
+                }
+                case DOUBLE -> {
+                    var batch = new double[BATCH_SIZE];
+                    for (long start = 0; start < nodeCount; start += BATCH_SIZE) {
+                        int length = (int) Math.min(BATCH_SIZE, nodeCount - start);
+                        for (int i = 0; i < length; i++) {
+                            batch[i] = values.doubleValue(start + i);
+                        }
+                        writer.writeDoubles(batch, 0, length);
+                    }
+                }
+                case LONG_ARRAY -> {
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        var array = values.longArrayValue(nodeId);
+                        writer.writeInt(array == null ? -1 : array.length);
+                        if (array != null) {
+                            writer.writeLongs(array, 0, array.length);
+                        }
+                    }
+                }
+                case DOUBLE_ARRAY -> {
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        var array = values.doubleArrayValue(nodeId);
+                        writer.writeInt(array == null ? -1 : array.length);
+                        if (array != null) {
+                            writer.writeDoubles(array, 0, array.length);
+                        }
+                    }
+                }
+                case FLOAT_ARRAY -> {
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        var array = values.floatArrayValue(nodeId);
+                        writer.writeInt(array == null ? -1 : array.length);
+                        if (array != null) {
+                            writer.writeFloats(array, 0, array.length);
+                        }
+                    }
+                }
+                default -> throw new IllegalArgumentException(formatWithLocale(
+                    "Binary snapshots do not support node properties of type `%s`.",
+                    values.valueType()
+                ));
+            }
+        }
+    }
+
+    private void writeRelationships(int typeIndex, RelationshipType relationshipType) throws IOException {
+        var topologyGraph = hugeGraph(relationshipType, Optional.empty());
+        var propertyKeys = graphStore.schema()
+            .relationshipSchema()
+            .get(relationshipType)
+            .properties()
+            .values()
+            .stream()
+            .map(RelationshipPropertySchema::key)
+            .sorted()
+            .toList();
+
+        try (var writer = SnapshotWriter.create(BinarySnapshotFormat.relationshipsFile(directory, typeIndex))) {
+            writeTopology(writer, topologyGraph.relationshipTopology().adjacencyList());
+            for (var propertyKey : propertyKeys) {
+                var graph = hugeGraph(relationshipType, Optional.of(propertyKey));
+                writeProperties(writer, graph.relationshipProperties().orElseThrow());
+            }
+
+            var inverseTopology = topologyGraph.inverseRelationshipTopology();
+            writer.writeBoolean(inverseTopology.isPresent());
+            if (inverseTopology.isPresent()) {
+                writeTopology(writer, inverseTopology.get().adjacencyList());
+                for (var propertyKey : propertyKeys) {
+                    var graph = hugeGraph(relationshipType, Optional.of(propertyKey));
+                    writeProperties(writer, graph.inverseRelationshipProperties().orElseThrow());
+                }
+            }
+        }
+    }
+
+    private HugeGraph hugeGraph(RelationshipType relationshipType, Optional<String> propertyKey) {
+        var graph = graphStore.getGraph(graphStore.nodeLabels(), List.of(relationshipType), propertyKey);
+        if (graph instanceof HugeGraph hugeGraph) {
+            return hugeGraph;
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Binary snapshots are not supported for graphs of type `%s`.",
+            graph.getClass().getSimpleName()
+        ));
+    }
+
+    private static void writeTopology(SnapshotWriter writer, AdjacencyList adjacencyList) throws IOException {
+        if (!(adjacencyList instanceof CompressedAdjacencyList compressed)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Binary snapshots are not supported for adjacency lists of type `%s`.",
+                adjacencyList.getClass().getSimpleName()
+            ));
+        }
+        writer.writeHugeIntArray(compressed.degrees());
+        writer.writeHugeLongArray(compressed.offsets());
+        writer.writeBytePages(compressed.pages());
+    }
+
+    private static void writeProperties(SnapshotWriter writer, Properties properties) throws IOException {
+        AdjacencyProperties propertiesList = properties.propertiesList();
+        if (!(propertiesList instanceof UncompressedAdjacencyList uncompressed)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Binary snapshots are not supported for relationship properties of type `%s`.",
+                propertiesList.getClass().getSimpleName()
+            ));
+        }
+        writer.writeDouble(properties.defaultPropertyValue());
+        writer.writeHugeIntArray(uncompressed.degrees());
+        writer.writeHugeLongArray(uncompressed.offsets());
+        writer.writeLongPages(uncompressed.pages());
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.properties.graph.GraphPropertyStore;
+import org.neo4j.gds.api.properties.nodes.ImmutableNodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
+import org.neo4j.gds.api.properties.relationships.ImmutableProperties;
+import org.neo4j.gds.api.properties.relationships.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.properties.relationships.Properties;
+import org.neo4j.gds.api.properties.relationships.RelationshipPropertyStore;
+import org.neo4j.gds.api.schema.MutableGraphSchema;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyList;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.io.binary.SnapshotMetaData.RelationshipTypeMetaData;
+import org.neo4j.gds.core.loading.ArrayIdMapBuilder;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.ImmutableNodes;
+import org.neo4j.gds.core.loading.ImmutableStaticCapabilities;
+import org.neo4j.gds.core.loading.LabelInformation;
+import org.neo4j.gds.core.loading.LabelInformationBuilders;
+import org.neo4j.gds.core.loading.RelationshipImportResult;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.core.loading.nodeproperties.OffHeapNodePropertyValues;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Restores a {@link GraphStore} from a binary snapshot written by {@link BinaryGraphStoreExporter}.
+ * <p>
+ * The id map, every node property and every relationship type are restored from
+ * separate files in parallel. Adjacency lists and relationship properties are copied
+ * page by page from the memory mapped files and used as they are,
+ * only the skip index of high-degree nodes is rebuilt.
+ */
+public final class BinaryGraphStoreImporter {
+
+    private final Path directory;
+    private final Concurrency concurrency;
+
+    public BinaryGraphStoreImporter(Path directory, Concurrency concurrency) {
+        this.directory = directory;
+        this.concurrency = concurrency;
+    }
+
+    public GraphStore run() {
+        SnapshotMetaData metaData;
+        try (var reader = SnapshotReader.open(BinarySnapshotFormat.metaFile(directory))) {
+            metaData = SnapshotMetaData.read(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        var nodeProperties = metaData.nodeProperties();
+        var relationshipTypes = metaData.relationshipTypes();
+
+        var idMap = new IdMap[1];
+        var nodePropertyValues = new NodePropertyValues[nodeProperties.size()];
+        var relationships = new SingleTypeRelationships[relationshipTypes.size()];
+
+        var tasks = new ArrayList<Runnable>();
+        tasks.add(uncheckedTask(() -> idMap[0] = readIdMap(metaData)));
+        for (int i = 0; i < nodeProperties.size(); i++) {
+            int propertyIndex = i;
+            tasks.add(uncheckedTask(() -> nodePropertyValues[propertyIndex] = readNodeProperty(propertyIndex)));
+        }
+        for (int i = 0; i < relationshipTypes.size(); i++) {
+            int typeIndex = i;
+            tasks.add(uncheckedTask(() -> relationships[typeIndex] = readRelationships(
+                typeIndex,
+                relationshipTypes.get(typeIndex)
+            )));
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(DefaultPool.INSTANCE)
+            .run();
+
+        var nodePropertyStore = NodePropertyStore.builder();
+        for (int i = 0; i < nodeProperties.size(); i++) {
+            var propertySchema = nodeProperties.get(i);
+            nodePropertyStore.putIfAbsent(
+                propertySchema.key(),
+                ImmutableNodeProperty.of(nodePropertyValues[i], propertySchema)
+            );
+        }
+
+        var importResults = new HashMap<RelationshipType, SingleTypeRelationships>();
+        for (int i = 0; i < relationshipTypes.size(); i++) {
+            importResults.put(relationshipTypes.get(i).relationshipType(), relationships[i]);
+        }
+        var relationshipImportResult = RelationshipImportResult.of(importResults);
+
+        var schema = MutableGraphSchema.of(
+            metaData.nodeSchema(),
+            relationshipImportResult.relationshipSchema(),
+            Map.of()
+        );
+
+        return new GraphStoreBuilder()
+            .databaseInfo(metaData.databaseInfo())
+            .capabilities(ImmutableStaticCapabilities.of(metaData.writeMode()))
+            .schema(schema)
+            .nodes(ImmutableNodes.of(metaData.nodeSchema(), idMap[0], nodePropertyStore.build()))
+            .relationshipImportResult(relationshipImportResult)
+            .graphProperties(GraphPropertyStore.empty())
+            .concurrency(concurrency)
+            .build();
+    }
+
+    private IdMap readIdMap(SnapshotMetaData metaData) throws IOException {
+        try (var reader = SnapshotReader.open(BinarySnapshotFormat.nodesFile(directory))) {
+            var originalIds = reader.readHugeLongArray();
+            long nodeCount = originalIds.size();
+
+            int labelCount = reader.readInt();
+            LabelInformation.Builder labelInformationBuilder = labelCount == 0
+                ? LabelInformationBuilders.allNodes()
+                : LabelInformationBuilders.multiLabelWithCapacity(metaData.highestOriginalId() + 1);
+
+            for (int i = 0; i < labelCount; i++) {
+                var label = NodeLabel.of(reader.readString());
+                for (long start = 0; start < nodeCount; start += Long.SIZE) {
+                    long word = reader.readLong();
+                    while (word != 0L) {
+                        long nodeId = start + Long.numberOfTrailingZeros(word);
+                        labelInformationBuilder.addNodeIdToLabel(label, originalIds.get(nodeId));
+                        word &= word - 1;
+                    }
+                }
+            }
+
+            return ArrayIdMapBuilder.fromInternalToOriginalIds(
+                originalIds,
+                labelInformationBuilder,
+                metaData.highestOriginalId(),
+                concurrency
+            );
+        }
+    }
+
+    private NodePropertyValues readNodeProperty(int propertyIndex) throws IOException {
+        var file = BinarySnapshotFormat.nodePropertyFile(directory, propertyIndex);
+        try (var reader = SnapshotReader.open(file)) {
+            var valueType = reader.readString();
+            NodePropertyValues values = switch (valueType) {
+                case "LONG" -> NodePropertyValuesAdapter.adapt(reader.readHugeLongArray());
+                case "DOUBLE" -> NodePropertyValuesAdapter.adapt(reader.readHugeDoubleArray());
+                case "LONG_ARRAY" -> {
+                    var array = HugeObjectArray.newArray(long[].class, reader.readLong());
+                    for (long nodeId = 0; nodeId < array.size(); nodeId++) {
+                        int length = reader.readInt();
+                        if (length >= 0) {
+                            var value = new long[length];
+                            reader.readLongs(value, 0, length);
+                            array.set(nodeId, value);
+                        }
+                    }
+                    yield NodePropertyValuesAdapter.adapt(array);
+                }
+                case "DOUBLE_ARRAY" -> {
+                    var array = HugeObjectArray.newArray(double[].class, reader.readLong());
+                    for (long nodeId = 0; nodeId < array.size(); nodeId++) {
+                        int length = reader.readInt();
+                        if (length >= 0) {
+                            var value = new double[length];
+                            reader.readDoubles(value, 0, length);
+                            array.set(nodeId, value);
+                        }
+                    }
+                    yield NodePropertyValuesAdapter.adapt(array);
+                }
+                case "FLOAT_ARRAY" -> {
+                    var array = HugeObjectArray.newArray(float[].class, reader.readLong());
+                    for (long nodeId = 0; nodeId < array.size(); nodeId++) {
+                        int length = reader.readInt();
+                        if (length >= 0) {
+                            var value = new float[length];
+                            reader.readFloats(value, 0, length);
+                            array.set(nodeId, value);
+                        }
+                    }
+                    yield NodePropertyValuesAdapter.adapt(array);
+                }
+                default -> throw new IllegalStateException(formatWithLocale(
+                    "Unsupported node property type `%s` in `%s`.",
+                    valueType,
+                    file
+                ));
+            };
+
+            return GdsFeatureToggles.USE_OFF_HEAP_NODE_PROPERTIES.isEnabled()
+                ? OffHeapNodePropertyValues.copyOf(values)
+                : values;
+        }
+    }
+
+    private SingleTypeRelationships readRelationships(
+        int typeIndex,
+        RelationshipTypeMetaData metaData
+    ) throws IOException {
+        try (var reader = SnapshotReader.open(BinarySnapshotFormat.relationshipsFile(directory, typeIndex))) {
+            var topology = readTopology(reader, metaData);
+            var properties = readProperties(reader, metaData);
+
+            Optional<Topology> inverseTopology = Optional.empty();
+            Optional<RelationshipPropertyStore> inverseProperties = Optional.empty();
+            if (reader.readBoolean()) {
+                inverseTopology = Optional.of(readTopology(reader, metaData));
+                inverseProperties = readProperties(reader, metaData);
+            }
+
+            return SingleTypeRelationships.builder()
+                .relationshipSchemaEntry(metaData.schemaEntry())
+                .topology(topology)
+                .properties(properties)
+                .inverseTopology(inverseTopology)
+                .inverseProperties(inverseProperties)
+                .build();
+        }
+    }
+
+    private static Topology readTopology(SnapshotReader reader, RelationshipTypeMetaData metaData) throws IOException {
+        var degrees = reader.readHugeIntArray();
+        var offsets = reader.readHugeLongArray();
+        var pages = reader.readBytePages();
+        return ImmutableTopology.of(
+            CompressedAdjacencyList.of(pages, degrees, offsets),
+            metaData.elementCount(),
+            metaData.isMultiGraph()
+        );
+    }
+
+    private static Optional<RelationshipPropertyStore> readProperties(
+        SnapshotReader reader,
+        RelationshipTypeMetaData metaData
+    ) throws IOException {
+        if (metaData.propertyKeys().isEmpty()) {
+            return Optional.empty();
+        }
+
+        var propertyStore = RelationshipPropertyStore.builder();
+        for (var propertyKey : metaData.propertyKeys()) {
+            double defaultPropertyValue = reader.readDouble();
+            var degrees = reader.readHugeIntArray();
+            var offsets = reader.readHugeLongArray();
+            var pages = reader.readLongPages();
+
+            Properties properties = ImmutableProperties.of(
+                UncompressedAdjacencyList.of(pages, degrees, offsets),
+                metaData.elementCount(),
+                defaultPropertyValue
+            );
+            propertyStore.putRelationshipProperty(
+                propertyKey,
+                ImmutableRelationshipProperty.builder()
+                    .values(properties)
+                    .propertySchema(metaData.schemaEntry().properties().get(propertyKey))
+                    .build()
+            );
+        }
+        return Optional.of(propertyStore.build());
+    }
+
+    private static Runnable uncheckedTask(IOTask task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface IOTask {
+        void run() throws IOException;
+    }
+}
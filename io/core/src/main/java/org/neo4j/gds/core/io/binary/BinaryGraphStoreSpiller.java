@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.loading.GraphStoreSpiller;
+
+import java.nio.file.Path;
+
+/**
+ * Evicts graph stores from the {@link org.neo4j.gds.core.loading.GraphStoreCatalog} as binary snapshots.
+ * Graph stores that cannot be written as a snapshot, e.g. those with graph properties, stay in memory.
+ */
+public final class BinaryGraphStoreSpiller implements GraphStoreSpiller {
+
+    private final Concurrency concurrency;
+
+    public BinaryGraphStoreSpiller(Concurrency concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public void spill(GraphStore graphStore, Path directory) {
+        new BinaryGraphStoreExporter(graphStore, directory).run();
+    }
+
+    @Override
+    public GraphStore reload(Path directory) {
+        return new BinaryGraphStoreImporter(directory, concurrency).run();
+    }
+}
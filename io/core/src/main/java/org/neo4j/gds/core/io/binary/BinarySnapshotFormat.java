@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Layout of a binary graph store snapshot.
+ * <p>
+ * A snapshot is a directory that contains one file for the metadata and the schema,
+ * one file for the id map and the label information, one file per node property
+ * and one file per relationship type.
+ * All files start with {@link #MAGIC} and {@link #VERSION} and store all values
+ * in {@link #BYTE_ORDER}.
+ * <p>
+ * Adjacency lists and relationship properties are stored in their in-memory,
+ * already compressed page layout. Restoring a snapshot copies those pages back
+ * without decoding or re-compressing any adjacency list.
+ */
+public final class BinarySnapshotFormat {
+
+    public static final long MAGIC = 0x4744_5353_4E41_5031L; // "GDSSNAP1"
+    public static final int VERSION = 1;
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static final String META_FILE = "graph.meta";
+    static final String NODES_FILE = "nodes.bin";
+
+    private BinarySnapshotFormat() {}
+
+    static Path metaFile(Path directory) {
+        return directory.resolve(META_FILE);
+    }
+
+    static Path nodesFile(Path directory) {
+        return directory.resolve(NODES_FILE);
+    }
+
+    static Path nodePropertyFile(Path directory, int propertyIndex) {
+        return directory.resolve(formatWithLocale("node_property_%d.bin", propertyIndex));
+    }
+
+    static Path relationshipsFile(Path directory, int typeIndex) {
+        return directory.resolve(formatWithLocale("relationships_%d.bin", typeIndex));
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.DatabaseInfo;
+import org.neo4j.gds.api.DatabaseInfo.DatabaseLocation;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.PropertyState;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodeProperty;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.api.schema.MutableNodeSchema;
+import org.neo4j.gds.api.schema.MutableRelationshipSchemaEntry;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.loading.Capabilities.WriteMode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Everything about a snapshot that is not stored in bulk: database information, counts and the schema.
+ * The order of {@link #nodeProperties()} and {@link #relationshipTypes()} determines the file index
+ * of the corresponding node property and relationship files.
+ */
+record SnapshotMetaData(
+    DatabaseInfo databaseInfo,
+    WriteMode writeMode,
+    long nodeCount,
+    long highestOriginalId,
+    MutableNodeSchema nodeSchema,
+    List<PropertySchema> nodeProperties,
+    List<RelationshipTypeMetaData> relationshipTypes
+) {
+
+    record RelationshipTypeMetaData(
+        MutableRelationshipSchemaEntry schemaEntry,
+        List<String> propertyKeys,
+        long elementCount,
+        boolean isMultiGraph
+    ) {
+        RelationshipType relationshipType() {
+            return schemaEntry.identifier();
+        }
+    }
+
+    private static final byte NULL_VALUE = 0;
+    private static final byte INT_VALUE = 1;
+    private static final byte LONG_VALUE = 2;
+    private static final byte FLOAT_VALUE = 3;
+    private static final byte DOUBLE_VALUE = 4;
+    private static final byte LONG_ARRAY_VALUE = 5;
+    private static final byte FLOAT_ARRAY_VALUE = 6;
+    private static final byte DOUBLE_ARRAY_VALUE = 7;
+    private static final byte STRING_VALUE = 8;
+
+    static void write(
+        SnapshotWriter writer,
+        GraphStore graphStore,
+        List<NodeProperty> nodeProperties,
+        List<RelationshipType> relationshipTypes
+    ) throws IOException {
+        var databaseInfo = graphStore.databaseInfo();
+        writer.writeString(databaseInfo.databaseId().databaseName());
+        writer.writeString(databaseInfo.databaseLocation().name());
+        writer.writeBoolean(databaseInfo.remoteDatabaseId().isPresent());
+        if (databaseInfo.remoteDatabaseId().isPresent()) {
+            writer.writeString(databaseInfo.remoteDatabaseId().get().databaseName());
+        }
+        writer.writeString(graphStore.capabilities().writeMode().name());
+
+        writer.writeLong(graphStore.nodeCount());
+        writer.writeLong(graphStore.nodes().highestOriginalId());
+
+        var nodeSchema = graphStore.schema().nodeSchema();
+        var labels = new ArrayList<>(nodeSchema.availableLabels());
+        labels.sort(Comparator.comparing(NodeLabel::name));
+        writer.writeInt(labels.size());
+        for (var label : labels) {
+            writer.writeString(label.name());
+            var properties = nodeSchema.get(label).properties().values().stream()
+                .sorted(Comparator.comparing(PropertySchema::key))
+                .toList();
+            writer.writeInt(properties.size());
+            for (var propertySchema : properties) {
+                writePropertySchema(writer, propertySchema);
+            }
+        }
+
+        writer.writeInt(nodeProperties.size());
+        for (var nodeProperty : nodeProperties) {
+            writePropertySchema(writer, nodeProperty.propertySchema());
+        }
+
+        var relationshipSchema = graphStore.schema().relationshipSchema();
+        writer.writeInt(relationshipTypes.size());
+        for (var relationshipType : relationshipTypes) {
+            var entry = relationshipSchema.get(relationshipType);
+            writer.writeString(relationshipType.name());
+            writer.writeString(entry.direction().name());
+            var properties = entry.properties().values().stream()
+                .sorted(Comparator.comparing(RelationshipPropertySchema::key))
+                .toList();
+            writer.writeInt(properties.size());
+            for (var propertySchema : properties) {
+                writePropertySchema(writer, propertySchema);
+                writer.writeString(propertySchema.aggregation().name());
+            }
+            writer.writeLong(graphStore.relationshipCount(relationshipType));
+            writer.writeBoolean(graphStore.getGraph(relationshipType).isMultiGraph());
+        }
+    }
+
+    static SnapshotMetaData read(SnapshotReader reader) throws IOException {
+        var databaseId = DatabaseId.of(reader.readString());
+        var databaseLocation = DatabaseLocation.valueOf(reader.readString());
+        var databaseInfo = reader.readBoolean()
+            ? DatabaseInfo.of(databaseId, databaseLocation, DatabaseId.of(reader.readString()))
+            : DatabaseInfo.of(databaseId, databaseLocation);
+        var writeMode = WriteMode.valueOf(reader.readString());
+
+        long nodeCount = reader.readLong();
+        long highestOriginalId = reader.readLong();
+
+        var nodeSchema = MutableNodeSchema.empty();
+        int labelCount = reader.readInt();
+        for (int i = 0; i < labelCount; i++) {
+            var label = NodeLabel.of(reader.readString());
+            nodeSchema.addLabel(label);
+            int propertyCount = reader.readInt();
+            for (int j = 0; j < propertyCount; j++) {
+                var propertySchema = readPropertySchema(reader);
+                nodeSchema.addProperty(label, propertySchema.key(), propertySchema);
+            }
+        }
+
+        int nodePropertyCount = reader.readInt();
+        var nodeProperties = new ArrayList<PropertySchema>(nodePropertyCount);
+        for (int i = 0; i < nodePropertyCount; i++) {
+            nodeProperties.add(readPropertySchema(reader));
+        }
+
+        int relationshipTypeCount = reader.readInt();
+        var relationshipTypes = new ArrayList<RelationshipTypeMetaData>(relationshipTypeCount);
+        for (int i = 0; i < relationshipTypeCount; i++) {
+            var relationshipType = RelationshipType.of(reader.readString());
+            var direction = Direction.valueOf(reader.readString());
+            var schemaEntry = new MutableRelationshipSchemaEntry(relationshipType, direction);
+            int propertyCount = reader.readInt();
+            var propertyKeys = new ArrayList<String>(propertyCount);
+            for (int j = 0; j < propertyCount; j++) {
+                var propertySchema = readPropertySchema(reader);
+                var aggregation = Aggregation.valueOf(reader.readString());
+                schemaEntry.addProperty(
+                    propertySchema.key(),
+                    RelationshipPropertySchema.of(
+                        propertySchema.key(),
+                        propertySchema.valueType(),
+                        propertySchema.defaultValue(),
+                        propertySchema.state(),
+                        aggregation
+                    )
+                );
+                propertyKeys.add(propertySchema.key());
+            }
+            long elementCount = reader.readLong();
+            boolean isMultiGraph = reader.readBoolean();
+            relationshipTypes.add(new RelationshipTypeMetaData(schemaEntry, propertyKeys, elementCount, isMultiGraph));
+        }
+
+        return new SnapshotMetaData(
+            databaseInfo,
+            writeMode,
+            nodeCount,
+            highestOriginalId,
+            nodeSchema,
+            nodeProperties,
+            relationshipTypes
+        );
+    }
+
+    private static void writePropertySchema(SnapshotWriter writer, PropertySchema propertySchema) throws IOException {
+        writer.writeString(propertySchema.key());
+        writer.writeString(propertySchema.valueType().name());
+        writer.writeString(propertySchema.state().name());
+        writer.writeBoolean(propertySchema.defaultValue().isUserDefined());
+        writeValue(writer, propertySchema.defaultValue().getObject());
+    }
+
+    private static PropertySchema readPropertySchema(SnapshotReader reader) throws IOException {
+        var key = reader.readString();
+        var valueType = ValueType.valueOf(reader.readString());
+        var state = PropertyState.valueOf(reader.readString());
+        boolean isUserDefined = reader.readBoolean();
+        var defaultValue = DefaultValue.of(readValue(reader), isUserDefined);
+        return PropertySchema.of(key, valueType, defaultValue, state);
+    }
+
+    private static void writeValue(SnapshotWriter writer, Object value) throws IOException {
+        if (value == null) {
+            writer.writeByte(NULL_VALUE);
+        } else if (value instanceof Integer intValue) {
+            writer.writeByte(INT_VALUE);
+            writer.writeInt(intValue);
+        } else if (value instanceof Long longValue) {
+            writer.writeByte(LONG_VALUE);
+            writer.writeLong(longValue);
+        } else if (value instanceof Float floatValue) {
+            writer.writeByte(FLOAT_VALUE);
+            writer.writeFloats(new float[]{floatValue}, 0, 1);
+        } else if (value instanceof Double doubleValue) {
+            writer.writeByte(DOUBLE_VALUE);
+            writer.writeDouble(doubleValue);
+        } else if (value instanceof long[] longArray) {
+            writer.writeByte(LONG_ARRAY_VALUE);
+            writer.writeInt(longArray.length);
+            writer.writeLongs(longArray, 0, longArray.length);
+        } else if (value instanceof float[] floatArray) {
+            writer.writeByte(FLOAT_ARRAY_VALUE);
+            writer.writeInt(floatArray.length);
+            writer.writeFloats(floatArray, 0, floatArray.length);
+        } else if (value instanceof double[] doubleArray) {
+            writer.writeByte(DOUBLE_ARRAY_VALUE);
+            writer.writeInt(doubleArray.length);
+            writer.writeDoubles(doubleArray, 0, doubleArray.length);
+        } else if (value instanceof String stringValue) {
+            writer.writeByte(STRING_VALUE);
+            writer.writeString(stringValue);
+        } else {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Binary snapshots do not support default values of type `%s`.",
+                value.getClass().getSimpleName()
+            ));
+        }
+    }
+
+    private static Object readValue(SnapshotReader reader) throws IOException {
+        byte type = reader.readByte();
+        switch (type) {
+            case NULL_VALUE:
+                return null;
+            case INT_VALUE:
+                return reader.readInt();
+            case LONG_VALUE:
+                return reader.readLong();
+            case FLOAT_VALUE: {
+                var value = new float[1];
+                reader.readFloats(value, 0, 1);
+                return value[0];
+            }
+            case DOUBLE_VALUE:
+                return reader.readDouble();
+            case LONG_ARRAY_VALUE: {
+                var value = new long[reader.readInt()];
+                reader.readLongs(value, 0, value.length);
+                return value;
+            }
+            case FLOAT_ARRAY_VALUE: {
+                var value = new float[reader.readInt()];
+                reader.readFloats(value, 0, value.length);
+                return value;
+            }
+            case DOUBLE_ARRAY_VALUE: {
+                var value = new double[reader.readInt()];
+                reader.readDoubles(value, 0, value.length);
+                return value;
+            }
+            case STRING_VALUE:
+                return reader.readString();
+            default:
+                throw new IllegalStateException(formatWithLocale("Unknown value type %d in snapshot.", type));
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Sequentially reads a snapshot file written by {@link SnapshotWriter}.
+ * <p>
+ * The file is memory mapped in windows of at most {@link #WINDOW_SIZE} bytes.
+ * Bulk reads copy directly from the mapped window into the target arrays,
+ * which lets the OS page cache do the I/O without any intermediate buffers.
+ */
+final class SnapshotReader implements AutoCloseable {
+
+    private static final int WINDOW_SIZE = 1 << 26;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final long fileSize;
+
+    private ByteBuffer window;
+    private long windowStart;
+
+    static SnapshotReader open(Path file) throws IOException {
+        var reader = new SnapshotReader(file, FileChannel.open(file, StandardOpenOption.READ));
+        long magic = reader.readLong();
+        if (magic != BinarySnapshotFormat.MAGIC) {
+            reader.close();
+            throw new IllegalArgumentException(formatWithLocale("`%s` is not a binary graph snapshot file.", file));
+        }
+        int version = reader.readInt();
+        if (version != BinarySnapshotFormat.VERSION) {
+            reader.close();
+            throw new IllegalArgumentException(formatWithLocale(
+                "Unsupported snapshot version %d in `%s`, expected version %d.",
+                version,
+                file,
+                BinarySnapshotFormat.VERSION
+            ));
+        }
+        return reader;
+    }
+
+    private SnapshotReader(Path file, FileChannel channel) throws IOException {
+        this.file = file;
+        this.channel = channel;
+        this.fileSize = channel.size();
+        this.window = ByteBuffer.allocate(0);
+        this.windowStart = 0L;
+    }
+
+    boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    byte readByte() throws IOException {
+        ensureAvailable(Byte.BYTES);
+        return window.get();
+    }
+
+    int readInt() throws IOException {
+        ensureAvailable(Integer.BYTES);
+        return window.getInt();
+    }
+
+    long readLong() throws IOException {
+        ensureAvailable(Long.BYTES);
+        return window.getLong();
+    }
+
+    double readDouble() throws IOException {
+        ensureAvailable(Double.BYTES);
+        return window.getDouble();
+    }
+
+    String readString() throws IOException {
+        var bytes = new byte[readInt()];
+        readBytes(bytes, 0, bytes.length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    void readBytes(byte[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            int count = ensureAvailable(Byte.BYTES, length);
+            window.get(values, offset, count);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    void readInts(int[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            int count = ensureAvailable(Integer.BYTES, length);
+            window.asIntBuffer().get(values, offset, count);
+            window.position(window.position() + count * Integer.BYTES);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    void readLongs(long[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            int count = ensureAvailable(Long.BYTES, length);
+            window.asLongBuffer().get(values, offset, count);
+            window.position(window.position() + count * Long.BYTES);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    void readFloats(float[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            int count = ensureAvailable(Float.BYTES, length);
+            window.asFloatBuffer().get(values, offset, count);
+            window.position(window.position() + count * Float.BYTES);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    void readDoubles(double[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            int count = ensureAvailable(Double.BYTES, length);
+            window.asDoubleBuffer().get(values, offset, count);
+            window.position(window.position() + count * Double.BYTES);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    HugeIntArray readHugeIntArray() throws IOException {
+        var array = HugeIntArray.newArray(readLong());
+        try (var cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                readInts(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+            }
+        }
+        return array;
+    }
+
+    HugeLongArray readHugeLongArray() throws IOException {
+        var array = HugeLongArray.newArray(readLong());
+        try (var cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                readLongs(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+            }
+        }
+        return array;
+    }
+
+    HugeDoubleArray readHugeDoubleArray() throws IOException {
+        var array = HugeDoubleArray.newArray(readLong());
+        try (var cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                readDoubles(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+            }
+        }
+        return array;
+    }
+
+    byte[][] readBytePages() throws IOException {
+        var pages = new byte[readInt()][];
+        for (int i = 0; i < pages.length; i++) {
+            pages[i] = new byte[readInt()];
+            readBytes(pages[i], 0, pages[i].length);
+        }
+        return pages;
+    }
+
+    long[][] readLongPages() throws IOException {
+        var pages = new long[readInt()][];
+        for (int i = 0; i < pages.length; i++) {
+            pages[i] = new long[readInt()];
+            readLongs(pages[i], 0, pages[i].length);
+        }
+        return pages;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    /**
+     * Makes sure that at least one element of the given size can be read from the current window.
+     *
+     * @return the number of elements, up to {@code maxElements}, that can be read from the current window
+     */
+    private int ensureAvailable(int elementSize, int maxElements) throws IOException {
+        ensureAvailable(elementSize);
+        return Math.min(maxElements, window.remaining() / elementSize);
+    }
+
+    private void ensureAvailable(int bytes) throws IOException {
+        if (window.remaining() >= bytes) {
+            return;
+        }
+        long position = windowStart + window.position();
+        if (fileSize - position < bytes) {
+            throw new EOFException(formatWithLocale("Unexpected end of snapshot file `%s`.", file));
+        }
+        long length = Math.min(WINDOW_SIZE, fileSize - position);
+        window = channel
+            .map(FileChannel.MapMode.READ_ONLY, position, length)
+            .order(BinarySnapshotFormat.BYTE_ORDER);
+        windowStart = position;
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sequentially writes primitives and arrays of primitives into a snapshot file.
+ * Bulk writes copy whole arrays into a direct buffer without per-element conversion.
+ */
+final class SnapshotWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    static SnapshotWriter create(Path file) throws IOException {
+        var channel = FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE
+        );
+        var writer = new SnapshotWriter(channel);
+        writer.writeLong(BinarySnapshotFormat.MAGIC);
+        writer.writeInt(BinarySnapshotFormat.VERSION);
+        return writer;
+    }
+
+    private SnapshotWriter(FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(BinarySnapshotFormat.BYTE_ORDER);
+    }
+
+    void writeBoolean(boolean value) throws IOException {
+        writeByte(value ? (byte) 1 : (byte) 0);
+    }
+
+    void writeByte(byte value) throws IOException {
+        ensureCapacity(Byte.BYTES);
+        buffer.put(value);
+    }
+
+    void writeInt(int value) throws IOException {
+        ensureCapacity(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    void writeLong(long value) throws IOException {
+        ensureCapacity(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    void writeDouble(double value) throws IOException {
+        ensureCapacity(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    void writeString(String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    void writeBytes(byte[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureCapacity(Byte.BYTES);
+            int count = Math.min(length, buffer.remaining());
+            buffer.put(values, offset, count);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    void writeInts(int[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureCapacity(Integer.BYTES);
+            int count = Math.min(length, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().put(values, offset, count);
+            buffer.position(buffer.position() + count * Integer.BYTES);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    void writeLongs(long[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureCapacity(Long.BYTES);
+            int count = Math.min(length, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().put(values, offset, count);
+            buffer.position(buffer.position() + count * Long.BYTES);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    void writeFloats(float[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureCapacity(Float.BYTES);
+            int count = Math.min(length, buffer.remaining() / Float.BYTES);
+            buffer.asFloatBuffer().put(values, offset, count);
+            buffer.position(buffer.position() + count * Float.BYTES);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    void writeDoubles(double[] values, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensureCapacity(Double.BYTES);
+            int count = Math.min(length, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().put(values, offset, count);
+            buffer.position(buffer.position() + count * Double.BYTES);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    /**
+     * Writes the size of the array followed by all its values.
+     */
+    void writeHugeIntArray(HugeIntArray array) throws IOException {
+        writeLong(array.size());
+        try (var cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                writeInts(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+            }
+        }
+    }
+
+    /**
+     * Writes the size of the array followed by all its values.
+     */
+    void writeHugeLongArray(HugeLongArray array) throws IOException {
+        writeLong(array.size());
+        try (var cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                writeLongs(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+            }
+        }
+    }
+
+    /**
+     * Writes the size of the array followed by all its values.
+     */
+    void writeHugeDoubleArray(HugeDoubleArray array) throws IOException {
+        writeLong(array.size());
+        try (var cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                writeDoubles(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+            }
+        }
+    }
+
+    /**
+     * Writes the number of pages, followed by the length and the content of each page.
+     * Missing pages are written as empty pages.
+     */
+    void writeBytePages(byte[][] pages) throws IOException {
+        writeInt(pages.length);
+        for (byte[] page : pages) {
+            int length = page == null ? 0 : page.length;
+            writeInt(length);
+            if (length > 0) {
+                writeBytes(page, 0, length);
+            }
+        }
+    }
+
+    /**
+     * Writes the number of pages, followed by the length and the content of each page.
+     * Missing pages are written as empty pages.
+     */
+    void writeLongPages(long[][] pages) throws IOException {
+        writeInt(pages.length);
+        for (long[] page : pages) {
+            int length = page == null ? 0 : page.length;
+            writeInt(length);
+            if (length > 0) {
+                writeLongs(page, 0, length);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            flush();
+            channel.force(false);
+        }
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
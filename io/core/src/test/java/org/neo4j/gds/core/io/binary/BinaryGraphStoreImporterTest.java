@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+@GdlExtension
+class BinaryGraphStoreImporterTest {
+
+    @GdlGraph(indexInverse = true)
+    static String DB_CYPHER =
+        "CREATE" +
+        "  (a:A { long: 42, double: 13.37, longArray: [1L, 2L], doubleArray: [1.0D], floatArray: [1.0F, 2.0F] })" +
+        ", (b:A:B { long: 43, double: 13.38, longArray: [3L], doubleArray: [2.0D, 3.0D], floatArray: [3.0F] })" +
+        ", (c:B { long: 44, double: 13.39, longArray: [4L, 5L, 6L], doubleArray: [4.0D], floatArray: [4.0F] })" +
+        ", (a)-[:R { p: 1.0, q: 2.0 }]->(b)" +
+        ", (a)-[:R { p: 3.0, q: 4.0 }]->(c)" +
+        ", (b)-[:R { p: 5.0, q: 6.0 }]->(c)" +
+        ", (c)-[:T]->(a)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void shouldRestoreGraphStore() {
+        new BinaryGraphStoreExporter(graphStore, tempDir).run();
+        var restored = new BinaryGraphStoreImporter(tempDir, new Concurrency(4)).run();
+
+        assertThat(restored.databaseInfo()).isEqualTo(graphStore.databaseInfo());
+        assertThat(restored.capabilities().writeMode()).isEqualTo(graphStore.capabilities().writeMode());
+        assertThat(restored.schema()).isEqualTo(graphStore.schema());
+        assertThat(restored.nodeCount()).isEqualTo(graphStore.nodeCount());
+        assertThat(restored.nodeLabels()).isEqualTo(graphStore.nodeLabels());
+        assertThat(restored.relationshipTypes()).isEqualTo(graphStore.relationshipTypes());
+        assertThat(restored.inverseIndexedRelationshipTypes()).isEqualTo(graphStore.inverseIndexedRelationshipTypes());
+
+        for (var label : graphStore.nodeLabels()) {
+            assertGraphEquals(graphStore.getGraph(label), restored.getGraph(label));
+        }
+
+        assertGraphEquals(
+            graphStore.getGraph(RelationshipType.of("R"), Optional.of("p")),
+            restored.getGraph(RelationshipType.of("R"), Optional.of("p"))
+        );
+        assertGraphEquals(
+            graphStore.getGraph(RelationshipType.of("R"), Optional.of("q")),
+            restored.getGraph(RelationshipType.of("R"), Optional.of("q"))
+        );
+        assertGraphEquals(
+            graphStore.getGraph(RelationshipType.of("T")),
+            restored.getGraph(RelationshipType.of("T"))
+        );
+    }
+
+    @Test
+    void shouldRestoreInverseIndex() {
+        new BinaryGraphStoreExporter(graphStore, tempDir).run();
+        var restored = new BinaryGraphStoreImporter(tempDir, new Concurrency(1)).run();
+
+        var expected = graphStore.getGraph(RelationshipType.of("R"), Optional.of("q"));
+        var actual = restored.getGraph(RelationshipType.of("R"), Optional.of("q"));
+
+        for (long nodeId = 0; nodeId < expected.nodeCount(); nodeId++) {
+            var expectedIncoming = new StringBuilder();
+            var actualIncoming = new StringBuilder();
+            expected.forEachInverseRelationship(nodeId, Double.NaN, (source, target, property) -> {
+                expectedIncoming.append(target).append(':').append(property).append(' ');
+                return true;
+            });
+            actual.forEachInverseRelationship(nodeId, Double.NaN, (source, target, property) -> {
+                actualIncoming.append(target).append(':').append(property).append(' ');
+                return true;
+            });
+            assertThat(actualIncoming.toString()).isEqualTo(expectedIncoming.toString());
+        }
+    }
+
+    @Test
+    void shouldRestoreLabels() {
+        new BinaryGraphStoreExporter(graphStore, tempDir).run();
+        var restored = new BinaryGraphStoreImporter(tempDir, new Concurrency(1)).run();
+
+        var expected = graphStore.nodes();
+        var actual = restored.nodes();
+        for (long nodeId = 0; nodeId < expected.nodeCount(); nodeId++) {
+            assertThat(actual.toOriginalNodeId(nodeId)).isEqualTo(expected.toOriginalNodeId(nodeId));
+            for (var label : graphStore.nodeLabels()) {
+                assertThat(actual.hasLabel(nodeId, label)).isEqualTo(expected.hasLabel(nodeId, label));
+            }
+        }
+    }
+
+    @Test
+    void shouldRejectUnknownFiles(@TempDir Path otherDir) throws Exception {
+        Files.writeString(BinarySnapshotFormat.metaFile(otherDir), "not a snapshot");
+
+        assertThatThrownBy(() -> new BinaryGraphStoreImporter(otherDir, new Concurrency(1)).run())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("is not a binary graph snapshot file");
+    }
+}
@@ -23,6 +23,8 @@ import org.neo4j.gds.mem.MemoryRange;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.ml.models.Features;
 
+import java.util.Optional;
+
 import static org.neo4j.gds.mem.Estimate.sizeOfInstance;
 import static org.neo4j.gds.mem.Estimate.sizeOfLongArray;
 
@@ -38,12 +40,29 @@ public class DecisionTreeClassifierTrainer extends DecisionTreeTrainer<Integer>
         int numberOfClasses,
         DecisionTreeTrainerConfig config,
         FeatureBagger featureBagger
+    ) {
+        this(impurityCriterion, features, labels, numberOfClasses, config, featureBagger, Optional.empty());
+    }
+
+    /**
+     * @param featureBins if present, the best splits are found from histograms of these bins
+     *                    instead of binning the training set according to {@link DecisionTreeTrainerConfig#maxBins()}
+     */
+    public DecisionTreeClassifierTrainer(
+        ImpurityCriterion impurityCriterion,
+        Features features,
+        HugeIntArray labels,
+        int numberOfClasses,
+        DecisionTreeTrainerConfig config,
+        FeatureBagger featureBagger,
+        Optional<FeatureBins> featureBins
     ) {
         super(
             features,
             config,
             impurityCriterion,
-            featureBagger
+            featureBagger,
+            featureBins
         );
         this.numberOfClasses = numberOfClasses;
 
@@ -23,6 +23,8 @@ import org.neo4j.gds.mem.MemoryRange;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.ml.models.Features;
 
+import java.util.Optional;
+
 import static org.neo4j.gds.mem.Estimate.sizeOfInstance;
 
 public class DecisionTreeRegressorTrainer extends DecisionTreeTrainer<Double> {
@@ -35,12 +37,28 @@ public class DecisionTreeRegressorTrainer extends DecisionTreeTrainer<Double> {
         HugeDoubleArray targets,
         DecisionTreeTrainerConfig config,
         FeatureBagger featureBagger
+    ) {
+        this(impurityCriterion, features, targets, config, featureBagger, Optional.empty());
+    }
+
+    /**
+     * @param featureBins if present, the best splits are found from histograms of these bins
+     *                    instead of binning the training set according to {@link DecisionTreeTrainerConfig#maxBins()}
+     */
+    public DecisionTreeRegressorTrainer(
+        ImpurityCriterion impurityCriterion,
+        Features features,
+        HugeDoubleArray targets,
+        DecisionTreeTrainerConfig config,
+        FeatureBagger featureBagger,
+        Optional<FeatureBins> featureBins
     ) {
         super(
             features,
             config,
             impurityCriterion,
-            featureBagger
+            featureBagger,
+            featureBins
         );
 
         assert targets.size() == features.size();
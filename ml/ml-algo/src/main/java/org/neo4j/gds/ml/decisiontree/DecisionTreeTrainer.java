@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.ml.decisiontree;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.mem.MemoryRange;
 import org.neo4j.gds.collections.ha.HugeLongArray;
@@ -27,6 +28,7 @@ import org.neo4j.gds.ml.models.Features;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.Optional;
 
 import static org.neo4j.gds.mem.Estimate.sizeOfInstance;
 
@@ -36,18 +38,22 @@ public abstract class DecisionTreeTrainer<PREDICTION extends Number> {
     private final Features features;
     private final DecisionTreeTrainerConfig config;
     private final FeatureBagger featureBagger;
+    private final Optional<FeatureBins> featureBins;
     private Splitter splitter;
+    private HistogramSplitter histogramSplitter;
 
     DecisionTreeTrainer(
         Features features,
         DecisionTreeTrainerConfig config,
         ImpurityCriterion impurityCriterion,
-        FeatureBagger featureBagger
+        FeatureBagger featureBagger,
+        Optional<FeatureBins> featureBins
     ) {
         this.impurityCriterion = impurityCriterion;
         this.features = features;
         this.config = config;
         this.featureBagger = featureBagger;
+        this.featureBins = featureBins;
     }
 
     // Does not include the class itself as it will be inherited anyway.
@@ -63,13 +69,7 @@ public abstract class DecisionTreeTrainer<PREDICTION extends Number> {
             leafNodeSizeInBytes
         );
 
-        // The actual depth of the produced tree is capped by the number of samples that populate the leaves.
-        long normalizedMaxDepth = Math.min(
-            config.maxDepth(),
-            Math.max(1, numberOfTrainingSamples - config.minSplitSize() + 2)
-        );
-        // Stack implies DFS, so will at most have 2 * normalizedMaxDepth entries for a binary tree.
-        long maxItemsOnStack = 2L * normalizedMaxDepth;
+        long maxItemsOnStack = maxItemsOnStack(config, numberOfTrainingSamples);
         var maxStackSize = MemoryRange.of(sizeOfInstance(ArrayDeque.class))
             .add(MemoryRange.of(1, maxItemsOnStack).times(sizeOfInstance(ImmutableStackRecord.class)))
             .add(MemoryRange.of(
@@ -77,13 +77,47 @@ public abstract class DecisionTreeTrainer<PREDICTION extends Number> {
                 HugeLongArray.memoryEstimation(numberOfTrainingSamples / maxItemsOnStack) * maxItemsOnStack
             ));
 
-        var splitterEstimation = Splitter.memoryEstimation(numberOfTrainingSamples, sizeOfImpurityData);
+        var splitterEstimation = config.maxBins().isPresent()
+            ? HistogramSplitter.memoryEstimation(sizeOfImpurityData)
+            : Splitter.memoryEstimation(numberOfTrainingSamples, sizeOfImpurityData);
 
         return predictorEstimation
             .add(maxStackSize)
             .add(splitterEstimation);
     }
 
+    /**
+     * Estimates the histograms that are held while training a tree with {@link DecisionTreeTrainerConfig#maxBins()}.
+     */
+    public static MemoryRange estimateHistograms(
+        DecisionTreeTrainerConfig config,
+        long numberOfTrainingSamples,
+        int numberOfBaggedFeatures,
+        int histogramWidth
+    ) {
+        if (config.maxBins().isEmpty() || numberOfTrainingSamples == 0) {
+            return MemoryRange.empty();
+        }
+
+        long sizeOfHistograms = HistogramSplitter.Histograms.memoryEstimation(
+            numberOfBaggedFeatures,
+            config.maxBins().get(),
+            histogramWidth
+        );
+        // Every stack entry holds the histograms of its split group, plus the histograms of the group being split.
+        return MemoryRange.of(1, maxItemsOnStack(config, numberOfTrainingSamples) + 1).times(sizeOfHistograms);
+    }
+
+    private static long maxItemsOnStack(DecisionTreeTrainerConfig config, long numberOfTrainingSamples) {
+        // The actual depth of the produced tree is capped by the number of samples that populate the leaves.
+        long normalizedMaxDepth = Math.min(
+            config.maxDepth(),
+            Math.max(1, numberOfTrainingSamples - config.minSplitSize() + 2)
+        );
+        // Stack implies DFS, so will at most have 2 * normalizedMaxDepth entries for a binary tree.
+        return 2L * normalizedMaxDepth;
+    }
+
     public static MemoryRange estimateTree(
         DecisionTreeTrainerConfig config,
         long numberOfTrainingSamples,
@@ -111,14 +145,28 @@ public abstract class DecisionTreeTrainer<PREDICTION extends Number> {
     }
 
     public DecisionTreePredictor<PREDICTION> train(ReadOnlyHugeLongArray trainSetIndices) {
-        splitter = new Splitter(
-            trainSetIndices.size(),
-            impurityCriterion,
-            featureBagger,
-            features,
-            config.minLeafSize()
-        );
+        var maybeFeatureBins = featureBins.or(() -> config
+            .maxBins()
+            .map(maxBins -> FeatureBins.of(features, trainSetIndices, maxBins)));
+        if (maybeFeatureBins.isPresent()) {
+            histogramSplitter = new HistogramSplitter(
+                impurityCriterion,
+                maybeFeatureBins.get(),
+                featureBagger,
+                config.minLeafSize()
+            );
+        } else {
+            splitter = new Splitter(
+                trainSetIndices.size(),
+                impurityCriterion,
+                featureBagger,
+                features,
+                config.minLeafSize()
+            );
+        }
         var stack = new ArrayDeque<StackRecord<PREDICTION>>();
+        // Only used for histogram based split finding, holds the histograms of the split group of every stack entry.
+        var histogramStack = new ArrayDeque<HistogramSplitter.Histograms>();
         TreeNode<PREDICTION> root;
 
         // Use anonymous block to make `mutableTrainSetIndices` eligible for GC as soon as possible.
@@ -132,7 +180,9 @@ public abstract class DecisionTreeTrainer<PREDICTION extends Number> {
             );
             root = splitAndPush(
                 stack,
+                histogramStack,
                 ImmutableGroup.of(mutableTrainSetIndices, 0, mutableTrainSetIndices.size(), impurityData),
+                null,
                 1
             );
         }
@@ -144,7 +194,13 @@ public abstract class DecisionTreeTrainer<PREDICTION extends Number> {
             var record = stack.pop();
             var split = record.split();
 
-            if (record.depth() >= maxDepth || split.groups().left().size() < minSplitSize) {
+            boolean splitLeft = record.depth() < maxDepth && split.groups().left().size() >= minSplitSize;
+            boolean splitRight = record.depth() < maxDepth && split.groups().right().size() >= minSplitSize;
+            var childHistograms = histogramSplitter == null
+                ? new HistogramSplitter.Histograms[2]
+                : histogramSplitter.childHistograms(histogramStack.pop(), split.groups(), splitLeft, splitRight);
+
+            if (!splitLeft) {
                 record
                     .node()
                     .setLeftChild(new TreeNode<>(toTerminal(split.groups().left())));
@@ -152,19 +208,23 @@ public abstract class DecisionTreeTrainer<PREDICTION extends Number> {
                 record.node().setLeftChild(
                     splitAndPush(
                         stack,
+                        histogramStack,
                         split.groups().left(),
+                        childHistograms[0],
                         record.depth() + 1
                     )
                 );
             }
 
-            if (record.depth() >= maxDepth || split.groups().right().size() < minSplitSize) {
+            if (!splitRight) {
                 record.node().setRightChild(new TreeNode<>(toTerminal(split.groups().right())));
             } else {
                 record.node().setRightChild(
                     splitAndPush(
                         stack,
+                        histogramStack,
                         split.groups().right(),
+                        childHistograms[1],
                         record.depth() + 1
                     )
                 );
@@ -178,7 +238,9 @@ public abstract class DecisionTreeTrainer<PREDICTION extends Number> {
 
     private TreeNode<PREDICTION> splitAndPush(
         Deque<StackRecord<PREDICTION>> stack,
+        Deque<HistogramSplitter.Histograms> histogramStack,
         Group group,
+        @Nullable HistogramSplitter.Histograms histograms,
         int depth
     ) {
         assert group.size() > 0;
@@ -188,7 +250,15 @@ public abstract class DecisionTreeTrainer<PREDICTION extends Number> {
             return new TreeNode<>(toTerminal(group));
         }
 
-        var split = splitter.findBestSplit(group);
+        HistogramSplitter.Histograms groupHistograms = null;
+        Split split;
+        if (histogramSplitter == null) {
+            split = splitter.findBestSplit(group);
+        } else {
+            groupHistograms = histograms == null ? histogramSplitter.histograms(group) : histograms;
+            split = histogramSplitter.findBestSplit(group, groupHistograms);
+        }
+
         if (split.groups().right().size() == 0) {
             return new TreeNode<>(toTerminal(split.groups().left()));
         } else if (split.groups().left().size() == 0) {
@@ -197,6 +267,9 @@ public abstract class DecisionTreeTrainer<PREDICTION extends Number> {
 
         var node = new TreeNode<PREDICTION>(split.index(), split.value());
         stack.push(ImmutableStackRecord.of(node, split, depth));
+        if (histogramSplitter != null) {
+            histogramStack.push(groupHistograms);
+        }
 
         return node;
     }
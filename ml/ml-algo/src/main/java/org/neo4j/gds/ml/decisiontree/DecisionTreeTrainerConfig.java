@@ -21,6 +21,8 @@ package org.neo4j.gds.ml.decisiontree;
 
 import org.neo4j.gds.annotation.Configuration;
 
+import java.util.Optional;
+
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 @Configuration
@@ -41,6 +43,10 @@ public interface DecisionTreeTrainerConfig {
         return 1;
     }
 
+    @Configuration.IntegerRange(min = 2, max = FeatureBins.MAX_BINS)
+    // If set, feature values are binned and only bin thresholds are considered when looking for the best split.
+    Optional<Integer> maxBins();
+
     @Configuration.Check
     default void validateMinSizes() {
         if (minLeafSize() >= minSplitSize()) {
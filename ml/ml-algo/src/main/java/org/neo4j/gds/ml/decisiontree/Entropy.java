@@ -90,6 +90,50 @@ public class Entropy implements ImpurityCriterion {
         updateImpurityData(label, newGroupSize, newClassCount, entropyImpurityData);
     }
 
+    @Override
+    public int histogramWidth() {
+        return numberOfClasses;
+    }
+
+    @Override
+    public void addToHistogram(long featureVectorIdx, double[] histogram, int offset) {
+        histogram[offset + expectedMappedLabels.get(featureVectorIdx)]++;
+    }
+
+    @Override
+    public long moveHistogramBin(double[] histogram, int offset, ImpurityData from, ImpurityData to) {
+        var fromImpurityData = (EntropyImpurityData) from;
+        var toImpurityData = (EntropyImpurityData) to;
+
+        long binSize = 0;
+        for (int label = 0; label < numberOfClasses; label++) {
+            long count = (long) histogram[offset + label];
+            fromImpurityData.classCounts()[label] -= count;
+            toImpurityData.classCounts()[label] += count;
+            binSize += count;
+        }
+
+        if (binSize > 0) {
+            fromImpurityData.setGroupSize(fromImpurityData.groupSize() - binSize);
+            fromImpurityData.setImpurity(impurity(fromImpurityData.classCounts(), fromImpurityData.groupSize()));
+            toImpurityData.setGroupSize(toImpurityData.groupSize() + binSize);
+            toImpurityData.setImpurity(impurity(toImpurityData.classCounts(), toImpurityData.groupSize()));
+        }
+
+        return binSize;
+    }
+
+    private static double impurity(long[] classCounts, long groupSize) {
+        double impurity = 0;
+        for (var count : classCounts) {
+            if (count == 0L) continue;
+
+            double p = (double) count / groupSize;
+            impurity -= p * Math.log(p);
+        }
+        return impurity / LN_2;
+    }
+
     private static void updateImpurityData(
         int label,
         long newGroupSize,
@@ -49,4 +49,8 @@ public final class FeatureBagger {
     public int[] sample() {
         return sampler.sample(0, totalNumberOfFeatures, totalNumberOfFeatures, numberOfSamples, i -> false);
     }
+
+    boolean samplesAllFeatures() {
+        return numberOfSamples >= totalNumberOfFeatures;
+    }
 }
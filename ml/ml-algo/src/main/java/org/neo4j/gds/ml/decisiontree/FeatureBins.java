@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.decisiontree;
+
+import org.neo4j.gds.collections.ha.HugeByteArray;
+import org.neo4j.gds.core.utils.paged.ReadOnlyHugeLongArray;
+import org.neo4j.gds.ml.models.Features;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.mem.Estimate.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.Estimate.sizeOfInstance;
+import static org.neo4j.gds.mem.Estimate.sizeOfObjectArray;
+
+/**
+ * The feature vectors of a training set, with every feature value discretized into one of at most
+ * {@link #MAX_BINS} bins. The bins of a feature are bounded by thresholds taken from the quantiles of
+ * its values in the training set, so every bin holds roughly the same number of training samples.
+ * A feature value is in a bin below {@code bin + 1} if and only if it is smaller than {@code threshold(feature, bin)},
+ * which matches how {@link DecisionTreePredictor} routes feature vectors.
+ * <p>
+ * Only the feature vectors of the training set are binned, all other feature vectors are in bin 0.
+ */
+public final class FeatureBins {
+
+    public static final int MAX_BINS = 256;
+
+    // Quantiles are computed from an evenly spaced sample of the training set if it is larger than this.
+    private static final int MAX_QUANTILE_SAMPLES = 100_000;
+
+    private final int featureDimension;
+    private final double[][] thresholds;
+    private final HugeByteArray bins;
+
+    private FeatureBins(int featureDimension, double[][] thresholds, HugeByteArray bins) {
+        this.featureDimension = featureDimension;
+        this.thresholds = thresholds;
+        this.bins = bins;
+    }
+
+    public static FeatureBins of(Features features, ReadOnlyHugeLongArray trainSet, int maxBins) {
+        assert maxBins >= 2 && maxBins <= MAX_BINS;
+
+        int featureDimension = features.featureDimension();
+        var thresholds = new double[featureDimension][];
+        for (int feature = 0; feature < featureDimension; feature++) {
+            thresholds[feature] = thresholds(features, trainSet, feature, maxBins);
+        }
+
+        var bins = HugeByteArray.newArray(features.size() * featureDimension);
+        for (long i = 0; i < trainSet.size(); i++) {
+            long featureVectorIdx = trainSet.get(i);
+            var featureVector = features.get(featureVectorIdx);
+            long offset = featureVectorIdx * featureDimension;
+            for (int feature = 0; feature < featureDimension; feature++) {
+                bins.set(offset + feature, (byte) bin(thresholds[feature], featureVector[feature]));
+            }
+        }
+
+        return new FeatureBins(featureDimension, thresholds, bins);
+    }
+
+    public static long memoryEstimation(long numberOfFeatureVectors, int featureDimension, int maxBins) {
+        return sizeOfInstance(FeatureBins.class)
+               + sizeOfObjectArray(featureDimension)
+               + featureDimension * sizeOfDoubleArray(maxBins - 1)
+               + HugeByteArray.memoryEstimation(numberOfFeatureVectors * featureDimension);
+    }
+
+    int featureDimension() {
+        return featureDimension;
+    }
+
+    int numberOfBins(int feature) {
+        return thresholds[feature].length + 1;
+    }
+
+    int maxNumberOfBins() {
+        int maxNumberOfBins = 1;
+        for (int feature = 0; feature < featureDimension; feature++) {
+            maxNumberOfBins = Math.max(maxNumberOfBins, numberOfBins(feature));
+        }
+        return maxNumberOfBins;
+    }
+
+    int bin(long featureVectorIdx, int feature) {
+        return Byte.toUnsignedInt(bins.get(featureVectorIdx * featureDimension + feature));
+    }
+
+    /**
+     * @return the smallest feature value of bin {@code bin + 1}
+     */
+    double threshold(int feature, int bin) {
+        return thresholds[feature][bin];
+    }
+
+    private static double[] thresholds(Features features, ReadOnlyHugeLongArray trainSet, int feature, int maxBins) {
+        long stride = Math.max(1, trainSet.size() / MAX_QUANTILE_SAMPLES);
+        var values = new double[(int) Math.min(trainSet.size(), MAX_QUANTILE_SAMPLES)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = features.get(trainSet.get(i * stride))[feature];
+        }
+        Arrays.sort(values);
+
+        int numberOfDistinctValues = values.length == 0 ? 0 : 1;
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] != values[i - 1]) {
+                numberOfDistinctValues++;
+            }
+        }
+
+        var thresholds = new double[Math.max(0, Math.min(numberOfDistinctValues, maxBins) - 1)];
+        int numberOfThresholds = 0;
+        if (numberOfDistinctValues <= maxBins) {
+            // Every distinct value gets its own bin.
+            for (int i = 1; i < values.length; i++) {
+                if (values[i] != values[i - 1]) {
+                    thresholds[numberOfThresholds++] = values[i];
+                }
+            }
+        } else {
+            for (int bin = 1; bin < maxBins; bin++) {
+                double quantile = values[(int) ((long) bin * values.length / maxBins)];
+                double previous = numberOfThresholds == 0 ? values[0] : thresholds[numberOfThresholds - 1];
+                if (quantile > previous) {
+                    thresholds[numberOfThresholds++] = quantile;
+                }
+            }
+        }
+
+        return Arrays.copyOf(thresholds, numberOfThresholds);
+    }
+
+    private static int bin(double[] thresholds, double value) {
+        // The number of thresholds that are smaller than or equal to the value.
+        int low = 0;
+        int high = thresholds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (thresholds[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
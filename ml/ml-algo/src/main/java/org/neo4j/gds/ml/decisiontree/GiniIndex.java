@@ -85,6 +85,51 @@ public class GiniIndex implements ImpurityCriterion {
         updateImpurityData(label, newGroupSize, newClassCount, giniImpurityData);
     }
 
+    @Override
+    public int histogramWidth() {
+        return numberOfClasses;
+    }
+
+    @Override
+    public void addToHistogram(long featureVectorIdx, double[] histogram, int offset) {
+        histogram[offset + expectedMappedLabels.get(featureVectorIdx)]++;
+    }
+
+    @Override
+    public long moveHistogramBin(double[] histogram, int offset, ImpurityData from, ImpurityData to) {
+        var fromImpurityData = (GiniImpurityData) from;
+        var toImpurityData = (GiniImpurityData) to;
+
+        long binSize = 0;
+        for (int label = 0; label < numberOfClasses; label++) {
+            long count = (long) histogram[offset + label];
+            fromImpurityData.classCounts()[label] -= count;
+            toImpurityData.classCounts()[label] += count;
+            binSize += count;
+        }
+
+        if (binSize > 0) {
+            fromImpurityData.setGroupSize(fromImpurityData.groupSize() - binSize);
+            fromImpurityData.setImpurity(impurity(fromImpurityData.classCounts(), fromImpurityData.groupSize()));
+            toImpurityData.setGroupSize(toImpurityData.groupSize() + binSize);
+            toImpurityData.setImpurity(impurity(toImpurityData.classCounts(), toImpurityData.groupSize()));
+        }
+
+        return binSize;
+    }
+
+    private static double impurity(long[] classCounts, long groupSize) {
+        if (groupSize == 0) {
+            return 0;
+        }
+
+        long sumOfSquares = 0;
+        for (var count : classCounts) {
+            sumOfSquares += count * count;
+        }
+        return 1.0 - (double) sumOfSquares / (groupSize * groupSize);
+    }
+
     private static void updateImpurityData(int label, long newGroupSize, long newClassCount, GiniImpurityData impurityData) {
         long groupSizeSquared = impurityData.groupSize() * impurityData.groupSize();
         long newGroupSizeSquared = newGroupSize * newGroupSize;
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.decisiontree;
+
+import org.neo4j.gds.collections.ha.HugeLongArray;
+
+import static org.neo4j.gds.mem.Estimate.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.Estimate.sizeOfInstance;
+import static org.neo4j.gds.mem.Estimate.sizeOfIntArray;
+
+/**
+ * Finds the best split of a group like {@link Splitter}, but instead of sorting the group by every sampled feature,
+ * it scans histograms of the {@link FeatureBins} of the group. Only the bin thresholds are candidate split values.
+ * <p>
+ * If every feature is sampled at every tree node, the histograms of the larger child of a split are computed by
+ * subtracting the histograms of the smaller child from the histograms of the parent.
+ */
+class HistogramSplitter {
+
+    private final ImpurityCriterion impurityCriterion;
+    private final FeatureBins featureBins;
+    private final FeatureBagger featureBagger;
+    private final int minLeafSize;
+    private final int histogramWidth;
+    private final int featureStride;
+    private final ImpurityCriterion.ImpurityData emptyImpurityData;
+    private final ImpurityCriterion.ImpurityData leftImpurityData;
+    private final ImpurityCriterion.ImpurityData rightImpurityData;
+
+    HistogramSplitter(
+        ImpurityCriterion impurityCriterion,
+        FeatureBins featureBins,
+        FeatureBagger featureBagger,
+        int minLeafSize
+    ) {
+        this.impurityCriterion = impurityCriterion;
+        this.featureBins = featureBins;
+        this.featureBagger = featureBagger;
+        this.minLeafSize = minLeafSize;
+        this.histogramWidth = impurityCriterion.histogramWidth();
+        this.featureStride = featureBins.maxNumberOfBins() * histogramWidth;
+        this.emptyImpurityData = impurityCriterion.groupImpurity(HugeLongArray.of(), 0, 0);
+        this.leftImpurityData = impurityCriterion.groupImpurity(HugeLongArray.of(), 0, 0);
+        this.rightImpurityData = impurityCriterion.groupImpurity(HugeLongArray.of(), 0, 0);
+    }
+
+    static long memoryEstimation(long sizeOfImpurityData) {
+        return sizeOfInstance(HistogramSplitter.class)
+               // impurity data cache
+               + 5 * sizeOfImpurityData;
+    }
+
+    /**
+     * Computes the histograms of a group for a new sample of features.
+     */
+    Histograms histograms(Group group) {
+        return histograms(group, featureBagger.sample());
+    }
+
+    /**
+     * Computes the histograms of the children of a split from the histograms of the split group,
+     * if they can be derived from them. The histograms of the split group must not be used afterwards.
+     *
+     * @return the histograms of the left and the right child, {@code null} for a child that is not split
+     *     or whose histograms need to be computed from scratch
+     */
+    Histograms[] childHistograms(Histograms histograms, Groups children, boolean splitLeft, boolean splitRight) {
+        var childHistograms = new Histograms[2];
+        if (!featureBagger.samplesAllFeatures()) {
+            return childHistograms;
+        }
+
+        int smaller = children.left().size() <= children.right().size() ? 0 : 1;
+        int larger = 1 - smaller;
+        boolean splitSmaller = smaller == 0 ? splitLeft : splitRight;
+        boolean splitLarger = larger == 0 ? splitLeft : splitRight;
+
+        if (splitLarger) {
+            var smallerHistograms = histograms(smaller == 0 ? children.left() : children.right(), histograms.features);
+            histograms.subtract(smallerHistograms);
+            childHistograms[larger] = histograms;
+            if (splitSmaller) {
+                childHistograms[smaller] = smallerHistograms;
+            }
+        }
+
+        return childHistograms;
+    }
+
+    DecisionTreeTrainer.Split findBestSplit(Group group, Histograms histograms) {
+        int bestFeature = -1;
+        int bestBin = -1;
+        double bestImpurity = Double.MAX_VALUE;
+
+        var bestLeftImpurityData = impurityCriterion.groupImpurity(HugeLongArray.of(), 0, 0);
+        var bestRightImpurityData = impurityCriterion.groupImpurity(HugeLongArray.of(), 0, 0);
+
+        for (int slot = 0; slot < histograms.features.length; slot++) {
+            int feature = histograms.features[slot];
+
+            emptyImpurityData.copyTo(leftImpurityData);
+            group.impurityData().copyTo(rightImpurityData);
+
+            // Moving the bins to the left child one by one, every bin threshold we pass is a candidate split.
+            for (int bin = 0; bin < featureBins.numberOfBins(feature) - 1; bin++) {
+                long binSize = impurityCriterion.moveHistogramBin(
+                    histograms.values,
+                    slot * featureStride + bin * histogramWidth,
+                    rightImpurityData,
+                    leftImpurityData
+                );
+
+                if (rightImpurityData.groupSize() < minLeafSize) {
+                    break;
+                }
+                if (binSize == 0 || leftImpurityData.groupSize() < minLeafSize) {
+                    continue;
+                }
+
+                double combinedImpurity = impurityCriterion.combinedImpurity(leftImpurityData, rightImpurityData);
+                if (combinedImpurity < bestImpurity) {
+                    bestFeature = feature;
+                    bestBin = bin;
+                    bestImpurity = combinedImpurity;
+                    leftImpurityData.copyTo(bestLeftImpurityData);
+                    rightImpurityData.copyTo(bestRightImpurityData);
+                }
+            }
+        }
+
+        if (bestFeature == -1) {
+            // No bin threshold splits the group into children of at least `minLeafSize` samples.
+            return ImmutableSplit.of(
+                bestFeature,
+                Double.NaN,
+                ImmutableGroups.of(group, ImmutableGroup.of(HugeLongArray.of(), 0, 0, bestRightImpurityData))
+            );
+        }
+
+        var leftChildArray = HugeLongArray.newArray(bestLeftImpurityData.groupSize());
+        var rightChildArray = HugeLongArray.newArray(bestRightImpurityData.groupSize());
+        long leftGroupSize = 0;
+        long rightGroupSize = 0;
+        var array = group.array();
+        for (long i = group.startIdx(); i < group.startIdx() + group.size(); i++) {
+            long featureVectorIdx = array.get(i);
+            if (featureBins.bin(featureVectorIdx, bestFeature) <= bestBin) {
+                leftChildArray.set(leftGroupSize++, featureVectorIdx);
+            } else {
+                rightChildArray.set(rightGroupSize++, featureVectorIdx);
+            }
+        }
+        assert leftGroupSize == leftChildArray.size() && rightGroupSize == rightChildArray.size();
+
+        return ImmutableSplit.of(
+            bestFeature,
+            featureBins.threshold(bestFeature, bestBin),
+            ImmutableGroups.of(
+                ImmutableGroup.of(leftChildArray, 0, leftGroupSize, bestLeftImpurityData),
+                ImmutableGroup.of(rightChildArray, 0, rightGroupSize, bestRightImpurityData)
+            )
+        );
+    }
+
+    private Histograms histograms(Group group, int[] features) {
+        var values = new double[features.length * featureStride];
+        var array = group.array();
+        for (long i = group.startIdx(); i < group.startIdx() + group.size(); i++) {
+            long featureVectorIdx = array.get(i);
+            for (int slot = 0; slot < features.length; slot++) {
+                int bin = featureBins.bin(featureVectorIdx, features[slot]);
+                impurityCriterion.addToHistogram(featureVectorIdx, values, slot * featureStride + bin * histogramWidth);
+            }
+        }
+        return new Histograms(features, values);
+    }
+
+    /**
+     * The histograms of a group over its sampled features, one histogram of {@link FeatureBins#maxNumberOfBins()}
+     * bins per feature.
+     */
+    static final class Histograms {
+        private final int[] features;
+        private final double[] values;
+
+        private Histograms(int[] features, double[] values) {
+            this.features = features;
+            this.values = values;
+        }
+
+        static long memoryEstimation(int numberOfFeatures, int maxBins, int histogramWidth) {
+            return sizeOfInstance(Histograms.class)
+                   + sizeOfIntArray(numberOfFeatures)
+                   + sizeOfDoubleArray((long) numberOfFeatures * maxBins * histogramWidth);
+        }
+
+        private void subtract(Histograms other) {
+            assert features == other.features;
+            for (int i = 0; i < values.length; i++) {
+                values[i] -= other.values[i];
+            }
+        }
+    }
+}
@@ -28,6 +28,24 @@ public interface ImpurityCriterion {
 
     void decrementalImpurity(long featureVectorIdx, ImpurityData impurityData);
 
+    /**
+     * The number of values per bin of the histograms used for histogram based split finding.
+     */
+    int histogramWidth();
+
+    /**
+     * Adds the feature vector to the histogram bin whose values start at `offset`.
+     */
+    void addToHistogram(long featureVectorIdx, double[] histogram, int offset);
+
+    /**
+     * Moves the feature vectors of the histogram bin whose values start at `offset` from one group to another
+     * and updates the impurity of both groups.
+     *
+     * @return the number of feature vectors in the bin
+     */
+    long moveHistogramBin(double[] histogram, int offset, ImpurityData from, ImpurityData to);
+
     default double combinedImpurity(ImpurityData leftImpurityData, ImpurityData rightImpurityData) {
         long totalSize = leftImpurityData.groupSize() + rightImpurityData.groupSize();
         double leftWeight = (double) leftImpurityData.groupSize() / totalSize;
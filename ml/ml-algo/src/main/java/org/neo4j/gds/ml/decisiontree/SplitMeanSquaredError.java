@@ -27,6 +27,9 @@ import static org.neo4j.gds.mem.Estimate.sizeOfInstance;
 
 public class SplitMeanSquaredError implements ImpurityCriterion {
 
+    // Every histogram bin holds the number of feature vectors, the sum of their targets and the sum of their squares.
+    public static final int HISTOGRAM_WIDTH = 3;
+
     private final HugeDoubleArray targets;
 
     public SplitMeanSquaredError(HugeDoubleArray targets) {
@@ -83,6 +86,48 @@ public class SplitMeanSquaredError implements ImpurityCriterion {
         updateImpurityData(sum, sumOfSquares, groupSize, mseImpurityData);
     }
 
+    @Override
+    public int histogramWidth() {
+        return HISTOGRAM_WIDTH;
+    }
+
+    @Override
+    public void addToHistogram(long featureVectorIdx, double[] histogram, int offset) {
+        double value = targets.get(featureVectorIdx);
+
+        histogram[offset]++;
+        histogram[offset + 1] += value;
+        histogram[offset + 2] += value * value;
+    }
+
+    @Override
+    public long moveHistogramBin(double[] histogram, int offset, ImpurityData from, ImpurityData to) {
+        long binSize = (long) histogram[offset];
+        if (binSize == 0) {
+            return 0;
+        }
+
+        var fromImpurityData = (MSEImpurityData) from;
+        var toImpurityData = (MSEImpurityData) to;
+        double binSum = histogram[offset + 1];
+        double binSumOfSquares = histogram[offset + 2];
+
+        updateImpurityData(
+            fromImpurityData.sum() - binSum,
+            fromImpurityData.sumOfSquares() - binSumOfSquares,
+            fromImpurityData.groupSize() - binSize,
+            fromImpurityData
+        );
+        updateImpurityData(
+            toImpurityData.sum() + binSum,
+            toImpurityData.sumOfSquares() + binSumOfSquares,
+            toImpurityData.groupSize() + binSize,
+            toImpurityData
+        );
+
+        return binSize;
+    }
+
     private static void updateImpurityData(double sum, double sumOfSquares, long groupSize, MSEImpurityData mseImpurityData) {
         double mean = sum / groupSize;
         double mse = sumOfSquares / groupSize - mean * mean;
@@ -38,10 +38,12 @@ import org.neo4j.gds.mem.Estimate;
 import org.neo4j.gds.ml.decisiontree.ClassifierImpurityCriterionType;
 import org.neo4j.gds.ml.decisiontree.DecisionTreeClassifierTrainer;
 import org.neo4j.gds.ml.decisiontree.DecisionTreePredictor;
+import org.neo4j.gds.ml.decisiontree.DecisionTreeTrainer;
 import org.neo4j.gds.ml.decisiontree.DecisionTreeTrainerConfig;
 import org.neo4j.gds.ml.decisiontree.DecisionTreeTrainerConfigImpl;
 import org.neo4j.gds.ml.decisiontree.Entropy;
 import org.neo4j.gds.ml.decisiontree.FeatureBagger;
+import org.neo4j.gds.ml.decisiontree.FeatureBins;
 import org.neo4j.gds.ml.decisiontree.GiniIndex;
 import org.neo4j.gds.ml.decisiontree.ImpurityCriterion;
 import org.neo4j.gds.ml.metrics.ModelSpecificMetricsHandler;
@@ -103,7 +105,7 @@ public class RandomForestClassifierTrainer implements ClassifierTrainer {
         int minNumberOfBaggedFeatures = (int) Math.ceil(config.maxFeaturesRatio((int) featureDimension.min) * featureDimension.min);
         int maxNumberOfBaggedFeatures = (int) Math.ceil(config.maxFeaturesRatio((int) featureDimension.max) * featureDimension.max);
 
-        return MemoryEstimations.builder("Training")
+        var builder = MemoryEstimations.builder("Training")
             // estimating the final forest produced
             .add(RandomForestClassifierData.memoryEstimation(numberOfTrainingSamples, config))
             .rangePerNode(
@@ -129,8 +131,17 @@ public class RandomForestClassifierTrainer implements ClassifierTrainer {
                             config.numberOfSamplesRatio()
                         )
                     ).times(concurrency.value())
+            );
+
+        config.maxBins().ifPresent(maxBins -> builder.rangePerNode(
+            "Feature bins",
+            nodeCount -> MemoryRange.of(
+                FeatureBins.memoryEstimation(numberOfTrainingSamples.applyAsLong(nodeCount), (int) featureDimension.min, maxBins),
+                FeatureBins.memoryEstimation(numberOfTrainingSamples.applyAsLong(nodeCount), (int) featureDimension.max, maxBins)
             )
-            .build();
+        ));
+
+        return builder.build();
     }
 
     public RandomForestClassifier train(
@@ -145,10 +156,13 @@ public class RandomForestClassifierTrainer implements ClassifierTrainer {
         var decisionTreeTrainConfig = DecisionTreeTrainerConfigImpl.builder()
             .maxDepth(config.maxDepth())
             .minSplitSize(config.minSplitSize())
+            .maxBins(config.maxBins())
             .build();
 
         int numberOfDecisionTrees = config.numberOfDecisionTrees();
         var impurityCriterion = initializeImpurityCriterion(allLabels);
+        // The features are binned once and shared by all trees, as they are trained on samples of the same train set.
+        var featureBins = config.maxBins().map(maxBins -> FeatureBins.of(allFeatureVectors, trainSet, maxBins));
         var numberOfTreesTrained = new AtomicInteger(0);
 
         var tasks = IntStream.range(0, numberOfDecisionTrees).mapToObj(unused ->
@@ -161,6 +175,7 @@ public class RandomForestClassifierTrainer implements ClassifierTrainer {
                 allLabels,
                 numberOfClasses,
                 impurityCriterion,
+                featureBins,
                 trainSet,
                 progressTracker,
                 messageLogLevel,
@@ -216,6 +231,7 @@ public class RandomForestClassifierTrainer implements ClassifierTrainer {
         private final Features allFeatureVectors;
         private final HugeIntArray allLabels;
         private final ImpurityCriterion impurityCriterion;
+        private final Optional<FeatureBins> featureBins;
         private final ReadOnlyHugeLongArray trainSet;
         private final ProgressTracker progressTracker;
         private final LogLevel messageLogLevel;
@@ -230,6 +246,7 @@ public class RandomForestClassifierTrainer implements ClassifierTrainer {
             HugeIntArray allLabels,
             int numberOfClasses,
             ImpurityCriterion impurityCriterion,
+            Optional<FeatureBins> featureBins,
             ReadOnlyHugeLongArray trainSet,
             ProgressTracker progressTracker,
             LogLevel messageLogLevel,
@@ -243,6 +260,7 @@ public class RandomForestClassifierTrainer implements ClassifierTrainer {
             this.allLabels = allLabels;
             this.numberOfClasses = numberOfClasses;
             this.impurityCriterion = impurityCriterion;
+            this.featureBins = featureBins;
             this.trainSet = trainSet;
             this.progressTracker = progressTracker;
             this.messageLogLevel = messageLogLevel;
@@ -269,6 +287,12 @@ public class RandomForestClassifierTrainer implements ClassifierTrainer {
                     usedNumberOfTrainingSamples,
                     numberOfClasses
                 ))
+                .add(DecisionTreeTrainer.estimateHistograms(
+                    decisionTreeTrainConfig,
+                    usedNumberOfTrainingSamples,
+                    numberOfBaggedFeatures,
+                    numberOfClasses
+                ))
                 .add(bootstrappedDatasetEstimation);
         }
 
@@ -290,7 +314,8 @@ public class RandomForestClassifierTrainer implements ClassifierTrainer {
                 allLabels,
                 numberOfClasses,
                 decisionTreeTrainConfig,
-                featureBagger
+                featureBagger,
+                featureBins
             );
 
             var bootstrappedDataset = bootstrappedDataset();
@@ -34,9 +34,11 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.mem.Estimate;
 import org.neo4j.gds.ml.decisiontree.DecisionTreePredictor;
 import org.neo4j.gds.ml.decisiontree.DecisionTreeRegressorTrainer;
+import org.neo4j.gds.ml.decisiontree.DecisionTreeTrainer;
 import org.neo4j.gds.ml.decisiontree.DecisionTreeTrainerConfig;
 import org.neo4j.gds.ml.decisiontree.DecisionTreeTrainerConfigImpl;
 import org.neo4j.gds.ml.decisiontree.FeatureBagger;
+import org.neo4j.gds.ml.decisiontree.FeatureBins;
 import org.neo4j.gds.ml.decisiontree.ImpurityCriterion;
 import org.neo4j.gds.ml.decisiontree.SplitMeanSquaredError;
 import org.neo4j.gds.ml.models.Features;
@@ -85,7 +87,7 @@ public class RandomForestRegressorTrainer implements RegressorTrainer {
         int minNumberOfBaggedFeatures = (int) Math.ceil(config.maxFeaturesRatio((int) featureDimension.min) * featureDimension.min);
         int maxNumberOfBaggedFeatures = (int) Math.ceil(config.maxFeaturesRatio((int) featureDimension.max) * featureDimension.max);
 
-        return MemoryEstimations.builder("Training")
+        var builder = MemoryEstimations.builder("Training")
             // estimating the final forest produced
             .add(RandomForestRegressorData.memoryEstimation(numberOfTrainingSamples, config))
             .rangePerNode(
@@ -107,8 +109,17 @@ public class RandomForestRegressorTrainer implements RegressorTrainer {
                             config.numberOfSamplesRatio()
                         )
                     ).times(concurrency.value())
+            );
+
+        config.maxBins().ifPresent(maxBins -> builder.rangePerNode(
+            "Feature bins",
+            nodeCount -> MemoryRange.of(
+                FeatureBins.memoryEstimation(numberOfTrainingSamples.applyAsLong(nodeCount), (int) featureDimension.min, maxBins),
+                FeatureBins.memoryEstimation(numberOfTrainingSamples.applyAsLong(nodeCount), (int) featureDimension.max, maxBins)
             )
-            .build();
+        ));
+
+        return builder.build();
     }
 
     public RandomForestRegressor train(
@@ -119,10 +130,13 @@ public class RandomForestRegressorTrainer implements RegressorTrainer {
         var decisionTreeTrainConfig = DecisionTreeTrainerConfigImpl.builder()
             .maxDepth(config.maxDepth())
             .minSplitSize(config.minSplitSize())
+            .maxBins(config.maxBins())
             .build();
 
         int numberOfDecisionTrees = config.numberOfDecisionTrees();
         var impurityCriterion = new SplitMeanSquaredError(targets);
+        // The features are binned once and shared by all trees, as they are trained on samples of the same train set.
+        var featureBins = config.maxBins().map(maxBins -> FeatureBins.of(allFeatureVectors, trainSet, maxBins));
 
         var numberOfTreesTrained = new AtomicInteger(0);
 
@@ -134,6 +148,7 @@ public class RandomForestRegressorTrainer implements RegressorTrainer {
                 allFeatureVectors,
                 targets,
                 impurityCriterion,
+                featureBins,
                 trainSet,
                 progressTracker,
                 messageLogLevel,
@@ -160,6 +175,7 @@ public class RandomForestRegressorTrainer implements RegressorTrainer {
         private final Features allFeatureVectors;
         private final HugeDoubleArray targets;
         private final ImpurityCriterion impurityCriterion;
+        private final Optional<FeatureBins> featureBins;
         private final ReadOnlyHugeLongArray trainSet;
         private final ProgressTracker progressTracker;
         private final LogLevel messageLogLevel;
@@ -172,6 +188,7 @@ public class RandomForestRegressorTrainer implements RegressorTrainer {
             Features allFeatureVectors,
             HugeDoubleArray targets,
             ImpurityCriterion impurityCriterion,
+            Optional<FeatureBins> featureBins,
             ReadOnlyHugeLongArray trainSet,
             ProgressTracker progressTracker,
             LogLevel messageLogLevel,
@@ -183,6 +200,7 @@ public class RandomForestRegressorTrainer implements RegressorTrainer {
             this.allFeatureVectors = allFeatureVectors;
             this.targets = targets;
             this.impurityCriterion = impurityCriterion;
+            this.featureBins = featureBins;
             this.trainSet = trainSet;
             this.progressTracker = progressTracker;
             this.messageLogLevel = messageLogLevel;
@@ -207,6 +225,12 @@ public class RandomForestRegressorTrainer implements RegressorTrainer {
                     config,
                     usedNumberOfTrainingSamples
                 ))
+                .add(DecisionTreeTrainer.estimateHistograms(
+                    config,
+                    usedNumberOfTrainingSamples,
+                    numberOfBaggedFeatures,
+                    SplitMeanSquaredError.HISTOGRAM_WIDTH
+                ))
                 .add(bootstrappedDatasetEstimation);
         }
 
@@ -227,7 +251,8 @@ public class RandomForestRegressorTrainer implements RegressorTrainer {
                 allFeatureVectors,
                 targets,
                 decisionTreeTrainConfig,
-                featureBagger
+                featureBagger,
+                featureBins
             );
 
             trainedTree = decisionTree.train(bootstrappedDataset());
@@ -124,6 +124,46 @@ class DecisionTreeClassifierTest {
         assertThat(decisionTreePredict.predict(featureVector)).isEqualTo(expectedPrediction);
     }
 
+    @ParameterizedTest
+    @CsvSource(value = {"1, 2", "2, 2", "3, 4", "100, 2"})
+    void shouldFindSameSplitsFromHistograms(int maxDepth, int minSplitSize) {
+        HugeLongArray mutableFeatureVectors = HugeLongArray.newArray(features.size());
+        mutableFeatureVectors.setAll(idx -> idx);
+        var featureVectors = ReadOnlyHugeLongArray.of(mutableFeatureVectors);
+
+        var exactConfig = DecisionTreeTrainerConfigImpl.builder()
+            .maxDepth(maxDepth)
+            .minSplitSize(minSplitSize)
+            .build();
+        var histogramConfig = DecisionTreeTrainerConfigImpl.builder()
+            .maxDepth(maxDepth)
+            .minSplitSize(minSplitSize)
+            .maxBins(FeatureBins.MAX_BINS)
+            .build();
+
+        var exactTree = new DecisionTreeClassifierTrainer(
+            giniIndexLoss,
+            features,
+            allLabels,
+            numberOfClasses,
+            exactConfig,
+            new FeatureBagger(new SplittableRandom(42), features.featureDimension(), 1)
+        ).train(featureVectors);
+        var histogramTree = new DecisionTreeClassifierTrainer(
+            giniIndexLoss,
+            features,
+            allLabels,
+            numberOfClasses,
+            histogramConfig,
+            new FeatureBagger(new SplittableRandom(42), features.featureDimension(), 1)
+        ).train(featureVectors);
+
+        // Every distinct value gets its own bin, so both trees partition the training set the same way.
+        for (long i = 0; i < features.size(); i++) {
+            assertThat(histogramTree.predict(features.get(i))).isEqualTo(exactTree.predict(features.get(i)));
+        }
+    }
+
     @Test
     void indexSamplingShouldWork() {
         var decisionTreeTrainConfig = DecisionTreeTrainerConfigImpl.builder()
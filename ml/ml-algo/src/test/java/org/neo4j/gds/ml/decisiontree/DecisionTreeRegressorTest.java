@@ -123,6 +123,45 @@ class DecisionTreeRegressorTest {
         assertThat(decisionTreeRegressor.predict(featureVector)).isCloseTo(expectedPrediction, Offset.offset(0.01D));
     }
 
+    @ParameterizedTest
+    @CsvSource(value = {"1, 2", "2, 2", "3, 4", "100, 2"})
+    void shouldFindSameSplitsFromHistograms(int maxDepth, int minSplitSize) {
+        HugeLongArray mutableFeatureVectors = HugeLongArray.newArray(features.size());
+        mutableFeatureVectors.setAll(idx -> idx);
+        var featureVectors = ReadOnlyHugeLongArray.of(mutableFeatureVectors);
+
+        var exactConfig = DecisionTreeTrainerConfigImpl.builder()
+            .maxDepth(maxDepth)
+            .minSplitSize(minSplitSize)
+            .build();
+        var histogramConfig = DecisionTreeTrainerConfigImpl.builder()
+            .maxDepth(maxDepth)
+            .minSplitSize(minSplitSize)
+            .maxBins(FeatureBins.MAX_BINS)
+            .build();
+
+        var exactTree = new DecisionTreeRegressorTrainer(
+            mse,
+            features,
+            targets,
+            exactConfig,
+            new FeatureBagger(new SplittableRandom(42), features.featureDimension(), 1)
+        ).train(featureVectors);
+        var histogramTree = new DecisionTreeRegressorTrainer(
+            mse,
+            features,
+            targets,
+            histogramConfig,
+            new FeatureBagger(new SplittableRandom(42), features.featureDimension(), 1)
+        ).train(featureVectors);
+
+        // Every distinct value gets its own bin, so both trees partition the training set the same way.
+        for (long i = 0; i < features.size(); i++) {
+            assertThat(histogramTree.predict(features.get(i)))
+                .isCloseTo(exactTree.predict(features.get(i)), Offset.offset(1e-9));
+        }
+    }
+
     @Test
     void indexSamplingShouldWork() {
         var decisionTreeTrainConfig = DecisionTreeTrainerConfigImpl.builder()
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.decisiontree;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.collections.ha.HugeByteArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.utils.paged.ReadOnlyHugeLongArray;
+import org.neo4j.gds.ml.models.Features;
+import org.neo4j.gds.ml.models.FeaturesFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeatureBinsTest {
+
+    @Test
+    void shouldGiveEveryDistinctValueItsOwnBin() {
+        var features = features(new double[][]{{3.0}, {1.0}, {2.0}, {3.0}, {1.0}});
+
+        var featureBins = FeatureBins.of(features, allFeatureVectors(features), 4);
+
+        assertThat(featureBins.numberOfBins(0)).isEqualTo(3);
+        assertThat(featureBins.threshold(0, 0)).isEqualTo(2.0);
+        assertThat(featureBins.threshold(0, 1)).isEqualTo(3.0);
+
+        assertThat(featureBins.bin(0, 0)).isEqualTo(2);
+        assertThat(featureBins.bin(1, 0)).isEqualTo(0);
+        assertThat(featureBins.bin(2, 0)).isEqualTo(1);
+        assertThat(featureBins.bin(3, 0)).isEqualTo(2);
+        assertThat(featureBins.bin(4, 0)).isEqualTo(0);
+    }
+
+    @Test
+    void shouldBinByQuantilesIfThereAreTooManyDistinctValues() {
+        var featureVectors = new double[100][];
+        for (int i = 0; i < featureVectors.length; i++) {
+            featureVectors[i] = new double[]{i, 42.0};
+        }
+        var features = features(featureVectors);
+
+        var featureBins = FeatureBins.of(features, allFeatureVectors(features), 4);
+
+        assertThat(featureBins.numberOfBins(0)).isEqualTo(4);
+        assertThat(featureBins.threshold(0, 0)).isEqualTo(25.0);
+        assertThat(featureBins.threshold(0, 1)).isEqualTo(50.0);
+        assertThat(featureBins.threshold(0, 2)).isEqualTo(75.0);
+        // A constant feature cannot be split.
+        assertThat(featureBins.numberOfBins(1)).isEqualTo(1);
+        assertThat(featureBins.maxNumberOfBins()).isEqualTo(4);
+
+        for (int i = 0; i < featureVectors.length; i++) {
+            assertThat(featureBins.bin(i, 0)).isEqualTo(i / 25);
+            assertThat(featureBins.bin(i, 1)).isEqualTo(0);
+        }
+    }
+
+    @Test
+    void shouldUseMaxBins() {
+        var featureVectors = new double[1000][];
+        for (int i = 0; i < featureVectors.length; i++) {
+            featureVectors[i] = new double[]{i};
+        }
+        var features = features(featureVectors);
+
+        var featureBins = FeatureBins.of(features, allFeatureVectors(features), FeatureBins.MAX_BINS);
+
+        assertThat(featureBins.numberOfBins(0)).isEqualTo(FeatureBins.MAX_BINS);
+        assertThat(featureBins.bin(0, 0)).isEqualTo(0);
+        assertThat(featureBins.bin(999, 0)).isEqualTo(FeatureBins.MAX_BINS - 1);
+    }
+
+    @Test
+    void shouldOnlyBinTheTrainSet() {
+        var features = features(new double[][]{{1.0}, {2.0}, {100.0}, {3.0}});
+        var trainSet = ReadOnlyHugeLongArray.of(0, 1, 3);
+
+        var featureBins = FeatureBins.of(features, trainSet, 4);
+
+        assertThat(featureBins.numberOfBins(0)).isEqualTo(3);
+        assertThat(featureBins.bin(3, 0)).isEqualTo(2);
+    }
+
+    @Test
+    void memoryEstimation() {
+        // instance + thresholds of every feature + one byte per feature value
+        assertThat(FeatureBins.memoryEstimation(1_000, 10, 256))
+            .isEqualTo(24 + 56 + 10 * 2056 + HugeByteArray.memoryEstimation(10_000));
+    }
+
+    private static Features features(double[][] featureVectors) {
+        HugeObjectArray<double[]> featureVectorArray = HugeObjectArray.newArray(double[].class, featureVectors.length);
+        for (int i = 0; i < featureVectors.length; i++) {
+            featureVectorArray.set(i, featureVectors[i]);
+        }
+        return FeaturesFactory.wrap(featureVectorArray);
+    }
+
+    private static ReadOnlyHugeLongArray allFeatureVectors(Features features) {
+        var featureVectors = HugeLongArray.newArray(features.size());
+        featureVectors.setAll(idx -> idx);
+        return ReadOnlyHugeLongArray.of(featureVectors);
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.samplers;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.relationships.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Samples a neighbour of a node proportional to the relationship weights in constant time,
+ * using an alias table per node (Vose's alias method).
+ * <p>
+ * The alias table of a node with degree d consists of d slots, one per relationship.
+ * Slot i holds the target of relationship i, the probability to keep it and the index of its alias,
+ * which is picked otherwise. Sampling picks a uniformly random slot and then either the target or its alias.
+ * <p>
+ * The slots of all nodes are stored consecutively, in the order of the adjacency lists,
+ * so a table takes 20 bytes per relationship and 8 bytes per node.
+ * Unweighted graphs use a weight of 1 for every relationship.
+ * A node whose relationship weights sum up to zero always picks its first neighbour,
+ * just like sampling over the cumulative weights does.
+ */
+public final class NeighborAliasTables {
+
+    public static final long NO_NEIGHBOUR = -1;
+
+    private final HugeLongArray offsets;
+    private final HugeLongArray targets;
+    private final HugeDoubleArray probabilities;
+    private final HugeIntArray aliases;
+
+    private NeighborAliasTables(
+        HugeLongArray offsets,
+        HugeLongArray targets,
+        HugeDoubleArray probabilities,
+        HugeIntArray aliases
+    ) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.probabilities = probabilities;
+        this.aliases = aliases;
+    }
+
+    public static NeighborAliasTables create(Graph graph, Concurrency concurrency, ExecutorService executorService) {
+        long nodeCount = graph.nodeCount();
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        long offset = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.set(nodeId, offset);
+            offset += graph.degree(nodeId);
+        }
+        offsets.set(nodeCount, offset);
+
+        var aliasTables = new NeighborAliasTables(
+            offsets,
+            HugeLongArray.newArray(offset),
+            HugeDoubleArray.newArray(offset),
+            HugeIntArray.newArray(offset)
+        );
+
+        var tasks = PartitionUtils.degreePartition(
+            graph,
+            concurrency,
+            partition -> aliasTables.buildTask(graph.concurrentCopy(), partition),
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+
+        return aliasTables;
+    }
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(NeighborAliasTables.class)
+            .perNode("offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perGraphDimension("targets", (dimensions, concurrency) ->
+                MemoryRange.of(HugeLongArray.memoryEstimation(dimensions.relCountUpperBound()))
+            )
+            .perGraphDimension("probabilities", (dimensions, concurrency) ->
+                MemoryRange.of(HugeDoubleArray.memoryEstimation(dimensions.relCountUpperBound()))
+            )
+            .perGraphDimension("aliases", (dimensions, concurrency) ->
+                MemoryRange.of(HugeIntArray.memoryEstimation(dimensions.relCountUpperBound()))
+            )
+            .build();
+    }
+
+    /**
+     * Samples a neighbour of the given node with a probability proportional to the weight of the relationship to it.
+     * Returns {@link #NO_NEIGHBOUR} if the node has no relationships.
+     */
+    public long sample(long nodeId, SplittableRandom random) {
+        long offset = offsets.get(nodeId);
+        long degree = offsets.get(nodeId + 1) - offset;
+        if (degree == 0) {
+            return NO_NEIGHBOUR;
+        }
+
+        // one draw picks both the slot and the outcome within the slot
+        double draw = random.nextDouble() * degree;
+        long index = Math.min((long) draw, degree - 1);
+        long slot = offset + index;
+        return draw - index < probabilities.get(slot)
+            ? targets.get(slot)
+            : targets.get(offset + aliases.get(slot));
+    }
+
+    private Runnable buildTask(Graph graph, Partition partition) {
+        return new BuildTask(graph, partition);
+    }
+
+    private final class BuildTask implements Runnable, RelationshipWithPropertyConsumer {
+
+        private final Graph graph;
+        private final Partition partition;
+
+        private double[] weights;
+        private long[] neighbours;
+        private int[] small;
+        private int[] large;
+        private int degree;
+        private double weightSum;
+
+        BuildTask(Graph graph, Partition partition) {
+            this.graph = graph;
+            this.partition = partition;
+            this.weights = new double[0];
+            this.neighbours = new long[0];
+            this.small = new int[0];
+            this.large = new int[0];
+        }
+
+        @Override
+        public void run() {
+            partition.consume(this::build);
+        }
+
+        private void build(long nodeId) {
+            long offset = offsets.get(nodeId);
+            int nodeDegree = Math.toIntExact(offsets.get(nodeId + 1) - offset);
+            if (nodeDegree == 0) {
+                return;
+            }
+            if (weights.length < nodeDegree) {
+                weights = new double[nodeDegree];
+                neighbours = new long[nodeDegree];
+                small = new int[nodeDegree];
+                large = new int[nodeDegree];
+            }
+
+            degree = 0;
+            weightSum = 0;
+            graph.forEachRelationship(nodeId, 1.0D, this);
+
+            for (int i = 0; i < nodeDegree; i++) {
+                targets.set(offset + i, neighbours[i]);
+            }
+
+            if (weightSum <= 0) {
+                // every slot falls back to the first neighbour
+                for (int i = 0; i < nodeDegree; i++) {
+                    probabilities.set(offset + i, i == 0 ? 1.0 : 0.0);
+                    aliases.set(offset + i, 0);
+                }
+                return;
+            }
+
+            // scale the weights to an average of 1
+            double scale = nodeDegree / weightSum;
+            int smallCount = 0;
+            int largeCount = 0;
+            for (int i = 0; i < nodeDegree; i++) {
+                weights[i] = weights[i] * scale;
+                if (weights[i] < 1.0) {
+                    small[smallCount++] = i;
+                } else {
+                    large[largeCount++] = i;
+                }
+            }
+
+            while (smallCount > 0 && largeCount > 0) {
+                int lesser = small[--smallCount];
+                int greater = large[--largeCount];
+                probabilities.set(offset + lesser, weights[lesser]);
+                aliases.set(offset + lesser, greater);
+
+                weights[greater] = (weights[greater] + weights[lesser]) - 1.0;
+                if (weights[greater] < 1.0) {
+                    small[smallCount++] = greater;
+                } else {
+                    large[largeCount++] = greater;
+                }
+            }
+            // what is left has a probability of 1 up to rounding errors
+            while (largeCount > 0) {
+                int index = large[--largeCount];
+                probabilities.set(offset + index, 1.0);
+                aliases.set(offset + index, index);
+            }
+            while (smallCount > 0) {
+                int index = small[--smallCount];
+                probabilities.set(offset + index, 1.0);
+                aliases.set(offset + index, index);
+            }
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId, double property) {
+            neighbours[degree] = targetNodeId;
+            weights[degree] = property;
+            weightSum += property;
+            degree++;
+            return true;
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.neo4j.gds.ml.core.samplers;
 
 import org.apache.commons.lang3.mutable.MutableDouble;
 import org.apache.commons.lang3.mutable.MutableLong;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.mem.MemoryRange;
 
@@ -44,6 +45,7 @@ public class RandomWalkSampler {
     private final double normalizedSameDistanceProbability;
     private final double normalizedInOutProbability;
     private final CumulativeWeightSupplier cumulativeWeightSupplier;
+    private final @Nullable NeighborAliasTables aliasTables;
 
     private final long randomSeed;
 
@@ -54,12 +56,28 @@ public class RandomWalkSampler {
         double returnFactor,
         double inOutFactor,
         long randomSeed
+    ) {
+        return create(graph, cumulativeWeightSupplier, null, walkLength, returnFactor, inOutFactor, randomSeed);
+    }
+
+    /**
+     * Creates a sampler that draws neighbours from the given alias tables in constant time,
+     * instead of scanning the relationships of a node, if the alias tables are present.
+     */
+    public static RandomWalkSampler create(
+        Graph graph,
+        CumulativeWeightSupplier cumulativeWeightSupplier,
+        @Nullable NeighborAliasTables aliasTables,
+        int walkLength,
+        double returnFactor,
+        double inOutFactor,
+        long randomSeed
     ) {
         var maxProbability = Math.max(Math.max(1 / returnFactor, 1.0), 1 / inOutFactor);
         var normalizedReturnProbability = (1 / returnFactor) / maxProbability;
         var normalizedSameDistanceProbability = 1 / maxProbability;
         var normalizedInOutProbability = (1 / inOutFactor) / maxProbability;
-        return new RandomWalkSampler(graph, cumulativeWeightSupplier, walkLength, normalizedReturnProbability, normalizedSameDistanceProbability, normalizedInOutProbability, randomSeed);
+        return new RandomWalkSampler(graph, cumulativeWeightSupplier, aliasTables, walkLength, normalizedReturnProbability, normalizedSameDistanceProbability, normalizedInOutProbability, randomSeed);
     }
 
     public RandomWalkSampler(
@@ -70,9 +88,32 @@ public class RandomWalkSampler {
         double normalizedSameDistanceProbability,
         double normalizedInOutProbability,
         long randomSeed
+    ) {
+        this(
+            graph,
+            cumulativeWeightSupplier,
+            null,
+            walkLength,
+            normalizedReturnProbability,
+            normalizedSameDistanceProbability,
+            normalizedInOutProbability,
+            randomSeed
+        );
+    }
+
+    private RandomWalkSampler(
+        Graph graph,
+        CumulativeWeightSupplier cumulativeWeightSupplier,
+        @Nullable NeighborAliasTables aliasTables,
+        int walkLength,
+        double normalizedReturnProbability,
+        double normalizedSameDistanceProbability,
+        double normalizedInOutProbability,
+        long randomSeed
     ) {
         this.randomSeed = randomSeed;
         this.cumulativeWeightSupplier = cumulativeWeightSupplier;
+        this.aliasTables = aliasTables;
         this.graph = graph;
         this.walkLength = walkLength;
         this.normalizedReturnProbability = normalizedReturnProbability;
@@ -172,6 +213,10 @@ public class RandomWalkSampler {
     }
 
     private long randomNeighbour(long node) {
+        if (aliasTables != null) {
+            return aliasTables.sample(node, random);
+        }
+
         var cumulativeWeight = cumulativeWeightSupplier.forNode(node);
         var randomWeight = cumulativeWeight * random.nextDouble();
 
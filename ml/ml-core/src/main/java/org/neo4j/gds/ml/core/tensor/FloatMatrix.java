@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.tensor;
+
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.ml.core.tensor.operations.FloatMatrixOperations;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A row-major matrix with single precision values.
+ * It takes half the memory of a {@link Matrix} of the same dimensions,
+ * for when the reduced precision is acceptable, such as for large batches of feature vectors.
+ * Use {@link #of(Matrix)} and {@link #toMatrix()} to convert between the two.
+ */
+public class FloatMatrix {
+
+    private final float[] data;
+    private final int rows;
+    private final int columns;
+
+    public static long sizeInBytes(int rows, int cols) {
+        return Estimate.sizeOfFloatArray((long) rows * cols);
+    }
+
+    public FloatMatrix(float[] data, int rows, int cols) {
+        if (data.length != Math.multiplyExact(rows, cols)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Data of length %d does not match the dimensions (%d, %d).",
+                data.length,
+                rows,
+                cols
+            ));
+        }
+        this.data = data;
+        this.rows = rows;
+        this.columns = cols;
+    }
+
+    public FloatMatrix(int rows, int cols) {
+        this(new float[Math.multiplyExact(rows, cols)], rows, cols);
+    }
+
+    /**
+     * Rounds every value of the matrix to the nearest float.
+     */
+    public static FloatMatrix of(Matrix matrix) {
+        double[] source = matrix.data();
+        var data = new float[source.length];
+        for (int i = 0; i < source.length; i++) {
+            data[i] = (float) source[i];
+        }
+        return new FloatMatrix(data, matrix.rows(), matrix.cols());
+    }
+
+    public Matrix toMatrix() {
+        var result = new Matrix(rows, columns);
+        for (int i = 0; i < data.length; i++) {
+            result.setDataAt(i, data[i]);
+        }
+        return result;
+    }
+
+    public float[] data() {
+        return data;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return columns;
+    }
+
+    public float dataAt(int row, int col) {
+        return data[row * columns + col];
+    }
+
+    public void setDataAt(int row, int col, float newValue) {
+        data[row * columns + col] = newValue;
+    }
+
+    public void setRow(int row, float[] values) {
+        if (values.length != columns) {
+            throw new IllegalArgumentException(
+                formatWithLocale(
+                    "Input vector dimension is unequal to column count of the matrix. Got %d, but expected %d.",
+                    values.length,
+                    columns
+                ));
+        }
+
+        System.arraycopy(values, 0, data, row * columns, columns);
+    }
+
+    public float[] getRow(int rowIdx) {
+        return Arrays.copyOfRange(data, rowIdx * columns, (rowIdx + 1) * columns);
+    }
+
+    public FloatMatrix copy() {
+        return new FloatMatrix(data.clone(), rows, columns);
+    }
+
+    public FloatMatrix add(FloatMatrix b) {
+        if (rows != b.rows || columns != b.columns) {
+            throw new ArithmeticException(formatWithLocale(
+                "Matrix dimensions must match! Got dimensions (%d, %d) + (%d, %d)",
+                rows,
+                columns,
+                b.rows,
+                b.columns
+            ));
+        }
+        var sum = new FloatMatrix(rows, columns);
+        for (int i = 0; i < data.length; ++i) {
+            sum.data[i] = data[i] + b.data[i];
+        }
+        return sum;
+    }
+
+    public FloatMatrix multiply(FloatMatrix other) {
+        var result = new FloatMatrix(rows, other.columns);
+        FloatMatrixOperations.mult(this, other, result);
+        return result;
+    }
+
+    public FloatMatrix multiplyTransA(FloatMatrix other) {
+        var result = new FloatMatrix(columns, other.columns);
+        FloatMatrixOperations.multTransA(this, other, result);
+        return result;
+    }
+
+    public FloatMatrix multiplyTransB(FloatMatrix other) {
+        var result = new FloatMatrix(rows, other.rows);
+        FloatMatrixOperations.multTransB(this, other, result);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return formatWithLocale("FloatMatrix(%d, %d): %s", rows, columns, Arrays.toString(data));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        var other = (FloatMatrix) o;
+        return rows == other.rows && columns == other.columns && Arrays.equals(data, other.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(data) + 31 * rows + columns;
+    }
+}
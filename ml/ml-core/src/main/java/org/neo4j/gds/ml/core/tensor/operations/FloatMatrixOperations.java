@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.tensor.operations;
+
+import org.ejml.MatrixDimensionException;
+import org.neo4j.gds.ml.core.tensor.FloatMatrix;
+
+import java.util.Arrays;
+
+/**
+ * Matrix multiplication kernels for row-major {@link FloatMatrix} instances.
+ * <p>
+ * The kernels follow the loop orders of the Ejml {@code _reorder} variants,
+ * so that the innermost loops run over consecutive elements of both the input and the output.
+ * Products are accumulated with single precision.
+ *
+ * @see <a href="https://github.com/lessthanoptimal/ejml/blob/v0.39/main/ejml-ddense/src/org/ejml/dense/row/mult/MatrixMatrixMult_DDRM.java">MatrixMatrixMult_DDRM</a>
+ */
+public final class FloatMatrixOperations {
+
+    private FloatMatrixOperations() {}
+
+    /**
+     * c = a * b
+     */
+    public static void mult(FloatMatrix a, FloatMatrix b, FloatMatrix c) {
+        validateOutput(a, b, c);
+        if (a.cols() != b.rows()) {
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        }
+        if (c.rows() != a.rows() || c.cols() != b.cols()) {
+            throw new MatrixDimensionException("The matrix 'c` does not have compatible dimensions.");
+        }
+
+        float[] aData = a.data();
+        float[] bData = b.data();
+        float[] cData = c.data();
+        int inner = a.cols();
+        int colsC = c.cols();
+
+        Arrays.fill(cData, 0f);
+        for (int row = 0; row < a.rows(); row++) {
+            int cRowStart = row * colsC;
+            int aRowStart = row * inner;
+            for (int k = 0; k < inner; k++) {
+                float valA = aData[aRowStart + k];
+                if (valA == 0f) {
+                    continue;
+                }
+                int bRowStart = k * colsC;
+                for (int col = 0; col < colsC; col++) {
+                    cData[cRowStart + col] += valA * bData[bRowStart + col];
+                }
+            }
+        }
+    }
+
+    /**
+     * c = a<sup>T</sup> * b
+     */
+    public static void multTransA(FloatMatrix a, FloatMatrix b, FloatMatrix c) {
+        validateOutput(a, b, c);
+        if (a.rows() != b.rows()) {
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        }
+        if (c.rows() != a.cols() || c.cols() != b.cols()) {
+            throw new MatrixDimensionException("The matrix 'c` does not have compatible dimensions.");
+        }
+
+        float[] aData = a.data();
+        float[] bData = b.data();
+        float[] cData = c.data();
+        int colsA = a.cols();
+        int colsC = c.cols();
+
+        Arrays.fill(cData, 0f);
+        // Every row k of a and b contributes the outer product a[k]^T * b[k].
+        for (int k = 0; k < a.rows(); k++) {
+            int aRowStart = k * colsA;
+            int bRowStart = k * colsC;
+            for (int row = 0; row < colsA; row++) {
+                float valA = aData[aRowStart + row];
+                if (valA == 0f) {
+                    continue;
+                }
+                int cRowStart = row * colsC;
+                for (int col = 0; col < colsC; col++) {
+                    cData[cRowStart + col] += valA * bData[bRowStart + col];
+                }
+            }
+        }
+    }
+
+    /**
+     * c = a * b<sup>T</sup>
+     */
+    public static void multTransB(FloatMatrix a, FloatMatrix b, FloatMatrix c) {
+        validateOutput(a, b, c);
+        if (a.cols() != b.cols()) {
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        }
+        if (c.rows() != a.rows() || c.cols() != b.rows()) {
+            throw new MatrixDimensionException("The matrix 'c` does not have compatible dimensions.");
+        }
+
+        float[] aData = a.data();
+        float[] bData = b.data();
+        float[] cData = c.data();
+        int inner = a.cols();
+
+        int cIndex = 0;
+        for (int rowA = 0; rowA < a.rows(); rowA++) {
+            int aRowStart = rowA * inner;
+            for (int rowB = 0; rowB < b.rows(); rowB++) {
+                int bRowStart = rowB * inner;
+                float total = 0f;
+                for (int k = 0; k < inner; k++) {
+                    total += aData[aRowStart + k] * bData[bRowStart + k];
+                }
+                cData[cIndex++] = total;
+            }
+        }
+    }
+
+    private static void validateOutput(FloatMatrix a, FloatMatrix b, FloatMatrix c) {
+        if (a == c || b == c) {
+            throw new IllegalArgumentException("Neither 'a' or 'b' can be the same matrix as 'c'");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.samplers;
+
+import com.carrotsearch.hppc.LongLongHashMap;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class NeighborAliasTablesTest {
+
+    @GdlGraph
+    private static final String GRAPH =
+        "CREATE" +
+        "  (a)-[:R {w: 1.0}]->(b)" +
+        ", (a)-[:R {w: 2.0}]->(c)" +
+        ", (a)-[:R {w: 7.0}]->(d)" +
+        ", (a)-[:R {w: 0.0}]->(e)" +
+        ", (b)-[:R {w: 0.0}]->(c)" +
+        ", (b)-[:R {w: 0.0}]->(d)" +
+        ", (z)";
+
+    @Inject
+    private TestGraph graph;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldSampleProportionalToWeights(int concurrency) {
+        var aliasTables = NeighborAliasTables.create(graph, new Concurrency(concurrency), DefaultPool.INSTANCE);
+
+        var samples = sample(aliasTables, graph.toMappedNodeId("a"), 100_000);
+
+        assertThat(samples.get(graph.toMappedNodeId("b"))).isCloseTo(10_000L, Offset.offset(1_000L));
+        assertThat(samples.get(graph.toMappedNodeId("c"))).isCloseTo(20_000L, Offset.offset(1_000L));
+        assertThat(samples.get(graph.toMappedNodeId("d"))).isCloseTo(70_000L, Offset.offset(1_000L));
+        assertThat(samples.containsKey(graph.toMappedNodeId("e"))).isFalse();
+    }
+
+    @Test
+    void shouldPickTheFirstNeighbourWithoutWeights() {
+        var aliasTables = NeighborAliasTables.create(graph, new Concurrency(1), DefaultPool.INSTANCE);
+
+        var firstNeighbour = new long[]{NeighborAliasTables.NO_NEIGHBOUR};
+        graph.forEachRelationship(graph.toMappedNodeId("b"), (source, target) -> {
+            firstNeighbour[0] = target;
+            return false;
+        });
+
+        var samples = sample(aliasTables, graph.toMappedNodeId("b"), 10_000);
+
+        assertThat(samples.keys().toArray()).containsExactly(firstNeighbour[0]);
+    }
+
+    @Test
+    void shouldNotSampleWithoutRelationships() {
+        var aliasTables = NeighborAliasTables.create(graph, new Concurrency(1), DefaultPool.INSTANCE);
+
+        assertThat(aliasTables.sample(graph.toMappedNodeId("z"), new SplittableRandom(42)))
+            .isEqualTo(NeighborAliasTables.NO_NEIGHBOUR);
+        assertThat(aliasTables.sample(graph.toMappedNodeId("e"), new SplittableRandom(42)))
+            .isEqualTo(NeighborAliasTables.NO_NEIGHBOUR);
+    }
+
+    private static LongLongHashMap sample(NeighborAliasTables aliasTables, long nodeId, int numberOfSamples) {
+        var random = new SplittableRandom(42);
+        var samples = new LongLongHashMap();
+        for (int i = 0; i < numberOfSamples; i++) {
+            samples.addTo(aliasTables.sample(nodeId, random), 1);
+        }
+        return samples;
+    }
+}
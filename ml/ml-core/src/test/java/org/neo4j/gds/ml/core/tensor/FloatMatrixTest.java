@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.tensor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FloatMatrixTest {
+
+    @Test
+    void convertsFromAndToMatrix() {
+        var matrix = new Matrix(new double[]{1D, .1, 4D, -5D, 0.5, 3D}, 2, 3);
+
+        var floatMatrix = FloatMatrix.of(matrix);
+
+        assertThat(floatMatrix.rows()).isEqualTo(2);
+        assertThat(floatMatrix.cols()).isEqualTo(3);
+        assertThat(floatMatrix.data()).containsExactly(1f, .1f, 4f, -5f, 0.5f, 3f);
+        assertThat(floatMatrix.toMatrix().equals(matrix, 1e-7)).isTrue();
+    }
+
+    @Test
+    void createsMatrixCopy() {
+        var matrix = new FloatMatrix(new float[]{1f, .1f, 4f, -5f}, 2, 2);
+
+        var copy = matrix.copy();
+
+        assertThat(copy)
+            .isNotSameAs(matrix)
+            .isEqualTo(matrix);
+
+        copy.setDataAt(1, 0, 42);
+        assertThat(copy).isNotEqualTo(matrix);
+    }
+
+    @Test
+    void addsMatrix() {
+        var matrix = new FloatMatrix(new float[]{1f, 2f}, 1, 2);
+        var matrixToAdd = new FloatMatrix(new float[]{10f, 12f}, 1, 2);
+
+        assertThat(matrix.add(matrixToAdd)).isEqualTo(new FloatMatrix(new float[]{11f, 14f}, 1, 2));
+    }
+
+    @Test
+    void failsOnMismatchingDimensions() {
+        var matrix = new FloatMatrix(2, 3);
+
+        assertThatThrownBy(() -> matrix.add(new FloatMatrix(3, 2)))
+            .isInstanceOf(ArithmeticException.class)
+            .hasMessage("Matrix dimensions must match! Got dimensions (2, 3) + (3, 2)");
+        assertThatThrownBy(() -> new FloatMatrix(new float[5], 2, 3))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Data of length 5 does not match the dimensions (2, 3).");
+    }
+
+    @Test
+    void multiplies() {
+        var a = new FloatMatrix(new float[]{1f, 2f, 3f, 4f, 5f, 6f}, 2, 3);
+        var b = new FloatMatrix(new float[]{1f, 0f, 0f, 1f, 1f, 1f}, 3, 2);
+
+        assertThat(a.multiply(b)).isEqualTo(new FloatMatrix(new float[]{4f, 5f, 10f, 11f}, 2, 2));
+        assertThat(a.multiplyTransB(a)).isEqualTo(new FloatMatrix(new float[]{14f, 32f, 32f, 77f}, 2, 2));
+        assertThat(a.multiplyTransA(a)).isEqualTo(new FloatMatrix(
+            new float[]{17f, 22f, 27f, 22f, 29f, 36f, 27f, 36f, 45f},
+            3,
+            3
+        ));
+    }
+
+    @Test
+    void takesHalfTheMemoryOfMatrix() {
+        assertThat(FloatMatrix.sizeInBytes(100, 100)).isEqualTo(40_016L);
+        assertThat(Matrix.sizeInBytes(100, 100)).isEqualTo(80_016L);
+    }
+}
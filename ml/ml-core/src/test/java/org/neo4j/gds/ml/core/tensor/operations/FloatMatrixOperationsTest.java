@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.tensor.operations;
+
+import org.ejml.MatrixDimensionException;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.ml.core.tensor.FloatMatrix;
+import org.neo4j.gds.ml.core.tensor.Matrix;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class FloatMatrixOperationsTest {
+
+    @Test
+    void mult() {
+        var a = randomMatrix(13, 7, 1);
+        var b = randomMatrix(7, 5, 2);
+
+        var result = new FloatMatrix(13, 5);
+        FloatMatrixOperations.mult(FloatMatrix.of(a), FloatMatrix.of(b), result);
+
+        assertClose(result, a.multiply(b));
+    }
+
+    @Test
+    void multTransA() {
+        var a = randomMatrix(7, 13, 1);
+        var b = randomMatrix(7, 5, 2);
+
+        var result = new FloatMatrix(13, 5);
+        FloatMatrixOperations.multTransA(FloatMatrix.of(a), FloatMatrix.of(b), result);
+
+        assertClose(result, a.multiplyTransA(b));
+    }
+
+    @Test
+    void multTransB() {
+        var a = randomMatrix(13, 7, 1);
+        var b = randomMatrix(5, 7, 2);
+
+        var result = new FloatMatrix(13, 5);
+        FloatMatrixOperations.multTransB(FloatMatrix.of(a), FloatMatrix.of(b), result);
+
+        assertClose(result, a.multiplyTransB(b));
+    }
+
+    @Test
+    void overwritesOutput() {
+        var a = new FloatMatrix(new float[]{1, 2, 3, 4}, 2, 2);
+        var result = new FloatMatrix(new float[]{42, 42, 42, 42}, 2, 2);
+
+        FloatMatrixOperations.mult(a, a, result);
+
+        assertThat(result.data()).containsExactly(7, 10, 15, 22);
+    }
+
+    @Test
+    void failsOnIncompatibleDimensions() {
+        var a = new FloatMatrix(2, 3);
+
+        assertThatThrownBy(() -> FloatMatrixOperations.mult(a, a, new FloatMatrix(2, 3)))
+            .isInstanceOf(MatrixDimensionException.class);
+        assertThatThrownBy(() -> FloatMatrixOperations.multTransB(a, a, new FloatMatrix(3, 3)))
+            .isInstanceOf(MatrixDimensionException.class);
+        assertThatThrownBy(() -> FloatMatrixOperations.multTransA(a, a, a))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Matrix randomMatrix(int rows, int cols, long seed) {
+        var random = new SplittableRandom(seed);
+        var matrix = new Matrix(rows, cols);
+        for (int i = 0; i < rows * cols; i++) {
+            matrix.setDataAt(i, random.nextDouble(-1, 1));
+        }
+        return matrix;
+    }
+
+    private static void assertClose(FloatMatrix actual, Matrix expected) {
+        assertThat(actual.rows()).isEqualTo(expected.rows());
+        assertThat(actual.cols()).isEqualTo(expected.cols());
+        for (int i = 0; i < expected.totalSize(); i++) {
+            assertThat((double) actual.data()[i]).isCloseTo(expected.dataAt(i), within(1e-5));
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.neo4j.gds.annotation.Configuration.ConvertWith;
 import org.neo4j.gds.annotation.Configuration.Key;
 import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.HashSet;
 import java.util.Map;
@@ -72,6 +73,13 @@ public interface GraphProjectFromStoreConfig extends GraphProjectConfig {
         return PropertyMappings.of();
     }
 
+    /**
+     * Stores the projected node properties off-heap. Defaults to the server-wide feature toggle.
+     */
+    default boolean offHeapNodeProperties() {
+        return GdsFeatureToggles.USE_OFF_HEAP_NODE_PROPERTIES.isEnabled();
+    }
+
     @Configuration.Check
     default void validateProjectionsAreNotEmpty() {
         if (nodeProjections().isEmpty()) {
@@ -81,12 +81,22 @@ final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromStoreConf
 
     @Override
     public MemoryEstimation estimateMemoryUsageDuringLoading() {
-        return getMemoryEstimation(storeConfig.nodeProjections(), storeConfig.relationshipProjections(), true);
+        return getMemoryEstimation(
+            storeConfig.nodeProjections(),
+            storeConfig.relationshipProjections(),
+            true,
+            storeConfig.offHeapNodeProperties()
+        );
     }
 
     @Override
     public MemoryEstimation estimateMemoryUsageAfterLoading() {
-        return getMemoryEstimation(storeConfig.nodeProjections(), storeConfig.relationshipProjections(), false);
+        return getMemoryEstimation(
+            storeConfig.nodeProjections(),
+            storeConfig.relationshipProjections(),
+            false,
+            storeConfig.offHeapNodeProperties()
+        );
     }
 
     private static ProgressTracker initProgressTracker(
@@ -35,6 +35,7 @@ import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.loading.GdsNeo4jValueConverter;
 import org.neo4j.gds.core.loading.NodeLabelTokenSet;
 import org.neo4j.gds.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.internal.kernel.api.PropertyCursor;
 import org.neo4j.kernel.api.KernelTransaction;
 import org.neo4j.storageengine.api.PropertySelection;
@@ -178,6 +179,7 @@ public final class NativeNodePropertyImporter {
         private Concurrency concurrency = ConcurrencyConfig.TYPED_DEFAULT_CONCURRENCY;
         private Map<NodeLabel, PropertyMappings> propertyMappings;
         private GraphDimensions dimensions;
+        private boolean offHeap = GdsFeatureToggles.USE_OFF_HEAP_NODE_PROPERTIES.isEnabled();
 
 
         private Builder() {
@@ -198,10 +200,16 @@ public final class NativeNodePropertyImporter {
             return this;
         }
 
+        public Builder offHeap(boolean offHeap) {
+            this.offHeap = offHeap;
+            return this;
+        }
+
         public NativeNodePropertyImporter build() {
             var nodePropertyBuilders = BuildersByLabel.create(
                 propertyMappings,
-                concurrency
+                concurrency,
+                offHeap
             );
             var buildersByLabelIdAndPropertyId = BuildersByLabelIdAndPropertyId.create(
                 nodePropertyBuilders,
@@ -218,7 +226,8 @@ public final class NativeNodePropertyImporter {
 
         static BuildersByLabel create(
             Map<NodeLabel, PropertyMappings> propertyMappingsByLabel,
-            Concurrency concurrency
+            Concurrency concurrency,
+            boolean offHeap
         ) {
             var propertyBuildersByKey = new HashMap<String, NodePropertiesFromStoreBuilder>();
 
@@ -230,7 +239,8 @@ public final class NativeNodePropertyImporter {
                      propertyMapping.propertyKey(),
                      NodePropertiesFromStoreBuilder.of(
                          propertyMapping.defaultValue(),
-                         concurrency
+                         concurrency,
+                         offHeap
                      )
                  ));
 
@@ -93,7 +93,8 @@ final class ScanningNodesImporter extends ScanningRecordsImporter<NodeReference,
         var nodePropertyImporter = initializeNodePropertyImporter(
             loadablePropertyMappings,
             dimensions,
-            concurrency
+            concurrency,
+            graphProjectConfig.offHeapNodeProperties()
         );
 
         return new ScanningNodesImporter(
@@ -199,7 +200,8 @@ final class ScanningNodesImporter extends ScanningRecordsImporter<NodeReference,
     private static @Nullable NativeNodePropertyImporter initializeNodePropertyImporter(
         LoadablePropertyMappings propertyMappings,
         GraphDimensions dimensions,
-        Concurrency concurrency
+        Concurrency concurrency,
+        boolean offHeap
     ) {
         var propertyMappingsByLabel = propertyMappings.storedProperties();
         boolean loadProperties = propertyMappingsByLabel
@@ -213,6 +215,7 @@ final class ScanningNodesImporter extends ScanningRecordsImporter<NodeReference,
                 .concurrency(concurrency)
                 .dimensions(dimensions)
                 .propertyMappings(propertyMappingsByLabel)
+                .offHeap(offHeap)
                 .build();
         }
 
@@ -22,6 +22,7 @@ package org.neo4j.gds.settings;
 import org.neo4j.graphdb.config.Setting;
 
 import java.nio.file.Path;
+import java.time.Duration;
 
 public final class GdsSettings {
 
@@ -31,6 +32,18 @@ public final class GdsSettings {
         return GraphStoreExportSettings.export_location_setting;
     }
 
+    public static Setting<Path> catalogEvictionLocation() {
+        return GraphStoreCatalogSettings.eviction_location_setting;
+    }
+
+    public static Setting<Long> catalogEvictionMaxResidentSize() {
+        return GraphStoreCatalogSettings.eviction_max_resident_size_setting;
+    }
+
+    public static Setting<Duration> catalogEvictionMinIdleTime() {
+        return GraphStoreCatalogSettings.eviction_min_idle_time_setting;
+    }
+
     public static Setting<Boolean> validateUsingMaxMemoryEstimation() {
         return MemoryEstimationSettings.validate_using_max_memory_estimation;
     }
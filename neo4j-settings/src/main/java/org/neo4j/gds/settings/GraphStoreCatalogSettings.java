@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.settings;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.configuration.Description;
+import org.neo4j.configuration.SettingsDeclaration;
+import org.neo4j.graphdb.config.Setting;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.neo4j.configuration.SettingValueParsers.BYTES;
+import static org.neo4j.configuration.SettingValueParsers.DURATION;
+import static org.neo4j.configuration.SettingValueParsers.PATH;
+import static org.neo4j.gds.compat.SettingProxy.newBuilder;
+
+@ServiceProvider
+public class GraphStoreCatalogSettings implements SettingsDeclaration {
+
+    @Description("Sets the location to which cold graphs are evicted. Eviction is disabled if not set.")
+    @SuppressWarnings("WeakerAccess")
+    public static final Setting<Path> eviction_location_setting = newBuilder(
+        "gds.catalog.eviction.location",
+        PATH,
+        null
+    ).build();
+
+    @Description("Maximum size of the graphs kept in memory before cold graphs are evicted. Defaults to half the heap.")
+    @SuppressWarnings("WeakerAccess")
+    public static final Setting<Long> eviction_max_resident_size_setting = newBuilder(
+        "gds.catalog.eviction.max_resident_size",
+        BYTES,
+        null
+    ).build();
+
+    @Description("Minimum time a graph must not have been used before it can be evicted.")
+    @SuppressWarnings("WeakerAccess")
+    public static final Setting<Duration> eviction_min_idle_time_setting = newBuilder(
+        "gds.catalog.eviction.min_idle_time",
+        DURATION,
+        Duration.ofMinutes(10)
+    ).build();
+}
@@ -52,6 +52,8 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.graph.sample.cnarw",
         "gds.graph.sample.cnarw.estimate",
 
+        "gds.allShortestPaths.manyToMany.stream",
+        "gds.allShortestPaths.manyToMany.stream.estimate",
         "gds.allShortestPaths.stream",
         "gds.allShortestPaths.stream.estimate",
 
@@ -165,6 +167,9 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.dag.topologicalSort.stream",
         "gds.dag.longestPath.stream",
 
+        "gds.hnsw.stream",
+        "gds.hnsw.stream.estimate",
+
         "gds.hashgnn.mutate",
         "gds.hashgnn.mutate.estimate",
         "gds.hashgnn.stream",
@@ -629,7 +634,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 468;
+        int expectedCount = 472;
         assertEquals(
             expectedCount,
             returnedRows,
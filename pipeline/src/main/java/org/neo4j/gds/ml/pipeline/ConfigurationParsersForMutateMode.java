@@ -112,6 +112,7 @@ public class ConfigurationParsersForMutateMode {
             case HarmonicCentrality -> HarmonicCentralityMutateConfig::of;
             case HashGNN -> HashGNNMutateConfig::of;
             case HDBScan -> null;
+            case HNSW -> null;
             case IndexInverse -> InverseRelationshipsConfig::of;
             case K1Coloring -> K1ColoringMutateConfig::of;
             case KCore -> KCoreDecompositionMutateConfig::of;
@@ -124,6 +125,7 @@ public class ConfigurationParsersForMutateMode {
             case Leiden -> LeidenMutateConfig::of;
             case Louvain -> LouvainMutateConfig::of;
             case LongestPath -> null;
+            case ManyToManyShortestPaths -> null;
             case Modularity -> null;
             case ModularityOptimization -> ModularityOptimizationMutateConfig::of;
             case NodeSimilarity -> NodeSimilarityMutateConfig::of;
@@ -86,6 +86,7 @@ final class MutateModeAlgorithmLibrary {
             case HarmonicCentrality -> CanonicalProcedureName.parse("gds.closeness.harmonic");
             case HashGNN -> CanonicalProcedureName.parse("gds.hashgnn");
             case HDBScan -> null;
+            case HNSW -> null;
             case IndexInverse -> CanonicalProcedureName.parse("gds.graph.relationships.indexInverse");
             case K1Coloring -> CanonicalProcedureName.parse("gds.k1coloring");
             case KCore -> CanonicalProcedureName.parse("gds.kcore");
@@ -98,6 +99,7 @@ final class MutateModeAlgorithmLibrary {
             case Leiden -> CanonicalProcedureName.parse("gds.leiden");
             case Louvain -> CanonicalProcedureName.parse("gds.louvain");
             case LongestPath -> null;
+            case ManyToManyShortestPaths -> null;
             case Modularity -> null;
             case ModularityOptimization -> CanonicalProcedureName.parse("gds.modularityOptimization");
             case NodeSimilarity -> CanonicalProcedureName.parse("gds.nodeSimilarity");
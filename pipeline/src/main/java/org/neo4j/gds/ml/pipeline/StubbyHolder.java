@@ -112,6 +112,7 @@ class StubbyHolder {
             case HarmonicCentrality -> new HarmonicCentralityStub();
             case HashGNN -> new HashGnnStub();
             case HDBScan -> new HDBScanStub();
+            case HNSW -> null;
             case IndexInverse -> new IndexInverseStub();
             case K1Coloring -> new K1ColoringStub();
             case KCore -> new KCoreStub();
@@ -124,6 +125,7 @@ class StubbyHolder {
             case Leiden -> new LeidenStub();
             case Louvain -> new LouvainStub();
             case LongestPath -> null;
+            case ManyToManyShortestPaths -> null;
             case Modularity -> null;
             case ModularityOptimization -> new ModularityOptimizationStub();
             case NodeSimilarity -> new NodeSimilarityStub();
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.mem.MemoryEstimation;
+
+class CompactQueueMessenger implements Messenger<PrimitiveCompactDoubleQueues.Iterator> {
+
+    private final PrimitiveCompactDoubleQueues queues;
+
+    CompactQueueMessenger(Graph graph, boolean isBidirectional, Concurrency concurrency) {
+        this.queues = PrimitiveCompactDoubleQueues.of(graph, isBidirectional, concurrency);
+    }
+
+    static MemoryEstimation memoryEstimation(boolean isBidirectional) {
+        return PrimitiveCompactDoubleQueues.memoryEstimation(isBidirectional);
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        queues.swapQueues();
+    }
+
+    @Override
+    public void sendTo(long sourceNodeId, long targetNodeId, double message) {
+        queues.push(targetNodeId, message);
+    }
+
+    @Override
+    public PrimitiveCompactDoubleQueues.Iterator messageIterator() {
+        return new PrimitiveCompactDoubleQueues.Iterator();
+    }
+
+    @Override
+    public void initMessageIterator(
+        PrimitiveCompactDoubleQueues.Iterator messageIterator,
+        long nodeId,
+        boolean isFirstIteration
+    ) {
+        queues.initIterator(messageIterator, nodeId);
+    }
+
+    @Override
+    public void release() {
+        queues.release();
+    }
+}
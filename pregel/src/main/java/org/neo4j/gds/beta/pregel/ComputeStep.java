@@ -44,6 +44,8 @@ public interface ComputeStep<
 
     Partition nodeBatch();
 
+    Frontier frontier();
+
     INIT_CONTEXT initContext();
 
     COMPUTE_CONTEXT computeContext();
@@ -59,8 +61,9 @@ public interface ComputeStep<
         var initContext = initContext();
         var computeContext = computeContext();
         var voteBits = voteBits();
+        var frontier = frontier();
 
-        nodeBatch.consume(nodeId -> {
+        frontier.forEachNode(nodeBatch, nodeId -> {
             if (computeContext.isInitialSuperstep()) {
                 initContext.setNodeId(nodeId);
                 initFunction().init(initContext);
@@ -72,6 +75,9 @@ public interface ComputeStep<
                 voteBits.clear(nodeId);
                 computeContext.setNodeId(nodeId);
                 computeFunction().compute(computeContext, messages);
+                if (!voteBits.get(nodeId)) {
+                    frontier.activate(nodeId);
+                }
             }
         });
         progressTracker().logProgress(nodeBatch.nodeCount());
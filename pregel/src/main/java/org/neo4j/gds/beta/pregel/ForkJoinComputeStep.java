@@ -50,6 +50,7 @@ public final class ForkJoinComputeStep<
     private final HugeAtomicBitSet voteBits;
     private final Messenger<ITERATOR> messenger;
     private Partition nodeBatch;
+    private final Frontier frontier;
     private final MutableInt iteration;
     private final AtomicBoolean hasSentMessage;
     private final ProgressTracker progressTracker;
@@ -61,6 +62,7 @@ public final class ForkJoinComputeStep<
         Supplier<COMPUTE_CONTEXT> computeContextSupplier,
         MutableInt iteration,
         Partition nodeBatch,
+        Frontier frontier,
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
@@ -76,6 +78,7 @@ public final class ForkJoinComputeStep<
         this.iteration = iteration;
         this.voteBits = voteBits;
         this.nodeBatch = nodeBatch;
+        this.frontier = frontier;
         this.nodeValue = nodeValue;
         this.messenger = messenger;
         this.hasSentMessage = sentMessage;
@@ -105,6 +108,7 @@ public final class ForkJoinComputeStep<
                 computeContextSupplier,
                 iteration,
                 leftBatch,
+                frontier,
                 nodeValue,
                 messenger,
                 voteBits,
@@ -156,6 +160,11 @@ public final class ForkJoinComputeStep<
         return nodeBatch;
     }
 
+    @Override
+    public Frontier frontier() {
+        return frontier;
+    }
+
     @Override
     public INIT_CONTEXT initContext() {
         return initContextSupplier.get();
@@ -49,10 +49,11 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        Frontier frontier,
         ForkJoinPool forkJoinPool,
         ProgressTracker progressTracker
     ) {
-        super(graph, computation, config, nodeValues, messenger, voteBits, progressTracker);
+        super(graph, computation, config, nodeValues, messenger, voteBits, frontier, progressTracker);
         this.forkJoinPool = forkJoinPool;
     }
 
@@ -120,6 +121,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             computeContext,
             iteration,
             partition,
+            frontier,
             nodeValues,
             messenger,
             voteBits,
@@ -161,6 +163,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             computeContext,
             iteration,
             partition,
+            frontier,
             nodeValues,
             messenger,
             voteBits,
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Decides which nodes of a partition are visited in a superstep.
+ * <p>
+ * A node needs to be computed if it received messages or did not vote to halt
+ * in the previous superstep. By default, all nodes are visited and checked.
+ * The {@link Active} frontier keeps track of these nodes and allows skipping idle
+ * nodes in supersteps where only a small fraction of the graph is active.
+ */
+interface Frontier {
+
+    Frontier ALL = new All();
+
+    static Frontier create(PregelConfig config, long nodeCount) {
+        return config.useActiveFrontier()
+            ? new Active(nodeCount, Active.DEFAULT_SPARSE_THRESHOLD)
+            : ALL;
+    }
+
+    /**
+     * Called before each superstep.
+     */
+    void initIteration(int iteration);
+
+    /**
+     * Marks the node to be visited in the next superstep.
+     */
+    void activate(long nodeId);
+
+    /**
+     * Calls the consumer for every node in the partition that may need to be computed.
+     */
+    void forEachNode(Partition partition, LongConsumer consumer);
+
+    void release();
+
+    final class All implements Frontier {
+
+        private All() {}
+
+        @Override
+        public void initIteration(int iteration) {
+        }
+
+        @Override
+        public void activate(long nodeId) {
+        }
+
+        @Override
+        public void forEachNode(Partition partition, LongConsumer consumer) {
+            partition.consume(consumer);
+        }
+
+        @Override
+        public void release() {
+        }
+    }
+
+    /**
+     * Tracks the active nodes in a bit set per superstep. If the number of active
+     * nodes is below a fraction of all nodes, only the set bits are visited (sparse),
+     * otherwise all nodes of the partition are visited (dense), which avoids the
+     * overhead of searching the bit set when most nodes are active anyway.
+     */
+    final class Active implements Frontier {
+
+        static final double DEFAULT_SPARSE_THRESHOLD = 0.1;
+
+        private final long nodeCount;
+        private final double sparseThreshold;
+
+        private HugeAtomicBitSet current;
+        private HugeAtomicBitSet next;
+        private boolean isSparse;
+
+        static MemoryEstimation memoryEstimation() {
+            return MemoryEstimations.builder(Active.class)
+                .perNode("current", HugeAtomicBitSet::memoryEstimation)
+                .perNode("next", HugeAtomicBitSet::memoryEstimation)
+                .build();
+        }
+
+        Active(long nodeCount, double sparseThreshold) {
+            this.nodeCount = nodeCount;
+            this.sparseThreshold = sparseThreshold;
+            this.current = HugeAtomicBitSet.create(nodeCount);
+            this.next = HugeAtomicBitSet.create(nodeCount);
+            this.isSparse = false;
+        }
+
+        @Override
+        public void initIteration(int iteration) {
+            if (iteration > 0) {
+                var tmp = current;
+                this.current = next;
+                this.next = tmp;
+            }
+            this.next.clear();
+            // The initial superstep visits all nodes.
+            this.isSparse = iteration > 0 && current.cardinality() < sparseThreshold * nodeCount;
+        }
+
+        @Override
+        public void activate(long nodeId) {
+            // Avoid the CAS if the node has already been activated.
+            if (!next.get(nodeId)) {
+                next.set(nodeId);
+            }
+        }
+
+        @Override
+        public void forEachNode(Partition partition, LongConsumer consumer) {
+            if (!isSparse) {
+                partition.consume(consumer);
+                return;
+            }
+
+            long endNode = partition.startNode() + partition.nodeCount();
+            for (long nodeId = current.nextSetBit(partition.startNode(), endNode);
+                 nodeId != -1;
+                 nodeId = current.nextSetBit(nodeId + 1, endNode)) {
+                consumer.accept(nodeId);
+            }
+        }
+
+        boolean isSparse() {
+            return isSparse;
+        }
+
+        @Override
+        public void release() {
+            this.current = null;
+            this.next = null;
+        }
+    }
+}
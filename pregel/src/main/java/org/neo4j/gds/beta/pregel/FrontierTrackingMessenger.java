@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import java.util.OptionalLong;
+
+/**
+ * Activates the receiver of every message in the {@link Frontier}
+ * before handing the message to the actual messenger.
+ */
+final class FrontierTrackingMessenger<ITERATOR extends Messages.MessageIterator> implements Messenger<ITERATOR> {
+
+    private final Messenger<ITERATOR> messenger;
+    private final Frontier frontier;
+
+    FrontierTrackingMessenger(Messenger<ITERATOR> messenger, Frontier frontier) {
+        this.messenger = messenger;
+        this.frontier = frontier;
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        messenger.initIteration(iteration);
+    }
+
+    @Override
+    public void sendTo(long sourceNodeId, long targetNodeId, double message) {
+        frontier.activate(targetNodeId);
+        messenger.sendTo(sourceNodeId, targetNodeId, message);
+    }
+
+    @Override
+    public ITERATOR messageIterator() {
+        return messenger.messageIterator();
+    }
+
+    @Override
+    public void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration) {
+        messenger.initMessageIterator(messageIterator, nodeId, isFirstIteration);
+    }
+
+    @Override
+    public OptionalLong sender(long nodeId) {
+        return messenger.sender(nodeId);
+    }
+
+    @Override
+    public void release() {
+        messenger.release();
+    }
+}
@@ -40,6 +40,7 @@ public final class PartitionedComputeStep<
     private final COMPUTE_CONTEXT computeContext;
     private final ProgressTracker progressTracker;
     private final Partition nodeBatch;
+    private final Frontier frontier;
     private final HugeAtomicBitSet voteBits;
     private final Messenger<ITERATOR> messenger;
 
@@ -53,6 +54,7 @@ public final class PartitionedComputeStep<
         INIT_CONTEXT initContext,
         COMPUTE_CONTEXT computeContext,
         Partition nodeBatch,
+        Frontier frontier,
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
@@ -67,6 +69,7 @@ public final class PartitionedComputeStep<
         this.nodeValue = nodeValue;
         this.voteBits = voteBits;
         this.nodeBatch = nodeBatch;
+        this.frontier = frontier;
         this.messenger = messenger;
         this.progressTracker = progressTracker;
         this.iteration = iteration;
@@ -109,6 +112,11 @@ public final class PartitionedComputeStep<
         return nodeBatch;
     }
 
+    @Override
+    public Frontier frontier() {
+        return frontier;
+    }
+
     @Override
     public INIT_CONTEXT initContext() {
         return initContext;
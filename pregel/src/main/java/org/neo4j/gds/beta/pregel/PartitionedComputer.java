@@ -54,11 +54,12 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        Frontier frontier,
         Concurrency concurrency,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
-        super(graph, computation, config, nodeValues, messenger, voteBits, progressTracker);
+        super(graph, computation, config, nodeValues, messenger, voteBits, frontier, progressTracker);
         this.executorService = executorService;
         this.concurrency = concurrency;
     }
@@ -165,6 +166,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             initContext,
             computeContext,
             partition,
+            frontier,
             nodeValues,
             messenger,
             voteBits,
@@ -208,6 +210,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             initContext,
             computeContext,
             partition,
+            frontier,
             nodeValues,
             messenger,
             voteBits,
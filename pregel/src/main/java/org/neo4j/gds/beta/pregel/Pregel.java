@@ -51,6 +51,8 @@ public final class Pregel<CONFIG extends PregelConfig> {
 
     private final Messenger<?> messenger;
 
+    private final Frontier frontier;
+
     private final PregelComputer<CONFIG> computer;
 
     private final ProgressTracker progressTracker;
@@ -119,6 +121,40 @@ public final class Pregel<CONFIG extends PregelConfig> {
         boolean isQueueBased,
         boolean isAsync,
         boolean isTrackingSender
+    ) {
+        return memoryEstimation(propertiesMap, isQueueBased, isAsync, isTrackingSender, false, false, false);
+    }
+
+    /**
+     * Estimates the memory of a Pregel computation, taking the messenger
+     * and frontier options of the given configuration into account.
+     */
+    public static MemoryEstimation memoryEstimation(
+        Map<String, ValueType> propertiesMap,
+        PregelConfig config,
+        boolean isQueueBased,
+        boolean isTrackingSender,
+        boolean isBidirectional
+    ) {
+        return memoryEstimation(
+            propertiesMap,
+            isQueueBased,
+            config.isAsynchronous(),
+            isTrackingSender,
+            config.useCompactMessageQueues(),
+            isBidirectional,
+            config.useActiveFrontier()
+        );
+    }
+
+    private static MemoryEstimation memoryEstimation(
+        Map<String, ValueType> propertiesMap,
+        boolean isQueueBased,
+        boolean isAsync,
+        boolean isTrackingSender,
+        boolean useCompactQueues,
+        boolean isBidirectional,
+        boolean useActiveFrontier
     ) {
         var estimationBuilder = MemoryEstimations.builder(Pregel.class)
             .perNode("vote bits", HugeAtomicBitSet::memoryEstimation)
@@ -128,6 +164,8 @@ public final class Pregel<CONFIG extends PregelConfig> {
         if (isQueueBased) {
             if (isAsync) {
                 estimationBuilder.add("message queues", AsyncQueueMessenger.memoryEstimation());
+            } else if (useCompactQueues) {
+                estimationBuilder.add("message queues", CompactQueueMessenger.memoryEstimation(isBidirectional));
             } else {
                 estimationBuilder.add("message queues", SyncQueueMessenger.memoryEstimation());
             }
@@ -135,6 +173,10 @@ public final class Pregel<CONFIG extends PregelConfig> {
             estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation(isTrackingSender));
         }
 
+        if (useActiveFrontier) {
+            estimationBuilder.add("active frontier", Frontier.Active.memoryEstimation());
+        }
+
         return estimationBuilder.build();
     }
 
@@ -177,19 +219,34 @@ public final class Pregel<CONFIG extends PregelConfig> {
 
         var reducer = computation.reducer();
 
-        this.messenger = reducer.isPresent()
-            ? ReducingMessenger.create(graph, config, reducer.get())
-            : config.isAsynchronous()
-                ? new AsyncQueueMessenger(graph.nodeCount())
-                : new SyncQueueMessenger(graph.nodeCount());
+        Messenger<?> queueMessenger;
+        if (reducer.isPresent()) {
+            queueMessenger = ReducingMessenger.create(graph, config, reducer.get());
+        } else if (config.isAsynchronous()) {
+            queueMessenger = new AsyncQueueMessenger(graph.nodeCount());
+        } else if (config.useCompactMessageQueues()) {
+            queueMessenger = new CompactQueueMessenger(
+                graph,
+                computation instanceof BidirectionalPregelComputation,
+                config.concurrency()
+            );
+        } else {
+            queueMessenger = new SyncQueueMessenger(graph.nodeCount());
+        }
+
+        this.frontier = Frontier.create(config, graph.nodeCount());
+        this.messenger = config.useActiveFrontier()
+            ? trackFrontier(queueMessenger, frontier)
+            : queueMessenger;
 
         this.computer = PregelComputer.<CONFIG>builder()
             .graph(graph)
             .computation(computation)
             .config(config)
             .nodeValues(nodeValues)
-            .messenger(messenger)
+            .messenger(this.messenger)
             .voteBits(HugeAtomicBitSet.create(graph.nodeCount()))
+            .frontier(frontier)
             .executorService(config.useForkJoin()
                 ? ExecutorServiceUtil.createForkJoinPool(config.concurrency())
                 : executor)
@@ -214,6 +271,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
                 terminationFlag.assertRunning();
                 progressTracker.beginSubTask();
 
+                frontier.initIteration(iteration);
                 computer.initIteration(iteration);
                 messenger.initIteration(iteration);
                 computer.runIteration();
@@ -247,6 +305,14 @@ public final class Pregel<CONFIG extends PregelConfig> {
     public void release() {
         progressTracker.release();
         messenger.release();
+        frontier.release();
+    }
+
+    private static <ITERATOR extends Messages.MessageIterator> Messenger<ITERATOR> trackFrontier(
+        Messenger<ITERATOR> messenger,
+        Frontier frontier
+    ) {
+        return new FrontierTrackingMessenger<>(messenger, frontier);
     }
 
     private boolean runMasterComputeStep(int iteration) {
@@ -37,6 +37,34 @@ public interface PregelConfig extends
         return false;
     }
 
+    /**
+     * If enabled, the messages of a synchronous computation are stored in a single
+     * paged buffer with one slot per incoming relationship instead of one queue per node.
+     * This avoids allocating an array per node, which dominates garbage collection
+     * on large graphs. Computations with a {@link Reducer} are not affected.
+     */
+    default boolean useCompactMessageQueues() {
+        return false;
+    }
+
+    /**
+     * If enabled, the nodes that received messages or did not vote to halt are tracked,
+     * so that supersteps in which only a small fraction of the nodes is active only
+     * visit those nodes instead of checking every node of the graph.
+     */
+    default boolean useActiveFrontier() {
+        return false;
+    }
+
+    @Configuration.Check
+    default void validateCompactMessageQueues() {
+        if (useCompactMessageQueues() && isAsynchronous()) {
+            throw new IllegalArgumentException(
+                "Compact message queues are only supported for synchronous computations, but `isAsynchronous` is set to true."
+            );
+        }
+    }
+
     @Configuration.ConvertWith(method = "org.neo4j.gds.beta.pregel.Partitioning#parse")
     @Configuration.ToMapValue("org.neo4j.gds.beta.pregel.Partitioning#toString")
     default Partitioning partitioning() {
@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+
+import java.util.Optional;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Message queues for synchronous Pregel computations that store all messages
+ * of a superstep in a single paged double buffer instead of one array per node.
+ * <p>
+ * The buffer is laid out like a CSR adjacency list: every node owns a fixed range
+ * of slots whose size is the number of messages it receives when all nodes send
+ * to their neighbours, i.e. its in-degree (plus its out-degree for bidirectional
+ * computations). The ranges are computed once, the buffers of the current and
+ * the previous superstep are swapped in between supersteps.
+ * <p>
+ * Messages that do not fit into the range of the receiving node, e.g. messages
+ * sent via {@code sendTo} to non-neighbours, are appended to an overflow buffer.
+ * When swapping, the overflow messages are grouped by receiving node, so that
+ * they can be iterated together with the regular messages.
+ */
+public final class PrimitiveCompactDoubleQueues {
+
+    private static final int MIN_OVERFLOW_CAPACITY = 1024;
+
+    private final long nodeCount;
+    // Start of the slot range for each node, the last entry is the total capacity.
+    private final HugeLongArray offsets;
+
+    // Buffers and message counts of the current and the previous superstep.
+    // They are being toggled after each iteration.
+    private HugeDoubleArray buffer;
+    private HugeAtomicLongArray counts;
+    private HugeDoubleArray prevBuffer;
+    private HugeAtomicLongArray prevCounts;
+
+    // Messages of the current superstep that exceeded the capacity of their target.
+    private final Overflow overflow;
+    // Overflow messages of the previous superstep, grouped by target.
+    private HugeDoubleArray prevOverflow;
+    // End of the overflow range for each node, allocated on first overflow.
+    private HugeLongArray prevOverflowEnds;
+    private boolean hasPrevOverflow;
+
+    public static PrimitiveCompactDoubleQueues of(Graph graph, boolean isBidirectional, Concurrency concurrency) {
+        var inDegrees = inDegrees(graph, concurrency);
+        LongUnaryOperator capacities = isBidirectional
+            ? nodeId -> inDegrees.applyAsLong(nodeId) + graph.degree(nodeId)
+            : inDegrees;
+        return of(graph.nodeCount(), capacities);
+    }
+
+    static PrimitiveCompactDoubleQueues of(long nodeCount, LongUnaryOperator capacities) {
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        long totalCapacity = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.set(nodeId, totalCapacity);
+            totalCapacity += capacities.applyAsLong(nodeId);
+        }
+        offsets.set(nodeCount, totalCapacity);
+
+        return new PrimitiveCompactDoubleQueues(nodeCount, offsets);
+    }
+
+    public static MemoryEstimation memoryEstimation(boolean isBidirectional) {
+        // Bidirectional computations reserve a slot for every incoming and every outgoing relationship.
+        int slotsPerRelationship = isBidirectional ? 2 : 1;
+        return MemoryEstimations.builder(PrimitiveCompactDoubleQueues.class)
+            .perNode("offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perGraphDimension(
+                "current buffer",
+                (dimensions, concurrency) -> MemoryRange.of(HugeDoubleArray.memoryEstimation(slotsPerRelationship * dimensions.relCountUpperBound()))
+            )
+            .perGraphDimension(
+                "previous buffer",
+                (dimensions, concurrency) -> MemoryRange.of(HugeDoubleArray.memoryEstimation(slotsPerRelationship * dimensions.relCountUpperBound()))
+            )
+            .perNode("current counts", HugeAtomicLongArray::memoryEstimation)
+            .perNode("previous counts", HugeAtomicLongArray::memoryEstimation)
+            .build();
+    }
+
+    private PrimitiveCompactDoubleQueues(long nodeCount, HugeLongArray offsets) {
+        this.nodeCount = nodeCount;
+        this.offsets = offsets;
+        var totalCapacity = offsets.get(nodeCount);
+        this.buffer = HugeDoubleArray.newArray(totalCapacity);
+        this.prevBuffer = HugeDoubleArray.newArray(totalCapacity);
+        this.counts = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(new Concurrency(1)));
+        this.prevCounts = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(new Concurrency(1)));
+        this.overflow = new Overflow();
+        this.prevOverflow = HugeDoubleArray.newArray(0);
+        this.hasPrevOverflow = false;
+    }
+
+    public void push(long nodeId, double message) {
+        // Every message gets its own index, we only
+        // need to synchronize on the message count.
+        long idx = counts.getAndAdd(nodeId, 1);
+        long start = offsets.get(nodeId);
+        if (idx < offsets.get(nodeId + 1) - start) {
+            // Messages are only read after the superstep has finished,
+            // so a plain write to the exclusively owned slot is sufficient.
+            buffer.set(start + idx, message);
+        } else {
+            overflow.append(nodeId, message);
+        }
+    }
+
+    void swapQueues() {
+        // swap message counts
+        var tmpCounts = counts;
+        this.counts = prevCounts;
+        this.prevCounts = tmpCounts;
+        this.counts.setAll(0);
+        // swap buffers
+        var tmpBuffer = buffer;
+        this.buffer = prevBuffer;
+        this.prevBuffer = tmpBuffer;
+        // group the overflow by target
+        this.hasPrevOverflow = overflow.size > 0;
+        if (hasPrevOverflow) {
+            groupOverflow();
+        }
+    }
+
+    void initIterator(Iterator iterator, long nodeId) {
+        long start = offsets.get(nodeId);
+        long capacity = offsets.get(nodeId + 1) - start;
+        long count = prevCounts.get(nodeId);
+
+        if (count <= capacity) {
+            iterator.init(prevBuffer, start, start + count, prevOverflow, 0, 0);
+        } else {
+            long overflowEnd = prevOverflowEnds.get(nodeId);
+            iterator.init(prevBuffer, start, start + capacity, prevOverflow, overflowEnd - (count - capacity), overflowEnd);
+        }
+    }
+
+    void release() {
+        this.offsets.release();
+        this.buffer.release();
+        this.prevBuffer.release();
+        this.counts.release();
+        this.prevCounts.release();
+        this.prevOverflow.release();
+        this.overflow.release();
+        if (this.prevOverflowEnds != null) {
+            this.prevOverflowEnds.release();
+        }
+    }
+
+    @TestOnly
+    long capacity(long nodeId) {
+        return offsets.get(nodeId + 1) - offsets.get(nodeId);
+    }
+
+    @TestOnly
+    long overflowSize() {
+        return overflow.size;
+    }
+
+    private void groupOverflow() {
+        if (prevOverflowEnds == null) {
+            prevOverflowEnds = HugeLongArray.newArray(nodeCount);
+        }
+        if (prevOverflow.size() < overflow.size) {
+            prevOverflow.release();
+            prevOverflow = HugeDoubleArray.newArray(overflow.size);
+        }
+
+        // Compute the start of the overflow range for every node ...
+        long overflowOffset = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            prevOverflowEnds.set(nodeId, overflowOffset);
+            long capacity = offsets.get(nodeId + 1) - offsets.get(nodeId);
+            overflowOffset += Math.max(0, prevCounts.get(nodeId) - capacity);
+        }
+        // ... and move the start to the end while scattering the messages.
+        for (long i = 0; i < overflow.size; i++) {
+            long target = overflow.targets.get(i);
+            long position = prevOverflowEnds.get(target);
+            prevOverflow.set(position, overflow.messages.get(i));
+            prevOverflowEnds.set(target, position + 1);
+        }
+        overflow.clear();
+    }
+
+    private static LongUnaryOperator inDegrees(Graph graph, Concurrency concurrency) {
+        if (graph.characteristics().isUndirected()) {
+            return graph::degree;
+        }
+        if (graph.characteristics().isInverseIndexed()) {
+            return graph::degreeInverse;
+        }
+
+        var inDegrees = HugeAtomicLongArray.of(graph.nodeCount(), ParalleLongPageCreator.passThrough(concurrency));
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                partition.consume(nodeId -> localGraph.forEachRelationship(nodeId, (source, target) -> {
+                    inDegrees.getAndAdd(target, 1);
+                    return true;
+                }));
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(DefaultPool.INSTANCE)
+            .run();
+        return inDegrees::get;
+    }
+
+    /**
+     * Append-only storage for messages that exceed the capacity of their target.
+     * Overflowing is expected to be rare, so appending is synchronized.
+     */
+    private static final class Overflow {
+
+        private HugeLongArray targets;
+        private HugeDoubleArray messages;
+        private long size;
+
+        Overflow() {
+            this.targets = HugeLongArray.newArray(0);
+            this.messages = HugeDoubleArray.newArray(0);
+            this.size = 0;
+        }
+
+        synchronized void append(long target, double message) {
+            if (size == targets.size()) {
+                var newCapacity = Math.max(MIN_OVERFLOW_CAPACITY, size + (size >> 1));
+                targets = targets.copyOf(newCapacity);
+                messages = messages.copyOf(newCapacity);
+            }
+            targets.set(size, target);
+            messages.set(size, message);
+            size++;
+        }
+
+        void clear() {
+            this.size = 0;
+        }
+
+        void release() {
+            targets.release();
+            messages.release();
+        }
+    }
+
+    static class Iterator implements Messages.MessageIterator {
+
+        private HugeDoubleArray buffer;
+        private long pos;
+        private long end;
+        private HugeDoubleArray overflow;
+        private long overflowPos;
+        private long overflowEnd;
+        private boolean isEmpty;
+
+        void init(
+            HugeDoubleArray buffer,
+            long start,
+            long end,
+            HugeDoubleArray overflow,
+            long overflowStart,
+            long overflowEnd
+        ) {
+            this.buffer = buffer;
+            this.pos = start;
+            this.end = end;
+            this.overflow = overflow;
+            this.overflowPos = overflowStart;
+            this.overflowEnd = overflowEnd;
+            this.isEmpty = start == end && overflowStart == overflowEnd;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pos < end || overflowPos < overflowEnd;
+        }
+
+        @Override
+        public double nextDouble() {
+            return pos < end
+                ? buffer.get(pos++)
+                : overflow.get(overflowPos++);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return isEmpty;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.partition.Partition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrontierTest {
+
+    @Test
+    void visitsAllNodesInInitialSuperstep() {
+        var frontier = new Frontier.Active(100, 0.1);
+
+        frontier.initIteration(0);
+
+        assertThat(frontier.isSparse()).isFalse();
+        assertThat(visitedNodes(frontier, Partition.of(10, 5))).containsExactly(10L, 11L, 12L, 13L, 14L);
+    }
+
+    @Test
+    void visitsOnlyActiveNodesIfFrontierIsSparse() {
+        var frontier = new Frontier.Active(100, 0.1);
+        frontier.initIteration(0);
+        frontier.activate(3);
+        frontier.activate(42);
+        frontier.activate(42);
+        frontier.activate(99);
+
+        frontier.initIteration(1);
+
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(visitedNodes(frontier, Partition.of(0, 100))).containsExactly(3L, 42L, 99L);
+        assertThat(visitedNodes(frontier, Partition.of(4, 50))).containsExactly(42L);
+        assertThat(visitedNodes(frontier, Partition.of(43, 56))).isEmpty();
+
+        frontier.initIteration(2);
+
+        assertThat(visitedNodes(frontier, Partition.of(0, 100))).isEmpty();
+    }
+
+    @Test
+    void visitsAllNodesIfFrontierIsDense() {
+        var frontier = new Frontier.Active(100, 0.1);
+        frontier.initIteration(0);
+        for (int nodeId = 0; nodeId < 100; nodeId += 5) {
+            frontier.activate(nodeId);
+        }
+
+        frontier.initIteration(1);
+
+        assertThat(frontier.isSparse()).isFalse();
+        assertThat(visitedNodes(frontier, Partition.of(0, 100))).hasSize(100);
+    }
+
+    private static List<Long> visitedNodes(Frontier frontier, Partition partition) {
+        var nodes = new ArrayList<Long>();
+        frontier.forEachNode(partition, nodes::add);
+        return nodes;
+    }
+}
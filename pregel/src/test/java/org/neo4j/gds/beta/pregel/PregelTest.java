@@ -46,6 +46,7 @@ import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.logging.LoggerForProgressTrackingAdapter;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.TaskRegistry;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -57,6 +58,7 @@ import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
 import org.neo4j.gds.logging.GdsTestLog;
 import org.neo4j.gds.logging.Log;
+import org.neo4j.gds.mem.Estimate;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.mem.MemoryRange;
 import org.neo4j.gds.termination.TerminationFlag;
@@ -607,6 +609,129 @@ class PregelTest {
         );
     }
 
+    @Test
+    void compactQueuesRequireLessMemoryThanQueuesPerNode() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(10_000)
+            .relCountUpperBound(100_000)
+            .build();
+        var propertiesMap = new PregelSchema.Builder().add("key", ValueType.LONG).build().propertiesMap();
+
+        var queuesPerNode = Pregel
+            .memoryEstimation(propertiesMap, PregelConfigImpl.builder().build(), true, false, false)
+            .estimate(dimensions, new Concurrency(1))
+            .memoryUsage().max;
+        var compactQueues = Pregel
+            .memoryEstimation(
+                propertiesMap,
+                PregelConfigImpl.builder().useCompactMessageQueues(true).build(),
+                true,
+                false,
+                false
+            )
+            .estimate(dimensions, new Concurrency(1))
+            .memoryUsage().max;
+
+        assertThat(compactQueues).isLessThan(queuesPerNode);
+    }
+
+    @Test
+    void compactQueuesOfBidirectionalComputationsHoldIncomingAndOutgoingMessages() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(10_000)
+            .relCountUpperBound(100_000)
+            .build();
+        var propertiesMap = new PregelSchema.Builder().add("key", ValueType.LONG).build().propertiesMap();
+        var config = PregelConfigImpl.builder().useCompactMessageQueues(true).build();
+
+        var directed = Pregel
+            .memoryEstimation(propertiesMap, config, true, false, false)
+            .estimate(dimensions, new Concurrency(1))
+            .memoryUsage().max;
+        var bidirectional = Pregel
+            .memoryEstimation(propertiesMap, config, true, false, true)
+            .estimate(dimensions, new Concurrency(1))
+            .memoryUsage().max;
+
+        // two additional buffers (current and previous superstep) with one slot per relationship
+        assertThat(bidirectional - directed).isEqualTo(2 * (
+            HugeDoubleArray.memoryEstimation(2 * dimensions.relCountUpperBound())
+            - HugeDoubleArray.memoryEstimation(dimensions.relCountUpperBound())
+        ));
+    }
+
+    @Test
+    void activeFrontierEstimatesTwoBitSets() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(10_000)
+            .relCountUpperBound(100_000)
+            .build();
+        var propertiesMap = new PregelSchema.Builder().add("key", ValueType.LONG).build().propertiesMap();
+
+        var withoutFrontier = Pregel
+            .memoryEstimation(propertiesMap, PregelConfigImpl.builder().build(), false, false, false)
+            .estimate(dimensions, new Concurrency(1))
+            .memoryUsage().max;
+        var withFrontier = Pregel
+            .memoryEstimation(
+                propertiesMap,
+                PregelConfigImpl.builder().useActiveFrontier(true).build(),
+                false,
+                false,
+                false
+            )
+            .estimate(dimensions, new Concurrency(1))
+            .memoryUsage().max;
+
+        assertThat(withFrontier - withoutFrontier).isEqualTo(
+            Estimate.sizeOfInstance(Frontier.Active.class) + 2 * HugeAtomicBitSet.memoryEstimation(dimensions.nodeCount())
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void activeFrontierComputesSameResult(Partitioning partitioning) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var allNodes = PregelConfigImpl.builder()
+            .maxIterations(100)
+            .partitioning(partitioning)
+            .concurrency(4)
+            .build();
+        var activeFrontier = PregelConfigImpl.builder()
+            .maxIterations(100)
+            .partitioning(partitioning)
+            .concurrency(4)
+            .useActiveFrontier(true)
+            .build();
+
+        var expected = runHopDistance(graph, allNodes);
+        var actual = runHopDistance(graph, activeFrontier);
+
+        assertThat(actual.ranIterations()).isEqualTo(expected.ranIterations());
+        assertArrayEquals(
+            expected.nodeValues().doubleProperties(KEY).toArray(),
+            actual.nodeValues().doubleProperties(KEY).toArray()
+        );
+    }
+
+    private static PregelResult runHopDistance(Graph graph, PregelConfig config) {
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestHopDistanceComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+        return pregelJob.run();
+    }
+
     static Stream<Arguments> partitioningConfigAndResult() {
         return crossArguments(PregelTest::partitionings, PregelTest::configAndResult);
     }
@@ -632,6 +757,26 @@ class PregelTest {
                 PregelConfigImpl.builder().maxIterations(2),
                 new TestReduciblePregelComputation(),
                 new double[]{0.0, 1.0, 1.0}
+            ),
+            Arguments.of(
+                PregelConfigImpl.builder().maxIterations(2).useCompactMessageQueues(true),
+                new TestPregelComputation(),
+                new double[]{0.0, 1.0, 1.0}
+            ),
+            Arguments.of(
+                PregelConfigImpl.builder().maxIterations(2).relationshipWeightProperty("prop").useCompactMessageQueues(true),
+                new TestWeightComputation(),
+                new double[]{0.0, 2.0, 1.0}
+            ),
+            Arguments.of(
+                PregelConfigImpl.builder().maxIterations(2).useActiveFrontier(true),
+                new TestPregelComputation(),
+                new double[]{0.0, 1.0, 1.0}
+            ),
+            Arguments.of(
+                PregelConfigImpl.builder().maxIterations(2).useActiveFrontier(true),
+                new TestReduciblePregelComputation(),
+                new double[]{0.0, 1.0, 1.0}
             )
         );
     }
@@ -669,6 +814,18 @@ class PregelTest {
         ));
     }
 
+    @Test
+    void rejectsCompactMessageQueuesForAsynchronousComputations() {
+        assertThatThrownBy(() -> PregelConfigImpl.builder()
+            .maxIterations(2)
+            .isAsynchronous(true)
+            .useCompactMessageQueues(true)
+            .build()
+        )
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("only supported for synchronous computations");
+    }
+
     static Stream<Arguments> partitioningAndAsynchronous() {
         return crossArguments(PregelTest::partitionings, TestSupport::trueFalseArguments);
     }
@@ -747,6 +904,33 @@ class PregelTest {
         }
     }
 
+    public static class TestHopDistanceComputation extends TestPregelComputation {
+
+        @Override
+        public void init(InitContext<PregelConfig> context) {
+            context.setNodeValue(KEY, context.nodeId() == 0 ? 0 : Double.MAX_VALUE);
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                if (context.nodeId() == 0) {
+                    context.sendToNeighbors(1);
+                }
+            } else {
+                var distance = context.doubleNodeValue(KEY);
+                for (var message : messages) {
+                    distance = Math.min(distance, message);
+                }
+                if (distance < context.doubleNodeValue(KEY)) {
+                    context.setNodeValue(KEY, distance);
+                    context.sendToNeighbors(distance + 1);
+                }
+            }
+            context.voteToHalt();
+        }
+    }
+
     public static class TestSendTo implements PregelComputation<PregelConfig> {
 
         static final String KEY = "value";
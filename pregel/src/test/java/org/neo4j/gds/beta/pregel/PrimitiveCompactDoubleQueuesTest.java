@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class PrimitiveCompactDoubleQueuesTest {
+
+    @GdlGraph
+    private static final String GRAPH =
+        "CREATE" +
+        "  (a)" +
+        ", (b)" +
+        ", (c)" +
+        ", (a)-[:REL]->(b)" +
+        ", (a)-[:REL]->(c)" +
+        ", (b)-[:REL]->(c)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Test
+    void capacitiesAreInDegrees() {
+        var queues = PrimitiveCompactDoubleQueues.of(graph, false, new Concurrency(1));
+
+        assertThat(queues.capacity(graph.toMappedNodeId("a"))).isEqualTo(0);
+        assertThat(queues.capacity(graph.toMappedNodeId("b"))).isEqualTo(1);
+        assertThat(queues.capacity(graph.toMappedNodeId("c"))).isEqualTo(2);
+    }
+
+    @Test
+    void capacitiesIncludeOutDegreesForBidirectionalComputations() {
+        var queues = PrimitiveCompactDoubleQueues.of(graph, true, new Concurrency(1));
+
+        assertThat(queues.capacity(graph.toMappedNodeId("a"))).isEqualTo(2);
+        assertThat(queues.capacity(graph.toMappedNodeId("b"))).isEqualTo(2);
+        assertThat(queues.capacity(graph.toMappedNodeId("c"))).isEqualTo(2);
+    }
+
+    @Test
+    void iterate() {
+        var queues = PrimitiveCompactDoubleQueues.of(3, nodeId -> 2);
+
+        queues.push(0, 1.0);
+        queues.push(0, 2.0);
+        queues.push(2, 3.0);
+        queues.swapQueues();
+
+        assertThat(messages(queues, 0)).containsExactly(1.0, 2.0);
+        assertThat(messages(queues, 1)).isEmpty();
+        assertThat(messages(queues, 2)).containsExactly(3.0);
+    }
+
+    @Test
+    void iterateOverflow() {
+        var queues = PrimitiveCompactDoubleQueues.of(3, nodeId -> 1);
+
+        for (int i = 0; i < 5; i++) {
+            queues.push(1, i);
+            queues.push(2, 10 * i);
+        }
+        queues.push(0, 42);
+        assertThat(queues.overflowSize()).isEqualTo(8);
+
+        queues.swapQueues();
+
+        assertThat(queues.overflowSize()).isEqualTo(0);
+        assertThat(messages(queues, 0)).containsExactly(42.0);
+        assertThat(messages(queues, 1)).containsExactly(0.0, 1.0, 2.0, 3.0, 4.0);
+        assertThat(messages(queues, 2)).containsExactly(0.0, 10.0, 20.0, 30.0, 40.0);
+    }
+
+    @Test
+    void iterateWithoutCapacity() {
+        var queues = PrimitiveCompactDoubleQueues.of(2, nodeId -> 0);
+
+        queues.push(1, 1.0);
+        queues.push(1, 2.0);
+        queues.swapQueues();
+
+        assertThat(messages(queues, 0)).isEmpty();
+        assertThat(messages(queues, 1)).containsExactly(1.0, 2.0);
+    }
+
+    @Test
+    void swapQueues() {
+        var queues = PrimitiveCompactDoubleQueues.of(1, nodeId -> 42);
+
+        for (int iteration = 0; iteration < 10; iteration++) {
+            for (int i = 0; i < 2 * 42; i++) {
+                queues.push(0, i * iteration);
+            }
+            queues.swapQueues();
+
+            var expectedSum = IntStream.range(0, 2 * 42).sum() * iteration;
+            var actualSum = messages(queues, 0).stream().mapToDouble(Double::doubleValue).sum();
+            assertThat(actualSum).isEqualTo(expectedSum);
+        }
+
+        queues.swapQueues();
+        assertThat(messages(queues, 0)).isEmpty();
+    }
+
+    @Test
+    void pushConcurrently() {
+        var nodeCount = 100;
+        var queues = PrimitiveCompactDoubleQueues.of(nodeCount, nodeId -> nodeId % 10);
+
+        IntStream.range(0, 1000).parallel().forEach(i -> queues.push(i % nodeCount, i));
+        queues.swapQueues();
+
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var finalNodeId = nodeId;
+            assertThat(messages(queues, nodeId))
+                .hasSize(10)
+                .allSatisfy(message -> assertThat(message.intValue() % nodeCount).isEqualTo(finalNodeId));
+        }
+    }
+
+    private static List<Double> messages(PrimitiveCompactDoubleQueues queues, long nodeId) {
+        var iterator = new PrimitiveCompactDoubleQueues.Iterator();
+        queues.initIterator(iterator, nodeId);
+        var messages = new ArrayList<Double>();
+        while (iterator.hasNext()) {
+            messages.add(iterator.nextDouble());
+        }
+        return messages;
+    }
+}
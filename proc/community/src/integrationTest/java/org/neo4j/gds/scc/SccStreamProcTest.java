@@ -131,4 +131,30 @@ class SccStreamProcTest extends BaseProcTest {
         assertThat(components).containsExactly(0L, 1L, 2L);
 
     }
+
+    @Test
+    void shouldStreamWithColoringMethod() {
+        String query = GdsCypher
+            .call(DEFAULT_GRAPH_NAME)
+            .algo("gds.scc")
+            .streamMode()
+            .addParameter("method", "coloring")
+            .addParameter("concurrency", 4)
+            .yields();
+
+        final IntIntScatterMap testMap = new IntIntScatterMap();
+        var rowCount = runQueryWithRowConsumer(query, row ->
+            testMap.put(row.getNumber("nodeId").intValue(), row.getNumber("componentId").intValue())
+        );
+
+        Function<String, Integer> community = node -> testMap.get((int) idFunction.of(node));
+
+        assertThat(rowCount).isEqualTo(9L);
+        assertThat(community.apply("a")).isEqualTo(community.apply("b")).isEqualTo(community.apply("c"));
+        assertThat(community.apply("d")).isEqualTo(community.apply("e")).isEqualTo(community.apply("f"));
+        assertThat(community.apply("g")).isEqualTo(community.apply("h")).isEqualTo(community.apply("i"));
+        assertThat(community.apply("a")).isNotEqualTo(community.apply("d"));
+        assertThat(community.apply("d")).isNotEqualTo(community.apply("g"));
+        assertThat(community.apply("a")).isNotEqualTo(community.apply("g"));
+    }
 }
@@ -29,9 +29,13 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.BaseProcTest;
 import org.neo4j.gds.GdsCypher;
 import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.catalog.GraphProjectProc;
 import org.neo4j.gds.catalog.GraphWriteNodePropertiesProc;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.Neo4jGraph;
@@ -39,6 +43,7 @@ import org.neo4j.gds.extension.Neo4jGraph;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
@@ -131,6 +136,65 @@ class WccStreamProcTest extends BaseProcTest {
 
     }
 
+    @Test
+    void testStreamWithComponentIndex() {
+        var projectQuery = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .graphProject()
+            .loadEverything(Orientation.NATURAL)
+            .yields();
+        runQuery(projectQuery);
+        String query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("wcc")
+            .streamMode()
+            .addParameter("componentIndex", true)
+            .yields("nodeId", "componentId");
+
+        Map<Long, Long> communities = new HashMap<>();
+        runQueryWithRowConsumer(query, row -> communities.put(
+            row.getNumber("nodeId").longValue(),
+            row.getNumber("componentId").longValue()
+        ));
+        assertThat(communities.values().stream().distinct()).hasSize(3);
+
+        var graphStore = GraphStoreCatalog
+            .get(TEST_USERNAME, DatabaseId.of(db.databaseName()), DEFAULT_GRAPH_NAME)
+            .graphStore();
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(graphStore.nodes())
+            .relationshipType(RelationshipType.of("ADDED"))
+            .orientation(Orientation.NATURAL)
+            .executorService(DefaultPool.INSTANCE)
+            .build();
+        relationshipsBuilder.add(idFunction.of("nI"), idFunction.of("nJ"));
+        graphStore.addRelationshipType(relationshipsBuilder.build());
+
+        communities.clear();
+        runQueryWithRowConsumer(query, row -> communities.put(
+            row.getNumber("nodeId").longValue(),
+            row.getNumber("componentId").longValue()
+        ));
+        assertThat(communities.values().stream().distinct()).hasSize(2);
+        assertThat(communities.get(idFunction.of("nJ"))).isEqualTo(communities.get(idFunction.of("nH")));
+        assertThat(communities.get(idFunction.of("nJ"))).isNotEqualTo(communities.get(idFunction.of("nA")));
+    }
+
+    @Test
+    void shouldFailWithComponentIndexOnFilteredGraph() {
+        var projectQuery = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .graphProject()
+            .loadEverything(Orientation.NATURAL)
+            .yields();
+        runQuery(projectQuery);
+        String query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("wcc")
+            .streamMode()
+            .addParameter("componentIndex", true)
+            .addParameter("nodeLabels", List.of("Label"))
+            .yields("nodeId", "componentId");
+
+        assertError(query, "all node labels and relationship types must be selected");
+    }
+
     @Test
     void testStreamRunsOnLoadedGraphWithNodeLabelFilter() {
         clearDb();
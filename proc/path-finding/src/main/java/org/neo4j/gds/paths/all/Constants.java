@@ -21,6 +21,7 @@ package org.neo4j.gds.paths.all;
 
 final class Constants {
     static final String ALL_PAIRS_SHORTEST_PATH_DESCRIPTION = "The All Pairs Shortest Path (APSP) calculates the shortest (weighted) path between all pairs of nodes.";
+    static final String MANY_TO_MANY_SHORTEST_PATH_DESCRIPTION = "The Many-to-Many Shortest Path algorithm calculates the shortest (weighted) path distances between every source and every target node.";
 
     private Constants() {}
 }
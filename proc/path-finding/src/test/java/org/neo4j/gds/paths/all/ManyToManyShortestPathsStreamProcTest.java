@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.all;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.greaterThan;
+
+final class ManyToManyShortestPathsStreamProcTest extends BaseProcTest {
+
+    @Neo4jGraph(offsetIds = true)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (s:Node {name: 's'})" +
+        ", (a:Node {name: 'a'})" +
+        ", (b:Node {name: 'b'})" +
+        ", (c:Node {name: 'c'})" +
+        ", (x:Node {name: 'x'})" +
+        ", (z:Node {name: 'z'})" +
+        ", (s)-[:TYPE {cost: 5}]->(a)" +
+        ", (a)-[:TYPE {cost: 5}]->(b)" +
+        ", (b)-[:TYPE {cost: 5}]->(c)" +
+        ", (c)-[:TYPE {cost: 5}]->(x)" +
+        ", (s)-[:TYPE {cost: 2}]->(x)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(ManyToManyShortestPathsStreamProc.class, GraphProjectProc.class);
+
+        runQuery(GdsCypher
+            .call(DEFAULT_GRAPH_NAME)
+            .graphProject()
+            .withRelationshipProperty("cost")
+            .loadEverything()
+            .yields());
+    }
+
+    @Test
+    void shouldStreamDistanceMatrix() {
+        var query = GdsCypher
+            .call(DEFAULT_GRAPH_NAME)
+            .algo("gds.allShortestPaths.manyToMany")
+            .streamMode()
+            .addParameter("sourceNodes", List.of(idFunction.of("s"), idFunction.of("a")))
+            .addParameter("targetNodes", List.of(idFunction.of("x"), idFunction.of("c"), idFunction.of("z")))
+            .addParameter("relationshipWeightProperty", "cost")
+            .yields("sourceNodeId", "targetNodeId", "distance");
+
+        assertCypherResult(query, List.of(
+            Map.of("sourceNodeId", idFunction.of("s"), "targetNodeId", idFunction.of("x"), "distance", 2.0),
+            Map.of("sourceNodeId", idFunction.of("s"), "targetNodeId", idFunction.of("c"), "distance", 15.0),
+            Map.of("sourceNodeId", idFunction.of("s"), "targetNodeId", idFunction.of("z"), "distance", Double.POSITIVE_INFINITY),
+            Map.of("sourceNodeId", idFunction.of("a"), "targetNodeId", idFunction.of("x"), "distance", 15.0),
+            Map.of("sourceNodeId", idFunction.of("a"), "targetNodeId", idFunction.of("c"), "distance", 10.0),
+            Map.of("sourceNodeId", idFunction.of("a"), "targetNodeId", idFunction.of("z"), "distance", Double.POSITIVE_INFINITY)
+        ));
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        var query = GdsCypher
+            .call(DEFAULT_GRAPH_NAME)
+            .algo("gds.allShortestPaths.manyToMany")
+            .estimationMode(GdsCypher.ExecutionModes.STREAM)
+            .addParameter("sourceNodes", List.of(idFunction.of("s"), idFunction.of("a")))
+            .addParameter("targetNodes", List.of(idFunction.of("x")))
+            .yields("bytesMin", "bytesMax", "nodeCount", "relationshipCount");
+
+        assertCypherResult(query, List.of(Map.of(
+            "bytesMin", greaterThan(0L),
+            "bytesMax", greaterThan(0L),
+            "nodeCount", 6L,
+            "relationshipCount", 5L
+        )));
+    }
+
+    @Test
+    void shouldFailWithoutTargetNodes() {
+        var query = GdsCypher
+            .call(DEFAULT_GRAPH_NAME)
+            .algo("gds.allShortestPaths.manyToMany")
+            .streamMode()
+            .addParameter("sourceNodes", List.of(idFunction.of("s")))
+            .yields();
+
+        assertError(query, "The `targetNodes` parameter must contain at least one node.");
+    }
+}
@@ -21,6 +21,9 @@ package org.neo4j.gds.paths.sourcetarget;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.BaseProcTest;
 import org.neo4j.gds.GdsCypher;
 import org.neo4j.gds.TestLogProvider;
@@ -40,8 +43,10 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.neo4j.gds.compat.GraphDatabaseApiProxy.runInFullAccessTransaction;
 import static org.neo4j.gds.compat.GraphDatabaseApiProxy.runQueryWithoutClosingTheResult;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -97,6 +102,10 @@ class ShortestPathDijkstraStreamProcTest extends BaseProcTest {
             .withAnyRelationshipType()
             .withRelationshipProperty("cost")
             .yields());
+
+        runQuery(
+            "CALL gds.graph.project('inverseGraph', 'Label', {TYPE: {properties: 'cost', indexInverse: true}})"
+        );
     }
 
     @Override
@@ -158,4 +167,76 @@ class ShortestPathDijkstraStreamProcTest extends BaseProcTest {
         assertThat(messages.get(messages.size() - 1)).contains(":: Finished");
     }
 
+    static Stream<Arguments> searchVariants() {
+        return Stream.of(
+            arguments(Map.of("bidirectional", true)),
+            arguments(Map.of("maxIntegerWeight", 11)),
+            arguments(Map.of("bidirectional", true, "maxIntegerWeight", 11))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("searchVariants")
+    void shouldFindSamePathWithSearchVariants(Map<String, Object> searchConfig) {
+        var query = GdsCypher.call("inverseGraph")
+            .algo("gds.shortestPath.dijkstra")
+            .streamMode()
+            .addParameter("sourceNode", idA)
+            .addParameter("targetNode", idF)
+            .addParameter("relationshipWeightProperty", "cost")
+            .addAllParameters(searchConfig)
+            .yields("totalCost", "nodeIds", "costs");
+
+        assertCypherResult(query, List.of(Map.of(
+            "totalCost", 20.0D,
+            "costs", Arrays.stream(costs0).boxed().collect(Collectors.toList()),
+            "nodeIds", Arrays.stream(ids0).boxed().collect(Collectors.toList())
+        )));
+    }
+
+    @Test
+    void shouldRequireInverseIndexForBidirectionalSearch() {
+        var query = GdsCypher.call("graph")
+            .algo("gds.shortestPath.dijkstra")
+            .streamMode()
+            .addParameter("sourceNode", idA)
+            .addParameter("targetNode", idF)
+            .addParameter("bidirectional", true)
+            .yields();
+
+        assertError(query, "inverse indexed");
+    }
+
+    @Test
+    void shouldRejectBidirectionalSearchWithManyTargets() {
+        var query = GdsCypher.call("inverseGraph")
+            .algo("gds.shortestPath.dijkstra")
+            .streamMode()
+            .addParameter("sourceNode", idA)
+            .addParameter("targetNodes", List.of(idD, idF))
+            .addParameter("bidirectional", true)
+            .yields();
+
+        assertError(query, "The `bidirectional` parameter can only be used with a single target node");
+    }
+
+    @Test
+    void shouldEstimateBidirectionalSearch() {
+        var query = "CALL gds.shortestPath.dijkstra.stream.estimate('inverseGraph', $config) YIELD bytesMin";
+        var baseConfig = Map.<String, Object>of("sourceNode", idA, "targetNode", idF);
+        var bidirectionalConfig = Map.<String, Object>of("sourceNode", idA, "targetNode", idF, "bidirectional", true);
+
+        var unidirectionalBytes = runQuery(
+            query,
+            Map.of("config", baseConfig),
+            result -> (long) result.next().get("bytesMin")
+        );
+        var bidirectionalBytes = runQuery(
+            query,
+            Map.of("config", bidirectionalConfig),
+            result -> (long) result.next().get("bytesMin")
+        );
+
+        assertThat(bidirectionalBytes).isGreaterThan(unidirectionalBytes);
+    }
 }
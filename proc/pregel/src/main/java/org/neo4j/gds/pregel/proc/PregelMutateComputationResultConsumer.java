@@ -63,7 +63,8 @@ public class PregelMutateComputationResultConsumer<
                             computationResult.graph(),
                             computationResult.graphStore(),
                             config.nodeLabelIdentifiers(computationResult.graphStore()),
-                            nodePropertyList
+                            nodePropertyList,
+                            config.offHeapNodeProperties()
                         );
                         nodePropertiesWritten.set(nodePropsWritten.value());
                     }
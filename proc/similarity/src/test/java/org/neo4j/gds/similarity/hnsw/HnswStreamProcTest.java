@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+class HnswStreamProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Item {vector: [1.0, 0.0]})" +
+        ", (b:Item {vector: [0.9, 0.1]})" +
+        ", (c:Item {vector: [0.0, 1.0]})" +
+        ", (d:Item {vector: [0.1, 0.9]})" +
+        ", (e:Other {vector: [1.0, 0.05]})";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(HnswStreamProc.class, GraphProjectProc.class);
+
+        runQuery(GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .graphProject()
+            .withNodeLabel("Item")
+            .withNodeLabel("Other")
+            .withNodeProperty("vector")
+            .withAnyRelationshipType()
+            .yields());
+    }
+
+    @Test
+    void shouldStreamMostSimilarNodes() {
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.hnsw")
+            .streamMode()
+            .addParameter("nodeProperty", "vector")
+            .addParameter("queryVector", List.of(1.0, 0.0))
+            .addParameter("topK", 2)
+            .yields("nodeId", "similarity");
+
+        assertCypherResult(query, List.of(
+            Map.of("nodeId", idFunction.of("a"), "similarity", closeTo(1.0, 1e-6)),
+            Map.of("nodeId", idFunction.of("e"), "similarity", closeTo(0.99938, 1e-5))
+        ));
+    }
+
+    @Test
+    void shouldOnlyReturnNodesOfTheSelectedLabels() {
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.hnsw")
+            .streamMode()
+            .addParameter("nodeLabels", List.of("Item"))
+            .addParameter("nodeProperty", "vector")
+            .addParameter("queryVector", List.of(1.0, 0.0))
+            .addParameter("topK", 2)
+            .yields("nodeId");
+
+        assertCypherResult(query, List.of(
+            Map.of("nodeId", idFunction.of("a")),
+            Map.of("nodeId", idFunction.of("b"))
+        ));
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.hnsw")
+            .estimationMode(GdsCypher.ExecutionModes.STREAM)
+            .addParameter("nodeProperty", "vector")
+            .addParameter("queryVector", List.of(1.0, 0.0))
+            .yields("bytesMin", "bytesMax", "nodeCount");
+
+        assertCypherResult(query, List.of(Map.of(
+            "bytesMin", greaterThan(0L),
+            "bytesMax", greaterThan(0L),
+            "nodeCount", 5L
+        )));
+    }
+
+    @Test
+    void shouldFailOnMissingProperty() {
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.hnsw")
+            .streamMode()
+            .addParameter("nodeProperty", "missing")
+            .addParameter("queryVector", List.of(1.0, 0.0))
+            .yields();
+
+        assertError(query, "The property `missing` has not been loaded.");
+    }
+}
@@ -55,7 +55,7 @@ public class LocalHitsMutateStub implements HitsMutateStub {
         return genericStub.getMemoryEstimation(
             configuration,
             HitsConfig::of,
-            __ -> estimationModeBusinessFacade.hits()
+            estimationModeBusinessFacade::hits
         );
     }
 
@@ -65,7 +65,7 @@ public class LocalHitsMutateStub implements HitsMutateStub {
             graphName,
             configuration,
             HitsConfig::of,
-            __ -> estimationModeBusinessFacade.hits()
+            estimationModeBusinessFacade::hits
         );
     }
 
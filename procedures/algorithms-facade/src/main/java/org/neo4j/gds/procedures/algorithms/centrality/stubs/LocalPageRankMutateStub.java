@@ -67,7 +67,7 @@ public class LocalPageRankMutateStub<C extends RankConfig & MutateNodePropertyCo
         return genericStub.getMemoryEstimation(
             configuration,
             configProducer,
-            __ -> estimationModeBusinessFacade.pageRank()
+            estimationModeBusinessFacade::pageRank
         );
     }
 
@@ -77,7 +77,7 @@ public class LocalPageRankMutateStub<C extends RankConfig & MutateNodePropertyCo
             graphName,
             configuration,
             configProducer,
-            __ -> estimationModeBusinessFacade.pageRank()
+            estimationModeBusinessFacade::pageRank
         );
     }
 
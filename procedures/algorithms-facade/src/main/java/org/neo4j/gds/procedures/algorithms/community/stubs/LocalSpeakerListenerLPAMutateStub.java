@@ -55,7 +55,7 @@ public class LocalSpeakerListenerLPAMutateStub implements SpeakerListenerLPAMuta
         return genericStub.getMemoryEstimation(
             configuration,
             SpeakerListenerLPAConfig::of,
-            __ -> estimationModeBusinessFacade.speakerListenerLPA()
+            estimationModeBusinessFacade::speakerListenerLPA
         );
     }
 
@@ -65,7 +65,7 @@ public class LocalSpeakerListenerLPAMutateStub implements SpeakerListenerLPAMuta
             graphName,
             configuration,
             SpeakerListenerLPAConfig::of,
-            __ -> estimationModeBusinessFacade.speakerListenerLPA()
+            estimationModeBusinessFacade::speakerListenerLPA
         );
     }
 
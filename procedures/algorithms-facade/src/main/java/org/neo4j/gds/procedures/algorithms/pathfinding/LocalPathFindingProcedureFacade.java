@@ -21,6 +21,8 @@ package org.neo4j.gds.procedures.algorithms.pathfinding;
 
 import org.neo4j.gds.allshortestpaths.AllShortestPathsConfig;
 import org.neo4j.gds.allshortestpaths.AllShortestPathsStreamResult;
+import org.neo4j.gds.allshortestpaths.DistanceMatrix;
+import org.neo4j.gds.allshortestpaths.ManyToManyShortestPathsConfig;
 import org.neo4j.gds.api.CloseableResourceRegistry;
 import org.neo4j.gds.api.GraphName;
 import org.neo4j.gds.api.NodeLookup;
@@ -608,6 +610,34 @@ public final class LocalPathFindingProcedureFacade implements PathFindingProcedu
         );
     }
 
+    @Override
+    public Stream<AllShortestPathsStreamResult> manyToManyShortestPathsStream(
+        String graphName,
+        Map<String, Object> configuration
+    ) {
+        return streamModeBusinessFacade.manyToManyShortestPaths(
+            GraphName.parse(graphName),
+            configurationParser.parseConfiguration(configuration, ManyToManyShortestPathsConfig::of),
+            (g, gs, result) -> result.map(DistanceMatrix::stream).orElse(Stream.empty())
+        );
+    }
+
+    @Override
+    public Stream<MemoryEstimateResult> manyToManyShortestPathsStreamEstimate(
+        Object graphNameOrConfiguration,
+        Map<String, Object> algorithmConfiguration
+    ) {
+        var parsedConfiguration = configurationParser.parseConfiguration(
+            algorithmConfiguration,
+            ManyToManyShortestPathsConfig::of
+        );
+
+        return Stream.of(estimationModeBusinessFacade.manyToManyShortestPaths(
+            parsedConfiguration,
+            graphNameOrConfiguration
+        ));
+    }
+
     @Override
     public Stream<SpanningTreeStreamResult> prizeCollectingSteinerTreeStream(
         String graphName,
@@ -55,7 +55,7 @@ public class LocalSpanningTreeMutateStub implements
         return genericStub.getMemoryEstimation(
             configuration,
             SpanningTreeMutateConfig::of,
-            __ -> estimationModeBusinessFacade.spanningTree()
+            config -> estimationModeBusinessFacade.spanningTree(config.method())
         );
     }
 
@@ -65,7 +65,7 @@ public class LocalSpanningTreeMutateStub implements
             graphName,
             configuration,
             SpanningTreeMutateConfig::of,
-            __ -> estimationModeBusinessFacade.spanningTree()
+            config -> estimationModeBusinessFacade.spanningTree(config.method())
         );
     }
 
@@ -40,6 +40,7 @@ import org.neo4j.gds.similarity.filteredknn.FilteredKnnWriteConfig;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityStatsConfig;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityStreamConfig;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityWriteConfig;
+import org.neo4j.gds.similarity.hnsw.HnswStreamConfig;
 import org.neo4j.gds.similarity.knn.KnnStatsConfig;
 import org.neo4j.gds.similarity.knn.KnnStreamConfig;
 import org.neo4j.gds.similarity.knn.KnnWriteConfig;
@@ -345,6 +346,34 @@ public final class LocalSimilarityProcedureFacade implements SimilarityProcedure
         return Stream.of(result);
     }
 
+    @Override
+    public Stream<HnswStreamResult> hnswStream(
+        String graphName,
+        Map<String, Object> configuration
+    ) {
+        return streamModeBusinessFacade.hnsw(
+            GraphName.parse(graphName),
+            configurationParser.parseConfiguration(configuration, HnswStreamConfig::of),
+            (graph, graphStore, result) -> result
+                .map(neighbors -> neighbors.stream()
+                    .map(neighbor -> new HnswStreamResult(neighbor.nodeId(), neighbor.similarity())))
+                .orElse(Stream.empty())
+        );
+    }
+
+    @Override
+    public Stream<MemoryEstimateResult> hnswStreamEstimate(
+        Object graphNameOrConfiguration,
+        Map<String, Object> algorithmConfiguration
+    ) {
+        var result = estimationModeBusinessFacade.hnsw(
+            configurationParser.parseConfiguration(algorithmConfiguration, HnswStreamConfig::of),
+            graphNameOrConfiguration
+        );
+
+        return Stream.of(result);
+    }
+
     @Override
     public Stream<KnnStatsResult> knnStats(
         String graphName,
@@ -20,9 +20,10 @@
 package org.neo4j.gds.pagerank;
 
 import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.SeedConfig;
 
 @Configuration("PageRankConfigImpl")
-public interface PageRankConfig extends RankConfig {
+public interface PageRankConfig extends RankConfig, SeedConfig {
     @Configuration.DoubleRange(min = 0, max = 1, maxInclusive = false)
     default double dampingFactor() {
         return 0.85;
@@ -60,6 +60,10 @@ public interface KmeansBaseConfig extends AlgoBaseConfig, IterationsConfig, Rand
         return false;
     }
 
+    default boolean useTriangleInequality() {
+        return false;
+    }
+
     String nodeProperty();
 
     @Configuration.GraphStoreValidationCheck
@@ -110,7 +114,8 @@ public interface KmeansBaseConfig extends AlgoBaseConfig, IterationsConfig, Rand
             nodeProperty(),
             initialSampler(),
             seedCentroids(),
-            randomSeed()
+            randomSeed(),
+            useTriangleInequality()
         );
     }
 
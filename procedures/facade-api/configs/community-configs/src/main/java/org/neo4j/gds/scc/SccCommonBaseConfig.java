@@ -24,8 +24,14 @@ import org.neo4j.gds.config.AlgoBaseConfig;
 
 public interface SccCommonBaseConfig extends AlgoBaseConfig {
 
+    @Configuration.ConvertWith(method = "org.neo4j.gds.scc.SccMethod#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.scc.SccMethod#toString")
+    default SccMethod method() {
+        return SccMethod.TARJAN;
+    }
+
     @Configuration.Ignore
     default SccParameters toParameters() {
-        return new SccParameters(concurrency());
+        return new SccParameters(concurrency(), method());
     }
 }
@@ -33,15 +33,24 @@ public interface WccBaseConfig extends AlgoBaseConfig, SeedConfig, ConsecutiveId
         return 0D;
     }
 
+    default boolean componentIndex() {
+        return false;
+    }
+
     @Configuration.Check
     default void validate() {
         if (threshold() > 0 && relationshipWeightProperty().isEmpty()) {
             throw new IllegalArgumentException("Specifying a threshold requires `relationshipWeightProperty` to be set.");
         }
+        if (componentIndex() && (threshold() > 0 || isIncremental())) {
+            throw new IllegalArgumentException(
+                "The component index cannot be combined with `threshold` or `seedProperty`."
+            );
+        }
     }
 
     @Configuration.Ignore
     default WccParameters toParameters() {
-        return new WccParameters(threshold(), Optional.ofNullable(seedProperty()), concurrency());
+        return new WccParameters(threshold(), Optional.ofNullable(seedProperty()), concurrency(), componentIndex());
     }
 }
@@ -33,7 +33,8 @@ public final class Node2VecConfigTransformer {
             walkParameters.inOutFactor(),
             config.positiveSamplingFactor(),
             config.negativeSamplingExponent(),
-            config.walkBufferSize()
+            config.walkBufferSize(),
+            walkParameters.useAliasTables()
         );
         var trainParameters = new TrainParameters(
             config.initialLearningRate(),
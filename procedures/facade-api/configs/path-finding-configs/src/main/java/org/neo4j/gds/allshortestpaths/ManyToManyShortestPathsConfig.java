@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.allshortestpaths;
+
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RelationshipWeightConfig;
+import org.neo4j.gds.config.SourceNodesConfig;
+import org.neo4j.gds.config.TargetNodesConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+
+@Configuration
+public interface ManyToManyShortestPathsConfig extends AlgoBaseConfig, RelationshipWeightConfig, SourceNodesConfig, TargetNodesConfig {
+
+    static ManyToManyShortestPathsConfig of(CypherMapWrapper userInput) {
+        return new ManyToManyShortestPathsConfigImpl(userInput);
+    }
+
+    static ManyToManyShortestPathsConfig of(String username, CypherMapWrapper userInput) {
+        return of(userInput);
+    }
+
+    @Configuration.Check
+    default void validate() {
+        if (sourceNodes().isEmpty()) {
+            throw new IllegalArgumentException("The `sourceNodes` parameter must contain at least one node.");
+        }
+        if (targetNodes().isEmpty()) {
+            throw new IllegalArgumentException("The `targetNodes` parameter must contain at least one node.");
+        }
+    }
+
+    @Configuration.Ignore
+    default ManyToManyShortestPathsParameters toParameters() {
+        return new ManyToManyShortestPathsParameters(
+            sourceNodes(),
+            targetNodes(),
+            concurrency()
+        );
+    }
+}
@@ -47,6 +47,6 @@ public interface KSpanningTreeBaseConfig extends SpanningTreeBaseConfig {
 
     @Configuration.Ignore
     default KSpanningTreeParameters toKSpanningTreeParameters() {
-        return new KSpanningTreeParameters(objective(), sourceNode(), k(), concurrency());
+        return new KSpanningTreeParameters(objective(), sourceNode(), k(), method(), concurrency());
     }
 }
@@ -26,6 +26,7 @@ import org.neo4j.gds.paths.dijkstra.DijkstraMemoryEstimateParameters;
 import org.neo4j.gds.paths.dijkstra.DijkstraSourceTargetParameters;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface DijkstraSourceTargetsBaseConfig extends OptionalTargetNodeConfig, TargetNodesConfig, DijkstraBaseConfig {
 
@@ -40,6 +41,13 @@ public interface DijkstraSourceTargetsBaseConfig extends OptionalTargetNodeConfi
         return targetNodes;
     }
 
+    default boolean bidirectional() {
+        return false;
+    }
+
+    @Configuration.IntegerRange(min = 1)
+    Optional<Integer> maxIntegerWeight();
+
     @Configuration.Check
     default void validate() {
         if (!targetNodes().isEmpty() && targetNode().isPresent()) {
@@ -50,7 +58,10 @@ public interface DijkstraSourceTargetsBaseConfig extends OptionalTargetNodeConfi
             throw new IllegalArgumentException(
                 "One of `targetNodes` or `targetNode` parameters must be specified");
         }
-
+        if (bidirectional() && targetsList().size() > 1) {
+            throw new IllegalArgumentException(
+                "The `bidirectional` parameter can only be used with a single target node");
+        }
     }
 
     @Configuration.Ignore
@@ -58,6 +69,8 @@ public interface DijkstraSourceTargetsBaseConfig extends OptionalTargetNodeConfi
         return new DijkstraSourceTargetParameters(
             sourceNode(),
             targetsList(),
+            bidirectional(),
+            maxIntegerWeight(),
             concurrency()
         );
     }
@@ -65,6 +78,11 @@ public interface DijkstraSourceTargetsBaseConfig extends OptionalTargetNodeConfi
     @Override
     @Configuration.Ignore
     default DijkstraMemoryEstimateParameters toMemoryEstimateParameters() {
-        return new DijkstraMemoryEstimateParameters(false, targetsList().size() > 1);
+        return new DijkstraMemoryEstimateParameters(
+            false,
+            targetsList().size() > 1,
+            bidirectional(),
+            maxIntegerWeight()
+        );
     }
 }
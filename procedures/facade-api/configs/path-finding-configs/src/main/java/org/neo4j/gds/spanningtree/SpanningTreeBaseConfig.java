@@ -46,9 +46,15 @@ public interface SpanningTreeBaseConfig extends
         return PrimOperators.MIN_OPERATOR;
     }
 
+    @Configuration.ConvertWith(method = "org.neo4j.gds.spanningtree.SpanningTreeMethod#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.spanningtree.SpanningTreeMethod#toString")
+    default SpanningTreeMethod method() {
+        return SpanningTreeMethod.PRIM;
+    }
+
     @Configuration.Ignore
     default SpanningTreeParameters toParameters() {
-        return new SpanningTreeParameters(objective(), sourceNode());
+        return SpanningTreeParameters.create(objective(), sourceNode(), method(), concurrency());
     }
 
     @Configuration.GraphStoreValidationCheck
@@ -52,10 +52,14 @@ public interface RandomWalkBaseConfig extends AlgoBaseConfig, RelationshipWeight
         return WalkParameters.DEFAULTS.returnFactor();
     }
 
+    default boolean useAliasTables() {
+        return false;
+    }
+
     @Configuration.Ignore
     default WalkParameters walkParameters() {
         return new WalkParameters(
-            walksPerNode(), walkLength(), returnFactor(), inOutFactor()
+            walksPerNode(), walkLength(), returnFactor(), inOutFactor(), useAliasTables()
         );
     }
 
@@ -72,6 +76,6 @@ public interface RandomWalkBaseConfig extends AlgoBaseConfig, RelationshipWeight
 
     @Configuration.Ignore
     default WalkEstimateParameters toMemoryEstimateParameters() {
-        return new WalkEstimateParameters(walkLength(), walkBufferSize());
+        return new WalkEstimateParameters(walkLength(), walkBufferSize(), useAliasTables());
     }
 }
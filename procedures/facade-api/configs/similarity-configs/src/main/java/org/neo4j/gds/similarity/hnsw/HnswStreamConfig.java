@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+import org.neo4j.gds.utils.StringJoining;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+@Configuration
+public interface HnswStreamConfig extends AlgoBaseConfig {
+
+    static HnswStreamConfig of(CypherMapWrapper userInput) {
+        return new HnswStreamConfigImpl(userInput);
+    }
+
+    String nodeProperty();
+
+    List<Number> queryVector();
+
+    @Configuration.ConvertWith(method = "org.neo4j.gds.similarity.knn.metrics.SimilarityMetric#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.similarity.knn.metrics.SimilarityMetric#toString")
+    default SimilarityMetric similarityMetric() {
+        return SimilarityMetric.DEFAULT;
+    }
+
+    @Configuration.IntegerRange(min = 1)
+    default int topK() {
+        return 10;
+    }
+
+    @Configuration.IntegerRange(min = 1)
+    default int searchListSize() {
+        return 100;
+    }
+
+    @Configuration.Check
+    default void validateQueryVector() {
+        if (queryVector().isEmpty()) {
+            throw new IllegalArgumentException("The `queryVector` parameter must not be empty.");
+        }
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    default void checkNodePropertyMatchesQueryVector(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        if (!graphStore.hasNodeProperty(nodeProperty())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The property `%s` has not been loaded. Available properties: %s",
+                nodeProperty(),
+                StringJoining.join(graphStore.nodePropertyKeys(selectedLabels))
+            ));
+        }
+        var values = graphStore.nodeProperty(nodeProperty()).values();
+        var valueType = values.valueType();
+        if (valueType != ValueType.FLOAT_ARRAY && valueType != ValueType.DOUBLE_ARRAY) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The property `%s` must be a float or double array, but was %s.",
+                nodeProperty(),
+                valueType
+            ));
+        }
+        values.dimension().ifPresent(dimension -> {
+            if (dimension != queryVector().size()) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The `queryVector` has %d dimensions, but the property `%s` has %d.",
+                    queryVector().size(),
+                    nodeProperty(),
+                    dimension
+                ));
+            }
+        });
+    }
+
+    @Configuration.Ignore
+    default HnswSearchParameters toParameters() {
+        return new HnswSearchParameters(
+            concurrency(),
+            nodeProperty(),
+            similarityMetric(),
+            queryVector().stream().mapToDouble(Number::doubleValue).toArray(),
+            topK(),
+            searchListSize()
+        );
+    }
+}
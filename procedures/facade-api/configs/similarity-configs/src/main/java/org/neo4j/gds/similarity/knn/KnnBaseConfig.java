@@ -107,7 +107,12 @@ public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, SingleT
 
     @Configuration.Ignore
     default KnnMemoryEstimationParametersBuilder toMemoryEstimationParameters() {
-        return new KnnMemoryEstimationParametersBuilder(sampleRate(), topK(), initialSampler());
+        return new KnnMemoryEstimationParametersBuilder(
+            sampleRate(),
+            topK(),
+            initialSampler(),
+            nodeProperties().stream().map(KnnNodePropertySpec::name).toList()
+        );
     }
 
     @Configuration.GraphStoreValidationCheck
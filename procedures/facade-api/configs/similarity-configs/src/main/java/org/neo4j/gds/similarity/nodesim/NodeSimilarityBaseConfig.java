@@ -99,6 +99,20 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
         return ComponentSpec.NO;
     }
 
+    default boolean materializeNeighborhoods() {
+        return true;
+    }
+
+    @Configuration.IntegerRange(min = 0)
+    default int minHashBands() {
+        return 0;
+    }
+
+    @Configuration.IntegerRange(min = 1)
+    default int minHashRows() {
+        return NodeSimilarityParameters.MIN_HASH_ROWS_DEFAULT;
+    }
+
     @Configuration.Ignore
     @Deprecated(forRemoval = true) // Don't use configs for internal parameters
     default boolean computeToStream() {
@@ -167,7 +181,10 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
             computeToStream(),
             hasRelationshipWeightProperty(),
             componentUsage.useComponents(),
-            componentUsage.componentProperty()
+            componentUsage.componentProperty(),
+            materializeNeighborhoods(),
+            minHashBands(),
+            minHashRows()
         );
     }
 
@@ -144,6 +144,16 @@ public interface PathFindingProcedureFacade {
 
     Stream<PathFindingStreamResult> longestPathStream(String graphName, Map<String, Object> configuration);
 
+    Stream<AllShortestPathsStreamResult> manyToManyShortestPathsStream(
+        String graphName,
+        Map<String, Object> configuration
+    );
+
+    Stream<MemoryEstimateResult> manyToManyShortestPathsStreamEstimate(
+        Object graphNameOrConfiguration,
+        Map<String, Object> algorithmConfiguration
+    );
+
 
     Stream<SpanningTreeStreamResult> prizeCollectingSteinerTreeStream(String graphName, Map<String, Object> configuration);
 
@@ -93,6 +93,16 @@ public interface SimilarityProcedureFacade {
     );
 
 
+    Stream<HnswStreamResult> hnswStream(
+        String graphName,
+        Map<String, Object> configuration
+    );
+
+    Stream<MemoryEstimateResult> hnswStreamEstimate(
+        Object graphNameOrConfiguration,
+        Map<String, Object> algorithmConfiguration
+    );
+
     Stream<KnnStatsResult> knnStats(
         String graphName,
         Map<String, Object> configuration
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.integration;
+
+import org.neo4j.gds.config.ConcurrencyConfig;
+import org.neo4j.gds.core.io.binary.BinaryGraphStoreSpiller;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.loading.GraphStoreEvictionPolicy;
+import org.neo4j.gds.logging.Log;
+import org.neo4j.gds.settings.GdsSettings;
+import org.neo4j.graphdb.config.Configuration;
+
+/**
+ * Enables the eviction of cold graphs from {@link GraphStoreCatalog} to disk, if an eviction location is configured.
+ */
+final class GraphStoreCatalogEvictionConfigurer {
+
+    void configure(Configuration neo4jConfiguration, Log log, long availableMemory) {
+        var evictionLocation = neo4jConfiguration.get(GdsSettings.catalogEvictionLocation());
+        if (evictionLocation == null) {
+            log.info("Graph catalog eviction: disabled");
+            return;
+        }
+
+        var maxResidentSize = neo4jConfiguration.get(GdsSettings.catalogEvictionMaxResidentSize());
+        var maxResidentBytes = maxResidentSize != null ? maxResidentSize : availableMemory / 2;
+        var minIdleTime = neo4jConfiguration.get(GdsSettings.catalogEvictionMinIdleTime());
+
+        GraphStoreCatalog.setEvictionPolicy(new GraphStoreEvictionPolicy(
+            new BinaryGraphStoreSpiller(ConcurrencyConfig.TYPED_DEFAULT_CONCURRENCY),
+            evictionLocation,
+            maxResidentBytes,
+            minIdleTime
+        ));
+        log.info(
+            "Graph catalog eviction: graphs idle for %s are evicted to %s beyond %d bytes",
+            minIdleTime,
+            evictionLocation,
+            maxResidentBytes
+        );
+    }
+}
@@ -180,6 +180,9 @@ public final class OpenGraphDataScienceExtensionBuilder {
         GraphStoreCatalog.registerGraphStoreAddedListener(memoryTracker);
         GraphStoreCatalog.registerGraphStoreRemovedListener(memoryTracker);
 
+        // Cold graphs are evicted to disk if configured, which frees memory in the tracker as well
+        new GraphStoreCatalogEvictionConfigurer().configure(neo4jConfiguration, log, availableMemory);
+
         // in the short term, until we eradicate old usages, we also install the shared state in its old place
         GcListenerExtension.setMemoryGauge(freeMemoryAfterLastGc);
         // State is populated from a GC listener
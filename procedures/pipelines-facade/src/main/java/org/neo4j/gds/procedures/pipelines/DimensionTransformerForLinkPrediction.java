@@ -60,23 +60,25 @@ class DimensionTransformerForLinkPrediction implements DimensionTransformer {
 
         var model = trainedLPPipelineModel.get(configuration.modelName(), configuration.username());
 
-        var graphStore = graphStoreCatalogService.get(
+        try (var lease = graphStoreCatalogService.lease(
             CatalogRequest.of(configuration.username(), databaseId),
             GraphName.parse(configuration.graphName())
-        ).graphStore();
+        )) {
+            var graphStore = lease.catalogEntry().graphStore();
 
-        var lpNodeLabelFilter = LPGraphStoreFilterFactory.generate(
-            log,
-            model.trainConfig(),
-            configuration,
-            graphStore
-        );
+            var lpNodeLabelFilter = LPGraphStoreFilterFactory.generate(
+                log,
+                model.trainConfig(),
+                configuration,
+                graphStore
+            );
 
-        //Taking nodePropertyStepsLabels since they are superset of source&target nodeLabels, to give the upper bound estimation
-        //In the future we can add nodeCount per label info to GraphDimensions to make more exact estimations
-        return GraphDimensions.builder()
-            .from(graphDimensions)
-            .nodeCount(graphStore.getGraph(lpNodeLabelFilter.nodePropertyStepsBaseLabels()).nodeCount())
-            .build();
+            //Taking nodePropertyStepsLabels since they are superset of source&target nodeLabels, to give the upper bound estimation
+            //In the future we can add nodeCount per label info to GraphDimensions to make more exact estimations
+            return GraphDimensions.builder()
+                .from(graphDimensions)
+                .nodeCount(graphStore.getGraph(lpNodeLabelFilter.nodePropertyStepsBaseLabels()).nodeCount())
+                .build();
+        }
     }
 }
@@ -255,6 +255,22 @@ public class PushbackPathFindingProcedureFacade implements PathFindingProcedureF
         return streamProcedureFacade.longestPath(graphName, configuration);
     }
 
+    @Override
+    public Stream<AllShortestPathsStreamResult> manyToManyShortestPathsStream(
+        String graphName,
+        Map<String, Object> configuration
+    ) {
+        return Stream.empty();
+    }
+
+    @Override
+    public Stream<MemoryEstimateResult> manyToManyShortestPathsStreamEstimate(
+        Object graphNameOrConfiguration,
+        Map<String, Object> algorithmConfiguration
+    ) {
+        return Stream.empty();
+    }
+
     @Override
     public Stream<SpanningTreeStreamResult> prizeCollectingSteinerTreeStream(
         String graphName,
@@ -29,6 +29,7 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.beta.filter.expression.EvaluationContext;
 import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.beta.filter.expression.ExpressionCompiler;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
@@ -50,6 +51,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 
 public final class NodesFilter {
@@ -252,8 +254,8 @@ public final class NodesFilter {
 
     private static final class NodeFilterTask implements Runnable {
         private final Partition partition;
-        private final Expression expression;
         private final EvaluationContext.NodeEvaluationContext nodeContext;
+        private final BooleanSupplier predicate;
         private final ProgressTracker progressTracker;
         private final GraphStore inputGraphStore;
         private final NodesBuilder nodesBuilder;
@@ -294,10 +296,10 @@ public final class NodesFilter {
             ProgressTracker progressTracker
         ) {
             this.partition = partition;
-            this.expression = expression;
             this.inputGraphStore = inputGraphStore;
             this.nodesBuilder = nodesBuilder;
             this.nodeContext = new EvaluationContext.NodeEvaluationContext(inputGraphStore, parameterMap);
+            this.predicate = ExpressionCompiler.compile(expression, nodeContext);
             this.progressTracker = progressTracker;
         }
 
@@ -306,7 +308,7 @@ public final class NodesFilter {
             var idMap = inputGraphStore.nodes();
             partition.consume(node -> {
                 nodeContext.init(node);
-                if (expression.evaluate(nodeContext) == Expression.TRUE) {
+                if (predicate.getAsBoolean()) {
                     var originalId = idMap.toOriginalNodeId(node);
                     var labels = NodeLabelTokens.of(idMap.nodeLabels(node));
                     nodesBuilder.addNode(originalId, labels);
@@ -25,6 +25,7 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.beta.filter.expression.EvaluationContext;
 import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.beta.filter.expression.ExpressionCompiler;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
@@ -41,6 +42,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -177,8 +179,8 @@ public final class RelationshipsFilter {
 
     private static final class RelationshipFilterTask implements Runnable {
         private final Partition partition;
-        private final Expression expression;
         private final EvaluationContext.RelationshipEvaluationContext evaluationContext;
+        private final BooleanSupplier predicate;
         private final ProgressTracker progressTracker;
         private final CompositeRelationshipIterator relationshipIterator;
         private final IdMap inputNodes;
@@ -199,13 +201,13 @@ public final class RelationshipsFilter {
             ProgressTracker progressTracker
         ) {
             this.partition = partition;
-            this.expression = expression;
             this.relationshipIterator = relationshipIterator;
             this.inputNodes = inputNodes;
             this.outputNodes = outputNodes;
             this.relationshipsBuilder = relationshipsBuilder;
             this.relType = relType;
             this.evaluationContext = new EvaluationContext.RelationshipEvaluationContext(propertyIndices, parameterMap);
+            this.predicate = ExpressionCompiler.compile(expression, evaluationContext);
             this.progressTracker = progressTracker;
         }
 
@@ -222,7 +224,7 @@ public final class RelationshipsFilter {
                     if (mappedTarget != NOT_FOUND) {
                         evaluationContext.init(relType, properties);
 
-                        if (expression.evaluate(evaluationContext) == Expression.TRUE) {
+                        if (predicate.getAsBoolean()) {
                             // TODO branching should happen somewhere else
                             if (properties.length == 0) {
                                 relationshipsBuilder.add(neoSource, neoTarget);
@@ -32,6 +32,10 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 
 public abstract class EvaluationContext {
 
@@ -55,6 +59,30 @@ public abstract class EvaluationContext {
 
     public abstract int degree(Collection<RelationshipType> typeSelection);
 
+    // The accessors below read from the element the context is currently initialized with.
+    // They are used by the ExpressionCompiler, which resolves them once per context.
+    // Contexts override them to look up properties, labels and graphs only once.
+
+    LongSupplier longPropertyAccessor(String propertyKey) {
+        return () -> Double.doubleToRawLongBits(getProperty(propertyKey, ValueType.LONG));
+    }
+
+    DoubleSupplier doublePropertyAccessor(String propertyKey) {
+        return () -> getProperty(propertyKey, ValueType.DOUBLE);
+    }
+
+    BooleanSupplier hasNodeLabelsAccessor(List<NodeLabel> labels) {
+        return () -> hasNodeLabels(labels);
+    }
+
+    BooleanSupplier hasRelationshipTypesAccessor(List<RelationshipType> types) {
+        return () -> hasRelationshipTypes(types);
+    }
+
+    IntSupplier degreeAccessor(Collection<RelationshipType> typeSelection) {
+        return () -> degree(typeSelection);
+    }
+
     public static class NodeEvaluationContext extends EvaluationContext {
 
         private final GraphStore graphStore;
@@ -111,6 +139,47 @@ public abstract class EvaluationContext {
                 : graphStore.getGraph(typeSelection, Optional.empty()).degree(nodeId);
         }
 
+        @Override
+        LongSupplier longPropertyAccessor(String propertyKey) {
+            if (!graphStore.hasNodeProperty(propertyKey)) {
+                long fallback = Double.doubleToRawLongBits(DefaultValue.DOUBLE_DEFAULT_FALLBACK);
+                return () -> fallback;
+            }
+            NodePropertyValues nodePropertyValues = graphStore.nodeProperty(propertyKey).values();
+            return () -> nodePropertyValues.longValue(nodeId);
+        }
+
+        @Override
+        DoubleSupplier doublePropertyAccessor(String propertyKey) {
+            if (!graphStore.hasNodeProperty(propertyKey)) {
+                return () -> DefaultValue.DOUBLE_DEFAULT_FALLBACK;
+            }
+            NodePropertyValues nodePropertyValues = graphStore.nodeProperty(propertyKey).values();
+            return () -> nodePropertyValues.doubleValue(nodeId);
+        }
+
+        @Override
+        BooleanSupplier hasNodeLabelsAccessor(List<NodeLabel> labels) {
+            var idMap = graphStore.nodes();
+            var labelArray = labels.toArray(NodeLabel[]::new);
+            return () -> {
+                for (NodeLabel label : labelArray) {
+                    if (!idMap.hasLabel(nodeId, label)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+
+        @Override
+        IntSupplier degreeAccessor(Collection<RelationshipType> typeSelection) {
+            var graph = typeSelection.isEmpty()
+                ? graphStore.getUnion()
+                : graphStore.getGraph(typeSelection, Optional.empty());
+            return () -> graph.degree(nodeId);
+        }
+
         public void init(long nodeId) {
             this.nodeId = nodeId;
         }
@@ -166,6 +235,18 @@ public abstract class EvaluationContext {
             throw new UnsupportedOperationException("Degree is not supported for relationship evaluation context");
         }
 
+        @Override
+        LongSupplier longPropertyAccessor(String propertyKey) {
+            int index = propertyIndices.get(propertyKey);
+            return () -> Double.doubleToRawLongBits(properties[index]);
+        }
+
+        @Override
+        DoubleSupplier doublePropertyAccessor(String propertyKey) {
+            int index = propertyIndices.get(propertyKey);
+            return () -> properties[index];
+        }
+
         public void init(RelationshipType relType) {
             this.relType = relType;
             this.properties = null;
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.beta.filter.expression.Expression.BinaryExpression;
+import org.neo4j.gds.beta.filter.expression.Expression.BinaryExpression.BinaryArithmeticExpression;
+import org.neo4j.gds.beta.filter.expression.Expression.Function.Degree;
+import org.neo4j.gds.beta.filter.expression.Expression.Literal;
+import org.neo4j.gds.beta.filter.expression.Expression.UnaryExpression;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+import static org.neo4j.gds.beta.filter.expression.Expression.EPSILON;
+import static org.neo4j.gds.beta.filter.expression.Expression.FALSE;
+import static org.neo4j.gds.beta.filter.expression.Expression.TRUE;
+
+/**
+ * Compiles a validated expression into a tree of closures that evaluates it
+ * for the element an {@link EvaluationContext} is currently initialized with.
+ * <p>
+ * In contrast to {@link Expression#evaluate(EvaluationContext)}, the compiled tree
+ * <ul>
+ *     <li>compares long values as longs, instead of round-tripping them through double bits,</li>
+ *     <li>dispatches on the operand types once, instead of for every element,</li>
+ *     <li>resolves properties, labels, graphs and parameters once, instead of looking them up by name for every element,</li>
+ *     <li>short-circuits boolean operators.</li>
+ * </ul>
+ * Expressions without a specialization fall back to interpretation, so the result is the same for every expression.
+ * The compiled tree is bound to the given context and must only be used by the thread owning that context.
+ */
+public final class ExpressionCompiler {
+
+    private final EvaluationContext context;
+
+    private ExpressionCompiler(EvaluationContext context) {
+        this.context = context;
+    }
+
+    public static BooleanSupplier compile(Expression expression, EvaluationContext context) {
+        return new ExpressionCompiler(context).predicate(expression);
+    }
+
+    private BooleanSupplier predicate(Expression expression) {
+        if (expression instanceof Literal.TrueLiteral) {
+            return () -> true;
+        }
+        if (expression instanceof Literal.FalseLiteral) {
+            return () -> false;
+        }
+        if (expression instanceof BinaryExpression.And and) {
+            var lhs = predicate(and.lhs());
+            var rhs = predicate(and.rhs());
+            return () -> lhs.getAsBoolean() && rhs.getAsBoolean();
+        }
+        if (expression instanceof BinaryExpression.Or or) {
+            var lhs = predicate(or.lhs());
+            var rhs = predicate(or.rhs());
+            return () -> lhs.getAsBoolean() || rhs.getAsBoolean();
+        }
+        if (expression instanceof BinaryExpression.Xor xor) {
+            var lhs = predicate(xor.lhs());
+            var rhs = predicate(xor.rhs());
+            return () -> lhs.getAsBoolean() ^ rhs.getAsBoolean();
+        }
+        if (expression instanceof UnaryExpression.Not not) {
+            var in = predicate(not.in());
+            return () -> !in.getAsBoolean();
+        }
+        if (expression instanceof UnaryExpression.HasNodeLabels hasNodeLabels) {
+            return context.hasNodeLabelsAccessor(hasNodeLabels.nodeLabels());
+        }
+        if (expression instanceof UnaryExpression.HasRelationshipTypes hasRelationshipTypes) {
+            return context.hasRelationshipTypesAccessor(hasRelationshipTypes.relationshipTypes());
+        }
+        if (expression instanceof BinaryArithmeticExpression comparison) {
+            return isLongComparison(comparison) ? longComparison(comparison) : doubleComparison(comparison);
+        }
+
+        return () -> expression.evaluate(context) == TRUE;
+    }
+
+    // Same as the interpreter, it is sufficient to check the left side
+    // as validation made sure that the types are equal.
+    private static boolean isLongComparison(BinaryArithmeticExpression comparison) {
+        return comparison.lhs().valueType() == ValueType.LONG;
+    }
+
+    private BooleanSupplier longComparison(BinaryArithmeticExpression comparison) {
+        var lhs = longValue(comparison.lhs());
+        var rhs = longValue(comparison.rhs());
+
+        if (comparison instanceof BinaryExpression.Equal) {
+            return () -> lhs.getAsLong() == rhs.getAsLong();
+        }
+        if (comparison instanceof BinaryExpression.NotEqual) {
+            return () -> lhs.getAsLong() != rhs.getAsLong();
+        }
+        if (comparison instanceof BinaryExpression.GreaterThan) {
+            return () -> lhs.getAsLong() > rhs.getAsLong();
+        }
+        if (comparison instanceof BinaryExpression.GreaterThanOrEquals) {
+            return () -> lhs.getAsLong() >= rhs.getAsLong();
+        }
+        if (comparison instanceof BinaryExpression.LessThan) {
+            return () -> lhs.getAsLong() < rhs.getAsLong();
+        }
+        if (comparison instanceof BinaryExpression.LessThanOrEquals) {
+            return () -> lhs.getAsLong() <= rhs.getAsLong();
+        }
+
+        return () -> comparison.evaluateLong(lhs.getAsLong(), rhs.getAsLong()) == TRUE;
+    }
+
+    // The tolerances mirror the evaluateDouble implementations of the comparisons.
+    private BooleanSupplier doubleComparison(BinaryArithmeticExpression comparison) {
+        var lhs = doubleValue(comparison.lhs());
+        var rhs = doubleValue(comparison.rhs());
+
+        if (comparison instanceof BinaryExpression.Equal) {
+            return () -> Math.abs(lhs.getAsDouble() - rhs.getAsDouble()) < EPSILON;
+        }
+        if (comparison instanceof BinaryExpression.NotEqual) {
+            return () -> Math.abs(lhs.getAsDouble() - rhs.getAsDouble()) > EPSILON;
+        }
+        if (comparison instanceof BinaryExpression.GreaterThan) {
+            return () -> (lhs.getAsDouble() - rhs.getAsDouble()) > EPSILON;
+        }
+        if (comparison instanceof BinaryExpression.GreaterThanOrEquals) {
+            return () -> {
+                double lhsValue = lhs.getAsDouble();
+                double rhsValue = rhs.getAsDouble();
+                return lhsValue > rhsValue || Math.abs(lhsValue - rhsValue) < EPSILON;
+            };
+        }
+        if (comparison instanceof BinaryExpression.LessThan) {
+            return () -> (rhs.getAsDouble() - lhs.getAsDouble()) > EPSILON;
+        }
+        if (comparison instanceof BinaryExpression.LessThanOrEquals) {
+            return () -> {
+                double lhsValue = lhs.getAsDouble();
+                double rhsValue = rhs.getAsDouble();
+                return lhsValue < rhsValue || (rhsValue - lhsValue) > -EPSILON;
+            };
+        }
+
+        return () -> comparison.evaluateDouble(lhs.getAsDouble(), rhs.getAsDouble()) == TRUE;
+    }
+
+    private LongSupplier longValue(Expression expression) {
+        if (expression instanceof Literal.LongLiteral literal) {
+            long value = literal.value();
+            return () -> value;
+        }
+        if (expression instanceof UnaryExpression.Property property && property.valueType() == ValueType.LONG) {
+            return context.longPropertyAccessor(property.propertyKey());
+        }
+        if (expression instanceof Degree degree) {
+            var accessor = context.degreeAccessor(degree.typeSelection());
+            return accessor::getAsInt;
+        }
+        if (expression instanceof UnaryExpression.NewParameter parameter) {
+            var resolvedParameter = context.resolveParameter(parameter.in().name());
+            if (resolvedParameter != null) {
+                long value = resolvedParameter instanceof Long
+                    ? resolvedParameter.longValue()
+                    : (long) resolvedParameter.doubleValue();
+                return () -> value;
+            }
+        }
+
+        // Parameters are converted, all other long values are encoded as double bits.
+        if (expression.valueType() == ValueType.UNKNOWN) {
+            return () -> (long) expression.evaluate(context);
+        }
+        return () -> Double.doubleToRawLongBits(expression.evaluate(context));
+    }
+
+    private DoubleSupplier doubleValue(Expression expression) {
+        if (expression instanceof Literal.DoubleLiteral literal) {
+            double value = literal.value();
+            return () -> value;
+        }
+        if (expression instanceof Literal.StringLiteral literal) {
+            double value = literal.evaluate(context);
+            return () -> value;
+        }
+        if (expression instanceof UnaryExpression.Property property && property.valueType() == ValueType.DOUBLE) {
+            return context.doublePropertyAccessor(property.propertyKey());
+        }
+        if (expression instanceof UnaryExpression.NewParameter parameter) {
+            var resolvedParameter = context.resolveParameter(parameter.in().name());
+            if (resolvedParameter != null) {
+                double value = resolvedParameter.doubleValue();
+                return () -> value;
+            }
+        }
+        if (isBoolean(expression)) {
+            var predicate = predicate(expression);
+            return () -> predicate.getAsBoolean() ? TRUE : FALSE;
+        }
+
+        return () -> expression.evaluate(context);
+    }
+
+    private static boolean isBoolean(Expression expression) {
+        return expression instanceof Literal.TrueLiteral
+            || expression instanceof Literal.FalseLiteral
+            || expression instanceof BinaryExpression
+            || expression instanceof UnaryExpression.Not
+            || expression instanceof UnaryExpression.HasNodeLabels
+            || expression instanceof UnaryExpression.HasRelationshipTypes;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.opencypher.v9_0.parser.javacc.ParseException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.beta.filter.expression.Expression.TRUE;
+
+@GdlExtension
+class ExpressionCompilerTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "  (a:A:B { p1: 42.0, p2: 42 })" +
+        ", (b:B { p1: 1337.0, p2: 1337 })" +
+        ", (c:C { p1: -1.5, p2: -1 })" +
+        ", (d:A { p1: 42.000001, p2: 0 })" +
+        ", (a)-[:REL1 { w: 0.5 }]->(b)" +
+        ", (a)-[:REL1 { w: 1.5 }]->(c)" +
+        ", (b)-[:REL2 { w: 42.0 }]->(c)";
+
+    private static final Map<String, Object> PARAMETERS = Map.of("limit", 100L, "ratio", 0.5D);
+
+    @Inject
+    private GraphStore graphStore;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "true",
+        "false",
+        "n.p1 = 42.0",
+        "n.p1 <> 42.0",
+        "n.p1 > 42.0",
+        "n.p1 >= 42.0",
+        "n.p1 < 42.0",
+        "n.p1 <= 42.0",
+        "n.p2 = 42",
+        "n.p2 <> 42",
+        "n.p2 > 42",
+        "n.p2 >= 42",
+        "n.p2 < 42",
+        "n.p2 <= 42",
+        "42 < n.p2",
+        "n.p2 > $limit",
+        "n.p1 > $ratio",
+        "$ratio < n.p1",
+        "n:A",
+        "n:A:B",
+        "NOT n:A",
+        "n:A AND n.p2 > 0",
+        "n:C OR n.p1 >= 1000.0",
+        "n:A XOR n:B",
+        "degree() > 0",
+        "degree('REL1') = 2",
+        "degree('REL2') >= 1 AND n.p2 > 0",
+        "(n.p1 > 0.0) = true",
+        "n.p1 > 0.0 AND (n.p2 < 100 OR NOT n:B)"
+    })
+    void shouldMatchInterpretedNodeFilter(String filter) throws ParseException, SemanticErrors {
+        var validationContext = ValidationContext.forNodes(graphStore);
+        var expression = ExpressionParser.parse(filter, validationContext.availableProperties());
+        expression.validate(validationContext).validate();
+
+        var context = new EvaluationContext.NodeEvaluationContext(graphStore, PARAMETERS);
+        var compiled = ExpressionCompiler.compile(expression, context);
+
+        for (long node = 0; node < graphStore.nodeCount(); node++) {
+            context.init(node);
+            assertThat(compiled.getAsBoolean())
+                .as("node %d", node)
+                .isEqualTo(expression.evaluate(context) == TRUE);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "true",
+        "r.w > 1.0",
+        "r.w <= $ratio",
+        "r:REL1",
+        "r:REL1 AND r.w < 1.0",
+        "r:REL2 OR r.w = 1.5",
+        "NOT r:REL2"
+    })
+    void shouldMatchInterpretedRelationshipFilter(String filter) throws ParseException, SemanticErrors {
+        var validationContext = ValidationContext.forRelationships(graphStore);
+        var expression = ExpressionParser.parse(filter, validationContext.availableProperties());
+        expression.validate(validationContext).validate();
+
+        var context = new EvaluationContext.RelationshipEvaluationContext(Map.of("w", 0), PARAMETERS);
+        var compiled = ExpressionCompiler.compile(expression, context);
+
+        var relationships = Map.of(
+            RelationshipType.of("REL1"), new double[][]{{0.5}, {1.5}},
+            RelationshipType.of("REL2"), new double[][]{{42.0}}
+        );
+        relationships.forEach((type, properties) -> {
+            for (double[] property : properties) {
+                context.init(type, property);
+                assertThat(compiled.getAsBoolean())
+                    .as("%s %s", type.name, property[0])
+                    .isEqualTo(expression.evaluate(context) == TRUE);
+            }
+        });
+    }
+}